@@ -0,0 +1,64 @@
+package co.ke.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.AopTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of ActivityLoggingAspect on a write: the same no-op controller method
+ * called through its proxy and directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ActivityLoggingAspectBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private AspectProbeController proxied;
+    private AspectProbeController target;
+
+    @Setup(Level.Trial)
+    public void start() {
+        // BLOCK, so the benchmark includes writing every entry rather than dropping them
+        context = BenchmarkApplication.start("bulkstream.activity-log.overflow=BLOCK");
+        proxied = context.getBean(AspectProbeController.class);
+        target = AopTestUtils.getUltimateTargetObject(proxied);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("bench@tucode.co.ke", null, List.of()));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    @Benchmark
+    public AspectProbeController.Probe withAspect() {
+        return proxied.createProbe();
+    }
+
+    @Benchmark
+    public AspectProbeController.Probe withoutAspect() {
+        return target.createProbe();
+    }
+}
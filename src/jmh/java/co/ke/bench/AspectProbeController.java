@@ -0,0 +1,27 @@
+package co.ke.bench;
+
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Does no work of its own, so calling it through the Spring proxy measures
+ * what ActivityLoggingAspect adds to a write request. Only on the benchmark
+ * classpath.
+ */
+@RestController
+@RequestMapping("/bench/probe")
+public class AspectProbeController {
+
+    @PostMapping
+    public Probe createProbe() {
+        return new Probe(42L);
+    }
+
+    public record Probe(Long id) {
+
+        public Long getId() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package co.ke.bench;
+
+import co.ke.TresApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the application for a benchmark trial against a private in-memory H2
+ * database, created from the entities and filled by VcfDatasetLoader.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String... extraProperties) {
+        String[] properties = {
+                "spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "server.port=0",
+                "spring.devtools.restart.enabled=false",
+                "logging.level.root=WARN",
+                "logging.level.org.springframework.jdbc.core=WARN",
+                "spring.jpa.show-sql=false"
+        };
+        return new SpringApplicationBuilder(TresApplication.class)
+                .properties(properties)
+                .properties(extraProperties)
+                .run();
+    }
+
+    /**
+     * Readings spread over the VCF table (densities 900-977.5, 15-50 °C),
+     * from a fixed seed so every run sees the same inputs.
+     */
+    static double[][] readings(int count) {
+        java.util.Random random = new java.util.Random(42);
+        double[][] readings = new double[count][];
+        for (int i = 0; i < count; i++) {
+            readings[i] = new double[] {
+                    900 + random.nextDouble() * 77.5,
+                    15 + random.nextDouble() * 35,
+                    1000 + random.nextDouble() * 50000 };
+        }
+        return readings;
+    }
+}
@@ -0,0 +1,120 @@
+package co.ke.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load test for POST /api/oil-tonnages/calculate over HTTP, with requests
+ * handled on Tomcat's worker pool or on virtual threads
+ * ({@code bulkstream.threads.virtual}). Each trial starts the application on a
+ * random port, registers a user through /post_service and logs in through
+ * /login_request for a bearer token.
+ *
+ * 256 client threads keep more requests in flight than Tomcat's 200 workers.
+ * Throughput and sample-time (latency percentiles) are both reported. Run it
+ * on its own with
+ * {@code mvn -Pjmh verify -Djmh.includes=CalculateEndpointBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Threads(256)
+@Fork(1)
+public class CalculateEndpointBenchmark {
+
+    private static final String EMAIL = "jmh@bench.local";
+    private static final String PASSWORD = "jmh-password";
+
+    @Param({ "false", "true" })
+    public boolean virtualThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI calculate;
+    private String authorization;
+    private String[] bodies;
+    private final AtomicInteger next = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void start() throws IOException, InterruptedException {
+        context = BenchmarkApplication.start("bulkstream.threads.virtual=" + virtualThreads);
+        URI base = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        String form = "username=jmh&email=" + URLEncoder.encode(EMAIL, StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(PASSWORD, StandardCharsets.UTF_8);
+        expect(201, client.send(HttpRequest.newBuilder(base.resolve("/post_service"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build(), HttpResponse.BodyHandlers.ofString()));
+
+        String login = "{\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\"}";
+        HttpResponse<String> token = expect(200, client.send(HttpRequest.newBuilder(base.resolve("/login_request"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(login))
+                .build(), HttpResponse.BodyHandlers.ofString()));
+        authorization = "Bearer " + token.body();
+
+        calculate = base.resolve("/api/oil-tonnages/calculate");
+        double[][] readings = BenchmarkApplication.readings(1024);
+        bodies = new String[readings.length];
+        for (int i = 0; i < readings.length; i++) {
+            bodies[i] = String.format(Locale.ROOT, "{\"volume\":%.3f,\"density\":%.3f,\"temperature\":%.3f}",
+                    readings[i][2], readings[i][0], readings[i][1]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public int calculate() throws IOException, InterruptedException {
+        String body = bodies[next.getAndIncrement() & (bodies.length - 1)];
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(calculate)
+                .header("Authorization", authorization)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.discarding());
+        return expect(201, response).statusCode();
+    }
+
+    private static <T> HttpResponse<T> expect(int status, HttpResponse<T> response) {
+        if (response.statusCode() != status) {
+            throw new IllegalStateException(response.request().method() + " " + response.uri() + " returned "
+                    + response.statusCode() + ", expected " + status);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,67 @@
+package co.ke.bench;
+
+import co.ke.bulkstream.menu.payload.MenuItemResponseDto;
+import co.ke.tucode.logs.payloads.EntityIdAccessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Id extraction in ActivityLoggingAspect: the former getMethod/invoke path
+ * against the cached EntityIdAccessor, for a class with and without getId().
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityIdAccessorBenchmark {
+
+    private final Object withId = new MenuItemResponseDto(7L, "label", null, "/link", null);
+    private final Object withoutId = "no id here";
+
+    @Benchmark
+    public Long reflectionWithId() {
+        return reflectiveId(withId);
+    }
+
+    @Benchmark
+    public Long reflectionWithoutId() {
+        return reflectiveId(withoutId);
+    }
+
+    @Benchmark
+    public Long accessorWithId() throws Throwable {
+        return EntityIdAccessor.forClass(withId.getClass()).extract(withId);
+    }
+
+    @Benchmark
+    public Long accessorWithoutId() throws Throwable {
+        return EntityIdAccessor.forClass(withoutId.getClass()).extract(withoutId);
+    }
+
+    // What the aspect did before the accessor cache
+    private static Long reflectiveId(Object value) {
+        try {
+            Method getId = value.getClass().getMethod("getId");
+            Object idValue = getId.invoke(value);
+            if (idValue instanceof Long) {
+                return (Long) idValue;
+            } else if (idValue instanceof String && ((String) idValue).matches("\\d+")) {
+                return Long.valueOf((String) idValue);
+            }
+        } catch (Exception ignored) {
+        }
+        return null;
+    }
+}
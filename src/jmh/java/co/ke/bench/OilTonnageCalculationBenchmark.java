@@ -0,0 +1,71 @@
+package co.ke.bench;
+
+import co.ke.bulkstream.OilTonnage;
+import co.ke.bulkstream.OilTonnageService;
+import co.ke.bulkstream.VcfInterpolation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OilTonnageService end to end: lookup, validation, insert and rollup update
+ * (calculateAndSaveTonnage), next to the calculation alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OilTonnageCalculationBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean writeBehind;
+
+    private ConfigurableApplicationContext context;
+    private OilTonnageService service;
+    private double[][] readings;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkApplication.start("bulkstream.write-behind.enabled=" + writeBehind);
+        service = context.getBean(OilTonnageService.class);
+        readings = BenchmarkApplication.readings(1024);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    private double[] nextReading() {
+        next = (next + 1) & (readings.length - 1);
+        return readings[next];
+    }
+
+    @Benchmark
+    public OilTonnage calculateAndSaveTonnage() {
+        double[] reading = nextReading();
+        return service.calculateAndSaveTonnage(reading[2], reading[0], reading[1]);
+    }
+
+    @Benchmark
+    public OilTonnage calculateTonnageOnly() {
+        double[] reading = nextReading();
+        return service.calculateTonnage(reading[2], reading[0], reading[1], VcfInterpolation.NEAREST);
+    }
+}
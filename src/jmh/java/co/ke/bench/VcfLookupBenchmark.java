@@ -0,0 +1,82 @@
+package co.ke.bench;
+
+import co.ke.bulkstream.VcfGrid;
+import co.ke.bulkstream.Vcftable;
+import co.ke.bulkstream.VcftableRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nearest VCF lookup: the JPQL queries of VcftableRepository against the
+ * in-memory VcfGrid, over the full bundled VCF dataset.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VcfLookupBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private VcftableRepository repository;
+    private VcfGrid vcfGrid;
+    private double[][] readings;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkApplication.start();
+        repository = context.getBean(VcftableRepository.class);
+        vcfGrid = context.getBean(VcfGrid.class);
+        readings = BenchmarkApplication.readings(1024);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    private double[] nextReading() {
+        next = (next + 1) & (readings.length - 1);
+        return readings[next];
+    }
+
+    @Benchmark
+    public Optional<Vcftable> jpqlNearestVcf() {
+        double[] reading = nextReading();
+        return repository.findNearestVcf(reading[0], reading[1]);
+    }
+
+    @Benchmark
+    public Optional<Vcftable> jpqlClosestDensityThenTemperature() {
+        double[] reading = nextReading();
+        return repository.findVcfByClosestDensityAndTemperature(reading[0], reading[1]);
+    }
+
+    @Benchmark
+    public double gridNearestVcf() {
+        double[] reading = nextReading();
+        return vcfGrid.nearestVcf(reading[0], reading[1]);
+    }
+
+    @Benchmark
+    public VcfGrid.VcfEstimate gridInterpolateVcf() {
+        double[] reading = nextReading();
+        return vcfGrid.interpolateVcf(reading[0], reading[1]);
+    }
+}
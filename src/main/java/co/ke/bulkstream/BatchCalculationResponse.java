@@ -0,0 +1,25 @@
+package co.ke.bulkstream;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCalculationResponse {
+    private int saved;
+    private int failed;
+    private List<ItemResult> results; // One entry per request, in request order
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private int index; // Position of the item in the submitted list
+        private OilTonnage result; // Null when the item failed
+        private String error; // Null when the item was saved
+    }
+}
@@ -0,0 +1,21 @@
+package co.ke.bulkstream;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing. There is no total count; pass
+ * {@code nextCursor} back as {@code after} to fetch the following page. It is
+ * null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+}
@@ -0,0 +1,28 @@
+package co.ke.bulkstream;
+
+/**
+ * Strong ETags for in-memory snapshots that carry a version number.
+ *
+ * Versions start again at every boot, so each tag also carries the boot time;
+ * a tag handed out before a restart can then never match a snapshot built
+ * after it.
+ */
+public final class EntityTags {
+
+    private static final String BOOT = Long.toString(System.currentTimeMillis(), 36);
+
+    private EntityTags() {
+    }
+
+    /**
+     * @return a quoted strong ETag, e.g. {@code "menu-lx3k9a-4-ADMIN"}
+     */
+    public static String strong(String kind, long version, String... qualifiers) {
+        StringBuilder tag = new StringBuilder().append('"').append(kind).append('-').append(BOOT).append('-')
+                .append(version);
+        for (String qualifier : qualifiers) {
+            tag.append('-').append(qualifier);
+        }
+        return tag.append('"').toString();
+    }
+}
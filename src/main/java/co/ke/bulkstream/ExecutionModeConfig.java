@@ -0,0 +1,58 @@
+package co.ke.bulkstream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Chooses between platform and virtual threads
+ * ({@code bulkstream.threads.virtual}, off by default).
+ *
+ * With virtual threads on, Tomcat runs each request on its own virtual thread
+ * instead of its bounded worker pool, {@code @Async} methods run on virtual
+ * threads, and the background writers (write-behind, activity log, rollup
+ * rebuild) get their threads from {@link #backgroundThreadFactory}. The number
+ * of requests that can block on JDBC at once is then no longer limited by
+ * Tomcat, so the Hikari pool size (spring.datasource.hikari.*) is what bounds
+ * the load on H2: callers beyond it wait up to connection-timeout for a
+ * connection. CalculateEndpointBenchmark (src/jmh) compares the two modes on
+ * /api/oil-tonnages/calculate. That comparison has not been run yet, so
+ * virtual threads stay off until it shows they help.
+ */
+@Slf4j
+@Configuration
+public class ExecutionModeConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "bulkstream.threads.virtual", havingValue = "true")
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadRequestExecutor() {
+        log.info("Handling requests on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    // Replaces Boot's pooled applicationTaskExecutor, which @EnableAsync would otherwise use
+    @Bean(name = { TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME })
+    @ConditionalOnProperty(name = "bulkstream.threads.virtual", havingValue = "true")
+    public AsyncTaskExecutor virtualThreadTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Threads for long-running background work; callers name them.
+     */
+    @Bean
+    public ThreadFactory backgroundThreadFactory(@Value("${bulkstream.threads.virtual:false}") boolean virtual) {
+        return virtual ? Thread.ofVirtual().factory() : Thread.ofPlatform().factory();
+    }
+}
@@ -0,0 +1,46 @@
+package co.ke.bulkstream;
+
+/**
+ * Line formats accepted by the streaming ingestion endpoint.
+ */
+public enum IngestFormat {
+    /** One JSON {@link CalculationRequest} object per line. */
+    NDJSON("application/x-ndjson"),
+    /** volume,density,temperature per line, with an optional header row. */
+    CSV("text/csv");
+
+    private final String contentType;
+
+    IngestFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Resolves the format from the {@code format} parameter if given, otherwise
+     * from the request content type.
+     */
+    public static IngestFormat resolve(String format, String contentType) {
+        if (format != null && !format.isBlank()) {
+            try {
+                return valueOf(format.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid format: " + format + ". Must be one of: ndjson, csv");
+            }
+        }
+        if (contentType != null) {
+            String type = contentType.toLowerCase();
+            if (type.startsWith("text/csv")) {
+                return CSV;
+            }
+            if (type.contains("ndjson") || type.contains("json")) {
+                return NDJSON;
+            }
+        }
+        throw new IllegalArgumentException("Cannot determine the file format; send Content-Type "
+                + NDJSON.contentType + " or " + CSV.contentType + ", or the format parameter");
+    }
+}
@@ -0,0 +1,19 @@
+package co.ke.bulkstream;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IngestRowResult {
+    private long line; // 1-based line number in the uploaded file
+    private Long id;
+    private Double vcf;
+    private Double tonnage;
+    private VcfMethod vcfMethod;
+    private String error; // Set only for rejected lines
+}
@@ -0,0 +1,15 @@
+package co.ke.bulkstream;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestSummary {
+    private long rows; // Non-blank data lines read
+    private long saved;
+    private long rejected;
+    private double totalTonnage; // Sum over saved rows
+}
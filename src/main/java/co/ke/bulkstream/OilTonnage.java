@@ -1,9 +1,13 @@
 package co.ke.bulkstream;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.Data;
@@ -11,13 +15,23 @@ import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
 @Entity
-@Table(name = "oil_tonnages")
+@Table(name = "oil_tonnages", indexes = {
+        @Index(name = "idx_oil_tonnages_date_id", columnList = "calculationDate, id"),
+        // Range lookups from OilTonnageSearch
+        @Index(name = "idx_oil_tonnages_volume", columnList = "volume"),
+        @Index(name = "idx_oil_tonnages_density", columnList = "density"),
+        @Index(name = "idx_oil_tonnages_temperature", columnList = "temperature"),
+        @Index(name = "idx_oil_tonnages_vcf", columnList = "vcf"),
+        @Index(name = "idx_oil_tonnages_tonnage", columnList = "tonnage")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class OilTonnage {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Sequence (not IDENTITY) so Hibernate can batch inserts; see OilTonnageSequenceInitializer
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "oil_tonnages_seq")
+    @SequenceGenerator(name = "oil_tonnages_seq", sequenceName = "oil_tonnages_seq", allocationSize = 50)
     private Long id;
     private Double volume;
     private Double density;
@@ -25,4 +39,8 @@ public class OilTonnage {
     private Double vcf;
     private Double tonnage;
     private LocalDateTime calculationDate; // Mapped to TIMESTAMP in SQL
+    @Enumerated(EnumType.STRING)
+    private VcfMethod vcfMethod; // How the VCF was read from the table
+    private String vcfTable; // VCF table used, see VcfDataset
+    private Integer vcfTableVersion; // Version of that table at calculation time
 }
\ No newline at end of file
@@ -5,27 +5,70 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/oil-tonnages")
 @CrossOrigin(origins = "http://localhost:5173") // Adjust for your Vue.js dev server port
 public class OilTonnageController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+
     @Autowired
     private OilTonnageService oilTonnageService;
 
+    @Autowired
+    private OilTonnageWriteBehind oilTonnageWriteBehind;
+
+    @Autowired
+    private TonnageRollupService tonnageRollupService;
+
+    /**
+     * @param table VCF table to read (see /api/vcf-table/tables); the default table when omitted
+     */
     @PostMapping("/calculate")
-    public ResponseEntity<OilTonnage> calculateTonnage(@Valid @RequestBody CalculationRequest request) {
+    public ResponseEntity<OilTonnage> calculateTonnage(@Valid @RequestBody CalculationRequest request,
+            @RequestParam(defaultValue = "nearest") String interpolation,
+            @RequestParam(required = false) String table) {
         try {
             OilTonnage result = oilTonnageService.calculateAndSaveTonnage(
-                    request.getVolume(), request.getDensity(), request.getTemperature());
+                    request.getVolume(), request.getDensity(), request.getTemperature(),
+                    VcfInterpolation.fromParam(interpolation), table);
             return new ResponseEntity<>(result, HttpStatus.CREATED);
         } catch (ResourceNotFoundException e) {
             return new ResponseEntity(e.getMessage(), HttpStatus.NOT_FOUND);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ResponseEntity("An error occurred: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PostMapping("/calculate/batch")
+    public ResponseEntity<BatchCalculationResponse> calculateTonnageBatch(
+            @RequestBody(required = false) List<CalculationRequest> requests,
+            @RequestParam(defaultValue = "nearest") String interpolation,
+            @RequestParam(required = false) String table) {
+        if (requests == null || requests.isEmpty()) {
+            return new ResponseEntity("Request body must be a non-empty array of readings", HttpStatus.BAD_REQUEST);
+        }
+        try {
+            BatchCalculationResponse result = oilTonnageService.calculateAndSaveBatch(
+                    requests, VcfInterpolation.fromParam(interpolation), table);
+            return new ResponseEntity<>(result, HttpStatus.CREATED);
+        } catch (ResourceNotFoundException e) {
+            return new ResponseEntity(e.getMessage(), HttpStatus.NOT_FOUND);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity(e.getMessage(), HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             return new ResponseEntity("An error occurred: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
         }
@@ -48,21 +91,93 @@ public class OilTonnageController {
         return new ResponseEntity<>(calculations, HttpStatus.OK);
     }
 
+    /**
+     * Keyset-paginated history for large tables: newest first, no total count.
+     * Start with an empty after= and pass back nextCursor for the next page.
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<CursorPage<OilTonnage>> getCalculationsAfter(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            return new ResponseEntity("size must be between 1 and " + MAX_CURSOR_PAGE_SIZE, HttpStatus.BAD_REQUEST);
+        }
+        try {
+            return new ResponseEntity<>(oilTonnageService.getCalculationsAfter(after, size), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Throughput per day, month or year and density band, read from the daily rollups.
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<List<TonnageSummary>> getSummary(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String granularity) {
+        try {
+            return new ResponseEntity<>(
+                    tonnageRollupService.summary(from, to, SummaryGranularity.fromParam(granularity)), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Recomputes the daily rollups from oil_tonnages.
+     */
+    @PostMapping("/summary/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RollupRebuildResult> rebuildSummary() {
+        return new ResponseEntity<>(tonnageRollupService.rebuild(), HttpStatus.OK);
+    }
+
+    @GetMapping("/write-behind/stats")
+    public ResponseEntity<WriteBehindStats> getWriteBehindStats() {
+        return new ResponseEntity<>(oilTonnageWriteBehind.stats(), HttpStatus.OK);
+    }
+
     @GetMapping("/search")
     public ResponseEntity<Page<OilTonnage>> searchCalculations(
             @RequestParam String searchTerm,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "calculationDate,desc") String[] sort) {
+        if (!OilTonnageService.isSortable(sort[0])) {
+            return new ResponseEntity("Cannot sort by " + sort[0], HttpStatus.BAD_REQUEST);
+        }
+        Page<OilTonnage> calculations = oilTonnageService.searchCalculations(searchTerm,
+                searchPageable(page, size, sort));
+        return new ResponseEntity<>(calculations, HttpStatus.OK);
+    }
 
+    /**
+     * Same as /search but returns a slice (content, number, size, first/last):
+     * no total count is computed.
+     */
+    @GetMapping("/search/slice")
+    public ResponseEntity<Slice<OilTonnage>> searchCalculationsSlice(
+            @RequestParam String searchTerm,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "calculationDate,desc") String[] sort) {
+        if (!OilTonnageService.isSortable(sort[0])) {
+            return new ResponseEntity("Cannot sort by " + sort[0], HttpStatus.BAD_REQUEST);
+        }
+        Slice<OilTonnage> calculations = oilTonnageService.searchCalculationsSlice(searchTerm,
+                searchPageable(page, size, sort));
+        return new ResponseEntity<>(calculations, HttpStatus.OK);
+    }
+
+    private static Pageable searchPageable(int page, int size, String[] sort) {
         Sort sorting = Sort.by(sort[0]);
         if (sort.length > 1 && sort[1].equalsIgnoreCase("desc")) {
             sorting = sorting.descending();
         } else {
             sorting = sorting.ascending();
         }
-        Pageable pageable = PageRequest.of(page, size, sorting);
-        Page<OilTonnage> calculations = oilTonnageService.searchCalculations(searchTerm, pageable);
-        return new ResponseEntity<>(calculations, HttpStatus.OK);
+        return PageRequest.of(page, size, sorting);
     }
 }
\ No newline at end of file
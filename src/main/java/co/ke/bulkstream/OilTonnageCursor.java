@@ -0,0 +1,34 @@
+package co.ke.bulkstream;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in the oil tonnage history, ordered by (calculationDate, id).
+ * Handed to clients as an opaque URL-safe token.
+ */
+public record OilTonnageCursor(LocalDateTime calculationDate, long id) {
+
+    public static OilTonnageCursor of(OilTonnage oilTonnage) {
+        return new OilTonnageCursor(oilTonnage.getCalculationDate(), oilTonnage.getId());
+    }
+
+    public String encode() {
+        String raw = calculationDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OilTonnageCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new OilTonnageCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package co.ke.bulkstream;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/oil-tonnages")
+@CrossOrigin(origins = "http://localhost:5173") // Adjust for your Vue.js dev server port
+public class OilTonnageIngestController {
+
+    @Autowired
+    private OilTonnageIngestService oilTonnageIngestService;
+
+    @Autowired
+    private VcfGrid vcfGrid;
+
+    /**
+     * Streams a manifest of readings (NDJSON or CSV, picked from the format
+     * parameter or Content-Type) into oil_tonnages and streams back one result
+     * line per reading in the same format, ending with a summary line.
+     */
+    @PostMapping("/ingest")
+    public void ingestTonnages(HttpServletRequest request, HttpServletResponse response,
+            @RequestParam(required = false) String format,
+            @RequestParam(defaultValue = "nearest") String interpolation,
+            @RequestParam(required = false) String table) throws IOException {
+        IngestFormat ingestFormat;
+        VcfInterpolation vcfInterpolation;
+        try {
+            ingestFormat = IngestFormat.resolve(format, request.getContentType());
+            vcfInterpolation = VcfInterpolation.fromParam(interpolation);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+            return;
+        }
+        if (!vcfGrid.hasTable(table)) {
+            response.sendError(HttpStatus.NOT_FOUND.value(), "VCF table not found: "
+                    + (table == null ? vcfGrid.defaultTable() : table));
+            return;
+        }
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(ingestFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        try {
+            oilTonnageIngestService.ingest(request.getInputStream(), response.getOutputStream(),
+                    ingestFormat, vcfInterpolation, table);
+        } catch (IllegalArgumentException e) {
+            // Only raised for an unusable CSV header, before any result has been flushed
+            response.reset();
+            response.sendError(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+        }
+    }
+}
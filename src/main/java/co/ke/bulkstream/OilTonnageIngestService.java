@@ -0,0 +1,271 @@
+package co.ke.bulkstream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams tonnage readings from an uploaded NDJSON or CSV body into
+ * oil_tonnages. Lines are read one at a time and saved in chunks of
+ * {@code bulkstream.ingest.chunk-size}, each chunk in its own transaction, so
+ * memory use does not depend on the size of the upload. The per-line results of
+ * a chunk are written to the output once it has been committed, followed by an
+ * {@link IngestSummary} at the end.
+ */
+@Service
+public class OilTonnageIngestService {
+
+    // Positions of volume, density and temperature within a CSV line
+    private static final int[] DEFAULT_CSV_COLUMNS = { 0, 1, 2 };
+
+    @Autowired
+    private OilTonnageService oilTonnageService;
+
+    @Autowired
+    private OilTonnageRepository oilTonnageRepository;
+
+    @Autowired
+    private TonnageRollupService rollupService;
+
+    @Autowired
+    private VcfGrid vcfGrid;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${bulkstream.ingest.chunk-size:500}")
+    private int chunkSize;
+
+    public OilTonnageIngestService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * @param table VCF table to use for every line, or null for the default table
+     * @throws ResourceNotFoundException when the table does not exist, before anything is read
+     */
+    public IngestSummary ingest(InputStream in, OutputStream out, IngestFormat format,
+            VcfInterpolation interpolation, String table) throws IOException {
+        // One table version for the whole upload
+        VcfGrid.Snapshot vcfTable = vcfGrid.table(table);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        IngestSummary summary = new IngestSummary();
+        List<PendingRow> pending = new ArrayList<>(chunkSize);
+        int[] csvColumns = null;
+        long lineNumber = 0;
+        String line;
+
+        if (format == IngestFormat.CSV) {
+            writer.write("line,id,vcf,tonnage,vcfMethod,error\n");
+        }
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == IngestFormat.CSV && csvColumns == null) {
+                csvColumns = csvColumns(line);
+                if (csvColumns != DEFAULT_CSV_COLUMNS) {
+                    continue; // Header row
+                }
+            }
+            summary.setRows(summary.getRows() + 1);
+
+            CalculationRequest request;
+            String error;
+            try {
+                request = format == IngestFormat.CSV ? parseCsv(line, csvColumns) : parseNdjson(line);
+                error = oilTonnageService.validate(request);
+            } catch (IllegalArgumentException e) {
+                request = null;
+                error = e.getMessage();
+            }
+
+            OilTonnage oilTonnage = null;
+            if (error == null) {
+                try {
+                    oilTonnage = oilTonnageService.calculateTonnage(
+                            request.getVolume(), request.getDensity(), request.getTemperature(), interpolation,
+                            vcfTable);
+                } catch (ResourceNotFoundException e) {
+                    error = e.getMessage();
+                }
+            }
+            pending.add(new PendingRow(lineNumber, oilTonnage, error));
+
+            if (pending.size() >= chunkSize) {
+                flushChunk(pending, writer, format, summary);
+            }
+        }
+        flushChunk(pending, writer, format, summary);
+        writeSummary(writer, format, summary);
+        writer.flush();
+        return summary;
+    }
+
+    /**
+     * Saves the calculated rows of the chunk in one transaction, then writes the
+     * result of every line in the chunk. If the commit fails the whole chunk is
+     * reported as rejected and ingestion carries on with the next one.
+     */
+    private void flushChunk(List<PendingRow> pending, Writer writer, IngestFormat format, IngestSummary summary)
+            throws IOException {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<OilTonnage> toSave = new ArrayList<>(pending.size());
+        for (PendingRow row : pending) {
+            if (row.oilTonnage() != null) {
+                toSave.add(row.oilTonnage());
+            }
+        }
+
+        String chunkError = null;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                oilTonnageRepository.saveAll(toSave);
+                rollupService.record(toSave);
+                entityManager.flush();
+            });
+        } catch (RuntimeException e) {
+            chunkError = "Not saved: " + e.getMessage();
+        } finally {
+            // The request-scoped persistence context would otherwise keep every saved row
+            entityManager.clear();
+        }
+
+        for (PendingRow row : pending) {
+            IngestRowResult result;
+            OilTonnage saved = row.oilTonnage();
+            if (saved != null && chunkError == null) {
+                result = new IngestRowResult(row.line(), saved.getId(), saved.getVcf(), saved.getTonnage(),
+                        saved.getVcfMethod(), null);
+                summary.setSaved(summary.getSaved() + 1);
+                summary.setTotalTonnage(summary.getTotalTonnage() + saved.getTonnage());
+            } else {
+                result = new IngestRowResult(row.line(), null, null, null, null,
+                        row.error() != null ? row.error() : chunkError);
+                summary.setRejected(summary.getRejected() + 1);
+            }
+            writeResult(writer, format, result);
+        }
+        writer.flush();
+        pending.clear();
+    }
+
+    private CalculationRequest parseNdjson(String line) {
+        try {
+            return objectMapper.readValue(line, CalculationRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * Reads the column order from a header line, or returns the default order
+     * (volume,density,temperature) when the first line is already data.
+     */
+    private static int[] csvColumns(String firstLine) {
+        String[] cells = firstLine.split(",", -1);
+        int[] columns = { -1, -1, -1 };
+        boolean header = false;
+        for (int i = 0; i < cells.length; i++) {
+            String cell = cells[i].trim().toLowerCase();
+            switch (cell) {
+                case "volume" -> columns[0] = i;
+                case "density" -> columns[1] = i;
+                case "temperature" -> columns[2] = i;
+                default -> {
+                    continue;
+                }
+            }
+            header = true;
+        }
+        if (!header) {
+            return DEFAULT_CSV_COLUMNS;
+        }
+        if (columns[0] < 0 || columns[1] < 0 || columns[2] < 0) {
+            throw new IllegalArgumentException("CSV header must name the volume, density and temperature columns");
+        }
+        return columns;
+    }
+
+    private static CalculationRequest parseCsv(String line, int[] columns) {
+        String[] cells = line.split(",", -1);
+        return new CalculationRequest(
+                csvNumber(cells, columns[0], "volume"),
+                csvNumber(cells, columns[1], "density"),
+                csvNumber(cells, columns[2], "temperature"));
+    }
+
+    private static Double csvNumber(String[] cells, int column, String name) {
+        if (column >= cells.length || cells[column].isBlank()) {
+            return null; // Reported by validation
+        }
+        try {
+            return Double.valueOf(cells[column].trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + cells[column].trim());
+        }
+    }
+
+    private void writeResult(Writer writer, IngestFormat format, IngestRowResult result) throws IOException {
+        if (format == IngestFormat.NDJSON) {
+            writer.write(objectMapper.writeValueAsString(result));
+        } else {
+            writer.write(result.getLine() + "," + csvCell(result.getId()) + "," + csvCell(result.getVcf()) + ","
+                    + csvCell(result.getTonnage()) + "," + csvCell(result.getVcfMethod()) + ","
+                    + csvCell(result.getError()));
+        }
+        writer.write('\n');
+    }
+
+    private void writeSummary(Writer writer, IngestFormat format, IngestSummary summary) throws IOException {
+        if (format == IngestFormat.NDJSON) {
+            writer.write("{\"summary\":" + objectMapper.writeValueAsString(summary) + "}");
+        } else {
+            writer.write("# rows=" + summary.getRows() + " saved=" + summary.getSaved() + " rejected="
+                    + summary.getRejected() + " totalTonnage=" + summary.getTotalTonnage());
+        }
+        writer.write('\n');
+    }
+
+    private static String csvCell(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+    private record PendingRow(long line, OilTonnage oilTonnage, String error) {
+    }
+}
@@ -0,0 +1,62 @@
+package co.ke.bulkstream;
+
+import net.sf.jasperreports.engine.JRDataSource;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRField;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Feeds oil_tonnages rows from an open forward-only ResultSet into the ledger
+ * report, one row at a time. Tonnage is the debit and the balance is the
+ * running total, so nothing beyond the current row is held in memory.
+ */
+public class OilTonnageLedgerDataSource implements JRDataSource {
+
+    private final ResultSet resultSet;
+    private BigDecimal balance = BigDecimal.ZERO;
+
+    private Timestamp calculationDate;
+    private String description;
+    private BigDecimal tonnage;
+
+    public OilTonnageLedgerDataSource(ResultSet resultSet) {
+        this.resultSet = resultSet;
+    }
+
+    @Override
+    public boolean next() throws JRException {
+        try {
+            if (!resultSet.next()) {
+                return false;
+            }
+            calculationDate = resultSet.getTimestamp("calculation_date");
+            double value = resultSet.getDouble("tonnage");
+            tonnage = resultSet.wasNull() ? null : BigDecimal.valueOf(value);
+            if (tonnage != null) {
+                balance = balance.add(tonnage);
+            }
+            description = String.format("Vol %.3f | Density %s | Temp %s | VCF %s",
+                    resultSet.getDouble("volume"), resultSet.getObject("density"),
+                    resultSet.getObject("temperature"), resultSet.getObject("vcf"));
+            return true;
+        } catch (SQLException e) {
+            throw new JRException("Unable to read oil_tonnages row", e);
+        }
+    }
+
+    @Override
+    public Object getFieldValue(JRField field) throws JRException {
+        return switch (field.getName()) {
+            case "date" -> calculationDate == null ? null : calculationDate.toLocalDateTime().toLocalDate();
+            case "description" -> description;
+            case "debit" -> tonnage;
+            case "credit" -> null;
+            case "balance" -> balance;
+            default -> throw new JRException("Unknown ledger field: " + field.getName());
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package co.ke.bulkstream;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/oil-tonnages")
+@CrossOrigin(origins = "http://localhost:5173") // Adjust for your Vue.js dev server port
+public class OilTonnageReportController {
+
+    @Autowired
+    private OilTonnageReportService oilTonnageReportService;
+
+    /**
+     * Streams the ledger report of calculations between from and to (inclusive,
+     * both optional) as PDF or XLSX.
+     */
+    @GetMapping("/report/ledger")
+    public void getLedgerReport(HttpServletResponse response,
+            @RequestParam(defaultValue = "pdf") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to)
+            throws IOException {
+        ReportFormat reportFormat;
+        try {
+            reportFormat = ReportFormat.fromParam(format);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+            return;
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "from must not be after to");
+            return;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String createdBy = authentication != null ? authentication.getName() : "system";
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(reportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"oil-tonnage-ledger." + reportFormat.getExtension() + "\"");
+        try {
+            oilTonnageReportService.exportLedger(reportFormat, from, to, createdBy, response.getOutputStream());
+        } catch (Exception e) {
+            log.error("Ledger report export failed", e);
+            if (!response.isCommitted()) {
+                response.reset();
+                response.sendError(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Report export failed: " + e.getMessage());
+            }
+        }
+    }
+}
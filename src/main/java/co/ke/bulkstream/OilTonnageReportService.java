@@ -0,0 +1,156 @@
+package co.ke.bulkstream;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRParameter;
+import net.sf.jasperreports.engine.JasperCompileManager;
+import net.sf.jasperreports.engine.JasperFillManager;
+import net.sf.jasperreports.engine.JasperPrint;
+import net.sf.jasperreports.engine.JasperReport;
+import net.sf.jasperreports.engine.export.JRPdfExporter;
+import net.sf.jasperreports.engine.export.ooxml.JRXlsxExporter;
+import net.sf.jasperreports.engine.fill.JRSwapFileVirtualizer;
+import net.sf.jasperreports.engine.util.JRSwapFile;
+import net.sf.jasperreports.export.SimpleExporterInput;
+import net.sf.jasperreports.export.SimpleOutputStreamExporterOutput;
+import net.sf.jasperreports.export.SimpleXlsxReportConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Exports oil_tonnages as the ledger report.
+ *
+ * The templates under {@code classpath:reports/} are compiled once at startup.
+ * A report is filled from a forward-only, read-only result set with a bounded
+ * fetch size, and filled pages beyond
+ * {@code bulkstream.report.virtualizer-max-pages} are swapped to a temp file,
+ * so neither the rows nor the pages of a large report are all held in heap.
+ * The result is exported straight to the given output stream.
+ */
+@Slf4j
+@Service
+public class OilTonnageReportService {
+
+    static final String LEDGER_REPORT = "ledger_report";
+
+    private static final String LEDGER_QUERY =
+            "SELECT calculation_date, volume, density, temperature, vcf, tonnage FROM oil_tonnages";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${bulkstream.report.fetch-size:500}")
+    private int fetchSize;
+
+    @Value("${bulkstream.report.virtualizer-max-pages:20}")
+    private int virtualizerMaxPages;
+
+    @Value("${bulkstream.report.swap-directory:${java.io.tmpdir}}")
+    private String swapDirectory;
+
+    private final Map<String, JasperReport> reports = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void compileTemplates() throws IOException {
+        Resource[] templates = new PathMatchingResourcePatternResolver().getResources("classpath:reports/*.jrxml");
+        for (Resource template : templates) {
+            String name = template.getFilename().substring(0, template.getFilename().length() - ".jrxml".length());
+            try (InputStream in = template.getInputStream()) {
+                reports.put(name, JasperCompileManager.compileReport(in));
+                log.info("Compiled report template {}", name);
+            } catch (JRException e) {
+                // Leave the rest of the application usable; exports of this report fail instead
+                log.error("Unable to compile report template {}", name, e);
+            }
+        }
+    }
+
+    /**
+     * Fills the ledger report for calculations from {@code from} to {@code to}
+     * (both inclusive, either may be null) and writes it to {@code out}.
+     */
+    public void exportLedger(ReportFormat format, LocalDate from, LocalDate to, String createdBy, OutputStream out)
+            throws JRException, SQLException {
+        JasperReport report = reports.get(LEDGER_REPORT);
+        if (report == null) {
+            throw new IllegalStateException("Report template " + LEDGER_REPORT + " is not available");
+        }
+
+        StringBuilder sql = new StringBuilder(LEDGER_QUERY);
+        if (from != null) {
+            sql.append(" WHERE calculation_date >= ?");
+        }
+        if (to != null) {
+            sql.append(from != null ? " AND" : " WHERE").append(" calculation_date < ?");
+        }
+        sql.append(" ORDER BY calculation_date, id");
+
+        JRSwapFileVirtualizer virtualizer = new JRSwapFileVirtualizer(virtualizerMaxPages,
+                new JRSwapFile(swapDirectory, 4096, 256), true);
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(sql.toString(),
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(fetchSize);
+            int index = 1;
+            if (from != null) {
+                statement.setTimestamp(index++, Timestamp.valueOf(from.atStartOfDay()));
+            }
+            if (to != null) {
+                statement.setTimestamp(index, Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+            }
+
+            JasperPrint print;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                Map<String, Object> parameters = new HashMap<>();
+                parameters.put("createdBy", createdBy);
+                parameters.put(JRParameter.REPORT_VIRTUALIZER, virtualizer);
+                print = JasperFillManager.fillReport(report, parameters, new OilTonnageLedgerDataSource(resultSet));
+            }
+            virtualizer.setReadOnly(true);
+            export(print, format, out);
+        } finally {
+            virtualizer.cleanup();
+        }
+    }
+
+    private static void export(JasperPrint print, ReportFormat format, OutputStream out) throws JRException {
+        SimpleOutputStreamExporterOutput output = new SimpleOutputStreamExporterOutput(out);
+        switch (format) {
+            case PDF -> {
+                JRPdfExporter exporter = new JRPdfExporter();
+                exporter.setExporterInput(new SimpleExporterInput(print));
+                exporter.setExporterOutput(output);
+                exporter.exportReport();
+            }
+            case XLSX -> {
+                JRXlsxExporter exporter = new JRXlsxExporter();
+                SimpleXlsxReportConfiguration configuration = new SimpleXlsxReportConfiguration();
+                configuration.setOnePagePerSheet(false);
+                configuration.setRemoveEmptySpaceBetweenRows(true);
+                configuration.setDetectCellType(true);
+                exporter.setConfiguration(configuration);
+                exporter.setExporterInput(new SimpleExporterInput(print));
+                exporter.setExporterOutput(output);
+                exporter.exportReport();
+            }
+        }
+    }
+}
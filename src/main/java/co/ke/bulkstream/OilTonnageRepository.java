@@ -1,23 +1,49 @@
 package co.ke.bulkstream;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Repository
-public interface OilTonnageRepository extends JpaRepository<OilTonnage, Long> {
-    // For search functionality:
-    @Query("SELECT o FROM OilTonnage o WHERE " +
+public interface OilTonnageRepository extends JpaRepository<OilTonnage, Long>, JpaSpecificationExecutor<OilTonnage> {
+    // Free-text fallback for search; numbers and dates go through OilTonnageSearch.
+    // The query adds the % wildcards itself, so pass the raw term.
+    String SEARCH_ALL_FIELDS = "SELECT o FROM OilTonnage o WHERE " +
            "CAST(o.volume AS string) LIKE %:searchTerm% OR " +
            "CAST(o.density AS string) LIKE %:searchTerm% OR " +
            "CAST(o.temperature AS string) LIKE %:searchTerm% OR " +
            "CAST(o.vcf AS string) LIKE %:searchTerm% OR " +
            "CAST(o.tonnage AS string) LIKE %:searchTerm% OR " +
-           "DATE_FORMAT(o.calculationDate, '%Y-%m-%d %H:%i:%s') LIKE %:searchTerm%")
+           "DATE_FORMAT(o.calculationDate, '%Y-%m-%d %H:%i:%s') LIKE %:searchTerm%";
+
+    @Query(SEARCH_ALL_FIELDS)
     Page<OilTonnage> searchAllFields(@Param("searchTerm") String searchTerm, Pageable pageable);
+
+    // Same search without the count query
+    @Query(SEARCH_ALL_FIELDS)
+    Slice<OilTonnage> sliceAllFields(@Param("searchTerm") String searchTerm, Pageable pageable);
+
+    // Unfiltered search results; a Slice skips the count query
+    Slice<OilTonnage> findAllBy(Pageable pageable);
+
+    // Keyset pagination, newest first. List return types skip the count query;
+    // pass PageRequest.of(0, limit) to bound the result.
+    List<OilTonnage> findAllByOrderByCalculationDateDescIdDesc(Pageable limit);
+
+    // Rows strictly after the cursor in (calculationDate DESC, id DESC) order. The
+    // leading <= keeps the predicate a range scan on idx_oil_tonnages_date_id.
+    @Query("SELECT o FROM OilTonnage o WHERE o.calculationDate <= :calculationDate " +
+           "AND (o.calculationDate < :calculationDate OR o.id < :id) " +
+           "ORDER BY o.calculationDate DESC, o.id DESC")
+    List<OilTonnage> findPageAfter(@Param("calculationDate") LocalDateTime calculationDate,
+                                   @Param("id") Long id, Pageable limit);
 }
\ No newline at end of file
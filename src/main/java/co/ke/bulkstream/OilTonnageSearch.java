@@ -0,0 +1,139 @@
+package co.ke.bulkstream;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Turns a free-form search term into range predicates that can use the
+ * oil_tonnages indexes instead of the string-formatting LIKE scan.
+ *
+ * <ul>
+ * <li>A number matches the numeric columns within half a unit of its last
+ * digit, so {@code 912.5} finds 912.45 to 912.55. Columns whose plausible
+ * values cannot contain the number are left out.</li>
+ * <li>A date or date prefix ({@code 2025-06}, {@code 2025-06-12},
+ * {@code 2025-06-12 14:30}, ...) matches calculationDate over that period.</li>
+ * <li>{@code field:value} (e.g. {@code density:900.5}) restricts a number to one
+ * column, giving a single index range.</li>
+ * </ul>
+ *
+ * Anything else is free text and yields no specifications.
+ *
+ * Each specification is a range on a single column, so each one can be served
+ * by that column's index. A bare number can match several columns; H2 cannot
+ * use separate indexes for an OR across columns, so the caller runs one query
+ * per specification and merges the results.
+ */
+public final class OilTonnageSearch {
+
+    private static final Pattern NUMBER = Pattern.compile("[-+]?\\d+(\\.\\d+)?");
+    private static final Pattern MONTH = Pattern.compile("\\d{4}-\\d{2}");
+    private static final Pattern DAY = Pattern.compile("\\d{4}-\\d{2}-\\d{2}");
+    private static final Pattern HOUR = Pattern.compile("\\d{4}-\\d{2}-\\d{2}T\\d{2}");
+    private static final Pattern MINUTE = Pattern.compile("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}");
+    private static final Pattern SECOND = Pattern.compile("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}");
+
+    private static final List<String> NUMERIC_FIELDS = List.of("volume", "density", "temperature", "vcf", "tonnage");
+
+    private OilTonnageSearch() {
+    }
+
+    /**
+     * @return one single-column range per candidate column for a numeric or date
+     *         term (possibly none), or null for free text
+     */
+    public static List<Specification<OilTonnage>> toSpecifications(String term) {
+        String value = term.trim();
+        String field = null;
+        int colon = value.indexOf(':');
+        if (colon > 0 && NUMERIC_FIELDS.contains(value.substring(0, colon).trim().toLowerCase(Locale.ROOT))) {
+            field = value.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+            value = value.substring(colon + 1).trim();
+        }
+
+        if (NUMBER.matcher(value).matches()) {
+            return numberSpecifications(field, new BigDecimal(value));
+        }
+        if (field == null) {
+            Specification<OilTonnage> date = dateSpecification(value);
+            return date == null ? null : List.of(date);
+        }
+        return null;
+    }
+
+    private static List<Specification<OilTonnage>> numberSpecifications(String field, BigDecimal number) {
+        double value = number.doubleValue();
+        double tolerance = Math.pow(10, -Math.max(number.scale(), 0)) / 2;
+        double low = value - tolerance;
+        double high = value + tolerance;
+
+        List<String> fields = field != null ? List.of(field) : candidateFields(value);
+        List<Specification<OilTonnage>> ranges = new ArrayList<>(fields.size());
+        for (String name : fields) {
+            ranges.add((root, query, cb) -> cb.between(root.<Double>get(name), low, high));
+        }
+        return ranges;
+    }
+
+    /**
+     * Numeric columns a bare number could plausibly refer to. Keeps the number of
+     * queries down: e.g. 905 cannot be a VCF and 0.98 cannot be a density.
+     */
+    private static List<String> candidateFields(double value) {
+        List<String> fields = new ArrayList<>(NUMERIC_FIELDS.size());
+        if (value > 0) {
+            fields.add("volume");
+            fields.add("tonnage");
+        }
+        if (value >= 500 && value <= 1100) {
+            fields.add("density");
+        }
+        if (value >= -50 && value <= 150) {
+            fields.add("temperature");
+        }
+        if (value >= 0.5 && value <= 1.5) {
+            fields.add("vcf");
+        }
+        return fields;
+    }
+
+    private static Specification<OilTonnage> dateSpecification(String value) {
+        String text = value.replace(' ', 'T');
+        LocalDateTime from;
+        LocalDateTime to;
+        try {
+            if (MONTH.matcher(text).matches()) {
+                from = YearMonth.parse(text).atDay(1).atStartOfDay();
+                to = from.plusMonths(1);
+            } else if (DAY.matcher(text).matches()) {
+                from = LocalDate.parse(text).atStartOfDay();
+                to = from.plusDays(1);
+            } else if (HOUR.matcher(text).matches()) {
+                from = LocalDateTime.parse(text + ":00");
+                to = from.plusHours(1);
+            } else if (MINUTE.matcher(text).matches()) {
+                from = LocalDateTime.parse(text);
+                to = from.plusMinutes(1);
+            } else if (SECOND.matcher(text).matches()) {
+                from = LocalDateTime.parse(text);
+                to = from.plusSeconds(1);
+            } else {
+                return null;
+            }
+        } catch (DateTimeParseException e) {
+            return null; // e.g. 2025-13, searched as text
+        }
+        return (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.<LocalDateTime>get("calculationDate"), from),
+                cb.lessThan(root.<LocalDateTime>get("calculationDate"), to));
+    }
+}
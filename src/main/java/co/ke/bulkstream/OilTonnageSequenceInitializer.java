@@ -0,0 +1,36 @@
+package co.ke.bulkstream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Slf4j
+@Configuration
+public class OilTonnageSequenceInitializer {
+
+    // Must match allocationSize on OilTonnage.id
+    private static final long ALLOCATION_SIZE = 50;
+
+    /**
+     * oil_tonnages ids used to come from an IDENTITY column. When Hibernate creates
+     * oil_tonnages_seq on an existing database it starts at 1, so move it past the
+     * ids already taken before anything is inserted through the sequence.
+     */
+    @Bean
+    public CommandLineRunner alignOilTonnageSequence(JdbcTemplate jdbcTemplate) {
+        return args -> {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM oil_tonnages", Long.class);
+            Long nextValue = jdbcTemplate.queryForObject(
+                    "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'OIL_TONNAGES_SEQ'",
+                    Long.class);
+            if (maxId != null && nextValue != null && nextValue <= maxId + ALLOCATION_SIZE) {
+                // Clear of maxId whether the optimizer treats the value as the low or high end of a block
+                long restartWith = maxId + ALLOCATION_SIZE + 1;
+                jdbcTemplate.execute("ALTER SEQUENCE oil_tonnages_seq RESTART WITH " + restartWith);
+                log.info("oil_tonnages_seq restarted at {}", restartWith);
+            }
+        };
+    }
+}
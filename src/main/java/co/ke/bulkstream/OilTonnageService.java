@@ -1,27 +1,180 @@
 package co.ke.bulkstream;
 
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class OilTonnageService {
 
+    // Properties search results can be sorted by, and their order for merging range results
+    private static final Map<String, Comparator<OilTonnage>> SORT_KEYS = Map.of(
+            "id", nullsLow(OilTonnage::getId),
+            "volume", nullsLow(OilTonnage::getVolume),
+            "density", nullsLow(OilTonnage::getDensity),
+            "temperature", nullsLow(OilTonnage::getTemperature),
+            "vcf", nullsLow(OilTonnage::getVcf),
+            "tonnage", nullsLow(OilTonnage::getTonnage),
+            "calculationDate", nullsLow(OilTonnage::getCalculationDate));
+
     @Autowired
     private OilTonnageRepository oilTonnageRepository;
 
     @Autowired
-    private VcftableRepository vcftableRepository;
+    private VcfGrid vcfGrid;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private OilTonnageWriteBehind writeBehind;
+
+    @Autowired
+    private TonnageRollupService rollupService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Largest /calculate/batch request; the whole batch is held and saved in one transaction
+    @Value("${bulkstream.batch.max-size:1000}")
+    private int maxBatchSize;
 
     public OilTonnage calculateAndSaveTonnage(Double volume, Double density, Double temperature) {
-        // Find VCF
-        Vcftable vcfRecord = vcftableRepository.findVcfByClosestDensityAndTemperature(density, temperature)
-                .orElseThrow(() -> new ResourceNotFoundException("VCF not found for density: " + density + " and temperature: " + temperature));
+        return calculateAndSaveTonnage(volume, density, temperature, VcfInterpolation.NEAREST, null);
+    }
+
+    /**
+     * Calculates and stores a tonnage. With write-behind enabled the row is queued
+     * and the returned result has no id yet; otherwise it is saved before returning.
+     *
+     * @param table VCF table to use, or null for the default table
+     */
+    public OilTonnage calculateAndSaveTonnage(Double volume, Double density, Double temperature,
+            VcfInterpolation interpolation, String table) {
+        OilTonnage oilTonnage = calculateTonnage(volume, density, temperature, interpolation, table);
+        if (writeBehind.isEnabled()) {
+            writeBehind.enqueue(oilTonnage);
+            return oilTonnage;
+        }
+        return transactionTemplate.execute(status -> {
+            OilTonnage saved = oilTonnageRepository.save(oilTonnage);
+            rollupService.record(List.of(saved));
+            return saved;
+        });
+    }
+
+    /**
+     * Calculates every request against the in-memory VCF table and inserts the
+     * successful ones in one transaction; Hibernate groups the inserts into JDBC
+     * batches (see hibernate.jdbc.batch_size). Invalid or unresolvable items are
+     * reported individually and do not stop the rest of the batch.
+     *
+     * @throws IllegalArgumentException if there are more than bulkstream.batch.max-size requests
+     */
+    @Transactional
+    public BatchCalculationResponse calculateAndSaveBatch(List<CalculationRequest> requests,
+            VcfInterpolation interpolation, String table) {
+        if (requests.size() > maxBatchSize) {
+            throw new IllegalArgumentException("A batch may hold at most " + maxBatchSize + " readings, got "
+                    + requests.size() + "; split it or use /ingest");
+        }
+        List<BatchCalculationResponse.ItemResult> results = new ArrayList<>(requests.size());
+        List<OilTonnage> toSave = new ArrayList<>(requests.size());
+        // One table version for the whole batch
+        VcfGrid.Snapshot vcfTable = vcfGrid.table(table);
+
+        for (int i = 0; i < requests.size(); i++) {
+            CalculationRequest request = requests.get(i);
+            String error = validate(request);
+            if (error == null) {
+                try {
+                    OilTonnage oilTonnage = calculateTonnage(
+                            request.getVolume(), request.getDensity(), request.getTemperature(), interpolation,
+                            vcfTable);
+                    toSave.add(oilTonnage);
+                    results.add(new BatchCalculationResponse.ItemResult(i, oilTonnage, null));
+                    continue;
+                } catch (ResourceNotFoundException e) {
+                    error = e.getMessage();
+                }
+            }
+            results.add(new BatchCalculationResponse.ItemResult(i, null, error));
+        }
+
+        // Entities are managed after saveAll, so the item results pick up the generated ids
+        oilTonnageRepository.saveAll(toSave);
+        rollupService.record(toSave);
+        return new BatchCalculationResponse(toSave.size(), results.size() - toSave.size(), results);
+    }
+
+    public OilTonnage calculateTonnage(Double volume, Double density, Double temperature,
+            VcfInterpolation interpolation) {
+        return calculateTonnage(volume, density, temperature, interpolation, vcfGrid.table(null));
+    }
 
-        Double vcf = vcfRecord.getVcf();
+    /**
+     * Computes the tonnage for a reading without persisting it.
+     *
+     * @param table VCF table to use, or null for the default table
+     * @throws ResourceNotFoundException when the table does not exist
+     */
+    public OilTonnage calculateTonnage(Double volume, Double density, Double temperature,
+            VcfInterpolation interpolation, String table) {
+        return calculateTonnage(volume, density, temperature, interpolation, vcfGrid.table(table));
+    }
+
+    /**
+     * Computes the tonnage against one version of a VCF table and records which
+     * table and version were used.
+     */
+    OilTonnage calculateTonnage(Double volume, Double density, Double temperature,
+            VcfInterpolation interpolation, VcfGrid.Snapshot vcfTable) {
+        // Find VCF from the in-memory table
+        double vcf;
+        VcfMethod vcfMethod;
+        if (interpolation == VcfInterpolation.BILINEAR) {
+            VcfGrid.VcfEstimate estimate = vcfTable.interpolateVcf(density, temperature);
+            vcf = estimate == null ? Double.NaN : estimate.vcf();
+            vcfMethod = estimate != null && estimate.extrapolated() ? VcfMethod.EXTRAPOLATED : VcfMethod.INTERPOLATED;
+        } else {
+            // Closest density, then closest temperature
+            vcf = vcfTable.nearestVcf(density, temperature);
+            vcfMethod = VcfMethod.NEAREST;
+        }
+        if (Double.isNaN(vcf)) {
+            throw new ResourceNotFoundException("VCF not found for density: " + density + " and temperature: " + temperature);
+        }
 
         // Calculate Tonnage
         Double tonnage = (volume * density * vcf) / 1000;
@@ -34,15 +187,167 @@ public class OilTonnageService {
         oilTonnage.setVcf(vcf);
         oilTonnage.setTonnage(tonnage);
         oilTonnage.setCalculationDate(LocalDateTime.now());
+        oilTonnage.setVcfMethod(vcfMethod);
+        oilTonnage.setVcfTable(vcfTable.name());
+        oilTonnage.setVcfTableVersion(vcfTable.tableVersion());
+        return oilTonnage;
+    }
 
-        return oilTonnageRepository.save(oilTonnage);
+    /**
+     * Runs the bean validation constraints of {@link CalculationRequest}.
+     *
+     * @return the violation messages joined with "; ", or null when the request is valid
+     */
+    String validate(CalculationRequest request) {
+        if (request == null) {
+            return "Request cannot be null";
+        }
+        Set<ConstraintViolation<CalculationRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
     }
 
     public Page<OilTonnage> getAllCalculations(Pageable pageable) {
         return oilTonnageRepository.findAll(pageable);
     }
 
+    /**
+     * Keyset page of calculations, newest first. A blank cursor starts from the
+     * newest row. Cost does not grow with how deep the page is and no count is run.
+     */
+    public CursorPage<OilTonnage> getCalculationsAfter(String cursor, int size) {
+        // One extra row tells whether there is a next page
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<OilTonnage> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = oilTonnageRepository.findAllByOrderByCalculationDateDescIdDesc(limit);
+        } else {
+            OilTonnageCursor position = OilTonnageCursor.decode(cursor);
+            rows = oilTonnageRepository.findPageAfter(position.calculationDate(), position.id(), limit);
+        }
+
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            nextCursor = OilTonnageCursor.of(rows.get(size - 1)).encode();
+        }
+        return new CursorPage<>(rows, rows.size(), nextCursor);
+    }
+
+    /**
+     * Numbers and dates are searched as indexed ranges (see {@link OilTonnageSearch});
+     * only free text falls back to the LIKE scan. The total is counted only when
+     * the page does not already show it; counting a number that matches several
+     * columns ORs their ranges, which H2 answers with a scan. Use
+     * {@link #searchCalculationsSlice} when the total is not needed.
+     */
     public Page<OilTonnage> searchCalculations(String searchTerm, Pageable pageable) {
-        return oilTonnageRepository.searchAllFields("%" + searchTerm + "%", pageable);
+        String term = searchTerm == null ? "" : searchTerm.trim();
+        if (term.isEmpty()) {
+            return oilTonnageRepository.findAll(pageable);
+        }
+        List<Specification<OilTonnage>> ranges = OilTonnageSearch.toSpecifications(term);
+        if (ranges != null) {
+            Specification<OilTonnage> anyRange = null;
+            for (Specification<OilTonnage> range : ranges) {
+                anyRange = anyRange == null ? range : anyRange.or(range);
+            }
+            Specification<OilTonnage> countSpec = anyRange;
+            return PageableExecutionUtils.getPage(searchRanges(ranges, pageable).getContent(), pageable,
+                    () -> oilTonnageRepository.count(countSpec));
+        }
+        return oilTonnageRepository.searchAllFields(term, pageable);
+    }
+
+    /**
+     * Same search as {@link #searchCalculations} without the total: no count
+     * query is run, the extra row fetched tells whether there is a next page.
+     */
+    public Slice<OilTonnage> searchCalculationsSlice(String searchTerm, Pageable pageable) {
+        String term = searchTerm == null ? "" : searchTerm.trim();
+        if (term.isEmpty()) {
+            return oilTonnageRepository.findAllBy(pageable);
+        }
+        List<Specification<OilTonnage>> ranges = OilTonnageSearch.toSpecifications(term);
+        if (ranges != null) {
+            return searchRanges(ranges, pageable);
+        }
+        return oilTonnageRepository.sliceAllFields(term, pageable);
+    }
+
+    /**
+     * Whether search results can be ordered by the property.
+     */
+    public static boolean isSortable(String property) {
+        return SORT_KEYS.containsKey(property);
+    }
+
+    /**
+     * Runs each single-column range as its own indexed query and merges them. Each
+     * query returns the first offset + size + 1 rows in page order, which is
+     * enough to assemble the requested page of the union; a row matching several
+     * ranges is kept once.
+     */
+    private Slice<OilTonnage> searchRanges(List<Specification<OilTonnage>> ranges, Pageable pageable) {
+        Sort sort = pageable.getSort().getOrderFor("id") != null
+                ? pageable.getSort()
+                : pageable.getSort().and(Sort.by(Sort.Direction.DESC, "id")); // Stable order for the merge
+        int offset = (int) pageable.getOffset();
+        int size = pageable.getPageSize();
+
+        List<OilTonnage> rows;
+        if (ranges.size() == 1) {
+            rows = findRange(ranges.get(0), sort, offset, size + 1);
+        } else {
+            Map<Long, OilTonnage> union = new LinkedHashMap<>();
+            for (Specification<OilTonnage> range : ranges) {
+                for (OilTonnage row : findRange(range, sort, 0, offset + size + 1)) {
+                    union.putIfAbsent(row.getId(), row);
+                }
+            }
+            rows = new ArrayList<>(union.values());
+            rows.sort(comparator(sort));
+            rows = rows.subList(Math.min(offset, rows.size()), Math.min(offset + size + 1, rows.size()));
+        }
+
+        boolean hasNext = rows.size() > size;
+        return new SliceImpl<>(hasNext ? new ArrayList<>(rows.subList(0, size)) : rows, pageable, hasNext);
+    }
+
+    private List<OilTonnage> findRange(Specification<OilTonnage> range, Sort sort, int offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<OilTonnage> query = cb.createQuery(OilTonnage.class);
+        Root<OilTonnage> root = query.from(OilTonnage.class);
+        query.where(range.toPredicate(root, query, cb));
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * The order of {@code sort} in Java, matching H2's default of nulls lowest.
+     */
+    private static Comparator<OilTonnage> comparator(Sort sort) {
+        Comparator<OilTonnage> result = (a, b) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<OilTonnage> byProperty = SORT_KEYS.get(order.getProperty());
+            if (byProperty == null) {
+                throw new IllegalArgumentException("Cannot sort by " + order.getProperty());
+            }
+            result = result.thenComparing(order.isDescending() ? byProperty.reversed() : byProperty);
+        }
+        return result;
+    }
+
+    private static <T extends Comparable<? super T>> Comparator<OilTonnage> nullsLow(
+            Function<OilTonnage, T> property) {
+        return Comparator.comparing(property, Comparator.nullsFirst(Comparator.naturalOrder()));
     }
-}
\ No newline at end of file
+}
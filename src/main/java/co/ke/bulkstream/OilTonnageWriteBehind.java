@@ -0,0 +1,234 @@
+package co.ke.bulkstream;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Optional write-behind persistence for calculated tonnages
+ * ({@code bulkstream.write-behind.enabled=true}).
+ *
+ * Calculated rows go into a bounded queue and a single background thread saves
+ * them in batches: it waits up to {@code flush-interval-ms} for the first row,
+ * then takes whatever else is queued, up to {@code batch-size}, and saves them
+ * in one transaction. When the queue is full the caller waits up to
+ * {@code offer-timeout-ms} and then saves the row itself, so rows are never
+ * dropped. On shutdown new rows are saved by their callers, and whatever is
+ * still queued once the writer has stopped is saved before the context closes.
+ */
+@Slf4j
+@Component
+public class OilTonnageWriteBehind {
+
+    @Autowired
+    private OilTonnageRepository oilTonnageRepository;
+
+    @Autowired
+    private TonnageRollupService rollupService;
+
+    @Autowired
+    private ThreadFactory backgroundThreadFactory;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${bulkstream.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${bulkstream.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${bulkstream.write-behind.batch-size:200}")
+    private int batchSize;
+
+    @Value("${bulkstream.write-behind.flush-interval-ms:50}")
+    private long flushIntervalMs;
+
+    @Value("${bulkstream.write-behind.offer-timeout-ms:100}")
+    private long offerTimeoutMs;
+
+    private BlockingQueue<OilTonnage> queue;
+    private Thread writer;
+    private volatile boolean running;
+    // enqueue checks running and offers under the read lock; stop clears running under the write lock
+    private final ReadWriteLock runningLock = new ReentrantReadWriteLock();
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong savedByCaller = new AtomicLong();
+    private final AtomicLong flushedRows = new AtomicLong();
+    private final AtomicLong failedRows = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong totalFlushNanos = new AtomicLong();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+    private volatile long lastFlushNanos;
+
+    public OilTonnageWriteBehind(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writer = backgroundThreadFactory.newThread(this::run);
+        writer.setName("oil-tonnage-write-behind");
+        writer.start();
+        log.info("Oil tonnage write-behind enabled: capacity {}, batch size {}", queueCapacity, batchSize);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues a copy of the row for saving; the caller keeps the original, which
+     * therefore has no id. Falls back to a synchronous save if the queue stays
+     * full for offer-timeout-ms or the writer has stopped.
+     */
+    public void enqueue(OilTonnage oilTonnage) {
+        OilTonnage copy = copyOf(oilTonnage);
+        runningLock.readLock().lock();
+        try {
+            if (running && queue.offer(copy, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                enqueued.incrementAndGet();
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            runningLock.readLock().unlock();
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            oilTonnageRepository.save(copy);
+            rollupService.record(List.of(copy));
+        });
+        savedByCaller.incrementAndGet();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        // Once running is false no enqueue can add to the queue; the writer keeps going until it is empty
+        runningLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            runningLock.writeLock().unlock();
+        }
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+
+        // Whatever the writer did not get to (it was interrupted or timed out) is saved here
+        List<OilTonnage> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    public WriteBehindStats stats() {
+        long flushCount = flushes.get();
+        return new WriteBehindStats(
+                enabled,
+                queue == null ? 0 : queue.size(),
+                queueCapacity,
+                enqueued.get(),
+                savedByCaller.get(),
+                flushedRows.get(),
+                failedRows.get(),
+                flushCount,
+                toMillis(lastFlushNanos),
+                flushCount == 0 ? 0 : toMillis(totalFlushNanos.get() / flushCount),
+                toMillis(maxFlushNanos.get()));
+    }
+
+    private void run() {
+        List<OilTonnage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                OilTonnage first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                log.warn("Oil tonnage write-behind interrupted with {} rows queued", queue.size());
+                return;
+            } catch (RuntimeException e) {
+                log.error("Oil tonnage write-behind flush failed", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<OilTonnage> batch) {
+        long start = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                oilTonnageRepository.saveAll(batch);
+                rollupService.record(batch);
+            });
+            flushedRows.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            // Save one by one so a single bad row does not lose the rest of the batch
+            log.warn("Batch of {} oil tonnages failed, retrying individually: {}", batch.size(), e.getMessage());
+            for (OilTonnage oilTonnage : batch) {
+                try {
+                    oilTonnage.setId(null);
+                    transactionTemplate.executeWithoutResult(status -> {
+                        oilTonnageRepository.save(oilTonnage);
+                        rollupService.record(List.of(oilTonnage));
+                    });
+                    flushedRows.incrementAndGet();
+                } catch (RuntimeException rowError) {
+                    failedRows.incrementAndGet();
+                    log.error("Dropping oil tonnage {} after failed save", oilTonnage, rowError);
+                }
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        flushes.incrementAndGet();
+        totalFlushNanos.addAndGet(elapsed);
+        maxFlushNanos.accumulateAndGet(elapsed, Math::max);
+        lastFlushNanos = elapsed;
+    }
+
+    private static OilTonnage copyOf(OilTonnage source) {
+        OilTonnage copy = new OilTonnage();
+        copy.setVolume(source.getVolume());
+        copy.setDensity(source.getDensity());
+        copy.setTemperature(source.getTemperature());
+        copy.setVcf(source.getVcf());
+        copy.setTonnage(source.getTonnage());
+        copy.setCalculationDate(source.getCalculationDate());
+        copy.setVcfMethod(source.getVcfMethod());
+        copy.setVcfTable(source.getVcfTable());
+        copy.setVcfTableVersion(source.getVcfTableVersion());
+        return copy;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
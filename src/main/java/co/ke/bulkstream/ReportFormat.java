@@ -0,0 +1,36 @@
+package co.ke.bulkstream;
+
+/**
+ * Output formats of the report export.
+ */
+public enum ReportFormat {
+    PDF("application/pdf", "pdf"),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String contentType;
+    private final String extension;
+
+    ReportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ReportFormat fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return PDF;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid format: " + value + ". Must be one of: pdf, xlsx");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package co.ke.bulkstream;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupRebuildResult {
+    private long sourceRows; // oil_tonnages rows aggregated
+    private int rollupRows; // (day, density band) rows written
+    private int chunks;
+    private long elapsedMillis;
+}
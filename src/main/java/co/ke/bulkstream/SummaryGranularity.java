@@ -0,0 +1,22 @@
+package co.ke.bulkstream;
+
+/**
+ * Period length of a tonnage summary. Months and years are derived from the
+ * daily rollups.
+ */
+public enum SummaryGranularity {
+    DAY,
+    MONTH,
+    YEAR;
+
+    public static SummaryGranularity fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return DAY;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid granularity: " + value + ". Must be one of: day, month, year");
+        }
+    }
+}
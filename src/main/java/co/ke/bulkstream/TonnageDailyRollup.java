@@ -0,0 +1,45 @@
+package co.ke.bulkstream;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Running totals of oil_tonnages per calendar day and density band, folded in
+ * by {@link TonnageRollupService} from the {@link TonnageRollupDelta} rows that
+ * inserts append.
+ */
+@Entity
+@Table(name = "oil_tonnage_daily_rollups")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TonnageDailyRollup {
+    @EmbeddedId
+    private Key id;
+    private long rowCount;
+    private Double sumVolume;
+    private Double sumTonnage;
+    private Double minTemperature;
+    private Double maxTemperature;
+    private Double minDensity;
+    private Double maxDensity;
+
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        @Column(name = "rollup_date")
+        private LocalDate rollupDate;
+        @Column(name = "density_band")
+        private Double densityBand; // Lower bound of the band, see bulkstream.rollup.density-band-width
+    }
+}
@@ -0,0 +1,40 @@
+package co.ke.bulkstream;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Totals of one inserting transaction for one (day, density band), appended by
+ * {@link TonnageRollupService#record} and later folded into
+ * {@link TonnageDailyRollup}. Rows are only ever inserted by writers, so
+ * concurrent transactions never wait on each other's rollup rows.
+ */
+@Entity
+@Table(name = "oil_tonnage_rollup_deltas", indexes = {
+        @Index(name = "idx_rollup_deltas_date", columnList = "rollupDate")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TonnageRollupDelta {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private LocalDate rollupDate;
+    private Double densityBand;
+    private long rowCount;
+    private Double sumVolume;
+    private Double sumTonnage;
+    private Double minTemperature;
+    private Double maxTemperature;
+    private Double minDensity;
+    private Double maxDensity;
+}
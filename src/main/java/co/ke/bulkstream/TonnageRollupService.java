@@ -0,0 +1,405 @@
+package co.ke.bulkstream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Maintains {@link TonnageDailyRollup} rows and answers summary queries from them.
+ *
+ * Every code path that inserts oil_tonnages calls {@link #record} in the same
+ * transaction. The rows are totalled in memory per (day, density band) and
+ * appended to oil_tonnage_rollup_deltas, so inserting transactions never update
+ * a shared rollup row. A scheduled fold merges the deltas into the rollup table
+ * one batch at a time, in key order, from a single thread. Summaries add the
+ * deltas that have not been folded yet, so they are exact at any time.
+ */
+@Slf4j
+@Service
+public class TonnageRollupService {
+
+    // Adds a pre-aggregated group to its rollup row, creating the row if needed
+    private static final String MERGE_SQL =
+            "MERGE INTO oil_tonnage_daily_rollups r " +
+            "USING (VALUES (CAST(? AS DATE), CAST(? AS DOUBLE PRECISION), CAST(? AS BIGINT), " +
+            "CAST(? AS DOUBLE PRECISION), CAST(? AS DOUBLE PRECISION), CAST(? AS DOUBLE PRECISION), " +
+            "CAST(? AS DOUBLE PRECISION), CAST(? AS DOUBLE PRECISION), CAST(? AS DOUBLE PRECISION))) " +
+            "AS s(rollup_date, density_band, row_count, sum_volume, sum_tonnage, " +
+            "min_temperature, max_temperature, min_density, max_density) " +
+            "ON r.rollup_date = s.rollup_date AND r.density_band = s.density_band " +
+            "WHEN MATCHED THEN UPDATE SET " +
+            "row_count = r.row_count + s.row_count, " +
+            "sum_volume = r.sum_volume + s.sum_volume, " +
+            "sum_tonnage = r.sum_tonnage + s.sum_tonnage, " +
+            "min_temperature = LEAST(r.min_temperature, s.min_temperature), " +
+            "max_temperature = GREATEST(r.max_temperature, s.max_temperature), " +
+            "min_density = LEAST(r.min_density, s.min_density), " +
+            "max_density = GREATEST(r.max_density, s.max_density) " +
+            "WHEN NOT MATCHED THEN INSERT (rollup_date, density_band, row_count, sum_volume, sum_tonnage, " +
+            "min_temperature, max_temperature, min_density, max_density) " +
+            "VALUES (s.rollup_date, s.density_band, s.row_count, s.sum_volume, s.sum_tonnage, " +
+            "s.min_temperature, s.max_temperature, s.min_density, s.max_density)";
+
+    private static final String DELTA_INSERT_SQL =
+            "INSERT INTO oil_tonnage_rollup_deltas (rollup_date, density_band, row_count, sum_volume, sum_tonnage, " +
+            "min_temperature, max_temperature, min_density, max_density) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String DELTA_SELECT_SQL =
+            "SELECT id, rollup_date, density_band, row_count, sum_volume, sum_tonnage, " +
+            "min_temperature, max_temperature, min_density, max_density " +
+            "FROM oil_tonnage_rollup_deltas ORDER BY id FETCH FIRST ? ROWS ONLY";
+
+    // Folded rollups plus the deltas not folded yet, read in one statement: H2 runs
+    // it against a single snapshot, so a fold committing meanwhile is seen either
+    // entirely or not at all
+    private static final String SUMMARY_SQL =
+            "SELECT rollup_date, density_band, SUM(row_count) AS row_count, SUM(sum_volume) AS sum_volume, " +
+            "SUM(sum_tonnage) AS sum_tonnage, MIN(min_temperature) AS min_temperature, " +
+            "MAX(max_temperature) AS max_temperature, MIN(min_density) AS min_density, " +
+            "MAX(max_density) AS max_density FROM (" +
+            "SELECT rollup_date, density_band, row_count, sum_volume, sum_tonnage, " +
+            "min_temperature, max_temperature, min_density, max_density " +
+            "FROM oil_tonnage_daily_rollups WHERE rollup_date BETWEEN ? AND ? " +
+            "UNION ALL " +
+            "SELECT rollup_date, density_band, row_count, sum_volume, sum_tonnage, " +
+            "min_temperature, max_temperature, min_density, max_density " +
+            "FROM oil_tonnage_rollup_deltas WHERE rollup_date BETWEEN ? AND ?" +
+            ") AS t GROUP BY rollup_date, density_band ORDER BY rollup_date, density_band";
+
+    // Fixed lock order between rollup rows, so two writers can never deadlock on them
+    private static final Comparator<TonnageDailyRollup.Key> KEY_ORDER =
+            Comparator.comparing(TonnageDailyRollup.Key::getRollupDate)
+                    .thenComparing(TonnageDailyRollup.Key::getDensityBand);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO oil_tonnage_daily_rollups (rollup_date, density_band, row_count, sum_volume, sum_tonnage, " +
+            "min_temperature, max_temperature, min_density, max_density) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ThreadFactory backgroundThreadFactory;
+
+    private final TransactionTemplate transactionTemplate;
+
+    // Inserting transactions hold the read lock from record() until they complete;
+    // a rebuild holds the write lock, so it sees every committed row exactly once.
+    // Fair, so a steady stream of inserts cannot hold a rebuild off indefinitely.
+    private final ReadWriteLock ingestLock = new ReentrantReadWriteLock(true);
+
+    // Changing the width only affects new rows until the rollups are rebuilt
+    @Value("${bulkstream.rollup.density-band-width:10}")
+    private double densityBandWidth;
+
+    @Value("${bulkstream.rollup.rebuild-chunk-rows:100000}")
+    private long rebuildChunkRows;
+
+    @Value("${bulkstream.rollup.rebuild-threads:4}")
+    private int rebuildThreads;
+
+    @Value("${bulkstream.rollup.fold-batch-rows:1000}")
+    private int foldBatchRows;
+
+    public TonnageRollupService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Adds newly inserted rows to the rollups. Call inside the transaction that
+     * inserts them so both commit or roll back together. Waits while a rebuild
+     * is running.
+     */
+    public void record(Collection<OilTonnage> inserted) {
+        Map<TonnageDailyRollup.Key, Totals> groups = new TreeMap<>(KEY_ORDER);
+        for (OilTonnage row : inserted) {
+            if (row.getCalculationDate() == null || row.getDensity() == null) {
+                continue;
+            }
+            TonnageDailyRollup.Key key = new TonnageDailyRollup.Key(
+                    row.getCalculationDate().toLocalDate(), band(row.getDensity()));
+            groups.computeIfAbsent(key, k -> new Totals()).add(row);
+        }
+        if (groups.isEmpty()) {
+            return;
+        }
+
+        Lock lock = ingestLock.readLock();
+        lock.lock();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            try {
+                jdbcTemplate.batchUpdate(DELTA_INSERT_SQL, toBatchArgs(groups));
+            } finally {
+                lock.unlock();
+            }
+            return;
+        }
+        // Released on the committing thread once the rows are visible, or rolled back
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+        jdbcTemplate.batchUpdate(DELTA_INSERT_SQL, toBatchArgs(groups));
+    }
+
+    /**
+     * Folds pending deltas into the rollup table until none are left.
+     */
+    @Scheduled(fixedDelayString = "${bulkstream.rollup.fold-interval-ms:1000}")
+    public void foldPending() {
+        try {
+            int folded;
+            do {
+                folded = fold();
+            } while (folded == foldBatchRows);
+        } catch (RuntimeException e) {
+            log.error("Tonnage rollup fold failed", e);
+        }
+    }
+
+    /**
+     * Merges the oldest pending deltas into the rollup table and deletes them,
+     * in one transaction.
+     *
+     * @return the number of deltas folded
+     */
+    synchronized int fold() {
+        Integer folded = transactionTemplate.execute(status -> {
+            List<Object[]> ids = new ArrayList<>(foldBatchRows);
+            Map<TonnageDailyRollup.Key, Totals> groups = new TreeMap<>(KEY_ORDER);
+            jdbcTemplate.query(DELTA_SELECT_SQL, rs -> {
+                ids.add(new Object[] { rs.getLong("id") });
+                groups.merge(key(rs), totals(rs), Totals::merge);
+            }, foldBatchRows);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            jdbcTemplate.batchUpdate(MERGE_SQL, toBatchArgs(groups));
+            jdbcTemplate.batchUpdate("DELETE FROM oil_tonnage_rollup_deltas WHERE id = ?", ids);
+            return ids.size();
+        });
+        return folded == null ? 0 : folded;
+    }
+
+    public List<TonnageSummary> summary(LocalDate from, LocalDate to, SummaryGranularity granularity) {
+        Map<TonnageDailyRollup.Key, Totals> days = new LinkedHashMap<>();
+        jdbcTemplate.query(SUMMARY_SQL, rs -> {
+            days.put(key(rs), totals(rs));
+        }, Date.valueOf(from), Date.valueOf(to), Date.valueOf(from), Date.valueOf(to));
+
+        Map<String, TonnageSummary> periods = new LinkedHashMap<>();
+        days.forEach((key, day) -> {
+            String period = period(key.getRollupDate(), granularity);
+            Double band = key.getDensityBand();
+            TonnageSummary summary = periods.computeIfAbsent(period + "|" + band, k -> {
+                TonnageSummary s = new TonnageSummary();
+                s.setPeriod(period);
+                s.setDensityBand(band);
+                return s;
+            });
+            summary.setCount(summary.getCount() + day.count);
+            summary.setSumVolume(summary.getSumVolume() + day.sumVolume);
+            summary.setSumTonnage(summary.getSumTonnage() + day.sumTonnage);
+            summary.setMinTemperature(min(summary.getMinTemperature(), day.minTemperature));
+            summary.setMaxTemperature(max(summary.getMaxTemperature(), day.maxTemperature));
+            summary.setMinDensity(min(summary.getMinDensity(), day.minDensity));
+            summary.setMaxDensity(max(summary.getMaxDensity(), day.maxDensity));
+        });
+        List<TonnageSummary> result = new ArrayList<>(periods.values());
+        // Rows arrive by day then band; months/years need re-sorting by band within a period
+        result.sort((a, b) -> {
+            int byPeriod = a.getPeriod().compareTo(b.getPeriod());
+            return byPeriod != 0 ? byPeriod : Double.compare(a.getDensityBand(), b.getDensityBand());
+        });
+        return result;
+    }
+
+    /**
+     * Recomputes every rollup row from oil_tonnages. The table is split into id
+     * ranges that are aggregated in parallel, merged in memory and written in one
+     * transaction together with the removal of all pending deltas. Inserting
+     * transactions wait in {@link #record} until the rebuild has finished, and
+     * the rebuild waits for those already past it to complete, so every row is
+     * counted exactly once.
+     */
+    public synchronized RollupRebuildResult rebuild() {
+        ingestLock.writeLock().lock();
+        try {
+            return rebuildLocked();
+        } finally {
+            ingestLock.writeLock().unlock();
+        }
+    }
+
+    private RollupRebuildResult rebuildLocked() {
+        long start = System.currentTimeMillis();
+        Map<String, Object> bounds = jdbcTemplate.queryForMap(
+                "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM oil_tonnages");
+        Map<TonnageDailyRollup.Key, Totals> groups = new TreeMap<>(KEY_ORDER);
+        int chunks = 0;
+
+        if (bounds.get("min_id") != null) {
+            long minId = ((Number) bounds.get("min_id")).longValue();
+            long maxId = ((Number) bounds.get("max_id")).longValue();
+            List<CompletableFuture<Map<TonnageDailyRollup.Key, Totals>>> futures = new ArrayList<>();
+            // Fixed size even on virtual threads: each chunk holds a connection
+            ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, rebuildThreads), backgroundThreadFactory);
+            try {
+                for (long lower = minId; lower <= maxId; lower += rebuildChunkRows) {
+                    long fromId = lower;
+                    long toId = Math.min(lower + rebuildChunkRows, maxId + 1);
+                    futures.add(CompletableFuture.supplyAsync(() -> aggregateRange(fromId, toId), executor));
+                }
+                for (CompletableFuture<Map<TonnageDailyRollup.Key, Totals>> future : futures) {
+                    future.join().forEach((key, totals) -> groups.merge(key, totals, Totals::merge));
+                }
+            } finally {
+                executor.shutdown();
+            }
+            chunks = futures.size();
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM oil_tonnage_daily_rollups");
+            // Every committed row is in the new totals, including those the deltas were for
+            jdbcTemplate.update("DELETE FROM oil_tonnage_rollup_deltas");
+            if (!groups.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, toBatchArgs(groups));
+            }
+        });
+
+        long sourceRows = groups.values().stream().mapToLong(t -> t.count).sum();
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("Rebuilt {} tonnage rollups from {} rows in {} chunks ({} ms)",
+                groups.size(), sourceRows, chunks, elapsed);
+        return new RollupRebuildResult(sourceRows, groups.size(), chunks, elapsed);
+    }
+
+    private Map<TonnageDailyRollup.Key, Totals> aggregateRange(long fromId, long toId) {
+        // Same band arithmetic as band(); the width is a configured number, not user input
+        String bandExpression = "FLOOR(density / " + densityBandWidth + ") * " + densityBandWidth;
+        String sql = "SELECT CAST(calculation_date AS DATE) AS rollup_date, " + bandExpression + " AS density_band, " +
+                "COUNT(*) AS row_count, SUM(volume) AS sum_volume, SUM(tonnage) AS sum_tonnage, " +
+                "MIN(temperature) AS min_temperature, MAX(temperature) AS max_temperature, " +
+                "MIN(density) AS min_density, MAX(density) AS max_density " +
+                "FROM oil_tonnages WHERE id >= ? AND id < ? " +
+                "AND calculation_date IS NOT NULL AND density IS NOT NULL " +
+                "GROUP BY CAST(calculation_date AS DATE), " + bandExpression;
+
+        Map<TonnageDailyRollup.Key, Totals> groups = new LinkedHashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            groups.merge(key(rs), totals(rs), Totals::merge);
+        }, fromId, toId);
+        return groups;
+    }
+
+    private static TonnageDailyRollup.Key key(ResultSet rs) throws SQLException {
+        return new TonnageDailyRollup.Key(rs.getDate("rollup_date").toLocalDate(), rs.getDouble("density_band"));
+    }
+
+    private static Totals totals(ResultSet rs) throws SQLException {
+        Totals totals = new Totals();
+        totals.count = rs.getLong("row_count");
+        totals.sumVolume = rs.getDouble("sum_volume");
+        totals.sumTonnage = rs.getDouble("sum_tonnage");
+        totals.minTemperature = rs.getObject("min_temperature", Double.class);
+        totals.maxTemperature = rs.getObject("max_temperature", Double.class);
+        totals.minDensity = rs.getObject("min_density", Double.class);
+        totals.maxDensity = rs.getObject("max_density", Double.class);
+        return totals;
+    }
+
+    double band(double density) {
+        return Math.floor(density / densityBandWidth) * densityBandWidth;
+    }
+
+    private static List<Object[]> toBatchArgs(Map<TonnageDailyRollup.Key, Totals> groups) {
+        List<Object[]> args = new ArrayList<>(groups.size());
+        groups.forEach((key, t) -> args.add(new Object[] {
+                Date.valueOf(key.getRollupDate()), key.getDensityBand(), t.count, t.sumVolume, t.sumTonnage,
+                t.minTemperature, t.maxTemperature, t.minDensity, t.maxDensity }));
+        return args;
+    }
+
+    private static String period(LocalDate day, SummaryGranularity granularity) {
+        return switch (granularity) {
+            case DAY -> day.toString();
+            case MONTH -> day.toString().substring(0, 7);
+            case YEAR -> String.valueOf(day.getYear());
+        };
+    }
+
+    private static double nullToZero(Double value) {
+        return value == null ? 0 : value;
+    }
+
+    private static Double min(Double a, Double b) {
+        return a == null ? b : b == null ? a : Double.valueOf(Math.min(a, b));
+    }
+
+    private static Double max(Double a, Double b) {
+        return a == null ? b : b == null ? a : Double.valueOf(Math.max(a, b));
+    }
+
+    /**
+     * Mutable totals for one (day, density band) group.
+     */
+    private static final class Totals {
+        long count;
+        double sumVolume;
+        double sumTonnage;
+        Double minTemperature;
+        Double maxTemperature;
+        Double minDensity;
+        Double maxDensity;
+
+        void add(OilTonnage row) {
+            count++;
+            sumVolume += nullToZero(row.getVolume());
+            sumTonnage += nullToZero(row.getTonnage());
+            minTemperature = min(minTemperature, row.getTemperature());
+            maxTemperature = max(maxTemperature, row.getTemperature());
+            minDensity = min(minDensity, row.getDensity());
+            maxDensity = max(maxDensity, row.getDensity());
+        }
+
+        Totals merge(Totals other) {
+            count += other.count;
+            sumVolume += other.sumVolume;
+            sumTonnage += other.sumTonnage;
+            minTemperature = min(minTemperature, other.minTemperature);
+            maxTemperature = max(maxTemperature, other.maxTemperature);
+            minDensity = min(minDensity, other.minDensity);
+            maxDensity = max(maxDensity, other.maxDensity);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package co.ke.bulkstream;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TonnageSummary {
+    private String period; // 2025-06-12, 2025-06 or 2025 depending on granularity
+    private Double densityBand;
+    private long count;
+    private double sumVolume;
+    private double sumTonnage;
+    private Double minTemperature;
+    private Double maxTemperature;
+    private Double minDensity;
+    private Double maxDensity;
+}
@@ -0,0 +1,30 @@
+package co.ke.bulkstream;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registry of the VCF tables held in vcftable: one row per table with the
+ * current version of its data. The checksum lets the bundled dataset be
+ * skipped at startup while it is unchanged, and tags the grid snapshot files.
+ */
+@Entity
+@Table(name = "vcf_dataset")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VcfDataset {
+    @Id
+    private String name;
+    private Integer version; // Incremented on every load of new data
+    private String source; // Where the data came from: the bundled resource or "upload"
+    private String checksum; // SHA-256 of the CSV, hex
+    private Integer rowCount;
+    private LocalDateTime loadedAt;
+}
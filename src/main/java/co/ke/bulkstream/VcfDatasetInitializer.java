@@ -0,0 +1,18 @@
+package co.ke.bulkstream;
+
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class VcfDatasetInitializer {
+
+    /**
+     * Fills vcftable from the bundled dataset on first start, or when the dataset
+     * has changed since the last load, and warms every VCF table in the grid.
+     */
+    @Bean
+    public CommandLineRunner loadVcfDataset(VcfDatasetLoader vcfDatasetLoader) {
+        return args -> vcfDatasetLoader.loadAtStartup();
+    }
+}
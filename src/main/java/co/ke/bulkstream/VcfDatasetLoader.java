@@ -0,0 +1,260 @@
+package co.ke.bulkstream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Loads VCF tables into vcftable from CSV ({@code density,temperature,vcf} in
+ * any column order, other columns such as id are ignored), and keeps
+ * {@link VcfGrid} in step.
+ *
+ * The bundled dataset is loaded at startup under {@code bulkstream.vcf.dataset.name}.
+ * Its SHA-256 is kept in vcf_dataset; while it matches and vcftable still holds
+ * the recorded number of rows, nothing is written. Once an admin has uploaded
+ * a table of the same name, the bundled dataset no longer replaces it.
+ *
+ * A load replaces the rows of one table in a single transaction with batched
+ * JDBC inserts and bumps the table's version; the grid is then built from the
+ * rows just parsed, without reading them back. Tables that were not loaded are
+ * served from their snapshot files, or read from the database when there is no
+ * usable snapshot.
+ */
+@Slf4j
+@Service
+public class VcfDatasetLoader {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO vcftable (id, density, temperature, vcf, table_name) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String SOURCE_BUNDLED = "bundled";
+    private static final String SOURCE_UPLOAD = "upload";
+
+    // Also used as the snapshot file name
+    private static final Pattern TABLE_NAME = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private VcfDatasetRepository vcfDatasetRepository;
+
+    @Autowired
+    private VcftableRepository vcftableRepository;
+
+    @Autowired
+    private VcfGrid vcfGrid;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${bulkstream.vcf.dataset.name:table60b}")
+    private String datasetName;
+
+    @Value("${bulkstream.vcf.dataset.location:classpath:vcf/table60b.csv}")
+    private Resource datasetResource;
+
+    @Value("${bulkstream.vcf.dataset.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${bulkstream.vcf.upload.max-bytes:10485760}")
+    private int maxUploadBytes;
+
+    public VcfDatasetLoader(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Loads the bundled dataset unless the database already holds this version
+     * of it, then warms every registered table.
+     */
+    public synchronized void loadAtStartup() throws IOException {
+        long start = System.nanoTime();
+        byte[] csv;
+        try (InputStream in = datasetResource.getInputStream()) {
+            csv = in.readAllBytes();
+        }
+        String checksum = checksum(csv);
+        VcfDataset current = vcfDatasetRepository.findById(datasetName).orElse(null);
+
+        boolean bundledLoaded = false;
+        if (current == null || (SOURCE_BUNDLED.equals(current.getSource())
+                && (!checksum.equals(current.getChecksum())
+                        || vcftableRepository.countByTableName(datasetName) != current.getRowCount()))) {
+            replace(datasetName, SOURCE_BUNDLED, checksum, parse(csv, datasetResource.getDescription()));
+            bundledLoaded = true;
+        } else {
+            log.info("VCF dataset {} unchanged, load skipped", datasetName);
+        }
+
+        for (VcfDataset dataset : vcfDatasetRepository.findAll()) {
+            if (bundledLoaded && dataset.getName().equals(datasetName)) {
+                continue;
+            }
+            if (!vcfGrid.openSnapshot(dataset)) {
+                vcfGrid.reload(dataset);
+            }
+        }
+        log.info("VCF tables ready in {} ms", elapsedMillis(start));
+    }
+
+    /**
+     * Replaces the named table (creating it if needed) with the uploaded CSV as
+     * its next version. Lookups keep using the previous version until the new
+     * one has been committed and built, then switch over in one step. Uploading
+     * the data the table already holds changes nothing.
+     *
+     * @return the table as now loaded
+     * @throws IllegalArgumentException for a bad name, an oversized upload or bad CSV
+     */
+    public synchronized VcfTableMetadata upload(String name, InputStream in) throws IOException {
+        if (name == null || !TABLE_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Table name must be 1 to 64 letters, digits, '-' or '_'");
+        }
+        byte[] csv = in.readNBytes(maxUploadBytes + 1);
+        if (csv.length > maxUploadBytes) {
+            throw new IllegalArgumentException("VCF table larger than " + maxUploadBytes + " bytes");
+        }
+        String checksum = checksum(csv);
+        VcfDataset current = vcfDatasetRepository.findById(name).orElse(null);
+        if (current == null || !checksum.equals(current.getChecksum()) || !vcfGrid.hasTable(name)) {
+            List<Vcftable> rows = parse(csv, "Upload");
+            if (rows.isEmpty()) {
+                throw new IllegalArgumentException("VCF table has no rows");
+            }
+            replace(name, SOURCE_UPLOAD, checksum, rows);
+        }
+        return vcfGrid.table(name).metadata();
+    }
+
+    private void replace(String name, String source, String checksum, List<Vcftable> rows) {
+        long start = System.nanoTime();
+        VcfDataset dataset = transactionTemplate.execute(status -> {
+            VcfDataset previous = vcfDatasetRepository.findById(name).orElse(null);
+            jdbcTemplate.update("DELETE FROM vcftable WHERE table_name = ?", name);
+            if (previous == null && name.equals(datasetName)) {
+                // Rows from before tables had names (import.sql) are the bundled table;
+                // its first recorded load replaces them, so this runs once per database
+                jdbcTemplate.update("DELETE FROM vcftable WHERE table_name IS NULL");
+            }
+            // vcftable ids are assigned, not generated
+            long nextId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM vcftable", Long.class);
+            for (Vcftable row : rows) {
+                row.setId(nextId++);
+                row.setTableName(name);
+            }
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows, batchSize, (ps, row) -> {
+                ps.setLong(1, row.getId());
+                ps.setDouble(2, row.getDensity());
+                ps.setDouble(3, row.getTemperature());
+                ps.setDouble(4, row.getVcf());
+                ps.setString(5, row.getTableName());
+            });
+            int version = previous == null ? 1 : previous.getVersion() + 1;
+            return vcfDatasetRepository.save(
+                    new VcfDataset(name, version, source, checksum, rows.size(), LocalDateTime.now()));
+        });
+
+        rows.sort(Comparator.comparingDouble(Vcftable::getDensity)
+                .thenComparingDouble(Vcftable::getTemperature)
+                .thenComparingLong(Vcftable::getId));
+        vcfGrid.load(dataset, rows);
+        log.info("VCF table {} v{} stored: {} rows in {} ms", name, dataset.getVersion(), rows.size(),
+                elapsedMillis(start));
+    }
+
+    private static String checksum(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // Every JRE has SHA-256
+        }
+    }
+
+    private static List<Vcftable> parse(byte[] csv, String description) throws IOException {
+        List<Vcftable> rows = new ArrayList<>(16384);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ByteArrayInputStream(csv), StandardCharsets.UTF_8))) {
+            String header = reader.readLine();
+            int[] columns = columns(header, description);
+            String line;
+            long lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] cells = line.split(",", -1);
+                Vcftable row = new Vcftable();
+                row.setDensity(number(cells, columns[0], description, lineNumber));
+                row.setTemperature(number(cells, columns[1], description, lineNumber));
+                row.setVcf(number(cells, columns[2], description, lineNumber));
+                if (row.getVcf() <= 0) {
+                    throw new IllegalArgumentException(description + " line " + lineNumber + ": vcf must be positive");
+                }
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Positions of the density, temperature and vcf columns, read from the header.
+     */
+    private static int[] columns(String header, String description) {
+        int[] columns = { -1, -1, -1 };
+        if (header != null) {
+            String[] cells = header.split(",", -1);
+            for (int i = 0; i < cells.length; i++) {
+                switch (cells[i].trim().toLowerCase()) {
+                    case "density" -> columns[0] = i;
+                    case "temperature" -> columns[1] = i;
+                    case "vcf" -> columns[2] = i;
+                    default -> {
+                    }
+                }
+            }
+        }
+        if (columns[0] < 0 || columns[1] < 0 || columns[2] < 0) {
+            throw new IllegalArgumentException(
+                    description + ": CSV header must name the density, temperature and vcf columns");
+        }
+        return columns;
+    }
+
+    private static double number(String[] cells, int column, String description, long lineNumber) {
+        String cell = column < cells.length ? cells[column].trim() : "";
+        try {
+            double value = Double.parseDouble(cell);
+            if (Double.isFinite(value)) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException(description + " line " + lineNumber + ": invalid number '" + cell + "'");
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,8 @@
+package co.ke.bulkstream;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface VcfDatasetRepository extends JpaRepository<VcfDataset, String> {
+}
@@ -0,0 +1,477 @@
+package co.ke.bulkstream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory copies of the VCF tables used for VCF lookups, one per table
+ * registered in vcf_dataset (e.g. ASTM 60B for crude, 60A/60D for products
+ * and lubricants).
+ *
+ * Each table is held as primitive arrays: a sorted density axis, and for every
+ * density a sorted slice of a flat temperature/VCF array (not every density has
+ * every temperature step, so the rows are addressed through offsets rather than
+ * a fixed row width). Nearest lookups are two binary searches and allocate
+ * nothing; bilinear lookups are four.
+ *
+ * Tables are immutable once built. Loading a new version builds a new
+ * {@link Snapshot} next to the old one and swaps the table map in one volatile
+ * write, so lookups never wait on a load and a calculation that already holds
+ * a snapshot finishes against the version it started with.
+ *
+ * The tables are warmed at startup by {@link VcfDatasetLoader} and rebuilt
+ * lazily after a {@link VcftableChangedEvent}. Every table built from table
+ * data is also written to a snapshot file ({@link VcfGridFile}), tagged with
+ * the checksum of the dataset it came from. On the next start the file is
+ * memory-mapped and served directly when the checksum still matches; a change
+ * to vcftable deletes the file, so a stale copy is never mapped.
+ */
+@Slf4j
+@Component
+public class VcfGrid {
+
+    @Autowired
+    private VcftableRepository vcftableRepository;
+
+    @Autowired
+    private VcfDatasetRepository vcfDatasetRepository;
+
+    @Value("${bulkstream.vcf.default-table:table60b}")
+    private String defaultTable;
+
+    @Value("${bulkstream.vcf.snapshot.enabled:true}")
+    private boolean snapshotEnabled;
+
+    @Value("${bulkstream.vcf.snapshot.dir:${user.dir}/H2/vcf-grids}")
+    private String snapshotDir;
+
+    // Replaced as a whole and never modified, so lookups need no lock
+    private volatile Map<String, Snapshot> tables = Map.of();
+    private volatile boolean stale;
+    private long version;
+
+    /**
+     * Nearest lookup in the default table; see {@link Snapshot#nearestVcf}.
+     */
+    public double nearestVcf(double density, double temperature) {
+        return table(null).nearestVcf(density, temperature);
+    }
+
+    /**
+     * Bilinear lookup in the default table; see {@link Snapshot#interpolateVcf}.
+     */
+    public VcfEstimate interpolateVcf(double density, double temperature) {
+        return table(null).interpolateVcf(density, temperature);
+    }
+
+    /**
+     * The current version of a table. Callers that need several lookups, or the
+     * table version, to agree should take the snapshot once and use it throughout.
+     *
+     * @param name table name, or null/blank for the default table
+     * @throws ResourceNotFoundException when no such table is loaded
+     */
+    public Snapshot table(String name) {
+        String tableName = name == null || name.isBlank() ? defaultTable : name;
+        Snapshot s = current().get(tableName);
+        if (s == null) {
+            throw new ResourceNotFoundException("VCF table not found: " + tableName);
+        }
+        return s;
+    }
+
+    public boolean hasTable(String name) {
+        return current().containsKey(name == null || name.isBlank() ? defaultTable : name);
+    }
+
+    public String defaultTable() {
+        return defaultTable;
+    }
+
+    public int rowCount() {
+        return table(null).cells;
+    }
+
+    /**
+     * Build counter of the default table; see {@link Snapshot#version()}.
+     */
+    public long version() {
+        return table(null).version;
+    }
+
+    public VcfTableMetadata metadata() {
+        return table(null).metadata();
+    }
+
+    /**
+     * Metadata of every loaded table, by name.
+     */
+    public List<VcfTableMetadata> allMetadata() {
+        List<VcfTableMetadata> metadata = new ArrayList<>();
+        for (Snapshot s : current().values()) {
+            metadata.add(s.metadata());
+        }
+        metadata.sort(Comparator.comparing(VcfTableMetadata::getName));
+        return metadata;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVcftableChanged(VcftableChangedEvent event) {
+        stale = true;
+        if (!snapshotEnabled) {
+            return;
+        }
+        try {
+            if (event.getSource() instanceof Vcftable row && row.getTableName() != null) {
+                Files.deleteIfExists(snapshotPath(row.getTableName()));
+            } else if (Files.isDirectory(Paths.get(snapshotDir))) {
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(Paths.get(snapshotDir), "*.bin")) {
+                    for (Path file : files) {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not delete VCF grid snapshot in {}: {}", snapshotDir, e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuilds every table registered in vcf_dataset from the database and swaps
+     * them in atomically.
+     */
+    public synchronized void reload() {
+        // Cleared before reading so a change committed during the load marks it stale again
+        stale = false;
+        Map<String, Snapshot> next = new HashMap<>();
+        for (VcfDataset dataset : vcfDatasetRepository.findAll()) {
+            next.put(dataset.getName(), build(dataset, readRows(dataset.getName())));
+        }
+        tables = Map.copyOf(next);
+    }
+
+    /**
+     * Rebuilds one table from the database.
+     */
+    public synchronized void reload(VcfDataset dataset) {
+        put(build(dataset, readRows(dataset.getName())));
+    }
+
+    /**
+     * Swaps in a table built from rows that are already in hand (sorted by
+     * density, temperature, id) instead of reading them back from the database.
+     */
+    public synchronized void load(VcfDataset dataset, List<Vcftable> sortedRows) {
+        put(build(dataset, sortedRows));
+    }
+
+    /**
+     * Serves a table from its snapshot file if the file was written for this
+     * version of the dataset. Otherwise leaves the table as it is, so the caller
+     * can fall back to {@link #reload(VcfDataset)}, which rewrites the file.
+     *
+     * @return whether the snapshot file is now in use
+     */
+    public synchronized boolean openSnapshot(VcfDataset dataset) {
+        if (!snapshotEnabled) {
+            return false;
+        }
+        Path path = snapshotPath(dataset.getName());
+        Snapshot mapped;
+        try {
+            mapped = VcfGridFile.map(path, dataset.getChecksum(), dataset.getName(), dataset.getVersion(),
+                    version + 1);
+        } catch (IOException e) {
+            log.warn("Could not map VCF grid snapshot {}: {}", path, e.getMessage());
+            return false;
+        }
+        if (mapped == null) {
+            log.info("VCF grid snapshot {} missing or stale", path);
+            return false;
+        }
+        version++;
+        put(mapped);
+        log.info("VCF table {} v{} mapped from {}: {} densities, {} rows", mapped.name, mapped.tableVersion,
+                path, mapped.rows, mapped.cells);
+        return true;
+    }
+
+    private List<Vcftable> readRows(String tableName) {
+        return vcftableRepository.findByTableName(tableName, Sort.by("density", "temperature", "id"));
+    }
+
+    private Snapshot build(VcfDataset dataset, List<Vcftable> sortedRows) {
+        Snapshot s = Snapshot.of(dataset.getName(), dataset.getVersion(), sortedRows, ++version);
+        log.info("VCF table {} v{} loaded: {} densities, {} rows", s.name, s.tableVersion, s.rows, s.cells);
+        if (snapshotEnabled) {
+            Path path = snapshotPath(s.name);
+            try {
+                VcfGridFile.write(path, s, dataset.getChecksum());
+            } catch (IOException e) {
+                log.warn("Could not write VCF grid snapshot {}: {}", path, e.getMessage());
+            }
+        }
+        return s;
+    }
+
+    private void put(Snapshot s) {
+        Map<String, Snapshot> next = new HashMap<>(tables);
+        next.put(s.name, s);
+        tables = Map.copyOf(next);
+    }
+
+    private Path snapshotPath(String tableName) {
+        return Paths.get(snapshotDir, tableName + ".bin");
+    }
+
+    private Map<String, Snapshot> current() {
+        if (stale) {
+            synchronized (this) {
+                if (stale) {
+                    reload();
+                }
+            }
+        }
+        return tables;
+    }
+
+    /**
+     * Index in {@code [from, to)} of the value closest to {@code key}; the lower
+     * index wins a tie. The range must be sorted and non-empty.
+     */
+    static int nearest(DoubleBuffer axis, int from, int to, double key) {
+        int pos = binarySearch(axis, from, to, key);
+        if (pos >= 0) {
+            return pos;
+        }
+        int insertion = -pos - 1;
+        if (insertion == from) {
+            return from;
+        }
+        if (insertion == to) {
+            return to - 1;
+        }
+        return key - axis.get(insertion - 1) <= axis.get(insertion) - key ? insertion - 1 : insertion;
+    }
+
+    /**
+     * Index {@code i} in {@code [from, to - 2]} such that {@code axis[i]} and
+     * {@code axis[i + 1]} bracket {@code key}, or the edge pair when the key is
+     * outside the range. The range must hold at least two values.
+     */
+    static int lowerBracket(DoubleBuffer axis, int from, int to, double key) {
+        int pos = binarySearch(axis, from, to, key);
+        int lower = pos >= 0 ? pos : -pos - 2;
+        return Math.max(from, Math.min(lower, to - 2));
+    }
+
+    /**
+     * {@link Arrays#binarySearch(double[], int, int, double)} over a buffer,
+     * using absolute reads only so the buffer can be shared between threads.
+     */
+    static int binarySearch(DoubleBuffer axis, int from, int to, double key) {
+        int low = from;
+        int high = to - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            double value = axis.get(mid);
+            if (value < key) {
+                low = mid + 1;
+            } else if (value > key) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static double lerp(double x0, double y0, double x1, double y1, double x) {
+        return y0 + (y1 - y0) * (x - x0) / (x1 - x0);
+    }
+
+    /**
+     * Result of {@link Snapshot#interpolateVcf}; {@code extrapolated} is set when
+     * the reading lies outside the table on either axis.
+     */
+    public record VcfEstimate(double vcf, boolean extrapolated) {
+    }
+
+    /**
+     * One immutable version of a VCF table. Row {@code i} of the density axis
+     * owns the cells {@code rowStart[i]} (inclusive) to {@code rowStart[i + 1]}
+     * (exclusive). The buffers wrap heap arrays, or views of a mapped snapshot
+     * file; they are only read with absolute gets, so one snapshot serves every
+     * thread.
+     */
+    public static final class Snapshot {
+
+        final String name;
+        final int tableVersion;
+        final int rows;
+        final int cells;
+        final DoubleBuffer densities;
+        final IntBuffer rowStart;
+        final DoubleBuffer temperatures;
+        final DoubleBuffer vcfs;
+        final long version;
+
+        Snapshot(String name, int tableVersion, int rows, int cells, DoubleBuffer densities, IntBuffer rowStart,
+                DoubleBuffer temperatures, DoubleBuffer vcfs, long version) {
+            this.name = name;
+            this.tableVersion = tableVersion;
+            this.rows = rows;
+            this.cells = cells;
+            this.densities = densities;
+            this.rowStart = rowStart;
+            this.temperatures = temperatures;
+            this.vcfs = vcfs;
+            this.version = version;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        /**
+         * Version of the table data, as recorded in vcf_dataset.
+         */
+        public int tableVersion() {
+            return tableVersion;
+        }
+
+        /**
+         * Incremented every time any table is (re)built; used for ETags.
+         */
+        public long version() {
+            return version;
+        }
+
+        /**
+         * Same semantics as {@link VcftableRepository#findVcfByClosestDensityAndTemperature}:
+         * picks the closest density first, then the closest temperature recorded for
+         * that density. Ties go to the lower axis value.
+         *
+         * @return the VCF, or {@code Double.NaN} when the table is empty
+         */
+        public double nearestVcf(double density, double temperature) {
+            if (rows == 0) {
+                return Double.NaN;
+            }
+            int row = nearest(densities, 0, rows, density);
+            int cell = nearest(temperatures, rowStart.get(row), rowStart.get(row + 1), temperature);
+            return vcfs.get(cell);
+        }
+
+        /**
+         * Bilinear estimate from the four table points around the reading: each of
+         * the two bracketing density rows is interpolated linearly in temperature,
+         * then the two results are interpolated linearly in density. Readings outside
+         * the table are extrapolated linearly from the edge points.
+         *
+         * @return the estimate, or {@code null} when the table is empty
+         */
+        public VcfEstimate interpolateVcf(double density, double temperature) {
+            if (rows == 0) {
+                return null;
+            }
+            boolean extrapolated = density < densities.get(0) || density > densities.get(rows - 1);
+            if (rows == 1) {
+                return new VcfEstimate(interpolateRow(0, temperature), extrapolated || outsideRow(0, temperature));
+            }
+            int lower = lowerBracket(densities, 0, rows, density);
+            double vcf = lerp(densities.get(lower), interpolateRow(lower, temperature),
+                    densities.get(lower + 1), interpolateRow(lower + 1, temperature), density);
+            extrapolated = extrapolated || outsideRow(lower, temperature) || outsideRow(lower + 1, temperature);
+            return new VcfEstimate(vcf, extrapolated);
+        }
+
+        public VcfTableMetadata metadata() {
+            if (rows == 0) {
+                return new VcfTableMetadata(name, tableVersion, version, 0, 0, null, null, null, null);
+            }
+            double minTemperature = Double.POSITIVE_INFINITY;
+            double maxTemperature = Double.NEGATIVE_INFINITY;
+            for (int row = 0; row < rows; row++) {
+                minTemperature = Math.min(minTemperature, temperatures.get(rowStart.get(row)));
+                maxTemperature = Math.max(maxTemperature, temperatures.get(rowStart.get(row + 1) - 1));
+            }
+            return new VcfTableMetadata(name, tableVersion, version, cells, rows, densities.get(0),
+                    densities.get(rows - 1), minTemperature, maxTemperature);
+        }
+
+        private double interpolateRow(int row, double temperature) {
+            int from = rowStart.get(row);
+            int to = rowStart.get(row + 1);
+            if (to - from == 1) {
+                return vcfs.get(from);
+            }
+            int lower = lowerBracket(temperatures, from, to, temperature);
+            return lerp(temperatures.get(lower), vcfs.get(lower), temperatures.get(lower + 1), vcfs.get(lower + 1),
+                    temperature);
+        }
+
+        private boolean outsideRow(int row, double temperature) {
+            return temperature < temperatures.get(rowStart.get(row))
+                    || temperature > temperatures.get(rowStart.get(row + 1) - 1);
+        }
+
+        /**
+         * Builds a snapshot from rows sorted by density, then temperature.
+         * Incomplete rows are skipped and only the first of duplicate points is kept.
+         */
+        static Snapshot of(String name, int tableVersion, List<Vcftable> sortedRows, long version) {
+            int n = sortedRows.size();
+            double[] densities = new double[n];
+            int[] rowStart = new int[n + 1];
+            double[] temperatures = new double[n];
+            double[] vcfs = new double[n];
+
+            int rows = 0;
+            int cells = 0;
+            for (Vcftable v : sortedRows) {
+                if (v.getDensity() == null || v.getTemperature() == null || v.getVcf() == null) {
+                    continue;
+                }
+                double density = v.getDensity();
+                double temperature = v.getTemperature();
+                if (rows == 0 || densities[rows - 1] != density) {
+                    densities[rows] = density;
+                    rowStart[rows] = cells;
+                    rows++;
+                } else if (temperatures[cells - 1] == temperature) {
+                    continue;
+                }
+                temperatures[cells] = temperature;
+                vcfs[cells] = v.getVcf();
+                cells++;
+            }
+            rowStart[rows] = cells;
+
+            return new Snapshot(name, tableVersion, rows, cells,
+                    DoubleBuffer.wrap(Arrays.copyOf(densities, rows)),
+                    IntBuffer.wrap(Arrays.copyOf(rowStart, rows + 1)),
+                    DoubleBuffer.wrap(Arrays.copyOf(temperatures, cells)),
+                    DoubleBuffer.wrap(Arrays.copyOf(vcfs, cells)),
+                    version);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package co.ke.bulkstream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Binary copy of a {@link VcfGrid.Snapshot}, read back through a read-only
+ * memory mapping so a warm start needs neither the database nor a heap copy.
+ *
+ * Layout (little-endian):
+ * <pre>
+ *  0  int     magic "VCFG"
+ *  4  int     format version
+ *  8  int     rows (densities)
+ * 12  int     cells (temperature/VCF points)
+ * 16  byte[64] fingerprint of the data the grid was built from, ASCII, zero padded
+ * 80  long    CRC32 of everything after the header
+ * 88  double[rows] densities, double[cells] temperatures, double[cells] vcfs,
+ *     int[rows + 1] rowStart
+ * </pre>
+ */
+final class VcfGridFile {
+
+    private static final int MAGIC = 0x56434647;
+    private static final int FORMAT_VERSION = 1;
+    private static final int FINGERPRINT_BYTES = 64;
+    private static final int CRC_OFFSET = 16 + FINGERPRINT_BYTES;
+    private static final int HEADER_BYTES = CRC_OFFSET + Long.BYTES;
+
+    private VcfGridFile() {
+    }
+
+    /**
+     * Writes the snapshot next to the target and moves it into place, so a
+     * reader never sees a partial file.
+     */
+    static void write(Path path, VcfGrid.Snapshot s, String fingerprint) throws IOException {
+        long size = HEADER_BYTES + payloadBytes(s.rows, s.cells);
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("VCF grid too large for a snapshot file: " + size + " bytes");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(s.rows).putInt(s.cells);
+        buffer.put(fingerprintBytes(fingerprint));
+        buffer.putLong(0); // CRC, filled in below
+        for (int i = 0; i < s.rows; i++) {
+            buffer.putDouble(s.densities.get(i));
+        }
+        for (int i = 0; i < s.cells; i++) {
+            buffer.putDouble(s.temperatures.get(i));
+        }
+        for (int i = 0; i < s.cells; i++) {
+            buffer.putDouble(s.vcfs.get(i));
+        }
+        for (int i = 0; i <= s.rows; i++) {
+            buffer.putInt(s.rowStart.get(i));
+        }
+        buffer.putLong(CRC_OFFSET, crc(buffer.slice(HEADER_BYTES, buffer.capacity() - HEADER_BYTES)));
+        buffer.flip();
+
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".part");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            // The old file stays valid for anyone who still has it mapped
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Maps the file read-only and returns a snapshot whose arrays are views of
+     * the mapping.
+     *
+     * @return the snapshot, or null when the file is missing, was built from
+     *         other data or fails the format or CRC checks
+     */
+    static VcfGrid.Snapshot map(Path path, String fingerprint, String name, int tableVersion, long version)
+            throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                return null;
+            }
+            // The mapping outlives the channel
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        ByteBuffer buffer = mapped.order(ByteOrder.LITTLE_ENDIAN);
+
+        int rows = buffer.getInt(8);
+        int cells = buffer.getInt(12);
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION || rows < 0 || cells < rows
+                || buffer.capacity() != HEADER_BYTES + payloadBytes(rows, cells)) {
+            return null;
+        }
+        byte[] stored = new byte[FINGERPRINT_BYTES];
+        buffer.get(16, stored);
+        if (!Arrays.equals(stored, fingerprintBytes(fingerprint))) {
+            return null;
+        }
+        if (buffer.getLong(CRC_OFFSET) != crc(buffer.slice(HEADER_BYTES, buffer.capacity() - HEADER_BYTES))) {
+            return null;
+        }
+
+        int temperaturesAt = HEADER_BYTES + rows * Double.BYTES;
+        int vcfsAt = temperaturesAt + cells * Double.BYTES;
+        int rowStartAt = vcfsAt + cells * Double.BYTES;
+        // slice() resets the byte order, so it is set again on every view
+        return new VcfGrid.Snapshot(name, tableVersion, rows, cells,
+                buffer.slice(HEADER_BYTES, rows * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer(),
+                buffer.slice(rowStartAt, (rows + 1) * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer(),
+                buffer.slice(temperaturesAt, cells * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer(),
+                buffer.slice(vcfsAt, cells * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer(),
+                version);
+    }
+
+    private static long payloadBytes(int rows, int cells) {
+        return (long) rows * Double.BYTES + 2L * cells * Double.BYTES + (rows + 1L) * Integer.BYTES;
+    }
+
+    private static byte[] fingerprintBytes(String fingerprint) {
+        byte[] text = fingerprint.getBytes(StandardCharsets.US_ASCII);
+        if (text.length > FINGERPRINT_BYTES) {
+            throw new IllegalArgumentException("Fingerprint longer than " + FINGERPRINT_BYTES + " bytes");
+        }
+        return Arrays.copyOf(text, FINGERPRINT_BYTES);
+    }
+
+    private static long crc(ByteBuffer payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return crc.getValue();
+    }
+}
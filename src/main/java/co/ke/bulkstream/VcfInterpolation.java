@@ -0,0 +1,26 @@
+package co.ke.bulkstream;
+
+/**
+ * How a VCF is read from the vcftable for a (density, temperature) reading.
+ */
+public enum VcfInterpolation {
+    /** Snap to the closest density, then the closest temperature (default). */
+    NEAREST,
+    /** Interpolate between the four surrounding table points. */
+    BILINEAR;
+
+    /**
+     * Parses the {@code interpolation} request parameter case-insensitively.
+     */
+    public static VcfInterpolation fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return NEAREST;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    "Invalid interpolation: " + value + ". Must be one of: nearest, bilinear");
+        }
+    }
+}
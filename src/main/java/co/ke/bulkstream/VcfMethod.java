@@ -0,0 +1,13 @@
+package co.ke.bulkstream;
+
+/**
+ * Records how the VCF stored on an {@link OilTonnage} was obtained.
+ */
+public enum VcfMethod {
+    /** Taken from the nearest table point. */
+    NEAREST,
+    /** Interpolated between table points surrounding the reading. */
+    INTERPOLATED,
+    /** The reading lies outside the table and the VCF was extrapolated from its edge. */
+    EXTRAPOLATED
+}
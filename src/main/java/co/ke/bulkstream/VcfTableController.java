@@ -0,0 +1,68 @@
+package co.ke.bulkstream;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/vcf-table")
+@CrossOrigin(origins = "http://localhost:5173") // Adjust for your Vue.js dev server port
+public class VcfTableController {
+
+    @Autowired
+    private VcfGrid vcfGrid;
+
+    @Autowired
+    private VcfDatasetLoader vcfDatasetLoader;
+
+    /**
+     * Axis ranges and row count of a loaded VCF table (the default table when
+     * none is named). Carries an ETag, so a client that sends it back in
+     * If-None-Match gets 304 until the table changes.
+     */
+    @GetMapping("/metadata")
+    public ResponseEntity<VcfTableMetadata> getMetadata(@RequestParam(required = false) String table,
+            WebRequest request) {
+        VcfTableMetadata metadata;
+        try {
+            metadata = vcfGrid.table(table).metadata();
+        } catch (ResourceNotFoundException e) {
+            return new ResponseEntity(e.getMessage(), HttpStatus.NOT_FOUND);
+        }
+        if (request.checkNotModified(EntityTags.strong("vcf", metadata.getVersion(), metadata.getName()))) {
+            return null; // 304, ETag already set
+        }
+        return ResponseEntity.ok(metadata);
+    }
+
+    /**
+     * Every loaded VCF table with its current version.
+     */
+    @GetMapping("/tables")
+    public ResponseEntity<List<VcfTableMetadata>> getTables() {
+        return ResponseEntity.ok(vcfGrid.allMetadata());
+    }
+
+    /**
+     * Uploads a new version of a VCF table as CSV with density, temperature and
+     * vcf columns. Calculations switch to it once it is stored, without pausing.
+     */
+    @PutMapping("/tables/{name}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<VcfTableMetadata> uploadTable(@PathVariable String name, HttpServletRequest request) {
+        try {
+            return ResponseEntity.ok(vcfDatasetLoader.upload(name, request.getInputStream()));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (IOException e) {
+            return new ResponseEntity("An error occurred: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package co.ke.bulkstream;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Shape of a VCF table currently loaded in {@link VcfGrid}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VcfTableMetadata {
+    private String name;
+    private int tableVersion; // Version of the table data, see VcfDataset
+    private long version; // Changes whenever the grid is reloaded
+    private int rowCount;
+    private int densityCount;
+    private Double minDensity;
+    private Double maxDensity;
+    private Double minTemperature;
+    private Double maxTemperature;
+}
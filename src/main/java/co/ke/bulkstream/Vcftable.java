@@ -1,14 +1,19 @@
 package co.ke.bulkstream;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
 @Entity
-@Table(name = "vcftable") // Or "table60b" if you named it that
+@EntityListeners(VcftableChangeListener.class)
+@Table(name = "vcftable", indexes = {
+        @Index(name = "idx_vcftable_table_name", columnList = "tableName, density, temperature")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,6 +23,7 @@ public class Vcftable {
     private Double density;
     private Double temperature;
     private Double vcf;
+    private String tableName; // VCF table the row belongs to, see VcfDataset
     // You might need to add 'class' and 'vcf2' fields if they are actually used.
     // Based on the SQL snippet, they are NULL, so might not be critical.
     // private String class; // 'class' is a reserved keyword, use a different name if needed
@@ -0,0 +1,27 @@
+package co.ke.bulkstream;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener for {@link Vcftable}. Hibernate resolves it through the
+ * Spring bean container, so every insert/update/delete made through JPA
+ * publishes a {@link VcftableChangedEvent}.
+ */
+@Component
+public class VcftableChangeListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Vcftable vcftable) {
+        eventPublisher.publishEvent(new VcftableChangedEvent(vcftable));
+    }
+}
@@ -0,0 +1,14 @@
+package co.ke.bulkstream;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published whenever rows of the vcftable change so that in-memory copies
+ * of the table (see {@link VcfGrid}) can be rebuilt.
+ */
+public class VcftableChangedEvent extends ApplicationEvent {
+
+    public VcftableChangedEvent(Object source) {
+        super(source);
+    }
+}
@@ -1,15 +1,18 @@
 package co.ke.bulkstream;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface VcftableRepository extends JpaRepository<Vcftable, Long> {
 
+    // Both lookups below span every VCF table in vcftable; calculations go through VcfGrid
     // Custom query to find the nearest VCF based on density and temperature
     @Query(value = "SELECT v FROM Vcftable v " +
                    "WHERE ABS(v.density - :density) = (SELECT MIN(ABS(v2.density - :density)) FROM Vcftable v2) " +
@@ -27,5 +30,8 @@ public interface VcftableRepository extends JpaRepository<Vcftable, Long> {
             "LIMIT 1")
     Optional<Vcftable> findVcfByClosestDensityAndTemperature(@Param("density") Double density, @Param("temperature") Double temperature);
 
+    List<Vcftable> findByTableName(String tableName, Sort sort);
+
+    long countByTableName(String tableName);
 
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package co.ke.bulkstream;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WriteBehindStats {
+    private boolean enabled;
+    private int queueDepth;
+    private int queueCapacity;
+    private long enqueued;
+    private long savedByCaller; // Queue was full (backpressure) or writer stopped
+    private long flushedRows;
+    private long failedRows;
+    private long flushes;
+    private double lastFlushMillis;
+    private double averageFlushMillis;
+    private double maxFlushMillis;
+}
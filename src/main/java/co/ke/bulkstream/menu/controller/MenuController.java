@@ -6,9 +6,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import co.ke.bulkstream.menu.payload.MenuItemCreateUpdateDto;
 import co.ke.bulkstream.menu.payload.MenuItemResponseDto;
+import co.ke.bulkstream.menu.payload.MenuTreeReplaceResultDto;
 import co.ke.bulkstream.menu.service.MenuService;
 
 import java.util.List;
@@ -23,15 +25,29 @@ public class MenuController {
     /**
      * Endpoint for the frontend to fetch the dynamic menu based on the logged-in
      * user's roles.
-     * Accessible by any authenticated user.
+     * Accessible by any authenticated user. Answers If-None-Match with 304 while
+     * the menu version and the caller's role are unchanged.
      */
     @GetMapping("/items")
     @PreAuthorize("isAuthenticated()") // Ensure user is logged in
-    public ResponseEntity<List<MenuItemResponseDto>> getDynamicMenuItems() {
+    public ResponseEntity<List<MenuItemResponseDto>> getDynamicMenuItems(WebRequest request) {
+        if (request.checkNotModified(menuService.getMenuETagForCurrentUser())) {
+            return null; // 304, ETag already set
+        }
         List<MenuItemResponseDto> menuItems = menuService.getMainMenuForCurrentUser();
         return ResponseEntity.ok(menuItems);
     }
 
+    /**
+     * Version of the precompiled menus; changes whenever the menu is edited, so
+     * clients can tell when to fetch /items again.
+     */
+    @GetMapping("/version")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Long> getMenuVersion() {
+        return ResponseEntity.ok(menuService.getMenuVersion());
+    }
+
     // --- Admin-facing CRUD Endpoints for Menu Items ---
 
     /**
@@ -108,4 +124,19 @@ public class MenuController {
             return ResponseEntity.notFound().build();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Replace the whole menu with the given tree; only the differences are written.
+     * Requires ADMIN role.
+     */
+    @PutMapping("/admin/tree")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> replaceMenuTree(@RequestBody List<MenuItemCreateUpdateDto> tree) {
+        try {
+            MenuTreeReplaceResultDto result = menuService.replaceMenuTree(tree);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
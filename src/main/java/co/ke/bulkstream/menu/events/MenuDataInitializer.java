@@ -1,7 +1,7 @@
 package co.ke.bulkstream.menu.events;
 
 import co.ke.bulkstream.menu.payload.MenuItemCreateUpdateDto;
-import co.ke.bulkstream.menu.payload.MenuItemResponseDto;
+import co.ke.bulkstream.menu.payload.MenuTreeReplaceResultDto;
 import co.ke.bulkstream.menu.service.MenuService;
 import co.ke.tucode.systemuser.entities.Role;
 import org.springframework.boot.CommandLineRunner;
@@ -17,16 +17,15 @@ public class MenuDataInitializer {
         public CommandLineRunner initMenuData(MenuService menuService) {
                 return args -> {
 
-                        System.out.println("--- Resetting & Initializing Menu Items ---");
-
-                        menuService.deleteAllMenuItems(); // You must implement this in MenuService
-
                         System.out.println("--- Initializing Menu Items ---");
 
+                        // Applied as a diff: items already in place are kept, so ids survive restarts
                         List<Map<String, Object>> menuItemsData = getMenuItems();
-                        createMenuItemsRecursive(menuItemsData, null, menuService);
+                        MenuTreeReplaceResultDto result = menuService.replaceMenuTree(toTree(menuItemsData));
 
-                        System.out.println("--- Menu initial data population complete ---");
+                        System.out.println("--- Menu initial data population complete: " + result.getInserted()
+                                        + " inserted, " + result.getUpdated() + " updated, " + result.getDeleted()
+                                        + " deleted, " + result.getUnchanged() + " unchanged ---");
                 };
         }
 
@@ -72,9 +71,10 @@ public class MenuDataInitializer {
                 return item;
         }
 
-        private void createMenuItemsRecursive(List<Map<String, Object>> items, Long parentId, MenuService menuService) {
+        private List<MenuItemCreateUpdateDto> toTree(List<Map<String, Object>> items) {
+                List<MenuItemCreateUpdateDto> tree = new ArrayList<>();
                 if (items == null || items.isEmpty())
-                        return;
+                        return tree;
 
                 for (int i = 0; i < items.size(); i++) {
                         Map<String, Object> itemData = items.get(i);
@@ -83,7 +83,6 @@ public class MenuDataInitializer {
                         dto.setLabel((String) itemData.get("label"));
                         dto.setIcon((String) itemData.get("icon"));
                         dto.setLink((String) itemData.get("link"));
-                        dto.setParentId(parentId);
                         dto.setItemOrder(i + 1);
                         dto.setActive(true);
 
@@ -98,12 +97,10 @@ public class MenuDataInitializer {
                         }
                         dto.setRequiredRoles(roles);
 
-                        MenuItemResponseDto savedItem = menuService.createMenuItem(dto);
-
                         List<Map<String, Object>> subItems = (List<Map<String, Object>>) itemData.get("subItems");
-                        if (subItems != null && !subItems.isEmpty()) {
-                                createMenuItemsRecursive(subItems, savedItem.getId(), menuService);
-                        }
+                        dto.setSubItems(toTree(subItems));
+                        tree.add(dto);
                 }
+                return tree;
         }
-}
\ No newline at end of file
+}
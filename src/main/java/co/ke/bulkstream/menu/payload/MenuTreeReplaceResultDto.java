@@ -0,0 +1,17 @@
+package co.ke.bulkstream.menu.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuTreeReplaceResultDto {
+    private int inserted;
+    private int updated;
+    private int deleted;
+    private int unchanged;
+}
@@ -1,10 +1,14 @@
 package co.ke.bulkstream.menu.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import co.ke.bulkstream.menu.entity.MenuItem;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,7 +18,34 @@ public interface MenuItemRepository extends JpaRepository<MenuItem, Long> {
     // Retrieves top-level menu items (those without a parent) ordered by itemOrder
     List<MenuItem> findByParentIsNullOrderByItemOrderAsc();
 
+    // Every menu item with its role names in one query, for assembling the tree in memory.
+    // Siblings come out in itemOrder; parent ids are read from the (unloaded) parent reference.
+    @Query("SELECT DISTINCT m FROM MenuItem m LEFT JOIN FETCH m.requiredRoleNames ORDER BY m.itemOrder, m.id")
+    List<MenuItem> findAllWithRequiredRoles();
+
+    // One menu item with its role names
+    @Query("SELECT m FROM MenuItem m LEFT JOIN FETCH m.requiredRoleNames WHERE m.id = :id")
+    Optional<MenuItem> findByIdWithRequiredRoles(@Param("id") Long id);
+
+    // The direct children of the given items with their role names, siblings in itemOrder
+    @Query("SELECT DISTINCT m FROM MenuItem m LEFT JOIN FETCH m.requiredRoleNames " +
+           "WHERE m.parent.id IN :parentIds ORDER BY m.itemOrder, m.id")
+    List<MenuItem> findChildrenWithRequiredRoles(@Param("parentIds") Collection<Long> parentIds);
+
     // Retrieves a menu item by ID. @ElementCollection (requiredRoleNames) is EAGER, so roles are loaded.
     // Use the default findById as the ElementCollection is already EAGER.
     Optional<MenuItem> findById(Long id);
-}
\ No newline at end of file
+
+    // Set-based removal for the tree replace: unlink, drop role rows, then delete in one statement each
+    @Modifying
+    @Query("UPDATE MenuItem m SET m.parent = null WHERE m.id IN :ids")
+    int detachFromParents(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM menu_item_required_roles WHERE menu_item_id IN (:ids)", nativeQuery = true)
+    int deleteRequiredRolesByMenuItemIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM MenuItem m WHERE m.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -1,11 +1,22 @@
 package co.ke.tucode.logs.controllers;
 
+import co.ke.tucode.logs.payloads.ActivityLogArchiveMonth;
+import co.ke.tucode.logs.payloads.ActivityLogPipelineStats;
+import co.ke.tucode.logs.payloads.ActivityLogRetentionResult;
 import co.ke.tucode.logs.payloads.UserActivityLogDto;
+import co.ke.tucode.logs.payloads.UserActivityLogPage;
+import co.ke.tucode.logs.services.ActivityLogRetentionService;
 import co.ke.tucode.logs.services.UserActivityLogService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.Instant;
 import java.util.List;
 
 @RestController
@@ -13,10 +24,15 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserActivityLogController {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final UserActivityLogService logService;
 
+    private final ActivityLogRetentionService retentionService;
+
     /**
-     * Get all logs (latest first)
+     * Get the latest logs (at most bulkstream.activity-log.max-list-size).
+     * Use /page to go further back.
      */
     @GetMapping
     public ResponseEntity<List<UserActivityLogDto>> getAllLogs() {
@@ -50,4 +66,101 @@ public class UserActivityLogController {
             @RequestParam Long entityId) {
         return ResponseEntity.ok(logService.getLogsByEntity(entityType, entityId));
     }
+
+    /**
+     * Counters of the asynchronous log writer (buffer depth, drops, batches)
+     */
+    @GetMapping("/pipeline/stats")
+    public ResponseEntity<ActivityLogPipelineStats> getPipelineStats() {
+        return ResponseEntity.ok(logService.getPipelineStats());
+    }
+
+    /**
+     * Keyset-paginated logs between from and to (ISO instants, to exclusive;
+     * defaults to the last 30 days), newest first. Optionally filtered by
+     * username, module, or entityType and entityId. Pass back nextCursor as
+     * after for the next page.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<UserActivityLogPage> getLogPage(
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String module,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) Long entityId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return new ResponseEntity("size must be between 1 and " + MAX_PAGE_SIZE, HttpStatus.BAD_REQUEST);
+        }
+        try {
+            return ResponseEntity.ok(
+                    logService.getLogPage(username, module, entityType, entityId, from, to, after, size));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Streams all logs between from and to (ISO instants, to exclusive) as
+     * NDJSON, oldest first.
+     */
+    @GetMapping("/export")
+    public void getLogExport(HttpServletResponse response,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) throws IOException {
+        if (from.isAfter(to)) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "from must not be after to");
+            return;
+        }
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        logService.exportLogs(from, to, response.getOutputStream());
+    }
+
+    /**
+     * Months moved out of the table by retention, with their archive sizes
+     */
+    @GetMapping("/archive")
+    public ResponseEntity<List<ActivityLogArchiveMonth>> getArchives() {
+        return ResponseEntity.ok(retentionService.listArchives());
+    }
+
+    /**
+     * Streams the archived logs of one month (yyyy-MM) as NDJSON, optionally
+     * filtered by username, module, entityType or entityId.
+     */
+    @GetMapping("/archive/{month}")
+    public void getArchivedLogs(HttpServletResponse response,
+            @PathVariable String month,
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String module,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) Long entityId) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        try {
+            retentionService.readArchive(month, username, module, entityType, entityId, response.getOutputStream());
+        } catch (IllegalArgumentException e) {
+            // Raised before anything is written
+            response.reset();
+            response.sendError(HttpStatus.NOT_FOUND.value(), e.getMessage());
+        }
+    }
+
+    /**
+     * Applies retention now instead of waiting for the nightly run
+     */
+    @PostMapping("/retention/run")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ActivityLogRetentionResult> runRetention() {
+        try {
+            return ResponseEntity.ok(retentionService.applyRetention());
+        } catch (IllegalStateException e) {
+            return new ResponseEntity(e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
 }
@@ -2,12 +2,19 @@ package co.ke.tucode.logs.entities;
 
 import lombok.*;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 
+// Read-only view over the month tables; rows are written by ActivityLogPipeline,
+// tables and indexes are managed by ActivityLogPartitions
 @Entity
-@Table(name = "user_activity_logs")
+@Immutable
+@Subselect("SELECT id, username, module, activity, details, timestamp, entity_type, entity_id FROM user_activity_logs")
+@Synchronize("user_activity_logs")
 @Data
 @Builder
 @NoArgsConstructor
@@ -15,7 +22,6 @@ import java.time.LocalDateTime;
 public class UserActivityLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     private String username;
@@ -0,0 +1,13 @@
+package co.ke.tucode.logs.payloads;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityLogArchiveMonth {
+    private String month; // yyyy-MM
+    private long compressedBytes;
+}
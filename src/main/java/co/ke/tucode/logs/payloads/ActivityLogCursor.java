@@ -0,0 +1,36 @@
+package co.ke.tucode.logs.payloads;
+
+import co.ke.tucode.logs.entities.UserActivityLog;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in an activity log listing, ordered by (timestamp, id).
+ * Handed to clients as an opaque URL-safe token.
+ */
+public record ActivityLogCursor(Instant timestamp, long id) {
+
+    public static ActivityLogCursor of(UserActivityLog log) {
+        return new ActivityLogCursor(log.getTimestamp(), log.getId());
+    }
+
+    public String encode() {
+        String raw = timestamp + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ActivityLogCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new ActivityLogCursor(
+                    Instant.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
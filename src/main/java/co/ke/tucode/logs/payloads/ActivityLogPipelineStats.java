@@ -0,0 +1,22 @@
+package co.ke.tucode.logs.payloads;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityLogPipelineStats {
+    private String overflowPolicy;
+    private int bufferDepth;
+    private int bufferCapacity;
+    private long published;
+    private long dropped;        // DROP policy, buffer full
+    private long blockedPublishes; // BLOCK policy, caller had to wait for space
+    private long written;
+    private long failed;
+    private long batches;
+    private double lastBatchMillis;
+    private double maxBatchMillis;
+}
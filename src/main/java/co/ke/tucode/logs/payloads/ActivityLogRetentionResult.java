@@ -0,0 +1,19 @@
+package co.ke.tucode.logs.payloads;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityLogRetentionResult {
+    private String mode; // ARCHIVE or DROP
+    private String keepFrom; // First month still kept in the table
+    private List<String> months; // Months removed from the table
+    private long archivedRows;
+    private long deletedRows;
+    private long elapsedMillis;
+}
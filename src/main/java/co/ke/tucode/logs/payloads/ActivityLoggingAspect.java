@@ -2,8 +2,6 @@ package co.ke.tucode.logs.payloads;
 
 import lombok.RequiredArgsConstructor;
 
-import java.lang.reflect.Method;
-
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
 import org.springframework.http.ResponseEntity;
@@ -50,16 +48,15 @@ public class ActivityLoggingAspect {
         Long entityId = null;
 
         if (unwrapped != null) {
-            try {
-                Method getId = unwrapped.getClass().getMethod("getId");
-                Object idValue = getId.invoke(unwrapped);
-                if (idValue instanceof Long) {
-                    entityId = (Long) idValue;
-                } else if (idValue instanceof String && ((String) idValue).matches("\\d+")) {
-                    entityId = Long.valueOf((String) idValue);
+            EntityIdAccessor accessor = EntityIdAccessor.forClass(unwrapped.getClass());
+            if (accessor.hasId()) {
+                try {
+                    entityId = accessor.extract(unwrapped);
+                    entityType = unwrapped.getClass().getSimpleName();
+                } catch (Error e) {
+                    throw e;
+                } catch (Throwable ignored) {
                 }
-                entityType = unwrapped.getClass().getSimpleName();
-            } catch (Exception ignored) {
             }
         }
 
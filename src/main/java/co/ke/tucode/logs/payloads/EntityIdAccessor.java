@@ -0,0 +1,89 @@
+package co.ke.tucode.logs.payloads;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Reads the id of a controller result for the activity log.
+ *
+ * The public {@code getId()} of each class is looked up once and kept as a
+ * {@link MethodHandle} in a {@link ClassValue}; classes without a usable
+ * {@code getId()} are remembered too, so after the first call per class no
+ * reflection or exception is involved.
+ */
+public final class EntityIdAccessor {
+
+    private static final EntityIdAccessor NONE = new EntityIdAccessor(null);
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<EntityIdAccessor> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected EntityIdAccessor computeValue(Class<?> type) {
+            return create(type);
+        }
+    };
+
+    private final MethodHandle getter;
+
+    private EntityIdAccessor(MethodHandle getter) {
+        this.getter = getter;
+    }
+
+    public static EntityIdAccessor forClass(Class<?> type) {
+        return ACCESSORS.get(type);
+    }
+
+    /**
+     * @return whether the class has a public getId(), i.e. whether it counts as an entity
+     */
+    public boolean hasId() {
+        return getter != null;
+    }
+
+    /**
+     * @return the id as a Long if getId() returned a Long or a numeric String, else null
+     */
+    public Long extract(Object target) throws Throwable {
+        if (getter == null) {
+            return null;
+        }
+        Object value = (Object) getter.invokeExact(target);
+        if (value instanceof Long id) {
+            return id;
+        }
+        if (value instanceof String text && isDigits(text)) {
+            return Long.valueOf(text);
+        }
+        return null;
+    }
+
+    private static EntityIdAccessor create(Class<?> type) {
+        try {
+            Method method = type.getMethod("getId");
+            if (Modifier.isStatic(method.getModifiers())) {
+                return NONE;
+            }
+            MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+            return new EntityIdAccessor(handle.asType(GETTER_TYPE));
+        } catch (NoSuchMethodException | IllegalAccessException | SecurityException e) {
+            return NONE;
+        }
+    }
+
+    private static boolean isDigits(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
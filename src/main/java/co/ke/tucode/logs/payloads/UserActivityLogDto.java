@@ -9,6 +9,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class UserActivityLogDto {
+    private Long id;
     private String username;
     private String module;
     private String activity;
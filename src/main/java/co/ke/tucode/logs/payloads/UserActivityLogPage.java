@@ -0,0 +1,21 @@
+package co.ke.tucode.logs.payloads;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated log listing, newest first. Pass
+ * {@code nextCursor} back as {@code after} for the following page; it is null
+ * on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserActivityLogPage {
+    private List<UserActivityLogDto> content;
+    private int size;
+    private String nextCursor;
+}
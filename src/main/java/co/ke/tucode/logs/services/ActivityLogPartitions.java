@@ -0,0 +1,237 @@
+package co.ke.tucode.logs.services;
+
+import co.ke.tucode.logs.entities.UserActivityLog;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Month-partitioned storage for user activity logs.
+ *
+ * H2 has no declarative partitioning, so each calendar month (UTC) gets its
+ * own table, {@code user_activity_logs_yyyyMM}, with the same columns and
+ * indexes. The user_activity_logs view is the UNION ALL of all of them and is
+ * what {@link UserActivityLog} maps to. Ids come from one shared sequence, so
+ * (timestamp, id) is unique across months.
+ *
+ * A month's table is created the first time an entry for that month is
+ * written, and retention drops it whole. The single table used before
+ * partitioning is moved into month tables at startup, one month per
+ * transaction, so an interrupted move resumes on the next start.
+ */
+@Slf4j
+@Component
+public class ActivityLogPartitions {
+
+    public static final String COLUMNS = "id, username, module, activity, details, timestamp, entity_type, entity_id";
+
+    public static final RowMapper<UserActivityLog> ROW_MAPPER = (rs, rowNum) -> {
+        OffsetDateTime timestamp = rs.getObject("timestamp", OffsetDateTime.class);
+        return UserActivityLog.builder()
+                .id(rs.getLong("id"))
+                .username(rs.getString("username"))
+                .module(rs.getString("module"))
+                .activity(rs.getString("activity"))
+                .details(rs.getString("details"))
+                .timestamp(timestamp == null ? null : timestamp.toInstant())
+                .entityType(rs.getString("entity_type"))
+                .entityId(rs.getObject("entity_id", Long.class))
+                .build();
+    };
+
+    private static final String VIEW = "user_activity_logs";
+    private static final String LEGACY_TABLE = "user_activity_logs_legacy";
+    private static final Pattern MONTH_TABLE = Pattern.compile("USER_ACTIVITY_LOGS_(\\d{6})");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM", Locale.ROOT);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // Replaced, never modified, so readers can iterate without locking
+    private volatile NavigableSet<YearMonth> months = Collections.emptyNavigableSet();
+
+    public ActivityLogPartitions(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void init() {
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS user_activity_logs_seq");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS activity_log_archived_months ("
+                + "archive_month VARCHAR(7) PRIMARY KEY, "
+                + "status VARCHAR(16) NOT NULL, "
+                + "base_bytes BIGINT NOT NULL, "
+                + "archived_rows BIGINT, "
+                + "updated_at TIMESTAMP(6) WITH TIME ZONE)");
+
+        TreeSet<YearMonth> existing = new TreeSet<>();
+        for (String table : jdbcTemplate.queryForList(
+                "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = SCHEMA() "
+                        + "AND TABLE_TYPE = 'BASE TABLE'", String.class)) {
+            Matcher matcher = MONTH_TABLE.matcher(table.toUpperCase(Locale.ROOT));
+            if (matcher.matches()) {
+                existing.add(YearMonth.parse(matcher.group(1), SUFFIX));
+            }
+        }
+        months = Collections.unmodifiableNavigableSet(existing);
+
+        migrateLegacyTable();
+        ensure(YearMonth.now(ZoneOffset.UTC));
+        refreshView();
+    }
+
+    /**
+     * Months that have a table, oldest first.
+     */
+    public NavigableSet<YearMonth> months() {
+        return months;
+    }
+
+    public String table(YearMonth month) {
+        return "user_activity_logs_" + month.format(SUFFIX);
+    }
+
+    /**
+     * Returns the table for the month, creating it first if needed.
+     */
+    public String ensure(YearMonth month) {
+        if (!months.contains(month)) {
+            create(month);
+        }
+        return table(month);
+    }
+
+    /**
+     * Removes the month from the view and drops its table.
+     */
+    public synchronized void drop(YearMonth month) {
+        TreeSet<YearMonth> remaining = new TreeSet<>(months);
+        remaining.remove(month);
+        months = Collections.unmodifiableNavigableSet(remaining);
+        // The view must stop referring to the table before H2 lets it go
+        refreshView();
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + table(month));
+    }
+
+    public static YearMonth monthOf(Instant instant) {
+        return YearMonth.from(instant.atOffset(ZoneOffset.UTC));
+    }
+
+    public static Instant start(YearMonth month) {
+        return month.atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+    }
+
+    private synchronized void create(YearMonth month) {
+        if (months.contains(month)) {
+            return;
+        }
+        String table = table(month);
+        String suffix = month.format(SUFFIX);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + table + " ("
+                + "id BIGINT DEFAULT NEXT VALUE FOR user_activity_logs_seq PRIMARY KEY, "
+                + "username VARCHAR(255), "
+                + "module VARCHAR(255), "
+                + "activity VARCHAR(255), "
+                + "details VARCHAR(255), "
+                + "timestamp TIMESTAMP(6) WITH TIME ZONE, "
+                + "entity_type VARCHAR(255), "
+                + "entity_id BIGINT)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_ual_" + suffix + "_ts_id ON " + table + " (timestamp, id)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_ual_" + suffix + "_username_ts ON " + table
+                + " (username, timestamp)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_ual_" + suffix + "_module_ts ON " + table
+                + " (module, timestamp)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_ual_" + suffix + "_entity_ts ON " + table
+                + " (entity_type, entity_id, timestamp)");
+
+        TreeSet<YearMonth> updated = new TreeSet<>(months);
+        updated.add(month);
+        months = Collections.unmodifiableNavigableSet(updated);
+        refreshView();
+        log.info("Created activity log table {}", table);
+    }
+
+    private void refreshView() {
+        if (months.isEmpty()) {
+            jdbcTemplate.execute("DROP VIEW IF EXISTS " + VIEW);
+            return;
+        }
+        jdbcTemplate.execute("CREATE OR REPLACE VIEW " + VIEW + " AS " + months.stream()
+                .map(month -> "SELECT " + COLUMNS + " FROM " + table(month))
+                .collect(Collectors.joining(" UNION ALL ")));
+    }
+
+    /**
+     * Moves the rows of the pre-partitioning user_activity_logs table into
+     * their month tables, then drops it.
+     */
+    private void migrateLegacyTable() {
+        List<String> types = jdbcTemplate.queryForList(
+                "SELECT TABLE_TYPE FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = SCHEMA() "
+                        + "AND UPPER(TABLE_NAME) = 'USER_ACTIVITY_LOGS'", String.class);
+        if (types.contains("BASE TABLE")) {
+            jdbcTemplate.execute("ALTER TABLE " + VIEW + " RENAME TO " + LEGACY_TABLE);
+        }
+        Integer legacy = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = SCHEMA() "
+                        + "AND UPPER(TABLE_NAME) = 'USER_ACTIVITY_LOGS_LEGACY'", Integer.class);
+        if (legacy == null || legacy == 0) {
+            return;
+        }
+
+        // New rows must not reuse the ids being moved
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + LEGACY_TABLE, Long.class);
+        Long nextId = jdbcTemplate.queryForObject("SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES "
+                + "WHERE SEQUENCE_SCHEMA = SCHEMA() AND SEQUENCE_NAME = 'USER_ACTIVITY_LOGS_SEQ'", Long.class);
+        if (maxId != null && (nextId == null || nextId <= maxId)) {
+            jdbcTemplate.execute("ALTER SEQUENCE user_activity_logs_seq RESTART WITH " + (maxId + 1));
+        }
+
+        OffsetDateTime oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(timestamp) FROM " + LEGACY_TABLE, OffsetDateTime.class);
+        OffsetDateTime newest = jdbcTemplate.queryForObject(
+                "SELECT MAX(timestamp) FROM " + LEGACY_TABLE, OffsetDateTime.class);
+        long moved = 0;
+        if (oldest != null) {
+            YearMonth last = monthOf(newest.toInstant());
+            for (YearMonth month = monthOf(oldest.toInstant()); !month.isAfter(last); month = month.plusMonths(1)) {
+                moved += moveLegacyRows(ensure(month), "timestamp >= ? AND timestamp < ?",
+                        start(month).atOffset(ZoneOffset.UTC), start(month.plusMonths(1)).atOffset(ZoneOffset.UTC));
+            }
+        }
+        // Rows without a timestamp cannot be placed; keep them with the current month
+        moved += moveLegacyRows(ensure(YearMonth.now(ZoneOffset.UTC)), "timestamp IS NULL");
+
+        jdbcTemplate.execute("DROP TABLE " + LEGACY_TABLE);
+        log.info("Moved {} activity log rows into month tables", moved);
+    }
+
+    private long moveLegacyRows(String table, String condition, Object... args) {
+        Integer moved = transactionTemplate.execute(status -> {
+            int rows = jdbcTemplate.update("INSERT INTO " + table + " (" + COLUMNS + ") SELECT " + COLUMNS
+                    + " FROM " + LEGACY_TABLE + " WHERE " + condition, args);
+            jdbcTemplate.update("DELETE FROM " + LEGACY_TABLE + " WHERE " + condition, args);
+            return rows;
+        });
+        return moved == null ? 0 : moved;
+    }
+}
@@ -0,0 +1,264 @@
+package co.ke.tucode.logs.services;
+
+import co.ke.tucode.logs.entities.UserActivityLog;
+import co.ke.tucode.logs.payloads.ActivityLogPipelineStats;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes user activity logs off the request thread.
+ *
+ * Callers publish into an {@link ActivityLogRingBuffer}; a single consumer
+ * thread drains it and inserts the rows with one JDBC batch per
+ * {@code batch-size} rows, or sooner once the oldest pending row has waited
+ * {@code flush-interval-ms}. Each row goes to the table of its month, see
+ * {@link ActivityLogPartitions}.
+ *
+ * When the buffer is full, {@code bulkstream.activity-log.overflow} decides:
+ * <ul>
+ * <li>{@code DROP} (default): the entry is discarded and counted in
+ * {@code dropped}; request latency never depends on the database.</li>
+ * <li>{@code BLOCK}: the caller waits until the consumer frees a slot, so no
+ * entry is lost but requests slow down while the database is behind.</li>
+ * </ul>
+ * The consumer parks while there is nothing to do: without a timeout when no
+ * rows are pending, otherwise until the oldest one is due. Publishers unpark
+ * it only when it is parked, so an idle pipeline costs no wakeups.
+ *
+ * On shutdown publishing stops and everything still buffered is written
+ * before the context closes.
+ */
+@Slf4j
+@Component
+public class ActivityLogPipeline {
+
+    public enum OverflowPolicy {
+        DROP, BLOCK
+    }
+
+    private static final String INSERT_COLUMNS =
+            " (username, module, activity, details, timestamp, entity_type, entity_id) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    // How long a BLOCK publisher waits between attempts on a full buffer
+    private static final long FULL_BUFFER_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ActivityLogPartitions partitions;
+
+    private final ThreadFactory backgroundThreadFactory;
+
+    @Value("${bulkstream.activity-log.buffer-capacity:8192}")
+    private int bufferCapacity;
+
+    @Value("${bulkstream.activity-log.batch-size:256}")
+    private int batchSize;
+
+    @Value("${bulkstream.activity-log.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${bulkstream.activity-log.overflow:DROP}")
+    private OverflowPolicy overflowPolicy;
+
+    private ActivityLogRingBuffer<UserActivityLog> buffer;
+    private Thread consumer;
+    private volatile boolean running;
+    // Set by the consumer before it re-checks the buffer and parks
+    private volatile boolean consumerParked;
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong blockedPublishes = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong maxBatchNanos = new AtomicLong();
+    private volatile long lastBatchNanos;
+
+    public ActivityLogPipeline(JdbcTemplate jdbcTemplate, ActivityLogPartitions partitions,
+            ThreadFactory backgroundThreadFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.partitions = partitions;
+        this.backgroundThreadFactory = backgroundThreadFactory;
+    }
+
+    @PostConstruct
+    void start() {
+        buffer = new ActivityLogRingBuffer<>(bufferCapacity);
+        running = true;
+        consumer = backgroundThreadFactory.newThread(this::run);
+        consumer.setName("activity-log-writer");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * Hands the entry to the writer thread. After shutdown has begun the entry
+     * is written synchronously instead.
+     */
+    public void publish(UserActivityLog entry) {
+        if (!running) {
+            writeBatch(List.of(entry));
+            return;
+        }
+        if (buffer.offer(entry)) {
+            afterOffer();
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            dropped.incrementAndGet();
+            return;
+        }
+        blockedPublishes.incrementAndGet();
+        while (!buffer.offer(entry)) {
+            if (!running) {
+                writeBatch(List.of(entry));
+                return;
+            }
+            LockSupport.unpark(consumer);
+            LockSupport.parkNanos(FULL_BUFFER_PARK_NANOS);
+        }
+        afterOffer();
+    }
+
+    private void afterOffer() {
+        published.incrementAndGet();
+        if (consumerParked) {
+            LockSupport.unpark(consumer);
+        }
+        // The entry may have landed after the consumer's last drain; once it has
+        // exited, nothing else would write it
+        if (!running && !consumer.isAlive()) {
+            drainRemaining();
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(consumer);
+        consumer.join(TimeUnit.SECONDS.toMillis(30));
+        if (consumer.isAlive()) {
+            // Still writing; a second reader would break the single-consumer buffer
+            log.warn("Activity log writer stopped with {} entries unwritten", buffer.size());
+            return;
+        }
+        // Entries published between the running check and the consumer's exit
+        drainRemaining();
+    }
+
+    private synchronized void drainRemaining() {
+        List<UserActivityLog> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    public ActivityLogPipelineStats stats() {
+        return new ActivityLogPipelineStats(
+                overflowPolicy.name(),
+                buffer.size(),
+                buffer.capacity(),
+                published.get(),
+                dropped.get(),
+                blockedPublishes.get(),
+                written.get(),
+                failed.get(),
+                batches.get(),
+                lastBatchNanos / 1_000_000.0,
+                maxBatchNanos.get() / 1_000_000.0);
+    }
+
+    private void run() {
+        List<UserActivityLog> batch = new ArrayList<>(batchSize);
+        long flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        long oldestPending = 0;
+        while (true) {
+            boolean stopping = !running;
+            boolean wasEmpty = batch.isEmpty();
+            buffer.drainTo(batch, batchSize - batch.size());
+            if (wasEmpty && !batch.isEmpty()) {
+                oldestPending = System.nanoTime();
+            }
+
+            boolean full = batch.size() >= batchSize;
+            boolean due = !batch.isEmpty() && System.nanoTime() - oldestPending >= flushIntervalNanos;
+            if (full || due || (stopping && !batch.isEmpty())) {
+                writeBatch(batch);
+                batch.clear();
+                continue;
+            }
+            if (stopping && buffer.isEmpty()) {
+                return;
+            }
+            consumerParked = true;
+            // Re-check after publishing the flag, or an entry offered just before it could wait
+            if (buffer.isEmpty() && running) {
+                if (batch.isEmpty()) {
+                    LockSupport.park(this);
+                } else {
+                    LockSupport.parkNanos(this, oldestPending + flushIntervalNanos - System.nanoTime());
+                }
+            }
+            consumerParked = false;
+        }
+    }
+
+    private void writeBatch(List<UserActivityLog> batch) {
+        long start = System.nanoTime();
+        // A batch spans two months only around midnight UTC on the first
+        Map<YearMonth, List<UserActivityLog>> byMonth = new TreeMap<>();
+        for (UserActivityLog entry : batch) {
+            YearMonth month = entry.getTimestamp() == null ? YearMonth.now(ZoneOffset.UTC)
+                    : ActivityLogPartitions.monthOf(entry.getTimestamp());
+            byMonth.computeIfAbsent(month, m -> new ArrayList<>(batch.size())).add(entry);
+        }
+        byMonth.forEach(this::insert);
+        long elapsed = System.nanoTime() - start;
+        batches.incrementAndGet();
+        maxBatchNanos.accumulateAndGet(elapsed, Math::max);
+        lastBatchNanos = elapsed;
+    }
+
+    private void insert(YearMonth month, List<UserActivityLog> entries) {
+        try {
+            String sql = "INSERT INTO " + partitions.ensure(month) + INSERT_COLUMNS;
+            jdbcTemplate.batchUpdate(sql, entries, entries.size(), (ps, entry) -> {
+                ps.setString(1, entry.getUsername());
+                ps.setString(2, entry.getModule());
+                ps.setString(3, entry.getActivity());
+                ps.setString(4, entry.getDetails());
+                ps.setObject(5, entry.getTimestamp() == null ? null
+                        : OffsetDateTime.ofInstant(entry.getTimestamp(), ZoneOffset.UTC));
+                ps.setString(6, entry.getEntityType());
+                if (entry.getEntityId() == null) {
+                    ps.setNull(7, Types.BIGINT);
+                } else {
+                    ps.setLong(7, entry.getEntityId());
+                }
+            });
+            written.addAndGet(entries.size());
+        } catch (RuntimeException e) {
+            failed.addAndGet(entries.size());
+            log.error("Unable to write {} activity log entries for {}", entries.size(), month, e);
+        }
+    }
+}
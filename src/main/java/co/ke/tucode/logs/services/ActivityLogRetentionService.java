@@ -0,0 +1,294 @@
+package co.ke.tucode.logs.services;
+
+import co.ke.tucode.logs.entities.UserActivityLog;
+import co.ke.tucode.logs.payloads.ActivityLogArchiveMonth;
+import co.ke.tucode.logs.payloads.ActivityLogRetentionResult;
+import co.ke.tucode.logs.payloads.UserActivityLogDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Monthly retention for user activity logs.
+ *
+ * A calendar month (UTC) is the unit of retention: only the current month and
+ * the {@code retention.months - 1} before it are kept. Each month has its own
+ * table (see {@link ActivityLogPartitions}), so removing one is a DROP TABLE
+ * whatever its size.
+ *
+ * In ARCHIVE mode each month is first written to
+ * {@code <archive-dir>/yyyy-MM.ndjson.gz} as NDJSON log entries, and its table
+ * is only dropped once activity_log_archived_months records it as ARCHIVED.
+ * The month is recorded as ARCHIVING before the file is touched, together
+ * with the size the file had then. A retried run rebuilds the file from those
+ * bytes plus a fresh copy of the month and moves it into place atomically, so
+ * an interrupted run never leaves entries twice or a truncated file. Archived
+ * months can still be read through {@link #readArchive}. DROP mode drops
+ * without archiving.
+ */
+@Slf4j
+@Service
+public class ActivityLogRetentionService {
+
+    public enum Mode {
+        ARCHIVE, DROP
+    }
+
+    private static final String ARCHIVE_SUFFIX = ".ndjson.gz";
+
+    private static final String ARCHIVING = "ARCHIVING";
+    private static final String ARCHIVED = "ARCHIVED";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ActivityLogPartitions partitions;
+    private final ObjectMapper objectMapper;
+
+    @Value("${bulkstream.activity-log.retention.months:6}")
+    private int retentionMonths;
+
+    @Value("${bulkstream.activity-log.retention.mode:ARCHIVE}")
+    private Mode mode;
+
+    @Value("${bulkstream.activity-log.retention.archive-dir:${user.dir}/H2/archive/activity-logs}")
+    private String archiveDir;
+
+    public ActivityLogRetentionService(JdbcTemplate jdbcTemplate, ActivityLogPartitions partitions,
+            ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.partitions = partitions;
+        this.objectMapper = objectMapper;
+    }
+
+    @Scheduled(cron = "${bulkstream.activity-log.retention.cron:0 30 2 * * *}")
+    public void scheduledRun() {
+        try {
+            ActivityLogRetentionResult result = applyRetention();
+            if (!result.getMonths().isEmpty()) {
+                log.info("Activity log retention removed {} ({} rows, {} archived)",
+                        result.getMonths(), result.getDeletedRows(), result.getArchivedRows());
+            }
+        } catch (RuntimeException e) {
+            log.error("Activity log retention failed", e);
+        }
+    }
+
+    /**
+     * Archives (in ARCHIVE mode) and drops every month older than the
+     * retention window, oldest first. A month whose archive cannot be written
+     * keeps its table and stops the run.
+     */
+    public synchronized ActivityLogRetentionResult applyRetention() {
+        long start = System.currentTimeMillis();
+        YearMonth keepFrom = YearMonth.now(ZoneOffset.UTC).minusMonths(Math.max(retentionMonths, 1) - 1L);
+        List<String> months = new ArrayList<>();
+        long archived = 0;
+        long deleted = 0;
+
+        for (YearMonth month : partitions.months().headSet(keepFrom)) {
+            Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + partitions.table(month), Long.class);
+            if (mode == Mode.ARCHIVE) {
+                archived += archiveMonth(month);
+            }
+            partitions.drop(month);
+            deleted += rows == null ? 0 : rows;
+            months.add(month.toString());
+        }
+        return new ActivityLogRetentionResult(mode.name(), keepFrom.toString(), months, archived, deleted,
+                System.currentTimeMillis() - start);
+    }
+
+    public List<ActivityLogArchiveMonth> listArchives() {
+        Path directory = Paths.get(archiveDir);
+        if (!Files.isDirectory(directory)) {
+            return Collections.emptyList();
+        }
+        List<ActivityLogArchiveMonth> archives = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + ARCHIVE_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                archives.add(new ActivityLogArchiveMonth(
+                        name.substring(0, name.length() - ARCHIVE_SUFFIX.length()), Files.size(file)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        archives.sort((a, b) -> a.getMonth().compareTo(b.getMonth()));
+        return archives;
+    }
+
+    /**
+     * Streams the archived entries of one month as NDJSON, keeping only those
+     * matching the given filters (each optional).
+     *
+     * @return the number of entries written
+     * @throws IllegalArgumentException if the month is malformed or not archived
+     */
+    public long readArchive(String month, String username, String module, String entityType, Long entityId,
+            OutputStream out) throws IOException {
+        Path file = archiveFile(parseMonth(month));
+        if (!Files.exists(file)) {
+            throw new IllegalArgumentException("No archive for " + month);
+        }
+        boolean filtered = username != null || module != null || entityType != null || entityId != null;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long count = 0;
+        // GZIPInputStream reads every appended member in turn
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file), 64 * 1024), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                if (filtered) {
+                    UserActivityLogDto entry = objectMapper.readValue(line, UserActivityLogDto.class);
+                    if ((username != null && !username.equals(entry.getUsername()))
+                            || (module != null && !module.equals(entry.getModule()))
+                            || (entityType != null && !entityType.equals(entry.getEntityType()))
+                            || (entityId != null && !entityId.equals(entry.getEntityId()))) {
+                        continue;
+                    }
+                }
+                writer.write(line);
+                writer.write('\n');
+                count++;
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * Writes the month's archive unless it is already recorded as ARCHIVED.
+     * The new file is the archive as it was before this month was first
+     * attempted, followed by one gzip member with the month's entries.
+     *
+     * @return the number of entries archived by this call
+     */
+    private long archiveMonth(YearMonth month) {
+        List<Map<String, Object>> recorded = jdbcTemplate.queryForList(
+                "SELECT status, base_bytes FROM activity_log_archived_months WHERE archive_month = ?", month.toString());
+        if (!recorded.isEmpty() && ARCHIVED.equals(recorded.get(0).get("status"))) {
+            return 0; // Archived by a run that stopped before dropping the table
+        }
+
+        Path archive = archiveFile(month);
+        Path part = archive.resolveSibling(archive.getFileName() + ".part");
+        long[] rows = { 0 };
+        try {
+            long baseBytes;
+            if (recorded.isEmpty()) {
+                // Archives written before month tables may already hold entries of this month
+                baseBytes = Files.exists(archive) ? Files.size(archive) : 0;
+                jdbcTemplate.update("INSERT INTO activity_log_archived_months (archive_month, status, base_bytes, "
+                        + "updated_at) VALUES (?, ?, ?, ?)", month.toString(), ARCHIVING, baseBytes, now());
+            } else {
+                baseBytes = ((Number) recorded.get(0).get("base_bytes")).longValue();
+            }
+
+            Files.createDirectories(archive.getParent());
+            try (FileChannel target = FileChannel.open(part, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                if (baseBytes > 0) {
+                    try (FileChannel source = FileChannel.open(archive, StandardOpenOption.READ)) {
+                        for (long position = 0; position < baseBytes; ) {
+                            position += source.transferTo(position, baseBytes - position, target);
+                        }
+                    }
+                }
+                GZIPOutputStream gzip = new GZIPOutputStream(Channels.newOutputStream(target), 64 * 1024);
+                try (Writer writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8))) {
+                    jdbcTemplate.query(connection -> {
+                        var statement = connection.prepareStatement("SELECT " + ActivityLogPartitions.COLUMNS
+                                + " FROM " + partitions.table(month) + " ORDER BY timestamp, id");
+                        statement.setFetchSize(1000);
+                        return statement;
+                    }, resultSet -> {
+                        UserActivityLog row = ActivityLogPartitions.ROW_MAPPER.mapRow(resultSet, 0);
+                        UserActivityLogDto entry = UserActivityLogDto.builder()
+                                .id(row.getId())
+                                .username(row.getUsername())
+                                .module(row.getModule())
+                                .activity(row.getActivity())
+                                .details(row.getDetails())
+                                .entityType(row.getEntityType())
+                                .entityId(row.getEntityId())
+                                .clientTimestamp(row.getTimestamp() == null ? null : row.getTimestamp().toString())
+                                .build();
+                        try {
+                            writer.write(objectMapper.writeValueAsString(entry));
+                            writer.write('\n');
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        rows[0]++;
+                    });
+                    writer.flush();
+                    gzip.finish();
+                    target.force(true);
+                }
+            }
+            if (rows[0] > 0) {
+                Files.move(part, archive, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+            jdbcTemplate.update("UPDATE activity_log_archived_months SET status = ?, archived_rows = ?, "
+                    + "updated_at = ? WHERE archive_month = ?", ARCHIVED, rows[0], now(), month.toString());
+            return rows[0];
+        } catch (IOException | UncheckedIOException e) {
+            throw new IllegalStateException("Unable to archive activity logs for " + month, e);
+        } finally {
+            try {
+                Files.deleteIfExists(part);
+            } catch (IOException e) {
+                log.warn("Unable to delete {}", part, e);
+            }
+        }
+    }
+
+    private Path archiveFile(YearMonth month) {
+        return Paths.get(archiveDir, month + ARCHIVE_SUFFIX);
+    }
+
+    private static OffsetDateTime now() {
+        return OffsetDateTime.now(ZoneOffset.UTC);
+    }
+
+    private static YearMonth parseMonth(String month) {
+        try {
+            return YearMonth.parse(month);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid month: " + month + ". Expected yyyy-MM");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package co.ke.tucode.logs.services;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer for many producers and one consumer.
+ *
+ * Each slot carries a sequence number (Vyukov's bounded queue): a producer
+ * claims a slot with a CAS on the write position, stores its element and then
+ * publishes it by advancing the slot's sequence; the consumer takes a slot only
+ * once its sequence shows it has been published. {@link #offer} never blocks
+ * and returns false when the buffer is full.
+ */
+public final class ActivityLogRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong writePosition = new AtomicLong();
+    private final AtomicLong readPosition = new AtomicLong();
+
+    /**
+     * @param capacity rounded up to the next power of two
+     */
+    public ActivityLogRingBuffer(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("capacity must be at least 2");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public boolean offer(E element) {
+        long position = writePosition.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (writePosition.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = writePosition.get();
+            } else if (difference < 0) {
+                return false; // Slot not yet consumed from the previous lap: full
+            } else {
+                position = writePosition.get();
+            }
+        }
+    }
+
+    /**
+     * Moves up to {@code max} published elements into {@code target}. Must only
+     * be called from the single consumer thread.
+     *
+     * @return the number of elements moved
+     */
+    public int drainTo(List<E> target, int max) {
+        long position = readPosition.get();
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                break; // Not published yet
+            }
+            target.add(elements.get(index));
+            elements.lazySet(index, null);
+            sequences.set(index, position + mask + 1);
+            position++;
+            drained++;
+        }
+        readPosition.lazySet(position);
+        return drained;
+    }
+
+    public int size() {
+        long size = writePosition.get() - readPosition.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -1,25 +1,57 @@
 package co.ke.tucode.logs.services;
 
 import co.ke.tucode.logs.entities.UserActivityLog;
+import co.ke.tucode.logs.payloads.ActivityLogCursor;
+import co.ke.tucode.logs.payloads.ActivityLogPipelineStats;
 import co.ke.tucode.logs.payloads.UserActivityLogDto;
-import co.ke.tucode.logs.repositories.UserActivityLogRepository;
+import co.ke.tucode.logs.payloads.UserActivityLogPage;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Sort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
 import java.time.Instant;
-import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+/**
+ * Reads go to the month tables directly, newest month first, and stop as soon
+ * as enough rows are found: each month is an ordered range scan on its own
+ * index, which a sort over the UNION ALL view could not be.
+ */
 @Service
 @RequiredArgsConstructor
 public class UserActivityLogService {
 
-    private final UserActivityLogRepository logRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    // ✅ Existing logging method
+    private final ActivityLogPartitions partitions;
+
+    private final ActivityLogPipeline logPipeline;
+
+    private final ObjectMapper objectMapper;
+
+    // Cap for the list endpoints, which return the newest rows only
+    @Value("${bulkstream.activity-log.max-list-size:1000}")
+    private int maxListSize;
+
+    @Value("${bulkstream.activity-log.default-range-days:30}")
+    private int defaultRangeDays;
+
+    // ✅ Existing logging method, written asynchronously by ActivityLogPipeline
     public void log(String username, String module, String activity, String details, String entityType, Long entityId) {
         UserActivityLog log = UserActivityLog.builder()
                 .username(username)
@@ -31,12 +63,17 @@ public class UserActivityLogService {
                 .entityId(entityId)
                 .build();
 
-        logRepository.save(log);
+        logPipeline.publish(log);
+    }
+
+    public ActivityLogPipelineStats getPipelineStats() {
+        return logPipeline.stats();
     }
 
     // ✅ Private mapper from Entity to DTO
     private UserActivityLogDto mapToDto(UserActivityLog log) {
         return UserActivityLogDto.builder()
+                .id(log.getId())
                 .username(log.getUsername())
                 .module(log.getModule())
                 .activity(log.getActivity())
@@ -48,35 +85,175 @@ public class UserActivityLogService {
                 .build();
     }
 
-    // ✅ Get all logs (sorted by timestamp desc)
+    // ✅ Get the latest logs (newest first, at most max-list-size)
     public List<UserActivityLogDto> getAllLogs() {
-        return logRepository.findAll(Sort.by(Sort.Direction.DESC, "timestamp"))
+        return newest("", List.of(), null, null, 0, maxListSize)
                 .stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
     }
 
-    // ✅ Get logs by user
+    // ✅ Get the latest logs by user
     public List<UserActivityLogDto> getLogsByUser(String username) {
-        return logRepository.findByUsernameOrderByTimestampDesc(username)
+        return newest("username = ?", List.of(username), null, null, 0, maxListSize)
                 .stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
     }
 
-    // ✅ Get logs by module
+    // ✅ Get the latest logs by module
     public List<UserActivityLogDto> getLogsByModule(String module) {
-        return logRepository.findByModule(module)
+        return newest("module = ?", List.of(module), null, null, 0, maxListSize)
                 .stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
     }
 
-    // ✅ Get logs by entity type and ID
+    // ✅ Get the latest logs by entity type and ID
     public List<UserActivityLogDto> getLogsByEntity(String entityType, Long entityId) {
-        return logRepository.findByEntityTypeAndEntityId(entityType, entityId)
+        return newest("entity_type = ? AND entity_id = ?", List.of(entityType, entityId), null, null, 0,
+                maxListSize)
                 .stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Keyset-paginated logs in [from, to), newest first, optionally filtered by
+     * username, module or entity (at most one). A missing to means now, a
+     * missing from means default-range-days before to.
+     */
+    public UserActivityLogPage getLogPage(String username, String module, String entityType, Long entityId,
+            Instant from, Instant to, String after, int size) {
+        Instant end = to != null ? to : Instant.now();
+        Instant start = from != null ? from : end.minus(defaultRangeDays, ChronoUnit.DAYS);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        int filters = (username != null ? 1 : 0) + (module != null ? 1 : 0) + (entityType != null ? 1 : 0);
+        if (filters > 1) {
+            throw new IllegalArgumentException("Filter by at most one of username, module or entity");
+        }
+        if ((entityType == null) != (entityId == null)) {
+            throw new IllegalArgumentException("entityType and entityId must be given together");
+        }
+
+        // The first page starts just before the end of the range
+        Instant timestamp = end;
+        long id = Long.MIN_VALUE;
+        if (after != null && !after.isBlank()) {
+            ActivityLogCursor position = ActivityLogCursor.decode(after);
+            timestamp = position.timestamp();
+            id = position.id();
+        }
+
+        // One extra row tells whether there is a next page
+        int limit = size + 1;
+        List<UserActivityLog> rows;
+        if (username != null) {
+            rows = newest("username = ?", List.of(username), start, timestamp, id, limit);
+        } else if (module != null) {
+            rows = newest("module = ?", List.of(module), start, timestamp, id, limit);
+        } else if (entityType != null) {
+            rows = newest("entity_type = ? AND entity_id = ?", List.of(entityType, entityId), start, timestamp,
+                    id, limit);
+        } else {
+            rows = newest("", List.of(), start, timestamp, id, limit);
+        }
+
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            nextCursor = ActivityLogCursor.of(rows.get(size - 1)).encode();
+        }
+        List<UserActivityLogDto> content = rows.stream().map(this::mapToDto).collect(Collectors.toList());
+        return new UserActivityLogPage(content, content.size(), nextCursor);
+    }
+
+    /**
+     * Writes the logs in [from, to) as NDJSON, oldest first. Each month table
+     * is read through a database cursor and rows are written as they arrive,
+     * so memory use does not grow with the range.
+     *
+     * @return the number of rows written
+     */
+    public long exportLogs(Instant from, Instant to, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long[] count = { 0 };
+        try {
+            for (YearMonth month : partitions.months()) {
+                if (!ActivityLogPartitions.start(month.plusMonths(1)).isAfter(from)) {
+                    continue;
+                }
+                if (!ActivityLogPartitions.start(month).isBefore(to)) {
+                    break;
+                }
+                String sql = "SELECT " + ActivityLogPartitions.COLUMNS + " FROM " + partitions.table(month)
+                        + " WHERE timestamp >= ? AND timestamp < ? ORDER BY timestamp, id";
+                jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(sql);
+                    statement.setFetchSize(500);
+                    statement.setObject(1, from.atOffset(ZoneOffset.UTC));
+                    statement.setObject(2, to.atOffset(ZoneOffset.UTC));
+                    return statement;
+                }, resultSet -> {
+                    UserActivityLog log = ActivityLogPartitions.ROW_MAPPER.mapRow(resultSet, 0);
+                    try {
+                        writer.write(objectMapper.writeValueAsString(mapToDto(log)));
+                        writer.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    count[0]++;
+                });
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        return count[0];
+    }
+
+    /**
+     * Up to limit rows older than the (timestamp, id) position and no older
+     * than from, newest first; a null timestamp or from leaves that end open.
+     *
+     * @param filter condition on the filter columns, or empty
+     */
+    private List<UserActivityLog> newest(String filter, List<Object> filterArgs, Instant from, Instant timestamp,
+            long id, int limit) {
+        List<UserActivityLog> rows = new ArrayList<>(Math.min(limit, 1024));
+        for (YearMonth month : partitions.months().descendingSet()) {
+            if (timestamp != null && ActivityLogPartitions.start(month).isAfter(timestamp)) {
+                continue;
+            }
+            if (from != null && !ActivityLogPartitions.start(month.plusMonths(1)).isAfter(from)) {
+                break;
+            }
+            List<String> conditions = new ArrayList<>(4);
+            List<Object> args = new ArrayList<>(filterArgs);
+            if (!filter.isEmpty()) {
+                conditions.add(filter);
+            }
+            if (from != null) {
+                conditions.add("timestamp >= ?");
+                args.add(from.atOffset(ZoneOffset.UTC));
+            }
+            if (timestamp != null) {
+                conditions.add("timestamp <= ? AND (timestamp < ? OR id < ?)");
+                args.add(timestamp.atOffset(ZoneOffset.UTC));
+                args.add(timestamp.atOffset(ZoneOffset.UTC));
+                args.add(id);
+            }
+            args.add(limit - rows.size());
+            String sql = "SELECT " + ActivityLogPartitions.COLUMNS + " FROM " + partitions.table(month)
+                    + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+                    + " ORDER BY timestamp DESC, id DESC FETCH FIRST ? ROWS ONLY";
+            rows.addAll(jdbcTemplate.query(sql, ActivityLogPartitions.ROW_MAPPER, args.toArray()));
+            if (rows.size() >= limit) {
+                break;
+            }
+        }
+        return rows;
+    }
 }
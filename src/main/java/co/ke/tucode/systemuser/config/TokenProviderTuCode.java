@@ -1,9 +1,16 @@
 package co.ke.tucode.systemuser.config;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
-import java.util.function.Function;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -13,24 +20,88 @@ import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 
 @Service
 public class TokenProviderTuCode {
     @Value("${jwt.signing.key}")
     private String jwtSigningKey;
-    
+
+    // Tokens whose signature has already been checked, until they expire
+    @Value("${jwt.cache.max-entries:10000}")
+    private int maxCachedTokens;
+
+    private Key signingKey;
+
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
+    /**
+     * Subject and expiry of a token whose signature has been verified.
+     */
+    public record VerifiedToken(String subject, long expiresAtMillis) {
+
+        public boolean isExpired(long nowMillis) {
+            return expiresAtMillis <= nowMillis;
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        byte[] keyBytes = Decoders.BASE64.decode(jwtSigningKey);
+        signingKey = Keys.hmacShaKeyFor(keyBytes);
+    }
+
+    /**
+     * Parses and verifies the token once, or returns the cached result of an
+     * earlier verification of the same token. Cached entries are keyed by the
+     * SHA-256 of the whole token and dropped when the token expires.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, badly signed or expired
+     */
+    public VerifiedToken verify(String token) {
+        String key = hash(token);
+        long now = System.currentTimeMillis();
+        VerifiedToken cached = verifiedTokens.get(key);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            // Expired: parse again so the caller sees the same exception as before
+            verifiedTokens.remove(key, cached);
+        }
+
+        Claims claims = extractAllClaims(token);
+        Date expiration = claims.getExpiration();
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+        if (expiration != null) { // Tokens without expiry are not cached
+            if (verifiedTokens.size() >= maxCachedTokens) {
+                evictExpired();
+            }
+            if (verifiedTokens.size() < maxCachedTokens) {
+                verifiedTokens.put(key, verified);
+            }
+        }
+        return verified;
+    }
+
     public String extractUserName(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).subject();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String userName = extractUserName(token);
-        return (userName.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(verify(token), userDetails);
+    }
+
+    public boolean isTokenValid(VerifiedToken token, UserDetails userDetails) {
+        return token.subject() != null && token.subject().equals(userDetails.getUsername())
+                && !token.isExpired(System.currentTimeMillis());
     }
 
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolvers) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolvers.apply(claims);
+    @Scheduled(fixedDelayString = "${jwt.cache.sweep-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        verifiedTokens.values().removeIf(token -> token.isExpired(now));
     }
 
     // private String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
@@ -46,25 +117,21 @@ public class TokenProviderTuCode {
                 .setSubject(authentication.getName())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 24))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
     private Claims extractAllClaims(String token) {
-        return Jwts.parser().setSigningKey(getSigningKey()).parseClaimsJws(token)
+        return Jwts.parser().setSigningKey(signingKey).parseClaimsJws(token)
                 .getBody();
     }
 
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtSigningKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -6,6 +6,7 @@ import co.ke.tucode.systemuser.entities.Role;
 import co.ke.tucode.systemuser.entities.TRES_User;
 import co.ke.tucode.systemuser.payloads.AfricanaUserDto;
 import co.ke.tucode.systemuser.payloads.LoginRequest;
+import co.ke.tucode.systemuser.payloads.UserDetailsCacheStats;
 import co.ke.tucode.systemuser.services.Africana_UserService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -188,4 +189,12 @@ public class UserController {
                 ? ResponseEntity.status(HttpStatus.NOT_FOUND).body("User not found with email: " + email)
                 : ResponseEntity.ok(users.get(0));
     }
+
+    /**
+     * Hit/miss counters of the UserDetails cache used by the JWT filter.
+     */
+    @GetMapping("/get_user_cache_stats")
+    public ResponseEntity<UserDetailsCacheStats> getUserCacheStats() {
+        return ResponseEntity.ok(service.getUserCacheStats());
+    }
 }
@@ -0,0 +1,19 @@
+package co.ke.tucode.systemuser.payloads;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDetailsCacheStats {
+    private int size;
+    private int maxEntries;
+    private long ttlSeconds;
+    private long hits;
+    private long misses;
+    private long evictions; // Expired or pushed out by the size bound
+    private long invalidations; // User saved, updated or deleted
+    private double hitRatio;
+}
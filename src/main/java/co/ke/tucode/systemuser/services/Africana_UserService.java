@@ -1,18 +1,28 @@
 package co.ke.tucode.systemuser.services;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import co.ke.tucode.systemuser.entities.TRES_User;
 import co.ke.tucode.systemuser.payloads.AfricanaUserDto;
+import co.ke.tucode.systemuser.payloads.UserDetailsCacheStats;
 import co.ke.tucode.systemuser.repositories.Africana_UserRepository;
 import jakarta.transaction.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 @Transactional
@@ -21,8 +31,25 @@ public class Africana_UserService implements UserDetailsService {
     @Autowired
     private Africana_UserRepository repository;
 
+    // UserDetails for the JWT filter, so active sessions skip the users query
+    @Value("${bulkstream.user-cache.ttl-seconds:300}")
+    private long userCacheTtlSeconds;
+
+    @Value("${bulkstream.user-cache.max-entries:1000}")
+    private int userCacheMaxEntries;
+
+    private final Map<String, CachedUser> userCache = new ConcurrentHashMap<>();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+    private final AtomicLong cacheEvictions = new AtomicLong();
+    private final AtomicLong cacheInvalidations = new AtomicLong();
+
+    private record CachedUser(UserDetails userDetails, long expiresAtNanos) {
+    }
+
     public void save(TRES_User certificate) {
         repository.save(certificate);
+        invalidateCachedUser(certificate.getEmail());
     }
 
     public List<AfricanaUserDto> findAll() {
@@ -37,15 +64,22 @@ public class Africana_UserService implements UserDetailsService {
     }
 
     public void update(TRES_User certificate) {
+        // The email itself may change, so the entry cached under the old one goes too
+        String previousEmail = certificate.getId() == null ? null
+                : repository.findById(certificate.getId()).map(TRES_User::getEmail).orElse(null);
         repository.save(certificate);
+        invalidateCachedUser(previousEmail);
+        invalidateCachedUser(certificate.getEmail());
     }
 
     public void deleteByEmail(String email) {
         repository.deleteByEmail(email);
+        invalidateCachedUser(email);
     }
 
     public void deleteAll() {
         repository.deleteAll();
+        invalidateCachedUsers();
     }
 
         public List<AfricanaUserDto> findById(Long id) {
@@ -79,16 +113,101 @@ public class Africana_UserService implements UserDetailsService {
         return repository.count();
     }
 
+    /**
+     * Used by the JWT filter on every authenticated request. Results are cached
+     * for user-cache.ttl-seconds; each caller gets its own copy, since Spring
+     * Security may erase the credentials of the instance it is given. Login
+     * goes through {@link #userDetailsService()} and always reads the database.
+     * Joins a caller's transaction but does not open one, so a cache hit never
+     * touches the connection pool; a miss reads through the repository's own.
+     */
     @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        // TODO Auto-generated method stub
+        long now = System.nanoTime();
+        CachedUser cached = userCache.get(username);
+        if (cached != null) {
+            if (now - cached.expiresAtNanos() < 0) {
+                cacheHits.incrementAndGet();
+                return User.withUserDetails(cached.userDetails()).build();
+            }
+            if (userCache.remove(username, cached)) {
+                cacheEvictions.incrementAndGet();
+            }
+        }
+        cacheMisses.incrementAndGet();
+
         List<TRES_User> users = repository.findByEmail(username);
 
         if (users.isEmpty()) {
             throw new UsernameNotFoundException(username + " doesn't exist");
         }
 
-        return new User(users.get(0).getEmail(), users.get(0).getPassword(), users.get(0).getAuthorities());
+        UserDetails userDetails = new User(users.get(0).getEmail(), users.get(0).getPassword(),
+                users.get(0).getAuthorities());
+        if (userCache.size() >= userCacheMaxEntries) {
+            evictCachedUsers(now);
+        }
+        if (userCache.size() < userCacheMaxEntries) {
+            userCache.put(username, new CachedUser(userDetails,
+                    now + TimeUnit.SECONDS.toNanos(userCacheTtlSeconds)));
+        }
+        return User.withUserDetails(userDetails).build();
+    }
+
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public UserDetailsCacheStats getUserCacheStats() {
+        long hits = cacheHits.get();
+        long lookups = hits + cacheMisses.get();
+        return new UserDetailsCacheStats(userCache.size(), userCacheMaxEntries, userCacheTtlSeconds, hits,
+                cacheMisses.get(), cacheEvictions.get(), cacheInvalidations.get(),
+                lookups == 0 ? 0 : (double) hits / lookups);
+    }
+
+    /**
+     * Drops expired entries; if none had expired, drops the oldest eighth
+     * (everything shares one TTL, so the earliest to expire were cached first).
+     * Evicting a slice rather than one entry keeps the sort off most misses.
+     */
+    private void evictCachedUsers(long now) {
+        int before = userCache.size();
+        userCache.values().removeIf(cached -> now - cached.expiresAtNanos() >= 0);
+        if (userCache.size() >= userCacheMaxEntries) {
+            List<Map.Entry<String, CachedUser>> oldest = new ArrayList<>(userCache.entrySet());
+            oldest.sort(Comparator.comparingLong(entry -> entry.getValue().expiresAtNanos() - now));
+            for (Map.Entry<String, CachedUser> entry : oldest.subList(0, Math.max(1, oldest.size() / 8))) {
+                userCache.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        cacheEvictions.addAndGet(Math.max(0, before - userCache.size()));
+    }
+
+    private void invalidateCachedUser(String email) {
+        nowAndAfterCommit(() -> {
+            if (email != null && userCache.remove(email) != null) {
+                cacheInvalidations.incrementAndGet();
+            }
+        });
+    }
+
+    private void invalidateCachedUsers() {
+        nowAndAfterCommit(() -> {
+            cacheInvalidations.addAndGet(userCache.size());
+            userCache.clear();
+        });
+    }
+
+    // Invalidate again once committed, so a concurrent lookup cannot re-cache the old row
+    private static void nowAndAfterCommit(Runnable invalidation) {
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+        }
     }
 
     public UserDetailsService userDetailsService() {
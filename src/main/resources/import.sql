@@ -1,15200 +0,0 @@
--- --------------------------------------------------------
--- Host:                         10.168.3.211
--- Server version:               8.0.42-0ubuntu0.22.04.1 - (Ubuntu)
--- Server OS:                    Linux
--- HeidiSQL Version:             11.3.0.6295
--- --------------------------------------------------------
-
-/*!40101 SET @OLD_CHARACTER_SET_CLIENT=@@CHARACTER_SET_CLIENT */;
-/*!40101 SET NAMES utf8 */;
-/*!50503 SET NAMES utf8mb4 */;
-/*!40014 SET @OLD_FOREIGN_KEY_CHECKS=@@FOREIGN_KEY_CHECKS, FOREIGN_KEY_CHECKS=0 */;
-/*!40101 SET @OLD_SQL_MODE=@@SQL_MODE, SQL_MODE='NO_AUTO_VALUE_ON_ZERO' */;
-/*!40111 SET @OLD_SQL_NOTES=@@SQL_NOTES, SQL_NOTES=0 */;
-
--- Dumping data for table bs_gaspetro_tos.table60b: ~14,928 rows (approximately)
-/*!40000 ALTER TABLE `table60b` DISABLE KEYS */;
-INSERT INTO `vcftable` (`id`, `density`, `temperature`, `vcf`, `class`, `vcf2`) VALUES
-	(1, 900, 15, 1.0039, NULL, NULL),
-	(2, 900, 15.25, 1.0037, NULL, NULL),
-	(3, 900, 15.5, 1.0035, NULL, NULL),
-	(4, 900, 16, 1.0031, NULL, NULL),
-	(5, 900, 16.25, 1.0029, NULL, NULL),
-	(6, 900, 16.5, 1.0027, NULL, NULL),
-	(7, 900, 16.75, 1.0025, NULL, NULL),
-	(8, 900, 17, 1.0023, NULL, NULL),
-	(9, 900, 17.25, 1.0021, NULL, NULL),
-	(10, 900, 17.5, 1.0019, NULL, NULL),
-	(11, 900, 17.75, 1.0017, NULL, NULL),
-	(12, 900, 18, 1.0015, NULL, NULL),
-	(13, 900, 18.25, 1.0014, NULL, NULL),
-	(14, 900, 18.5, 1.0012, NULL, NULL),
-	(15, 900, 18.75, 1.001, NULL, NULL),
-	(16, 900, 19, 1.0008, NULL, NULL),
-	(17, 900, 19.25, 1.0006, NULL, NULL),
-	(18, 900, 19.5, 1.0004, NULL, NULL),
-	(19, 900, 19.75, 1.0002, NULL, NULL),
-	(20, 900, 20, 1, NULL, NULL),
-	(21, 900, 20.25, 0.9998, NULL, NULL),
-	(22, 900, 20.5, 0.9996, NULL, NULL),
-	(23, 900, 20.75, 0.9994, NULL, NULL),
-	(24, 900, 21, 0.9992, NULL, NULL),
-	(25, 900, 21.25, 0.999, NULL, NULL),
-	(26, 900, 21.5, 0.9989, NULL, NULL),
-	(27, 900, 21.75, 0.9987, NULL, NULL),
-	(28, 900, 22, 0.9985, NULL, NULL),
-	(29, 900, 22.25, 0.9983, NULL, NULL),
-	(30, 900, 22.5, 0.9981, NULL, NULL),
-	(31, 900, 22.75, 0.9979, NULL, NULL),
-	(32, 900, 23, 0.9977, NULL, NULL),
-	(33, 900, 23.25, 0.0975, NULL, NULL),
-	(34, 900, 23.5, 0.0973, NULL, NULL),
-	(35, 900, 24, 0.9969, NULL, NULL),
-	(36, 900, 24.25, 0.9967, NULL, NULL),
-	(37, 900, 24.5, 0.9965, NULL, NULL),
-	(38, 900, 24.75, 0.9963, NULL, NULL),
-	(39, 900, 25, 0.9961, NULL, NULL),
-	(40, 900, 25.25, 0.9959, NULL, NULL),
-	(41, 900, 25.5, 0.9957, NULL, NULL),
-	(42, 900, 25.75, 0.9956, NULL, NULL),
-	(43, 900, 26, 0.9954, NULL, NULL),
-	(44, 900, 26.25, 0.9952, NULL, NULL),
-	(45, 900, 26.5, 0.995, NULL, NULL),
-	(46, 900, 26.75, 0.9948, NULL, NULL),
-	(47, 900, 27, 0.9946, NULL, NULL),
-	(48, 900, 27.25, 0.9944, NULL, NULL),
-	(49, 900, 27.5, 0.9942, NULL, NULL),
-	(50, 900, 27.75, 0.994, NULL, NULL),
-	(51, 900, 28, 0.9938, NULL, NULL),
-	(52, 900, 28.25, 0.9936, NULL, NULL),
-	(53, 900, 28.5, 0.9934, NULL, NULL),
-	(54, 900, 28.75, 0.9932, NULL, NULL),
-	(55, 900, 29, 0.993, NULL, NULL),
-	(56, 900, 29.25, 0.9928, NULL, NULL),
-	(57, 900, 29.5, 0.9927, NULL, NULL),
-	(58, 900, 29.75, 0.9925, NULL, NULL),
-	(59, 900, 30, 0.9923, NULL, NULL),
-	(60, 900, 30.25, 0.9921, NULL, NULL),
-	(61, 900, 30.5, 0.9919, NULL, NULL),
-	(62, 900, 30.75, 0.9917, NULL, NULL),
-	(63, 900, 31, 0.9915, NULL, NULL),
-	(64, 900, 31.25, 0.9913, NULL, NULL),
-	(65, 900, 31.5, 0.9911, NULL, NULL),
-	(66, 900, 31.75, 0.9909, NULL, NULL),
-	(67, 900, 32, 0.9907, NULL, NULL),
-	(68, 900, 32.25, 0.9905, NULL, NULL),
-	(69, 900, 32.5, 0.9903, NULL, NULL),
-	(70, 900, 32.75, 0.9901, NULL, NULL),
-	(71, 900, 33, 0.9899, NULL, NULL),
-	(72, 900, 33.25, 0.9897, NULL, NULL),
-	(73, 900, 33.5, 0.9895, NULL, NULL),
-	(74, 900, 33.75, 0.9894, NULL, NULL),
-	(75, 900, 34, 0.9892, NULL, NULL),
-	(76, 900, 34.25, 0.989, NULL, NULL),
-	(77, 900, 34.5, 0.9888, NULL, NULL),
-	(78, 900, 34.75, 0.9886, NULL, NULL),
-	(79, 900, 35, 0.9884, NULL, NULL),
-	(80, 900, 35.25, 0.9882, NULL, NULL),
-	(81, 900, 35.5, 0.988, NULL, NULL),
-	(82, 900, 35.75, 0.9878, NULL, NULL),
-	(83, 900, 36, 0.9876, NULL, NULL),
-	(84, 900, 36.25, 0.9874, NULL, NULL),
-	(85, 900, 36.5, 0.9872, NULL, NULL),
-	(86, 900, 36.75, 0.987, NULL, NULL),
-	(87, 900, 37, 0.9868, NULL, NULL),
-	(88, 900, 37.25, 0.9866, NULL, NULL),
-	(89, 900, 37.5, 0.9864, NULL, NULL),
-	(90, 900, 37.75, 0.9862, NULL, NULL),
-	(91, 900, 38, 0.9861, NULL, NULL),
-	(92, 900, 38.25, 0.9859, NULL, NULL),
-	(93, 900, 38.5, 0.9857, NULL, NULL),
-	(94, 900, 38.75, 0.9855, NULL, NULL),
-	(95, 900, 39, 0.9853, NULL, NULL),
-	(96, 900, 39.25, 0.9851, NULL, NULL),
-	(97, 900, 39.5, 0.9849, NULL, NULL),
-	(98, 900, 39.75, 0.9847, NULL, NULL),
-	(99, 900, 40, 0.9845, NULL, NULL),
-	(100, 900, 40.25, 0.9843, NULL, NULL),
-	(101, 900, 40.5, 0.9841, NULL, NULL),
-	(102, 900, 40.75, 0.9839, NULL, NULL),
-	(103, 900, 41, 0.9837, NULL, NULL),
-	(104, 900, 41.25, 0.9835, NULL, NULL),
-	(105, 900, 41.5, 0.9833, NULL, NULL),
-	(106, 900, 41.75, 0.9831, NULL, NULL),
-	(107, 900, 42, 0.9829, NULL, NULL),
-	(108, 900, 42.25, 0.9827, NULL, NULL),
-	(109, 900, 42.5, 0.9825, NULL, NULL),
-	(110, 900, 42.75, 0.9824, NULL, NULL),
-	(111, 900, 43, 0.9822, NULL, NULL),
-	(112, 900, 43.25, 0.982, NULL, NULL),
-	(113, 900, 43.5, 0.9818, NULL, NULL),
-	(114, 900, 43.75, 0.9816, NULL, NULL),
-	(115, 900, 44, 0.9814, NULL, NULL),
-	(116, 900, 44.25, 0.9812, NULL, NULL),
-	(117, 900, 44.5, 0.981, NULL, NULL),
-	(118, 900, 44.75, 0.9808, NULL, NULL),
-	(119, 900, 45, 0.9806, NULL, NULL),
-	(120, 900, 45.25, 0.9804, NULL, NULL),
-	(121, 900, 45.5, 0.9802, NULL, NULL),
-	(122, 900, 45.75, 0.98, NULL, NULL),
-	(123, 900, 46, 0.9798, NULL, NULL),
-	(124, 900, 46.25, 0.9796, NULL, NULL),
-	(125, 900, 46.5, 0.9794, NULL, NULL),
-	(126, 900, 46.75, 0.9792, NULL, NULL),
-	(127, 900, 47, 0.979, NULL, NULL),
-	(128, 900, 47.25, 0.9788, NULL, NULL),
-	(129, 900, 47.5, 0.9786, NULL, NULL),
-	(130, 900, 47.75, 0.9785, NULL, NULL),
-	(131, 900, 48, 0.9783, NULL, NULL),
-	(132, 900, 48.25, 0.9781, NULL, NULL),
-	(133, 900, 48.5, 0.9779, NULL, NULL),
-	(134, 900, 48.75, 0.9777, NULL, NULL),
-	(135, 900, 49, 0.9775, NULL, NULL),
-	(136, 900, 49.25, 0.9773, NULL, NULL),
-	(137, 900, 49.5, 0.9771, NULL, NULL),
-	(138, 900, 49.75, 0.9769, NULL, NULL),
-	(139, 900, 50, 0.9767, NULL, NULL),
-	(140, 900.5, 15, 1.0039, NULL, NULL),
-	(141, 900.5, 15.25, 1.0037, NULL, NULL),
-	(142, 900.5, 15.5, 1.0035, NULL, NULL),
-	(143, 900.5, 15.75, 1.0033, NULL, NULL),
-	(144, 900.5, 16, 1.0031, NULL, NULL),
-	(145, 900.5, 16.25, 1.0029, NULL, NULL),
-	(146, 900.5, 16.5, 1.0027, NULL, NULL),
-	(147, 900.5, 16.75, 1.0025, NULL, NULL),
-	(148, 900.5, 17, 1.0023, NULL, NULL),
-	(149, 900.5, 17.25, 1.0021, NULL, NULL),
-	(150, 900.5, 17.5, 1.0019, NULL, NULL),
-	(151, 900.5, 17.75, 1.0017, NULL, NULL),
-	(152, 900.5, 18, 1.0015, NULL, NULL),
-	(153, 900.5, 18.25, 1.0013, NULL, NULL),
-	(154, 900.5, 18.5, 1.0012, NULL, NULL),
-	(155, 900.5, 18.75, 1.001, NULL, NULL),
-	(156, 900.5, 19, 1.0008, NULL, NULL),
-	(157, 900.5, 19.25, 1.0006, NULL, NULL),
-	(158, 900.5, 19.5, 1.0004, NULL, NULL),
-	(159, 900.5, 19.75, 1.0002, NULL, NULL),
-	(160, 900.5, 20, 1, NULL, NULL),
-	(161, 900.5, 20.25, 0.9998, NULL, NULL),
-	(162, 900.5, 20.5, 0.9996, NULL, NULL),
-	(163, 900.5, 20.75, 0.9994, NULL, NULL),
-	(164, 900.5, 21, 0.9992, NULL, NULL),
-	(165, 900.5, 21.25, 0.999, NULL, NULL),
-	(166, 900.5, 21.5, 0.9989, NULL, NULL),
-	(167, 900.5, 21.75, 0.9987, NULL, NULL),
-	(168, 900.5, 22, 0.9985, NULL, NULL),
-	(169, 900.5, 22.25, 0.9983, NULL, NULL),
-	(170, 900.5, 22.5, 0.9981, NULL, NULL),
-	(171, 900.5, 22.75, 0.9979, NULL, NULL),
-	(172, 900.5, 23, 0.9977, NULL, NULL),
-	(173, 900.5, 23.25, 0.0975, NULL, NULL),
-	(174, 900.5, 23.5, 0.0973, NULL, NULL),
-	(175, 900.5, 24, 0.9969, NULL, NULL),
-	(176, 900.5, 24.25, 0.9967, NULL, NULL),
-	(177, 900.5, 24.5, 0.9965, NULL, NULL),
-	(178, 900.5, 24.75, 0.9963, NULL, NULL),
-	(179, 900.5, 25, 0.9961, NULL, NULL),
-	(180, 900.5, 25.25, 0.9959, NULL, NULL),
-	(181, 900.5, 25.5, 0.9958, NULL, NULL),
-	(182, 900.5, 25.75, 0.9956, NULL, NULL),
-	(183, 900.5, 26, 0.9954, NULL, NULL),
-	(184, 900.5, 26.25, 0.9952, NULL, NULL),
-	(185, 900.5, 26.5, 0.995, NULL, NULL),
-	(186, 900.5, 26.75, 0.9948, NULL, NULL),
-	(187, 900.5, 27, 0.9946, NULL, NULL),
-	(188, 900.5, 27.25, 0.9944, NULL, NULL),
-	(189, 900.5, 27.5, 0.9942, NULL, NULL),
-	(190, 900.5, 27.75, 0.994, NULL, NULL),
-	(191, 900.5, 28, 0.9938, NULL, NULL),
-	(192, 900.5, 28.25, 0.9936, NULL, NULL),
-	(193, 900.5, 28.5, 0.9934, NULL, NULL),
-	(194, 900.5, 28.75, 0.9932, NULL, NULL),
-	(195, 900.5, 29, 0.993, NULL, NULL),
-	(196, 900.5, 29.25, 0.9929, NULL, NULL),
-	(197, 900.5, 29.5, 0.9927, NULL, NULL),
-	(198, 900.5, 29.75, 0.9925, NULL, NULL),
-	(199, 900.5, 30, 0.9923, NULL, NULL),
-	(200, 900.5, 30.25, 0.9921, NULL, NULL),
-	(201, 900.5, 30.5, 0.9919, NULL, NULL),
-	(202, 900.5, 30.75, 0.9917, NULL, NULL),
-	(203, 900.5, 31, 0.9915, NULL, NULL),
-	(204, 900.5, 31.25, 0.9913, NULL, NULL),
-	(205, 900.5, 31.5, 0.9911, NULL, NULL),
-	(206, 900.5, 31.75, 0.9909, NULL, NULL),
-	(207, 900.5, 32, 0.9907, NULL, NULL),
-	(208, 900.5, 32.25, 0.9905, NULL, NULL),
-	(209, 900.5, 32.5, 0.9903, NULL, NULL),
-	(210, 900.5, 32.75, 0.9901, NULL, NULL),
-	(211, 900.5, 33, 0.9899, NULL, NULL),
-	(212, 900.5, 33.25, 0.9898, NULL, NULL),
-	(213, 900.5, 33.5, 0.9896, NULL, NULL),
-	(214, 900.5, 33.75, 0.9894, NULL, NULL),
-	(215, 900.5, 34, 0.9892, NULL, NULL),
-	(216, 900.5, 34.25, 0.989, NULL, NULL),
-	(217, 900.5, 34.5, 0.9888, NULL, NULL),
-	(218, 900.5, 34.75, 0.9886, NULL, NULL),
-	(219, 900.5, 35, 0.9884, NULL, NULL),
-	(220, 900.5, 35.25, 0.9882, NULL, NULL),
-	(221, 900.5, 35.5, 0.988, NULL, NULL),
-	(222, 900.5, 35.75, 0.9878, NULL, NULL),
-	(223, 900.5, 36, 0.9876, NULL, NULL),
-	(224, 900.5, 36.25, 0.9874, NULL, NULL),
-	(225, 900.5, 36.5, 0.9872, NULL, NULL),
-	(226, 900.5, 36.75, 0.987, NULL, NULL),
-	(227, 900.5, 37, 0.9868, NULL, NULL),
-	(228, 900.5, 37.25, 0.9866, NULL, NULL),
-	(229, 900.5, 37.5, 0.9865, NULL, NULL),
-	(230, 900.5, 37.75, 0.9863, NULL, NULL),
-	(231, 900.5, 38, 0.9861, NULL, NULL),
-	(232, 900.5, 38.25, 0.9859, NULL, NULL),
-	(233, 900.5, 38.5, 0.9857, NULL, NULL),
-	(234, 900.5, 38.75, 0.9855, NULL, NULL),
-	(235, 900.5, 39, 0.9853, NULL, NULL),
-	(236, 900.5, 39.25, 0.9851, NULL, NULL),
-	(237, 900.5, 39.5, 0.9849, NULL, NULL),
-	(238, 900.5, 39.75, 0.9847, NULL, NULL),
-	(239, 900.5, 40, 0.9845, NULL, NULL),
-	(240, 900.5, 40.25, 0.9843, NULL, NULL),
-	(241, 900.5, 40.5, 0.9841, NULL, NULL),
-	(242, 900.5, 40.75, 0.9839, NULL, NULL),
-	(243, 900.5, 41, 0.9837, NULL, NULL),
-	(244, 900.5, 41.25, 0.9835, NULL, NULL),
-	(245, 900.5, 41.5, 0.9833, NULL, NULL),
-	(246, 900.5, 41.75, 0.9831, NULL, NULL),
-	(247, 900.5, 42, 0.983, NULL, NULL),
-	(248, 900.5, 42.25, 0.9828, NULL, NULL),
-	(249, 900.5, 42.5, 0.9826, NULL, NULL),
-	(250, 900.5, 42.75, 0.9824, NULL, NULL),
-	(251, 900.5, 43, 0.9822, NULL, NULL),
-	(252, 900.5, 43.25, 0.982, NULL, NULL),
-	(253, 900.5, 43.5, 0.9818, NULL, NULL),
-	(254, 900.5, 43.75, 0.9816, NULL, NULL),
-	(255, 900.5, 44, 0.9814, NULL, NULL),
-	(256, 900.5, 44.25, 0.9812, NULL, NULL),
-	(257, 900.5, 44.5, 0.981, NULL, NULL),
-	(258, 900.5, 44.75, 0.9808, NULL, NULL),
-	(259, 900.5, 45, 0.9806, NULL, NULL),
-	(260, 900.5, 45.25, 0.9804, NULL, NULL),
-	(261, 900.5, 45.5, 0.9802, NULL, NULL),
-	(262, 900.5, 45.75, 0.98, NULL, NULL),
-	(263, 900.5, 46, 0.9798, NULL, NULL),
-	(264, 900.5, 46.25, 0.9796, NULL, NULL),
-	(265, 900.5, 46.5, 0.9794, NULL, NULL),
-	(266, 900.5, 46.75, 0.9792, NULL, NULL),
-	(267, 900.5, 47, 0.9791, NULL, NULL),
-	(268, 900.5, 47.25, 0.9789, NULL, NULL),
-	(269, 900.5, 47.5, 0.9787, NULL, NULL),
-	(270, 900.5, 47.75, 0.9785, NULL, NULL),
-	(271, 900.5, 48, 0.9783, NULL, NULL),
-	(272, 900.5, 48.25, 0.9781, NULL, NULL),
-	(273, 900.5, 48.5, 0.9779, NULL, NULL),
-	(274, 900.5, 48.75, 0.9777, NULL, NULL),
-	(275, 900.5, 49, 0.9775, NULL, NULL),
-	(276, 900.5, 49.25, 0.9773, NULL, NULL),
-	(277, 900.5, 49.5, 0.9771, NULL, NULL),
-	(278, 900.5, 49.75, 0.9769, NULL, NULL),
-	(279, 900.5, 50, 0.9767, NULL, NULL),
-	(280, 901, 15, 1.0038, NULL, NULL),
-	(281, 901, 15.25, 1.0037, NULL, NULL),
-	(282, 901, 15.5, 1.0035, NULL, NULL),
-	(283, 901, 15.75, 1.0033, NULL, NULL),
-	(284, 901, 16, 1.0031, NULL, NULL),
-	(285, 901, 16.25, 1.0029, NULL, NULL),
-	(286, 901, 16.5, 1.0027, NULL, NULL),
-	(287, 901, 16.75, 1.0025, NULL, NULL),
-	(288, 901, 17, 1.0023, NULL, NULL),
-	(289, 901, 17.25, 1.0021, NULL, NULL),
-	(290, 901, 17.5, 1.0019, NULL, NULL),
-	(291, 901, 17.75, 1.0017, NULL, NULL),
-	(292, 901, 18, 1.0015, NULL, NULL),
-	(293, 901, 18.25, 1.0013, NULL, NULL),
-	(294, 901, 18.5, 1.0012, NULL, NULL),
-	(295, 901, 18.75, 1.001, NULL, NULL),
-	(296, 901, 19, 1.0008, NULL, NULL),
-	(297, 901, 19.25, 1.0006, NULL, NULL),
-	(298, 901, 19.5, 1.0004, NULL, NULL),
-	(299, 901, 19.75, 1.0002, NULL, NULL),
-	(300, 901, 20, 1, NULL, NULL),
-	(301, 901, 20.25, 0.9998, NULL, NULL),
-	(302, 901, 20.5, 0.9996, NULL, NULL),
-	(303, 901, 20.75, 0.9994, NULL, NULL),
-	(304, 901, 21, 0.9992, NULL, NULL),
-	(305, 901, 21.25, 0.999, NULL, NULL),
-	(306, 901, 21.5, 0.9989, NULL, NULL),
-	(307, 901, 21.75, 0.9987, NULL, NULL),
-	(308, 901, 22, 0.9985, NULL, NULL),
-	(309, 901, 22.25, 0.9983, NULL, NULL),
-	(310, 901, 22.5, 0.9981, NULL, NULL),
-	(311, 901, 22.75, 0.9979, NULL, NULL),
-	(312, 901, 23, 0.9977, NULL, NULL),
-	(313, 901, 23.25, 0.0975, NULL, NULL),
-	(314, 901, 23.5, 0.0973, NULL, NULL),
-	(315, 901, 24, 0.9969, NULL, NULL),
-	(316, 901, 24.25, 0.9967, NULL, NULL),
-	(317, 901, 24.5, 0.9965, NULL, NULL),
-	(318, 901, 24.75, 0.9963, NULL, NULL),
-	(319, 901, 25, 0.9961, NULL, NULL),
-	(320, 901, 25.25, 0.9959, NULL, NULL),
-	(321, 901, 25.5, 0.9958, NULL, NULL),
-	(322, 901, 25.75, 0.9956, NULL, NULL),
-	(323, 901, 26, 0.9954, NULL, NULL),
-	(324, 901, 26.25, 0.9952, NULL, NULL),
-	(325, 901, 26.5, 0.995, NULL, NULL),
-	(326, 901, 26.75, 0.9948, NULL, NULL),
-	(327, 901, 27, 0.9946, NULL, NULL),
-	(328, 901, 27.25, 0.9944, NULL, NULL),
-	(329, 901, 27.5, 0.9942, NULL, NULL),
-	(330, 901, 27.75, 0.994, NULL, NULL),
-	(331, 901, 28, 0.9938, NULL, NULL),
-	(332, 901, 28.25, 0.9936, NULL, NULL),
-	(333, 901, 28.5, 0.9934, NULL, NULL),
-	(334, 901, 28.75, 0.9932, NULL, NULL),
-	(335, 901, 29, 0.993, NULL, NULL),
-	(336, 901, 29.25, 0.9929, NULL, NULL),
-	(337, 901, 29.5, 0.9927, NULL, NULL),
-	(338, 901, 29.75, 0.9925, NULL, NULL),
-	(339, 901, 30, 0.9923, NULL, NULL),
-	(340, 901, 30.25, 0.9921, NULL, NULL),
-	(341, 901, 30.5, 0.9919, NULL, NULL),
-	(342, 901, 30.75, 0.9917, NULL, NULL),
-	(343, 901, 31, 0.9915, NULL, NULL),
-	(344, 901, 31.25, 0.9913, NULL, NULL),
-	(345, 901, 31.5, 0.9911, NULL, NULL),
-	(346, 901, 31.75, 0.9909, NULL, NULL),
-	(347, 901, 32, 0.9907, NULL, NULL),
-	(348, 901, 32.25, 0.9905, NULL, NULL),
-	(349, 901, 32.5, 0.9903, NULL, NULL),
-	(350, 901, 32.75, 0.9901, NULL, NULL),
-	(351, 901, 33, 0.99, NULL, NULL),
-	(352, 901, 33.25, 0.9898, NULL, NULL),
-	(353, 901, 33.5, 0.9896, NULL, NULL),
-	(354, 901, 33.75, 0.9894, NULL, NULL),
-	(355, 901, 34, 0.9892, NULL, NULL),
-	(356, 901, 34.25, 0.989, NULL, NULL),
-	(357, 901, 34.5, 0.9888, NULL, NULL),
-	(358, 901, 34.75, 0.9886, NULL, NULL),
-	(359, 901, 35, 0.9884, NULL, NULL),
-	(360, 901, 35.25, 0.9882, NULL, NULL),
-	(361, 901, 35.5, 0.988, NULL, NULL),
-	(362, 901, 35.75, 0.9878, NULL, NULL),
-	(363, 901, 36, 0.9876, NULL, NULL),
-	(364, 901, 36.25, 0.9874, NULL, NULL),
-	(365, 901, 36.5, 0.9872, NULL, NULL),
-	(366, 901, 36.75, 0.987, NULL, NULL),
-	(367, 901, 37, 0.9868, NULL, NULL),
-	(368, 901, 37.25, 0.9867, NULL, NULL),
-	(369, 901, 37.5, 0.9865, NULL, NULL),
-	(370, 901, 37.75, 0.9863, NULL, NULL),
-	(371, 901, 38, 0.9861, NULL, NULL),
-	(372, 901, 38.25, 0.9859, NULL, NULL),
-	(373, 901, 38.5, 0.9857, NULL, NULL),
-	(374, 901, 38.75, 0.9855, NULL, NULL),
-	(375, 901, 39, 0.9853, NULL, NULL),
-	(376, 901, 39.25, 0.9851, NULL, NULL),
-	(377, 901, 39.5, 0.9849, NULL, NULL),
-	(378, 901, 39.75, 0.9847, NULL, NULL),
-	(379, 901, 40, 0.9845, NULL, NULL),
-	(380, 901, 40.25, 0.9843, NULL, NULL),
-	(381, 901, 40.5, 0.9841, NULL, NULL),
-	(382, 901, 40.75, 0.9839, NULL, NULL),
-	(383, 901, 41, 0.9837, NULL, NULL),
-	(384, 901, 41.25, 0.9835, NULL, NULL),
-	(385, 901, 41.5, 0.9834, NULL, NULL),
-	(386, 901, 41.75, 0.9832, NULL, NULL),
-	(387, 901, 42, 0.983, NULL, NULL),
-	(388, 901, 42.25, 0.9828, NULL, NULL),
-	(389, 901, 42.5, 0.9826, NULL, NULL),
-	(390, 901, 42.75, 0.9824, NULL, NULL),
-	(391, 901, 43, 0.9822, NULL, NULL),
-	(392, 901, 43.25, 0.982, NULL, NULL),
-	(393, 901, 43.5, 0.9818, NULL, NULL),
-	(394, 901, 43.75, 0.9816, NULL, NULL),
-	(395, 901, 44, 0.9814, NULL, NULL),
-	(396, 901, 44.25, 0.9812, NULL, NULL),
-	(397, 901, 44.5, 0.981, NULL, NULL),
-	(398, 901, 44.75, 0.9808, NULL, NULL),
-	(399, 901, 45, 0.9806, NULL, NULL),
-	(400, 901, 45.25, 0.9804, NULL, NULL),
-	(401, 901, 45.5, 0.9802, NULL, NULL),
-	(402, 901, 45.75, 0.98, NULL, NULL),
-	(403, 901, 46, 0.9798, NULL, NULL),
-	(404, 901, 46.25, 0.9797, NULL, NULL),
-	(405, 901, 46.5, 0.9795, NULL, NULL),
-	(406, 901, 46.75, 0.9793, NULL, NULL),
-	(407, 901, 47, 0.9791, NULL, NULL),
-	(408, 901, 47.25, 0.9789, NULL, NULL),
-	(409, 901, 47.5, 0.9787, NULL, NULL),
-	(410, 901, 47.75, 0.9785, NULL, NULL),
-	(411, 901, 48, 0.9783, NULL, NULL),
-	(412, 901, 48.25, 0.9781, NULL, NULL),
-	(413, 901, 48.5, 0.9779, NULL, NULL),
-	(414, 901, 48.75, 0.9777, NULL, NULL),
-	(415, 901, 49, 0.9775, NULL, NULL),
-	(416, 901, 49.25, 0.9773, NULL, NULL),
-	(417, 901, 49.5, 0.9771, NULL, NULL),
-	(418, 901, 49.75, 0.9769, NULL, NULL),
-	(419, 901, 50, 0.9767, NULL, NULL),
-	(420, 901.5, 15, 1.0038, NULL, NULL),
-	(421, 901.5, 15.25, 1.0037, NULL, NULL),
-	(422, 901.5, 15.5, 1.0035, NULL, NULL),
-	(423, 901.5, 15.75, 1.0033, NULL, NULL),
-	(424, 901.5, 16, 1.0031, NULL, NULL),
-	(425, 901.5, 16.25, 1.0029, NULL, NULL),
-	(426, 901.5, 16.5, 1.0027, NULL, NULL),
-	(427, 901.5, 16.75, 1.0025, NULL, NULL),
-	(428, 901.5, 17, 1.0023, NULL, NULL),
-	(429, 901.5, 17.25, 1.0021, NULL, NULL),
-	(430, 901.5, 17.5, 1.0019, NULL, NULL),
-	(431, 901.5, 17.75, 1.0017, NULL, NULL),
-	(432, 901.5, 18, 1.0015, NULL, NULL),
-	(433, 901.5, 18.25, 1.0013, NULL, NULL),
-	(434, 901.5, 18.5, 1.0012, NULL, NULL),
-	(435, 901.5, 18.75, 1.001, NULL, NULL),
-	(436, 901.5, 19, 1.0008, NULL, NULL),
-	(437, 901.5, 19.25, 1.0006, NULL, NULL),
-	(438, 901.5, 19.5, 1.0004, NULL, NULL),
-	(439, 901.5, 19.75, 1.0002, NULL, NULL),
-	(440, 901.5, 20, 1, NULL, NULL),
-	(441, 901.5, 20.25, 0.9998, NULL, NULL),
-	(442, 901.5, 20.5, 0.9996, NULL, NULL),
-	(443, 901.5, 20.75, 0.9994, NULL, NULL),
-	(444, 901.5, 21, 0.9992, NULL, NULL),
-	(445, 901.5, 21.25, 0.999, NULL, NULL),
-	(446, 901.5, 21.5, 0.9989, NULL, NULL),
-	(447, 901.5, 21.75, 0.9987, NULL, NULL),
-	(448, 901.5, 22, 0.9985, NULL, NULL),
-	(449, 901.5, 22.25, 0.9983, NULL, NULL),
-	(450, 901.5, 22.5, 0.9981, NULL, NULL),
-	(451, 901.5, 22.75, 0.9979, NULL, NULL),
-	(452, 901.5, 23, 0.9977, NULL, NULL),
-	(453, 901.5, 23.25, 0.0975, NULL, NULL),
-	(454, 901.5, 23.5, 0.0973, NULL, NULL),
-	(455, 901.5, 24, 0.9969, NULL, NULL),
-	(456, 901.5, 24.25, 0.9967, NULL, NULL),
-	(457, 901.5, 24.5, 0.9965, NULL, NULL),
-	(458, 901.5, 24.75, 0.9963, NULL, NULL),
-	(459, 901.5, 25, 0.9961, NULL, NULL),
-	(460, 901.5, 25.25, 0.996, NULL, NULL),
-	(461, 901.5, 25.5, 0.9958, NULL, NULL),
-	(462, 901.5, 25.75, 0.9956, NULL, NULL),
-	(463, 901.5, 26, 0.9954, NULL, NULL),
-	(464, 901.5, 26.25, 0.9952, NULL, NULL),
-	(465, 901.5, 26.5, 0.995, NULL, NULL),
-	(466, 901.5, 26.75, 0.9948, NULL, NULL),
-	(467, 901.5, 27, 0.9946, NULL, NULL),
-	(468, 901.5, 27.25, 0.9944, NULL, NULL),
-	(469, 901.5, 27.5, 0.9942, NULL, NULL),
-	(470, 901.5, 27.75, 0.994, NULL, NULL),
-	(471, 901.5, 28, 0.9938, NULL, NULL),
-	(472, 901.5, 28.25, 0.9936, NULL, NULL),
-	(473, 901.5, 28.5, 0.9934, NULL, NULL),
-	(474, 901.5, 28.75, 0.9932, NULL, NULL),
-	(475, 901.5, 29, 0.9931, NULL, NULL),
-	(476, 901.5, 29.25, 0.9929, NULL, NULL),
-	(477, 901.5, 29.5, 0.9927, NULL, NULL),
-	(478, 901.5, 29.75, 0.9925, NULL, NULL),
-	(479, 901.5, 30, 0.9923, NULL, NULL),
-	(480, 901.5, 30.25, 0.9921, NULL, NULL),
-	(481, 901.5, 30.5, 0.9919, NULL, NULL),
-	(482, 901.5, 30.75, 0.9917, NULL, NULL),
-	(483, 901.5, 31, 0.9915, NULL, NULL),
-	(484, 901.5, 31.25, 0.9913, NULL, NULL),
-	(485, 901.5, 31.5, 0.9911, NULL, NULL),
-	(486, 901.5, 31.75, 0.9909, NULL, NULL),
-	(487, 901.5, 32, 0.9907, NULL, NULL),
-	(488, 901.5, 32.25, 0.9905, NULL, NULL),
-	(489, 901.5, 32.5, 0.9903, NULL, NULL),
-	(490, 901.5, 32.75, 0.9902, NULL, NULL),
-	(491, 901.5, 33, 0.99, NULL, NULL),
-	(492, 901.5, 33.25, 0.9898, NULL, NULL),
-	(493, 901.5, 33.5, 0.9896, NULL, NULL),
-	(494, 901.5, 33.75, 0.9894, NULL, NULL),
-	(495, 901.5, 34, 0.9892, NULL, NULL),
-	(496, 901.5, 34.25, 0.989, NULL, NULL),
-	(497, 901.5, 34.5, 0.9888, NULL, NULL),
-	(498, 901.5, 34.75, 0.9886, NULL, NULL),
-	(499, 901.5, 35, 0.9884, NULL, NULL),
-	(500, 901.5, 35.25, 0.9882, NULL, NULL),
-	(501, 901.5, 35.5, 0.988, NULL, NULL),
-	(502, 901.5, 35.75, 0.9878, NULL, NULL),
-	(503, 901.5, 36, 0.9876, NULL, NULL),
-	(504, 901.5, 36.25, 0.9874, NULL, NULL),
-	(505, 901.5, 36.5, 0.9872, NULL, NULL),
-	(506, 901.5, 36.75, 0.9871, NULL, NULL),
-	(507, 901.5, 37, 0.9869, NULL, NULL),
-	(508, 901.5, 37.25, 0.9867, NULL, NULL),
-	(509, 901.5, 37.5, 0.9865, NULL, NULL),
-	(510, 901.5, 37.75, 0.9863, NULL, NULL),
-	(511, 901.5, 38, 0.9861, NULL, NULL),
-	(512, 901.5, 38.25, 0.9859, NULL, NULL),
-	(513, 901.5, 38.5, 0.9857, NULL, NULL),
-	(514, 901.5, 38.75, 0.9855, NULL, NULL),
-	(515, 901.5, 39, 0.9853, NULL, NULL),
-	(516, 901.5, 39.25, 0.9851, NULL, NULL),
-	(517, 901.5, 39.5, 0.9849, NULL, NULL),
-	(518, 901.5, 39.75, 0.9847, NULL, NULL),
-	(519, 901.5, 40, 0.9845, NULL, NULL),
-	(520, 901.5, 40.25, 0.9843, NULL, NULL),
-	(521, 901.5, 40.5, 0.9841, NULL, NULL),
-	(522, 901.5, 40.75, 0.9839, NULL, NULL),
-	(523, 901.5, 41, 0.9838, NULL, NULL),
-	(524, 901.5, 41.25, 0.9836, NULL, NULL),
-	(525, 901.5, 41.5, 0.9834, NULL, NULL),
-	(526, 901.5, 41.75, 0.9832, NULL, NULL),
-	(527, 901.5, 42, 0.983, NULL, NULL),
-	(528, 901.5, 42.25, 0.9828, NULL, NULL),
-	(529, 901.5, 42.5, 0.9826, NULL, NULL),
-	(530, 901.5, 42.75, 0.9824, NULL, NULL),
-	(531, 901.5, 43, 0.9822, NULL, NULL),
-	(532, 901.5, 43.25, 0.982, NULL, NULL),
-	(533, 901.5, 43.5, 0.9818, NULL, NULL),
-	(534, 901.5, 43.75, 0.9816, NULL, NULL),
-	(535, 901.5, 44, 0.9814, NULL, NULL),
-	(536, 901.5, 44.25, 0.9812, NULL, NULL),
-	(537, 901.5, 44.5, 0.981, NULL, NULL),
-	(538, 901.5, 44.75, 0.9808, NULL, NULL),
-	(539, 901.5, 45, 0.9806, NULL, NULL),
-	(540, 901.5, 45.25, 0.9804, NULL, NULL),
-	(541, 901.5, 45.5, 0.9803, NULL, NULL),
-	(542, 901.5, 45.75, 0.9801, NULL, NULL),
-	(543, 901.5, 46, 0.9799, NULL, NULL),
-	(544, 901.5, 46.25, 0.9797, NULL, NULL),
-	(545, 901.5, 46.5, 0.9795, NULL, NULL),
-	(546, 901.5, 46.75, 0.9793, NULL, NULL),
-	(547, 901.5, 47, 0.9791, NULL, NULL),
-	(548, 901.5, 47.25, 0.9789, NULL, NULL),
-	(549, 901.5, 47.5, 0.9787, NULL, NULL),
-	(550, 901.5, 47.75, 0.9785, NULL, NULL),
-	(551, 901.5, 48, 0.9783, NULL, NULL),
-	(552, 901.5, 48.25, 0.9781, NULL, NULL),
-	(553, 901.5, 48.5, 0.9779, NULL, NULL),
-	(554, 901.5, 48.75, 0.9777, NULL, NULL),
-	(555, 901.5, 49, 0.9775, NULL, NULL),
-	(556, 901.5, 49.25, 0.9773, NULL, NULL),
-	(557, 901.5, 49.5, 0.9771, NULL, NULL),
-	(558, 901.5, 49.75, 0.9769, NULL, NULL),
-	(559, 901.5, 50, 0.9767, NULL, NULL),
-	(560, 902, 15, 1.0038, NULL, NULL),
-	(561, 902, 15.25, 1.0037, NULL, NULL),
-	(562, 902, 15.5, 1.0035, NULL, NULL),
-	(563, 902, 15.75, 1.0033, NULL, NULL),
-	(564, 902, 16, 1.0031, NULL, NULL),
-	(565, 902, 16.25, 1.0029, NULL, NULL),
-	(566, 902, 16.5, 1.0027, NULL, NULL),
-	(567, 902, 16.75, 1.0025, NULL, NULL),
-	(568, 902, 17, 1.0023, NULL, NULL),
-	(569, 902, 17.25, 1.0021, NULL, NULL),
-	(570, 902, 17.5, 1.0019, NULL, NULL),
-	(571, 902, 17.75, 1.0017, NULL, NULL),
-	(572, 902, 18, 1.0015, NULL, NULL),
-	(573, 902, 18.25, 1.0013, NULL, NULL),
-	(574, 902, 18.5, 1.0012, NULL, NULL),
-	(575, 902, 18.75, 1.001, NULL, NULL),
-	(576, 902, 19, 1.0008, NULL, NULL),
-	(577, 902, 19.25, 1.0006, NULL, NULL),
-	(578, 902, 19.5, 1.0004, NULL, NULL),
-	(579, 902, 19.75, 1.0002, NULL, NULL),
-	(580, 902, 20, 1, NULL, NULL),
-	(581, 902, 20.25, 0.9998, NULL, NULL),
-	(582, 902, 20.5, 0.9996, NULL, NULL),
-	(583, 902, 20.75, 0.9994, NULL, NULL),
-	(584, 902, 21, 0.9992, NULL, NULL),
-	(585, 902, 21.25, 0.999, NULL, NULL),
-	(586, 902, 21.5, 0.9989, NULL, NULL),
-	(587, 902, 21.75, 0.9987, NULL, NULL),
-	(588, 902, 22, 0.9985, NULL, NULL),
-	(589, 902, 22.25, 0.9983, NULL, NULL),
-	(590, 902, 22.5, 0.9981, NULL, NULL),
-	(591, 902, 22.75, 0.9979, NULL, NULL),
-	(592, 902, 23, 0.9977, NULL, NULL),
-	(593, 902, 23.25, 0.0975, NULL, NULL),
-	(594, 902, 23.5, 0.0973, NULL, NULL),
-	(595, 902, 24, 0.9969, NULL, NULL),
-	(596, 902, 24.25, 0.9967, NULL, NULL),
-	(597, 902, 24.5, 0.9965, NULL, NULL),
-	(598, 902, 24.75, 0.9963, NULL, NULL),
-	(599, 902, 25, 0.9961, NULL, NULL),
-	(600, 902, 25.25, 0.996, NULL, NULL),
-	(601, 902, 25.5, 0.9958, NULL, NULL),
-	(602, 902, 25.75, 0.9956, NULL, NULL),
-	(603, 902, 26, 0.9954, NULL, NULL),
-	(604, 902, 26.25, 0.9952, NULL, NULL),
-	(605, 902, 26.5, 0.995, NULL, NULL),
-	(606, 902, 26.75, 0.9948, NULL, NULL),
-	(607, 902, 27, 0.9946, NULL, NULL),
-	(608, 902, 27.25, 0.9944, NULL, NULL),
-	(609, 902, 27.5, 0.9942, NULL, NULL),
-	(610, 902, 27.75, 0.994, NULL, NULL),
-	(611, 902, 28, 0.9938, NULL, NULL),
-	(612, 902, 28.25, 0.9936, NULL, NULL),
-	(613, 902, 28.5, 0.9934, NULL, NULL),
-	(614, 902, 28.75, 0.9933, NULL, NULL),
-	(615, 902, 29, 0.9931, NULL, NULL),
-	(616, 902, 29.25, 0.9929, NULL, NULL),
-	(617, 902, 29.5, 0.9927, NULL, NULL),
-	(618, 902, 29.75, 0.9925, NULL, NULL),
-	(619, 902, 30, 0.9923, NULL, NULL),
-	(620, 902, 30.25, 0.9921, NULL, NULL),
-	(621, 902, 30.5, 0.9919, NULL, NULL),
-	(622, 902, 30.75, 0.9917, NULL, NULL),
-	(623, 902, 31, 0.9915, NULL, NULL),
-	(624, 902, 31.25, 0.9913, NULL, NULL),
-	(625, 902, 31.5, 0.9911, NULL, NULL),
-	(626, 902, 31.75, 0.9909, NULL, NULL),
-	(627, 902, 32, 0.9907, NULL, NULL),
-	(628, 902, 32.25, 0.9905, NULL, NULL),
-	(629, 902, 32.5, 0.9904, NULL, NULL),
-	(630, 902, 32.75, 0.9902, NULL, NULL),
-	(631, 902, 33, 0.99, NULL, NULL),
-	(632, 902, 33.25, 0.9898, NULL, NULL),
-	(633, 902, 33.5, 0.9896, NULL, NULL),
-	(634, 902, 33.75, 0.9894, NULL, NULL),
-	(635, 902, 34, 0.9892, NULL, NULL),
-	(636, 902, 34.25, 0.989, NULL, NULL),
-	(637, 902, 34.5, 0.9888, NULL, NULL),
-	(638, 902, 34.75, 0.9886, NULL, NULL),
-	(639, 902, 35, 0.9884, NULL, NULL),
-	(640, 902, 35.25, 0.9882, NULL, NULL),
-	(641, 902, 35.5, 0.988, NULL, NULL),
-	(642, 902, 35.75, 0.9878, NULL, NULL),
-	(643, 902, 36, 0.9876, NULL, NULL),
-	(644, 902, 36.25, 0.9874, NULL, NULL),
-	(645, 902, 36.5, 0.9873, NULL, NULL),
-	(646, 902, 36.75, 0.9871, NULL, NULL),
-	(647, 902, 37, 0.9869, NULL, NULL),
-	(648, 902, 37.25, 0.9867, NULL, NULL),
-	(649, 902, 37.5, 0.9865, NULL, NULL),
-	(650, 902, 37.75, 0.9863, NULL, NULL),
-	(651, 902, 38, 0.9861, NULL, NULL),
-	(652, 902, 38.25, 0.9859, NULL, NULL),
-	(653, 902, 38.5, 0.9857, NULL, NULL),
-	(654, 902, 38.75, 0.9855, NULL, NULL),
-	(655, 902, 39, 0.9853, NULL, NULL),
-	(656, 902, 39.25, 0.9851, NULL, NULL),
-	(657, 902, 39.5, 0.9849, NULL, NULL),
-	(658, 902, 39.75, 0.9847, NULL, NULL),
-	(659, 902, 40, 0.9845, NULL, NULL),
-	(660, 902, 40.25, 0.9843, NULL, NULL),
-	(661, 902, 40.5, 0.9842, NULL, NULL),
-	(662, 902, 40.75, 0.984, NULL, NULL),
-	(663, 902, 41, 0.9838, NULL, NULL),
-	(664, 902, 41.25, 0.9836, NULL, NULL),
-	(665, 902, 41.5, 0.9834, NULL, NULL),
-	(666, 902, 41.75, 0.9832, NULL, NULL),
-	(667, 902, 42, 0.983, NULL, NULL),
-	(668, 902, 42.25, 0.9828, NULL, NULL),
-	(669, 902, 42.5, 0.9826, NULL, NULL),
-	(670, 902, 42.75, 0.9824, NULL, NULL),
-	(671, 902, 43, 0.9822, NULL, NULL),
-	(672, 902, 43.25, 0.982, NULL, NULL),
-	(673, 902, 43.5, 0.9818, NULL, NULL),
-	(674, 902, 43.75, 0.9816, NULL, NULL),
-	(675, 902, 44, 0.9814, NULL, NULL),
-	(676, 902, 44.25, 0.9812, NULL, NULL),
-	(677, 902, 44.5, 0.981, NULL, NULL),
-	(678, 902, 44.75, 0.9808, NULL, NULL),
-	(679, 902, 45, 0.9807, NULL, NULL),
-	(680, 902, 45.25, 0.9805, NULL, NULL),
-	(681, 902, 45.5, 0.9803, NULL, NULL),
-	(682, 902, 45.75, 0.9801, NULL, NULL),
-	(683, 902, 46, 0.9799, NULL, NULL),
-	(684, 902, 46.25, 0.9797, NULL, NULL),
-	(685, 902, 46.5, 0.9795, NULL, NULL),
-	(686, 902, 46.75, 0.9793, NULL, NULL),
-	(687, 902, 47, 0.9791, NULL, NULL),
-	(688, 902, 47.25, 0.9789, NULL, NULL),
-	(689, 902, 47.5, 0.9787, NULL, NULL),
-	(690, 902, 47.75, 0.9785, NULL, NULL),
-	(691, 902, 48, 0.9783, NULL, NULL),
-	(692, 902, 48.25, 0.9781, NULL, NULL),
-	(693, 902, 48.5, 0.9779, NULL, NULL),
-	(694, 902, 48.75, 0.9777, NULL, NULL),
-	(695, 902, 49, 0.9775, NULL, NULL),
-	(696, 902, 49.25, 0.9773, NULL, NULL),
-	(697, 902, 49.5, 0.9772, NULL, NULL),
-	(698, 902, 49.75, 0.977, NULL, NULL),
-	(699, 902, 50, 0.9768, NULL, NULL),
-	(700, 902.5, 15, 1.0038, NULL, NULL),
-	(701, 902.5, 15.25, 1.0036, NULL, NULL),
-	(702, 902.5, 15.5, 1.0035, NULL, NULL),
-	(703, 902.5, 15.75, 1.0033, NULL, NULL),
-	(704, 902.5, 16, 1.0031, NULL, NULL),
-	(705, 902.5, 16.25, 1.0029, NULL, NULL),
-	(706, 902.5, 16.5, 1.0027, NULL, NULL),
-	(707, 902.5, 16.75, 1.0025, NULL, NULL),
-	(708, 902.5, 17, 1.0023, NULL, NULL),
-	(709, 902.5, 17.25, 1.0021, NULL, NULL),
-	(710, 902.5, 17.5, 1.0019, NULL, NULL),
-	(711, 902.5, 17.75, 1.0017, NULL, NULL),
-	(712, 902.5, 18, 1.0015, NULL, NULL),
-	(713, 902.5, 18.25, 1.0013, NULL, NULL),
-	(714, 902.5, 18.5, 1.0012, NULL, NULL),
-	(715, 902.5, 18.75, 1.001, NULL, NULL),
-	(716, 902.5, 19, 1.0008, NULL, NULL),
-	(717, 902.5, 19.25, 1.0006, NULL, NULL),
-	(718, 902.5, 19.5, 1.0004, NULL, NULL),
-	(719, 902.5, 19.75, 1.0002, NULL, NULL),
-	(720, 902.5, 20, 1, NULL, NULL),
-	(721, 902.5, 20.25, 0.9998, NULL, NULL),
-	(722, 902.5, 20.5, 0.9996, NULL, NULL),
-	(723, 902.5, 20.75, 0.9994, NULL, NULL),
-	(724, 902.5, 21, 0.9992, NULL, NULL),
-	(725, 902.5, 21.25, 0.999, NULL, NULL),
-	(726, 902.5, 21.5, 0.9989, NULL, NULL),
-	(727, 902.5, 21.75, 0.9987, NULL, NULL),
-	(728, 902.5, 22, 0.9985, NULL, NULL),
-	(729, 902.5, 22.25, 0.9983, NULL, NULL),
-	(730, 902.5, 22.5, 0.9981, NULL, NULL),
-	(731, 902.5, 22.75, 0.9979, NULL, NULL),
-	(732, 902.5, 23, 0.9977, NULL, NULL),
-	(733, 902.5, 23.25, 0.0975, NULL, NULL),
-	(734, 902.5, 23.5, 0.0973, NULL, NULL),
-	(735, 902.5, 24, 0.9969, NULL, NULL),
-	(736, 902.5, 24.25, 0.9967, NULL, NULL),
-	(737, 902.5, 24.5, 0.9965, NULL, NULL),
-	(738, 902.5, 24.75, 0.9963, NULL, NULL),
-	(739, 902.5, 25, 0.9962, NULL, NULL),
-	(740, 902.5, 25.25, 0.996, NULL, NULL),
-	(741, 902.5, 25.5, 0.9958, NULL, NULL),
-	(742, 902.5, 25.75, 0.9956, NULL, NULL),
-	(743, 902.5, 26, 0.9954, NULL, NULL),
-	(744, 902.5, 26.25, 0.9952, NULL, NULL),
-	(745, 902.5, 26.5, 0.995, NULL, NULL),
-	(746, 902.5, 26.75, 0.9948, NULL, NULL),
-	(747, 902.5, 27, 0.9946, NULL, NULL),
-	(748, 902.5, 27.25, 0.9944, NULL, NULL),
-	(749, 902.5, 27.5, 0.9942, NULL, NULL),
-	(750, 902.5, 27.75, 0.994, NULL, NULL),
-	(751, 902.5, 28, 0.9938, NULL, NULL),
-	(752, 902.5, 28.25, 0.9936, NULL, NULL),
-	(753, 902.5, 28.5, 0.9935, NULL, NULL),
-	(754, 902.5, 28.75, 0.9933, NULL, NULL),
-	(755, 902.5, 29, 0.9931, NULL, NULL),
-	(756, 902.5, 29.25, 0.9929, NULL, NULL),
-	(757, 902.5, 29.5, 0.9927, NULL, NULL),
-	(758, 902.5, 29.75, 0.9925, NULL, NULL),
-	(759, 902.5, 30, 0.9923, NULL, NULL),
-	(760, 902.5, 30.25, 0.9921, NULL, NULL),
-	(761, 902.5, 30.5, 0.9919, NULL, NULL),
-	(762, 902.5, 30.75, 0.9917, NULL, NULL),
-	(763, 902.5, 31, 0.9915, NULL, NULL),
-	(764, 902.5, 31.25, 0.9913, NULL, NULL),
-	(765, 902.5, 31.5, 0.9911, NULL, NULL),
-	(766, 902.5, 31.75, 0.9909, NULL, NULL),
-	(767, 902.5, 32, 0.9907, NULL, NULL),
-	(768, 902.5, 32.25, 0.9906, NULL, NULL),
-	(769, 902.5, 32.5, 0.9904, NULL, NULL),
-	(770, 902.5, 32.75, 0.9902, NULL, NULL),
-	(771, 902.5, 33, 0.99, NULL, NULL),
-	(772, 902.5, 33.25, 0.9898, NULL, NULL),
-	(773, 902.5, 33.5, 0.9896, NULL, NULL),
-	(774, 902.5, 33.75, 0.9894, NULL, NULL),
-	(775, 902.5, 34, 0.9892, NULL, NULL),
-	(776, 902.5, 34.25, 0.989, NULL, NULL),
-	(777, 902.5, 34.5, 0.9888, NULL, NULL),
-	(778, 902.5, 34.75, 0.9886, NULL, NULL),
-	(779, 902.5, 35, 0.9884, NULL, NULL),
-	(780, 902.5, 35.25, 0.9882, NULL, NULL),
-	(781, 902.5, 35.5, 0.988, NULL, NULL),
-	(782, 902.5, 35.75, 0.9878, NULL, NULL),
-	(783, 902.5, 36, 0.9877, NULL, NULL),
-	(784, 902.5, 36.25, 0.9875, NULL, NULL),
-	(785, 902.5, 36.5, 0.9873, NULL, NULL),
-	(786, 902.5, 36.75, 0.9871, NULL, NULL),
-	(787, 902.5, 37, 0.9869, NULL, NULL),
-	(788, 902.5, 37.25, 0.9867, NULL, NULL),
-	(789, 902.5, 37.5, 0.9865, NULL, NULL),
-	(790, 902.5, 37.75, 0.9863, NULL, NULL),
-	(791, 902.5, 38, 0.9861, NULL, NULL),
-	(792, 902.5, 38.25, 0.9859, NULL, NULL),
-	(793, 902.5, 38.5, 0.9857, NULL, NULL),
-	(794, 902.5, 38.75, 0.9855, NULL, NULL),
-	(795, 902.5, 39, 0.9853, NULL, NULL),
-	(796, 902.5, 39.25, 0.9851, NULL, NULL),
-	(797, 902.5, 39.5, 0.9849, NULL, NULL),
-	(798, 902.5, 39.75, 0.9847, NULL, NULL),
-	(799, 902.5, 40, 0.9846, NULL, NULL),
-	(800, 902.5, 40.25, 0.9844, NULL, NULL),
-	(801, 902.5, 40.5, 0.9842, NULL, NULL),
-	(802, 902.5, 40.75, 0.984, NULL, NULL),
-	(803, 902.5, 41, 0.9838, NULL, NULL),
-	(804, 902.5, 41.25, 0.9836, NULL, NULL),
-	(805, 902.5, 41.5, 0.9834, NULL, NULL),
-	(806, 902.5, 41.75, 0.9832, NULL, NULL),
-	(807, 902.5, 42, 0.983, NULL, NULL),
-	(808, 902.5, 42.25, 0.9828, NULL, NULL),
-	(809, 902.5, 42.5, 0.9826, NULL, NULL),
-	(810, 902.5, 42.75, 0.9824, NULL, NULL),
-	(811, 902.5, 43, 0.9822, NULL, NULL),
-	(812, 902.5, 43.25, 0.982, NULL, NULL),
-	(813, 902.5, 43.5, 0.9818, NULL, NULL),
-	(814, 902.5, 43.75, 0.9816, NULL, NULL),
-	(815, 902.5, 44, 0.9814, NULL, NULL),
-	(816, 902.5, 44.25, 0.9813, NULL, NULL),
-	(817, 902.5, 44.5, 0.9811, NULL, NULL),
-	(818, 902.5, 44.75, 0.9809, NULL, NULL),
-	(819, 902.5, 45, 0.9807, NULL, NULL),
-	(820, 902.5, 45.25, 0.9805, NULL, NULL),
-	(821, 902.5, 45.5, 0.9803, NULL, NULL),
-	(822, 902.5, 45.75, 0.9801, NULL, NULL),
-	(823, 902.5, 46, 0.9799, NULL, NULL),
-	(824, 902.5, 46.25, 0.9797, NULL, NULL),
-	(825, 902.5, 46.5, 0.9795, NULL, NULL),
-	(826, 902.5, 46.75, 0.9793, NULL, NULL),
-	(827, 902.5, 47, 0.9791, NULL, NULL),
-	(828, 902.5, 47.25, 0.9789, NULL, NULL),
-	(829, 902.5, 47.5, 0.9787, NULL, NULL),
-	(830, 902.5, 47.75, 0.9785, NULL, NULL),
-	(831, 902.5, 48, 0.9783, NULL, NULL),
-	(832, 902.5, 48.25, 0.9781, NULL, NULL),
-	(833, 902.5, 48.5, 0.9779, NULL, NULL),
-	(834, 902.5, 48.75, 0.9778, NULL, NULL),
-	(835, 902.5, 49, 0.9776, NULL, NULL),
-	(836, 902.5, 49.25, 0.9774, NULL, NULL),
-	(837, 902.5, 49.5, 0.9772, NULL, NULL),
-	(838, 902.5, 49.75, 0.977, NULL, NULL),
-	(839, 902.5, 50, 0.9768, NULL, NULL),
-	(840, 903, 15, 1.0038, NULL, NULL),
-	(841, 903, 15.25, 1.0036, NULL, NULL),
-	(842, 903, 15.5, 1.0035, NULL, NULL),
-	(843, 903, 15.75, 1.0033, NULL, NULL),
-	(844, 903, 16, 1.0031, NULL, NULL),
-	(845, 903, 16.25, 1.0029, NULL, NULL),
-	(846, 903, 16.5, 1.0027, NULL, NULL),
-	(847, 903, 16.75, 1.0025, NULL, NULL),
-	(848, 903, 17, 1.0023, NULL, NULL),
-	(849, 903, 17.25, 1.0021, NULL, NULL),
-	(850, 903, 17.5, 1.0019, NULL, NULL),
-	(851, 903, 17.75, 1.0017, NULL, NULL),
-	(852, 903, 18, 1.0015, NULL, NULL),
-	(853, 903, 18.25, 1.0013, NULL, NULL),
-	(854, 903, 18.5, 1.0012, NULL, NULL),
-	(855, 903, 18.75, 1.001, NULL, NULL),
-	(856, 903, 19, 1.0008, NULL, NULL),
-	(857, 903, 19.25, 1.0006, NULL, NULL),
-	(858, 903, 19.5, 1.0004, NULL, NULL),
-	(859, 903, 19.75, 1.0002, NULL, NULL),
-	(860, 903, 20, 1, NULL, NULL),
-	(861, 903, 20.25, 0.9998, NULL, NULL),
-	(862, 903, 20.5, 0.9996, NULL, NULL),
-	(863, 903, 20.75, 0.9994, NULL, NULL),
-	(864, 903, 21, 0.9992, NULL, NULL),
-	(865, 903, 21.25, 0.999, NULL, NULL),
-	(866, 903, 21.5, 0.9989, NULL, NULL),
-	(867, 903, 21.75, 0.9987, NULL, NULL),
-	(868, 903, 22, 0.9985, NULL, NULL),
-	(869, 903, 22.25, 0.9983, NULL, NULL),
-	(870, 903, 22.5, 0.9981, NULL, NULL),
-	(871, 903, 22.75, 0.9979, NULL, NULL),
-	(872, 903, 23, 0.9977, NULL, NULL),
-	(873, 903, 23.25, 0.0975, NULL, NULL),
-	(874, 903, 23.5, 0.0973, NULL, NULL),
-	(875, 903, 24, 0.9969, NULL, NULL),
-	(876, 903, 24.25, 0.9967, NULL, NULL),
-	(877, 903, 24.5, 0.9965, NULL, NULL),
-	(878, 903, 24.75, 0.9963, NULL, NULL),
-	(879, 903, 25, 0.9962, NULL, NULL),
-	(880, 903, 25.25, 0.996, NULL, NULL),
-	(881, 903, 25.5, 0.9958, NULL, NULL),
-	(882, 903, 25.75, 0.9956, NULL, NULL),
-	(883, 903, 26, 0.9954, NULL, NULL),
-	(884, 903, 26.25, 0.9952, NULL, NULL),
-	(885, 903, 26.5, 0.995, NULL, NULL),
-	(886, 903, 26.75, 0.9948, NULL, NULL),
-	(887, 903, 27, 0.9946, NULL, NULL),
-	(888, 903, 27.25, 0.9944, NULL, NULL),
-	(889, 903, 27.5, 0.9942, NULL, NULL),
-	(890, 903, 27.75, 0.994, NULL, NULL),
-	(891, 903, 28, 0.9938, NULL, NULL),
-	(892, 903, 28.25, 0.9936, NULL, NULL),
-	(893, 903, 28.5, 0.9935, NULL, NULL),
-	(894, 903, 28.75, 0.9933, NULL, NULL),
-	(895, 903, 29, 0.9931, NULL, NULL),
-	(896, 903, 29.25, 0.9929, NULL, NULL),
-	(897, 903, 29.5, 0.9927, NULL, NULL),
-	(898, 903, 29.75, 0.9925, NULL, NULL),
-	(899, 903, 30, 0.9923, NULL, NULL),
-	(900, 903, 30.25, 0.9921, NULL, NULL),
-	(901, 903, 30.5, 0.9919, NULL, NULL),
-	(902, 903, 30.75, 0.9917, NULL, NULL),
-	(903, 903, 31, 0.9915, NULL, NULL),
-	(904, 903, 31.25, 0.9913, NULL, NULL),
-	(905, 903, 31.5, 0.9911, NULL, NULL),
-	(906, 903, 31.75, 0.9909, NULL, NULL),
-	(907, 903, 32, 0.9908, NULL, NULL),
-	(908, 903, 32.25, 0.9906, NULL, NULL),
-	(909, 903, 32.5, 0.9904, NULL, NULL),
-	(910, 903, 32.75, 0.9902, NULL, NULL),
-	(911, 903, 33, 0.99, NULL, NULL),
-	(912, 903, 33.25, 0.9898, NULL, NULL),
-	(913, 903, 33.5, 0.9896, NULL, NULL),
-	(914, 903, 33.75, 0.9894, NULL, NULL),
-	(915, 903, 34, 0.9892, NULL, NULL),
-	(916, 903, 34.25, 0.989, NULL, NULL),
-	(917, 903, 34.5, 0.9888, NULL, NULL),
-	(918, 903, 34.75, 0.9886, NULL, NULL),
-	(919, 903, 35, 0.9884, NULL, NULL),
-	(920, 903, 35.25, 0.9882, NULL, NULL),
-	(921, 903, 35.5, 0.988, NULL, NULL),
-	(922, 903, 35.75, 0.9879, NULL, NULL),
-	(923, 903, 36, 0.9877, NULL, NULL),
-	(924, 903, 36.25, 0.9875, NULL, NULL),
-	(925, 903, 36.5, 0.9873, NULL, NULL),
-	(926, 903, 36.75, 0.9871, NULL, NULL),
-	(927, 903, 37, 0.9869, NULL, NULL),
-	(928, 903, 37.25, 0.9867, NULL, NULL),
-	(929, 903, 37.5, 0.9865, NULL, NULL),
-	(930, 903, 37.75, 0.9863, NULL, NULL),
-	(931, 903, 38, 0.9861, NULL, NULL),
-	(932, 903, 38.25, 0.9859, NULL, NULL),
-	(933, 903, 38.5, 0.9857, NULL, NULL),
-	(934, 903, 38.75, 0.9855, NULL, NULL),
-	(935, 903, 39, 0.9853, NULL, NULL),
-	(936, 903, 39.25, 0.9851, NULL, NULL),
-	(937, 903, 39.5, 0.9849, NULL, NULL),
-	(938, 903, 39.75, 0.9848, NULL, NULL),
-	(939, 903, 40, 0.9846, NULL, NULL),
-	(940, 903, 40.25, 0.9844, NULL, NULL),
-	(941, 903, 40.5, 0.9842, NULL, NULL),
-	(942, 903, 40.75, 0.984, NULL, NULL),
-	(943, 903, 41, 0.9838, NULL, NULL),
-	(944, 903, 41.25, 0.9836, NULL, NULL),
-	(945, 903, 41.5, 0.9834, NULL, NULL),
-	(946, 903, 41.75, 0.9832, NULL, NULL),
-	(947, 903, 42, 0.983, NULL, NULL),
-	(948, 903, 42.25, 0.9828, NULL, NULL),
-	(949, 903, 42.5, 0.9826, NULL, NULL),
-	(950, 903, 42.75, 0.9824, NULL, NULL),
-	(951, 903, 43, 0.9822, NULL, NULL),
-	(952, 903, 43.25, 0.982, NULL, NULL),
-	(953, 903, 43.5, 0.9818, NULL, NULL),
-	(954, 903, 43.75, 0.9817, NULL, NULL),
-	(955, 903, 44, 0.9815, NULL, NULL),
-	(956, 903, 44.25, 0.9813, NULL, NULL),
-	(957, 903, 44.5, 0.9811, NULL, NULL),
-	(958, 903, 44.75, 0.9809, NULL, NULL),
-	(959, 903, 45, 0.9807, NULL, NULL),
-	(960, 903, 45.25, 0.9805, NULL, NULL),
-	(961, 903, 45.5, 0.9803, NULL, NULL),
-	(962, 903, 45.75, 0.9801, NULL, NULL),
-	(963, 903, 46, 0.9799, NULL, NULL),
-	(964, 903, 46.25, 0.9797, NULL, NULL),
-	(965, 903, 46.5, 0.9795, NULL, NULL),
-	(966, 903, 46.75, 0.9793, NULL, NULL),
-	(967, 903, 47, 0.9791, NULL, NULL),
-	(968, 903, 47.25, 0.9789, NULL, NULL),
-	(969, 903, 47.5, 0.9787, NULL, NULL),
-	(970, 903, 47.75, 0.9785, NULL, NULL),
-	(971, 903, 48, 0.9784, NULL, NULL),
-	(972, 903, 48.25, 0.9782, NULL, NULL),
-	(973, 903, 48.5, 0.978, NULL, NULL),
-	(974, 903, 48.75, 0.9778, NULL, NULL),
-	(975, 903, 49, 0.9776, NULL, NULL),
-	(976, 903, 49.25, 0.9774, NULL, NULL),
-	(977, 903, 49.5, 0.9772, NULL, NULL),
-	(978, 903, 49.75, 0.977, NULL, NULL),
-	(979, 903, 50, 0.9768, NULL, NULL),
-	(980, 903.5, 15, 1.0038, NULL, NULL),
-	(981, 903.5, 15.25, 1.0036, NULL, NULL),
-	(982, 903.5, 15.5, 1.0035, NULL, NULL),
-	(983, 903.5, 15.75, 1.0033, NULL, NULL),
-	(984, 903.5, 16, 1.0031, NULL, NULL),
-	(985, 903.5, 16.25, 1.0029, NULL, NULL),
-	(986, 903.5, 16.5, 1.0027, NULL, NULL),
-	(987, 903.5, 16.75, 1.0025, NULL, NULL),
-	(988, 903.5, 17, 1.0023, NULL, NULL),
-	(989, 903.5, 17.25, 1.0021, NULL, NULL),
-	(990, 903.5, 17.5, 1.0019, NULL, NULL),
-	(991, 903.5, 17.75, 1.0017, NULL, NULL),
-	(992, 903.5, 18, 1.0015, NULL, NULL),
-	(993, 903.5, 18.25, 1.0013, NULL, NULL),
-	(994, 903.5, 18.5, 1.0012, NULL, NULL),
-	(995, 903.5, 18.75, 1.001, NULL, NULL),
-	(996, 903.5, 19, 1.0008, NULL, NULL),
-	(997, 903.5, 19.25, 1.0006, NULL, NULL),
-	(998, 903.5, 19.5, 1.0004, NULL, NULL),
-	(999, 903.5, 19.75, 1.0002, NULL, NULL),
-	(1000, 903.5, 20, 1, NULL, NULL),
-	(1001, 903.5, 20.25, 0.9998, NULL, NULL),
-	(1002, 903.5, 20.5, 0.9996, NULL, NULL),
-	(1003, 903.5, 20.75, 0.9994, NULL, NULL),
-	(1004, 903.5, 21, 0.9992, NULL, NULL),
-	(1005, 903.5, 21.25, 0.999, NULL, NULL),
-	(1006, 903.5, 21.5, 0.9989, NULL, NULL),
-	(1007, 903.5, 21.75, 0.9987, NULL, NULL),
-	(1008, 903.5, 22, 0.9985, NULL, NULL),
-	(1009, 903.5, 22.25, 0.9983, NULL, NULL),
-	(1010, 903.5, 22.5, 0.9981, NULL, NULL),
-	(1011, 903.5, 22.75, 0.9979, NULL, NULL),
-	(1012, 903.5, 23, 0.9977, NULL, NULL),
-	(1013, 903.5, 23.25, 0.0975, NULL, NULL),
-	(1014, 903.5, 23.5, 0.0973, NULL, NULL),
-	(1015, 903.5, 24, 0.9969, NULL, NULL),
-	(1016, 903.5, 24.25, 0.9967, NULL, NULL),
-	(1017, 903.5, 24.5, 0.9965, NULL, NULL),
-	(1018, 903.5, 24.75, 0.9963, NULL, NULL),
-	(1019, 903.5, 25, 0.9962, NULL, NULL),
-	(1020, 903.5, 25.25, 0.996, NULL, NULL),
-	(1021, 903.5, 25.5, 0.9958, NULL, NULL),
-	(1022, 903.5, 25.75, 0.9956, NULL, NULL),
-	(1023, 903.5, 26, 0.9954, NULL, NULL),
-	(1024, 903.5, 26.25, 0.9952, NULL, NULL),
-	(1025, 903.5, 26.5, 0.995, NULL, NULL),
-	(1026, 903.5, 26.75, 0.9948, NULL, NULL),
-	(1027, 903.5, 27, 0.9946, NULL, NULL),
-	(1028, 903.5, 27.25, 0.9944, NULL, NULL),
-	(1029, 903.5, 27.5, 0.9942, NULL, NULL),
-	(1030, 903.5, 27.75, 0.994, NULL, NULL),
-	(1031, 903.5, 28, 0.9938, NULL, NULL),
-	(1032, 903.5, 28.25, 0.9937, NULL, NULL),
-	(1033, 903.5, 28.5, 0.9935, NULL, NULL),
-	(1034, 903.5, 28.75, 0.9933, NULL, NULL),
-	(1035, 903.5, 29, 0.9931, NULL, NULL),
-	(1036, 903.5, 29.25, 0.9929, NULL, NULL),
-	(1037, 903.5, 29.5, 0.9927, NULL, NULL),
-	(1038, 903.5, 29.75, 0.9925, NULL, NULL),
-	(1039, 903.5, 30, 0.9923, NULL, NULL),
-	(1040, 903.5, 30.25, 0.9921, NULL, NULL),
-	(1041, 903.5, 30.5, 0.9919, NULL, NULL),
-	(1042, 903.5, 30.75, 0.9917, NULL, NULL),
-	(1043, 903.5, 31, 0.9915, NULL, NULL),
-	(1044, 903.5, 31.25, 0.9913, NULL, NULL),
-	(1045, 903.5, 31.5, 0.9911, NULL, NULL),
-	(1046, 903.5, 31.75, 0.991, NULL, NULL),
-	(1047, 903.5, 32, 0.9908, NULL, NULL),
-	(1048, 903.5, 32.25, 0.9906, NULL, NULL),
-	(1049, 903.5, 32.5, 0.9904, NULL, NULL),
-	(1050, 903.5, 32.75, 0.9902, NULL, NULL),
-	(1051, 903.5, 33, 0.99, NULL, NULL),
-	(1052, 903.5, 33.25, 0.9898, NULL, NULL),
-	(1053, 903.5, 33.5, 0.9896, NULL, NULL),
-	(1054, 903.5, 33.75, 0.9894, NULL, NULL),
-	(1055, 903.5, 34, 0.9892, NULL, NULL),
-	(1056, 903.5, 34.25, 0.989, NULL, NULL),
-	(1057, 903.5, 34.5, 0.9888, NULL, NULL),
-	(1058, 903.5, 34.75, 0.9886, NULL, NULL),
-	(1059, 903.5, 35, 0.9884, NULL, NULL),
-	(1060, 903.5, 35.25, 0.9882, NULL, NULL),
-	(1061, 903.5, 35.5, 0.9881, NULL, NULL),
-	(1062, 903.5, 35.75, 0.9879, NULL, NULL),
-	(1063, 903.5, 36, 0.9877, NULL, NULL),
-	(1064, 903.5, 36.25, 0.9875, NULL, NULL),
-	(1065, 903.5, 36.5, 0.9873, NULL, NULL),
-	(1066, 903.5, 36.75, 0.9871, NULL, NULL),
-	(1067, 903.5, 37, 0.9869, NULL, NULL),
-	(1068, 903.5, 37.25, 0.9867, NULL, NULL),
-	(1069, 903.5, 37.5, 0.9865, NULL, NULL),
-	(1070, 903.5, 37.75, 0.9863, NULL, NULL),
-	(1071, 903.5, 38, 0.9861, NULL, NULL),
-	(1072, 903.5, 38.25, 0.9859, NULL, NULL),
-	(1073, 903.5, 38.5, 0.9857, NULL, NULL),
-	(1074, 903.5, 38.75, 0.9855, NULL, NULL),
-	(1075, 903.5, 39, 0.9853, NULL, NULL),
-	(1076, 903.5, 39.25, 0.9852, NULL, NULL),
-	(1077, 903.5, 39.5, 0.985, NULL, NULL),
-	(1078, 903.5, 39.75, 0.9848, NULL, NULL),
-	(1079, 903.5, 40, 0.9846, NULL, NULL),
-	(1080, 903.5, 40.25, 0.9844, NULL, NULL),
-	(1081, 903.5, 40.5, 0.9842, NULL, NULL),
-	(1082, 903.5, 40.75, 0.984, NULL, NULL),
-	(1083, 903.5, 41, 0.9838, NULL, NULL),
-	(1084, 903.5, 41.25, 0.9836, NULL, NULL),
-	(1085, 903.5, 41.5, 0.9834, NULL, NULL),
-	(1086, 903.5, 41.75, 0.9832, NULL, NULL),
-	(1087, 903.5, 42, 0.983, NULL, NULL),
-	(1088, 903.5, 42.25, 0.9828, NULL, NULL),
-	(1089, 903.5, 42.5, 0.9826, NULL, NULL),
-	(1090, 903.5, 42.75, 0.9824, NULL, NULL),
-	(1091, 903.5, 43, 0.9822, NULL, NULL),
-	(1092, 903.5, 43.25, 0.9821, NULL, NULL),
-	(1093, 903.5, 43.5, 0.9819, NULL, NULL),
-	(1094, 903.5, 43.75, 0.9817, NULL, NULL),
-	(1095, 903.5, 44, 0.9815, NULL, NULL),
-	(1096, 903.5, 44.25, 0.9813, NULL, NULL),
-	(1097, 903.5, 44.5, 0.9811, NULL, NULL),
-	(1098, 903.5, 44.75, 0.9809, NULL, NULL),
-	(1099, 903.5, 45, 0.9807, NULL, NULL),
-	(1100, 903.5, 45.25, 0.9805, NULL, NULL),
-	(1101, 903.5, 45.5, 0.9803, NULL, NULL),
-	(1102, 903.5, 45.75, 0.9801, NULL, NULL),
-	(1103, 903.5, 46, 0.9799, NULL, NULL),
-	(1104, 903.5, 46.25, 0.9797, NULL, NULL),
-	(1105, 903.5, 46.5, 0.9795, NULL, NULL),
-	(1106, 903.5, 46.75, 0.9793, NULL, NULL),
-	(1107, 903.5, 47, 0.9791, NULL, NULL),
-	(1108, 903.5, 47.25, 0.979, NULL, NULL),
-	(1109, 903.5, 47.5, 0.9788, NULL, NULL),
-	(1110, 903.5, 47.75, 0.9786, NULL, NULL),
-	(1111, 903.5, 48, 0.9784, NULL, NULL),
-	(1112, 903.5, 48.25, 0.9782, NULL, NULL),
-	(1113, 903.5, 48.5, 0.978, NULL, NULL),
-	(1114, 903.5, 48.75, 0.9778, NULL, NULL),
-	(1115, 903.5, 49, 0.9776, NULL, NULL),
-	(1116, 903.5, 49.25, 0.9774, NULL, NULL),
-	(1117, 903.5, 49.5, 0.9772, NULL, NULL),
-	(1118, 903.5, 49.75, 0.977, NULL, NULL),
-	(1119, 903.5, 50, 0.9768, NULL, NULL),
-	(1120, 904, 15, 1.0038, NULL, NULL),
-	(1121, 904, 15.25, 1.0036, NULL, NULL),
-	(1122, 904, 15.5, 1.0035, NULL, NULL),
-	(1123, 904, 15.75, 1.0033, NULL, NULL),
-	(1124, 904, 16, 1.0031, NULL, NULL),
-	(1125, 904, 16.25, 1.0029, NULL, NULL),
-	(1126, 904, 16.5, 1.0027, NULL, NULL),
-	(1127, 904, 16.75, 1.0025, NULL, NULL),
-	(1128, 904, 17, 1.0023, NULL, NULL),
-	(1129, 904, 17.25, 1.0021, NULL, NULL),
-	(1130, 904, 17.5, 1.0019, NULL, NULL),
-	(1131, 904, 17.75, 1.0017, NULL, NULL),
-	(1132, 904, 18, 1.0015, NULL, NULL),
-	(1133, 904, 18.25, 1.0013, NULL, NULL),
-	(1134, 904, 18.5, 1.0012, NULL, NULL),
-	(1135, 904, 18.75, 1.001, NULL, NULL),
-	(1136, 904, 19, 1.0008, NULL, NULL),
-	(1137, 904, 19.25, 1.0006, NULL, NULL),
-	(1138, 904, 19.5, 1.0004, NULL, NULL),
-	(1139, 904, 19.75, 1.0002, NULL, NULL),
-	(1140, 904, 20, 1, NULL, NULL),
-	(1141, 904, 20.25, 0.9998, NULL, NULL),
-	(1142, 904, 20.5, 0.9996, NULL, NULL),
-	(1143, 904, 20.75, 0.9994, NULL, NULL),
-	(1144, 904, 21, 0.9992, NULL, NULL),
-	(1145, 904, 21.25, 0.999, NULL, NULL),
-	(1146, 904, 21.5, 0.9989, NULL, NULL),
-	(1147, 904, 21.75, 0.9987, NULL, NULL),
-	(1148, 904, 22, 0.9985, NULL, NULL),
-	(1149, 904, 22.25, 0.9983, NULL, NULL),
-	(1150, 904, 22.5, 0.9981, NULL, NULL),
-	(1151, 904, 22.75, 0.9979, NULL, NULL),
-	(1152, 904, 23, 0.9977, NULL, NULL),
-	(1153, 904, 23.25, 0.0975, NULL, NULL),
-	(1154, 904, 23.5, 0.0973, NULL, NULL),
-	(1155, 904, 24, 0.9969, NULL, NULL),
-	(1156, 904, 24.25, 0.9967, NULL, NULL),
-	(1157, 904, 24.75, 0.9964, NULL, NULL),
-	(1158, 904, 25, 0.9962, NULL, NULL),
-	(1159, 904, 25.25, 0.996, NULL, NULL),
-	(1160, 904, 25.5, 0.9958, NULL, NULL),
-	(1161, 904, 25.75, 0.9956, NULL, NULL),
-	(1162, 904, 26, 0.9954, NULL, NULL),
-	(1163, 904, 26.25, 0.9952, NULL, NULL),
-	(1164, 904, 26.5, 0.995, NULL, NULL),
-	(1165, 904, 26.75, 0.9948, NULL, NULL),
-	(1166, 904, 27, 0.9946, NULL, NULL),
-	(1167, 904, 27.25, 0.9944, NULL, NULL),
-	(1168, 904, 27.5, 0.9942, NULL, NULL),
-	(1169, 904, 27.75, 0.994, NULL, NULL),
-	(1170, 904, 28, 0.9938, NULL, NULL),
-	(1171, 904, 28.25, 0.9937, NULL, NULL),
-	(1172, 904, 28.5, 0.9935, NULL, NULL),
-	(1173, 904, 28.75, 0.9933, NULL, NULL),
-	(1174, 904, 29, 0.9931, NULL, NULL),
-	(1175, 904, 29.25, 0.9929, NULL, NULL),
-	(1176, 904, 29.5, 0.9927, NULL, NULL),
-	(1177, 904, 29.75, 0.9925, NULL, NULL),
-	(1178, 904, 30, 0.9923, NULL, NULL),
-	(1179, 904, 30.5, 0.9919, NULL, NULL),
-	(1180, 904, 30.75, 0.9917, NULL, NULL),
-	(1181, 904, 31, 0.9915, NULL, NULL),
-	(1182, 904, 31.25, 0.9913, NULL, NULL),
-	(1183, 904, 31.5, 0.9912, NULL, NULL),
-	(1184, 904, 31.75, 0.991, NULL, NULL),
-	(1185, 904, 32, 0.9908, NULL, NULL),
-	(1186, 904, 32.25, 0.9906, NULL, NULL),
-	(1187, 904, 32.5, 0.9904, NULL, NULL),
-	(1188, 904, 32.75, 0.9902, NULL, NULL),
-	(1189, 904, 33, 0.99, NULL, NULL),
-	(1190, 904, 33.25, 0.9898, NULL, NULL),
-	(1191, 904, 33.5, 0.9896, NULL, NULL),
-	(1192, 904, 33.75, 0.9894, NULL, NULL),
-	(1193, 904, 34, 0.9892, NULL, NULL),
-	(1194, 904, 34.25, 0.989, NULL, NULL),
-	(1195, 904, 34.5, 0.9888, NULL, NULL),
-	(1196, 904, 34.75, 0.9886, NULL, NULL),
-	(1197, 904, 35, 0.9885, NULL, NULL),
-	(1198, 904, 35.25, 0.9883, NULL, NULL),
-	(1199, 904, 35.5, 0.9881, NULL, NULL),
-	(1200, 904, 35.75, 0.9879, NULL, NULL),
-	(1201, 904, 36, 0.9877, NULL, NULL),
-	(1202, 904, 36.25, 0.9875, NULL, NULL),
-	(1203, 904, 36.5, 0.9873, NULL, NULL),
-	(1204, 904, 36.75, 0.9871, NULL, NULL),
-	(1205, 904, 37, 0.9869, NULL, NULL),
-	(1206, 904, 37.25, 0.9867, NULL, NULL),
-	(1207, 904, 37.5, 0.9865, NULL, NULL),
-	(1208, 904, 37.75, 0.9863, NULL, NULL),
-	(1209, 904, 38, 0.9861, NULL, NULL),
-	(1210, 904, 38.25, 0.9859, NULL, NULL),
-	(1211, 904, 38.5, 0.9857, NULL, NULL),
-	(1212, 904, 38.75, 0.9856, NULL, NULL),
-	(1213, 904, 39, 0.9854, NULL, NULL),
-	(1214, 904, 39.25, 0.9852, NULL, NULL),
-	(1215, 904, 39.5, 0.985, NULL, NULL),
-	(1216, 904, 39.75, 0.9848, NULL, NULL),
-	(1217, 904, 40, 0.9846, NULL, NULL),
-	(1218, 904, 40.25, 0.9844, NULL, NULL),
-	(1219, 904, 40.5, 0.9842, NULL, NULL),
-	(1220, 904, 40.75, 0.984, NULL, NULL),
-	(1221, 904, 41, 0.9838, NULL, NULL),
-	(1222, 904, 41.25, 0.9836, NULL, NULL),
-	(1223, 904, 41.5, 0.9834, NULL, NULL),
-	(1224, 904, 41.75, 0.9832, NULL, NULL),
-	(1225, 904, 42, 0.983, NULL, NULL),
-	(1226, 904, 42.25, 0.9828, NULL, NULL),
-	(1227, 904, 42.5, 0.9826, NULL, NULL),
-	(1228, 904, 42.75, 0.9825, NULL, NULL),
-	(1229, 904, 43, 0.9823, NULL, NULL),
-	(1230, 904, 43.25, 0.9821, NULL, NULL),
-	(1231, 904, 43.5, 0.9819, NULL, NULL),
-	(1232, 904, 43.75, 0.9817, NULL, NULL),
-	(1233, 904, 44, 0.9815, NULL, NULL),
-	(1234, 904, 44.25, 0.9813, NULL, NULL),
-	(1235, 904, 44.5, 0.9811, NULL, NULL),
-	(1236, 904, 44.75, 0.9809, NULL, NULL),
-	(1237, 904, 45, 0.9807, NULL, NULL),
-	(1238, 904, 45.25, 0.9805, NULL, NULL),
-	(1239, 904, 45.5, 0.9803, NULL, NULL),
-	(1240, 904, 45.75, 0.9801, NULL, NULL),
-	(1241, 904, 46, 0.9799, NULL, NULL),
-	(1242, 904, 46.25, 0.9797, NULL, NULL),
-	(1243, 904, 46.5, 0.9795, NULL, NULL),
-	(1244, 904, 46.75, 0.9794, NULL, NULL),
-	(1245, 904, 47, 0.9792, NULL, NULL),
-	(1246, 904, 47.25, 0.979, NULL, NULL),
-	(1247, 904, 47.5, 0.9788, NULL, NULL),
-	(1248, 904, 47.75, 0.9786, NULL, NULL),
-	(1249, 904, 48, 0.9784, NULL, NULL),
-	(1250, 904, 48.25, 0.9782, NULL, NULL),
-	(1251, 904, 48.5, 0.978, NULL, NULL),
-	(1252, 904, 48.75, 0.9778, NULL, NULL),
-	(1253, 904, 49, 0.9776, NULL, NULL),
-	(1254, 904, 49.25, 0.9774, NULL, NULL),
-	(1255, 904, 49.5, 0.9772, NULL, NULL),
-	(1256, 904, 49.75, 0.977, NULL, NULL),
-	(1257, 904, 50, 0.9768, NULL, NULL),
-	(1258, 904.5, 15, 1.0038, NULL, NULL),
-	(1259, 904.5, 15.25, 1.0036, NULL, NULL),
-	(1260, 904.5, 15.5, 1.0034, NULL, NULL),
-	(1261, 904.5, 15.75, 1.0033, NULL, NULL),
-	(1262, 904.5, 16, 1.0031, NULL, NULL),
-	(1263, 904.5, 16.25, 1.0029, NULL, NULL),
-	(1264, 904.5, 16.5, 1.0027, NULL, NULL),
-	(1265, 904.5, 16.75, 1.0025, NULL, NULL),
-	(1266, 904.5, 17, 1.0023, NULL, NULL),
-	(1267, 904.5, 17.25, 1.0021, NULL, NULL),
-	(1268, 904.5, 17.5, 1.0019, NULL, NULL),
-	(1269, 904.5, 17.75, 1.0017, NULL, NULL),
-	(1270, 904.5, 18, 1.0015, NULL, NULL),
-	(1271, 904.5, 18.25, 1.0013, NULL, NULL),
-	(1272, 904.5, 18.5, 1.0011, NULL, NULL),
-	(1273, 904.5, 18.75, 1.001, NULL, NULL),
-	(1274, 904.5, 19, 1.0008, NULL, NULL),
-	(1275, 904.5, 19.25, 1.0006, NULL, NULL),
-	(1276, 904.5, 19.5, 1.0004, NULL, NULL),
-	(1277, 904.5, 19.75, 1.0002, NULL, NULL),
-	(1278, 904.5, 20, 1, NULL, NULL),
-	(1279, 904.5, 20.25, 0.9998, NULL, NULL),
-	(1280, 904.5, 20.5, 0.9996, NULL, NULL),
-	(1281, 904.5, 20.75, 0.9994, NULL, NULL),
-	(1282, 904.5, 21, 0.9992, NULL, NULL),
-	(1283, 904.5, 21.25, 0.999, NULL, NULL),
-	(1284, 904.5, 21.5, 0.9989, NULL, NULL),
-	(1285, 904.5, 21.75, 0.9987, NULL, NULL),
-	(1286, 904.5, 22, 0.9985, NULL, NULL),
-	(1287, 904.5, 22.25, 0.9983, NULL, NULL),
-	(1288, 904.5, 22.5, 0.9981, NULL, NULL),
-	(1289, 904.5, 22.75, 0.9979, NULL, NULL),
-	(1290, 904.5, 23, 0.9977, NULL, NULL),
-	(1291, 904.5, 23.25, 0.0975, NULL, NULL),
-	(1292, 904.5, 23.5, 0.0973, NULL, NULL),
-	(1293, 904.5, 24, 0.9969, NULL, NULL),
-	(1294, 904.5, 24.25, 0.9967, NULL, NULL),
-	(1295, 904.5, 24.5, 0.9965, NULL, NULL),
-	(1296, 904.5, 24.75, 0.9964, NULL, NULL),
-	(1297, 904.5, 25, 0.9962, NULL, NULL),
-	(1298, 904.5, 25.25, 0.996, NULL, NULL),
-	(1299, 904.5, 25.5, 0.9958, NULL, NULL),
-	(1300, 904.5, 25.75, 0.9956, NULL, NULL),
-	(1301, 904.5, 26, 0.9954, NULL, NULL),
-	(1302, 904.5, 26.25, 0.9952, NULL, NULL),
-	(1303, 904.5, 26.5, 0.995, NULL, NULL),
-	(1304, 904.5, 26.75, 0.9948, NULL, NULL),
-	(1305, 904.5, 27, 0.9946, NULL, NULL),
-	(1306, 904.5, 27.25, 0.9944, NULL, NULL),
-	(1307, 904.5, 27.5, 0.9942, NULL, NULL),
-	(1308, 904.5, 27.75, 0.994, NULL, NULL),
-	(1309, 904.5, 28, 0.9939, NULL, NULL),
-	(1310, 904.5, 28.25, 0.9937, NULL, NULL),
-	(1311, 904.5, 28.5, 0.9935, NULL, NULL),
-	(1312, 904.5, 28.75, 0.9933, NULL, NULL),
-	(1313, 904.5, 29, 0.9931, NULL, NULL),
-	(1314, 904.5, 29.25, 0.9929, NULL, NULL),
-	(1315, 904.5, 29.5, 0.9927, NULL, NULL),
-	(1316, 904.5, 29.75, 0.9925, NULL, NULL),
-	(1317, 904.5, 30, 0.9923, NULL, NULL),
-	(1318, 904.5, 30.25, 0.9921, NULL, NULL),
-	(1319, 904.5, 30.5, 0.9919, NULL, NULL),
-	(1320, 904.5, 30.75, 0.9917, NULL, NULL),
-	(1321, 904.5, 31, 0.9915, NULL, NULL),
-	(1322, 904.5, 31.25, 0.9914, NULL, NULL),
-	(1323, 904.5, 31.5, 0.9912, NULL, NULL),
-	(1324, 904.5, 31.75, 0.991, NULL, NULL),
-	(1325, 904.5, 32, 0.9908, NULL, NULL),
-	(1326, 904.5, 32.25, 0.9906, NULL, NULL),
-	(1327, 904.5, 32.5, 0.9904, NULL, NULL),
-	(1328, 904.5, 32.75, 0.9902, NULL, NULL),
-	(1329, 904.5, 33, 0.99, NULL, NULL),
-	(1330, 904.5, 33.25, 0.9898, NULL, NULL),
-	(1331, 904.5, 33.5, 0.9896, NULL, NULL),
-	(1332, 904.5, 33.75, 0.9894, NULL, NULL),
-	(1333, 904.5, 34, 0.9892, NULL, NULL),
-	(1334, 904.5, 34.25, 0.989, NULL, NULL),
-	(1335, 904.5, 34.5, 0.9888, NULL, NULL),
-	(1336, 904.5, 34.75, 0.9887, NULL, NULL),
-	(1337, 904.5, 35, 0.9885, NULL, NULL),
-	(1338, 904.5, 35.25, 0.9883, NULL, NULL),
-	(1339, 904.5, 35.5, 0.9881, NULL, NULL),
-	(1340, 904.5, 35.75, 0.9879, NULL, NULL),
-	(1341, 904.5, 36, 0.9877, NULL, NULL),
-	(1342, 904.5, 36.25, 0.9875, NULL, NULL),
-	(1343, 904.5, 36.5, 0.9873, NULL, NULL),
-	(1344, 904.5, 36.75, 0.9871, NULL, NULL),
-	(1345, 904.5, 37, 0.9869, NULL, NULL),
-	(1346, 904.5, 37.25, 0.9867, NULL, NULL),
-	(1347, 904.5, 37.5, 0.9865, NULL, NULL),
-	(1348, 904.5, 37.75, 0.9863, NULL, NULL),
-	(1349, 904.5, 38, 0.9861, NULL, NULL),
-	(1350, 904.5, 38.25, 0.9859, NULL, NULL),
-	(1351, 904.5, 38.5, 0.9858, NULL, NULL),
-	(1352, 904.5, 38.75, 0.9856, NULL, NULL),
-	(1353, 904.5, 39, 0.9854, NULL, NULL),
-	(1354, 904.5, 39.25, 0.9852, NULL, NULL),
-	(1355, 904.5, 39.5, 0.985, NULL, NULL),
-	(1356, 904.5, 39.75, 0.9848, NULL, NULL),
-	(1357, 904.5, 40, 0.9846, NULL, NULL),
-	(1358, 904.5, 40.25, 0.9844, NULL, NULL),
-	(1359, 904.5, 40.5, 0.9842, NULL, NULL),
-	(1360, 904.5, 40.75, 0.984, NULL, NULL),
-	(1361, 904.5, 41, 0.9838, NULL, NULL),
-	(1362, 904.5, 41.25, 0.9836, NULL, NULL),
-	(1363, 904.5, 41.5, 0.9834, NULL, NULL),
-	(1364, 904.5, 41.75, 0.9832, NULL, NULL),
-	(1365, 904.5, 42, 0.983, NULL, NULL),
-	(1366, 904.5, 42.25, 0.9829, NULL, NULL),
-	(1367, 904.5, 42.5, 0.9827, NULL, NULL),
-	(1368, 904.5, 42.75, 0.9825, NULL, NULL),
-	(1369, 904.5, 43, 0.9823, NULL, NULL),
-	(1370, 904.5, 43.25, 0.9821, NULL, NULL),
-	(1371, 904.5, 43.5, 0.9819, NULL, NULL),
-	(1372, 904.5, 43.75, 0.9817, NULL, NULL),
-	(1373, 904.5, 44, 0.9815, NULL, NULL),
-	(1374, 904.5, 44.25, 0.9813, NULL, NULL),
-	(1375, 904.5, 44.5, 0.9811, NULL, NULL),
-	(1376, 904.5, 44.75, 0.9809, NULL, NULL),
-	(1377, 904.5, 45, 0.9807, NULL, NULL),
-	(1378, 904.5, 45.25, 0.9805, NULL, NULL),
-	(1379, 904.5, 45.5, 0.9803, NULL, NULL),
-	(1380, 904.5, 45.75, 0.9801, NULL, NULL),
-	(1381, 904.5, 46, 0.98, NULL, NULL),
-	(1382, 904.5, 46.25, 0.9798, NULL, NULL),
-	(1383, 904.5, 46.5, 0.9796, NULL, NULL),
-	(1384, 904.5, 46.75, 0.9794, NULL, NULL),
-	(1385, 904.5, 47, 0.9792, NULL, NULL),
-	(1386, 904.5, 47.25, 0.979, NULL, NULL),
-	(1387, 904.5, 47.5, 0.9788, NULL, NULL),
-	(1388, 904.5, 47.75, 0.9786, NULL, NULL),
-	(1389, 904.5, 48, 0.9784, NULL, NULL),
-	(1390, 904.5, 48.25, 0.9782, NULL, NULL),
-	(1391, 904.5, 48.5, 0.978, NULL, NULL),
-	(1392, 904.5, 48.75, 0.9778, NULL, NULL),
-	(1393, 904.5, 49, 0.9776, NULL, NULL),
-	(1394, 904.5, 49.25, 0.9774, NULL, NULL),
-	(1395, 904.5, 49.5, 0.9772, NULL, NULL),
-	(1396, 904.5, 49.75, 0.977, NULL, NULL),
-	(1397, 904.5, 50, 0.9768, NULL, NULL),
-	(1398, 905, 15, 1.0038, NULL, NULL),
-	(1399, 905, 15.25, 1.0036, NULL, NULL),
-	(1400, 905, 15.5, 1.0034, NULL, NULL),
-	(1401, 905, 15.75, 1.0033, NULL, NULL),
-	(1402, 905, 16, 1.0031, NULL, NULL),
-	(1403, 905, 16.25, 1.0029, NULL, NULL),
-	(1404, 905, 16.5, 1.0027, NULL, NULL),
-	(1405, 905, 16.75, 1.0025, NULL, NULL),
-	(1406, 905, 17, 1.0023, NULL, NULL),
-	(1407, 905, 17.25, 1.0021, NULL, NULL),
-	(1408, 905, 17.5, 1.0019, NULL, NULL),
-	(1409, 905, 17.75, 1.0017, NULL, NULL),
-	(1410, 905, 18, 1.0015, NULL, NULL),
-	(1411, 905, 18.25, 1.0013, NULL, NULL),
-	(1412, 905, 18.5, 1.0011, NULL, NULL),
-	(1413, 905, 18.75, 1.001, NULL, NULL),
-	(1414, 905, 19, 1.0008, NULL, NULL),
-	(1415, 905, 19.25, 1.0006, NULL, NULL),
-	(1416, 905, 19.5, 1.0004, NULL, NULL),
-	(1417, 905, 19.75, 1.0002, NULL, NULL),
-	(1418, 905, 20, 1, NULL, NULL),
-	(1419, 905, 20.25, 0.9998, NULL, NULL),
-	(1420, 905, 20.5, 0.9996, NULL, NULL),
-	(1421, 905, 20.75, 0.9994, NULL, NULL),
-	(1422, 905, 21, 0.9992, NULL, NULL),
-	(1423, 905, 21.25, 0.999, NULL, NULL),
-	(1424, 905, 21.5, 0.9989, NULL, NULL),
-	(1425, 905, 21.75, 0.9987, NULL, NULL),
-	(1426, 905, 22, 0.9985, NULL, NULL),
-	(1427, 905, 22.25, 0.9983, NULL, NULL),
-	(1428, 905, 22.5, 0.9981, NULL, NULL),
-	(1429, 905, 22.75, 0.9979, NULL, NULL),
-	(1430, 905, 23, 0.9977, NULL, NULL),
-	(1431, 905, 23.25, 0.0975, NULL, NULL),
-	(1432, 905, 23.5, 0.0973, NULL, NULL),
-	(1433, 905, 24, 0.9969, NULL, NULL),
-	(1434, 905, 24.25, 0.9967, NULL, NULL),
-	(1435, 905, 24.5, 0.9965, NULL, NULL),
-	(1436, 905, 24.75, 0.9964, NULL, NULL),
-	(1437, 905, 25, 0.9962, NULL, NULL),
-	(1438, 905, 25.25, 0.996, NULL, NULL),
-	(1439, 905, 25.5, 0.9958, NULL, NULL),
-	(1440, 905, 25.75, 0.9956, NULL, NULL),
-	(1441, 905, 26, 0.9954, NULL, NULL),
-	(1442, 905, 26.25, 0.9952, NULL, NULL),
-	(1443, 905, 26.5, 0.995, NULL, NULL),
-	(1444, 905, 26.75, 0.9948, NULL, NULL),
-	(1445, 905, 27, 0.9946, NULL, NULL),
-	(1446, 905, 27.25, 0.9944, NULL, NULL),
-	(1447, 905, 27.5, 0.9942, NULL, NULL),
-	(1448, 905, 27.75, 0.9941, NULL, NULL),
-	(1449, 905, 28, 0.9939, NULL, NULL),
-	(1450, 905, 28.25, 0.9937, NULL, NULL),
-	(1451, 905, 28.5, 0.9935, NULL, NULL),
-	(1452, 905, 28.75, 0.9933, NULL, NULL),
-	(1453, 905, 29, 0.9931, NULL, NULL),
-	(1454, 905, 29.25, 0.9929, NULL, NULL),
-	(1455, 905, 29.5, 0.9927, NULL, NULL),
-	(1456, 905, 29.75, 0.9925, NULL, NULL),
-	(1457, 905, 30, 0.9923, NULL, NULL),
-	(1458, 905, 30.25, 0.9921, NULL, NULL),
-	(1459, 905, 30.5, 0.9919, NULL, NULL),
-	(1460, 905, 30.75, 0.9917, NULL, NULL),
-	(1461, 905, 31, 0.9915, NULL, NULL),
-	(1462, 905, 31.25, 0.9914, NULL, NULL),
-	(1463, 905, 31.5, 0.9912, NULL, NULL),
-	(1464, 905, 31.75, 0.991, NULL, NULL),
-	(1465, 905, 32, 0.9908, NULL, NULL),
-	(1466, 905, 32.25, 0.9906, NULL, NULL),
-	(1467, 905, 32.5, 0.9904, NULL, NULL),
-	(1468, 905, 32.75, 0.9902, NULL, NULL),
-	(1469, 905, 33, 0.99, NULL, NULL),
-	(1470, 905, 33.25, 0.9898, NULL, NULL),
-	(1471, 905, 33.5, 0.9896, NULL, NULL),
-	(1472, 905, 33.75, 0.9894, NULL, NULL),
-	(1473, 905, 34, 0.9892, NULL, NULL),
-	(1474, 905, 34.25, 0.989, NULL, NULL),
-	(1475, 905, 34.5, 0.9889, NULL, NULL),
-	(1476, 905, 34.75, 0.9887, NULL, NULL),
-	(1477, 905, 35, 0.9885, NULL, NULL),
-	(1478, 905, 35.25, 0.9883, NULL, NULL),
-	(1479, 905, 35.5, 0.9881, NULL, NULL),
-	(1480, 905, 35.75, 0.9879, NULL, NULL),
-	(1481, 905, 36, 0.9877, NULL, NULL),
-	(1482, 905, 36.25, 0.9875, NULL, NULL),
-	(1483, 905, 36.5, 0.9873, NULL, NULL),
-	(1484, 905, 36.75, 0.9871, NULL, NULL),
-	(1485, 905, 37, 0.9869, NULL, NULL),
-	(1486, 905, 37.25, 0.9867, NULL, NULL),
-	(1487, 905, 37.5, 0.9865, NULL, NULL),
-	(1488, 905, 37.75, 0.9863, NULL, NULL),
-	(1489, 905, 38, 0.9862, NULL, NULL),
-	(1490, 905, 38.25, 0.986, NULL, NULL),
-	(1491, 905, 38.5, 0.9858, NULL, NULL),
-	(1492, 905, 38.75, 0.9856, NULL, NULL),
-	(1493, 905, 39, 0.9854, NULL, NULL),
-	(1494, 905, 39.25, 0.9852, NULL, NULL),
-	(1495, 905, 39.5, 0.985, NULL, NULL),
-	(1496, 905, 39.75, 0.9848, NULL, NULL),
-	(1497, 905, 40, 0.9846, NULL, NULL),
-	(1498, 905, 40.25, 0.9844, NULL, NULL),
-	(1499, 905, 40.5, 0.9842, NULL, NULL),
-	(1500, 905, 40.75, 0.984, NULL, NULL),
-	(1501, 905, 41, 0.9838, NULL, NULL),
-	(1502, 905, 41.25, 0.9836, NULL, NULL),
-	(1503, 905, 41.5, 0.9834, NULL, NULL),
-	(1504, 905, 41.75, 0.9833, NULL, NULL),
-	(1505, 905, 42, 0.9831, NULL, NULL),
-	(1506, 905, 42.25, 0.9829, NULL, NULL),
-	(1507, 905, 42.5, 0.9827, NULL, NULL),
-	(1508, 905, 42.75, 0.9825, NULL, NULL),
-	(1509, 905, 43, 0.9823, NULL, NULL),
-	(1510, 905, 43.25, 0.9821, NULL, NULL),
-	(1511, 905, 43.5, 0.9819, NULL, NULL),
-	(1512, 905, 43.75, 0.9817, NULL, NULL),
-	(1513, 905, 44, 0.9815, NULL, NULL),
-	(1514, 905, 44.25, 0.9813, NULL, NULL),
-	(1515, 905, 44.5, 0.9811, NULL, NULL),
-	(1516, 905, 44.75, 0.9809, NULL, NULL),
-	(1517, 905, 45, 0.9807, NULL, NULL),
-	(1518, 905, 45.25, 0.9805, NULL, NULL),
-	(1519, 905, 45.5, 0.9804, NULL, NULL),
-	(1520, 905, 45.75, 0.9802, NULL, NULL),
-	(1521, 905, 46, 0.98, NULL, NULL),
-	(1522, 905, 46.25, 0.9798, NULL, NULL),
-	(1523, 905, 46.5, 0.9796, NULL, NULL),
-	(1524, 905, 46.75, 0.9794, NULL, NULL),
-	(1525, 905, 47, 0.9792, NULL, NULL),
-	(1526, 905, 47.25, 0.979, NULL, NULL),
-	(1527, 905, 47.5, 0.9788, NULL, NULL),
-	(1528, 905, 47.75, 0.9786, NULL, NULL),
-	(1529, 905, 48, 0.9784, NULL, NULL),
-	(1530, 905, 48.25, 0.9782, NULL, NULL),
-	(1531, 905, 48.5, 0.978, NULL, NULL),
-	(1532, 905, 48.75, 0.9778, NULL, NULL),
-	(1533, 905, 49, 0.9776, NULL, NULL),
-	(1534, 905, 49.25, 0.9774, NULL, NULL),
-	(1535, 905, 49.5, 0.9773, NULL, NULL),
-	(1536, 905, 49.75, 0.9771, NULL, NULL),
-	(1537, 905, 50, 0.9769, NULL, NULL),
-	(1538, 905.5, 15, 1.0038, NULL, NULL),
-	(1539, 905.5, 15.25, 1.0036, NULL, NULL),
-	(1540, 905.5, 15.5, 1.0034, NULL, NULL),
-	(1541, 905.5, 15.75, 1.0033, NULL, NULL),
-	(1542, 905.5, 16, 1.0031, NULL, NULL),
-	(1543, 905.5, 16.25, 1.0029, NULL, NULL),
-	(1544, 905.5, 16.5, 1.0027, NULL, NULL),
-	(1545, 905.5, 16.75, 1.0025, NULL, NULL),
-	(1546, 905.5, 17, 1.0023, NULL, NULL),
-	(1547, 905.5, 17.25, 1.0021, NULL, NULL),
-	(1548, 905.5, 17.5, 1.0019, NULL, NULL),
-	(1549, 905.5, 17.75, 1.0017, NULL, NULL),
-	(1550, 905.5, 18, 1.0015, NULL, NULL),
-	(1551, 905.5, 18.25, 1.0013, NULL, NULL),
-	(1552, 905.5, 18.5, 1.0011, NULL, NULL),
-	(1553, 905.5, 18.75, 1.001, NULL, NULL),
-	(1554, 905.5, 19, 1.0008, NULL, NULL),
-	(1555, 905.5, 19.25, 1.0006, NULL, NULL),
-	(1556, 905.5, 19.5, 1.0004, NULL, NULL),
-	(1557, 905.5, 19.75, 1.0002, NULL, NULL),
-	(1558, 905.5, 20, 1, NULL, NULL),
-	(1559, 905.5, 20.25, 0.9998, NULL, NULL),
-	(1560, 905.5, 20.5, 0.9996, NULL, NULL),
-	(1561, 905.5, 20.75, 0.9994, NULL, NULL),
-	(1562, 905.5, 21, 0.9992, NULL, NULL),
-	(1563, 905.5, 21.25, 0.999, NULL, NULL),
-	(1564, 905.5, 21.5, 0.9989, NULL, NULL),
-	(1565, 905.5, 21.75, 0.9987, NULL, NULL),
-	(1566, 905.5, 22, 0.9985, NULL, NULL),
-	(1567, 905.5, 22.25, 0.9983, NULL, NULL),
-	(1568, 905.5, 22.5, 0.9981, NULL, NULL),
-	(1569, 905.5, 22.75, 0.9979, NULL, NULL),
-	(1570, 905.5, 23, 0.9977, NULL, NULL),
-	(1571, 905.5, 23.25, 0.0975, NULL, NULL),
-	(1572, 905.5, 23.5, 0.0973, NULL, NULL),
-	(1573, 905.5, 24, 0.9969, NULL, NULL),
-	(1574, 905.5, 24.25, 0.9967, NULL, NULL),
-	(1575, 905.5, 24.5, 0.9966, NULL, NULL),
-	(1576, 905.5, 24.75, 0.9964, NULL, NULL),
-	(1577, 905.5, 25, 0.9962, NULL, NULL),
-	(1578, 905.5, 25.25, 0.996, NULL, NULL),
-	(1579, 905.5, 25.5, 0.9958, NULL, NULL),
-	(1580, 905.5, 25.75, 0.9956, NULL, NULL),
-	(1581, 905.5, 26, 0.9954, NULL, NULL),
-	(1582, 905.5, 26.25, 0.9952, NULL, NULL),
-	(1583, 905.5, 26.5, 0.995, NULL, NULL),
-	(1584, 905.5, 26.75, 0.9948, NULL, NULL),
-	(1585, 905.5, 27, 0.9946, NULL, NULL),
-	(1586, 905.5, 27.25, 0.9944, NULL, NULL),
-	(1587, 905.5, 27.5, 0.9942, NULL, NULL),
-	(1588, 905.5, 27.75, 0.9941, NULL, NULL),
-	(1589, 905.5, 28, 0.9939, NULL, NULL),
-	(1590, 905.5, 28.25, 0.9937, NULL, NULL),
-	(1591, 905.5, 28.5, 0.9935, NULL, NULL),
-	(1592, 905.5, 28.75, 0.9933, NULL, NULL),
-	(1593, 905.5, 29, 0.9931, NULL, NULL),
-	(1594, 905.5, 29.25, 0.9929, NULL, NULL),
-	(1595, 905.5, 29.5, 0.9927, NULL, NULL),
-	(1596, 905.5, 29.75, 0.9925, NULL, NULL),
-	(1597, 905.5, 30, 0.9923, NULL, NULL),
-	(1598, 905.5, 30.25, 0.9921, NULL, NULL),
-	(1599, 905.5, 30.5, 0.9919, NULL, NULL),
-	(1600, 905.5, 30.75, 0.9917, NULL, NULL),
-	(1601, 905.5, 31, 0.9916, NULL, NULL),
-	(1602, 905.5, 31.25, 0.9914, NULL, NULL),
-	(1603, 905.5, 31.5, 0.9912, NULL, NULL),
-	(1604, 905.5, 31.75, 0.991, NULL, NULL),
-	(1605, 905.5, 32, 0.9908, NULL, NULL),
-	(1606, 905.5, 32.25, 0.9906, NULL, NULL),
-	(1607, 905.5, 32.5, 0.9904, NULL, NULL),
-	(1608, 905.5, 32.75, 0.9902, NULL, NULL),
-	(1609, 905.5, 33, 0.99, NULL, NULL),
-	(1610, 905.5, 33.25, 0.9898, NULL, NULL),
-	(1611, 905.5, 33.5, 0.9896, NULL, NULL),
-	(1612, 905.5, 33.75, 0.9894, NULL, NULL),
-	(1613, 905.5, 34, 0.9892, NULL, NULL),
-	(1614, 905.5, 34.25, 0.9891, NULL, NULL),
-	(1615, 905.5, 34.5, 0.9889, NULL, NULL),
-	(1616, 905.5, 34.75, 0.9887, NULL, NULL),
-	(1617, 905.5, 35, 0.9885, NULL, NULL),
-	(1618, 905.5, 35.25, 0.9883, NULL, NULL),
-	(1619, 905.5, 35.5, 0.9881, NULL, NULL),
-	(1620, 905.5, 35.75, 0.9879, NULL, NULL),
-	(1621, 905.5, 36, 0.9877, NULL, NULL),
-	(1622, 905.5, 36.25, 0.9875, NULL, NULL),
-	(1623, 905.5, 36.5, 0.9873, NULL, NULL),
-	(1624, 905.5, 36.75, 0.9871, NULL, NULL),
-	(1625, 905.5, 37, 0.9869, NULL, NULL),
-	(1626, 905.5, 37.25, 0.9867, NULL, NULL),
-	(1627, 905.5, 37.5, 0.9865, NULL, NULL),
-	(1628, 905.5, 37.75, 0.9864, NULL, NULL),
-	(1629, 905.5, 38, 0.9862, NULL, NULL),
-	(1630, 905.5, 38.25, 0.986, NULL, NULL),
-	(1631, 905.5, 38.5, 0.9858, NULL, NULL),
-	(1632, 905.5, 38.75, 0.9856, NULL, NULL),
-	(1633, 905.5, 39, 0.9854, NULL, NULL),
-	(1634, 905.5, 39.25, 0.9852, NULL, NULL),
-	(1635, 905.5, 39.5, 0.985, NULL, NULL),
-	(1636, 905.5, 39.75, 0.9848, NULL, NULL),
-	(1637, 905.5, 40, 0.9846, NULL, NULL),
-	(1638, 905.5, 40.25, 0.9844, NULL, NULL),
-	(1639, 905.5, 40.5, 0.9842, NULL, NULL),
-	(1640, 905.5, 40.75, 0.984, NULL, NULL),
-	(1641, 905.5, 41, 0.9838, NULL, NULL),
-	(1642, 905.5, 41.25, 0.9837, NULL, NULL),
-	(1643, 905.5, 41.5, 0.9835, NULL, NULL),
-	(1644, 905.5, 41.75, 0.9833, NULL, NULL),
-	(1645, 905.5, 42, 0.9831, NULL, NULL),
-	(1646, 905.5, 42.25, 0.9829, NULL, NULL),
-	(1647, 905.5, 42.5, 0.9827, NULL, NULL),
-	(1648, 905.5, 42.75, 0.9825, NULL, NULL),
-	(1649, 905.5, 43, 0.9823, NULL, NULL),
-	(1650, 905.5, 43.25, 0.9821, NULL, NULL),
-	(1651, 905.5, 43.5, 0.9819, NULL, NULL),
-	(1652, 905.5, 43.75, 0.9817, NULL, NULL),
-	(1653, 905.5, 44, 0.9815, NULL, NULL),
-	(1654, 905.5, 44.25, 0.9813, NULL, NULL),
-	(1655, 905.5, 44.5, 0.9811, NULL, NULL),
-	(1656, 905.5, 44.75, 0.9809, NULL, NULL),
-	(1657, 905.5, 45, 0.9808, NULL, NULL),
-	(1658, 905.5, 45.25, 0.9806, NULL, NULL),
-	(1659, 905.5, 45.5, 0.9804, NULL, NULL),
-	(1660, 905.5, 45.75, 0.9802, NULL, NULL),
-	(1661, 905.5, 46, 0.98, NULL, NULL),
-	(1662, 905.5, 46.25, 0.9798, NULL, NULL),
-	(1663, 905.5, 46.5, 0.9796, NULL, NULL),
-	(1664, 905.5, 46.75, 0.9794, NULL, NULL),
-	(1665, 905.5, 47, 0.9792, NULL, NULL),
-	(1666, 905.5, 47.25, 0.979, NULL, NULL),
-	(1667, 905.5, 47.5, 0.9788, NULL, NULL),
-	(1668, 905.5, 47.75, 0.9786, NULL, NULL),
-	(1669, 905.5, 48, 0.9784, NULL, NULL),
-	(1670, 905.5, 48.25, 0.9782, NULL, NULL),
-	(1671, 905.5, 48.5, 0.978, NULL, NULL),
-	(1672, 905.5, 48.75, 0.9778, NULL, NULL),
-	(1673, 905.5, 49, 0.9777, NULL, NULL),
-	(1674, 905.5, 49.25, 0.9775, NULL, NULL),
-	(1675, 905.5, 49.5, 0.9773, NULL, NULL),
-	(1676, 905.5, 49.75, 0.9771, NULL, NULL),
-	(1677, 905.5, 50, 0.9769, NULL, NULL),
-	(1678, 909, 15, 1.0038, NULL, NULL),
-	(1679, 909, 15.25, 1.0036, NULL, NULL),
-	(1680, 909, 15.5, 1.0034, NULL, NULL),
-	(1681, 909, 15.75, 1.0032, NULL, NULL),
-	(1682, 909, 16, 1.003, NULL, NULL),
-	(1683, 909, 16.25, 1.0029, NULL, NULL),
-	(1684, 909, 16.5, 1.0027, NULL, NULL),
-	(1685, 909, 16.75, 1.0025, NULL, NULL),
-	(1686, 909, 17, 1.0023, NULL, NULL),
-	(1687, 909, 17.25, 1.0021, NULL, NULL),
-	(1688, 909, 17.5, 1.0019, NULL, NULL),
-	(1689, 909, 17.75, 1.0017, NULL, NULL),
-	(1690, 909, 18, 1.0015, NULL, NULL),
-	(1691, 909, 18.25, 1.0013, NULL, NULL),
-	(1692, 909, 18.5, 1.0011, NULL, NULL),
-	(1693, 909, 18.75, 1.001, NULL, NULL),
-	(1694, 909, 19, 1.0008, NULL, NULL),
-	(1695, 909, 19.25, 1.0006, NULL, NULL),
-	(1696, 909, 19.5, 1.0004, NULL, NULL),
-	(1697, 909, 19.75, 1.0002, NULL, NULL),
-	(1698, 909, 20, 1, NULL, NULL),
-	(1699, 909, 20.25, 0.9998, NULL, NULL),
-	(1700, 909, 20.5, 0.9996, NULL, NULL),
-	(1701, 909, 20.75, 0.9994, NULL, NULL),
-	(1702, 909, 21, 0.9992, NULL, NULL),
-	(1703, 909, 21.25, 0.999, NULL, NULL),
-	(1704, 909, 21.5, 0.9989, NULL, NULL),
-	(1705, 909, 21.75, 0.9987, NULL, NULL),
-	(1706, 909, 22, 0.9985, NULL, NULL),
-	(1707, 909, 22.25, 0.9983, NULL, NULL),
-	(1708, 909, 22.5, 0.9981, NULL, NULL),
-	(1709, 909, 22.75, 0.9979, NULL, NULL),
-	(1710, 909, 23, 0.9977, NULL, NULL),
-	(1711, 909, 23.25, 0.9975, NULL, NULL),
-	(1712, 909, 23.5, 0.9973, NULL, NULL),
-	(1713, 909, 23.75, 0.9971, NULL, NULL),
-	(1714, 909, 24, 0.9969, NULL, NULL),
-	(1715, 909, 24.25, 0.9968, NULL, NULL),
-	(1716, 909, 24.5, 0.9966, NULL, NULL),
-	(1717, 909, 24.75, 0.9964, NULL, NULL),
-	(1718, 909, 25, 0.9962, NULL, NULL),
-	(1719, 909, 25.25, 0.996, NULL, NULL),
-	(1720, 909, 25.5, 0.9958, NULL, NULL),
-	(1721, 909, 25.75, 0.9956, NULL, NULL),
-	(1722, 909, 26, 0.9954, NULL, NULL),
-	(1723, 909, 26.25, 0.9952, NULL, NULL),
-	(1724, 909, 26.5, 0.995, NULL, NULL),
-	(1725, 909, 26.75, 0.9948, NULL, NULL),
-	(1726, 909, 27, 0.9947, NULL, NULL),
-	(1727, 909, 27.25, 0.9945, NULL, NULL),
-	(1728, 909, 27.5, 0.9943, NULL, NULL),
-	(1729, 909, 27.75, 0.9941, NULL, NULL),
-	(1730, 909, 28, 0.9939, NULL, NULL),
-	(1731, 909, 28.25, 0.9937, NULL, NULL),
-	(1732, 909, 28.5, 0.9935, NULL, NULL),
-	(1733, 909, 28.75, 0.9933, NULL, NULL),
-	(1734, 909, 29, 0.9931, NULL, NULL),
-	(1735, 909, 29.25, 0.9929, NULL, NULL),
-	(1736, 909, 29.5, 0.9927, NULL, NULL),
-	(1737, 909, 29.75, 0.9926, NULL, NULL),
-	(1738, 909, 30, 0.9924, NULL, NULL),
-	(1739, 909, 30.25, 0.9922, NULL, NULL),
-	(1740, 909, 30.5, 0.992, NULL, NULL),
-	(1741, 909, 30.75, 0.9918, NULL, NULL),
-	(1742, 909, 31, 0.9916, NULL, NULL),
-	(1743, 909, 31.25, 0.9914, NULL, NULL),
-	(1744, 909, 31.5, 0.9912, NULL, NULL),
-	(1745, 909, 31.75, 0.991, NULL, NULL),
-	(1746, 909, 32, 0.9908, NULL, NULL),
-	(1747, 909, 32.25, 0.9906, NULL, NULL),
-	(1748, 909, 32.5, 0.9904, NULL, NULL),
-	(1749, 909, 32.75, 0.9903, NULL, NULL),
-	(1750, 909, 33, 0.9901, NULL, NULL),
-	(1751, 909, 33.25, 0.9899, NULL, NULL),
-	(1752, 909, 33.5, 0.9897, NULL, NULL),
-	(1753, 909, 33.75, 0.9895, NULL, NULL),
-	(1754, 909, 34, 0.9893, NULL, NULL),
-	(1755, 909, 34.25, 0.9891, NULL, NULL),
-	(1756, 909, 34.5, 0.9889, NULL, NULL),
-	(1757, 909, 34.75, 0.9887, NULL, NULL),
-	(1758, 909, 35, 0.9885, NULL, NULL),
-	(1759, 909, 35.25, 0.9883, NULL, NULL),
-	(1760, 909, 35.5, 0.9881, NULL, NULL),
-	(1761, 909, 35.75, 0.988, NULL, NULL),
-	(1762, 909, 36, 0.9878, NULL, NULL),
-	(1763, 909, 36.25, 0.9876, NULL, NULL),
-	(1764, 909, 36.5, 0.9874, NULL, NULL),
-	(1765, 909, 36.75, 0.9872, NULL, NULL),
-	(1766, 909, 37, 0.987, NULL, NULL),
-	(1767, 909, 37.25, 0.9868, NULL, NULL),
-	(1768, 909, 37.5, 0.9866, NULL, NULL),
-	(1769, 909, 37.75, 0.9864, NULL, NULL),
-	(1770, 909, 38, 0.9862, NULL, NULL),
-	(1771, 909, 38.25, 0.986, NULL, NULL),
-	(1772, 909, 38.5, 0.9858, NULL, NULL),
-	(1773, 909, 38.75, 0.9857, NULL, NULL),
-	(1774, 909, 39, 0.9855, NULL, NULL),
-	(1775, 909, 39.25, 0.9853, NULL, NULL),
-	(1776, 909, 39.5, 0.9851, NULL, NULL),
-	(1777, 909, 39.75, 0.9849, NULL, NULL),
-	(1778, 909, 40, 0.9847, NULL, NULL),
-	(1779, 909, 40.25, 0.9845, NULL, NULL),
-	(1780, 909, 40.5, 0.9843, NULL, NULL),
-	(1781, 909, 40.75, 0.9841, NULL, NULL),
-	(1782, 909, 41, 0.9839, NULL, NULL),
-	(1783, 909, 41.25, 0.9837, NULL, NULL),
-	(1784, 909, 41.5, 0.9835, NULL, NULL),
-	(1785, 909, 41.75, 0.9833, NULL, NULL),
-	(1786, 909, 42, 0.9832, NULL, NULL),
-	(1787, 909, 42.25, 0.983, NULL, NULL),
-	(1788, 909, 42.5, 0.9828, NULL, NULL),
-	(1789, 909, 42.75, 0.9826, NULL, NULL),
-	(1790, 909, 43, 0.9824, NULL, NULL),
-	(1791, 909, 43.25, 0.9822, NULL, NULL),
-	(1792, 909, 43.5, 0.982, NULL, NULL),
-	(1793, 909, 43.75, 0.9818, NULL, NULL),
-	(1794, 909, 44, 0.9816, NULL, NULL),
-	(1795, 909, 44.25, 0.9814, NULL, NULL),
-	(1796, 909, 44.5, 0.9812, NULL, NULL),
-	(1797, 909, 44.75, 0.981, NULL, NULL),
-	(1798, 909, 45, 0.9808, NULL, NULL),
-	(1799, 909, 45.25, 0.9807, NULL, NULL),
-	(1800, 909, 45.5, 0.9805, NULL, NULL),
-	(1801, 909, 45.75, 0.9803, NULL, NULL),
-	(1802, 909, 46, 0.9801, NULL, NULL),
-	(1803, 909, 46.25, 0.9799, NULL, NULL),
-	(1804, 909, 46.5, 0.9797, NULL, NULL),
-	(1805, 909, 46.75, 0.9795, NULL, NULL),
-	(1806, 909, 47, 0.9793, NULL, NULL),
-	(1807, 909, 47.25, 0.9791, NULL, NULL),
-	(1808, 909, 47.5, 0.9789, NULL, NULL),
-	(1809, 909, 47.75, 0.9787, NULL, NULL),
-	(1810, 909, 48, 0.9785, NULL, NULL),
-	(1811, 909, 48.25, 0.9783, NULL, NULL),
-	(1812, 909, 48.5, 0.9782, NULL, NULL),
-	(1813, 909, 48.75, 0.978, NULL, NULL),
-	(1814, 909, 49, 0.9778, NULL, NULL),
-	(1815, 909, 49.25, 0.9776, NULL, NULL),
-	(1816, 909, 49.5, 0.9774, NULL, NULL),
-	(1817, 909, 49.75, 0.9772, NULL, NULL),
-	(1818, 909, 50, 0.977, NULL, NULL),
-	(1819, 909.5, 15, 1.0038, NULL, NULL),
-	(1820, 909.5, 15.25, 1.0036, NULL, NULL),
-	(1821, 909.5, 15.5, 1.0034, NULL, NULL),
-	(1822, 909.5, 15.75, 1.0032, NULL, NULL),
-	(1823, 909.5, 16, 1.003, NULL, NULL),
-	(1824, 909.5, 16.25, 1.0029, NULL, NULL),
-	(1825, 909.5, 16.5, 1.0027, NULL, NULL),
-	(1826, 909.5, 16.75, 1.0025, NULL, NULL),
-	(1827, 909.5, 17, 1.0023, NULL, NULL),
-	(1828, 909.5, 17.25, 1.0021, NULL, NULL),
-	(1829, 909.5, 17.5, 1.0019, NULL, NULL),
-	(1830, 909.5, 17.75, 1.0017, NULL, NULL),
-	(1831, 909.5, 18, 1.0015, NULL, NULL),
-	(1832, 909.5, 18.25, 1.0013, NULL, NULL),
-	(1833, 909.5, 18.5, 1.0011, NULL, NULL),
-	(1834, 909.5, 18.75, 1.001, NULL, NULL),
-	(1835, 909.5, 19, 1.0008, NULL, NULL),
-	(1836, 909.5, 19.25, 1.0006, NULL, NULL),
-	(1837, 909.5, 19.5, 1.0004, NULL, NULL),
-	(1838, 909.5, 19.75, 1.0002, NULL, NULL),
-	(1839, 909.5, 20, 1, NULL, NULL),
-	(1840, 909.5, 20.25, 0.9998, NULL, NULL),
-	(1841, 909.5, 20.5, 0.9996, NULL, NULL),
-	(1842, 909.5, 20.75, 0.9994, NULL, NULL),
-	(1843, 909.5, 21, 0.9992, NULL, NULL),
-	(1844, 909.5, 21.25, 0.999, NULL, NULL),
-	(1845, 909.5, 21.5, 0.9989, NULL, NULL),
-	(1846, 909.5, 21.75, 0.9987, NULL, NULL),
-	(1847, 909.5, 22, 0.9985, NULL, NULL),
-	(1848, 909.5, 22.25, 0.9983, NULL, NULL),
-	(1849, 909.5, 22.5, 0.9981, NULL, NULL),
-	(1850, 909.5, 22.75, 0.9979, NULL, NULL),
-	(1851, 909.5, 23, 0.9977, NULL, NULL),
-	(1852, 909.5, 23.25, 0.9975, NULL, NULL),
-	(1853, 909.5, 23.5, 0.9973, NULL, NULL),
-	(1854, 909.5, 23.75, 0.9971, NULL, NULL),
-	(1855, 909.5, 24, 0.997, NULL, NULL),
-	(1856, 909.5, 24.25, 0.9968, NULL, NULL),
-	(1857, 909.5, 24.5, 0.9966, NULL, NULL),
-	(1858, 909.5, 24.75, 0.9964, NULL, NULL),
-	(1859, 909.5, 25, 0.9962, NULL, NULL),
-	(1860, 909.5, 25.25, 0.996, NULL, NULL),
-	(1861, 909.5, 25.5, 0.9958, NULL, NULL),
-	(1862, 909.5, 25.75, 0.9956, NULL, NULL),
-	(1863, 909.5, 26, 0.9954, NULL, NULL),
-	(1864, 909.5, 26.25, 0.9952, NULL, NULL),
-	(1865, 909.5, 26.5, 0.995, NULL, NULL),
-	(1866, 909.5, 26.75, 0.9949, NULL, NULL),
-	(1867, 909.5, 27, 0.9947, NULL, NULL),
-	(1868, 909.5, 27.25, 0.9945, NULL, NULL),
-	(1869, 909.5, 27.5, 0.9943, NULL, NULL),
-	(1870, 909.5, 27.75, 0.9941, NULL, NULL),
-	(1871, 909.5, 28, 0.9939, NULL, NULL),
-	(1872, 909.5, 28.25, 0.9937, NULL, NULL),
-	(1873, 909.5, 28.5, 0.9935, NULL, NULL),
-	(1874, 909.5, 28.75, 0.9933, NULL, NULL),
-	(1875, 909.5, 29, 0.9931, NULL, NULL),
-	(1876, 909.5, 29.25, 0.9929, NULL, NULL),
-	(1877, 909.5, 29.5, 0.9928, NULL, NULL),
-	(1878, 909.5, 29.75, 0.9926, NULL, NULL),
-	(1879, 909.5, 30, 0.9924, NULL, NULL),
-	(1880, 909.5, 30.25, 0.9922, NULL, NULL),
-	(1881, 909.5, 30.5, 0.992, NULL, NULL),
-	(1882, 909.5, 30.75, 0.9918, NULL, NULL),
-	(1883, 909.5, 31, 0.9916, NULL, NULL),
-	(1884, 909.5, 31.25, 0.9914, NULL, NULL),
-	(1885, 909.5, 31.5, 0.9912, NULL, NULL),
-	(1886, 909.5, 31.75, 0.991, NULL, NULL),
-	(1887, 909.5, 32, 0.9908, NULL, NULL),
-	(1888, 909.5, 32.25, 0.9906, NULL, NULL),
-	(1889, 909.5, 32.5, 0.9905, NULL, NULL),
-	(1890, 909.5, 32.75, 0.9903, NULL, NULL),
-	(1891, 909.5, 33, 0.9901, NULL, NULL),
-	(1892, 909.5, 33.25, 0.9899, NULL, NULL),
-	(1893, 909.5, 33.5, 0.9897, NULL, NULL),
-	(1894, 909.5, 33.75, 0.9895, NULL, NULL),
-	(1895, 909.5, 34, 0.9893, NULL, NULL),
-	(1896, 909.5, 34.25, 0.9891, NULL, NULL),
-	(1897, 909.5, 34.5, 0.9889, NULL, NULL),
-	(1898, 909.5, 34.75, 0.9887, NULL, NULL),
-	(1899, 909.5, 35, 0.9885, NULL, NULL),
-	(1900, 909.5, 35.25, 0.9884, NULL, NULL),
-	(1901, 909.5, 35.5, 0.9882, NULL, NULL),
-	(1902, 909.5, 35.75, 0.988, NULL, NULL),
-	(1903, 909.5, 36, 0.9878, NULL, NULL),
-	(1904, 909.5, 36.25, 0.9876, NULL, NULL),
-	(1905, 909.5, 36.5, 0.9874, NULL, NULL),
-	(1906, 909.5, 36.75, 0.9872, NULL, NULL),
-	(1907, 909.5, 37, 0.987, NULL, NULL),
-	(1908, 909.5, 37.25, 0.9868, NULL, NULL),
-	(1909, 909.5, 37.5, 0.9866, NULL, NULL),
-	(1910, 909.5, 37.75, 0.9864, NULL, NULL),
-	(1911, 909.5, 38, 0.9862, NULL, NULL),
-	(1912, 909.5, 38.25, 0.9861, NULL, NULL),
-	(1913, 909.5, 38.5, 0.9859, NULL, NULL),
-	(1914, 909.5, 38.75, 0.9857, NULL, NULL),
-	(1915, 909.5, 39, 0.9855, NULL, NULL),
-	(1916, 909.5, 39.25, 0.9853, NULL, NULL),
-	(1917, 909.5, 39.5, 0.9851, NULL, NULL),
-	(1918, 909.5, 39.75, 0.9849, NULL, NULL),
-	(1919, 909.5, 40, 0.9847, NULL, NULL),
-	(1920, 909.5, 40.25, 0.9845, NULL, NULL),
-	(1921, 909.5, 40.5, 0.9843, NULL, NULL),
-	(1922, 909.5, 40.75, 0.9841, NULL, NULL),
-	(1923, 909.5, 41, 0.9839, NULL, NULL),
-	(1924, 909.5, 41.25, 0.9837, NULL, NULL),
-	(1925, 909.5, 41.5, 0.9836, NULL, NULL),
-	(1926, 909.5, 41.75, 0.9834, NULL, NULL),
-	(1927, 909.5, 42, 0.9832, NULL, NULL),
-	(1928, 909.5, 42.25, 0.983, NULL, NULL),
-	(1929, 909.5, 42.5, 0.9828, NULL, NULL),
-	(1930, 909.5, 42.75, 0.9826, NULL, NULL),
-	(1931, 909.5, 43, 0.9824, NULL, NULL),
-	(1932, 909.5, 43.25, 0.9822, NULL, NULL),
-	(1933, 909.5, 43.5, 0.982, NULL, NULL),
-	(1934, 909.5, 43.75, 0.9818, NULL, NULL),
-	(1935, 909.5, 44, 0.9816, NULL, NULL),
-	(1936, 909.5, 44.25, 0.9814, NULL, NULL),
-	(1937, 909.5, 44.5, 0.9812, NULL, NULL),
-	(1938, 909.5, 44.75, 0.9811, NULL, NULL),
-	(1939, 909.5, 45, 0.9809, NULL, NULL),
-	(1940, 909.5, 45.25, 0.9807, NULL, NULL),
-	(1941, 909.5, 45.5, 0.9805, NULL, NULL),
-	(1942, 909.5, 45.75, 0.9803, NULL, NULL),
-	(1943, 909.5, 46, 0.9801, NULL, NULL),
-	(1944, 909.5, 46.25, 0.9799, NULL, NULL),
-	(1945, 909.5, 46.5, 0.9797, NULL, NULL),
-	(1946, 909.5, 46.75, 0.9795, NULL, NULL),
-	(1947, 909.5, 47, 0.9793, NULL, NULL),
-	(1948, 909.5, 47.25, 0.9791, NULL, NULL),
-	(1949, 909.5, 47.5, 0.9789, NULL, NULL),
-	(1950, 909.5, 47.75, 0.9787, NULL, NULL),
-	(1951, 909.5, 48, 0.9786, NULL, NULL),
-	(1952, 909.5, 48.25, 0.9784, NULL, NULL),
-	(1953, 909.5, 48.5, 0.9782, NULL, NULL),
-	(1954, 909.5, 48.75, 0.978, NULL, NULL),
-	(1955, 909.5, 49, 0.9778, NULL, NULL),
-	(1956, 909.5, 49.25, 0.9776, NULL, NULL),
-	(1957, 909.5, 49.5, 0.9774, NULL, NULL),
-	(1958, 909.5, 49.75, 0.9772, NULL, NULL),
-	(1959, 909.5, 50, 0.977, NULL, NULL),
-	(1960, 910, 15, 1.0038, NULL, NULL),
-	(1961, 910, 15.25, 1.0036, NULL, NULL),
-	(1962, 910, 15.5, 1.0034, NULL, NULL),
-	(1963, 910, 15.75, 1.0032, NULL, NULL),
-	(1964, 910, 16, 1.003, NULL, NULL),
-	(1965, 910, 16.25, 1.0029, NULL, NULL),
-	(1966, 910, 16.5, 1.0027, NULL, NULL),
-	(1967, 910, 16.75, 1.0025, NULL, NULL),
-	(1968, 910, 17, 1.0023, NULL, NULL),
-	(1969, 910, 17.25, 1.0021, NULL, NULL),
-	(1970, 910, 17.5, 1.0019, NULL, NULL),
-	(1971, 910, 17.75, 1.0017, NULL, NULL),
-	(1972, 910, 18, 1.0015, NULL, NULL),
-	(1973, 910, 18.25, 1.0013, NULL, NULL),
-	(1974, 910, 18.5, 1.0011, NULL, NULL),
-	(1975, 910, 18.75, 1.001, NULL, NULL),
-	(1976, 910, 19, 1.0008, NULL, NULL),
-	(1977, 910, 19.25, 1.0006, NULL, NULL),
-	(1978, 910, 19.5, 1.0004, NULL, NULL),
-	(1979, 910, 19.75, 1.0002, NULL, NULL),
-	(1980, 910, 20, 1, NULL, NULL),
-	(1981, 910, 20.25, 0.9998, NULL, NULL),
-	(1982, 910, 20.5, 0.9996, NULL, NULL),
-	(1983, 910, 20.75, 0.9994, NULL, NULL),
-	(1984, 910, 21, 0.9992, NULL, NULL),
-	(1985, 910, 21.25, 0.999, NULL, NULL),
-	(1986, 910, 21.5, 0.9989, NULL, NULL),
-	(1987, 910, 21.75, 0.9987, NULL, NULL),
-	(1988, 910, 22, 0.9985, NULL, NULL),
-	(1989, 910, 22.25, 0.9983, NULL, NULL),
-	(1990, 910, 22.5, 0.9981, NULL, NULL),
-	(1991, 910, 22.75, 0.9979, NULL, NULL),
-	(1992, 910, 23, 0.9977, NULL, NULL),
-	(1993, 910, 23.25, 0.9975, NULL, NULL),
-	(1994, 910, 23.5, 0.9973, NULL, NULL),
-	(1995, 910, 23.75, 0.9971, NULL, NULL),
-	(1996, 910, 24, 0.997, NULL, NULL),
-	(1997, 910, 24.25, 0.9968, NULL, NULL),
-	(1998, 910, 24.5, 0.9966, NULL, NULL),
-	(1999, 910, 24.75, 0.9964, NULL, NULL),
-	(2000, 910, 25, 0.9962, NULL, NULL),
-	(2001, 910, 25.25, 0.996, NULL, NULL),
-	(2002, 910, 25.5, 0.9958, NULL, NULL),
-	(2003, 910, 25.75, 0.9956, NULL, NULL),
-	(2004, 910, 26, 0.9954, NULL, NULL),
-	(2005, 910, 26.25, 0.9952, NULL, NULL),
-	(2006, 910, 26.5, 0.995, NULL, NULL),
-	(2007, 910, 26.75, 0.9949, NULL, NULL),
-	(2008, 910, 27, 0.9947, NULL, NULL),
-	(2009, 910, 27.25, 0.9945, NULL, NULL),
-	(2010, 910, 27.5, 0.9943, NULL, NULL),
-	(2011, 910, 27.75, 0.9941, NULL, NULL),
-	(2012, 910, 28, 0.9939, NULL, NULL),
-	(2013, 910, 28.25, 0.9937, NULL, NULL),
-	(2014, 910, 28.5, 0.9935, NULL, NULL),
-	(2015, 910, 28.75, 0.9933, NULL, NULL),
-	(2016, 910, 29, 0.9931, NULL, NULL),
-	(2017, 910, 29.25, 0.9929, NULL, NULL),
-	(2018, 910, 29.5, 0.9928, NULL, NULL),
-	(2019, 910, 29.75, 0.9926, NULL, NULL),
-	(2020, 910, 30, 0.9924, NULL, NULL),
-	(2021, 910, 30.25, 0.9922, NULL, NULL),
-	(2022, 910, 30.5, 0.992, NULL, NULL),
-	(2023, 910, 30.75, 0.9918, NULL, NULL),
-	(2024, 910, 31, 0.9916, NULL, NULL),
-	(2025, 910, 31.25, 0.9914, NULL, NULL),
-	(2026, 910, 31.5, 0.9912, NULL, NULL),
-	(2027, 910, 31.75, 0.991, NULL, NULL),
-	(2028, 910, 32, 0.9908, NULL, NULL),
-	(2029, 910, 32.25, 0.9907, NULL, NULL),
-	(2030, 910, 32.5, 0.9905, NULL, NULL),
-	(2031, 910, 32.75, 0.9903, NULL, NULL),
-	(2032, 910, 33, 0.9901, NULL, NULL),
-	(2033, 910, 33.25, 0.9899, NULL, NULL),
-	(2034, 910, 33.5, 0.9897, NULL, NULL),
-	(2035, 910, 33.75, 0.9895, NULL, NULL),
-	(2036, 910, 34, 0.9893, NULL, NULL),
-	(2037, 910, 34.25, 0.9891, NULL, NULL),
-	(2038, 910, 34.5, 0.9889, NULL, NULL),
-	(2039, 910, 34.75, 0.9887, NULL, NULL),
-	(2040, 910, 35, 0.9885, NULL, NULL),
-	(2041, 910, 35.25, 0.9884, NULL, NULL),
-	(2042, 910, 35.5, 0.9882, NULL, NULL),
-	(2043, 910, 35.75, 0.988, NULL, NULL),
-	(2044, 910, 36, 0.9878, NULL, NULL),
-	(2045, 910, 36.25, 0.9876, NULL, NULL),
-	(2046, 910, 36.5, 0.9874, NULL, NULL),
-	(2047, 910, 36.75, 0.9872, NULL, NULL),
-	(2048, 910, 37, 0.987, NULL, NULL),
-	(2049, 910, 37.25, 0.9868, NULL, NULL),
-	(2050, 910, 37.5, 0.9866, NULL, NULL),
-	(2051, 910, 37.75, 0.9864, NULL, NULL),
-	(2052, 910, 38, 0.9863, NULL, NULL),
-	(2053, 910, 38.25, 0.9861, NULL, NULL),
-	(2054, 910, 38.5, 0.9859, NULL, NULL),
-	(2055, 910, 38.75, 0.9857, NULL, NULL),
-	(2056, 910, 39, 0.9855, NULL, NULL),
-	(2057, 910, 39.25, 0.9853, NULL, NULL),
-	(2058, 910, 39.5, 0.9851, NULL, NULL),
-	(2059, 910, 39.75, 0.9849, NULL, NULL),
-	(2060, 910, 40, 0.9847, NULL, NULL),
-	(2061, 910, 40.25, 0.9845, NULL, NULL),
-	(2062, 910, 40.5, 0.9843, NULL, NULL),
-	(2063, 910, 40.75, 0.9841, NULL, NULL),
-	(2064, 910, 41, 0.984, NULL, NULL),
-	(2065, 910, 41.25, 0.9838, NULL, NULL),
-	(2066, 910, 41.5, 0.9836, NULL, NULL),
-	(2067, 910, 41.75, 0.9834, NULL, NULL),
-	(2068, 910, 42, 0.9832, NULL, NULL),
-	(2069, 910, 42.25, 0.983, NULL, NULL),
-	(2070, 910, 42.5, 0.9828, NULL, NULL),
-	(2071, 910, 42.75, 0.9826, NULL, NULL),
-	(2072, 910, 43, 0.9824, NULL, NULL),
-	(2073, 910, 43.25, 0.9822, NULL, NULL),
-	(2074, 910, 43.5, 0.982, NULL, NULL),
-	(2075, 910, 43.75, 0.9818, NULL, NULL),
-	(2076, 910, 44, 0.9816, NULL, NULL),
-	(2077, 910, 44.25, 0.9815, NULL, NULL),
-	(2078, 910, 44.5, 0.9813, NULL, NULL),
-	(2079, 910, 44.75, 0.9811, NULL, NULL),
-	(2080, 910, 45, 0.9809, NULL, NULL),
-	(2081, 910, 45.25, 0.9807, NULL, NULL),
-	(2082, 910, 45.5, 0.9805, NULL, NULL),
-	(2083, 910, 45.75, 0.9803, NULL, NULL),
-	(2084, 910, 46, 0.9801, NULL, NULL),
-	(2085, 910, 46.25, 0.9799, NULL, NULL),
-	(2086, 910, 46.5, 0.9797, NULL, NULL),
-	(2087, 910, 46.75, 0.9795, NULL, NULL),
-	(2088, 910, 47, 0.9793, NULL, NULL),
-	(2089, 910, 47.25, 0.9791, NULL, NULL),
-	(2090, 910, 47.5, 0.979, NULL, NULL),
-	(2091, 910, 47.75, 0.9788, NULL, NULL),
-	(2092, 910, 48, 0.9786, NULL, NULL),
-	(2093, 910, 48.25, 0.9784, NULL, NULL),
-	(2094, 910, 48.5, 0.9782, NULL, NULL),
-	(2095, 910, 48.75, 0.978, NULL, NULL),
-	(2096, 910, 49, 0.9778, NULL, NULL),
-	(2097, 910, 49.25, 0.9776, NULL, NULL),
-	(2098, 910, 49.5, 0.9774, NULL, NULL),
-	(2099, 910, 49.75, 0.9772, NULL, NULL),
-	(2100, 910, 50, 0.977, NULL, NULL),
-	(2101, 910.5, 15, 1.0038, NULL, NULL),
-	(2102, 910.5, 15.25, 1.0036, NULL, NULL),
-	(2103, 910.5, 15.5, 1.0034, NULL, NULL),
-	(2104, 910.5, 15.75, 1.0032, NULL, NULL),
-	(2105, 910.5, 16, 1.003, NULL, NULL),
-	(2106, 910.5, 16.25, 1.0028, NULL, NULL),
-	(2107, 910.5, 16.5, 1.0027, NULL, NULL),
-	(2108, 910.5, 16.75, 1.0025, NULL, NULL),
-	(2109, 910.5, 17, 1.0023, NULL, NULL),
-	(2110, 910.5, 17.25, 1.0021, NULL, NULL),
-	(2111, 910.5, 17.5, 1.0019, NULL, NULL),
-	(2112, 910.5, 17.75, 1.0017, NULL, NULL),
-	(2113, 910.5, 18, 1.0015, NULL, NULL),
-	(2114, 910.5, 18.25, 1.0013, NULL, NULL),
-	(2115, 910.5, 18.5, 1.0011, NULL, NULL),
-	(2116, 910.5, 18.75, 1.001, NULL, NULL),
-	(2117, 910.5, 19, 1.0008, NULL, NULL),
-	(2118, 910.5, 19.25, 1.0006, NULL, NULL),
-	(2119, 910.5, 19.5, 1.0004, NULL, NULL),
-	(2120, 910.5, 19.75, 1.0002, NULL, NULL),
-	(2121, 910.5, 20, 1, NULL, NULL),
-	(2122, 910.5, 20.25, 0.9998, NULL, NULL),
-	(2123, 910.5, 20.5, 0.9996, NULL, NULL),
-	(2124, 910.5, 20.75, 0.9994, NULL, NULL),
-	(2125, 910.5, 21, 0.9992, NULL, NULL),
-	(2126, 910.5, 21.25, 0.999, NULL, NULL),
-	(2127, 910.5, 21.5, 0.9989, NULL, NULL),
-	(2128, 910.5, 21.75, 0.9987, NULL, NULL),
-	(2129, 910.5, 22, 0.9985, NULL, NULL),
-	(2130, 910.5, 22.25, 0.9983, NULL, NULL),
-	(2131, 910.5, 22.5, 0.9981, NULL, NULL),
-	(2132, 910.5, 22.75, 0.9979, NULL, NULL),
-	(2133, 910.5, 23, 0.9977, NULL, NULL),
-	(2134, 910.5, 23.25, 0.9975, NULL, NULL),
-	(2135, 910.5, 23.5, 0.9973, NULL, NULL),
-	(2136, 910.5, 23.75, 0.9971, NULL, NULL),
-	(2137, 910.5, 24, 0.997, NULL, NULL),
-	(2138, 910.5, 24.25, 0.9968, NULL, NULL),
-	(2139, 910.5, 24.5, 0.9966, NULL, NULL),
-	(2140, 910.5, 24.75, 0.9964, NULL, NULL),
-	(2141, 910.5, 25, 0.9962, NULL, NULL),
-	(2142, 910.5, 25.25, 0.996, NULL, NULL),
-	(2143, 910.5, 25.5, 0.9958, NULL, NULL),
-	(2144, 910.5, 25.75, 0.9956, NULL, NULL),
-	(2145, 910.5, 26, 0.9954, NULL, NULL),
-	(2146, 910.5, 26.25, 0.9952, NULL, NULL),
-	(2147, 910.5, 26.5, 0.9951, NULL, NULL),
-	(2148, 910.5, 26.75, 0.9949, NULL, NULL),
-	(2149, 910.5, 27, 0.9947, NULL, NULL),
-	(2150, 910.5, 27.25, 0.9945, NULL, NULL),
-	(2151, 910.5, 27.5, 0.9943, NULL, NULL),
-	(2152, 910.5, 27.75, 0.9941, NULL, NULL),
-	(2153, 910.5, 28, 0.9939, NULL, NULL),
-	(2154, 910.5, 28.25, 0.9937, NULL, NULL),
-	(2155, 910.5, 28.5, 0.9935, NULL, NULL),
-	(2156, 910.5, 28.75, 0.9933, NULL, NULL),
-	(2157, 910.5, 29, 0.9931, NULL, NULL),
-	(2158, 910.5, 29.25, 0.993, NULL, NULL),
-	(2159, 910.5, 29.5, 0.9928, NULL, NULL),
-	(2160, 910.5, 29.75, 0.9926, NULL, NULL),
-	(2161, 910.5, 30, 0.9924, NULL, NULL),
-	(2162, 910.5, 30.25, 0.9922, NULL, NULL),
-	(2163, 910.5, 30.5, 0.992, NULL, NULL),
-	(2164, 910.5, 30.75, 0.9918, NULL, NULL),
-	(2165, 910.5, 31, 0.9916, NULL, NULL),
-	(2166, 910.5, 31.25, 0.9914, NULL, NULL),
-	(2167, 910.5, 31.5, 0.9912, NULL, NULL),
-	(2168, 910.5, 31.75, 0.991, NULL, NULL),
-	(2169, 910.5, 32, 0.9909, NULL, NULL),
-	(2170, 910.5, 32.25, 0.9907, NULL, NULL),
-	(2171, 910.5, 32.5, 0.9905, NULL, NULL),
-	(2172, 910.5, 32.75, 0.9903, NULL, NULL),
-	(2173, 910.5, 33, 0.9901, NULL, NULL),
-	(2174, 910.5, 33.25, 0.9899, NULL, NULL),
-	(2175, 910.5, 33.5, 0.9897, NULL, NULL),
-	(2176, 910.5, 33.75, 0.9895, NULL, NULL),
-	(2177, 910.5, 34, 0.9893, NULL, NULL),
-	(2178, 910.5, 34.25, 0.9891, NULL, NULL),
-	(2179, 910.5, 34.5, 0.9889, NULL, NULL),
-	(2180, 910.5, 34.75, 0.9887, NULL, NULL),
-	(2181, 910.5, 35, 0.9886, NULL, NULL),
-	(2182, 910.5, 35.25, 0.9884, NULL, NULL),
-	(2183, 910.5, 35.5, 0.9882, NULL, NULL),
-	(2184, 910.5, 35.75, 0.988, NULL, NULL),
-	(2185, 910.5, 36, 0.9878, NULL, NULL),
-	(2186, 910.5, 36.25, 0.9876, NULL, NULL),
-	(2187, 910.5, 36.5, 0.9874, NULL, NULL),
-	(2188, 910.5, 36.75, 0.9872, NULL, NULL),
-	(2189, 910.5, 37, 0.987, NULL, NULL),
-	(2190, 910.5, 37.25, 0.9868, NULL, NULL),
-	(2191, 910.5, 37.5, 0.9866, NULL, NULL),
-	(2192, 910.5, 37.75, 0.9865, NULL, NULL),
-	(2193, 910.5, 38, 0.9863, NULL, NULL),
-	(2194, 910.5, 38.25, 0.9861, NULL, NULL),
-	(2195, 910.5, 38.5, 0.9859, NULL, NULL),
-	(2196, 910.5, 38.75, 0.9857, NULL, NULL),
-	(2197, 910.5, 39, 0.9855, NULL, NULL),
-	(2198, 910.5, 39.25, 0.9853, NULL, NULL),
-	(2199, 910.5, 39.5, 0.9851, NULL, NULL),
-	(2200, 910.5, 39.75, 0.9849, NULL, NULL),
-	(2201, 910.5, 40, 0.9847, NULL, NULL),
-	(2202, 910.5, 40.25, 0.9845, NULL, NULL),
-	(2203, 910.5, 40.5, 0.9843, NULL, NULL),
-	(2204, 910.5, 40.75, 0.9842, NULL, NULL),
-	(2205, 910.5, 41, 0.984, NULL, NULL),
-	(2206, 910.5, 41.25, 0.9838, NULL, NULL),
-	(2207, 910.5, 41.5, 0.9836, NULL, NULL),
-	(2208, 910.5, 41.75, 0.9834, NULL, NULL),
-	(2209, 910.5, 42, 0.9832, NULL, NULL),
-	(2210, 910.5, 42.25, 0.983, NULL, NULL),
-	(2211, 910.5, 42.5, 0.9828, NULL, NULL),
-	(2212, 910.5, 42.75, 0.9826, NULL, NULL),
-	(2213, 910.5, 43, 0.9824, NULL, NULL),
-	(2214, 910.5, 43.25, 0.9822, NULL, NULL),
-	(2215, 910.5, 43.5, 0.982, NULL, NULL),
-	(2216, 910.5, 43.75, 0.9819, NULL, NULL),
-	(2217, 910.5, 44, 0.9817, NULL, NULL),
-	(2218, 910.5, 44.25, 0.9815, NULL, NULL),
-	(2219, 910.5, 44.5, 0.9813, NULL, NULL),
-	(2220, 910.5, 44.75, 0.9811, NULL, NULL),
-	(2221, 910.5, 45, 0.9809, NULL, NULL),
-	(2222, 910.5, 45.25, 0.9807, NULL, NULL),
-	(2223, 910.5, 45.5, 0.9805, NULL, NULL),
-	(2224, 910.5, 45.75, 0.9803, NULL, NULL),
-	(2225, 910.5, 46, 0.9801, NULL, NULL),
-	(2226, 910.5, 46.25, 0.9799, NULL, NULL),
-	(2227, 910.5, 46.5, 0.9797, NULL, NULL),
-	(2228, 910.5, 46.75, 0.9795, NULL, NULL),
-	(2229, 910.5, 47, 0.9794, NULL, NULL),
-	(2230, 910.5, 47.25, 0.9792, NULL, NULL),
-	(2231, 910.5, 47.5, 0.979, NULL, NULL),
-	(2232, 910.5, 47.75, 0.9788, NULL, NULL),
-	(2233, 910.5, 48, 0.9786, NULL, NULL),
-	(2234, 910.5, 48.25, 0.9784, NULL, NULL),
-	(2235, 910.5, 48.5, 0.9782, NULL, NULL),
-	(2236, 910.5, 48.75, 0.978, NULL, NULL),
-	(2237, 910.5, 49, 0.9778, NULL, NULL),
-	(2238, 910.5, 49.25, 0.9776, NULL, NULL),
-	(2239, 910.5, 49.5, 0.9774, NULL, NULL),
-	(2240, 910.5, 49.75, 0.9772, NULL, NULL),
-	(2241, 910.5, 50, 0.977, NULL, NULL),
-	(2242, 911, 15, 1.0038, NULL, NULL),
-	(2243, 911, 15.25, 1.0036, NULL, NULL),
-	(2244, 911, 15.5, 1.0034, NULL, NULL),
-	(2245, 911, 15.75, 1.0032, NULL, NULL),
-	(2246, 911, 16, 1.003, NULL, NULL),
-	(2247, 911, 16.25, 1.0028, NULL, NULL),
-	(2248, 911, 16.5, 1.0027, NULL, NULL),
-	(2249, 911, 16.75, 1.0025, NULL, NULL),
-	(2250, 911, 17, 1.0023, NULL, NULL),
-	(2251, 911, 17.25, 1.0021, NULL, NULL),
-	(2252, 911, 17.5, 1.0019, NULL, NULL),
-	(2253, 911, 17.75, 1.0017, NULL, NULL),
-	(2254, 911, 18, 1.0015, NULL, NULL),
-	(2255, 911, 18.25, 1.0013, NULL, NULL),
-	(2256, 911, 18.5, 1.0011, NULL, NULL),
-	(2257, 911, 18.75, 1.0009, NULL, NULL),
-	(2258, 911, 19, 1.0008, NULL, NULL),
-	(2259, 911, 19.25, 1.0006, NULL, NULL),
-	(2260, 911, 19.5, 1.0004, NULL, NULL),
-	(2261, 911, 19.75, 1.0002, NULL, NULL),
-	(2262, 911, 20, 1, NULL, NULL),
-	(2263, 911, 20.25, 0.9998, NULL, NULL),
-	(2264, 911, 20.5, 0.9996, NULL, NULL),
-	(2265, 911, 20.75, 0.9994, NULL, NULL),
-	(2266, 911, 21, 0.9992, NULL, NULL),
-	(2267, 911, 21.25, 0.9991, NULL, NULL),
-	(2268, 911, 21.5, 0.9989, NULL, NULL),
-	(2269, 911, 21.75, 0.9987, NULL, NULL),
-	(2270, 911, 22, 0.9985, NULL, NULL),
-	(2271, 911, 22.25, 0.9983, NULL, NULL),
-	(2272, 911, 22.5, 0.9981, NULL, NULL),
-	(2273, 911, 22.75, 0.9979, NULL, NULL),
-	(2274, 911, 23, 0.9977, NULL, NULL),
-	(2275, 911, 23.25, 0.9975, NULL, NULL),
-	(2276, 911, 23.5, 0.9973, NULL, NULL),
-	(2277, 911, 23.75, 0.9971, NULL, NULL),
-	(2278, 911, 24, 0.997, NULL, NULL),
-	(2279, 911, 24.25, 0.9968, NULL, NULL),
-	(2280, 911, 24.5, 0.9966, NULL, NULL),
-	(2281, 911, 24.75, 0.9964, NULL, NULL),
-	(2282, 911, 25, 0.9962, NULL, NULL),
-	(2283, 911, 25.25, 0.996, NULL, NULL),
-	(2284, 911, 25.5, 0.9958, NULL, NULL),
-	(2285, 911, 25.75, 0.9956, NULL, NULL),
-	(2286, 911, 26, 0.9954, NULL, NULL),
-	(2287, 911, 26.25, 0.9952, NULL, NULL),
-	(2288, 911, 26.5, 0.9951, NULL, NULL),
-	(2289, 911, 26.75, 0.9949, NULL, NULL),
-	(2290, 911, 27, 0.9947, NULL, NULL),
-	(2291, 911, 27.25, 0.9945, NULL, NULL),
-	(2292, 911, 27.5, 0.9943, NULL, NULL),
-	(2293, 911, 27.75, 0.9941, NULL, NULL),
-	(2294, 911, 28, 0.9939, NULL, NULL),
-	(2295, 911, 28.25, 0.9937, NULL, NULL),
-	(2296, 911, 28.5, 0.9935, NULL, NULL),
-	(2297, 911, 28.75, 0.9933, NULL, NULL),
-	(2298, 911, 29, 0.9931, NULL, NULL),
-	(2299, 911, 29.25, 0.993, NULL, NULL),
-	(2300, 911, 29.5, 0.9928, NULL, NULL),
-	(2301, 911, 29.75, 0.9926, NULL, NULL),
-	(2302, 911, 30, 0.9924, NULL, NULL),
-	(2303, 911, 30.25, 0.9922, NULL, NULL),
-	(2304, 911, 30.5, 0.992, NULL, NULL),
-	(2305, 911, 30.75, 0.9918, NULL, NULL),
-	(2306, 911, 31, 0.9916, NULL, NULL),
-	(2307, 911, 31.25, 0.9914, NULL, NULL),
-	(2308, 911, 31.5, 0.9912, NULL, NULL),
-	(2309, 911, 31.75, 0.9911, NULL, NULL),
-	(2310, 911, 32, 0.9909, NULL, NULL),
-	(2311, 911, 32.25, 0.9907, NULL, NULL),
-	(2312, 911, 32.5, 0.9905, NULL, NULL),
-	(2313, 911, 32.75, 0.9903, NULL, NULL),
-	(2314, 911, 33, 0.9901, NULL, NULL),
-	(2315, 911, 33.25, 0.9899, NULL, NULL),
-	(2316, 911, 33.5, 0.9897, NULL, NULL),
-	(2317, 911, 33.75, 0.9895, NULL, NULL),
-	(2318, 911, 34, 0.9893, NULL, NULL),
-	(2319, 911, 34.25, 0.9891, NULL, NULL),
-	(2320, 911, 34.5, 0.9889, NULL, NULL),
-	(2321, 911, 34.75, 0.9888, NULL, NULL),
-	(2322, 911, 35, 0.9886, NULL, NULL),
-	(2323, 911, 35.25, 0.9884, NULL, NULL),
-	(2324, 911, 35.5, 0.9882, NULL, NULL),
-	(2325, 911, 35.75, 0.988, NULL, NULL),
-	(2326, 911, 36, 0.9878, NULL, NULL),
-	(2327, 911, 36.25, 0.9876, NULL, NULL),
-	(2328, 911, 36.5, 0.9874, NULL, NULL),
-	(2329, 911, 36.75, 0.9872, NULL, NULL),
-	(2330, 911, 37, 0.987, NULL, NULL),
-	(2331, 911, 37.25, 0.9868, NULL, NULL),
-	(2332, 911, 37.5, 0.9867, NULL, NULL),
-	(2333, 911, 37.75, 0.9865, NULL, NULL),
-	(2334, 911, 38, 0.9863, NULL, NULL),
-	(2335, 911, 38.25, 0.9861, NULL, NULL),
-	(2336, 911, 38.5, 0.9859, NULL, NULL),
-	(2337, 911, 38.75, 0.9857, NULL, NULL),
-	(2338, 911, 39, 0.9855, NULL, NULL),
-	(2339, 911, 39.25, 0.9853, NULL, NULL),
-	(2340, 911, 39.5, 0.9851, NULL, NULL),
-	(2341, 911, 39.75, 0.9849, NULL, NULL),
-	(2342, 911, 40, 0.9847, NULL, NULL),
-	(2343, 911, 40.25, 0.9845, NULL, NULL),
-	(2344, 911, 40.5, 0.9844, NULL, NULL),
-	(2345, 911, 40.75, 0.9842, NULL, NULL),
-	(2346, 911, 41, 0.984, NULL, NULL),
-	(2347, 911, 41.25, 0.9838, NULL, NULL),
-	(2348, 911, 41.5, 0.9836, NULL, NULL),
-	(2349, 911, 41.75, 0.9834, NULL, NULL),
-	(2350, 911, 42, 0.9832, NULL, NULL),
-	(2351, 911, 42.25, 0.983, NULL, NULL),
-	(2352, 911, 42.5, 0.9828, NULL, NULL),
-	(2353, 911, 42.75, 0.9826, NULL, NULL),
-	(2354, 911, 43, 0.9824, NULL, NULL),
-	(2355, 911, 43.25, 0.9822, NULL, NULL),
-	(2356, 911, 43.5, 0.9821, NULL, NULL),
-	(2357, 911, 43.75, 0.9819, NULL, NULL),
-	(2358, 911, 44, 0.9817, NULL, NULL),
-	(2359, 911, 44.25, 0.9815, NULL, NULL),
-	(2360, 911, 44.5, 0.9813, NULL, NULL),
-	(2361, 911, 44.75, 0.9811, NULL, NULL),
-	(2362, 911, 45, 0.9809, NULL, NULL),
-	(2363, 911, 45.25, 0.9807, NULL, NULL),
-	(2364, 911, 45.5, 0.9805, NULL, NULL),
-	(2365, 911, 45.75, 0.9803, NULL, NULL),
-	(2366, 911, 46, 0.9801, NULL, NULL),
-	(2367, 911, 46.25, 0.9799, NULL, NULL),
-	(2368, 911, 46.5, 0.9798, NULL, NULL),
-	(2369, 911, 46.75, 0.9796, NULL, NULL),
-	(2370, 911, 47, 0.9794, NULL, NULL),
-	(2371, 911, 47.25, 0.9792, NULL, NULL),
-	(2372, 911, 47.5, 0.979, NULL, NULL),
-	(2373, 911, 47.75, 0.9788, NULL, NULL),
-	(2374, 911, 48, 0.9786, NULL, NULL),
-	(2375, 911, 48.25, 0.9784, NULL, NULL),
-	(2376, 911, 48.5, 0.9782, NULL, NULL),
-	(2377, 911, 48.75, 0.978, NULL, NULL),
-	(2378, 911, 49, 0.9778, NULL, NULL),
-	(2379, 911, 49.25, 0.9776, NULL, NULL),
-	(2380, 911, 49.5, 0.9774, NULL, NULL),
-	(2381, 911, 49.75, 0.9773, NULL, NULL),
-	(2382, 911, 50, 0.9771, NULL, NULL),
-	(2383, 911.5, 15, 1.0038, NULL, NULL),
-	(2384, 911.5, 15.25, 1.0036, NULL, NULL),
-	(2385, 911.5, 15.5, 1.0034, NULL, NULL),
-	(2386, 911.5, 15.75, 1.0032, NULL, NULL),
-	(2387, 911.5, 16, 1.003, NULL, NULL),
-	(2388, 911.5, 16.25, 1.0028, NULL, NULL),
-	(2389, 911.5, 16.5, 1.0027, NULL, NULL),
-	(2390, 911.5, 16.75, 1.0025, NULL, NULL),
-	(2391, 911.5, 17, 1.0023, NULL, NULL),
-	(2392, 911.5, 17.25, 1.0021, NULL, NULL),
-	(2393, 911.5, 17.5, 1.0019, NULL, NULL),
-	(2394, 911.5, 17.75, 1.0017, NULL, NULL),
-	(2395, 911.5, 18, 1.0015, NULL, NULL),
-	(2396, 911.5, 18.25, 1.0013, NULL, NULL),
-	(2397, 911.5, 18.5, 1.0011, NULL, NULL),
-	(2398, 911.5, 18.75, 1.0009, NULL, NULL),
-	(2399, 911.5, 19, 1.0008, NULL, NULL),
-	(2400, 911.5, 19.25, 1.0006, NULL, NULL),
-	(2401, 911.5, 19.5, 1.0004, NULL, NULL),
-	(2402, 911.5, 19.75, 1.0002, NULL, NULL),
-	(2403, 911.5, 20, 1, NULL, NULL),
-	(2404, 911.5, 20.25, 0.9998, NULL, NULL),
-	(2405, 911.5, 20.5, 0.9996, NULL, NULL),
-	(2406, 911.5, 20.75, 0.9994, NULL, NULL),
-	(2407, 911.5, 21, 0.9992, NULL, NULL),
-	(2408, 911.5, 21.25, 0.9991, NULL, NULL),
-	(2409, 911.5, 21.5, 0.9989, NULL, NULL),
-	(2410, 911.5, 21.75, 0.9987, NULL, NULL),
-	(2411, 911.5, 22, 0.9985, NULL, NULL),
-	(2412, 911.5, 22.25, 0.9983, NULL, NULL),
-	(2413, 911.5, 22.5, 0.9981, NULL, NULL),
-	(2414, 911.5, 22.75, 0.9979, NULL, NULL),
-	(2415, 911.5, 23, 0.9977, NULL, NULL),
-	(2416, 911.5, 23.25, 0.9975, NULL, NULL),
-	(2417, 911.5, 23.5, 0.9973, NULL, NULL),
-	(2418, 911.5, 23.75, 0.9972, NULL, NULL),
-	(2419, 911.5, 24, 0.997, NULL, NULL),
-	(2420, 911.5, 24.25, 0.9968, NULL, NULL),
-	(2421, 911.5, 24.5, 0.9966, NULL, NULL),
-	(2422, 911.5, 24.75, 0.9964, NULL, NULL),
-	(2423, 911.5, 25, 0.9962, NULL, NULL),
-	(2424, 911.5, 25.25, 0.996, NULL, NULL),
-	(2425, 911.5, 25.5, 0.9958, NULL, NULL),
-	(2426, 911.5, 25.75, 0.9956, NULL, NULL),
-	(2427, 911.5, 26.25, 0.9952, NULL, NULL),
-	(2428, 911.5, 26.5, 0.9951, NULL, NULL),
-	(2429, 911.5, 26.75, 0.9949, NULL, NULL),
-	(2430, 911.5, 27, 0.9947, NULL, NULL),
-	(2431, 911.5, 27.25, 0.9945, NULL, NULL),
-	(2432, 911.5, 27.5, 0.9943, NULL, NULL),
-	(2433, 911.5, 27.75, 0.9941, NULL, NULL),
-	(2434, 911.5, 28, 0.9939, NULL, NULL),
-	(2435, 911.5, 28.25, 0.9937, NULL, NULL),
-	(2436, 911.5, 28.5, 0.9935, NULL, NULL),
-	(2437, 911.5, 28.75, 0.9933, NULL, NULL),
-	(2438, 911.5, 29, 0.9932, NULL, NULL),
-	(2439, 911.5, 29.25, 0.993, NULL, NULL),
-	(2440, 911.5, 29.5, 0.9928, NULL, NULL),
-	(2441, 911.5, 29.75, 0.9926, NULL, NULL),
-	(2442, 911.5, 30, 0.9924, NULL, NULL),
-	(2443, 911.5, 30.25, 0.9922, NULL, NULL),
-	(2444, 911.5, 30.5, 0.992, NULL, NULL),
-	(2445, 911.5, 30.75, 0.9918, NULL, NULL),
-	(2446, 911.5, 31, 0.9916, NULL, NULL),
-	(2447, 911.5, 31.25, 0.9914, NULL, NULL),
-	(2448, 911.5, 31.5, 0.9912, NULL, NULL),
-	(2449, 911.5, 31.75, 0.9911, NULL, NULL),
-	(2450, 911.5, 32, 0.9909, NULL, NULL),
-	(2451, 911.5, 32.25, 0.9907, NULL, NULL),
-	(2452, 911.5, 32.5, 0.9905, NULL, NULL),
-	(2453, 911.5, 32.75, 0.9903, NULL, NULL),
-	(2454, 911.5, 33, 0.9901, NULL, NULL),
-	(2455, 911.5, 33.25, 0.9899, NULL, NULL),
-	(2456, 911.5, 33.5, 0.9897, NULL, NULL),
-	(2457, 911.5, 33.75, 0.9895, NULL, NULL),
-	(2458, 911.5, 34.25, 0.9891, NULL, NULL),
-	(2459, 911.5, 34.5, 0.989, NULL, NULL),
-	(2460, 911.5, 34.75, 0.9888, NULL, NULL),
-	(2461, 911.5, 35, 0.9886, NULL, NULL),
-	(2462, 911.5, 35.25, 0.9884, NULL, NULL),
-	(2463, 911.5, 35.5, 0.9882, NULL, NULL),
-	(2464, 911.5, 35.75, 0.988, NULL, NULL),
-	(2465, 911.5, 36, 0.9878, NULL, NULL),
-	(2466, 911.5, 36.25, 0.9876, NULL, NULL),
-	(2467, 911.5, 36.5, 0.9874, NULL, NULL),
-	(2468, 911.5, 36.75, 0.9872, NULL, NULL),
-	(2469, 911.5, 37, 0.987, NULL, NULL),
-	(2470, 911.5, 37.25, 0.9869, NULL, NULL),
-	(2471, 911.5, 37.5, 0.9867, NULL, NULL),
-	(2472, 911.5, 37.75, 0.9865, NULL, NULL),
-	(2473, 911.5, 38, 0.9863, NULL, NULL),
-	(2474, 911.5, 38.25, 0.9861, NULL, NULL),
-	(2475, 911.5, 38.5, 0.9859, NULL, NULL),
-	(2476, 911.5, 38.75, 0.9857, NULL, NULL),
-	(2477, 911.5, 39, 0.9855, NULL, NULL),
-	(2478, 911.5, 39.25, 0.9853, NULL, NULL),
-	(2479, 911.5, 39.5, 0.9851, NULL, NULL),
-	(2480, 911.5, 39.75, 0.9849, NULL, NULL),
-	(2481, 911.5, 40, 0.9848, NULL, NULL),
-	(2482, 911.5, 40.25, 0.9846, NULL, NULL),
-	(2483, 911.5, 40.5, 0.9844, NULL, NULL),
-	(2484, 911.5, 40.75, 0.9842, NULL, NULL),
-	(2485, 911.5, 41, 0.984, NULL, NULL),
-	(2486, 911.5, 41.25, 0.9838, NULL, NULL),
-	(2487, 911.5, 41.5, 0.9836, NULL, NULL),
-	(2488, 911.5, 41.75, 0.9834, NULL, NULL),
-	(2489, 911.5, 42, 0.9832, NULL, NULL),
-	(2490, 911.5, 42.25, 0.983, NULL, NULL),
-	(2491, 911.5, 42.5, 0.9828, NULL, NULL),
-	(2492, 911.5, 42.75, 0.9826, NULL, NULL),
-	(2493, 911.5, 43, 0.9825, NULL, NULL),
-	(2494, 911.5, 43.25, 0.9823, NULL, NULL),
-	(2495, 911.5, 43.5, 0.9821, NULL, NULL),
-	(2496, 911.5, 43.75, 0.9819, NULL, NULL),
-	(2497, 911.5, 44, 0.9817, NULL, NULL),
-	(2498, 911.5, 44.25, 0.9815, NULL, NULL),
-	(2499, 911.5, 44.5, 0.9813, NULL, NULL),
-	(2500, 911.5, 44.75, 0.9811, NULL, NULL),
-	(2501, 911.5, 45, 0.9809, NULL, NULL),
-	(2502, 911.5, 45.25, 0.9807, NULL, NULL),
-	(2503, 911.5, 45.5, 0.9805, NULL, NULL),
-	(2504, 911.5, 45.75, 0.9803, NULL, NULL),
-	(2505, 911.5, 46, 0.9802, NULL, NULL),
-	(2506, 911.5, 46.25, 0.98, NULL, NULL),
-	(2507, 911.5, 46.5, 0.9798, NULL, NULL),
-	(2508, 911.5, 46.75, 0.9796, NULL, NULL),
-	(2509, 911.5, 47, 0.9794, NULL, NULL),
-	(2510, 911.5, 47.25, 0.9792, NULL, NULL),
-	(2511, 911.5, 47.5, 0.979, NULL, NULL),
-	(2512, 911.5, 47.75, 0.9788, NULL, NULL),
-	(2513, 911.5, 48, 0.9786, NULL, NULL),
-	(2514, 911.5, 48.25, 0.9784, NULL, NULL),
-	(2515, 911.5, 48.5, 0.9782, NULL, NULL),
-	(2516, 911.5, 48.75, 0.978, NULL, NULL),
-	(2517, 911.5, 49, 0.9778, NULL, NULL),
-	(2518, 911.5, 49.25, 0.9777, NULL, NULL),
-	(2519, 911.5, 49.5, 0.9775, NULL, NULL),
-	(2520, 911.5, 49.75, 0.9773, NULL, NULL),
-	(2521, 911.5, 50, 0.9771, NULL, NULL),
-	(2522, 912, 15, 1.0038, NULL, NULL),
-	(2523, 912, 15.25, 1.0036, NULL, NULL),
-	(2524, 912, 15.5, 1.0034, NULL, NULL),
-	(2525, 912, 15.75, 1.0032, NULL, NULL),
-	(2526, 912, 16, 1.003, NULL, NULL),
-	(2527, 912, 16.25, 1.0028, NULL, NULL),
-	(2528, 912, 16.5, 1.0027, NULL, NULL),
-	(2529, 912, 16.75, 1.0025, NULL, NULL),
-	(2530, 912, 17, 1.0023, NULL, NULL),
-	(2531, 912, 17.25, 1.0021, NULL, NULL),
-	(2532, 912, 17.5, 1.0019, NULL, NULL),
-	(2533, 912, 17.75, 1.0017, NULL, NULL),
-	(2534, 912, 18, 1.0015, NULL, NULL),
-	(2535, 912, 18.25, 1.0013, NULL, NULL),
-	(2536, 912, 18.5, 1.0011, NULL, NULL),
-	(2537, 912, 18.75, 1.0009, NULL, NULL),
-	(2538, 912, 19, 1.0008, NULL, NULL),
-	(2539, 912, 19.25, 1.0006, NULL, NULL),
-	(2540, 912, 19.5, 1.0004, NULL, NULL),
-	(2541, 912, 19.75, 1.0002, NULL, NULL),
-	(2542, 912, 20, 1, NULL, NULL),
-	(2543, 912, 20.25, 0.9998, NULL, NULL),
-	(2544, 912, 20.5, 0.9996, NULL, NULL),
-	(2545, 912, 20.75, 0.9994, NULL, NULL),
-	(2546, 912, 21, 0.9992, NULL, NULL),
-	(2547, 912, 21.25, 0.9991, NULL, NULL),
-	(2548, 912, 21.5, 0.9989, NULL, NULL),
-	(2549, 912, 21.75, 0.9987, NULL, NULL),
-	(2550, 912, 22, 0.9985, NULL, NULL),
-	(2551, 912, 22.25, 0.9983, NULL, NULL),
-	(2552, 912, 22.5, 0.9981, NULL, NULL),
-	(2553, 912, 22.75, 0.9979, NULL, NULL),
-	(2554, 912, 23, 0.9977, NULL, NULL),
-	(2555, 912, 23.25, 0.9975, NULL, NULL),
-	(2556, 912, 23.5, 0.9973, NULL, NULL),
-	(2557, 912, 23.75, 0.9972, NULL, NULL),
-	(2558, 912, 24, 0.997, NULL, NULL),
-	(2559, 912, 24.25, 0.9968, NULL, NULL),
-	(2560, 912, 24.5, 0.9966, NULL, NULL),
-	(2561, 912, 24.75, 0.9964, NULL, NULL),
-	(2562, 912, 25, 0.9962, NULL, NULL),
-	(2563, 912, 25.25, 0.996, NULL, NULL),
-	(2564, 912, 25.5, 0.9958, NULL, NULL),
-	(2565, 912, 25.75, 0.9956, NULL, NULL),
-	(2566, 912, 26.25, 0.9953, NULL, NULL),
-	(2567, 912, 26.5, 0.9951, NULL, NULL),
-	(2568, 912, 26.75, 0.9949, NULL, NULL),
-	(2569, 912, 27, 0.9947, NULL, NULL),
-	(2570, 912, 27.25, 0.9945, NULL, NULL),
-	(2571, 912, 27.5, 0.9943, NULL, NULL),
-	(2572, 912, 27.75, 0.9941, NULL, NULL),
-	(2573, 912, 28, 0.9939, NULL, NULL),
-	(2574, 912, 28.25, 0.9937, NULL, NULL),
-	(2575, 912, 28.5, 0.9935, NULL, NULL),
-	(2576, 912, 28.75, 0.9933, NULL, NULL),
-	(2577, 912, 29, 0.9932, NULL, NULL),
-	(2578, 912, 29.25, 0.993, NULL, NULL),
-	(2579, 912, 29.5, 0.9928, NULL, NULL),
-	(2580, 912, 29.75, 0.9926, NULL, NULL),
-	(2581, 912, 30, 0.9924, NULL, NULL),
-	(2582, 912, 30.25, 0.9922, NULL, NULL),
-	(2583, 912, 30.5, 0.992, NULL, NULL),
-	(2584, 912, 30.75, 0.9918, NULL, NULL),
-	(2585, 912, 31, 0.9916, NULL, NULL),
-	(2586, 912, 31.25, 0.9914, NULL, NULL),
-	(2587, 912, 31.5, 0.9913, NULL, NULL),
-	(2588, 912, 31.75, 0.9911, NULL, NULL),
-	(2589, 912, 32, 0.9909, NULL, NULL),
-	(2590, 912, 32.25, 0.9907, NULL, NULL),
-	(2591, 912, 32.5, 0.9905, NULL, NULL),
-	(2592, 912, 32.75, 0.9903, NULL, NULL),
-	(2593, 912, 33, 0.9901, NULL, NULL),
-	(2594, 912, 33.25, 0.9899, NULL, NULL),
-	(2595, 912, 33.5, 0.9897, NULL, NULL),
-	(2596, 912, 33.75, 0.9895, NULL, NULL),
-	(2597, 912, 34, 0.9893, NULL, NULL),
-	(2598, 912, 34.25, 0.9892, NULL, NULL),
-	(2599, 912, 34.5, 0.989, NULL, NULL),
-	(2600, 912, 34.75, 0.9888, NULL, NULL),
-	(2601, 912, 35, 0.9886, NULL, NULL),
-	(2602, 912, 35.25, 0.9884, NULL, NULL),
-	(2603, 912, 35.5, 0.9882, NULL, NULL),
-	(2604, 912, 35.75, 0.988, NULL, NULL),
-	(2605, 912, 36, 0.9878, NULL, NULL),
-	(2606, 912, 36.25, 0.9876, NULL, NULL),
-	(2607, 912, 36.5, 0.9874, NULL, NULL),
-	(2608, 912, 36.75, 0.9872, NULL, NULL),
-	(2609, 912, 37, 0.9871, NULL, NULL),
-	(2610, 912, 37.25, 0.9869, NULL, NULL),
-	(2611, 912, 37.5, 0.9867, NULL, NULL),
-	(2612, 912, 37.75, 0.9865, NULL, NULL),
-	(2613, 912, 38, 0.9863, NULL, NULL),
-	(2614, 912, 38.25, 0.9861, NULL, NULL),
-	(2615, 912, 38.5, 0.9859, NULL, NULL),
-	(2616, 912, 38.75, 0.9857, NULL, NULL),
-	(2617, 912, 39, 0.9855, NULL, NULL),
-	(2618, 912, 39.25, 0.9853, NULL, NULL),
-	(2619, 912, 39.5, 0.9851, NULL, NULL),
-	(2620, 912, 39.75, 0.985, NULL, NULL),
-	(2621, 912, 40, 0.9848, NULL, NULL),
-	(2622, 912, 40.25, 0.9846, NULL, NULL),
-	(2623, 912, 40.5, 0.9844, NULL, NULL),
-	(2624, 912, 40.75, 0.9842, NULL, NULL),
-	(2625, 912, 41, 0.984, NULL, NULL),
-	(2626, 912, 41.25, 0.9838, NULL, NULL),
-	(2627, 912, 41.5, 0.9836, NULL, NULL),
-	(2628, 912, 41.75, 0.9834, NULL, NULL),
-	(2629, 912, 42, 0.9832, NULL, NULL),
-	(2630, 912, 42.25, 0.983, NULL, NULL),
-	(2631, 912, 42.5, 0.9828, NULL, NULL),
-	(2632, 912, 42.75, 0.9827, NULL, NULL),
-	(2633, 912, 43, 0.9825, NULL, NULL),
-	(2634, 912, 43.25, 0.9823, NULL, NULL),
-	(2635, 912, 43.5, 0.9821, NULL, NULL),
-	(2636, 912, 43.75, 0.9819, NULL, NULL),
-	(2637, 912, 44, 0.9817, NULL, NULL),
-	(2638, 912, 44.25, 0.9815, NULL, NULL),
-	(2639, 912, 44.5, 0.9813, NULL, NULL),
-	(2640, 912, 44.75, 0.9811, NULL, NULL),
-	(2641, 912, 45, 0.9809, NULL, NULL),
-	(2642, 912, 45.25, 0.9807, NULL, NULL),
-	(2643, 912, 45.5, 0.9805, NULL, NULL),
-	(2644, 912, 45.75, 0.9804, NULL, NULL),
-	(2645, 912, 46, 0.9802, NULL, NULL),
-	(2646, 912, 46.25, 0.98, NULL, NULL),
-	(2647, 912, 46.5, 0.9798, NULL, NULL),
-	(2648, 912, 46.75, 0.9796, NULL, NULL),
-	(2649, 912, 47, 0.9794, NULL, NULL),
-	(2650, 912, 47.25, 0.9792, NULL, NULL),
-	(2651, 912, 47.5, 0.979, NULL, NULL),
-	(2652, 912, 47.75, 0.9788, NULL, NULL),
-	(2653, 912, 48, 0.9786, NULL, NULL),
-	(2654, 912, 48.25, 0.9784, NULL, NULL),
-	(2655, 912, 48.5, 0.9782, NULL, NULL),
-	(2656, 912, 48.75, 0.9781, NULL, NULL),
-	(2657, 912, 49, 0.9779, NULL, NULL),
-	(2658, 912, 49.25, 0.9777, NULL, NULL),
-	(2659, 912, 49.5, 0.9775, NULL, NULL),
-	(2660, 912, 49.75, 0.9773, NULL, NULL),
-	(2661, 912, 50, 0.9771, NULL, NULL),
-	(2662, 912.5, 15, 1.0038, NULL, NULL),
-	(2663, 912.5, 15.25, 1.0036, NULL, NULL),
-	(2664, 912.5, 15.5, 1.0034, NULL, NULL),
-	(2665, 912.5, 15.75, 1.0032, NULL, NULL),
-	(2666, 912.5, 16, 1.003, NULL, NULL),
-	(2667, 912.5, 16.25, 1.0028, NULL, NULL),
-	(2668, 912.5, 16.5, 1.0027, NULL, NULL),
-	(2669, 912.5, 16.75, 1.0025, NULL, NULL),
-	(2670, 912.5, 17, 1.0023, NULL, NULL),
-	(2671, 912.5, 17.25, 1.0021, NULL, NULL),
-	(2672, 912.5, 17.5, 1.0019, NULL, NULL),
-	(2673, 912.5, 17.75, 1.0017, NULL, NULL),
-	(2674, 912.5, 18, 1.0015, NULL, NULL),
-	(2675, 912.5, 18.25, 1.0013, NULL, NULL),
-	(2676, 912.5, 18.5, 1.0011, NULL, NULL),
-	(2677, 912.5, 18.75, 1.0009, NULL, NULL),
-	(2678, 912.5, 19, 1.0008, NULL, NULL),
-	(2679, 912.5, 19.25, 1.0006, NULL, NULL),
-	(2680, 912.5, 19.5, 1.0004, NULL, NULL),
-	(2681, 912.5, 19.75, 1.0002, NULL, NULL),
-	(2682, 912.5, 20, 1, NULL, NULL),
-	(2683, 912.5, 20.25, 0.9998, NULL, NULL),
-	(2684, 912.5, 20.5, 0.9996, NULL, NULL),
-	(2685, 912.5, 20.75, 0.9994, NULL, NULL),
-	(2686, 912.5, 21, 0.9992, NULL, NULL),
-	(2687, 912.5, 21.25, 0.9991, NULL, NULL),
-	(2688, 912.5, 21.5, 0.9989, NULL, NULL),
-	(2689, 912.5, 21.75, 0.9987, NULL, NULL),
-	(2690, 912.5, 22, 0.9985, NULL, NULL),
-	(2691, 912.5, 22.25, 0.9983, NULL, NULL),
-	(2692, 912.5, 22.5, 0.9981, NULL, NULL),
-	(2693, 912.5, 22.75, 0.9979, NULL, NULL),
-	(2694, 912.5, 23, 0.9977, NULL, NULL),
-	(2695, 912.5, 23.25, 0.9975, NULL, NULL),
-	(2696, 912.5, 23.5, 0.9973, NULL, NULL),
-	(2697, 912.5, 23.75, 0.9972, NULL, NULL),
-	(2698, 912.5, 24, 0.997, NULL, NULL),
-	(2699, 912.5, 24.25, 0.9968, NULL, NULL),
-	(2700, 912.5, 24.5, 0.9966, NULL, NULL),
-	(2701, 912.5, 24.75, 0.9964, NULL, NULL),
-	(2702, 912.5, 25, 0.9962, NULL, NULL),
-	(2703, 912.5, 25.25, 0.996, NULL, NULL),
-	(2704, 912.5, 25.5, 0.9958, NULL, NULL),
-	(2705, 912.5, 25.75, 0.9956, NULL, NULL),
-	(2706, 912.5, 26.25, 0.9953, NULL, NULL),
-	(2707, 912.5, 26.5, 0.9951, NULL, NULL),
-	(2708, 912.5, 26.75, 0.9949, NULL, NULL),
-	(2709, 912.5, 27, 0.9947, NULL, NULL),
-	(2710, 912.5, 27.25, 0.9945, NULL, NULL),
-	(2711, 912.5, 27.5, 0.9943, NULL, NULL),
-	(2712, 912.5, 27.75, 0.9941, NULL, NULL),
-	(2713, 912.5, 28, 0.9939, NULL, NULL),
-	(2714, 912.5, 28.25, 0.9937, NULL, NULL),
-	(2715, 912.5, 28.5, 0.9935, NULL, NULL),
-	(2716, 912.5, 28.75, 0.9934, NULL, NULL),
-	(2717, 912.5, 29, 0.9932, NULL, NULL),
-	(2718, 912.5, 29.25, 0.993, NULL, NULL),
-	(2719, 912.5, 29.5, 0.9928, NULL, NULL),
-	(2720, 912.5, 29.75, 0.9926, NULL, NULL),
-	(2721, 912.5, 30, 0.9924, NULL, NULL),
-	(2722, 912.5, 30.25, 0.9922, NULL, NULL),
-	(2723, 912.5, 30.5, 0.992, NULL, NULL),
-	(2724, 912.5, 30.75, 0.9918, NULL, NULL),
-	(2725, 912.5, 31, 0.9916, NULL, NULL),
-	(2726, 912.5, 31.25, 0.9915, NULL, NULL),
-	(2727, 912.5, 31.5, 0.9913, NULL, NULL),
-	(2728, 912.5, 31.75, 0.9911, NULL, NULL),
-	(2729, 912.5, 32, 0.9909, NULL, NULL),
-	(2730, 912.5, 32.25, 0.9907, NULL, NULL),
-	(2731, 912.5, 32.5, 0.9905, NULL, NULL),
-	(2732, 912.5, 32.75, 0.9903, NULL, NULL),
-	(2733, 912.5, 33, 0.9901, NULL, NULL),
-	(2734, 912.5, 33.25, 0.9899, NULL, NULL),
-	(2735, 912.5, 33.5, 0.9897, NULL, NULL),
-	(2736, 912.5, 33.75, 0.9895, NULL, NULL),
-	(2737, 912.5, 34, 0.9894, NULL, NULL),
-	(2738, 912.5, 34.25, 0.9892, NULL, NULL),
-	(2739, 912.5, 34.5, 0.989, NULL, NULL),
-	(2740, 912.5, 34.75, 0.9888, NULL, NULL),
-	(2741, 912.5, 35, 0.9886, NULL, NULL),
-	(2742, 912.5, 35.25, 0.9884, NULL, NULL),
-	(2743, 912.5, 35.5, 0.9882, NULL, NULL),
-	(2744, 912.5, 35.75, 0.988, NULL, NULL),
-	(2745, 912.5, 36, 0.9878, NULL, NULL),
-	(2746, 912.5, 36.25, 0.9876, NULL, NULL),
-	(2747, 912.5, 36.5, 0.9874, NULL, NULL),
-	(2748, 912.5, 36.75, 0.9873, NULL, NULL),
-	(2749, 912.5, 37, 0.9871, NULL, NULL),
-	(2750, 912.5, 37.25, 0.9869, NULL, NULL),
-	(2751, 912.5, 37.5, 0.9867, NULL, NULL),
-	(2752, 912.5, 37.75, 0.9865, NULL, NULL),
-	(2753, 912.5, 38, 0.9863, NULL, NULL),
-	(2754, 912.5, 38.25, 0.9861, NULL, NULL),
-	(2755, 912.5, 38.5, 0.9859, NULL, NULL),
-	(2756, 912.5, 38.75, 0.9857, NULL, NULL),
-	(2757, 912.5, 39, 0.9855, NULL, NULL),
-	(2758, 912.5, 39.25, 0.9853, NULL, NULL),
-	(2759, 912.5, 39.5, 0.9852, NULL, NULL),
-	(2760, 912.5, 39.75, 0.985, NULL, NULL),
-	(2761, 912.5, 40, 0.9848, NULL, NULL),
-	(2762, 912.5, 40.25, 0.9846, NULL, NULL),
-	(2763, 912.5, 40.5, 0.9844, NULL, NULL),
-	(2764, 912.5, 40.75, 0.9842, NULL, NULL),
-	(2765, 912.5, 41, 0.984, NULL, NULL),
-	(2766, 912.5, 41.25, 0.9838, NULL, NULL),
-	(2767, 912.5, 41.5, 0.9836, NULL, NULL),
-	(2768, 912.5, 41.75, 0.9834, NULL, NULL),
-	(2769, 912.5, 42, 0.9832, NULL, NULL),
-	(2770, 912.5, 42.25, 0.9831, NULL, NULL),
-	(2771, 912.5, 42.5, 0.9829, NULL, NULL),
-	(2772, 912.5, 42.75, 0.9827, NULL, NULL),
-	(2773, 912.5, 43, 0.9825, NULL, NULL),
-	(2774, 912.5, 43.25, 0.9823, NULL, NULL),
-	(2775, 912.5, 43.5, 0.9821, NULL, NULL),
-	(2776, 912.5, 43.75, 0.9819, NULL, NULL),
-	(2777, 912.5, 44, 0.9817, NULL, NULL),
-	(2778, 912.5, 44.25, 0.9815, NULL, NULL),
-	(2779, 912.5, 44.5, 0.9813, NULL, NULL),
-	(2780, 912.5, 44.75, 0.9811, NULL, NULL),
-	(2781, 912.5, 45, 0.9809, NULL, NULL),
-	(2782, 912.5, 45.25, 0.9808, NULL, NULL),
-	(2783, 912.5, 45.5, 0.9806, NULL, NULL),
-	(2784, 912.5, 45.75, 0.9804, NULL, NULL),
-	(2785, 912.5, 46, 0.9802, NULL, NULL),
-	(2786, 912.5, 46.25, 0.98, NULL, NULL),
-	(2787, 912.5, 46.5, 0.9798, NULL, NULL),
-	(2788, 912.5, 46.75, 0.9796, NULL, NULL),
-	(2789, 912.5, 47, 0.9794, NULL, NULL),
-	(2790, 912.5, 47.25, 0.9792, NULL, NULL),
-	(2791, 912.5, 47.5, 0.979, NULL, NULL),
-	(2792, 912.5, 47.75, 0.9788, NULL, NULL),
-	(2793, 912.5, 48, 0.9786, NULL, NULL),
-	(2794, 912.5, 48.25, 0.9785, NULL, NULL),
-	(2795, 912.5, 48.5, 0.9783, NULL, NULL),
-	(2796, 912.5, 48.75, 0.9781, NULL, NULL),
-	(2797, 912.5, 49, 0.9779, NULL, NULL),
-	(2798, 912.5, 49.25, 0.9777, NULL, NULL),
-	(2799, 912.5, 49.5, 0.9775, NULL, NULL),
-	(2800, 912.5, 49.75, 0.9773, NULL, NULL),
-	(2801, 912.5, 50, 0.9771, NULL, NULL),
-	(2802, 913, 15, 1.0038, NULL, NULL),
-	(2803, 913, 15.25, 1.0036, NULL, NULL),
-	(2804, 913, 15.5, 1.0034, NULL, NULL),
-	(2805, 913, 15.75, 1.0032, NULL, NULL),
-	(2806, 913, 16, 1.003, NULL, NULL),
-	(2807, 913, 16.25, 1.0028, NULL, NULL),
-	(2808, 913, 16.5, 1.0026, NULL, NULL),
-	(2809, 913, 16.75, 1.0025, NULL, NULL),
-	(2810, 913, 17, 1.0023, NULL, NULL),
-	(2811, 913, 17.25, 1.0021, NULL, NULL),
-	(2812, 913, 17.5, 1.0019, NULL, NULL),
-	(2813, 913, 17.75, 1.0017, NULL, NULL),
-	(2814, 913, 18, 1.0015, NULL, NULL),
-	(2815, 913, 18.25, 1.0013, NULL, NULL),
-	(2816, 913, 18.5, 1.0011, NULL, NULL),
-	(2817, 913, 18.75, 1.0009, NULL, NULL),
-	(2818, 913, 19, 1.0008, NULL, NULL),
-	(2819, 913, 19.25, 1.0006, NULL, NULL),
-	(2820, 913, 19.5, 1.0004, NULL, NULL),
-	(2821, 913, 19.75, 1.0002, NULL, NULL),
-	(2822, 913, 20, 1, NULL, NULL),
-	(2823, 913, 20.25, 0.9998, NULL, NULL),
-	(2824, 913, 20.5, 0.9996, NULL, NULL),
-	(2825, 913, 20.75, 0.9994, NULL, NULL),
-	(2826, 913, 21, 0.9992, NULL, NULL),
-	(2827, 913, 21.25, 0.9991, NULL, NULL),
-	(2828, 913, 21.5, 0.9989, NULL, NULL),
-	(2829, 913, 21.75, 0.9987, NULL, NULL),
-	(2830, 913, 22, 0.9985, NULL, NULL),
-	(2831, 913, 22.25, 0.9983, NULL, NULL),
-	(2832, 913, 22.5, 0.9981, NULL, NULL),
-	(2833, 913, 22.75, 0.9979, NULL, NULL),
-	(2834, 913, 23, 0.9977, NULL, NULL),
-	(2835, 913, 23.25, 0.9975, NULL, NULL),
-	(2836, 913, 23.5, 0.9973, NULL, NULL),
-	(2837, 913, 23.75, 0.9972, NULL, NULL),
-	(2838, 913, 24, 0.997, NULL, NULL),
-	(2839, 913, 24.25, 0.9968, NULL, NULL),
-	(2840, 913, 24.5, 0.9966, NULL, NULL),
-	(2841, 913, 24.75, 0.9964, NULL, NULL),
-	(2842, 913, 25, 0.9962, NULL, NULL),
-	(2843, 913, 25.25, 0.996, NULL, NULL),
-	(2844, 913, 25.5, 0.9958, NULL, NULL),
-	(2845, 913, 25.75, 0.9956, NULL, NULL),
-	(2846, 913, 26.25, 0.9953, NULL, NULL),
-	(2847, 913, 26.5, 0.9951, NULL, NULL),
-	(2848, 913, 26.75, 0.9949, NULL, NULL),
-	(2849, 913, 27, 0.9947, NULL, NULL),
-	(2850, 913, 27.25, 0.9945, NULL, NULL),
-	(2851, 913, 27.5, 0.9943, NULL, NULL),
-	(2852, 913, 27.75, 0.9941, NULL, NULL),
-	(2853, 913, 28, 0.9939, NULL, NULL),
-	(2854, 913, 28.25, 0.9937, NULL, NULL),
-	(2855, 913, 28.5, 0.9935, NULL, NULL),
-	(2856, 913, 28.75, 0.9934, NULL, NULL),
-	(2857, 913, 29, 0.9932, NULL, NULL),
-	(2858, 913, 29.25, 0.993, NULL, NULL),
-	(2859, 913, 29.5, 0.9928, NULL, NULL),
-	(2860, 913, 29.75, 0.9926, NULL, NULL),
-	(2861, 913, 30, 0.9924, NULL, NULL),
-	(2862, 913, 30.25, 0.9922, NULL, NULL),
-	(2863, 913, 30.5, 0.992, NULL, NULL),
-	(2864, 913, 30.75, 0.9918, NULL, NULL),
-	(2865, 913, 31, 0.9916, NULL, NULL),
-	(2866, 913, 31.25, 0.9915, NULL, NULL),
-	(2867, 913, 31.5, 0.9913, NULL, NULL),
-	(2868, 913, 31.75, 0.9911, NULL, NULL),
-	(2869, 913, 32, 0.9909, NULL, NULL),
-	(2870, 913, 32.25, 0.9907, NULL, NULL),
-	(2871, 913, 32.5, 0.9905, NULL, NULL),
-	(2872, 913, 32.75, 0.9903, NULL, NULL),
-	(2873, 913, 33, 0.9901, NULL, NULL),
-	(2874, 913, 33.25, 0.9899, NULL, NULL),
-	(2875, 913, 33.5, 0.9897, NULL, NULL),
-	(2876, 913, 33.75, 0.9896, NULL, NULL),
-	(2877, 913, 34, 0.9894, NULL, NULL),
-	(2878, 913, 34.25, 0.9892, NULL, NULL),
-	(2879, 913, 34.5, 0.989, NULL, NULL),
-	(2880, 913, 34.75, 0.9888, NULL, NULL),
-	(2881, 913, 35, 0.9886, NULL, NULL),
-	(2882, 913, 35.25, 0.9884, NULL, NULL),
-	(2883, 913, 35.5, 0.9882, NULL, NULL),
-	(2884, 913, 35.75, 0.988, NULL, NULL),
-	(2885, 913, 36, 0.9878, NULL, NULL),
-	(2886, 913, 36.25, 0.9876, NULL, NULL),
-	(2887, 913, 36.5, 0.9875, NULL, NULL),
-	(2888, 913, 36.75, 0.9873, NULL, NULL),
-	(2889, 913, 37, 0.9871, NULL, NULL),
-	(2890, 913, 37.25, 0.9869, NULL, NULL),
-	(2891, 913, 37.5, 0.9867, NULL, NULL),
-	(2892, 913, 37.75, 0.9865, NULL, NULL),
-	(2893, 913, 38, 0.9863, NULL, NULL),
-	(2894, 913, 38.25, 0.9861, NULL, NULL),
-	(2895, 913, 38.5, 0.9859, NULL, NULL),
-	(2896, 913, 38.75, 0.9857, NULL, NULL),
-	(2897, 913, 39, 0.9855, NULL, NULL),
-	(2898, 913, 39.25, 0.9854, NULL, NULL),
-	(2899, 913, 39.5, 0.9852, NULL, NULL),
-	(2900, 913, 39.75, 0.985, NULL, NULL),
-	(2901, 913, 40, 0.9848, NULL, NULL),
-	(2902, 913, 40.25, 0.9846, NULL, NULL),
-	(2903, 913, 40.5, 0.9844, NULL, NULL),
-	(2904, 913, 40.75, 0.9842, NULL, NULL),
-	(2905, 913, 41, 0.984, NULL, NULL),
-	(2906, 913, 41.25, 0.9838, NULL, NULL),
-	(2907, 913, 41.5, 0.9836, NULL, NULL),
-	(2908, 913, 41.75, 0.9834, NULL, NULL),
-	(2909, 913, 42, 0.9833, NULL, NULL),
-	(2910, 913, 42.25, 0.9831, NULL, NULL),
-	(2911, 913, 42.5, 0.9829, NULL, NULL),
-	(2912, 913, 42.75, 0.9827, NULL, NULL),
-	(2913, 913, 43, 0.9825, NULL, NULL),
-	(2914, 913, 43.25, 0.9823, NULL, NULL),
-	(2915, 913, 43.5, 0.9821, NULL, NULL),
-	(2916, 913, 43.75, 0.9819, NULL, NULL),
-	(2917, 913, 44, 0.9817, NULL, NULL),
-	(2918, 913, 44.25, 0.9815, NULL, NULL),
-	(2919, 913, 44.5, 0.9813, NULL, NULL),
-	(2920, 913, 44.75, 0.9812, NULL, NULL),
-	(2921, 913, 45, 0.981, NULL, NULL),
-	(2922, 913, 45.25, 0.9808, NULL, NULL),
-	(2923, 913, 45.5, 0.9806, NULL, NULL),
-	(2924, 913, 45.75, 0.9804, NULL, NULL),
-	(2925, 913, 46, 0.9802, NULL, NULL),
-	(2926, 913, 46.25, 0.98, NULL, NULL),
-	(2927, 913, 46.5, 0.9798, NULL, NULL),
-	(2928, 913, 46.75, 0.9796, NULL, NULL),
-	(2929, 913, 47, 0.9794, NULL, NULL),
-	(2930, 913, 47.25, 0.9792, NULL, NULL),
-	(2931, 913, 47.5, 0.979, NULL, NULL),
-	(2932, 913, 47.75, 0.9789, NULL, NULL),
-	(2933, 913, 48, 0.9787, NULL, NULL),
-	(2934, 913, 48.25, 0.9785, NULL, NULL),
-	(2935, 913, 48.5, 0.9783, NULL, NULL),
-	(2936, 913, 48.75, 0.9781, NULL, NULL),
-	(2937, 913, 49, 0.9779, NULL, NULL),
-	(2938, 913, 49.25, 0.9777, NULL, NULL),
-	(2939, 913, 49.5, 0.9775, NULL, NULL),
-	(2940, 913, 49.75, 0.9773, NULL, NULL),
-	(2941, 913, 50, 0.9771, NULL, NULL),
-	(2942, 913.5, 15, 1.0038, NULL, NULL),
-	(2943, 913.5, 15.25, 1.0036, NULL, NULL),
-	(2944, 913.5, 15.5, 1.0034, NULL, NULL),
-	(2945, 913.5, 15.75, 1.0032, NULL, NULL),
-	(2946, 913.5, 16, 1.003, NULL, NULL),
-	(2947, 913.5, 16.25, 1.0028, NULL, NULL),
-	(2948, 913.5, 16.5, 1.0026, NULL, NULL),
-	(2949, 913.5, 16.75, 1.0025, NULL, NULL),
-	(2950, 913.5, 17, 1.0023, NULL, NULL),
-	(2951, 913.5, 17.25, 1.0021, NULL, NULL),
-	(2952, 913.5, 17.5, 1.0019, NULL, NULL),
-	(2953, 913.5, 17.75, 1.0017, NULL, NULL),
-	(2954, 913.5, 18, 1.0015, NULL, NULL),
-	(2955, 913.5, 18.25, 1.0013, NULL, NULL),
-	(2956, 913.5, 18.5, 1.0011, NULL, NULL),
-	(2957, 913.5, 18.75, 1.0009, NULL, NULL),
-	(2958, 913.5, 19, 1.0008, NULL, NULL),
-	(2959, 913.5, 19.25, 1.0006, NULL, NULL),
-	(2960, 913.5, 19.5, 1.0004, NULL, NULL),
-	(2961, 913.5, 19.75, 1.0002, NULL, NULL),
-	(2962, 913.5, 20, 1, NULL, NULL),
-	(2963, 913.5, 20.25, 0.9998, NULL, NULL),
-	(2964, 913.5, 20.5, 0.9996, NULL, NULL),
-	(2965, 913.5, 20.75, 0.9994, NULL, NULL),
-	(2966, 913.5, 21, 0.9992, NULL, NULL),
-	(2967, 913.5, 21.25, 0.9991, NULL, NULL),
-	(2968, 913.5, 21.5, 0.9989, NULL, NULL),
-	(2969, 913.5, 21.75, 0.9987, NULL, NULL),
-	(2970, 913.5, 22, 0.9985, NULL, NULL),
-	(2971, 913.5, 22.25, 0.9983, NULL, NULL),
-	(2972, 913.5, 22.5, 0.9981, NULL, NULL),
-	(2973, 913.5, 22.75, 0.9979, NULL, NULL),
-	(2974, 913.5, 23, 0.9977, NULL, NULL),
-	(2975, 913.5, 23.25, 0.9975, NULL, NULL),
-	(2976, 913.5, 23.5, 0.9973, NULL, NULL),
-	(2977, 913.5, 23.75, 0.9972, NULL, NULL),
-	(2978, 913.5, 24, 0.997, NULL, NULL),
-	(2979, 913.5, 24.25, 0.9968, NULL, NULL),
-	(2980, 913.5, 24.5, 0.9966, NULL, NULL),
-	(2981, 913.5, 24.75, 0.9964, NULL, NULL),
-	(2982, 913.5, 25, 0.9962, NULL, NULL),
-	(2983, 913.5, 25.25, 0.996, NULL, NULL),
-	(2984, 913.5, 25.5, 0.9958, NULL, NULL),
-	(2985, 913.5, 25.75, 0.9956, NULL, NULL),
-	(2986, 913.5, 26.25, 0.9953, NULL, NULL),
-	(2987, 913.5, 26.5, 0.9951, NULL, NULL),
-	(2988, 913.5, 26.75, 0.9949, NULL, NULL),
-	(2989, 913.5, 27, 0.9947, NULL, NULL),
-	(2990, 913.5, 27.25, 0.9945, NULL, NULL),
-	(2991, 913.5, 27.5, 0.9943, NULL, NULL),
-	(2992, 913.5, 27.75, 0.9941, NULL, NULL),
-	(2993, 913.5, 28, 0.9939, NULL, NULL),
-	(2994, 913.5, 28.25, 0.9937, NULL, NULL),
-	(2995, 913.5, 28.5, 0.9936, NULL, NULL),
-	(2996, 913.5, 28.75, 0.9934, NULL, NULL),
-	(2997, 913.5, 29, 0.9932, NULL, NULL),
-	(2998, 913.5, 29.25, 0.993, NULL, NULL),
-	(2999, 913.5, 29.5, 0.9928, NULL, NULL),
-	(3000, 913.5, 29.75, 0.9926, NULL, NULL),
-	(3001, 913.5, 30, 0.9924, NULL, NULL),
-	(3002, 913.5, 30.25, 0.9922, NULL, NULL),
-	(3003, 913.5, 30.5, 0.992, NULL, NULL),
-	(3004, 913.5, 30.75, 0.9918, NULL, NULL),
-	(3005, 913.5, 31, 0.9917, NULL, NULL),
-	(3006, 913.5, 31.25, 0.9915, NULL, NULL),
-	(3007, 913.5, 31.5, 0.9913, NULL, NULL),
-	(3008, 913.5, 31.75, 0.9911, NULL, NULL),
-	(3009, 913.5, 32, 0.9909, NULL, NULL),
-	(3010, 913.5, 32.25, 0.9907, NULL, NULL),
-	(3011, 913.5, 32.5, 0.9905, NULL, NULL),
-	(3012, 913.5, 32.75, 0.9903, NULL, NULL),
-	(3013, 913.5, 33, 0.9901, NULL, NULL),
-	(3014, 913.5, 33.25, 0.9899, NULL, NULL),
-	(3015, 913.5, 33.5, 0.9897, NULL, NULL),
-	(3016, 913.5, 33.75, 0.9896, NULL, NULL),
-	(3017, 913.5, 34, 0.9894, NULL, NULL),
-	(3018, 913.5, 34.25, 0.9892, NULL, NULL),
-	(3019, 913.5, 34.5, 0.989, NULL, NULL),
-	(3020, 913.5, 34.75, 0.9888, NULL, NULL),
-	(3021, 913.5, 35, 0.9886, NULL, NULL),
-	(3022, 913.5, 35.25, 0.9884, NULL, NULL),
-	(3023, 913.5, 35.5, 0.9882, NULL, NULL),
-	(3024, 913.5, 35.75, 0.988, NULL, NULL),
-	(3025, 913.5, 36, 0.9878, NULL, NULL),
-	(3026, 913.5, 36.25, 0.9877, NULL, NULL),
-	(3027, 913.5, 36.5, 0.9875, NULL, NULL),
-	(3028, 913.5, 36.75, 0.9873, NULL, NULL),
-	(3029, 913.5, 37, 0.9871, NULL, NULL),
-	(3030, 913.5, 37.25, 0.9869, NULL, NULL),
-	(3031, 913.5, 37.5, 0.9867, NULL, NULL),
-	(3032, 913.5, 37.75, 0.9865, NULL, NULL),
-	(3033, 913.5, 38, 0.9863, NULL, NULL),
-	(3034, 913.5, 38.25, 0.9861, NULL, NULL),
-	(3035, 913.5, 38.5, 0.9859, NULL, NULL),
-	(3036, 913.5, 38.75, 0.9857, NULL, NULL),
-	(3037, 913.5, 39, 0.9856, NULL, NULL),
-	(3038, 913.5, 39.25, 0.9854, NULL, NULL),
-	(3039, 913.5, 39.5, 0.9852, NULL, NULL),
-	(3040, 913.5, 39.75, 0.985, NULL, NULL),
-	(3041, 913.5, 40, 0.9848, NULL, NULL),
-	(3042, 913.5, 40.25, 0.9846, NULL, NULL),
-	(3043, 913.5, 40.5, 0.9844, NULL, NULL),
-	(3044, 913.5, 40.75, 0.9842, NULL, NULL),
-	(3045, 913.5, 41, 0.984, NULL, NULL),
-	(3046, 913.5, 41.25, 0.9838, NULL, NULL),
-	(3047, 913.5, 41.5, 0.9836, NULL, NULL),
-	(3048, 913.5, 41.75, 0.9835, NULL, NULL),
-	(3049, 913.5, 42, 0.9833, NULL, NULL),
-	(3050, 913.5, 42.25, 0.9831, NULL, NULL),
-	(3051, 913.5, 42.5, 0.9829, NULL, NULL),
-	(3052, 913.5, 42.75, 0.9827, NULL, NULL),
-	(3053, 913.5, 43, 0.9825, NULL, NULL),
-	(3054, 913.5, 43.25, 0.9823, NULL, NULL),
-	(3055, 913.5, 43.5, 0.9821, NULL, NULL),
-	(3056, 913.5, 43.75, 0.9819, NULL, NULL),
-	(3057, 913.5, 44, 0.9817, NULL, NULL),
-	(3058, 913.5, 44.25, 0.9815, NULL, NULL),
-	(3059, 913.5, 44.5, 0.9814, NULL, NULL),
-	(3060, 913.5, 44.75, 0.9812, NULL, NULL),
-	(3061, 913.5, 45, 0.981, NULL, NULL),
-	(3062, 913.5, 45.25, 0.9808, NULL, NULL),
-	(3063, 913.5, 45.5, 0.9806, NULL, NULL),
-	(3064, 913.5, 45.75, 0.9804, NULL, NULL),
-	(3065, 913.5, 46, 0.9802, NULL, NULL),
-	(3066, 913.5, 46.25, 0.98, NULL, NULL),
-	(3067, 913.5, 46.5, 0.9798, NULL, NULL),
-	(3068, 913.5, 46.75, 0.9796, NULL, NULL),
-	(3069, 913.5, 47, 0.9794, NULL, NULL),
-	(3070, 913.5, 47.25, 0.9793, NULL, NULL),
-	(3071, 913.5, 47.5, 0.9791, NULL, NULL),
-	(3072, 913.5, 47.75, 0.9789, NULL, NULL),
-	(3073, 913.5, 48, 0.9787, NULL, NULL),
-	(3074, 913.5, 48.25, 0.9785, NULL, NULL),
-	(3075, 913.5, 48.5, 0.9783, NULL, NULL),
-	(3076, 913.5, 48.75, 0.9781, NULL, NULL),
-	(3077, 913.5, 49, 0.9779, NULL, NULL),
-	(3078, 913.5, 49.25, 0.9777, NULL, NULL),
-	(3079, 913.5, 49.5, 0.9775, NULL, NULL),
-	(3080, 913.5, 49.75, 0.9773, NULL, NULL),
-	(3081, 913.5, 50, 0.9771, NULL, NULL),
-	(3082, 914, 15, 1.0038, NULL, NULL),
-	(3083, 914, 15.25, 1.0036, NULL, NULL),
-	(3084, 914, 15.5, 1.0034, NULL, NULL),
-	(3085, 914, 15.75, 1.0032, NULL, NULL),
-	(3086, 914, 16, 1.003, NULL, NULL),
-	(3087, 914, 16.25, 1.0028, NULL, NULL),
-	(3088, 914, 16.5, 1.0026, NULL, NULL),
-	(3089, 914, 16.75, 1.0025, NULL, NULL),
-	(3090, 914, 17, 1.0023, NULL, NULL),
-	(3091, 914, 17.25, 1.0021, NULL, NULL),
-	(3092, 914, 17.5, 1.0019, NULL, NULL),
-	(3093, 914, 17.75, 1.0017, NULL, NULL),
-	(3094, 914, 18, 1.0015, NULL, NULL),
-	(3095, 914, 18.25, 1.0013, NULL, NULL),
-	(3096, 914, 18.5, 1.0011, NULL, NULL),
-	(3097, 914, 18.75, 1.0009, NULL, NULL),
-	(3098, 914, 19, 1.0008, NULL, NULL),
-	(3099, 914, 19.25, 1.0006, NULL, NULL),
-	(3100, 914, 19.5, 1.0004, NULL, NULL),
-	(3101, 914, 19.75, 1.0002, NULL, NULL),
-	(3102, 914, 20, 1, NULL, NULL),
-	(3103, 914, 20.25, 0.9998, NULL, NULL),
-	(3104, 914, 20.5, 0.9996, NULL, NULL),
-	(3105, 914, 20.75, 0.9994, NULL, NULL),
-	(3106, 914, 21, 0.9992, NULL, NULL),
-	(3107, 914, 21.25, 0.9991, NULL, NULL),
-	(3108, 914, 21.5, 0.9989, NULL, NULL),
-	(3109, 914, 21.75, 0.9987, NULL, NULL),
-	(3110, 914, 22, 0.9985, NULL, NULL),
-	(3111, 914, 22.25, 0.9983, NULL, NULL),
-	(3112, 914, 22.5, 0.9981, NULL, NULL),
-	(3113, 914, 22.75, 0.9979, NULL, NULL),
-	(3114, 914, 23, 0.9977, NULL, NULL),
-	(3115, 914, 23.25, 0.9975, NULL, NULL),
-	(3116, 914, 23.5, 0.9974, NULL, NULL),
-	(3117, 914, 23.75, 0.9972, NULL, NULL),
-	(3118, 914, 24, 0.997, NULL, NULL),
-	(3119, 914, 24.25, 0.9968, NULL, NULL),
-	(3120, 914, 24.5, 0.9966, NULL, NULL),
-	(3121, 914, 24.75, 0.9964, NULL, NULL),
-	(3122, 914, 25, 0.9962, NULL, NULL),
-	(3123, 914, 25.25, 0.996, NULL, NULL),
-	(3124, 914, 25.5, 0.9958, NULL, NULL),
-	(3125, 914, 25.75, 0.9956, NULL, NULL),
-	(3126, 914, 26.25, 0.9953, NULL, NULL),
-	(3127, 914, 26.5, 0.9951, NULL, NULL),
-	(3128, 914, 26.75, 0.9949, NULL, NULL),
-	(3129, 914, 27, 0.9947, NULL, NULL),
-	(3130, 914, 27.25, 0.9945, NULL, NULL),
-	(3131, 914, 27.5, 0.9943, NULL, NULL),
-	(3132, 914, 27.75, 0.9941, NULL, NULL),
-	(3133, 914, 28, 0.9939, NULL, NULL),
-	(3134, 914, 28.25, 0.9937, NULL, NULL),
-	(3135, 914, 28.5, 0.9936, NULL, NULL),
-	(3136, 914, 28.75, 0.9934, NULL, NULL),
-	(3137, 914, 29, 0.9932, NULL, NULL),
-	(3138, 914, 29.25, 0.993, NULL, NULL),
-	(3139, 914, 29.5, 0.9928, NULL, NULL),
-	(3140, 914, 29.75, 0.9926, NULL, NULL),
-	(3141, 914, 30, 0.9924, NULL, NULL),
-	(3142, 914, 30.25, 0.9922, NULL, NULL),
-	(3143, 914, 30.5, 0.992, NULL, NULL),
-	(3144, 914, 30.75, 0.9918, NULL, NULL),
-	(3145, 914, 31, 0.9917, NULL, NULL),
-	(3146, 914, 31.25, 0.9915, NULL, NULL),
-	(3147, 914, 31.5, 0.9913, NULL, NULL),
-	(3148, 914, 31.75, 0.9911, NULL, NULL),
-	(3149, 914, 32, 0.9909, NULL, NULL),
-	(3150, 914, 32.25, 0.9907, NULL, NULL),
-	(3151, 914, 32.5, 0.9905, NULL, NULL),
-	(3152, 914, 32.75, 0.9903, NULL, NULL),
-	(3153, 914, 33, 0.9901, NULL, NULL),
-	(3154, 914, 33.25, 0.9899, NULL, NULL),
-	(3155, 914, 33.5, 0.9898, NULL, NULL),
-	(3156, 914, 33.75, 0.9896, NULL, NULL),
-	(3157, 914, 34, 0.9894, NULL, NULL),
-	(3158, 914, 34.25, 0.9892, NULL, NULL),
-	(3159, 914, 34.5, 0.989, NULL, NULL),
-	(3160, 914, 34.75, 0.9888, NULL, NULL),
-	(3161, 914, 35, 0.9886, NULL, NULL),
-	(3162, 914, 35.25, 0.9884, NULL, NULL),
-	(3163, 914, 35.5, 0.9882, NULL, NULL),
-	(3164, 914, 35.75, 0.988, NULL, NULL),
-	(3165, 914, 36, 0.9879, NULL, NULL),
-	(3166, 914, 36.25, 0.9877, NULL, NULL),
-	(3167, 914, 36.5, 0.9875, NULL, NULL),
-	(3168, 914, 36.75, 0.9873, NULL, NULL),
-	(3169, 914, 37, 0.9871, NULL, NULL),
-	(3170, 914, 37.25, 0.9869, NULL, NULL),
-	(3171, 914, 37.5, 0.9867, NULL, NULL),
-	(3172, 914, 37.75, 0.9865, NULL, NULL),
-	(3173, 914, 38, 0.9863, NULL, NULL),
-	(3174, 914, 38.25, 0.9861, NULL, NULL),
-	(3175, 914, 38.5, 0.9859, NULL, NULL),
-	(3176, 914, 38.75, 0.9858, NULL, NULL),
-	(3177, 914, 39, 0.9856, NULL, NULL),
-	(3178, 914, 39.25, 0.9854, NULL, NULL),
-	(3179, 914, 39.5, 0.9852, NULL, NULL),
-	(3180, 914, 39.75, 0.985, NULL, NULL),
-	(3181, 914, 40, 0.9848, NULL, NULL),
-	(3182, 914, 40.25, 0.9846, NULL, NULL),
-	(3183, 914, 40.5, 0.9844, NULL, NULL),
-	(3184, 914, 40.75, 0.9842, NULL, NULL),
-	(3185, 914, 41, 0.984, NULL, NULL),
-	(3186, 914, 41.25, 0.9839, NULL, NULL),
-	(3187, 914, 41.5, 0.9837, NULL, NULL),
-	(3188, 914, 41.75, 0.9835, NULL, NULL),
-	(3189, 914, 42, 0.9833, NULL, NULL),
-	(3190, 914, 42.25, 0.9831, NULL, NULL),
-	(3191, 914, 42.5, 0.9829, NULL, NULL),
-	(3192, 914, 42.75, 0.9827, NULL, NULL),
-	(3193, 914, 43, 0.9825, NULL, NULL),
-	(3194, 914, 43.25, 0.9823, NULL, NULL),
-	(3195, 914, 43.5, 0.9821, NULL, NULL),
-	(3196, 914, 43.75, 0.9819, NULL, NULL),
-	(3197, 914, 44, 0.9818, NULL, NULL),
-	(3198, 914, 44.25, 0.9816, NULL, NULL),
-	(3199, 914, 44.5, 0.9814, NULL, NULL),
-	(3200, 914, 44.75, 0.9812, NULL, NULL),
-	(3201, 914, 45, 0.981, NULL, NULL),
-	(3202, 914, 45.25, 0.9808, NULL, NULL),
-	(3203, 914, 45.5, 0.9806, NULL, NULL),
-	(3204, 914, 45.75, 0.9804, NULL, NULL),
-	(3205, 914, 46, 0.9802, NULL, NULL),
-	(3206, 914, 46.25, 0.98, NULL, NULL),
-	(3207, 914, 46.5, 0.9798, NULL, NULL),
-	(3208, 914, 46.75, 0.9796, NULL, NULL),
-	(3209, 914, 47, 0.9795, NULL, NULL),
-	(3210, 914, 47.25, 0.9793, NULL, NULL),
-	(3211, 914, 47.5, 0.9791, NULL, NULL),
-	(3212, 914, 47.75, 0.9789, NULL, NULL),
-	(3213, 914, 48, 0.9787, NULL, NULL),
-	(3214, 914, 48.25, 0.9785, NULL, NULL),
-	(3215, 914, 48.5, 0.9783, NULL, NULL),
-	(3216, 914, 48.75, 0.9781, NULL, NULL),
-	(3217, 914, 49, 0.9779, NULL, NULL),
-	(3218, 914, 49.25, 0.9777, NULL, NULL),
-	(3219, 914, 49.5, 0.9775, NULL, NULL),
-	(3220, 914, 49.75, 0.9774, NULL, NULL),
-	(3221, 914, 50, 0.9772, NULL, NULL),
-	(3222, 914.5, 15, 1.0038, NULL, NULL),
-	(3223, 914.5, 15.25, 1.0036, NULL, NULL),
-	(3224, 914.5, 15.5, 1.0034, NULL, NULL),
-	(3225, 914.5, 15.75, 1.0032, NULL, NULL),
-	(3226, 914.5, 16, 1.003, NULL, NULL),
-	(3227, 914.5, 16.25, 1.0028, NULL, NULL),
-	(3228, 914.5, 16.5, 1.0026, NULL, NULL),
-	(3229, 914.5, 16.75, 1.0025, NULL, NULL),
-	(3230, 914.5, 17, 1.0023, NULL, NULL),
-	(3231, 914.5, 17.25, 1.0021, NULL, NULL),
-	(3232, 914.5, 17.5, 1.0019, NULL, NULL),
-	(3233, 914.5, 17.75, 1.0017, NULL, NULL),
-	(3234, 914.5, 18, 1.0015, NULL, NULL),
-	(3235, 914.5, 18.25, 1.0013, NULL, NULL),
-	(3236, 914.5, 18.5, 1.0011, NULL, NULL),
-	(3237, 914.5, 18.75, 1.0009, NULL, NULL),
-	(3238, 914.5, 19, 1.0008, NULL, NULL),
-	(3239, 914.5, 19.25, 1.0006, NULL, NULL),
-	(3240, 914.5, 19.5, 1.0004, NULL, NULL),
-	(3241, 914.5, 19.75, 1.0002, NULL, NULL),
-	(3242, 914.5, 20, 1, NULL, NULL),
-	(3243, 914.5, 20.25, 0.9998, NULL, NULL),
-	(3244, 914.5, 20.5, 0.9996, NULL, NULL),
-	(3245, 914.5, 20.75, 0.9994, NULL, NULL),
-	(3246, 914.5, 21, 0.9992, NULL, NULL),
-	(3247, 914.5, 21.25, 0.9991, NULL, NULL),
-	(3248, 914.5, 21.5, 0.9989, NULL, NULL),
-	(3249, 914.5, 21.75, 0.9987, NULL, NULL),
-	(3250, 914.5, 22, 0.9985, NULL, NULL),
-	(3251, 914.5, 22.25, 0.9983, NULL, NULL),
-	(3252, 914.5, 22.5, 0.9981, NULL, NULL),
-	(3253, 914.5, 22.75, 0.9979, NULL, NULL),
-	(3254, 914.5, 23, 0.9977, NULL, NULL),
-	(3255, 914.5, 23.25, 0.9975, NULL, NULL),
-	(3256, 914.5, 23.5, 0.9974, NULL, NULL),
-	(3257, 914.5, 23.75, 0.9972, NULL, NULL),
-	(3258, 914.5, 24, 0.997, NULL, NULL),
-	(3259, 914.5, 24.25, 0.9968, NULL, NULL),
-	(3260, 914.5, 24.5, 0.9966, NULL, NULL),
-	(3261, 914.5, 24.75, 0.9964, NULL, NULL),
-	(3262, 914.5, 25, 0.9962, NULL, NULL),
-	(3263, 914.5, 25.25, 0.996, NULL, NULL),
-	(3264, 914.5, 25.5, 0.9958, NULL, NULL),
-	(3265, 914.5, 25.75, 0.9956, NULL, NULL),
-	(3266, 914.5, 26.25, 0.9953, NULL, NULL),
-	(3267, 914.5, 26.5, 0.9951, NULL, NULL),
-	(3268, 914.5, 26.75, 0.9949, NULL, NULL),
-	(3269, 914.5, 27, 0.9947, NULL, NULL),
-	(3270, 914.5, 27.25, 0.9945, NULL, NULL),
-	(3271, 914.5, 27.5, 0.9943, NULL, NULL),
-	(3272, 914.5, 27.75, 0.9941, NULL, NULL),
-	(3273, 914.5, 28, 0.9939, NULL, NULL),
-	(3274, 914.5, 28.25, 0.9938, NULL, NULL),
-	(3275, 914.5, 28.5, 0.9936, NULL, NULL),
-	(3276, 914.5, 28.75, 0.9934, NULL, NULL),
-	(3277, 914.5, 29, 0.9932, NULL, NULL),
-	(3278, 914.5, 29.25, 0.993, NULL, NULL),
-	(3279, 914.5, 29.5, 0.9928, NULL, NULL),
-	(3280, 914.5, 29.75, 0.9926, NULL, NULL),
-	(3281, 914.5, 30, 0.9924, NULL, NULL),
-	(3282, 914.5, 30.25, 0.9922, NULL, NULL),
-	(3283, 914.5, 30.5, 0.992, NULL, NULL),
-	(3284, 914.5, 30.75, 0.9919, NULL, NULL),
-	(3285, 914.5, 31, 0.9917, NULL, NULL),
-	(3286, 914.5, 31.25, 0.9915, NULL, NULL),
-	(3287, 914.5, 31.5, 0.9913, NULL, NULL),
-	(3288, 914.5, 31.75, 0.9911, NULL, NULL),
-	(3289, 914.5, 32, 0.9909, NULL, NULL),
-	(3290, 914.5, 32.25, 0.9907, NULL, NULL),
-	(3291, 914.5, 32.5, 0.9905, NULL, NULL),
-	(3292, 914.5, 32.75, 0.9903, NULL, NULL),
-	(3293, 914.5, 33, 0.9901, NULL, NULL),
-	(3294, 914.5, 33.25, 0.99, NULL, NULL),
-	(3295, 914.5, 33.5, 0.9898, NULL, NULL),
-	(3296, 914.5, 33.75, 0.9896, NULL, NULL),
-	(3297, 914.5, 34, 0.9894, NULL, NULL),
-	(3298, 914.5, 34.25, 0.9892, NULL, NULL),
-	(3299, 914.5, 34.5, 0.989, NULL, NULL),
-	(3300, 914.5, 34.75, 0.9888, NULL, NULL),
-	(3301, 914.5, 35, 0.9886, NULL, NULL),
-	(3302, 914.5, 35.25, 0.9884, NULL, NULL),
-	(3303, 914.5, 35.5, 0.9882, NULL, NULL),
-	(3304, 914.5, 35.75, 0.9881, NULL, NULL),
-	(3305, 914.5, 36, 0.9879, NULL, NULL),
-	(3306, 914.5, 36.25, 0.9877, NULL, NULL),
-	(3307, 914.5, 36.5, 0.9875, NULL, NULL),
-	(3308, 914.5, 36.75, 0.9873, NULL, NULL),
-	(3309, 914.5, 37, 0.9871, NULL, NULL),
-	(3310, 914.5, 37.25, 0.9869, NULL, NULL),
-	(3311, 914.5, 37.5, 0.9867, NULL, NULL),
-	(3312, 914.5, 37.75, 0.9865, NULL, NULL),
-	(3313, 914.5, 38, 0.9863, NULL, NULL),
-	(3314, 914.5, 38.25, 0.9861, NULL, NULL),
-	(3315, 914.5, 38.5, 0.986, NULL, NULL),
-	(3316, 914.5, 38.75, 0.9858, NULL, NULL),
-	(3317, 914.5, 39, 0.9856, NULL, NULL),
-	(3318, 914.5, 39.25, 0.9854, NULL, NULL),
-	(3319, 914.5, 39.5, 0.9852, NULL, NULL),
-	(3320, 914.5, 39.75, 0.985, NULL, NULL),
-	(3321, 914.5, 40, 0.9848, NULL, NULL),
-	(3322, 914.5, 40.25, 0.9846, NULL, NULL),
-	(3323, 914.5, 40.5, 0.9844, NULL, NULL),
-	(3324, 914.5, 40.75, 0.9842, NULL, NULL),
-	(3325, 914.5, 41, 0.9841, NULL, NULL),
-	(3326, 914.5, 41.25, 0.9839, NULL, NULL),
-	(3327, 914.5, 41.5, 0.9837, NULL, NULL),
-	(3328, 914.5, 41.75, 0.9835, NULL, NULL),
-	(3329, 914.5, 42, 0.9833, NULL, NULL),
-	(3330, 914.5, 42.25, 0.9831, NULL, NULL),
-	(3331, 914.5, 42.5, 0.9829, NULL, NULL),
-	(3332, 914.5, 42.75, 0.9827, NULL, NULL),
-	(3333, 914.5, 43, 0.9825, NULL, NULL),
-	(3334, 914.5, 43.25, 0.9823, NULL, NULL),
-	(3335, 914.5, 43.5, 0.9821, NULL, NULL),
-	(3336, 914.5, 43.75, 0.982, NULL, NULL),
-	(3337, 914.5, 44, 0.9818, NULL, NULL),
-	(3338, 914.5, 44.25, 0.9816, NULL, NULL),
-	(3339, 914.5, 44.5, 0.9814, NULL, NULL),
-	(3340, 914.5, 44.75, 0.9812, NULL, NULL),
-	(3341, 914.5, 45, 0.981, NULL, NULL),
-	(3342, 914.5, 45.25, 0.9808, NULL, NULL),
-	(3343, 914.5, 45.5, 0.9806, NULL, NULL),
-	(3344, 914.5, 45.75, 0.9804, NULL, NULL),
-	(3345, 914.5, 46, 0.9802, NULL, NULL),
-	(3346, 914.5, 46.25, 0.98, NULL, NULL),
-	(3347, 914.5, 46.5, 0.9799, NULL, NULL),
-	(3348, 914.5, 46.75, 0.9797, NULL, NULL),
-	(3349, 914.5, 47, 0.9795, NULL, NULL),
-	(3350, 914.5, 47.25, 0.9793, NULL, NULL),
-	(3351, 914.5, 47.5, 0.9791, NULL, NULL),
-	(3352, 914.5, 47.75, 0.9789, NULL, NULL),
-	(3353, 914.5, 48, 0.9787, NULL, NULL),
-	(3354, 914.5, 48.25, 0.9785, NULL, NULL),
-	(3355, 914.5, 48.5, 0.9783, NULL, NULL),
-	(3356, 914.5, 48.75, 0.9781, NULL, NULL),
-	(3357, 914.5, 49, 0.9779, NULL, NULL),
-	(3358, 914.5, 49.25, 0.9778, NULL, NULL),
-	(3359, 914.5, 49.5, 0.9776, NULL, NULL),
-	(3360, 914.5, 49.75, 0.9774, NULL, NULL),
-	(3361, 914.5, 50, 0.9772, NULL, NULL),
-	(3362, 918, 15, 1.0038, NULL, NULL),
-	(3363, 918, 15.25, 1.0036, NULL, NULL),
-	(3364, 918, 15.5, 1.0034, NULL, NULL),
-	(3365, 918, 15.75, 1.0032, NULL, NULL),
-	(3366, 918, 16, 1.003, NULL, NULL),
-	(3367, 918, 16.25, 1.0028, NULL, NULL),
-	(3368, 918, 16.5, 1.0026, NULL, NULL),
-	(3369, 918, 16.75, 1.0024, NULL, NULL),
-	(3370, 918, 17, 1.0023, NULL, NULL),
-	(3371, 918, 17.25, 1.0021, NULL, NULL),
-	(3372, 918, 17.5, 1.0019, NULL, NULL),
-	(3373, 918, 17.75, 1.0017, NULL, NULL),
-	(3374, 918, 18, 1.0015, NULL, NULL),
-	(3375, 918, 18.25, 1.0013, NULL, NULL),
-	(3376, 918, 18.5, 1.0011, NULL, NULL),
-	(3377, 918, 18.75, 1.0009, NULL, NULL),
-	(3378, 918, 19, 1.0008, NULL, NULL),
-	(3379, 918, 19.25, 1.0006, NULL, NULL),
-	(3380, 918, 19.5, 1.0004, NULL, NULL),
-	(3381, 918, 19.75, 1.0002, NULL, NULL),
-	(3382, 918, 20, 1, NULL, NULL),
-	(3383, 918, 20.25, 0.9998, NULL, NULL),
-	(3384, 918, 20.5, 0.9996, NULL, NULL),
-	(3385, 918, 20.75, 0.9994, NULL, NULL),
-	(3386, 918, 21, 0.9992, NULL, NULL),
-	(3387, 918, 21.25, 0.9991, NULL, NULL),
-	(3388, 918, 21.5, 0.9989, NULL, NULL),
-	(3389, 918, 21.75, 0.9987, NULL, NULL),
-	(3390, 918, 22, 0.9985, NULL, NULL),
-	(3391, 918, 22.25, 0.9983, NULL, NULL),
-	(3392, 918, 22.5, 0.9981, NULL, NULL),
-	(3393, 918, 22.75, 0.9979, NULL, NULL),
-	(3394, 918, 23, 0.9977, NULL, NULL),
-	(3395, 918, 23.25, 0.9976, NULL, NULL),
-	(3396, 918, 23.5, 0.9974, NULL, NULL),
-	(3397, 918, 23.75, 0.9972, NULL, NULL),
-	(3398, 918, 24, 0.997, NULL, NULL),
-	(3399, 918, 24.25, 0.9968, NULL, NULL),
-	(3400, 918, 24.5, 0.9966, NULL, NULL),
-	(3401, 918, 24.75, 0.9964, NULL, NULL),
-	(3402, 918, 25, 0.9962, NULL, NULL),
-	(3403, 918, 25.25, 0.996, NULL, NULL),
-	(3404, 918, 25.5, 0.9959, NULL, NULL),
-	(3405, 918, 25.75, 0.9957, NULL, NULL),
-	(3406, 918, 26, 0.9955, NULL, NULL),
-	(3407, 918, 26.25, 0.9953, NULL, NULL),
-	(3408, 918, 26.5, 0.9951, NULL, NULL),
-	(3409, 918, 26.75, 0.9949, NULL, NULL),
-	(3410, 918, 27, 0.9947, NULL, NULL),
-	(3411, 918, 27.25, 0.9945, NULL, NULL),
-	(3412, 918, 27.5, 0.9943, NULL, NULL),
-	(3413, 918, 27.75, 0.9942, NULL, NULL),
-	(3414, 918, 28, 0.994, NULL, NULL),
-	(3415, 918, 28.25, 0.9938, NULL, NULL),
-	(3416, 918, 28.5, 0.9936, NULL, NULL),
-	(3417, 918, 28.75, 0.9934, NULL, NULL),
-	(3418, 918, 29, 0.9932, NULL, NULL),
-	(3419, 918, 29.25, 0.993, NULL, NULL),
-	(3420, 918, 29.5, 0.9928, NULL, NULL),
-	(3421, 918, 29.75, 0.9926, NULL, NULL),
-	(3422, 918, 30, 0.9925, NULL, NULL),
-	(3423, 918, 30.25, 0.9923, NULL, NULL),
-	(3424, 918, 30.5, 0.9921, NULL, NULL),
-	(3425, 918, 30.75, 0.9919, NULL, NULL),
-	(3426, 918, 31, 0.9917, NULL, NULL),
-	(3427, 918, 31.25, 0.9915, NULL, NULL),
-	(3428, 918, 31.5, 0.943, NULL, NULL),
-	(3429, 918, 31.75, 0.9911, NULL, NULL),
-	(3430, 918, 32, 0.9909, NULL, NULL),
-	(3431, 918, 32.25, 0.9908, NULL, NULL),
-	(3432, 918, 32.5, 0.9986, NULL, NULL),
-	(3433, 918, 32.75, 0.9904, NULL, NULL),
-	(3434, 918, 33, 0.9902, NULL, NULL),
-	(3435, 918, 33.25, 0.99, NULL, NULL),
-	(3436, 918, 33.5, 0.9898, NULL, NULL),
-	(3437, 918, 33.75, 0.9896, NULL, NULL),
-	(3438, 918, 34, 0.9894, NULL, NULL),
-	(3439, 918, 34.25, 0.9892, NULL, NULL),
-	(3440, 918, 34.5, 0.9891, NULL, NULL),
-	(3441, 918, 34.75, 0.9889, NULL, NULL),
-	(3442, 918, 35, 0.9887, NULL, NULL),
-	(3443, 918, 35.25, 0.9885, NULL, NULL),
-	(3444, 918, 35.5, 0.9883, NULL, NULL),
-	(3445, 918, 35.75, 0.9881, NULL, NULL),
-	(3446, 918, 36, 0.9879, NULL, NULL),
-	(3447, 918, 36.25, 0.9877, NULL, NULL),
-	(3448, 918, 36.5, 0.9875, NULL, NULL),
-	(3449, 918, 36.75, 0.9874, NULL, NULL),
-	(3450, 918, 37, 0.9872, NULL, NULL),
-	(3451, 918, 37.25, 0.987, NULL, NULL),
-	(3452, 918, 37.5, 0.9868, NULL, NULL),
-	(3453, 918, 37.75, 0.9866, NULL, NULL),
-	(3454, 918, 38, 0.9864, NULL, NULL),
-	(3455, 918, 38.25, 0.9862, NULL, NULL),
-	(3456, 918, 38.5, 0.986, NULL, NULL),
-	(3457, 918, 38.75, 0.9858, NULL, NULL),
-	(3458, 918, 39, 0.9856, NULL, NULL),
-	(3459, 918, 39.25, 0.9855, NULL, NULL),
-	(3460, 918, 39.5, 0.9853, NULL, NULL),
-	(3461, 918, 39.75, 0.9851, NULL, NULL),
-	(3462, 918, 40, 0.9849, NULL, NULL),
-	(3463, 918, 40.25, 0.9847, NULL, NULL),
-	(3464, 918, 40.5, 0.9845, NULL, NULL),
-	(3465, 918, 40.75, 0.9843, NULL, NULL),
-	(3466, 918, 41, 0.9841, NULL, NULL),
-	(3467, 918, 41.25, 0.9839, NULL, NULL),
-	(3468, 918, 41.5, 0.9838, NULL, NULL),
-	(3469, 918, 41.75, 0.9836, NULL, NULL),
-	(3470, 918, 42, 0.9834, NULL, NULL),
-	(3471, 918, 42.25, 0.9832, NULL, NULL),
-	(3472, 918, 42.5, 0.983, NULL, NULL),
-	(3473, 918, 42.75, 0.9828, NULL, NULL),
-	(3474, 918, 43, 0.9826, NULL, NULL),
-	(3475, 918, 43.25, 0.9824, NULL, NULL),
-	(3476, 918, 43.5, 0.9822, NULL, NULL),
-	(3477, 918, 43.75, 0.982, NULL, NULL),
-	(3478, 918, 44, 0.9819, NULL, NULL),
-	(3479, 918, 44.25, 0.9817, NULL, NULL),
-	(3480, 918, 44.5, 0.9815, NULL, NULL),
-	(3481, 918, 44.75, 0.9813, NULL, NULL),
-	(3482, 918, 45, 0.9811, NULL, NULL),
-	(3483, 918, 45.25, 0.9809, NULL, NULL),
-	(3484, 918, 45.5, 0.9807, NULL, NULL),
-	(3485, 918, 45.75, 0.9805, NULL, NULL),
-	(3486, 918, 46, 0.9803, NULL, NULL),
-	(3487, 918, 46.25, 0.9801, NULL, NULL),
-	(3488, 918, 46.5, 0.98, NULL, NULL),
-	(3489, 918, 46.75, 0.9798, NULL, NULL),
-	(3490, 918, 47, 0.9796, NULL, NULL),
-	(3491, 918, 47.25, 0.9794, NULL, NULL),
-	(3492, 918, 47.5, 0.9792, NULL, NULL),
-	(3493, 918, 47.75, 0.979, NULL, NULL),
-	(3494, 918, 48, 0.9788, NULL, NULL),
-	(3495, 918, 48.25, 0.9786, NULL, NULL),
-	(3496, 918, 48.5, 0.9784, NULL, NULL),
-	(3497, 918, 48.75, 0.9782, NULL, NULL),
-	(3498, 918, 49, 0.978, NULL, NULL),
-	(3499, 918, 49.25, 0.9779, NULL, NULL),
-	(3500, 918, 49.5, 0.9777, NULL, NULL),
-	(3501, 918, 49.75, 0.9775, NULL, NULL),
-	(3502, 918, 50, 0.9773, NULL, NULL),
-	(3503, 918.5, 15, 1.0038, NULL, NULL),
-	(3504, 918.5, 15.25, 1.0036, NULL, NULL),
-	(3505, 918.5, 15.5, 1.0034, NULL, NULL),
-	(3506, 918.5, 15.75, 1.0032, NULL, NULL),
-	(3507, 918.5, 16, 1.003, NULL, NULL),
-	(3508, 918.5, 16.25, 1.0028, NULL, NULL),
-	(3509, 918.5, 16.5, 1.0026, NULL, NULL),
-	(3510, 918.5, 16.75, 1.0024, NULL, NULL),
-	(3511, 918.5, 17, 1.0023, NULL, NULL),
-	(3512, 918.5, 17.25, 1.0021, NULL, NULL),
-	(3513, 918.5, 17.5, 1.0019, NULL, NULL),
-	(3514, 918.5, 17.75, 1.0017, NULL, NULL),
-	(3515, 918.5, 18, 1.0015, NULL, NULL),
-	(3516, 918.5, 18.25, 1.0013, NULL, NULL),
-	(3517, 918.5, 18.5, 1.0011, NULL, NULL),
-	(3518, 918.5, 18.75, 1.0009, NULL, NULL),
-	(3519, 918.5, 19, 1.0008, NULL, NULL),
-	(3520, 918.5, 19.25, 1.0006, NULL, NULL),
-	(3521, 918.5, 19.5, 1.0004, NULL, NULL),
-	(3522, 918.5, 19.75, 1.0002, NULL, NULL),
-	(3523, 918.5, 20, 1, NULL, NULL),
-	(3524, 918.5, 20.25, 0.9998, NULL, NULL),
-	(3525, 918.5, 20.5, 0.9996, NULL, NULL),
-	(3526, 918.5, 20.75, 0.9994, NULL, NULL),
-	(3527, 918.5, 21, 0.9992, NULL, NULL),
-	(3528, 918.5, 21.25, 0.9991, NULL, NULL),
-	(3529, 918.5, 21.5, 0.9989, NULL, NULL),
-	(3530, 918.5, 21.75, 0.9987, NULL, NULL),
-	(3531, 918.5, 22, 0.9985, NULL, NULL),
-	(3532, 918.5, 22.25, 0.9983, NULL, NULL),
-	(3533, 918.5, 22.5, 0.9981, NULL, NULL),
-	(3534, 918.5, 22.75, 0.9979, NULL, NULL),
-	(3535, 918.5, 23, 0.9977, NULL, NULL),
-	(3536, 918.5, 23.25, 0.9976, NULL, NULL),
-	(3537, 918.5, 23.5, 0.9974, NULL, NULL),
-	(3538, 918.5, 23.75, 0.9972, NULL, NULL),
-	(3539, 918.5, 24, 0.997, NULL, NULL),
-	(3540, 918.5, 24.25, 0.9968, NULL, NULL),
-	(3541, 918.5, 24.5, 0.9966, NULL, NULL),
-	(3542, 918.5, 24.75, 0.9964, NULL, NULL),
-	(3543, 918.5, 25, 0.9962, NULL, NULL),
-	(3544, 918.5, 25.25, 0.996, NULL, NULL),
-	(3545, 918.5, 25.5, 0.9959, NULL, NULL),
-	(3546, 918.5, 25.75, 0.9957, NULL, NULL),
-	(3547, 918.5, 26, 0.9955, NULL, NULL),
-	(3548, 918.5, 26.25, 0.9953, NULL, NULL),
-	(3549, 918.5, 26.5, 0.9951, NULL, NULL),
-	(3550, 918.5, 26.75, 0.9949, NULL, NULL),
-	(3551, 918.5, 27, 0.9947, NULL, NULL),
-	(3552, 918.5, 27.25, 0.9945, NULL, NULL),
-	(3553, 918.5, 27.5, 0.9944, NULL, NULL),
-	(3554, 918.5, 27.75, 0.9942, NULL, NULL),
-	(3555, 918.5, 28, 0.994, NULL, NULL),
-	(3556, 918.5, 28.25, 0.9938, NULL, NULL),
-	(3557, 918.5, 28.5, 0.9936, NULL, NULL),
-	(3558, 918.5, 28.75, 0.9934, NULL, NULL),
-	(3559, 918.5, 29, 0.9932, NULL, NULL),
-	(3560, 918.5, 29.25, 0.993, NULL, NULL),
-	(3561, 918.5, 29.5, 0.9928, NULL, NULL),
-	(3562, 918.5, 29.75, 0.9927, NULL, NULL),
-	(3563, 918.5, 30, 0.9925, NULL, NULL),
-	(3564, 918.5, 30.25, 0.9923, NULL, NULL),
-	(3565, 918.5, 30.5, 0.9921, NULL, NULL),
-	(3566, 918.5, 30.75, 0.9919, NULL, NULL),
-	(3567, 918.5, 31, 0.9917, NULL, NULL),
-	(3568, 918.5, 31.25, 0.9915, NULL, NULL),
-	(3569, 918.5, 31.5, 0.9913, NULL, NULL),
-	(3570, 918.5, 31.75, 0.9911, NULL, NULL),
-	(3571, 918.5, 32, 0.991, NULL, NULL),
-	(3572, 918.5, 32.25, 0.9908, NULL, NULL),
-	(3573, 918.5, 32.5, 0.9906, NULL, NULL),
-	(3574, 918.5, 32.75, 0.9904, NULL, NULL),
-	(3575, 918.5, 33, 0.9902, NULL, NULL),
-	(3576, 918.5, 33.25, 0.99, NULL, NULL),
-	(3577, 918.5, 33.5, 0.9898, NULL, NULL),
-	(3578, 918.5, 33.75, 0.9896, NULL, NULL),
-	(3579, 918.5, 34, 0.9894, NULL, NULL),
-	(3580, 918.5, 34.25, 0.9893, NULL, NULL),
-	(3581, 918.5, 34.5, 0.9891, NULL, NULL),
-	(3582, 918.5, 34.75, 0.9889, NULL, NULL),
-	(3583, 918.5, 35, 0.9887, NULL, NULL),
-	(3584, 918.5, 35.25, 0.9885, NULL, NULL),
-	(3585, 918.5, 35.5, 0.9883, NULL, NULL),
-	(3586, 918.5, 35.75, 0.9881, NULL, NULL),
-	(3587, 918.5, 36, 0.9879, NULL, NULL),
-	(3588, 918.5, 36.25, 0.9877, NULL, NULL),
-	(3589, 918.5, 36.5, 0.9876, NULL, NULL),
-	(3590, 918.5, 36.75, 0.9874, NULL, NULL),
-	(3591, 918.5, 37, 0.9872, NULL, NULL),
-	(3592, 918.5, 37.25, 0.987, NULL, NULL),
-	(3593, 918.5, 37.5, 0.9868, NULL, NULL),
-	(3594, 918.5, 37.75, 0.9866, NULL, NULL),
-	(3595, 918.5, 38, 0.9864, NULL, NULL),
-	(3596, 918.5, 38.25, 0.9862, NULL, NULL),
-	(3597, 918.5, 38.5, 0.986, NULL, NULL),
-	(3598, 918.5, 38.75, 0.9858, NULL, NULL),
-	(3599, 918.5, 39, 0.9857, NULL, NULL),
-	(3600, 918.5, 39.25, 0.9855, NULL, NULL),
-	(3601, 918.5, 39.5, 0.9853, NULL, NULL),
-	(3602, 918.5, 39.75, 0.9851, NULL, NULL),
-	(3603, 918.5, 40, 0.9849, NULL, NULL),
-	(3604, 918.5, 40.25, 0.9847, NULL, NULL),
-	(3605, 918.5, 40.5, 0.9845, NULL, NULL),
-	(3606, 918.5, 40.75, 0.9843, NULL, NULL),
-	(3607, 918.5, 41, 0.9841, NULL, NULL),
-	(3608, 918.5, 41.25, 0.984, NULL, NULL),
-	(3609, 918.5, 41.5, 0.9838, NULL, NULL),
-	(3610, 918.5, 41.75, 0.9836, NULL, NULL),
-	(3611, 918.5, 42, 0.9834, NULL, NULL),
-	(3612, 918.5, 42.25, 0.9832, NULL, NULL),
-	(3613, 918.5, 42.5, 0.983, NULL, NULL),
-	(3614, 918.5, 42.75, 0.9828, NULL, NULL),
-	(3615, 918.5, 43, 0.9826, NULL, NULL),
-	(3616, 918.5, 43.25, 0.9824, NULL, NULL),
-	(3617, 918.5, 43.5, 0.9822, NULL, NULL),
-	(3618, 918.5, 43.75, 0.9821, NULL, NULL),
-	(3619, 918.5, 44, 0.9819, NULL, NULL),
-	(3620, 918.5, 44.25, 0.9817, NULL, NULL),
-	(3621, 918.5, 44.5, 0.9815, NULL, NULL),
-	(3622, 918.5, 44.75, 0.9813, NULL, NULL),
-	(3623, 918.5, 45, 0.9811, NULL, NULL),
-	(3624, 918.5, 45.25, 0.9809, NULL, NULL),
-	(3625, 918.5, 45.5, 0.9807, NULL, NULL),
-	(3626, 918.5, 45.75, 0.9805, NULL, NULL),
-	(3627, 918.5, 46, 0.9803, NULL, NULL),
-	(3628, 918.5, 46.25, 0.9802, NULL, NULL),
-	(3629, 918.5, 46.5, 0.98, NULL, NULL),
-	(3630, 918.5, 46.75, 0.9798, NULL, NULL),
-	(3631, 918.5, 47, 0.9796, NULL, NULL),
-	(3632, 918.5, 47.25, 0.9794, NULL, NULL),
-	(3633, 918.5, 47.5, 0.9792, NULL, NULL),
-	(3634, 918.5, 47.75, 0.979, NULL, NULL),
-	(3635, 918.5, 48, 0.9788, NULL, NULL),
-	(3636, 918.5, 48.25, 0.9786, NULL, NULL),
-	(3637, 918.5, 48.5, 0.9784, NULL, NULL),
-	(3638, 918.5, 48.75, 0.9783, NULL, NULL),
-	(3639, 918.5, 49, 0.9781, NULL, NULL),
-	(3640, 918.5, 49.25, 0.9779, NULL, NULL),
-	(3641, 918.5, 49.5, 0.9777, NULL, NULL),
-	(3642, 918.5, 49.75, 0.9775, NULL, NULL),
-	(3643, 918.5, 50, 0.9773, NULL, NULL),
-	(3644, 919, 15, 1.0038, NULL, NULL),
-	(3645, 919, 15.25, 1.0036, NULL, NULL),
-	(3646, 919, 15.5, 1.0034, NULL, NULL),
-	(3647, 919, 15.75, 1.0032, NULL, NULL),
-	(3648, 919, 16, 1.003, NULL, NULL),
-	(3649, 919, 16.25, 1.0028, NULL, NULL),
-	(3650, 919, 16.5, 1.0026, NULL, NULL),
-	(3651, 919, 16.75, 1.0024, NULL, NULL),
-	(3652, 919, 17, 1.0023, NULL, NULL),
-	(3653, 919, 17.25, 1.0021, NULL, NULL),
-	(3654, 919, 17.5, 1.0019, NULL, NULL),
-	(3655, 919, 17.75, 1.0017, NULL, NULL),
-	(3656, 919, 18, 1.0015, NULL, NULL),
-	(3657, 919, 18.25, 1.0013, NULL, NULL),
-	(3658, 919, 18.5, 1.0011, NULL, NULL),
-	(3659, 919, 18.75, 1.0009, NULL, NULL),
-	(3660, 919, 19, 1.0008, NULL, NULL),
-	(3661, 919, 19.25, 1.0006, NULL, NULL),
-	(3662, 919, 19.5, 1.0004, NULL, NULL),
-	(3663, 919, 19.75, 1.0002, NULL, NULL),
-	(3664, 919, 20, 1, NULL, NULL),
-	(3665, 919, 20.25, 0.9998, NULL, NULL),
-	(3666, 919, 20.5, 0.9996, NULL, NULL),
-	(3667, 919, 20.75, 0.9994, NULL, NULL),
-	(3668, 919, 21, 0.9992, NULL, NULL),
-	(3669, 919, 21.25, 0.9991, NULL, NULL),
-	(3670, 919, 21.5, 0.9989, NULL, NULL),
-	(3671, 919, 21.75, 0.9987, NULL, NULL),
-	(3672, 919, 22, 0.9985, NULL, NULL),
-	(3673, 919, 22.25, 0.9983, NULL, NULL),
-	(3674, 919, 22.5, 0.9981, NULL, NULL),
-	(3675, 919, 22.75, 0.9979, NULL, NULL),
-	(3676, 919, 23, 0.9977, NULL, NULL),
-	(3677, 919, 23.25, 0.9976, NULL, NULL),
-	(3678, 919, 23.5, 0.9974, NULL, NULL),
-	(3679, 919, 23.75, 0.9972, NULL, NULL),
-	(3680, 919, 24, 0.997, NULL, NULL),
-	(3681, 919, 24.25, 0.9968, NULL, NULL),
-	(3682, 919, 24.5, 0.9966, NULL, NULL),
-	(3683, 919, 24.75, 0.9964, NULL, NULL),
-	(3684, 919, 25, 0.9962, NULL, NULL),
-	(3685, 919, 25.25, 0.9961, NULL, NULL),
-	(3686, 919, 25.5, 0.9959, NULL, NULL),
-	(3687, 919, 25.75, 0.9957, NULL, NULL),
-	(3688, 919, 26, 0.9955, NULL, NULL),
-	(3689, 919, 26.25, 0.9953, NULL, NULL),
-	(3690, 919, 26.5, 0.9951, NULL, NULL),
-	(3691, 919, 26.75, 0.9949, NULL, NULL),
-	(3692, 919, 27, 0.9947, NULL, NULL),
-	(3693, 919, 27.25, 0.9945, NULL, NULL),
-	(3694, 919, 27.5, 0.9944, NULL, NULL),
-	(3695, 919, 27.75, 0.9942, NULL, NULL),
-	(3696, 919, 28, 0.994, NULL, NULL),
-	(3697, 919, 28.25, 0.9938, NULL, NULL),
-	(3698, 919, 28.5, 0.9936, NULL, NULL),
-	(3699, 919, 28.75, 0.9934, NULL, NULL),
-	(3700, 919, 29, 0.9932, NULL, NULL),
-	(3701, 919, 29.25, 0.993, NULL, NULL),
-	(3702, 919, 29.5, 0.9928, NULL, NULL),
-	(3703, 919, 29.75, 0.9927, NULL, NULL),
-	(3704, 919, 30, 0.9925, NULL, NULL),
-	(3705, 919, 30.25, 0.9923, NULL, NULL),
-	(3706, 919, 30.5, 0.9921, NULL, NULL),
-	(3707, 919, 30.75, 0.9919, NULL, NULL),
-	(3708, 919, 31, 0.9917, NULL, NULL),
-	(3709, 919, 31.25, 0.9915, NULL, NULL),
-	(3710, 919, 31.5, 0.9913, NULL, NULL),
-	(3711, 919, 31.75, 0.9911, NULL, NULL),
-	(3712, 919, 32, 0.991, NULL, NULL),
-	(3713, 919, 32.25, 0.9908, NULL, NULL),
-	(3714, 919, 32.5, 0.9906, NULL, NULL),
-	(3715, 919, 32.75, 0.9904, NULL, NULL),
-	(3716, 919, 33, 0.9902, NULL, NULL),
-	(3717, 919, 33.25, 0.99, NULL, NULL),
-	(3718, 919, 33.5, 0.9898, NULL, NULL),
-	(3719, 919, 33.75, 0.9896, NULL, NULL),
-	(3720, 919, 34, 0.9894, NULL, NULL),
-	(3721, 919, 34.25, 0.9893, NULL, NULL),
-	(3722, 919, 34.5, 0.9891, NULL, NULL),
-	(3723, 919, 34.75, 0.9889, NULL, NULL),
-	(3724, 919, 35, 0.9887, NULL, NULL),
-	(3725, 919, 35.25, 0.9885, NULL, NULL),
-	(3726, 919, 35.5, 0.9883, NULL, NULL),
-	(3727, 919, 35.75, 0.9881, NULL, NULL),
-	(3728, 919, 36, 0.9879, NULL, NULL),
-	(3729, 919, 36.25, 0.9877, NULL, NULL),
-	(3730, 919, 36.5, 0.9876, NULL, NULL),
-	(3731, 919, 36.75, 0.9874, NULL, NULL),
-	(3732, 919, 37, 0.9872, NULL, NULL),
-	(3733, 919, 37.25, 0.987, NULL, NULL),
-	(3734, 919, 37.5, 0.9868, NULL, NULL),
-	(3735, 919, 37.75, 0.9866, NULL, NULL),
-	(3736, 919, 38, 0.9864, NULL, NULL),
-	(3737, 919, 38.25, 0.9862, NULL, NULL),
-	(3738, 919, 38.5, 0.986, NULL, NULL),
-	(3739, 919, 38.75, 0.9859, NULL, NULL),
-	(3740, 919, 39, 0.9857, NULL, NULL),
-	(3741, 919, 39.25, 0.9855, NULL, NULL),
-	(3742, 919, 39.5, 0.9853, NULL, NULL),
-	(3743, 919, 39.75, 0.9851, NULL, NULL),
-	(3744, 919, 40, 0.9849, NULL, NULL),
-	(3745, 919, 40.25, 0.9847, NULL, NULL),
-	(3746, 919, 40.5, 0.9845, NULL, NULL),
-	(3747, 919, 40.75, 0.9843, NULL, NULL),
-	(3748, 919, 41, 0.9842, NULL, NULL),
-	(3749, 919, 41.25, 0.984, NULL, NULL),
-	(3750, 919, 41.5, 0.9838, NULL, NULL),
-	(3751, 919, 41.75, 0.9836, NULL, NULL),
-	(3752, 919, 42, 0.9834, NULL, NULL),
-	(3753, 919, 42.25, 0.9832, NULL, NULL),
-	(3754, 919, 42.5, 0.983, NULL, NULL),
-	(3755, 919, 42.75, 0.9828, NULL, NULL),
-	(3756, 919, 43, 0.9826, NULL, NULL),
-	(3757, 919, 43.25, 0.9824, NULL, NULL),
-	(3758, 919, 43.5, 0.9823, NULL, NULL),
-	(3759, 919, 43.75, 0.9821, NULL, NULL),
-	(3760, 919, 44, 0.9819, NULL, NULL),
-	(3761, 919, 44.25, 0.9817, NULL, NULL),
-	(3762, 919, 44.5, 0.9815, NULL, NULL),
-	(3763, 919, 44.75, 0.9813, NULL, NULL),
-	(3764, 919, 45, 0.9811, NULL, NULL),
-	(3765, 919, 45.25, 0.9809, NULL, NULL),
-	(3766, 919, 45.5, 0.9807, NULL, NULL),
-	(3767, 919, 45.75, 0.9805, NULL, NULL),
-	(3768, 919, 46, 0.9804, NULL, NULL),
-	(3769, 919, 46.25, 0.9802, NULL, NULL),
-	(3770, 919, 46.5, 0.98, NULL, NULL),
-	(3771, 919, 46.75, 0.9798, NULL, NULL),
-	(3772, 919, 47, 0.9796, NULL, NULL),
-	(3773, 919, 47.25, 0.9794, NULL, NULL),
-	(3774, 919, 47.5, 0.9792, NULL, NULL),
-	(3775, 919, 47.75, 0.979, NULL, NULL),
-	(3776, 919, 48, 0.9788, NULL, NULL),
-	(3777, 919, 48.25, 0.9786, NULL, NULL),
-	(3778, 919, 48.5, 0.9785, NULL, NULL),
-	(3779, 919, 48.75, 0.9783, NULL, NULL),
-	(3780, 919, 49, 0.9781, NULL, NULL),
-	(3781, 919, 49.25, 0.9779, NULL, NULL),
-	(3782, 919, 49.5, 0.9777, NULL, NULL),
-	(3783, 919, 49.75, 0.9775, NULL, NULL),
-	(3784, 919, 50, 0.9773, NULL, NULL),
-	(3785, 919.5, 15, 1.0037, NULL, NULL),
-	(3786, 919.5, 15.25, 1.0036, NULL, NULL),
-	(3787, 919.5, 15.5, 1.0034, NULL, NULL),
-	(3788, 919.5, 15.75, 1.0032, NULL, NULL),
-	(3789, 919.5, 16, 1.003, NULL, NULL),
-	(3790, 919.5, 16.25, 1.0028, NULL, NULL),
-	(3791, 919.5, 16.5, 1.0026, NULL, NULL),
-	(3792, 919.5, 16.75, 1.0024, NULL, NULL),
-	(3793, 919.5, 17, 1.0023, NULL, NULL),
-	(3794, 919.5, 17.25, 1.0021, NULL, NULL),
-	(3795, 919.5, 17.5, 1.0019, NULL, NULL),
-	(3796, 919.5, 17.75, 1.0017, NULL, NULL),
-	(3797, 919.5, 18, 1.0015, NULL, NULL),
-	(3798, 919.5, 18.25, 1.0013, NULL, NULL),
-	(3799, 919.5, 18.5, 1.0011, NULL, NULL),
-	(3800, 919.5, 18.75, 1.0009, NULL, NULL),
-	(3801, 919.5, 19, 1.0008, NULL, NULL),
-	(3802, 919.5, 19.25, 1.0006, NULL, NULL),
-	(3803, 919.5, 19.5, 1.0004, NULL, NULL),
-	(3804, 919.5, 19.75, 1.0002, NULL, NULL),
-	(3805, 919.5, 20, 1, NULL, NULL),
-	(3806, 919.5, 20.25, 0.9998, NULL, NULL),
-	(3807, 919.5, 20.5, 0.9996, NULL, NULL),
-	(3808, 919.5, 20.75, 0.9994, NULL, NULL),
-	(3809, 919.5, 21, 0.9992, NULL, NULL),
-	(3810, 919.5, 21.25, 0.9991, NULL, NULL),
-	(3811, 919.5, 21.5, 0.9989, NULL, NULL),
-	(3812, 919.5, 21.75, 0.9987, NULL, NULL),
-	(3813, 919.5, 22, 0.9985, NULL, NULL),
-	(3814, 919.5, 22.25, 0.9983, NULL, NULL),
-	(3815, 919.5, 22.5, 0.9981, NULL, NULL),
-	(3816, 919.5, 22.75, 0.9979, NULL, NULL),
-	(3817, 919.5, 23, 0.9977, NULL, NULL),
-	(3818, 919.5, 23.25, 0.9976, NULL, NULL),
-	(3819, 919.5, 23.5, 0.9974, NULL, NULL),
-	(3820, 919.5, 23.75, 0.9972, NULL, NULL),
-	(3821, 919.5, 24, 0.997, NULL, NULL),
-	(3822, 919.5, 24.25, 0.9968, NULL, NULL),
-	(3823, 919.5, 24.5, 0.9966, NULL, NULL),
-	(3824, 919.5, 24.75, 0.9964, NULL, NULL),
-	(3825, 919.5, 25, 0.9962, NULL, NULL),
-	(3826, 919.5, 25.25, 0.9961, NULL, NULL),
-	(3827, 919.5, 25.5, 0.9959, NULL, NULL),
-	(3828, 919.5, 25.75, 0.9957, NULL, NULL),
-	(3829, 919.5, 26, 0.9955, NULL, NULL),
-	(3830, 919.5, 26.25, 0.9953, NULL, NULL),
-	(3831, 919.5, 26.5, 0.9951, NULL, NULL),
-	(3832, 919.5, 26.75, 0.9949, NULL, NULL),
-	(3833, 919.5, 27, 0.9947, NULL, NULL),
-	(3834, 919.5, 27.25, 0.9945, NULL, NULL),
-	(3835, 919.5, 27.5, 0.9944, NULL, NULL),
-	(3836, 919.5, 27.75, 0.9942, NULL, NULL),
-	(3837, 919.5, 28, 0.994, NULL, NULL),
-	(3838, 919.5, 28.25, 0.9938, NULL, NULL),
-	(3839, 919.5, 28.5, 0.9936, NULL, NULL),
-	(3840, 919.5, 28.75, 0.9934, NULL, NULL),
-	(3841, 919.5, 29, 0.9932, NULL, NULL),
-	(3842, 919.5, 29.25, 0.993, NULL, NULL),
-	(3843, 919.5, 29.5, 0.9929, NULL, NULL),
-	(3844, 919.5, 29.75, 0.9927, NULL, NULL),
-	(3845, 919.5, 30, 0.9925, NULL, NULL),
-	(3846, 919.5, 30.25, 0.9923, NULL, NULL),
-	(3847, 919.5, 30.5, 0.9921, NULL, NULL),
-	(3848, 919.5, 30.75, 0.9919, NULL, NULL),
-	(3849, 919.5, 31, 0.9917, NULL, NULL),
-	(3850, 919.5, 31.25, 0.9915, NULL, NULL),
-	(3851, 919.5, 31.5, 0.9913, NULL, NULL),
-	(3852, 919.5, 31.75, 0.9912, NULL, NULL),
-	(3853, 919.5, 32, 0.991, NULL, NULL),
-	(3854, 919.5, 32.25, 0.9908, NULL, NULL),
-	(3855, 919.5, 32.5, 0.9906, NULL, NULL),
-	(3856, 919.5, 32.75, 0.9904, NULL, NULL),
-	(3857, 919.5, 33, 0.9902, NULL, NULL),
-	(3858, 919.5, 33.25, 0.99, NULL, NULL),
-	(3859, 919.5, 33.5, 0.9898, NULL, NULL),
-	(3860, 919.5, 33.75, 0.9896, NULL, NULL),
-	(3861, 919.5, 34, 0.9895, NULL, NULL),
-	(3862, 919.5, 34.25, 0.9893, NULL, NULL),
-	(3863, 919.5, 34.5, 0.9891, NULL, NULL),
-	(3864, 919.5, 34.75, 0.9889, NULL, NULL),
-	(3865, 919.5, 35, 0.9887, NULL, NULL),
-	(3866, 919.5, 35.25, 0.9885, NULL, NULL),
-	(3867, 919.5, 35.5, 0.9883, NULL, NULL),
-	(3868, 919.5, 35.75, 0.9881, NULL, NULL),
-	(3869, 919.5, 36, 0.9879, NULL, NULL),
-	(3870, 919.5, 36.25, 0.9878, NULL, NULL),
-	(3871, 919.5, 36.5, 0.9876, NULL, NULL),
-	(3872, 919.5, 36.75, 0.9874, NULL, NULL),
-	(3873, 919.5, 37, 0.9872, NULL, NULL),
-	(3874, 919.5, 37.25, 0.987, NULL, NULL),
-	(3875, 919.5, 37.5, 0.9868, NULL, NULL),
-	(3876, 919.5, 37.75, 0.9866, NULL, NULL),
-	(3877, 919.5, 38, 0.9864, NULL, NULL),
-	(3878, 919.5, 38.25, 0.9862, NULL, NULL),
-	(3879, 919.5, 38.5, 0.9861, NULL, NULL),
-	(3880, 919.5, 38.75, 0.9859, NULL, NULL),
-	(3881, 919.5, 39, 0.9857, NULL, NULL),
-	(3882, 919.5, 39.25, 0.9855, NULL, NULL),
-	(3883, 919.5, 39.5, 0.9853, NULL, NULL),
-	(3884, 919.5, 39.75, 0.9851, NULL, NULL),
-	(3885, 919.5, 40, 0.9849, NULL, NULL),
-	(3886, 919.5, 40.25, 0.9847, NULL, NULL),
-	(3887, 919.5, 40.5, 0.9845, NULL, NULL),
-	(3888, 919.5, 40.75, 0.9844, NULL, NULL),
-	(3889, 919.5, 41, 0.9842, NULL, NULL),
-	(3890, 919.5, 41.25, 0.984, NULL, NULL),
-	(3891, 919.5, 41.5, 0.9838, NULL, NULL),
-	(3892, 919.5, 41.75, 0.9836, NULL, NULL),
-	(3893, 919.5, 42, 0.9834, NULL, NULL),
-	(3894, 919.5, 42.25, 0.9832, NULL, NULL),
-	(3895, 919.5, 42.5, 0.983, NULL, NULL),
-	(3896, 919.5, 42.75, 0.9828, NULL, NULL),
-	(3897, 919.5, 43, 0.9826, NULL, NULL),
-	(3898, 919.5, 43.25, 0.9825, NULL, NULL),
-	(3899, 919.5, 43.5, 0.9823, NULL, NULL),
-	(3900, 919.5, 43.75, 0.9821, NULL, NULL),
-	(3901, 919.5, 44, 0.9819, NULL, NULL),
-	(3902, 919.5, 44.25, 0.9817, NULL, NULL),
-	(3903, 919.5, 44.5, 0.9815, NULL, NULL),
-	(3904, 919.5, 44.75, 0.9813, NULL, NULL),
-	(3905, 919.5, 45, 0.9811, NULL, NULL),
-	(3906, 919.5, 45.25, 0.9809, NULL, NULL),
-	(3907, 919.5, 45.5, 0.9808, NULL, NULL),
-	(3908, 919.5, 45.75, 0.9806, NULL, NULL),
-	(3909, 919.5, 46, 0.9804, NULL, NULL),
-	(3910, 919.5, 46.25, 0.9802, NULL, NULL),
-	(3911, 919.5, 46.5, 0.98, NULL, NULL),
-	(3912, 919.5, 46.75, 0.9798, NULL, NULL),
-	(3913, 919.5, 47, 0.9796, NULL, NULL),
-	(3914, 919.5, 47.25, 0.9794, NULL, NULL),
-	(3915, 919.5, 47.5, 0.9792, NULL, NULL),
-	(3916, 919.5, 47.75, 0.979, NULL, NULL),
-	(3917, 919.5, 48, 0.9789, NULL, NULL),
-	(3918, 919.5, 48.25, 0.9787, NULL, NULL),
-	(3919, 919.5, 48.5, 0.9785, NULL, NULL),
-	(3920, 919.5, 48.75, 0.9783, NULL, NULL),
-	(3921, 919.5, 49, 0.9781, NULL, NULL),
-	(3922, 919.5, 49.25, 0.9779, NULL, NULL),
-	(3923, 919.5, 49.5, 0.9777, NULL, NULL),
-	(3924, 919.5, 49.75, 0.9775, NULL, NULL),
-	(3925, 919.5, 50, 0.9773, NULL, NULL),
-	(3926, 920, 15, 1.0037, NULL, NULL),
-	(3927, 920, 15.25, 1.0036, NULL, NULL),
-	(3928, 920, 15.5, 1.0034, NULL, NULL),
-	(3929, 920, 15.75, 1.0032, NULL, NULL),
-	(3930, 920, 16, 1.003, NULL, NULL),
-	(3931, 920, 16.25, 1.0028, NULL, NULL),
-	(3932, 920, 16.5, 1.0026, NULL, NULL),
-	(3933, 920, 16.75, 1.0024, NULL, NULL),
-	(3934, 920, 17, 1.0022, NULL, NULL),
-	(3935, 920, 17.25, 1.0021, NULL, NULL),
-	(3936, 920, 17.5, 1.0019, NULL, NULL),
-	(3937, 920, 17.75, 1.0017, NULL, NULL),
-	(3938, 920, 18, 1.0015, NULL, NULL),
-	(3939, 920, 18.25, 1.0013, NULL, NULL),
-	(3940, 920, 18.5, 1.0011, NULL, NULL),
-	(3941, 920, 18.75, 1.0009, NULL, NULL),
-	(3942, 920, 19, 1.0008, NULL, NULL),
-	(3943, 920, 19.25, 1.0006, NULL, NULL),
-	(3944, 920, 19.5, 1.0004, NULL, NULL),
-	(3945, 920, 19.75, 1.0002, NULL, NULL),
-	(3946, 920, 20, 1, NULL, NULL),
-	(3947, 920, 20.25, 0.9998, NULL, NULL),
-	(3948, 920, 20.5, 0.9996, NULL, NULL),
-	(3949, 920, 20.75, 0.9994, NULL, NULL),
-	(3950, 920, 21, 0.9992, NULL, NULL),
-	(3951, 920, 21.25, 0.9991, NULL, NULL),
-	(3952, 920, 21.5, 0.9989, NULL, NULL),
-	(3953, 920, 21.75, 0.9987, NULL, NULL),
-	(3954, 920, 22, 0.9985, NULL, NULL),
-	(3955, 920, 22.25, 0.9983, NULL, NULL),
-	(3956, 920, 22.5, 0.9981, NULL, NULL),
-	(3957, 920, 22.75, 0.9979, NULL, NULL),
-	(3958, 920, 23, 0.9977, NULL, NULL),
-	(3959, 920, 23.25, 0.9976, NULL, NULL),
-	(3960, 920, 23.5, 0.9974, NULL, NULL),
-	(3961, 920, 23.75, 0.9972, NULL, NULL),
-	(3962, 920, 24, 0.997, NULL, NULL),
-	(3963, 920, 24.25, 0.9968, NULL, NULL),
-	(3964, 920, 24.5, 0.9966, NULL, NULL),
-	(3965, 920, 24.75, 0.9964, NULL, NULL),
-	(3966, 920, 25, 0.9962, NULL, NULL),
-	(3967, 920, 25.25, 0.9961, NULL, NULL),
-	(3968, 920, 25.5, 0.9959, NULL, NULL),
-	(3969, 920, 25.75, 0.9957, NULL, NULL),
-	(3970, 920, 26, 0.9955, NULL, NULL),
-	(3971, 920, 26.25, 0.9953, NULL, NULL),
-	(3972, 920, 26.5, 0.9951, NULL, NULL),
-	(3973, 920, 26.75, 0.9949, NULL, NULL),
-	(3974, 920, 27, 0.9947, NULL, NULL),
-	(3975, 920, 27.25, 0.9946, NULL, NULL),
-	(3976, 920, 27.5, 0.9944, NULL, NULL),
-	(3977, 920, 27.75, 0.9942, NULL, NULL),
-	(3978, 920, 28, 0.994, NULL, NULL),
-	(3979, 920, 28.25, 0.9938, NULL, NULL),
-	(3980, 920, 28.5, 0.9936, NULL, NULL),
-	(3981, 920, 28.75, 0.9934, NULL, NULL),
-	(3982, 920, 29, 0.9932, NULL, NULL),
-	(3983, 920, 29.25, 0.993, NULL, NULL),
-	(3984, 920, 29.5, 0.9929, NULL, NULL),
-	(3985, 920, 29.75, 0.9927, NULL, NULL),
-	(3986, 920, 30, 0.9925, NULL, NULL),
-	(3987, 920, 30.25, 0.9923, NULL, NULL),
-	(3988, 920, 30.5, 0.9921, NULL, NULL),
-	(3989, 920, 30.75, 0.9919, NULL, NULL),
-	(3990, 920, 31, 0.9917, NULL, NULL),
-	(3991, 920, 31.25, 0.9915, NULL, NULL),
-	(3992, 920, 31.5, 0.9914, NULL, NULL),
-	(3993, 920, 31.75, 0.9912, NULL, NULL),
-	(3994, 920, 32, 0.991, NULL, NULL),
-	(3995, 920, 32.5, 0.9906, NULL, NULL),
-	(3996, 920, 32.75, 0.9904, NULL, NULL),
-	(3997, 920, 33, 0.9902, NULL, NULL),
-	(3998, 920, 33.5, 0.9898, NULL, NULL),
-	(3999, 920, 33.75, 0.9897, NULL, NULL),
-	(4000, 920, 34, 0.9895, NULL, NULL),
-	(4001, 920, 34.25, 0.9893, NULL, NULL),
-	(4002, 920, 34.5, 0.9891, NULL, NULL),
-	(4003, 920, 34.75, 0.9889, NULL, NULL),
-	(4004, 920, 35, 0.9887, NULL, NULL),
-	(4005, 920, 35.25, 0.9885, NULL, NULL),
-	(4006, 920, 35.5, 0.9883, NULL, NULL),
-	(4007, 920, 35.75, 0.9881, NULL, NULL),
-	(4008, 920, 36, 0.988, NULL, NULL),
-	(4009, 920, 36.25, 0.9878, NULL, NULL),
-	(4010, 920, 36.5, 0.9876, NULL, NULL),
-	(4011, 920, 36.75, 0.9874, NULL, NULL),
-	(4012, 920, 37, 0.9872, NULL, NULL),
-	(4013, 920, 37.25, 0.987, NULL, NULL),
-	(4014, 920, 37.5, 0.9868, NULL, NULL),
-	(4015, 920, 37.75, 0.9866, NULL, NULL),
-	(4016, 920, 38, 0.9864, NULL, NULL),
-	(4017, 920, 38.25, 0.9863, NULL, NULL),
-	(4018, 920, 38.5, 0.9861, NULL, NULL),
-	(4019, 920, 38.75, 0.9859, NULL, NULL),
-	(4020, 920, 39, 0.9857, NULL, NULL),
-	(4021, 920, 39.25, 0.9855, NULL, NULL),
-	(4022, 920, 39.5, 0.9853, NULL, NULL),
-	(4023, 920, 39.75, 0.9851, NULL, NULL),
-	(4024, 920, 40, 0.9849, NULL, NULL),
-	(4025, 920, 40.25, 0.9847, NULL, NULL),
-	(4026, 920, 40.5, 0.9846, NULL, NULL),
-	(4027, 920, 40.75, 0.9844, NULL, NULL),
-	(4028, 920, 41, 0.9842, NULL, NULL),
-	(4029, 920, 41.25, 0.984, NULL, NULL),
-	(4030, 920, 41.5, 0.9838, NULL, NULL),
-	(4031, 920, 41.75, 0.9836, NULL, NULL),
-	(4032, 920, 42, 0.9834, NULL, NULL),
-	(4033, 920, 42.25, 0.9832, NULL, NULL),
-	(4034, 920, 42.5, 0.983, NULL, NULL),
-	(4035, 920, 42.75, 0.9829, NULL, NULL),
-	(4036, 920, 43, 0.9827, NULL, NULL),
-	(4037, 920, 43.25, 0.9825, NULL, NULL),
-	(4038, 920, 43.5, 0.9823, NULL, NULL),
-	(4039, 920, 43.75, 0.9821, NULL, NULL),
-	(4040, 920, 44, 0.9819, NULL, NULL),
-	(4041, 920, 44.25, 0.9817, NULL, NULL),
-	(4042, 920, 44.5, 0.9815, NULL, NULL),
-	(4043, 920, 44.75, 0.9813, NULL, NULL),
-	(4044, 920, 45, 0.9811, NULL, NULL),
-	(4045, 920, 45.25, 0.981, NULL, NULL),
-	(4046, 920, 45.5, 0.9808, NULL, NULL),
-	(4047, 920, 45.75, 0.9806, NULL, NULL),
-	(4048, 920, 46, 0.9804, NULL, NULL),
-	(4049, 920, 46.25, 0.9802, NULL, NULL),
-	(4050, 920, 46.5, 0.98, NULL, NULL),
-	(4051, 920, 46.75, 0.9798, NULL, NULL),
-	(4052, 920, 47, 0.9796, NULL, NULL),
-	(4053, 920, 47.25, 0.9794, NULL, NULL),
-	(4054, 920, 47.5, 0.9792, NULL, NULL),
-	(4055, 920, 47.75, 0.9791, NULL, NULL),
-	(4056, 920, 48, 0.9789, NULL, NULL),
-	(4057, 920, 48.25, 0.9787, NULL, NULL),
-	(4058, 920, 48.5, 0.9785, NULL, NULL),
-	(4059, 920, 48.75, 0.9783, NULL, NULL),
-	(4060, 920, 49, 0.9781, NULL, NULL),
-	(4061, 920, 49.25, 0.9779, NULL, NULL),
-	(4062, 920, 49.5, 0.9777, NULL, NULL),
-	(4063, 920, 49.75, 0.9775, NULL, NULL),
-	(4064, 920, 50, 0.9774, NULL, NULL),
-	(4065, 920.5, 15, 1.0037, NULL, NULL),
-	(4066, 920.5, 15.25, 1.0036, NULL, NULL),
-	(4067, 920.5, 15.5, 1.0034, NULL, NULL),
-	(4068, 920.5, 15.75, 1.0032, NULL, NULL),
-	(4069, 920.5, 16, 1.003, NULL, NULL),
-	(4070, 920.5, 16.25, 1.0028, NULL, NULL),
-	(4071, 920.5, 16.5, 1.0026, NULL, NULL),
-	(4072, 920.5, 16.75, 1.0024, NULL, NULL),
-	(4073, 920.5, 17, 1.0022, NULL, NULL),
-	(4074, 920.5, 17.25, 1.0021, NULL, NULL),
-	(4075, 920.5, 17.5, 1.0019, NULL, NULL),
-	(4076, 920.5, 17.75, 1.0017, NULL, NULL),
-	(4077, 920.5, 18, 1.0015, NULL, NULL),
-	(4078, 920.5, 18.25, 1.0013, NULL, NULL),
-	(4079, 920.5, 18.5, 1.0011, NULL, NULL),
-	(4080, 920.5, 18.75, 1.0009, NULL, NULL),
-	(4081, 920.5, 19, 1.0007, NULL, NULL),
-	(4082, 920.5, 19.25, 1.0006, NULL, NULL),
-	(4083, 920.5, 19.5, 1.0004, NULL, NULL),
-	(4084, 920.5, 19.75, 1.0002, NULL, NULL),
-	(4085, 920.5, 20, 1, NULL, NULL),
-	(4086, 920.5, 20.25, 0.9998, NULL, NULL),
-	(4087, 920.5, 20.5, 0.9996, NULL, NULL),
-	(4088, 920.5, 20.75, 0.9994, NULL, NULL),
-	(4089, 920.5, 21, 0.9993, NULL, NULL),
-	(4090, 920.5, 21.25, 0.9991, NULL, NULL),
-	(4091, 920.5, 21.5, 0.9989, NULL, NULL),
-	(4092, 920.5, 21.75, 0.9987, NULL, NULL),
-	(4093, 920.5, 22, 0.9985, NULL, NULL),
-	(4094, 920.5, 22.25, 0.9983, NULL, NULL),
-	(4095, 920.5, 22.5, 0.9981, NULL, NULL),
-	(4096, 920.5, 22.75, 0.9979, NULL, NULL),
-	(4097, 920.5, 23, 0.9977, NULL, NULL),
-	(4098, 920.5, 23.25, 0.9976, NULL, NULL),
-	(4099, 920.5, 23.5, 0.9974, NULL, NULL),
-	(4100, 920.5, 23.75, 0.9972, NULL, NULL),
-	(4101, 920.5, 24, 0.997, NULL, NULL),
-	(4102, 920.5, 24.25, 0.9968, NULL, NULL),
-	(4103, 920.5, 24.5, 0.9966, NULL, NULL),
-	(4104, 920.5, 24.75, 0.9964, NULL, NULL),
-	(4105, 920.5, 25, 0.9962, NULL, NULL),
-	(4106, 920.5, 25.25, 0.9961, NULL, NULL),
-	(4107, 920.5, 25.5, 0.9959, NULL, NULL),
-	(4108, 920.5, 25.75, 0.9957, NULL, NULL),
-	(4109, 920.5, 26, 0.9955, NULL, NULL),
-	(4110, 920.5, 26.25, 0.9953, NULL, NULL),
-	(4111, 920.5, 26.5, 0.9951, NULL, NULL),
-	(4112, 920.5, 26.75, 0.9949, NULL, NULL),
-	(4113, 920.5, 27, 0.9947, NULL, NULL),
-	(4114, 920.5, 27.25, 0.9946, NULL, NULL),
-	(4115, 920.5, 27.5, 0.9944, NULL, NULL),
-	(4116, 920.5, 27.75, 0.9942, NULL, NULL),
-	(4117, 920.5, 28, 0.994, NULL, NULL),
-	(4118, 920.5, 28.25, 0.9938, NULL, NULL),
-	(4119, 920.5, 28.5, 0.9936, NULL, NULL),
-	(4120, 920.5, 28.75, 0.9934, NULL, NULL),
-	(4121, 920.5, 29, 0.9932, NULL, NULL),
-	(4122, 920.5, 29.25, 0.9931, NULL, NULL),
-	(4123, 920.5, 29.5, 0.9929, NULL, NULL),
-	(4124, 920.5, 29.75, 0.9927, NULL, NULL),
-	(4125, 920.5, 30, 0.9925, NULL, NULL),
-	(4126, 920.5, 30.25, 0.9923, NULL, NULL),
-	(4127, 920.5, 30.5, 0.9921, NULL, NULL),
-	(4128, 920.5, 30.75, 0.9919, NULL, NULL),
-	(4129, 920.5, 31, 0.9917, NULL, NULL),
-	(4130, 920.5, 31.25, 0.9915, NULL, NULL),
-	(4131, 920.5, 31.5, 0.9914, NULL, NULL),
-	(4132, 920.5, 31.75, 0.9912, NULL, NULL),
-	(4133, 920.5, 32, 0.991, NULL, NULL),
-	(4134, 920.5, 32.25, 0.9908, NULL, NULL),
-	(4135, 920.5, 32.5, 0.9906, NULL, NULL),
-	(4136, 920.5, 32.75, 0.9904, NULL, NULL),
-	(4137, 920.5, 33, 0.9902, NULL, NULL),
-	(4138, 920.5, 33.25, 0.99, NULL, NULL),
-	(4139, 920.5, 33.5, 0.9898, NULL, NULL),
-	(4140, 920.5, 33.75, 0.9897, NULL, NULL),
-	(4141, 920.5, 34, 0.9895, NULL, NULL),
-	(4142, 920.5, 34.25, 0.9893, NULL, NULL),
-	(4143, 920.5, 34.5, 0.9891, NULL, NULL),
-	(4144, 920.5, 34.75, 0.9889, NULL, NULL),
-	(4145, 920.5, 35, 0.9887, NULL, NULL),
-	(4146, 920.5, 35.25, 0.9885, NULL, NULL),
-	(4147, 920.5, 35.5, 0.9883, NULL, NULL),
-	(4148, 920.5, 35.75, 0.9882, NULL, NULL),
-	(4149, 920.5, 36, 0.984, NULL, NULL),
-	(4150, 920.5, 36.25, 0.9878, NULL, NULL),
-	(4151, 920.5, 36.5, 0.9876, NULL, NULL),
-	(4152, 920.5, 36.75, 0.9874, NULL, NULL),
-	(4153, 920.5, 37, 0.9872, NULL, NULL),
-	(4154, 920.5, 37.25, 0.987, NULL, NULL),
-	(4155, 920.5, 37.5, 0.9868, NULL, NULL),
-	(4156, 920.5, 37.75, 0.9866, NULL, NULL),
-	(4157, 920.5, 38, 0.9865, NULL, NULL),
-	(4158, 920.5, 38.25, 0.9863, NULL, NULL),
-	(4159, 920.5, 38.5, 0.9861, NULL, NULL),
-	(4160, 920.5, 38.75, 0.9859, NULL, NULL),
-	(4161, 920.5, 39, 0.9857, NULL, NULL),
-	(4162, 920.5, 39.25, 0.9855, NULL, NULL),
-	(4163, 920.5, 39.5, 0.9853, NULL, NULL),
-	(4164, 920.5, 39.75, 0.9851, NULL, NULL),
-	(4165, 920.5, 40, 0.9849, NULL, NULL),
-	(4166, 920.5, 40.25, 0.9848, NULL, NULL),
-	(4167, 920.5, 40.5, 0.9846, NULL, NULL),
-	(4168, 920.5, 40.75, 0.9844, NULL, NULL),
-	(4169, 920.5, 41, 0.9842, NULL, NULL),
-	(4170, 920.5, 41.25, 0.984, NULL, NULL),
-	(4171, 920.5, 41.5, 0.9838, NULL, NULL),
-	(4172, 920.5, 41.75, 0.9836, NULL, NULL),
-	(4173, 920.5, 42, 0.9834, NULL, NULL),
-	(4174, 920.5, 42.25, 0.9832, NULL, NULL),
-	(4175, 920.5, 42.5, 0.9831, NULL, NULL),
-	(4176, 920.5, 42.75, 0.9829, NULL, NULL),
-	(4177, 920.5, 43, 0.9827, NULL, NULL),
-	(4178, 920.5, 43.25, 0.9825, NULL, NULL),
-	(4179, 920.5, 43.5, 0.9823, NULL, NULL),
-	(4180, 920.5, 43.75, 0.9821, NULL, NULL),
-	(4181, 920.5, 44, 0.9819, NULL, NULL),
-	(4182, 920.5, 44.25, 0.9817, NULL, NULL),
-	(4183, 920.5, 44.5, 0.9815, NULL, NULL),
-	(4184, 920.5, 44.75, 0.9813, NULL, NULL),
-	(4185, 920.5, 45, 0.9812, NULL, NULL),
-	(4186, 920.5, 45.25, 0.981, NULL, NULL),
-	(4187, 920.5, 45.5, 0.9808, NULL, NULL),
-	(4188, 920.5, 45.75, 0.9806, NULL, NULL),
-	(4189, 920.5, 46, 0.9804, NULL, NULL),
-	(4190, 920.5, 46.25, 0.9802, NULL, NULL),
-	(4191, 920.5, 46.5, 0.98, NULL, NULL),
-	(4192, 920.5, 46.75, 0.9798, NULL, NULL),
-	(4193, 920.5, 47, 0.9796, NULL, NULL),
-	(4194, 920.5, 47.25, 0.9795, NULL, NULL),
-	(4195, 920.5, 47.5, 0.9793, NULL, NULL),
-	(4196, 920.5, 47.75, 0.9791, NULL, NULL),
-	(4197, 920.5, 48, 0.9789, NULL, NULL),
-	(4198, 920.5, 48.25, 0.9787, NULL, NULL),
-	(4199, 920.5, 48.5, 0.9785, NULL, NULL),
-	(4200, 920.5, 48.75, 0.9783, NULL, NULL),
-	(4201, 920.5, 49, 0.9781, NULL, NULL),
-	(4202, 920.5, 49.25, 0.9779, NULL, NULL),
-	(4203, 920.5, 49.5, 0.9777, NULL, NULL),
-	(4204, 920.5, 49.75, 0.9776, NULL, NULL),
-	(4205, 920.5, 50, 0.9774, NULL, NULL),
-	(4206, 921, 15, 1.0037, NULL, NULL),
-	(4207, 921, 15.25, 1.0036, NULL, NULL),
-	(4208, 921, 15.5, 1.0034, NULL, NULL),
-	(4209, 921, 15.75, 1.0032, NULL, NULL),
-	(4210, 921, 16, 1.003, NULL, NULL),
-	(4211, 921, 16.25, 1.0028, NULL, NULL),
-	(4212, 921, 16.5, 1.0026, NULL, NULL),
-	(4213, 921, 16.75, 1.0024, NULL, NULL),
-	(4214, 921, 17, 1.0022, NULL, NULL),
-	(4215, 921, 17.25, 1.0021, NULL, NULL),
-	(4216, 921, 17.5, 1.0019, NULL, NULL),
-	(4217, 921, 17.75, 1.0017, NULL, NULL),
-	(4218, 921, 18, 1.0015, NULL, NULL),
-	(4219, 921, 18.25, 1.0013, NULL, NULL),
-	(4220, 921, 18.5, 1.0011, NULL, NULL),
-	(4221, 921, 18.75, 1.0009, NULL, NULL),
-	(4222, 921, 19, 1.0007, NULL, NULL),
-	(4223, 921, 19.25, 1.0006, NULL, NULL),
-	(4224, 921, 19.5, 1.0004, NULL, NULL),
-	(4225, 921, 19.75, 1.0002, NULL, NULL),
-	(4226, 921, 20, 1, NULL, NULL),
-	(4227, 921, 20.25, 0.9998, NULL, NULL),
-	(4228, 921, 20.5, 0.9996, NULL, NULL),
-	(4229, 921, 20.75, 0.9994, NULL, NULL),
-	(4230, 921, 21, 0.9993, NULL, NULL),
-	(4231, 921, 21.25, 0.9991, NULL, NULL),
-	(4232, 921, 21.5, 0.9989, NULL, NULL),
-	(4233, 921, 21.75, 0.9987, NULL, NULL),
-	(4234, 921, 22, 0.9985, NULL, NULL),
-	(4235, 921, 22.25, 0.9983, NULL, NULL),
-	(4236, 921, 22.5, 0.9981, NULL, NULL),
-	(4237, 921, 22.75, 0.9979, NULL, NULL),
-	(4238, 921, 23, 0.9978, NULL, NULL),
-	(4239, 921, 23.25, 0.9976, NULL, NULL),
-	(4240, 921, 23.5, 0.9974, NULL, NULL),
-	(4241, 921, 23.75, 0.9972, NULL, NULL),
-	(4242, 921, 24, 0.997, NULL, NULL),
-	(4243, 921, 24.25, 0.9968, NULL, NULL),
-	(4244, 921, 24.5, 0.9966, NULL, NULL),
-	(4245, 921, 24.75, 0.9964, NULL, NULL),
-	(4246, 921, 25, 0.9962, NULL, NULL),
-	(4247, 921, 25.25, 0.9961, NULL, NULL),
-	(4248, 921, 25.5, 0.9959, NULL, NULL),
-	(4249, 921, 25.75, 0.9957, NULL, NULL),
-	(4250, 921, 26, 0.9955, NULL, NULL),
-	(4251, 921, 26.25, 0.9953, NULL, NULL),
-	(4252, 921, 26.5, 0.9951, NULL, NULL),
-	(4253, 921, 26.75, 0.9949, NULL, NULL),
-	(4254, 921, 27, 0.9947, NULL, NULL),
-	(4255, 921, 27.25, 0.9946, NULL, NULL),
-	(4256, 921, 27.5, 0.9944, NULL, NULL),
-	(4257, 921, 27.75, 0.9942, NULL, NULL),
-	(4258, 921, 28, 0.994, NULL, NULL),
-	(4259, 921, 28.25, 0.9938, NULL, NULL),
-	(4260, 921, 28.5, 0.9936, NULL, NULL),
-	(4261, 921, 28.75, 0.9934, NULL, NULL),
-	(4262, 921, 29, 0.9932, NULL, NULL),
-	(4263, 921, 29.25, 0.9931, NULL, NULL),
-	(4264, 921, 29.5, 0.9929, NULL, NULL),
-	(4265, 921, 29.75, 0.9927, NULL, NULL),
-	(4266, 921, 30, 0.9925, NULL, NULL),
-	(4267, 921, 30.25, 0.9923, NULL, NULL),
-	(4268, 921, 30.5, 0.9921, NULL, NULL),
-	(4269, 921, 30.75, 0.9919, NULL, NULL),
-	(4270, 921, 31, 0.9917, NULL, NULL),
-	(4271, 921, 31.25, 0.9916, NULL, NULL),
-	(4272, 921, 31.5, 0.9914, NULL, NULL),
-	(4273, 921, 31.75, 0.9912, NULL, NULL),
-	(4274, 921, 32, 0.991, NULL, NULL),
-	(4275, 921, 32.25, 0.9908, NULL, NULL),
-	(4276, 921, 32.5, 0.9906, NULL, NULL),
-	(4277, 921, 32.75, 0.9904, NULL, NULL),
-	(4278, 921, 33, 0.9902, NULL, NULL),
-	(4279, 921, 33.25, 0.99, NULL, NULL),
-	(4280, 921, 33.5, 0.9899, NULL, NULL),
-	(4281, 921, 33.75, 0.9897, NULL, NULL),
-	(4282, 921, 34, 0.9895, NULL, NULL),
-	(4283, 921, 34.25, 0.9893, NULL, NULL),
-	(4284, 921, 34.5, 0.9891, NULL, NULL),
-	(4285, 921, 34.75, 0.9889, NULL, NULL),
-	(4286, 921, 35, 0.9887, NULL, NULL),
-	(4287, 921, 35.25, 0.9885, NULL, NULL),
-	(4288, 921, 35.5, 0.9883, NULL, NULL),
-	(4289, 921, 35.75, 0.9882, NULL, NULL),
-	(4290, 921, 36, 0.988, NULL, NULL),
-	(4291, 921, 36.25, 0.9878, NULL, NULL),
-	(4292, 921, 36.5, 0.9876, NULL, NULL),
-	(4293, 921, 36.75, 0.9874, NULL, NULL),
-	(4294, 921, 37, 0.9872, NULL, NULL),
-	(4295, 921, 37.25, 0.987, NULL, NULL),
-	(4296, 921, 37.5, 0.9868, NULL, NULL),
-	(4297, 921, 37.75, 0.9867, NULL, NULL),
-	(4298, 921, 38, 0.9865, NULL, NULL),
-	(4299, 921, 38.25, 0.9863, NULL, NULL),
-	(4300, 921, 38.5, 0.9861, NULL, NULL),
-	(4301, 921, 38.75, 0.9859, NULL, NULL),
-	(4302, 921, 39, 0.9857, NULL, NULL),
-	(4303, 921, 39.25, 0.9855, NULL, NULL),
-	(4304, 921, 39.5, 0.9853, NULL, NULL),
-	(4305, 921, 39.75, 0.9851, NULL, NULL),
-	(4306, 921, 40, 0.985, NULL, NULL),
-	(4307, 921, 40.25, 0.9848, NULL, NULL),
-	(4308, 921, 40.5, 0.9846, NULL, NULL),
-	(4309, 921, 40.75, 0.9844, NULL, NULL),
-	(4310, 921, 41, 0.9842, NULL, NULL),
-	(4311, 921, 41.25, 0.984, NULL, NULL),
-	(4312, 921, 41.5, 0.9838, NULL, NULL),
-	(4313, 921, 41.75, 0.9836, NULL, NULL),
-	(4314, 921, 42, 0.9834, NULL, NULL),
-	(4315, 921, 42.25, 0.9833, NULL, NULL),
-	(4316, 921, 42.5, 0.9831, NULL, NULL),
-	(4317, 921, 42.75, 0.9829, NULL, NULL),
-	(4318, 921, 43, 0.9827, NULL, NULL),
-	(4319, 921, 43.25, 0.9825, NULL, NULL),
-	(4320, 921, 43.5, 0.9823, NULL, NULL),
-	(4321, 921, 43.75, 0.9821, NULL, NULL),
-	(4322, 921, 44, 0.9819, NULL, NULL),
-	(4323, 921, 44.25, 0.9817, NULL, NULL),
-	(4324, 921, 44.5, 0.9815, NULL, NULL),
-	(4325, 921, 44.75, 0.9814, NULL, NULL),
-	(4326, 921, 45, 0.9812, NULL, NULL),
-	(4327, 921, 45.25, 0.981, NULL, NULL),
-	(4328, 921, 45.5, 0.9808, NULL, NULL),
-	(4329, 921, 45.75, 0.9806, NULL, NULL),
-	(4330, 921, 46, 0.9804, NULL, NULL),
-	(4331, 921, 46.25, 0.9802, NULL, NULL),
-	(4332, 921, 46.5, 0.98, NULL, NULL),
-	(4333, 921, 46.75, 0.9798, NULL, NULL),
-	(4334, 921, 47, 0.9797, NULL, NULL),
-	(4335, 921, 47.25, 0.9795, NULL, NULL),
-	(4336, 921, 47.5, 0.9793, NULL, NULL),
-	(4337, 921, 47.75, 0.9791, NULL, NULL),
-	(4338, 921, 48, 0.9789, NULL, NULL),
-	(4339, 921, 48.25, 0.9787, NULL, NULL),
-	(4340, 921, 48.5, 0.9785, NULL, NULL),
-	(4341, 921, 48.75, 0.9783, NULL, NULL),
-	(4342, 921, 49, 0.9781, NULL, NULL),
-	(4343, 921, 49.25, 0.978, NULL, NULL),
-	(4344, 921, 49.5, 0.9778, NULL, NULL),
-	(4345, 921, 49.75, 0.9776, NULL, NULL),
-	(4346, 921, 50, 0.9774, NULL, NULL),
-	(4347, 921.5, 15, 1.0037, NULL, NULL),
-	(4348, 921.5, 15.25, 1.0036, NULL, NULL),
-	(4349, 921.5, 15.5, 1.0034, NULL, NULL),
-	(4350, 921.5, 15.75, 1.0032, NULL, NULL),
-	(4351, 921.5, 16, 1.003, NULL, NULL),
-	(4352, 921.5, 16.25, 1.0028, NULL, NULL),
-	(4353, 921.5, 16.5, 1.0026, NULL, NULL),
-	(4354, 921.5, 16.75, 1.0024, NULL, NULL),
-	(4355, 921.5, 17, 1.0022, NULL, NULL),
-	(4356, 921.5, 17.25, 1.0021, NULL, NULL),
-	(4357, 921.5, 17.5, 1.0019, NULL, NULL),
-	(4358, 921.5, 17.75, 1.0017, NULL, NULL),
-	(4359, 921.5, 18, 1.0015, NULL, NULL),
-	(4360, 921.5, 18.25, 1.0013, NULL, NULL),
-	(4361, 921.5, 18.5, 1.0011, NULL, NULL),
-	(4362, 921.5, 18.75, 1.0009, NULL, NULL),
-	(4363, 921.5, 19, 1.0007, NULL, NULL),
-	(4364, 921.5, 19.25, 1.0006, NULL, NULL),
-	(4365, 921.5, 19.5, 1.0004, NULL, NULL),
-	(4366, 921.5, 19.75, 1.0002, NULL, NULL),
-	(4367, 921.5, 20, 1, NULL, NULL),
-	(4368, 921.5, 20.25, 0.9998, NULL, NULL),
-	(4369, 921.5, 20.5, 0.9996, NULL, NULL),
-	(4370, 921.5, 20.75, 0.9994, NULL, NULL),
-	(4371, 921.5, 21, 0.9993, NULL, NULL),
-	(4372, 921.5, 21.25, 0.9991, NULL, NULL),
-	(4373, 921.5, 21.5, 0.9989, NULL, NULL),
-	(4374, 921.5, 21.75, 0.9987, NULL, NULL),
-	(4375, 921.5, 22, 0.9985, NULL, NULL),
-	(4376, 921.5, 22.25, 0.9983, NULL, NULL),
-	(4377, 921.5, 22.5, 0.9981, NULL, NULL),
-	(4378, 921.5, 22.75, 0.9979, NULL, NULL),
-	(4379, 921.5, 23, 0.9978, NULL, NULL),
-	(4380, 921.5, 23.25, 0.9976, NULL, NULL),
-	(4381, 921.5, 23.5, 0.9974, NULL, NULL),
-	(4382, 921.5, 23.75, 0.9972, NULL, NULL),
-	(4383, 921.5, 24, 0.997, NULL, NULL),
-	(4384, 921.5, 24.25, 0.9968, NULL, NULL),
-	(4385, 921.5, 24.5, 0.9966, NULL, NULL),
-	(4386, 921.5, 24.75, 0.9964, NULL, NULL),
-	(4387, 921.5, 25, 0.9963, NULL, NULL),
-	(4388, 921.5, 25.25, 0.9961, NULL, NULL),
-	(4389, 921.5, 25.5, 0.9959, NULL, NULL),
-	(4390, 921.5, 25.75, 0.9957, NULL, NULL),
-	(4391, 921.5, 26, 0.9955, NULL, NULL),
-	(4392, 921.5, 26.25, 0.9953, NULL, NULL),
-	(4393, 921.5, 26.5, 0.9951, NULL, NULL),
-	(4394, 921.5, 26.75, 0.9949, NULL, NULL),
-	(4395, 921.5, 27, 0.9948, NULL, NULL),
-	(4396, 921.5, 27.25, 0.9946, NULL, NULL),
-	(4397, 921.5, 27.5, 0.9944, NULL, NULL),
-	(4398, 921.5, 27.75, 0.9942, NULL, NULL),
-	(4399, 921.5, 28, 0.994, NULL, NULL),
-	(4400, 921.5, 28.25, 0.9938, NULL, NULL),
-	(4401, 921.5, 28.5, 0.9936, NULL, NULL),
-	(4402, 921.5, 28.75, 0.9934, NULL, NULL),
-	(4403, 921.5, 29, 0.9932, NULL, NULL),
-	(4404, 921.5, 29.25, 0.9931, NULL, NULL),
-	(4405, 921.5, 29.5, 0.9929, NULL, NULL),
-	(4406, 921.5, 29.75, 0.9927, NULL, NULL),
-	(4407, 921.5, 30, 0.9925, NULL, NULL),
-	(4408, 921.5, 30.25, 0.9923, NULL, NULL),
-	(4409, 921.5, 30.5, 0.9921, NULL, NULL),
-	(4410, 921.5, 30.75, 0.9919, NULL, NULL),
-	(4411, 921.5, 31, 0.9917, NULL, NULL),
-	(4412, 921.5, 31.25, 0.9916, NULL, NULL),
-	(4413, 921.5, 31.5, 0.9914, NULL, NULL),
-	(4414, 921.5, 31.75, 0.9912, NULL, NULL),
-	(4415, 921.5, 32, 0.991, NULL, NULL),
-	(4416, 921.5, 32.25, 0.9908, NULL, NULL),
-	(4417, 921.5, 32.5, 0.9906, NULL, NULL),
-	(4418, 921.5, 32.75, 0.9904, NULL, NULL),
-	(4419, 921.5, 33, 0.9902, NULL, NULL),
-	(4420, 921.5, 33.25, 0.9901, NULL, NULL),
-	(4421, 921.5, 33.5, 0.9899, NULL, NULL),
-	(4422, 921.5, 33.75, 0.9897, NULL, NULL),
-	(4423, 921.5, 34, 0.9895, NULL, NULL),
-	(4424, 921.5, 34.25, 0.9893, NULL, NULL),
-	(4425, 921.5, 34.5, 0.9891, NULL, NULL),
-	(4426, 921.5, 34.75, 0.9889, NULL, NULL),
-	(4427, 921.5, 35, 0.9887, NULL, NULL),
-	(4428, 921.5, 35.25, 0.9885, NULL, NULL),
-	(4429, 921.5, 35.5, 0.9884, NULL, NULL),
-	(4430, 921.5, 35.75, 0.9882, NULL, NULL),
-	(4431, 921.5, 36, 0.988, NULL, NULL),
-	(4432, 921.5, 36.25, 0.9878, NULL, NULL),
-	(4433, 921.5, 36.5, 0.9876, NULL, NULL),
-	(4434, 921.5, 36.75, 0.9874, NULL, NULL),
-	(4435, 921.5, 37, 0.9872, NULL, NULL),
-	(4436, 921.5, 37.25, 0.987, NULL, NULL),
-	(4437, 921.5, 37.5, 0.9869, NULL, NULL),
-	(4438, 921.5, 37.75, 0.9867, NULL, NULL),
-	(4439, 921.5, 38, 0.9865, NULL, NULL),
-	(4440, 921.5, 38.25, 0.9863, NULL, NULL),
-	(4441, 921.5, 38.5, 0.9861, NULL, NULL),
-	(4442, 921.5, 38.75, 0.9859, NULL, NULL),
-	(4443, 921.5, 39, 0.9857, NULL, NULL),
-	(4444, 921.5, 39.25, 0.9855, NULL, NULL),
-	(4445, 921.5, 39.5, 0.9853, NULL, NULL),
-	(4446, 921.5, 39.75, 0.9852, NULL, NULL),
-	(4447, 921.5, 40, 0.985, NULL, NULL),
-	(4448, 921.5, 40.25, 0.9848, NULL, NULL),
-	(4449, 921.5, 40.5, 0.9846, NULL, NULL),
-	(4450, 921.5, 40.75, 0.9844, NULL, NULL),
-	(4451, 921.5, 41, 0.9842, NULL, NULL),
-	(4452, 921.5, 41.25, 0.984, NULL, NULL),
-	(4453, 921.5, 41.5, 0.9838, NULL, NULL),
-	(4454, 921.5, 41.75, 0.9836, NULL, NULL),
-	(4455, 921.5, 42, 0.9835, NULL, NULL),
-	(4456, 921.5, 42.25, 0.9833, NULL, NULL),
-	(4457, 921.5, 42.5, 0.9831, NULL, NULL),
-	(4458, 921.5, 42.75, 0.9829, NULL, NULL),
-	(4459, 921.5, 43, 0.9827, NULL, NULL),
-	(4460, 921.5, 43.25, 0.9825, NULL, NULL),
-	(4461, 921.5, 43.5, 0.9823, NULL, NULL),
-	(4462, 921.5, 43.75, 0.9821, NULL, NULL),
-	(4463, 921.5, 44, 0.9819, NULL, NULL),
-	(4464, 921.5, 44.25, 0.9818, NULL, NULL),
-	(4465, 921.5, 44.5, 0.9816, NULL, NULL),
-	(4466, 921.5, 44.75, 0.9814, NULL, NULL),
-	(4467, 921.5, 45, 0.9812, NULL, NULL),
-	(4468, 921.5, 45.25, 0.981, NULL, NULL),
-	(4469, 921.5, 45.5, 0.9808, NULL, NULL),
-	(4470, 921.5, 45.75, 0.9806, NULL, NULL),
-	(4471, 921.5, 46, 0.9804, NULL, NULL),
-	(4472, 921.5, 46.25, 0.9802, NULL, NULL),
-	(4473, 921.5, 46.5, 0.9801, NULL, NULL),
-	(4474, 921.5, 46.75, 0.9799, NULL, NULL),
-	(4475, 921.5, 47, 0.9797, NULL, NULL),
-	(4476, 921.5, 47.25, 0.9795, NULL, NULL),
-	(4477, 921.5, 47.5, 0.9793, NULL, NULL),
-	(4478, 921.5, 47.75, 0.9791, NULL, NULL),
-	(4479, 921.5, 48, 0.9789, NULL, NULL),
-	(4480, 921.5, 48.25, 0.9787, NULL, NULL),
-	(4481, 921.5, 48.5, 0.9785, NULL, NULL),
-	(4482, 921.5, 48.75, 0.9783, NULL, NULL),
-	(4483, 921.5, 49, 0.9782, NULL, NULL),
-	(4484, 921.5, 49.25, 0.978, NULL, NULL),
-	(4485, 921.5, 49.5, 0.9778, NULL, NULL),
-	(4486, 921.5, 49.75, 0.9776, NULL, NULL),
-	(4487, 921.5, 50, 0.9774, NULL, NULL),
-	(4488, 922, 15, 1.0037, NULL, NULL),
-	(4489, 922, 15.25, 1.0035, NULL, NULL),
-	(4490, 922, 15.5, 1.0034, NULL, NULL),
-	(4491, 922, 15.75, 1.0032, NULL, NULL),
-	(4492, 922, 16, 1.003, NULL, NULL),
-	(4493, 922, 16.25, 1.0028, NULL, NULL),
-	(4494, 922, 16.5, 1.0026, NULL, NULL),
-	(4495, 922, 16.75, 1.0024, NULL, NULL),
-	(4496, 922, 17, 1.0022, NULL, NULL),
-	(4497, 922, 17.25, 1.0021, NULL, NULL),
-	(4498, 922, 17.5, 1.0019, NULL, NULL),
-	(4499, 922, 17.75, 1.0017, NULL, NULL),
-	(4500, 922, 18, 1.0015, NULL, NULL),
-	(4501, 922, 18.25, 1.0013, NULL, NULL),
-	(4502, 922, 18.5, 1.0011, NULL, NULL),
-	(4503, 922, 18.75, 1.0009, NULL, NULL),
-	(4504, 922, 19, 1.0007, NULL, NULL),
-	(4505, 922, 19.25, 1.0006, NULL, NULL),
-	(4506, 922, 19.5, 1.0004, NULL, NULL),
-	(4507, 922, 19.75, 1.0002, NULL, NULL),
-	(4508, 922, 20, 1, NULL, NULL),
-	(4509, 922, 20.25, 0.9998, NULL, NULL),
-	(4510, 922, 20.5, 0.9996, NULL, NULL),
-	(4511, 922, 20.75, 0.9994, NULL, NULL),
-	(4512, 922, 21, 0.9993, NULL, NULL),
-	(4513, 922, 21.25, 0.9991, NULL, NULL),
-	(4514, 922, 21.5, 0.9989, NULL, NULL),
-	(4515, 922, 21.75, 0.9987, NULL, NULL),
-	(4516, 922, 22, 0.9985, NULL, NULL),
-	(4517, 922, 22.25, 0.9983, NULL, NULL),
-	(4518, 922, 22.5, 0.9981, NULL, NULL),
-	(4519, 922, 22.75, 0.9979, NULL, NULL),
-	(4520, 922, 23, 0.9978, NULL, NULL),
-	(4521, 922, 23.25, 0.9976, NULL, NULL),
-	(4522, 922, 23.5, 0.9974, NULL, NULL),
-	(4523, 922, 23.75, 0.9972, NULL, NULL),
-	(4524, 922, 24, 0.997, NULL, NULL),
-	(4525, 922, 24.25, 0.9968, NULL, NULL),
-	(4526, 922, 24.5, 0.9966, NULL, NULL),
-	(4527, 922, 24.75, 0.9964, NULL, NULL),
-	(4528, 922, 25, 0.9963, NULL, NULL),
-	(4529, 922, 25.25, 0.9961, NULL, NULL),
-	(4530, 922, 25.5, 0.9959, NULL, NULL),
-	(4531, 922, 25.75, 0.9957, NULL, NULL),
-	(4532, 922, 26, 0.9955, NULL, NULL),
-	(4533, 922, 26.25, 0.9953, NULL, NULL),
-	(4534, 922, 26.5, 0.9951, NULL, NULL),
-	(4535, 922, 26.75, 0.9949, NULL, NULL),
-	(4536, 922, 27, 0.9948, NULL, NULL),
-	(4537, 922, 27.25, 0.9946, NULL, NULL),
-	(4538, 922, 27.5, 0.9944, NULL, NULL),
-	(4539, 922, 27.75, 0.9942, NULL, NULL),
-	(4540, 922, 28, 0.994, NULL, NULL),
-	(4541, 922, 28.25, 0.9938, NULL, NULL),
-	(4542, 922, 28.5, 0.9936, NULL, NULL),
-	(4543, 922, 28.75, 0.9934, NULL, NULL),
-	(4544, 922, 29, 0.9933, NULL, NULL),
-	(4545, 922, 29.25, 0.9931, NULL, NULL),
-	(4546, 922, 29.5, 0.9929, NULL, NULL),
-	(4547, 922, 29.75, 0.9927, NULL, NULL),
-	(4548, 922, 30, 0.9925, NULL, NULL),
-	(4549, 922, 30.25, 0.9923, NULL, NULL),
-	(4550, 922, 30.5, 0.9921, NULL, NULL),
-	(4551, 922, 30.75, 0.9919, NULL, NULL),
-	(4552, 922, 31, 0.9918, NULL, NULL),
-	(4553, 922, 31.25, 0.9916, NULL, NULL),
-	(4554, 922, 31.5, 0.9914, NULL, NULL),
-	(4555, 922, 31.75, 0.9912, NULL, NULL),
-	(4556, 922, 32, 0.991, NULL, NULL),
-	(4557, 922, 32.25, 0.9908, NULL, NULL),
-	(4558, 922, 32.5, 0.9906, NULL, NULL),
-	(4559, 922, 32.75, 0.9904, NULL, NULL),
-	(4560, 922, 33, 0.9902, NULL, NULL),
-	(4561, 922, 33.25, 0.9901, NULL, NULL),
-	(4562, 922, 33.5, 0.9899, NULL, NULL),
-	(4563, 922, 33.75, 0.9897, NULL, NULL),
-	(4564, 922, 34, 0.9895, NULL, NULL),
-	(4565, 922, 34.25, 0.9893, NULL, NULL),
-	(4566, 922, 34.5, 0.9891, NULL, NULL),
-	(4567, 922, 34.75, 0.9889, NULL, NULL),
-	(4568, 922, 35, 0.9887, NULL, NULL),
-	(4569, 922, 35.25, 0.9886, NULL, NULL),
-	(4570, 922, 35.5, 0.9884, NULL, NULL),
-	(4571, 922, 35.75, 0.9882, NULL, NULL),
-	(4572, 922, 36, 0.988, NULL, NULL),
-	(4573, 922, 36.25, 0.9878, NULL, NULL),
-	(4574, 922, 36.5, 0.9876, NULL, NULL),
-	(4575, 922, 36.75, 0.9874, NULL, NULL),
-	(4576, 922, 37, 0.9872, NULL, NULL),
-	(4577, 922, 37.25, 0.987, NULL, NULL),
-	(4578, 922, 37.5, 0.9869, NULL, NULL),
-	(4579, 922, 37.75, 0.9867, NULL, NULL),
-	(4580, 922, 38, 0.9865, NULL, NULL),
-	(4581, 922, 38.25, 0.9863, NULL, NULL),
-	(4582, 922, 38.5, 0.9861, NULL, NULL),
-	(4583, 922, 38.75, 0.9859, NULL, NULL),
-	(4584, 922, 39, 0.9857, NULL, NULL),
-	(4585, 922, 39.25, 0.9855, NULL, NULL),
-	(4586, 922, 39.5, 0.9854, NULL, NULL),
-	(4587, 922, 39.75, 0.9852, NULL, NULL),
-	(4588, 922, 40, 0.985, NULL, NULL),
-	(4589, 922, 40.25, 0.9848, NULL, NULL),
-	(4590, 922, 40.5, 0.9846, NULL, NULL),
-	(4591, 922, 40.75, 0.9844, NULL, NULL),
-	(4592, 922, 41, 0.9842, NULL, NULL),
-	(4593, 922, 41.25, 0.984, NULL, NULL),
-	(4594, 922, 41.5, 0.9838, NULL, NULL),
-	(4595, 922, 41.75, 0.9837, NULL, NULL),
-	(4596, 922, 42, 0.9835, NULL, NULL),
-	(4597, 922, 42.25, 0.9833, NULL, NULL),
-	(4598, 922, 42.5, 0.9831, NULL, NULL),
-	(4599, 922, 42.75, 0.9829, NULL, NULL),
-	(4600, 922, 43, 0.9827, NULL, NULL),
-	(4601, 922, 43.25, 0.9825, NULL, NULL),
-	(4602, 922, 43.5, 0.9823, NULL, NULL),
-	(4603, 922, 43.75, 0.9821, NULL, NULL),
-	(4604, 922, 44, 0.982, NULL, NULL),
-	(4605, 922, 44.25, 0.9818, NULL, NULL),
-	(4606, 922, 44.5, 0.9816, NULL, NULL),
-	(4607, 922, 44.75, 0.9814, NULL, NULL),
-	(4608, 922, 45, 0.9812, NULL, NULL),
-	(4609, 922, 45.25, 0.981, NULL, NULL),
-	(4610, 922, 45.5, 0.9808, NULL, NULL),
-	(4611, 922, 45.75, 0.9806, NULL, NULL),
-	(4612, 922, 46, 0.9804, NULL, NULL),
-	(4613, 922, 46.25, 0.9803, NULL, NULL),
-	(4614, 922, 46.5, 0.9801, NULL, NULL),
-	(4615, 922, 46.75, 0.9799, NULL, NULL),
-	(4616, 922, 47, 0.9797, NULL, NULL),
-	(4617, 922, 47.25, 0.9795, NULL, NULL),
-	(4618, 922, 47.5, 0.9793, NULL, NULL),
-	(4619, 922, 47.75, 0.9791, NULL, NULL),
-	(4620, 922, 48, 0.9789, NULL, NULL),
-	(4621, 922, 48.25, 0.9787, NULL, NULL),
-	(4622, 922, 48.5, 0.9786, NULL, NULL),
-	(4623, 922, 48.75, 0.9784, NULL, NULL),
-	(4624, 922, 49, 0.9782, NULL, NULL),
-	(4625, 922, 49.25, 0.978, NULL, NULL),
-	(4626, 922, 49.5, 0.9778, NULL, NULL),
-	(4627, 922, 49.75, 0.9776, NULL, NULL),
-	(4628, 922, 50, 0.9774, NULL, NULL),
-	(4629, 922.5, 15, 1.0037, NULL, NULL),
-	(4630, 922.5, 15.25, 1.0035, NULL, NULL),
-	(4631, 922.5, 15.5, 1.0034, NULL, NULL),
-	(4632, 922.5, 15.75, 1.0032, NULL, NULL),
-	(4633, 922.5, 16, 1.003, NULL, NULL),
-	(4634, 922.5, 16.25, 1.0028, NULL, NULL),
-	(4635, 922.5, 16.5, 1.0026, NULL, NULL),
-	(4636, 922.5, 16.75, 1.0024, NULL, NULL),
-	(4637, 922.5, 17, 1.0022, NULL, NULL),
-	(4638, 922.5, 17.25, 1.0021, NULL, NULL),
-	(4639, 922.5, 17.5, 1.0019, NULL, NULL),
-	(4640, 922.5, 17.75, 1.0017, NULL, NULL),
-	(4641, 922.5, 18, 1.0015, NULL, NULL),
-	(4642, 922.5, 18.25, 1.0013, NULL, NULL),
-	(4643, 922.5, 18.5, 1.0011, NULL, NULL),
-	(4644, 922.5, 18.75, 1.0009, NULL, NULL),
-	(4645, 922.5, 19, 1.0007, NULL, NULL),
-	(4646, 922.5, 19.25, 1.0006, NULL, NULL),
-	(4647, 922.5, 19.5, 1.0004, NULL, NULL),
-	(4648, 922.5, 19.75, 1.0002, NULL, NULL),
-	(4649, 922.5, 20, 1, NULL, NULL),
-	(4650, 922.5, 20.25, 0.9998, NULL, NULL),
-	(4651, 922.5, 20.5, 0.9996, NULL, NULL),
-	(4652, 922.5, 20.75, 0.9994, NULL, NULL),
-	(4653, 922.5, 21, 0.9993, NULL, NULL),
-	(4654, 922.5, 21.25, 0.9991, NULL, NULL),
-	(4655, 922.5, 21.5, 0.9989, NULL, NULL),
-	(4656, 922.5, 21.75, 0.9987, NULL, NULL),
-	(4657, 922.5, 22, 0.9985, NULL, NULL),
-	(4658, 922.5, 22.25, 0.9983, NULL, NULL),
-	(4659, 922.5, 22.5, 0.9981, NULL, NULL),
-	(4660, 922.5, 22.75, 0.9979, NULL, NULL),
-	(4661, 922.5, 23, 0.9978, NULL, NULL),
-	(4662, 922.5, 23.25, 0.9976, NULL, NULL),
-	(4663, 922.5, 23.5, 0.9974, NULL, NULL),
-	(4664, 922.5, 23.75, 0.9972, NULL, NULL),
-	(4665, 922.5, 24, 0.997, NULL, NULL),
-	(4666, 922.5, 24.25, 0.9968, NULL, NULL),
-	(4667, 922.5, 24.5, 0.9966, NULL, NULL),
-	(4668, 922.5, 24.75, 0.9964, NULL, NULL),
-	(4669, 922.5, 25, 0.9963, NULL, NULL),
-	(4670, 922.5, 25.25, 0.9961, NULL, NULL),
-	(4671, 922.5, 25.5, 0.9959, NULL, NULL),
-	(4672, 922.5, 25.75, 0.9957, NULL, NULL),
-	(4673, 922.5, 26, 0.9955, NULL, NULL),
-	(4674, 922.5, 26.25, 0.9953, NULL, NULL),
-	(4675, 922.5, 26.5, 0.9951, NULL, NULL),
-	(4676, 922.5, 26.75, 0.9949, NULL, NULL),
-	(4677, 922.5, 27, 0.9948, NULL, NULL),
-	(4678, 922.5, 27.25, 0.9946, NULL, NULL),
-	(4679, 922.5, 27.5, 0.9944, NULL, NULL),
-	(4680, 922.5, 27.75, 0.9942, NULL, NULL),
-	(4681, 922.5, 28, 0.994, NULL, NULL),
-	(4682, 922.5, 28.25, 0.9938, NULL, NULL),
-	(4683, 922.5, 28.5, 0.9936, NULL, NULL),
-	(4684, 922.5, 28.75, 0.9934, NULL, NULL),
-	(4685, 922.5, 29, 0.9933, NULL, NULL),
-	(4686, 922.5, 29.25, 0.9931, NULL, NULL),
-	(4687, 922.5, 29.5, 0.9929, NULL, NULL),
-	(4688, 922.5, 29.75, 0.9927, NULL, NULL),
-	(4689, 922.5, 30, 0.9925, NULL, NULL),
-	(4690, 922.5, 30.25, 0.9923, NULL, NULL),
-	(4691, 922.5, 30.5, 0.9921, NULL, NULL),
-	(4692, 922.5, 30.75, 0.9919, NULL, NULL),
-	(4693, 922.5, 31, 0.9918, NULL, NULL),
-	(4694, 922.5, 31.25, 0.9916, NULL, NULL),
-	(4695, 922.5, 31.5, 0.9914, NULL, NULL),
-	(4696, 922.5, 31.75, 0.9912, NULL, NULL),
-	(4697, 922.5, 32, 0.991, NULL, NULL),
-	(4698, 922.5, 32.25, 0.9908, NULL, NULL),
-	(4699, 922.5, 32.5, 0.9906, NULL, NULL),
-	(4700, 922.5, 32.75, 0.9904, NULL, NULL),
-	(4701, 922.5, 33, 0.9903, NULL, NULL),
-	(4702, 922.5, 33.25, 0.9901, NULL, NULL),
-	(4703, 922.5, 33.5, 0.9899, NULL, NULL),
-	(4704, 922.5, 33.75, 0.9897, NULL, NULL),
-	(4705, 922.5, 34, 0.9895, NULL, NULL),
-	(4706, 922.5, 34.25, 0.9893, NULL, NULL),
-	(4707, 922.5, 34.5, 0.9891, NULL, NULL),
-	(4708, 922.5, 34.75, 0.9889, NULL, NULL),
-	(4709, 922.5, 35, 0.9888, NULL, NULL),
-	(4710, 922.5, 35.25, 0.9886, NULL, NULL),
-	(4711, 922.5, 35.5, 0.9884, NULL, NULL),
-	(4712, 922.5, 35.75, 0.9882, NULL, NULL),
-	(4713, 922.5, 36, 0.988, NULL, NULL),
-	(4714, 922.5, 36.25, 0.9878, NULL, NULL),
-	(4715, 922.5, 36.5, 0.9876, NULL, NULL),
-	(4716, 922.5, 36.75, 0.9874, NULL, NULL),
-	(4717, 922.5, 37, 0.9872, NULL, NULL),
-	(4718, 922.5, 37.25, 0.9871, NULL, NULL),
-	(4719, 922.5, 37.5, 0.9869, NULL, NULL),
-	(4720, 922.5, 37.75, 0.9867, NULL, NULL),
-	(4721, 922.5, 38, 0.9865, NULL, NULL),
-	(4722, 922.5, 38.25, 0.9863, NULL, NULL),
-	(4723, 922.5, 38.5, 0.9861, NULL, NULL),
-	(4724, 922.5, 38.75, 0.9859, NULL, NULL),
-	(4725, 922.5, 39, 0.9857, NULL, NULL),
-	(4726, 922.5, 39.25, 0.9856, NULL, NULL),
-	(4727, 922.5, 39.5, 0.9854, NULL, NULL),
-	(4728, 922.5, 39.75, 0.9852, NULL, NULL),
-	(4729, 922.5, 40, 0.985, NULL, NULL),
-	(4730, 922.5, 40.25, 0.9848, NULL, NULL),
-	(4731, 922.5, 40.5, 0.9846, NULL, NULL),
-	(4732, 922.5, 40.75, 0.9844, NULL, NULL),
-	(4733, 922.5, 41, 0.9842, NULL, NULL),
-	(4734, 922.5, 41.25, 0.984, NULL, NULL),
-	(4735, 922.5, 41.5, 0.9839, NULL, NULL),
-	(4736, 922.5, 41.75, 0.9837, NULL, NULL),
-	(4737, 922.5, 42, 0.9835, NULL, NULL),
-	(4738, 922.5, 42.25, 0.9833, NULL, NULL),
-	(4739, 922.5, 42.5, 0.9831, NULL, NULL),
-	(4740, 922.5, 42.75, 0.9829, NULL, NULL),
-	(4741, 922.5, 43, 0.9827, NULL, NULL),
-	(4742, 922.5, 43.25, 0.9825, NULL, NULL),
-	(4743, 922.5, 43.5, 0.9823, NULL, NULL),
-	(4744, 922.5, 43.75, 0.9822, NULL, NULL),
-	(4745, 922.5, 44, 0.982, NULL, NULL),
-	(4746, 922.5, 44.25, 0.9818, NULL, NULL),
-	(4747, 922.5, 44.5, 0.9816, NULL, NULL),
-	(4748, 922.5, 44.75, 0.9814, NULL, NULL),
-	(4749, 922.5, 45, 0.9812, NULL, NULL),
-	(4750, 922.5, 45.25, 0.981, NULL, NULL),
-	(4751, 922.5, 45.5, 0.9808, NULL, NULL),
-	(4752, 922.5, 45.75, 0.9806, NULL, NULL),
-	(4753, 922.5, 46, 0.9805, NULL, NULL),
-	(4754, 922.5, 46.25, 0.9803, NULL, NULL),
-	(4755, 922.5, 46.5, 0.9801, NULL, NULL),
-	(4756, 922.5, 46.75, 0.9799, NULL, NULL),
-	(4757, 922.5, 47, 0.9797, NULL, NULL),
-	(4758, 922.5, 47.25, 0.9795, NULL, NULL),
-	(4759, 922.5, 47.5, 0.9793, NULL, NULL),
-	(4760, 922.5, 47.75, 0.9791, NULL, NULL),
-	(4761, 922.5, 48, 0.9789, NULL, NULL),
-	(4762, 922.5, 48.25, 0.9788, NULL, NULL),
-	(4763, 922.5, 48.5, 0.9786, NULL, NULL),
-	(4764, 922.5, 48.75, 0.9784, NULL, NULL),
-	(4765, 922.5, 49, 0.9782, NULL, NULL),
-	(4766, 922.5, 49.25, 0.978, NULL, NULL),
-	(4767, 922.5, 49.5, 0.9778, NULL, NULL),
-	(4768, 922.5, 49.75, 0.9776, NULL, NULL),
-	(4769, 922.5, 50, 0.9774, NULL, NULL),
-	(4770, 923, 15, 1.0037, NULL, NULL),
-	(4771, 923, 15.25, 1.0035, NULL, NULL),
-	(4772, 923, 15.5, 1.0034, NULL, NULL),
-	(4773, 923, 15.75, 1.0032, NULL, NULL),
-	(4774, 923, 16, 1.003, NULL, NULL),
-	(4775, 923, 16.25, 1.0028, NULL, NULL),
-	(4776, 923, 16.5, 1.0026, NULL, NULL),
-	(4777, 923, 16.75, 1.0024, NULL, NULL),
-	(4778, 923, 17, 1.0022, NULL, NULL),
-	(4779, 923, 17.25, 1.0021, NULL, NULL),
-	(4780, 923, 17.5, 1.0019, NULL, NULL),
-	(4781, 923, 17.75, 1.0017, NULL, NULL),
-	(4782, 923, 18, 1.0015, NULL, NULL),
-	(4783, 923, 18.25, 1.0013, NULL, NULL),
-	(4784, 923, 18.5, 1.0011, NULL, NULL),
-	(4785, 923, 18.75, 1.0009, NULL, NULL),
-	(4786, 923, 19, 1.0007, NULL, NULL),
-	(4787, 923, 19.25, 1.0006, NULL, NULL),
-	(4788, 923, 19.5, 1.0004, NULL, NULL),
-	(4789, 923, 19.75, 1.0002, NULL, NULL),
-	(4790, 923, 20, 1, NULL, NULL),
-	(4791, 923, 20.25, 0.9998, NULL, NULL),
-	(4792, 923, 20.5, 0.9996, NULL, NULL),
-	(4793, 923, 20.75, 0.9994, NULL, NULL),
-	(4794, 923, 21, 0.9993, NULL, NULL),
-	(4795, 923, 21.25, 0.9991, NULL, NULL),
-	(4796, 923, 21.5, 0.9989, NULL, NULL),
-	(4797, 923, 21.75, 0.9987, NULL, NULL),
-	(4798, 923, 22, 0.9985, NULL, NULL),
-	(4799, 923, 22.25, 0.9983, NULL, NULL),
-	(4800, 923, 22.5, 0.9981, NULL, NULL),
-	(4801, 923, 22.75, 0.9979, NULL, NULL),
-	(4802, 923, 23, 0.9978, NULL, NULL),
-	(4803, 923, 23.25, 0.9976, NULL, NULL),
-	(4804, 923, 23.5, 0.9974, NULL, NULL),
-	(4805, 923, 23.75, 0.9972, NULL, NULL),
-	(4806, 923, 24, 0.997, NULL, NULL),
-	(4807, 923, 24.25, 0.9968, NULL, NULL),
-	(4808, 923, 24.5, 0.9966, NULL, NULL),
-	(4809, 923, 24.75, 0.9964, NULL, NULL),
-	(4810, 923, 25, 0.9963, NULL, NULL),
-	(4811, 923, 25.25, 0.9961, NULL, NULL),
-	(4812, 923, 25.5, 0.9959, NULL, NULL),
-	(4813, 923, 25.75, 0.9957, NULL, NULL),
-	(4814, 923, 26, 0.9955, NULL, NULL),
-	(4815, 923, 26.25, 0.9953, NULL, NULL),
-	(4816, 923, 26.5, 0.9951, NULL, NULL),
-	(4817, 923, 26.75, 0.9949, NULL, NULL),
-	(4818, 923, 27, 0.9948, NULL, NULL),
-	(4819, 923, 27.25, 0.9946, NULL, NULL),
-	(4820, 923, 27.5, 0.9944, NULL, NULL),
-	(4821, 923, 27.75, 0.9942, NULL, NULL),
-	(4822, 923, 28, 0.994, NULL, NULL),
-	(4823, 923, 28.25, 0.9938, NULL, NULL),
-	(4824, 923, 28.5, 0.9936, NULL, NULL),
-	(4825, 923, 28.75, 0.9935, NULL, NULL),
-	(4826, 923, 29, 0.9933, NULL, NULL),
-	(4827, 923, 29.25, 0.9931, NULL, NULL),
-	(4828, 923, 29.5, 0.9929, NULL, NULL),
-	(4829, 923, 29.75, 0.9927, NULL, NULL),
-	(4830, 923, 30, 0.9925, NULL, NULL),
-	(4831, 923, 30.25, 0.9923, NULL, NULL),
-	(4832, 923, 30.5, 0.9921, NULL, NULL),
-	(4833, 923, 30.75, 0.992, NULL, NULL),
-	(4834, 923, 31, 0.9918, NULL, NULL),
-	(4835, 923, 31.25, 0.9916, NULL, NULL),
-	(4836, 923, 31.5, 0.9914, NULL, NULL),
-	(4837, 923, 31.75, 0.9912, NULL, NULL),
-	(4838, 923, 32, 0.991, NULL, NULL),
-	(4839, 923, 32.25, 0.9908, NULL, NULL),
-	(4840, 923, 32.5, 0.9906, NULL, NULL),
-	(4841, 923, 32.75, 0.9904, NULL, NULL),
-	(4842, 923, 33, 0.9903, NULL, NULL),
-	(4843, 923, 33.25, 0.9901, NULL, NULL),
-	(4844, 923, 33.5, 0.9899, NULL, NULL),
-	(4845, 923, 33.75, 0.9897, NULL, NULL),
-	(4846, 923, 34, 0.9895, NULL, NULL),
-	(4847, 923, 34.25, 0.9893, NULL, NULL),
-	(4848, 923, 34.5, 0.9891, NULL, NULL),
-	(4849, 923, 34.75, 0.9889, NULL, NULL),
-	(4850, 923, 35, 0.9888, NULL, NULL),
-	(4851, 923, 35.25, 0.9886, NULL, NULL),
-	(4852, 923, 35.5, 0.9884, NULL, NULL),
-	(4853, 923, 35.75, 0.9882, NULL, NULL),
-	(4854, 923, 36, 0.988, NULL, NULL),
-	(4855, 923, 36.25, 0.9878, NULL, NULL),
-	(4856, 923, 36.5, 0.9876, NULL, NULL),
-	(4857, 923, 36.75, 0.9874, NULL, NULL),
-	(4858, 923, 37, 0.9873, NULL, NULL),
-	(4859, 923, 37.25, 0.9871, NULL, NULL),
-	(4860, 923, 37.5, 0.9869, NULL, NULL),
-	(4861, 923, 37.75, 0.9867, NULL, NULL),
-	(4862, 923, 38, 0.9865, NULL, NULL),
-	(4863, 923, 38.25, 0.9863, NULL, NULL),
-	(4864, 923, 38.5, 0.9861, NULL, NULL),
-	(4865, 923, 38.75, 0.9859, NULL, NULL),
-	(4866, 923, 39, 0.9857, NULL, NULL),
-	(4867, 923, 39.25, 0.9856, NULL, NULL),
-	(4868, 923, 39.5, 0.9854, NULL, NULL),
-	(4869, 923, 39.75, 0.9852, NULL, NULL),
-	(4870, 923, 40, 0.985, NULL, NULL),
-	(4871, 923, 40.25, 0.9848, NULL, NULL),
-	(4872, 923, 40.5, 0.9846, NULL, NULL),
-	(4873, 923, 40.75, 0.9844, NULL, NULL),
-	(4874, 923, 41, 0.9842, NULL, NULL),
-	(4875, 923, 41.25, 0.9841, NULL, NULL),
-	(4876, 923, 41.5, 0.9839, NULL, NULL),
-	(4877, 923, 41.75, 0.9837, NULL, NULL),
-	(4878, 923, 42, 0.9835, NULL, NULL),
-	(4879, 923, 42.25, 0.9833, NULL, NULL),
-	(4880, 923, 42.5, 0.9831, NULL, NULL),
-	(4881, 923, 42.75, 0.9829, NULL, NULL),
-	(4882, 923, 43, 0.9827, NULL, NULL),
-	(4883, 923, 43.25, 0.9825, NULL, NULL),
-	(4884, 923, 43.5, 0.9824, NULL, NULL),
-	(4885, 923, 43.75, 0.9822, NULL, NULL),
-	(4886, 923, 44, 0.982, NULL, NULL),
-	(4887, 923, 44.25, 0.9818, NULL, NULL),
-	(4888, 923, 44.5, 0.9816, NULL, NULL),
-	(4889, 923, 44.75, 0.9814, NULL, NULL),
-	(4890, 923, 45, 0.9812, NULL, NULL),
-	(4891, 923, 45.25, 0.981, NULL, NULL),
-	(4892, 923, 45.5, 0.9808, NULL, NULL),
-	(4893, 923, 45.75, 0.9807, NULL, NULL),
-	(4894, 923, 46, 0.9805, NULL, NULL),
-	(4895, 923, 46.25, 0.9803, NULL, NULL),
-	(4896, 923, 46.5, 0.9801, NULL, NULL),
-	(4897, 923, 46.75, 0.9799, NULL, NULL),
-	(4898, 923, 47, 0.9797, NULL, NULL),
-	(4899, 923, 47.25, 0.9795, NULL, NULL),
-	(4900, 923, 47.5, 0.9793, NULL, NULL),
-	(4901, 923, 47.75, 0.9791, NULL, NULL),
-	(4902, 923, 48, 0.979, NULL, NULL),
-	(4903, 923, 48.25, 0.9788, NULL, NULL),
-	(4904, 923, 48.5, 0.9786, NULL, NULL),
-	(4905, 923, 48.75, 0.9784, NULL, NULL),
-	(4906, 923, 49, 0.9782, NULL, NULL),
-	(4907, 923, 49.25, 0.978, NULL, NULL),
-	(4908, 923, 49.5, 0.9778, NULL, NULL),
-	(4909, 923, 49.75, 0.9776, NULL, NULL),
-	(4910, 923, 50, 0.9774, NULL, NULL),
-	(4911, 923.5, 15, 1.0037, NULL, NULL),
-	(4912, 923.5, 15.25, 1.0035, NULL, NULL),
-	(4913, 923.5, 15.5, 1.0034, NULL, NULL),
-	(4914, 923.5, 15.75, 1.0032, NULL, NULL),
-	(4915, 923.5, 16, 1.003, NULL, NULL),
-	(4916, 923.5, 16.25, 1.0028, NULL, NULL),
-	(4917, 923.5, 16.5, 1.0026, NULL, NULL),
-	(4918, 923.5, 16.75, 1.0024, NULL, NULL),
-	(4919, 923.5, 17, 1.0022, NULL, NULL),
-	(4920, 923.5, 17.25, 1.0021, NULL, NULL),
-	(4921, 923.5, 17.5, 1.0019, NULL, NULL),
-	(4922, 923.5, 17.75, 1.0017, NULL, NULL),
-	(4923, 923.5, 18, 1.0015, NULL, NULL),
-	(4924, 923.5, 18.25, 1.0013, NULL, NULL),
-	(4925, 923.5, 18.5, 1.0011, NULL, NULL),
-	(4926, 923.5, 18.75, 1.0009, NULL, NULL),
-	(4927, 923.5, 19, 1.0007, NULL, NULL),
-	(4928, 923.5, 19.25, 1.0006, NULL, NULL),
-	(4929, 923.5, 19.5, 1.0004, NULL, NULL),
-	(4930, 923.5, 19.75, 1.0002, NULL, NULL),
-	(4931, 923.5, 20, 1, NULL, NULL),
-	(4932, 923.5, 20.25, 0.9998, NULL, NULL),
-	(4933, 923.5, 20.5, 0.9996, NULL, NULL),
-	(4934, 923.5, 20.75, 0.9994, NULL, NULL),
-	(4935, 923.5, 21, 0.9993, NULL, NULL),
-	(4936, 923.5, 21.25, 0.9991, NULL, NULL),
-	(4937, 923.5, 21.5, 0.9989, NULL, NULL),
-	(4938, 923.5, 21.75, 0.9987, NULL, NULL),
-	(4939, 923.5, 22, 0.9985, NULL, NULL),
-	(4940, 923.5, 22.25, 0.9983, NULL, NULL),
-	(4941, 923.5, 22.5, 0.9981, NULL, NULL),
-	(4942, 923.5, 22.75, 0.9979, NULL, NULL),
-	(4943, 923.5, 23, 0.9978, NULL, NULL),
-	(4944, 923.5, 23.25, 0.9976, NULL, NULL),
-	(4945, 923.5, 23.5, 0.9974, NULL, NULL),
-	(4946, 923.5, 23.75, 0.9972, NULL, NULL),
-	(4947, 923.5, 24, 0.997, NULL, NULL),
-	(4948, 923.5, 24.25, 0.9968, NULL, NULL),
-	(4949, 923.5, 24.5, 0.9966, NULL, NULL),
-	(4950, 923.5, 24.75, 0.9964, NULL, NULL),
-	(4951, 923.5, 25, 0.9963, NULL, NULL),
-	(4952, 923.5, 25.25, 0.9961, NULL, NULL),
-	(4953, 923.5, 25.5, 0.9959, NULL, NULL),
-	(4954, 923.5, 25.75, 0.9957, NULL, NULL),
-	(4955, 923.5, 26, 0.9955, NULL, NULL),
-	(4956, 923.5, 26.25, 0.9953, NULL, NULL),
-	(4957, 923.5, 26.5, 0.9951, NULL, NULL),
-	(4958, 923.5, 26.75, 0.995, NULL, NULL),
-	(4959, 923.5, 27, 0.9948, NULL, NULL),
-	(4960, 923.5, 27.25, 0.9946, NULL, NULL),
-	(4961, 923.5, 27.5, 0.9944, NULL, NULL),
-	(4962, 923.5, 27.75, 0.9942, NULL, NULL),
-	(4963, 923.5, 28, 0.994, NULL, NULL),
-	(4964, 923.5, 28.25, 0.9938, NULL, NULL),
-	(4965, 923.5, 28.5, 0.9936, NULL, NULL),
-	(4966, 923.5, 28.75, 0.9935, NULL, NULL),
-	(4967, 923.5, 29, 0.9933, NULL, NULL),
-	(4968, 923.5, 29.25, 0.9931, NULL, NULL),
-	(4969, 923.5, 29.5, 0.9929, NULL, NULL),
-	(4970, 923.5, 29.75, 0.9927, NULL, NULL),
-	(4971, 923.5, 30, 0.9925, NULL, NULL),
-	(4972, 923.5, 30.25, 0.9923, NULL, NULL),
-	(4973, 923.5, 30.5, 0.9921, NULL, NULL),
-	(4974, 923.5, 30.75, 0.992, NULL, NULL),
-	(4975, 923.5, 31, 0.9918, NULL, NULL),
-	(4976, 923.5, 31.25, 0.9916, NULL, NULL),
-	(4977, 923.5, 31.5, 0.9914, NULL, NULL),
-	(4978, 923.5, 31.75, 0.9912, NULL, NULL),
-	(4979, 923.5, 32, 0.991, NULL, NULL),
-	(4980, 923.5, 32.25, 0.9908, NULL, NULL),
-	(4981, 923.5, 32.5, 0.9906, NULL, NULL),
-	(4982, 923.5, 32.75, 0.9905, NULL, NULL),
-	(4983, 923.5, 33, 0.9903, NULL, NULL),
-	(4984, 923.5, 33.25, 0.9901, NULL, NULL),
-	(4985, 923.5, 33.5, 0.9899, NULL, NULL),
-	(4986, 923.5, 33.75, 0.9897, NULL, NULL),
-	(4987, 923.5, 34, 0.9895, NULL, NULL),
-	(4988, 923.5, 34.25, 0.9893, NULL, NULL),
-	(4989, 923.5, 34.5, 0.9891, NULL, NULL),
-	(4990, 923.5, 34.75, 0.989, NULL, NULL),
-	(4991, 923.5, 35, 0.9888, NULL, NULL),
-	(4992, 923.5, 35.25, 0.9886, NULL, NULL),
-	(4993, 923.5, 35.5, 0.9884, NULL, NULL),
-	(4994, 923.5, 35.75, 0.9882, NULL, NULL),
-	(4995, 923.5, 36, 0.988, NULL, NULL),
-	(4996, 923.5, 36.25, 0.9878, NULL, NULL),
-	(4997, 923.5, 36.5, 0.9876, NULL, NULL),
-	(4998, 923.5, 36.75, 0.9875, NULL, NULL),
-	(4999, 923.5, 37, 0.9873, NULL, NULL),
-	(5000, 923.5, 37.25, 0.9871, NULL, NULL),
-	(5001, 923.5, 37.5, 0.9869, NULL, NULL),
-	(5002, 923.5, 37.75, 0.9867, NULL, NULL),
-	(5003, 923.5, 38, 0.9865, NULL, NULL),
-	(5004, 923.5, 38.25, 0.9863, NULL, NULL),
-	(5005, 923.5, 38.5, 0.9861, NULL, NULL),
-	(5006, 923.5, 38.75, 0.9859, NULL, NULL),
-	(5007, 923.5, 39, 0.9858, NULL, NULL),
-	(5008, 923.5, 39.25, 0.9856, NULL, NULL),
-	(5009, 923.5, 39.5, 0.9854, NULL, NULL),
-	(5010, 923.5, 39.75, 0.9852, NULL, NULL),
-	(5011, 923.5, 40, 0.985, NULL, NULL),
-	(5012, 923.5, 40.25, 0.9848, NULL, NULL),
-	(5013, 923.5, 40.5, 0.9846, NULL, NULL),
-	(5014, 923.5, 40.75, 0.9844, NULL, NULL),
-	(5015, 923.5, 41, 0.9843, NULL, NULL),
-	(5016, 923.5, 41.25, 0.9841, NULL, NULL),
-	(5017, 923.5, 41.5, 0.9839, NULL, NULL),
-	(5018, 923.5, 41.75, 0.9837, NULL, NULL),
-	(5019, 923.5, 42, 0.9835, NULL, NULL),
-	(5020, 923.5, 42.25, 0.9833, NULL, NULL),
-	(5021, 923.5, 42.5, 0.9831, NULL, NULL),
-	(5022, 923.5, 42.75, 0.9829, NULL, NULL),
-	(5023, 923.5, 43, 0.9827, NULL, NULL),
-	(5024, 923.5, 43.25, 0.9826, NULL, NULL),
-	(5025, 923.5, 43.5, 0.9824, NULL, NULL),
-	(5026, 923.5, 43.75, 0.9822, NULL, NULL),
-	(5027, 923.5, 44, 0.982, NULL, NULL),
-	(5028, 923.5, 44.25, 0.9818, NULL, NULL),
-	(5029, 923.5, 44.5, 0.9816, NULL, NULL),
-	(5030, 923.5, 44.75, 0.9814, NULL, NULL),
-	(5031, 923.5, 45, 0.9812, NULL, NULL),
-	(5032, 923.5, 45.25, 0.981, NULL, NULL),
-	(5033, 923.5, 45.5, 0.9809, NULL, NULL),
-	(5034, 923.5, 45.75, 0.9807, NULL, NULL),
-	(5035, 923.5, 46, 0.9805, NULL, NULL),
-	(5036, 923.5, 46.25, 0.9803, NULL, NULL),
-	(5037, 923.5, 46.5, 0.9801, NULL, NULL),
-	(5038, 923.5, 46.75, 0.9799, NULL, NULL),
-	(5039, 923.5, 47, 0.9797, NULL, NULL),
-	(5040, 923.5, 47.25, 0.9795, NULL, NULL),
-	(5041, 923.5, 47.5, 0.9794, NULL, NULL),
-	(5042, 923.5, 47.75, 0.9792, NULL, NULL),
-	(5043, 923.5, 48, 0.979, NULL, NULL),
-	(5044, 923.5, 48.25, 0.9788, NULL, NULL),
-	(5045, 923.5, 48.5, 0.9786, NULL, NULL),
-	(5046, 923.5, 48.75, 0.9784, NULL, NULL),
-	(5047, 923.5, 49, 0.9782, NULL, NULL),
-	(5048, 923.5, 49.25, 0.978, NULL, NULL),
-	(5049, 923.5, 49.5, 0.9778, NULL, NULL),
-	(5050, 923.5, 49.75, 0.9777, NULL, NULL),
-	(5051, 923.5, 50, 0.9775, NULL, NULL),
-	(5052, 927, 15, 1.0037, NULL, NULL),
-	(5053, 927, 15.25, 1.0035, NULL, NULL),
-	(5054, 927, 15.5, 1.0033, NULL, NULL),
-	(5055, 927, 15.75, 1.0032, NULL, NULL),
-	(5056, 927, 16, 1.003, NULL, NULL),
-	(5057, 927, 16.25, 1.0028, NULL, NULL),
-	(5058, 927, 16.5, 1.0026, NULL, NULL),
-	(5059, 927, 16.75, 1.0024, NULL, NULL),
-	(5060, 927, 17, 1.0022, NULL, NULL),
-	(5061, 927, 17.25, 1.002, NULL, NULL),
-	(5062, 927, 17.5, 1.0019, NULL, NULL),
-	(5063, 927, 17.75, 1.0017, NULL, NULL),
-	(5064, 927, 18, 1.0015, NULL, NULL),
-	(5065, 927, 18.25, 1.0013, NULL, NULL),
-	(5066, 927, 18.5, 1.0011, NULL, NULL),
-	(5067, 927, 18.75, 1.0009, NULL, NULL),
-	(5068, 927, 19, 1.0007, NULL, NULL),
-	(5069, 927, 19.25, 1.0006, NULL, NULL),
-	(5070, 927, 19.5, 1.0004, NULL, NULL),
-	(5071, 927, 19.75, 1.0002, NULL, NULL),
-	(5072, 927, 20, 1, NULL, NULL),
-	(5073, 927, 20.25, 0.9998, NULL, NULL),
-	(5074, 927, 20.5, 0.9996, NULL, NULL),
-	(5075, 927, 20.75, 0.9994, NULL, NULL),
-	(5076, 927, 21, 0.9993, NULL, NULL),
-	(5077, 927, 21.25, 0.9991, NULL, NULL),
-	(5078, 927, 21.5, 0.9989, NULL, NULL),
-	(5079, 927, 21.75, 0.9987, NULL, NULL),
-	(5080, 927, 22, 0.9985, NULL, NULL),
-	(5081, 927, 22.25, 0.9983, NULL, NULL),
-	(5082, 927, 22.5, 0.9981, NULL, NULL),
-	(5083, 927, 22.75, 0.998, NULL, NULL),
-	(5084, 927, 23, 0.9978, NULL, NULL),
-	(5085, 927, 23.25, 0.9976, NULL, NULL),
-	(5086, 927, 23.5, 0.9974, NULL, NULL),
-	(5087, 927, 23.75, 0.9972, NULL, NULL),
-	(5088, 927, 24, 0.997, NULL, NULL),
-	(5089, 927, 24.25, 0.9968, NULL, NULL),
-	(5090, 927, 24.5, 0.9967, NULL, NULL),
-	(5091, 927, 24.75, 0.9965, NULL, NULL),
-	(5092, 927, 25, 0.9963, NULL, NULL),
-	(5093, 927, 25.25, 0.9961, NULL, NULL),
-	(5094, 927, 25.5, 0.9959, NULL, NULL),
-	(5095, 927, 25.75, 0.9957, NULL, NULL),
-	(5096, 927, 26, 0.9955, NULL, NULL),
-	(5097, 927, 26.25, 0.9954, NULL, NULL),
-	(5098, 927, 26.5, 0.9952, NULL, NULL),
-	(5099, 927, 26.75, 0.995, NULL, NULL),
-	(5100, 927, 27, 0.9948, NULL, NULL),
-	(5101, 927, 27.25, 0.9946, NULL, NULL),
-	(5102, 927, 27.5, 0.9944, NULL, NULL),
-	(5103, 927, 27.75, 0.9942, NULL, NULL),
-	(5104, 927, 28, 0.994, NULL, NULL),
-	(5105, 927, 28.25, 0.9939, NULL, NULL),
-	(5106, 927, 28.5, 0.9937, NULL, NULL),
-	(5107, 927, 28.75, 0.9935, NULL, NULL),
-	(5108, 927, 29, 0.9933, NULL, NULL),
-	(5109, 927, 29.25, 0.9931, NULL, NULL),
-	(5110, 927, 29.5, 0.9929, NULL, NULL),
-	(5111, 927, 29.75, 0.9927, NULL, NULL),
-	(5112, 927, 30, 0.9926, NULL, NULL),
-	(5113, 927, 30.25, 0.9924, NULL, NULL),
-	(5114, 927, 30.5, 0.9922, NULL, NULL),
-	(5115, 927, 30.75, 0.992, NULL, NULL),
-	(5116, 927, 31, 0.9918, NULL, NULL),
-	(5117, 927, 31.25, 0.9916, NULL, NULL),
-	(5118, 927, 31.5, 0.9914, NULL, NULL),
-	(5119, 927, 31.75, 0.9912, NULL, NULL),
-	(5120, 927, 32, 0.9911, NULL, NULL),
-	(5121, 927, 32.25, 0.9909, NULL, NULL),
-	(5122, 927, 32.5, 0.9907, NULL, NULL),
-	(5123, 927, 32.75, 0.9905, NULL, NULL),
-	(5124, 927, 33, 0.9903, NULL, NULL),
-	(5125, 927, 33.25, 0.9901, NULL, NULL),
-	(5126, 927, 33.5, 0.9899, NULL, NULL),
-	(5127, 927, 33.75, 0.9898, NULL, NULL),
-	(5128, 927, 34, 0.9896, NULL, NULL),
-	(5129, 927, 34.25, 0.9894, NULL, NULL),
-	(5130, 927, 34.5, 0.9892, NULL, NULL),
-	(5131, 927, 34.75, 0.989, NULL, NULL),
-	(5132, 927, 35, 0.9888, NULL, NULL),
-	(5133, 927, 35.25, 0.9886, NULL, NULL),
-	(5134, 927, 35.5, 0.9884, NULL, NULL),
-	(5135, 927, 35.75, 0.9883, NULL, NULL),
-	(5136, 927, 36, 0.9881, NULL, NULL),
-	(5137, 927, 36.25, 0.9879, NULL, NULL),
-	(5138, 927, 36.5, 0.9877, NULL, NULL),
-	(5139, 927, 36.75, 0.9875, NULL, NULL),
-	(5140, 927, 37, 0.9873, NULL, NULL),
-	(5141, 927, 37.25, 0.9871, NULL, NULL),
-	(5142, 927, 37.5, 0.987, NULL, NULL),
-	(5143, 927, 37.75, 0.9868, NULL, NULL),
-	(5144, 927, 38, 0.9866, NULL, NULL),
-	(5145, 927, 38.25, 0.9864, NULL, NULL),
-	(5146, 927, 38.5, 0.9862, NULL, NULL),
-	(5147, 927, 38.75, 0.986, NULL, NULL),
-	(5148, 927, 39, 0.9858, NULL, NULL),
-	(5149, 927, 39.25, 0.9856, NULL, NULL),
-	(5150, 927, 39.5, 0.9855, NULL, NULL),
-	(5151, 927, 39.75, 0.9853, NULL, NULL),
-	(5152, 927, 40, 0.9851, NULL, NULL),
-	(5153, 927, 40.25, 0.9849, NULL, NULL),
-	(5154, 927, 40.5, 0.9847, NULL, NULL),
-	(5155, 927, 40.75, 0.9845, NULL, NULL),
-	(5156, 927, 41, 0.9843, NULL, NULL),
-	(5157, 927, 41.25, 0.9841, NULL, NULL),
-	(5158, 927, 41.5, 0.984, NULL, NULL),
-	(5159, 927, 41.75, 0.9838, NULL, NULL),
-	(5160, 927, 42, 0.9836, NULL, NULL),
-	(5161, 927, 42.25, 0.9834, NULL, NULL),
-	(5162, 927, 42.5, 0.9832, NULL, NULL),
-	(5163, 927, 42.75, 0.983, NULL, NULL),
-	(5164, 927, 43, 0.9828, NULL, NULL),
-	(5165, 927, 43.25, 0.9826, NULL, NULL),
-	(5166, 927, 43.5, 0.9825, NULL, NULL),
-	(5167, 927, 43.75, 0.9823, NULL, NULL),
-	(5168, 927, 44, 0.9821, NULL, NULL),
-	(5169, 927, 44.25, 0.9819, NULL, NULL),
-	(5170, 927, 44.5, 0.9817, NULL, NULL),
-	(5171, 927, 44.75, 0.9815, NULL, NULL),
-	(5172, 927, 45, 0.9813, NULL, NULL),
-	(5173, 927, 45.25, 0.9811, NULL, NULL),
-	(5174, 927, 45.5, 0.981, NULL, NULL),
-	(5175, 927, 45.75, 0.9808, NULL, NULL),
-	(5176, 927, 46, 0.9806, NULL, NULL),
-	(5177, 927, 46.25, 0.9804, NULL, NULL),
-	(5178, 927, 46.5, 0.9802, NULL, NULL),
-	(5179, 927, 46.75, 0.98, NULL, NULL),
-	(5180, 927, 47, 0.9798, NULL, NULL),
-	(5181, 927, 47.25, 0.9796, NULL, NULL),
-	(5182, 927, 47.5, 0.9795, NULL, NULL),
-	(5183, 927, 47.75, 0.9793, NULL, NULL),
-	(5184, 927, 48, 0.9791, NULL, NULL),
-	(5185, 927, 48.25, 0.9789, NULL, NULL),
-	(5186, 927, 48.5, 0.9787, NULL, NULL),
-	(5187, 927, 48.75, 0.9785, NULL, NULL),
-	(5188, 927, 49, 0.9783, NULL, NULL),
-	(5189, 927, 49.25, 0.9781, NULL, NULL),
-	(5190, 927, 49.5, 0.9779, NULL, NULL),
-	(5191, 927, 49.75, 0.9778, NULL, NULL),
-	(5192, 927, 50, 0.9776, NULL, NULL),
-	(5193, 927.5, 15, 1.0037, NULL, NULL),
-	(5194, 927.5, 15.25, 1.0035, NULL, NULL),
-	(5195, 927.5, 15.5, 1.0033, NULL, NULL),
-	(5196, 927.5, 15.75, 1.0032, NULL, NULL),
-	(5197, 927.5, 16, 1.003, NULL, NULL),
-	(5198, 927.5, 16.25, 1.0028, NULL, NULL),
-	(5199, 927.5, 16.5, 1.0026, NULL, NULL),
-	(5200, 927.5, 16.75, 1.0024, NULL, NULL),
-	(5201, 927.5, 17, 1.0022, NULL, NULL),
-	(5202, 927.5, 17.25, 1.002, NULL, NULL),
-	(5203, 927.5, 17.5, 1.0019, NULL, NULL),
-	(5204, 927.5, 17.75, 1.0017, NULL, NULL),
-	(5205, 927.5, 18, 1.0015, NULL, NULL),
-	(5206, 927.5, 18.25, 1.0013, NULL, NULL),
-	(5207, 927.5, 18.5, 1.0011, NULL, NULL),
-	(5208, 927.5, 18.75, 1.0009, NULL, NULL),
-	(5209, 927.5, 19, 1.0007, NULL, NULL),
-	(5210, 927.5, 19.25, 1.0006, NULL, NULL),
-	(5211, 927.5, 19.5, 1.0004, NULL, NULL),
-	(5212, 927.5, 19.75, 1.0002, NULL, NULL),
-	(5213, 927.5, 20, 1, NULL, NULL),
-	(5214, 927.5, 20.25, 0.9998, NULL, NULL),
-	(5215, 927.5, 20.5, 0.9996, NULL, NULL),
-	(5216, 927.5, 20.75, 0.9994, NULL, NULL),
-	(5217, 927.5, 21, 0.9993, NULL, NULL),
-	(5218, 927.5, 21.25, 0.9991, NULL, NULL),
-	(5219, 927.5, 21.5, 0.9989, NULL, NULL),
-	(5220, 927.5, 21.75, 0.9987, NULL, NULL),
-	(5221, 927.5, 22, 0.9985, NULL, NULL),
-	(5222, 927.5, 22.25, 0.9983, NULL, NULL),
-	(5223, 927.5, 22.5, 0.9981, NULL, NULL),
-	(5224, 927.5, 22.75, 0.998, NULL, NULL),
-	(5225, 927.5, 23, 0.9978, NULL, NULL),
-	(5226, 927.5, 23.25, 0.9976, NULL, NULL),
-	(5227, 927.5, 23.5, 0.9974, NULL, NULL),
-	(5228, 927.5, 23.75, 0.9972, NULL, NULL),
-	(5229, 927.5, 24, 0.997, NULL, NULL),
-	(5230, 927.5, 24.25, 0.9968, NULL, NULL),
-	(5231, 927.5, 24.5, 0.9967, NULL, NULL),
-	(5232, 927.5, 24.75, 0.9965, NULL, NULL),
-	(5233, 927.5, 25, 0.9963, NULL, NULL),
-	(5234, 927.5, 25.25, 0.9961, NULL, NULL),
-	(5235, 927.5, 25.5, 0.9959, NULL, NULL),
-	(5236, 927.5, 25.75, 0.9957, NULL, NULL),
-	(5237, 927.5, 26, 0.9955, NULL, NULL),
-	(5238, 927.5, 26.25, 0.9954, NULL, NULL),
-	(5239, 927.5, 26.5, 0.9952, NULL, NULL),
-	(5240, 927.5, 26.75, 0.995, NULL, NULL),
-	(5241, 927.5, 27, 0.9948, NULL, NULL),
-	(5242, 927.5, 27.25, 0.9946, NULL, NULL),
-	(5243, 927.5, 27.5, 0.9944, NULL, NULL),
-	(5244, 927.5, 27.75, 0.9942, NULL, NULL),
-	(5245, 927.5, 28, 0.9941, NULL, NULL),
-	(5246, 927.5, 28.25, 0.9939, NULL, NULL),
-	(5247, 927.5, 28.5, 0.9937, NULL, NULL),
-	(5248, 927.5, 28.75, 0.9935, NULL, NULL),
-	(5249, 927.5, 29, 0.9933, NULL, NULL),
-	(5250, 927.5, 29.25, 0.9931, NULL, NULL),
-	(5251, 927.5, 29.5, 0.9929, NULL, NULL),
-	(5252, 927.5, 29.75, 0.9927, NULL, NULL),
-	(5253, 927.5, 30, 0.9926, NULL, NULL),
-	(5254, 927.5, 30.25, 0.9924, NULL, NULL),
-	(5255, 927.5, 30.5, 0.9922, NULL, NULL),
-	(5256, 927.5, 30.75, 0.992, NULL, NULL),
-	(5257, 927.5, 31, 0.9918, NULL, NULL),
-	(5258, 927.5, 31.25, 0.9916, NULL, NULL),
-	(5259, 927.5, 31.5, 0.9914, NULL, NULL),
-	(5260, 927.5, 31.75, 0.9913, NULL, NULL),
-	(5261, 927.5, 32, 0.9911, NULL, NULL),
-	(5262, 927.5, 32.25, 0.9909, NULL, NULL),
-	(5263, 927.5, 32.5, 0.9907, NULL, NULL),
-	(5264, 927.5, 32.75, 0.9905, NULL, NULL),
-	(5265, 927.5, 33, 0.9903, NULL, NULL),
-	(5266, 927.5, 33.25, 0.9901, NULL, NULL),
-	(5267, 927.5, 33.5, 0.9899, NULL, NULL),
-	(5268, 927.5, 33.75, 0.9898, NULL, NULL),
-	(5269, 927.5, 34, 0.9896, NULL, NULL),
-	(5270, 927.5, 34.25, 0.9894, NULL, NULL),
-	(5271, 927.5, 34.5, 0.9892, NULL, NULL),
-	(5272, 927.5, 34.75, 0.989, NULL, NULL),
-	(5273, 927.5, 35, 0.9888, NULL, NULL),
-	(5274, 927.5, 35.25, 0.9886, NULL, NULL),
-	(5275, 927.5, 35.5, 0.9885, NULL, NULL),
-	(5276, 927.5, 35.75, 0.9883, NULL, NULL),
-	(5277, 927.5, 36, 0.9881, NULL, NULL),
-	(5278, 927.5, 36.25, 0.9879, NULL, NULL),
-	(5279, 927.5, 36.5, 0.9877, NULL, NULL),
-	(5280, 927.5, 36.75, 0.9875, NULL, NULL),
-	(5281, 927.5, 37, 0.9873, NULL, NULL),
-	(5282, 927.5, 37.25, 0.9871, NULL, NULL),
-	(5283, 927.5, 37.5, 0.987, NULL, NULL),
-	(5284, 927.5, 37.75, 0.9868, NULL, NULL),
-	(5285, 927.5, 38, 0.9866, NULL, NULL),
-	(5286, 927.5, 38.25, 0.9864, NULL, NULL),
-	(5287, 927.5, 38.5, 0.9862, NULL, NULL),
-	(5288, 927.5, 38.75, 0.986, NULL, NULL),
-	(5289, 927.5, 39, 0.9858, NULL, NULL),
-	(5290, 927.5, 39.25, 0.9857, NULL, NULL),
-	(5291, 927.5, 39.5, 0.9855, NULL, NULL),
-	(5292, 927.5, 39.75, 0.9853, NULL, NULL),
-	(5293, 927.5, 40, 0.9851, NULL, NULL),
-	(5294, 927.5, 40.25, 0.9849, NULL, NULL),
-	(5295, 927.5, 40.5, 0.9847, NULL, NULL),
-	(5296, 927.5, 40.75, 0.9845, NULL, NULL),
-	(5297, 927.5, 41, 0.9843, NULL, NULL),
-	(5298, 927.5, 41.25, 0.9842, NULL, NULL),
-	(5299, 927.5, 41.5, 0.984, NULL, NULL),
-	(5300, 927.5, 41.75, 0.9838, NULL, NULL),
-	(5301, 927.5, 42, 0.9836, NULL, NULL),
-	(5302, 927.5, 42.25, 0.9834, NULL, NULL),
-	(5303, 927.5, 42.5, 0.9832, NULL, NULL),
-	(5304, 927.5, 42.75, 0.983, NULL, NULL),
-	(5305, 927.5, 43, 0.9828, NULL, NULL),
-	(5306, 927.5, 43.25, 0.9827, NULL, NULL),
-	(5307, 927.5, 43.5, 0.9825, NULL, NULL),
-	(5308, 927.5, 43.75, 0.9823, NULL, NULL),
-	(5309, 927.5, 44, 0.9821, NULL, NULL),
-	(5310, 927.5, 44.25, 0.9819, NULL, NULL),
-	(5311, 927.5, 44.5, 0.9817, NULL, NULL),
-	(5312, 927.5, 44.75, 0.9815, NULL, NULL),
-	(5313, 927.5, 45, 0.9813, NULL, NULL),
-	(5314, 927.5, 45.25, 0.9812, NULL, NULL),
-	(5315, 927.5, 45.5, 0.981, NULL, NULL),
-	(5316, 927.5, 45.75, 0.9808, NULL, NULL),
-	(5317, 927.5, 46, 0.9806, NULL, NULL),
-	(5318, 927.5, 46.25, 0.9804, NULL, NULL),
-	(5319, 927.5, 46.5, 0.9802, NULL, NULL),
-	(5320, 927.5, 46.75, 0.98, NULL, NULL),
-	(5321, 927.5, 47, 0.9798, NULL, NULL),
-	(5322, 927.5, 47.25, 0.9797, NULL, NULL),
-	(5323, 927.5, 47.5, 0.9795, NULL, NULL),
-	(5324, 927.5, 47.75, 0.9793, NULL, NULL),
-	(5325, 927.5, 48, 0.9791, NULL, NULL),
-	(5326, 927.5, 48.25, 0.9789, NULL, NULL),
-	(5327, 927.5, 48.5, 0.9787, NULL, NULL),
-	(5328, 927.5, 48.75, 0.9785, NULL, NULL),
-	(5329, 927.5, 49, 0.9783, NULL, NULL),
-	(5330, 927.5, 49.25, 0.9782, NULL, NULL),
-	(5331, 927.5, 49.5, 0.978, NULL, NULL),
-	(5332, 927.5, 49.75, 0.9778, NULL, NULL),
-	(5333, 927.5, 50, 0.9776, NULL, NULL),
-	(5334, 928, 15, 1.0037, NULL, NULL),
-	(5335, 928, 15.25, 1.0035, NULL, NULL),
-	(5336, 928, 15.5, 1.0033, NULL, NULL),
-	(5337, 928, 15.75, 1.0031, NULL, NULL),
-	(5338, 928, 16, 1.003, NULL, NULL),
-	(5339, 928, 16.25, 1.0028, NULL, NULL),
-	(5340, 928, 16.5, 1.0026, NULL, NULL),
-	(5341, 928, 16.75, 1.0024, NULL, NULL),
-	(5342, 928, 17, 1.0022, NULL, NULL),
-	(5343, 928, 17.25, 1.002, NULL, NULL),
-	(5344, 928, 17.5, 1.0019, NULL, NULL),
-	(5345, 928, 17.75, 1.0017, NULL, NULL),
-	(5346, 928, 18, 1.0015, NULL, NULL),
-	(5347, 928, 18.25, 1.0013, NULL, NULL),
-	(5348, 928, 18.5, 1.0011, NULL, NULL),
-	(5349, 928, 18.75, 1.0009, NULL, NULL),
-	(5350, 928, 19, 1.0007, NULL, NULL),
-	(5351, 928, 19.25, 1.0006, NULL, NULL),
-	(5352, 928, 19.5, 1.0004, NULL, NULL),
-	(5353, 928, 19.75, 1.0002, NULL, NULL),
-	(5354, 928, 20, 1, NULL, NULL),
-	(5355, 928, 20.25, 0.9998, NULL, NULL),
-	(5356, 928, 20.5, 0.9996, NULL, NULL),
-	(5357, 928, 20.75, 0.9994, NULL, NULL),
-	(5358, 928, 21, 0.9993, NULL, NULL),
-	(5359, 928, 21.25, 0.9991, NULL, NULL),
-	(5360, 928, 21.5, 0.9989, NULL, NULL),
-	(5361, 928, 21.75, 0.9987, NULL, NULL),
-	(5362, 928, 22, 0.9985, NULL, NULL),
-	(5363, 928, 22.25, 0.9983, NULL, NULL),
-	(5364, 928, 22.5, 0.9981, NULL, NULL),
-	(5365, 928, 22.75, 0.998, NULL, NULL),
-	(5366, 928, 23, 0.9978, NULL, NULL),
-	(5367, 928, 23.25, 0.9976, NULL, NULL),
-	(5368, 928, 23.5, 0.9974, NULL, NULL),
-	(5369, 928, 23.75, 0.9972, NULL, NULL),
-	(5370, 928, 24, 0.997, NULL, NULL),
-	(5371, 928, 24.25, 0.9968, NULL, NULL),
-	(5372, 928, 24.5, 0.9967, NULL, NULL),
-	(5373, 928, 24.75, 0.9965, NULL, NULL),
-	(5374, 928, 25, 0.9963, NULL, NULL),
-	(5375, 928, 25.25, 0.9961, NULL, NULL),
-	(5376, 928, 25.5, 0.9959, NULL, NULL),
-	(5377, 928, 25.75, 0.9957, NULL, NULL),
-	(5378, 928, 26, 0.9955, NULL, NULL),
-	(5379, 928, 26.25, 0.9954, NULL, NULL),
-	(5380, 928, 26.5, 0.9952, NULL, NULL),
-	(5381, 928, 26.75, 0.995, NULL, NULL),
-	(5382, 928, 27, 0.9948, NULL, NULL),
-	(5383, 928, 27.25, 0.9946, NULL, NULL),
-	(5384, 928, 27.5, 0.9944, NULL, NULL),
-	(5385, 928, 27.75, 0.9942, NULL, NULL),
-	(5386, 928, 28, 0.9941, NULL, NULL),
-	(5387, 928, 28.25, 0.9939, NULL, NULL),
-	(5388, 928, 28.5, 0.9937, NULL, NULL),
-	(5389, 928, 28.75, 0.9935, NULL, NULL),
-	(5390, 928, 29, 0.9933, NULL, NULL),
-	(5391, 928, 29.25, 0.9931, NULL, NULL),
-	(5392, 928, 29.5, 0.9929, NULL, NULL),
-	(5393, 928, 29.75, 0.9928, NULL, NULL),
-	(5394, 928, 30, 0.9926, NULL, NULL),
-	(5395, 928, 30.25, 0.9924, NULL, NULL),
-	(5396, 928, 30.5, 0.9922, NULL, NULL),
-	(5397, 928, 30.75, 0.992, NULL, NULL),
-	(5398, 928, 31, 0.9918, NULL, NULL),
-	(5399, 928, 31.25, 0.9916, NULL, NULL),
-	(5400, 928, 31.5, 0.9914, NULL, NULL),
-	(5401, 928, 31.75, 0.9913, NULL, NULL),
-	(5402, 928, 32, 0.9911, NULL, NULL),
-	(5403, 928, 32.25, 0.9909, NULL, NULL),
-	(5404, 928, 32.5, 0.9907, NULL, NULL),
-	(5405, 928, 32.75, 0.9905, NULL, NULL),
-	(5406, 928, 33, 0.9903, NULL, NULL),
-	(5407, 928, 33.25, 0.9901, NULL, NULL),
-	(5408, 928, 33.5, 0.99, NULL, NULL),
-	(5409, 928, 33.75, 0.9898, NULL, NULL),
-	(5410, 928, 34, 0.9896, NULL, NULL),
-	(5411, 928, 34.25, 0.9894, NULL, NULL),
-	(5412, 928, 34.5, 0.9892, NULL, NULL),
-	(5413, 928, 34.75, 0.989, NULL, NULL),
-	(5414, 928, 35, 0.9888, NULL, NULL),
-	(5415, 928, 35.25, 0.9887, NULL, NULL),
-	(5416, 928, 35.5, 0.9885, NULL, NULL),
-	(5417, 928, 35.75, 0.9883, NULL, NULL),
-	(5418, 928, 36, 0.9881, NULL, NULL),
-	(5419, 928, 36.25, 0.9879, NULL, NULL),
-	(5420, 928, 36.5, 0.9877, NULL, NULL),
-	(5421, 928, 36.75, 0.9875, NULL, NULL),
-	(5422, 928, 37, 0.9873, NULL, NULL),
-	(5423, 928, 37.25, 0.9872, NULL, NULL),
-	(5424, 928, 37.5, 0.987, NULL, NULL),
-	(5425, 928, 37.75, 0.9868, NULL, NULL),
-	(5426, 928, 38, 0.9866, NULL, NULL),
-	(5427, 928, 38.25, 0.9864, NULL, NULL),
-	(5428, 928, 38.5, 0.9862, NULL, NULL),
-	(5429, 928, 38.75, 0.986, NULL, NULL),
-	(5430, 928, 39, 0.9858, NULL, NULL),
-	(5431, 928, 39.25, 0.9857, NULL, NULL),
-	(5432, 928, 39.5, 0.9855, NULL, NULL),
-	(5433, 928, 39.75, 0.9853, NULL, NULL),
-	(5434, 928, 40, 0.9851, NULL, NULL),
-	(5435, 928, 40.25, 0.9849, NULL, NULL),
-	(5436, 928, 40.5, 0.9847, NULL, NULL),
-	(5437, 928, 40.75, 0.9845, NULL, NULL),
-	(5438, 928, 41, 0.9844, NULL, NULL),
-	(5439, 928, 41.25, 0.9842, NULL, NULL),
-	(5440, 928, 41.5, 0.984, NULL, NULL),
-	(5441, 928, 41.75, 0.9838, NULL, NULL),
-	(5442, 928, 42, 0.9836, NULL, NULL),
-	(5443, 928, 42.25, 0.9834, NULL, NULL),
-	(5444, 928, 42.5, 0.9832, NULL, NULL),
-	(5445, 928, 42.75, 0.983, NULL, NULL),
-	(5446, 928, 43, 0.9829, NULL, NULL),
-	(5447, 928, 43.25, 0.9827, NULL, NULL),
-	(5448, 928, 43.5, 0.9825, NULL, NULL),
-	(5449, 928, 43.75, 0.9823, NULL, NULL),
-	(5450, 928, 44, 0.9821, NULL, NULL),
-	(5451, 928, 44.25, 0.9819, NULL, NULL),
-	(5452, 928, 44.5, 0.9817, NULL, NULL),
-	(5453, 928, 44.75, 0.9815, NULL, NULL),
-	(5454, 928, 45, 0.9814, NULL, NULL),
-	(5455, 928, 45.25, 0.9812, NULL, NULL),
-	(5456, 928, 45.5, 0.981, NULL, NULL),
-	(5457, 928, 45.75, 0.9808, NULL, NULL),
-	(5458, 928, 46, 0.9806, NULL, NULL),
-	(5459, 928, 46.25, 0.9804, NULL, NULL),
-	(5460, 928, 46.5, 0.9802, NULL, NULL),
-	(5461, 928, 46.75, 0.98, NULL, NULL),
-	(5462, 928, 47, 0.9799, NULL, NULL),
-	(5463, 928, 47.25, 0.9797, NULL, NULL),
-	(5464, 928, 47.5, 0.9795, NULL, NULL),
-	(5465, 928, 47.75, 0.9793, NULL, NULL),
-	(5466, 928, 48, 0.9791, NULL, NULL),
-	(5467, 928, 48.25, 0.9789, NULL, NULL),
-	(5468, 928, 48.5, 0.9787, NULL, NULL),
-	(5469, 928, 48.75, 0.9785, NULL, NULL),
-	(5470, 928, 49, 0.9784, NULL, NULL),
-	(5471, 928, 49.25, 0.9782, NULL, NULL),
-	(5472, 928, 49.5, 0.978, NULL, NULL),
-	(5473, 928, 49.75, 0.9778, NULL, NULL),
-	(5474, 928, 50, 0.9776, NULL, NULL),
-	(5475, 928.5, 15, 1.0037, NULL, NULL),
-	(5476, 928.5, 15.25, 1.0035, NULL, NULL),
-	(5477, 928.5, 15.5, 1.0033, NULL, NULL),
-	(5478, 928.5, 15.75, 1.0031, NULL, NULL),
-	(5479, 928.5, 16, 1.003, NULL, NULL),
-	(5480, 928.5, 16.25, 1.0028, NULL, NULL),
-	(5481, 928.5, 16.5, 1.0026, NULL, NULL),
-	(5482, 928.5, 16.75, 1.0024, NULL, NULL),
-	(5483, 928.5, 17, 1.0022, NULL, NULL),
-	(5484, 928.5, 17.25, 1.002, NULL, NULL),
-	(5485, 928.5, 17.5, 1.0019, NULL, NULL),
-	(5486, 928.5, 17.75, 1.0017, NULL, NULL),
-	(5487, 928.5, 18, 1.0015, NULL, NULL),
-	(5488, 928.5, 18.25, 1.0013, NULL, NULL),
-	(5489, 928.5, 18.5, 1.0011, NULL, NULL),
-	(5490, 928.5, 18.75, 1.0009, NULL, NULL),
-	(5491, 928.5, 19, 1.0007, NULL, NULL),
-	(5492, 928.5, 19.25, 1.0006, NULL, NULL),
-	(5493, 928.5, 19.5, 1.0004, NULL, NULL),
-	(5494, 928.5, 19.75, 1.0002, NULL, NULL),
-	(5495, 928.5, 20, 1, NULL, NULL),
-	(5496, 928.5, 20.25, 0.9998, NULL, NULL),
-	(5497, 928.5, 20.5, 0.9996, NULL, NULL),
-	(5498, 928.5, 20.75, 0.9994, NULL, NULL),
-	(5499, 928.5, 21, 0.9993, NULL, NULL),
-	(5500, 928.5, 21.25, 0.9991, NULL, NULL),
-	(5501, 928.5, 21.5, 0.9989, NULL, NULL),
-	(5502, 928.5, 21.75, 0.9987, NULL, NULL),
-	(5503, 928.5, 22, 0.9985, NULL, NULL),
-	(5504, 928.5, 22.25, 0.9983, NULL, NULL),
-	(5505, 928.5, 22.5, 0.9981, NULL, NULL),
-	(5506, 928.5, 22.75, 0.998, NULL, NULL),
-	(5507, 928.5, 23, 0.9978, NULL, NULL),
-	(5508, 928.5, 23.25, 0.9976, NULL, NULL),
-	(5509, 928.5, 23.5, 0.9974, NULL, NULL),
-	(5510, 928.5, 23.75, 0.9972, NULL, NULL),
-	(5511, 928.5, 24, 0.997, NULL, NULL),
-	(5512, 928.5, 24.25, 0.9968, NULL, NULL),
-	(5513, 928.5, 24.5, 0.9967, NULL, NULL),
-	(5514, 928.5, 24.75, 0.9965, NULL, NULL),
-	(5515, 928.5, 25, 0.9963, NULL, NULL),
-	(5516, 928.5, 25.25, 0.9961, NULL, NULL),
-	(5517, 928.5, 25.5, 0.9959, NULL, NULL),
-	(5518, 928.5, 25.75, 0.9957, NULL, NULL),
-	(5519, 928.5, 26, 0.9955, NULL, NULL),
-	(5520, 928.5, 26.25, 0.9954, NULL, NULL),
-	(5521, 928.5, 26.5, 0.9952, NULL, NULL),
-	(5522, 928.5, 26.75, 0.995, NULL, NULL),
-	(5523, 928.5, 27, 0.9948, NULL, NULL),
-	(5524, 928.5, 27.25, 0.9946, NULL, NULL),
-	(5525, 928.5, 27.5, 0.9944, NULL, NULL),
-	(5526, 928.5, 27.75, 0.9942, NULL, NULL),
-	(5527, 928.5, 28, 0.9941, NULL, NULL),
-	(5528, 928.5, 28.25, 0.9939, NULL, NULL),
-	(5529, 928.5, 28.5, 0.9937, NULL, NULL),
-	(5530, 928.5, 28.75, 0.9935, NULL, NULL),
-	(5531, 928.5, 29, 0.9933, NULL, NULL),
-	(5532, 928.5, 29.25, 0.9931, NULL, NULL),
-	(5533, 928.5, 29.5, 0.9929, NULL, NULL),
-	(5534, 928.5, 29.75, 0.9928, NULL, NULL),
-	(5535, 928.5, 30, 0.9926, NULL, NULL),
-	(5536, 928.5, 30.25, 0.9924, NULL, NULL),
-	(5537, 928.5, 30.5, 0.9922, NULL, NULL),
-	(5538, 928.5, 30.75, 0.992, NULL, NULL),
-	(5539, 928.5, 31, 0.9918, NULL, NULL),
-	(5540, 928.5, 31.25, 0.9916, NULL, NULL),
-	(5541, 928.5, 31.5, 0.9915, NULL, NULL),
-	(5542, 928.5, 31.75, 0.9913, NULL, NULL),
-	(5543, 928.5, 32, 0.9911, NULL, NULL),
-	(5544, 928.5, 32.25, 0.9909, NULL, NULL),
-	(5545, 928.5, 32.5, 0.9907, NULL, NULL),
-	(5546, 928.5, 32.75, 0.9905, NULL, NULL),
-	(5547, 928.5, 33, 0.9903, NULL, NULL),
-	(5548, 928.5, 33.25, 0.9901, NULL, NULL),
-	(5549, 928.5, 33.5, 0.99, NULL, NULL),
-	(5550, 928.5, 33.75, 0.9898, NULL, NULL),
-	(5551, 928.5, 34, 0.9896, NULL, NULL),
-	(5552, 928.5, 34.25, 0.9894, NULL, NULL),
-	(5553, 928.5, 34.5, 0.9892, NULL, NULL),
-	(5554, 928.5, 34.75, 0.989, NULL, NULL),
-	(5555, 928.5, 35, 0.9888, NULL, NULL),
-	(5556, 928.5, 35.25, 0.9887, NULL, NULL),
-	(5557, 928.5, 35.5, 0.9885, NULL, NULL),
-	(5558, 928.5, 35.75, 0.9883, NULL, NULL),
-	(5559, 928.5, 36, 0.9881, NULL, NULL),
-	(5560, 928.5, 36.25, 0.9879, NULL, NULL),
-	(5561, 928.5, 36.5, 0.9877, NULL, NULL),
-	(5562, 928.5, 36.75, 0.9875, NULL, NULL),
-	(5563, 928.5, 37, 0.9874, NULL, NULL),
-	(5564, 928.5, 37.25, 0.9872, NULL, NULL),
-	(5565, 928.5, 37.5, 0.987, NULL, NULL),
-	(5566, 928.5, 37.75, 0.9868, NULL, NULL),
-	(5567, 928.5, 38, 0.9866, NULL, NULL),
-	(5568, 928.5, 38.25, 0.9864, NULL, NULL),
-	(5569, 928.5, 38.5, 0.9862, NULL, NULL),
-	(5570, 928.5, 38.75, 0.986, NULL, NULL),
-	(5571, 928.5, 39, 0.9859, NULL, NULL),
-	(5572, 928.5, 39.25, 0.9857, NULL, NULL),
-	(5573, 928.5, 39.5, 0.9855, NULL, NULL),
-	(5574, 928.5, 39.75, 0.9853, NULL, NULL),
-	(5575, 928.5, 40, 0.9851, NULL, NULL),
-	(5576, 928.5, 40.25, 0.9849, NULL, NULL),
-	(5577, 928.5, 40.5, 0.9847, NULL, NULL),
-	(5578, 928.5, 40.75, 0.9846, NULL, NULL),
-	(5579, 928.5, 41, 0.9844, NULL, NULL),
-	(5580, 928.5, 41.25, 0.9842, NULL, NULL),
-	(5581, 928.5, 41.5, 0.984, NULL, NULL),
-	(5582, 928.5, 41.75, 0.9838, NULL, NULL),
-	(5583, 928.5, 42, 0.9836, NULL, NULL),
-	(5584, 928.5, 42.25, 0.9834, NULL, NULL),
-	(5585, 928.5, 42.5, 0.9832, NULL, NULL),
-	(5586, 928.5, 42.75, 0.9831, NULL, NULL),
-	(5587, 928.5, 43, 0.9829, NULL, NULL),
-	(5588, 928.5, 43.25, 0.9827, NULL, NULL),
-	(5589, 928.5, 43.5, 0.9825, NULL, NULL),
-	(5590, 928.5, 43.75, 0.9823, NULL, NULL),
-	(5591, 928.5, 44, 0.9821, NULL, NULL),
-	(5592, 928.5, 44.25, 0.9819, NULL, NULL),
-	(5593, 928.5, 44.5, 0.9817, NULL, NULL),
-	(5594, 928.5, 44.75, 0.9816, NULL, NULL),
-	(5595, 928.5, 45, 0.9814, NULL, NULL),
-	(5596, 928.5, 45.25, 0.9812, NULL, NULL),
-	(5597, 928.5, 45.5, 0.981, NULL, NULL),
-	(5598, 928.5, 45.75, 0.9808, NULL, NULL),
-	(5599, 928.5, 46, 0.9806, NULL, NULL),
-	(5600, 928.5, 46.25, 0.9804, NULL, NULL),
-	(5601, 928.5, 46.5, 0.9802, NULL, NULL),
-	(5602, 928.5, 46.75, 0.9801, NULL, NULL),
-	(5603, 928.5, 47, 0.9799, NULL, NULL),
-	(5604, 928.5, 47.25, 0.9797, NULL, NULL),
-	(5605, 928.5, 47.5, 0.9795, NULL, NULL),
-	(5606, 928.5, 47.75, 0.9793, NULL, NULL),
-	(5607, 928.5, 48, 0.9791, NULL, NULL),
-	(5608, 928.5, 48.25, 0.9789, NULL, NULL),
-	(5609, 928.5, 48.5, 0.9787, NULL, NULL),
-	(5610, 928.5, 48.75, 0.9786, NULL, NULL),
-	(5611, 928.5, 49, 0.9784, NULL, NULL),
-	(5612, 928.5, 49.25, 0.9782, NULL, NULL),
-	(5613, 928.5, 49.5, 0.978, NULL, NULL),
-	(5614, 928.5, 49.75, 0.9778, NULL, NULL),
-	(5615, 928.5, 50, 0.9776, NULL, NULL),
-	(5616, 929, 15, 1.0037, NULL, NULL),
-	(5617, 929, 15.25, 1.0035, NULL, NULL),
-	(5618, 929, 15.5, 1.0033, NULL, NULL),
-	(5619, 929, 15.75, 1.0031, NULL, NULL),
-	(5620, 929, 16, 1.003, NULL, NULL),
-	(5621, 929, 16.25, 1.0028, NULL, NULL),
-	(5622, 929, 16.5, 1.0026, NULL, NULL),
-	(5623, 929, 16.75, 1.0024, NULL, NULL),
-	(5624, 929, 17, 1.0022, NULL, NULL),
-	(5625, 929, 17.25, 1.002, NULL, NULL),
-	(5626, 929, 17.5, 1.0019, NULL, NULL),
-	(5627, 929, 17.75, 1.0017, NULL, NULL),
-	(5628, 929, 18, 1.0015, NULL, NULL),
-	(5629, 929, 18.25, 1.0013, NULL, NULL),
-	(5630, 929, 18.5, 1.0011, NULL, NULL),
-	(5631, 929, 18.75, 1.0009, NULL, NULL),
-	(5632, 929, 19, 1.0007, NULL, NULL),
-	(5633, 929, 19.25, 1.0006, NULL, NULL),
-	(5634, 929, 19.5, 1.0004, NULL, NULL),
-	(5635, 929, 19.75, 1.0002, NULL, NULL),
-	(5636, 929, 20, 1, NULL, NULL),
-	(5637, 929, 20.25, 0.9998, NULL, NULL),
-	(5638, 929, 20.5, 0.9996, NULL, NULL),
-	(5639, 929, 20.75, 0.9994, NULL, NULL),
-	(5640, 929, 21, 0.9993, NULL, NULL),
-	(5641, 929, 21.25, 0.9991, NULL, NULL),
-	(5642, 929, 21.5, 0.9989, NULL, NULL),
-	(5643, 929, 21.75, 0.9987, NULL, NULL),
-	(5644, 929, 22, 0.9985, NULL, NULL),
-	(5645, 929, 22.25, 0.9983, NULL, NULL),
-	(5646, 929, 22.5, 0.9981, NULL, NULL),
-	(5647, 929, 22.75, 0.998, NULL, NULL),
-	(5648, 929, 23, 0.9978, NULL, NULL),
-	(5649, 929, 23.25, 0.9976, NULL, NULL),
-	(5650, 929, 23.5, 0.9974, NULL, NULL),
-	(5651, 929, 23.75, 0.9972, NULL, NULL),
-	(5652, 929, 24, 0.997, NULL, NULL),
-	(5653, 929, 24.25, 0.9968, NULL, NULL),
-	(5654, 929, 24.5, 0.9967, NULL, NULL),
-	(5655, 929, 24.75, 0.9965, NULL, NULL),
-	(5656, 929, 25, 0.9963, NULL, NULL),
-	(5657, 929, 25.25, 0.9961, NULL, NULL),
-	(5658, 929, 25.5, 0.9959, NULL, NULL),
-	(5659, 929, 25.75, 0.9957, NULL, NULL),
-	(5660, 929, 26, 0.9955, NULL, NULL),
-	(5661, 929, 26.25, 0.9954, NULL, NULL),
-	(5662, 929, 26.5, 0.9952, NULL, NULL),
-	(5663, 929, 26.75, 0.995, NULL, NULL),
-	(5664, 929, 27, 0.9948, NULL, NULL),
-	(5665, 929, 27.25, 0.9946, NULL, NULL),
-	(5666, 929, 27.5, 0.9944, NULL, NULL),
-	(5667, 929, 27.75, 0.9942, NULL, NULL),
-	(5668, 929, 28, 0.9941, NULL, NULL),
-	(5669, 929, 28.25, 0.9939, NULL, NULL),
-	(5670, 929, 28.5, 0.9937, NULL, NULL),
-	(5671, 929, 28.75, 0.9935, NULL, NULL),
-	(5672, 929, 29, 0.9933, NULL, NULL),
-	(5673, 929, 29.25, 0.9931, NULL, NULL),
-	(5674, 929, 29.5, 0.9929, NULL, NULL),
-	(5675, 929, 29.75, 0.9928, NULL, NULL),
-	(5676, 929, 30, 0.9926, NULL, NULL),
-	(5677, 929, 30.25, 0.9924, NULL, NULL),
-	(5678, 929, 30.5, 0.9922, NULL, NULL),
-	(5679, 929, 30.75, 0.992, NULL, NULL),
-	(5680, 929, 31, 0.9918, NULL, NULL),
-	(5681, 929, 31.25, 0.9916, NULL, NULL),
-	(5682, 929, 31.5, 0.9915, NULL, NULL),
-	(5683, 929, 31.75, 0.9913, NULL, NULL),
-	(5684, 929, 32, 0.9911, NULL, NULL),
-	(5685, 929, 32.25, 0.9909, NULL, NULL),
-	(5686, 929, 32.5, 0.9907, NULL, NULL),
-	(5687, 929, 32.75, 0.9905, NULL, NULL),
-	(5688, 929, 33, 0.9903, NULL, NULL),
-	(5689, 929, 33.25, 0.9902, NULL, NULL),
-	(5690, 929, 33.5, 0.99, NULL, NULL),
-	(5691, 929, 33.75, 0.9898, NULL, NULL),
-	(5692, 929, 34, 0.9896, NULL, NULL),
-	(5693, 929, 34.25, 0.9894, NULL, NULL),
-	(5694, 929, 34.5, 0.9892, NULL, NULL),
-	(5695, 929, 34.75, 0.989, NULL, NULL),
-	(5696, 929, 35, 0.9889, NULL, NULL),
-	(5697, 929, 35.25, 0.9887, NULL, NULL),
-	(5698, 929, 35.5, 0.9885, NULL, NULL),
-	(5699, 929, 35.75, 0.9883, NULL, NULL),
-	(5700, 929, 36, 0.9881, NULL, NULL),
-	(5701, 929, 36.25, 0.9879, NULL, NULL),
-	(5702, 929, 36.5, 0.9877, NULL, NULL),
-	(5703, 929, 36.75, 0.9875, NULL, NULL),
-	(5704, 929, 37, 0.9874, NULL, NULL),
-	(5705, 929, 37.25, 0.9872, NULL, NULL),
-	(5706, 929, 37.5, 0.987, NULL, NULL),
-	(5707, 929, 37.75, 0.9868, NULL, NULL),
-	(5708, 929, 38, 0.9866, NULL, NULL),
-	(5709, 929, 38.25, 0.9864, NULL, NULL),
-	(5710, 929, 38.5, 0.9862, NULL, NULL),
-	(5711, 929, 38.75, 0.9861, NULL, NULL),
-	(5712, 929, 39, 0.9859, NULL, NULL),
-	(5713, 929, 39.25, 0.9857, NULL, NULL),
-	(5714, 929, 39.5, 0.9855, NULL, NULL),
-	(5715, 929, 39.75, 0.9853, NULL, NULL),
-	(5716, 929, 40, 0.9851, NULL, NULL),
-	(5717, 929, 40.25, 0.9849, NULL, NULL),
-	(5718, 929, 40.5, 0.9847, NULL, NULL),
-	(5719, 929, 40.75, 0.9846, NULL, NULL),
-	(5720, 929, 41, 0.9844, NULL, NULL),
-	(5721, 929, 41.25, 0.9842, NULL, NULL),
-	(5722, 929, 41.5, 0.984, NULL, NULL),
-	(5723, 929, 41.75, 0.9838, NULL, NULL),
-	(5724, 929, 42, 0.9836, NULL, NULL),
-	(5725, 929, 42.25, 0.9834, NULL, NULL),
-	(5726, 929, 42.5, 0.9833, NULL, NULL),
-	(5727, 929, 42.75, 0.9831, NULL, NULL),
-	(5728, 929, 43, 0.9829, NULL, NULL),
-	(5729, 929, 43.25, 0.9827, NULL, NULL),
-	(5730, 929, 43.5, 0.9825, NULL, NULL),
-	(5731, 929, 43.75, 0.9823, NULL, NULL),
-	(5732, 929, 44, 0.9821, NULL, NULL),
-	(5733, 929, 44.25, 0.9819, NULL, NULL),
-	(5734, 929, 44.5, 0.9818, NULL, NULL),
-	(5735, 929, 44.75, 0.9816, NULL, NULL),
-	(5736, 929, 45, 0.9814, NULL, NULL),
-	(5737, 929, 45.25, 0.9812, NULL, NULL),
-	(5738, 929, 45.5, 0.981, NULL, NULL),
-	(5739, 929, 45.75, 0.9808, NULL, NULL),
-	(5740, 929, 46, 0.9806, NULL, NULL),
-	(5741, 929, 46.25, 0.9804, NULL, NULL),
-	(5742, 929, 46.5, 0.9803, NULL, NULL),
-	(5743, 929, 46.75, 0.9801, NULL, NULL),
-	(5744, 929, 47, 0.9799, NULL, NULL),
-	(5745, 929, 47.25, 0.9797, NULL, NULL),
-	(5746, 929, 47.5, 0.9795, NULL, NULL),
-	(5747, 929, 47.75, 0.9793, NULL, NULL),
-	(5748, 929, 48, 0.9791, NULL, NULL),
-	(5749, 929, 48.25, 0.9789, NULL, NULL),
-	(5750, 929, 48.5, 0.9788, NULL, NULL),
-	(5751, 929, 48.75, 0.9786, NULL, NULL),
-	(5752, 929, 49, 0.9784, NULL, NULL),
-	(5753, 929, 49.25, 0.9782, NULL, NULL),
-	(5754, 929, 49.5, 0.978, NULL, NULL),
-	(5755, 929, 49.75, 0.9778, NULL, NULL),
-	(5756, 929, 50, 0.9776, NULL, NULL),
-	(5757, 929.5, 15, 1.0037, NULL, NULL),
-	(5758, 929.5, 15.25, 1.0035, NULL, NULL),
-	(5759, 929.5, 15.5, 1.0033, NULL, NULL),
-	(5760, 929.5, 15.75, 1.0031, NULL, NULL),
-	(5761, 929.5, 16, 1.003, NULL, NULL),
-	(5762, 929.5, 16.25, 1.0028, NULL, NULL),
-	(5763, 929.5, 16.5, 1.0026, NULL, NULL),
-	(5764, 929.5, 16.75, 1.0024, NULL, NULL),
-	(5765, 929.5, 17, 1.0022, NULL, NULL),
-	(5766, 929.5, 17.25, 1.002, NULL, NULL),
-	(5767, 929.5, 17.5, 1.0018, NULL, NULL),
-	(5768, 929.5, 17.75, 1.0017, NULL, NULL),
-	(5769, 929.5, 18, 1.0015, NULL, NULL),
-	(5770, 929.5, 18.25, 1.0013, NULL, NULL),
-	(5771, 929.5, 18.5, 1.0011, NULL, NULL),
-	(5772, 929.5, 18.75, 1.0009, NULL, NULL),
-	(5773, 929.5, 19, 1.0007, NULL, NULL),
-	(5774, 929.5, 19.25, 1.0006, NULL, NULL),
-	(5775, 929.5, 19.5, 1.0004, NULL, NULL),
-	(5776, 929.5, 19.75, 1.0002, NULL, NULL),
-	(5777, 929.5, 20, 1, NULL, NULL),
-	(5778, 929.5, 20.25, 0.9998, NULL, NULL),
-	(5779, 929.5, 20.5, 0.9996, NULL, NULL),
-	(5780, 929.5, 20.75, 0.9994, NULL, NULL),
-	(5781, 929.5, 21, 0.9993, NULL, NULL),
-	(5782, 929.5, 21.25, 0.9991, NULL, NULL),
-	(5783, 929.5, 21.5, 0.9989, NULL, NULL),
-	(5784, 929.5, 21.75, 0.9987, NULL, NULL),
-	(5785, 929.5, 22, 0.9985, NULL, NULL),
-	(5786, 929.5, 22.25, 0.9983, NULL, NULL),
-	(5787, 929.5, 22.5, 0.9981, NULL, NULL),
-	(5788, 929.5, 22.75, 0.998, NULL, NULL),
-	(5789, 929.5, 23, 0.9978, NULL, NULL),
-	(5790, 929.5, 23.25, 0.9976, NULL, NULL),
-	(5791, 929.5, 23.5, 0.9974, NULL, NULL),
-	(5792, 929.5, 23.75, 0.9972, NULL, NULL),
-	(5793, 929.5, 24, 0.997, NULL, NULL),
-	(5794, 929.5, 24.25, 0.9969, NULL, NULL),
-	(5795, 929.5, 24.5, 0.9967, NULL, NULL),
-	(5796, 929.5, 24.75, 0.9965, NULL, NULL),
-	(5797, 929.5, 25, 0.9963, NULL, NULL),
-	(5798, 929.5, 25.25, 0.9961, NULL, NULL),
-	(5799, 929.5, 25.5, 0.9959, NULL, NULL),
-	(5800, 929.5, 25.75, 0.9957, NULL, NULL),
-	(5801, 929.5, 26, 0.9956, NULL, NULL),
-	(5802, 929.5, 26.25, 0.9954, NULL, NULL),
-	(5803, 929.5, 26.5, 0.9952, NULL, NULL),
-	(5804, 929.5, 26.75, 0.995, NULL, NULL),
-	(5805, 929.5, 27, 0.9948, NULL, NULL),
-	(5806, 929.5, 27.25, 0.9946, NULL, NULL),
-	(5807, 929.5, 27.5, 0.9944, NULL, NULL),
-	(5808, 929.5, 27.75, 0.9943, NULL, NULL),
-	(5809, 929.5, 28, 0.9941, NULL, NULL),
-	(5810, 929.5, 28.25, 0.9939, NULL, NULL),
-	(5811, 929.5, 28.5, 0.9937, NULL, NULL),
-	(5812, 929.5, 28.75, 0.9935, NULL, NULL),
-	(5813, 929.5, 29, 0.9933, NULL, NULL),
-	(5814, 929.5, 29.25, 0.9931, NULL, NULL),
-	(5815, 929.5, 29.5, 0.993, NULL, NULL),
-	(5816, 929.5, 29.75, 0.9928, NULL, NULL),
-	(5817, 929.5, 30, 0.9926, NULL, NULL),
-	(5818, 929.5, 30.25, 0.9924, NULL, NULL),
-	(5819, 929.5, 30.5, 0.9922, NULL, NULL),
-	(5820, 929.5, 30.75, 0.992, NULL, NULL),
-	(5821, 929.5, 31, 0.9918, NULL, NULL),
-	(5822, 929.5, 31.25, 0.9917, NULL, NULL),
-	(5823, 929.5, 31.5, 0.9915, NULL, NULL),
-	(5824, 929.5, 31.75, 0.9913, NULL, NULL),
-	(5825, 929.5, 32, 0.9911, NULL, NULL),
-	(5826, 929.5, 32.25, 0.9909, NULL, NULL),
-	(5827, 929.5, 32.5, 0.9907, NULL, NULL),
-	(5828, 929.5, 32.75, 0.9905, NULL, NULL),
-	(5829, 929.5, 33, 0.9903, NULL, NULL),
-	(5830, 929.5, 33.25, 0.9902, NULL, NULL),
-	(5831, 929.5, 33.5, 0.99, NULL, NULL),
-	(5832, 929.5, 33.75, 0.9898, NULL, NULL),
-	(5833, 929.5, 34, 0.9896, NULL, NULL),
-	(5834, 929.5, 34.25, 0.9894, NULL, NULL),
-	(5835, 929.5, 34.5, 0.9892, NULL, NULL),
-	(5836, 929.5, 34.75, 0.989, NULL, NULL),
-	(5837, 929.5, 35, 0.9889, NULL, NULL),
-	(5838, 929.5, 35.25, 0.9887, NULL, NULL),
-	(5839, 929.5, 35.5, 0.9885, NULL, NULL),
-	(5840, 929.5, 35.75, 0.9883, NULL, NULL),
-	(5841, 929.5, 36, 0.9881, NULL, NULL),
-	(5842, 929.5, 36.25, 0.9879, NULL, NULL),
-	(5843, 929.5, 36.5, 0.9877, NULL, NULL),
-	(5844, 929.5, 36.75, 0.9876, NULL, NULL),
-	(5845, 929.5, 37, 0.9874, NULL, NULL),
-	(5846, 929.5, 37.25, 0.9872, NULL, NULL),
-	(5847, 929.5, 37.5, 0.987, NULL, NULL),
-	(5848, 929.5, 37.75, 0.9868, NULL, NULL),
-	(5849, 929.5, 38, 0.9866, NULL, NULL),
-	(5850, 929.5, 38.25, 0.9864, NULL, NULL),
-	(5851, 929.5, 38.5, 0.9863, NULL, NULL),
-	(5852, 929.5, 38.75, 0.9861, NULL, NULL),
-	(5853, 929.5, 39, 0.9859, NULL, NULL),
-	(5854, 929.5, 39.25, 0.9857, NULL, NULL),
-	(5855, 929.5, 39.5, 0.9855, NULL, NULL),
-	(5856, 929.5, 39.75, 0.9853, NULL, NULL),
-	(5857, 929.5, 40, 0.9851, NULL, NULL),
-	(5858, 929.5, 40.25, 0.9849, NULL, NULL),
-	(5859, 929.5, 40.5, 0.9848, NULL, NULL),
-	(5860, 929.5, 40.75, 0.9846, NULL, NULL),
-	(5861, 929.5, 41, 0.9844, NULL, NULL),
-	(5862, 929.5, 41.25, 0.9842, NULL, NULL),
-	(5863, 929.5, 41.5, 0.984, NULL, NULL),
-	(5864, 929.5, 41.75, 0.9838, NULL, NULL),
-	(5865, 929.5, 42, 0.9836, NULL, NULL),
-	(5866, 929.5, 42.25, 0.9835, NULL, NULL),
-	(5867, 929.5, 42.5, 0.9833, NULL, NULL),
-	(5868, 929.5, 42.75, 0.9831, NULL, NULL),
-	(5869, 929.5, 43, 0.9829, NULL, NULL),
-	(5870, 929.5, 43.25, 0.9827, NULL, NULL),
-	(5871, 929.5, 43.5, 0.9825, NULL, NULL),
-	(5872, 929.5, 43.75, 0.9823, NULL, NULL),
-	(5873, 929.5, 44, 0.9821, NULL, NULL),
-	(5874, 929.5, 44.25, 0.982, NULL, NULL),
-	(5875, 929.5, 44.5, 0.9818, NULL, NULL),
-	(5876, 929.5, 44.75, 0.9816, NULL, NULL),
-	(5877, 929.5, 45, 0.9814, NULL, NULL),
-	(5878, 929.5, 45.25, 0.9812, NULL, NULL),
-	(5879, 929.5, 45.5, 0.981, NULL, NULL),
-	(5880, 929.5, 45.75, 0.9808, NULL, NULL),
-	(5881, 929.5, 46, 0.9806, NULL, NULL),
-	(5882, 929.5, 46.25, 0.9805, NULL, NULL),
-	(5883, 929.5, 46.5, 0.9803, NULL, NULL),
-	(5884, 929.5, 46.75, 0.9801, NULL, NULL),
-	(5885, 929.5, 47, 0.9799, NULL, NULL),
-	(5886, 929.5, 47.25, 0.9797, NULL, NULL),
-	(5887, 929.5, 47.5, 0.9795, NULL, NULL),
-	(5888, 929.5, 47.75, 0.9793, NULL, NULL),
-	(5889, 929.5, 48, 0.9792, NULL, NULL),
-	(5890, 929.5, 48.25, 0.979, NULL, NULL),
-	(5891, 929.5, 48.5, 0.9788, NULL, NULL),
-	(5892, 929.5, 48.75, 0.9786, NULL, NULL),
-	(5893, 929.5, 49, 0.9784, NULL, NULL),
-	(5894, 929.5, 49.25, 0.9782, NULL, NULL),
-	(5895, 929.5, 49.5, 0.978, NULL, NULL),
-	(5896, 929.5, 49.75, 0.9778, NULL, NULL),
-	(5897, 929.5, 50, 0.9777, NULL, NULL),
-	(5898, 930, 15, 1.0037, NULL, NULL),
-	(5899, 930, 15.25, 1.0035, NULL, NULL),
-	(5900, 930, 15.5, 1.0033, NULL, NULL),
-	(5901, 930, 15.75, 1.0031, NULL, NULL),
-	(5902, 930, 16, 1.003, NULL, NULL),
-	(5903, 930, 16.25, 1.0028, NULL, NULL),
-	(5904, 930, 16.5, 1.0026, NULL, NULL),
-	(5905, 930, 16.75, 1.0024, NULL, NULL),
-	(5906, 930, 17, 1.0022, NULL, NULL),
-	(5907, 930, 17.25, 1.002, NULL, NULL),
-	(5908, 930, 17.5, 1.0018, NULL, NULL),
-	(5909, 930, 17.75, 1.0017, NULL, NULL),
-	(5910, 930, 18, 1.0015, NULL, NULL),
-	(5911, 930, 18.25, 1.0013, NULL, NULL),
-	(5912, 930, 18.5, 1.0011, NULL, NULL),
-	(5913, 930, 18.75, 1.0009, NULL, NULL),
-	(5914, 930, 19, 1.0007, NULL, NULL),
-	(5915, 930, 19.25, 1.0006, NULL, NULL),
-	(5916, 930, 19.5, 1.0004, NULL, NULL),
-	(5917, 930, 19.75, 1.0002, NULL, NULL),
-	(5918, 930, 20, 1, NULL, NULL),
-	(5919, 930, 20.25, 0.9998, NULL, NULL),
-	(5920, 930, 20.5, 0.9996, NULL, NULL),
-	(5921, 930, 20.75, 0.9994, NULL, NULL),
-	(5922, 930, 21, 0.9993, NULL, NULL),
-	(5923, 930, 21.25, 0.9991, NULL, NULL),
-	(5924, 930, 21.5, 0.9989, NULL, NULL),
-	(5925, 930, 21.75, 0.9987, NULL, NULL),
-	(5926, 930, 22, 0.9985, NULL, NULL),
-	(5927, 930, 22.25, 0.9983, NULL, NULL),
-	(5928, 930, 22.5, 0.9981, NULL, NULL),
-	(5929, 930, 22.75, 0.998, NULL, NULL),
-	(5930, 930, 23, 0.9978, NULL, NULL),
-	(5931, 930, 23.25, 0.9976, NULL, NULL),
-	(5932, 930, 23.5, 0.9974, NULL, NULL),
-	(5933, 930, 23.75, 0.9972, NULL, NULL),
-	(5934, 930, 24, 0.997, NULL, NULL),
-	(5935, 930, 24.25, 0.9969, NULL, NULL),
-	(5936, 930, 24.5, 0.9967, NULL, NULL),
-	(5937, 930, 24.75, 0.9965, NULL, NULL),
-	(5938, 930, 25, 0.9963, NULL, NULL),
-	(5939, 930, 25.25, 0.9961, NULL, NULL),
-	(5940, 930, 25.5, 0.9959, NULL, NULL),
-	(5941, 930, 25.75, 0.9957, NULL, NULL),
-	(5942, 930, 26, 0.9956, NULL, NULL),
-	(5943, 930, 26.25, 0.9954, NULL, NULL),
-	(5944, 930, 26.5, 0.9952, NULL, NULL),
-	(5945, 930, 26.75, 0.995, NULL, NULL),
-	(5946, 930, 27, 0.9948, NULL, NULL),
-	(5947, 930, 27.25, 0.9946, NULL, NULL),
-	(5948, 930, 27.5, 0.9944, NULL, NULL),
-	(5949, 930, 27.75, 0.9943, NULL, NULL),
-	(5950, 930, 28, 0.9941, NULL, NULL),
-	(5951, 930, 28.25, 0.9939, NULL, NULL),
-	(5952, 930, 28.5, 0.9937, NULL, NULL),
-	(5953, 930, 28.75, 0.9935, NULL, NULL),
-	(5954, 930, 29, 0.9933, NULL, NULL),
-	(5955, 930, 29.25, 0.9931, NULL, NULL),
-	(5956, 930, 29.5, 0.993, NULL, NULL),
-	(5957, 930, 29.75, 0.9928, NULL, NULL),
-	(5958, 930, 30, 0.9926, NULL, NULL),
-	(5959, 930, 30.25, 0.9924, NULL, NULL),
-	(5960, 930, 30.5, 0.9922, NULL, NULL),
-	(5961, 930, 30.75, 0.992, NULL, NULL),
-	(5962, 930, 31, 0.9918, NULL, NULL),
-	(5963, 930, 31.25, 0.9917, NULL, NULL),
-	(5964, 930, 31.5, 0.9915, NULL, NULL),
-	(5965, 930, 31.75, 0.9913, NULL, NULL),
-	(5966, 930, 32, 0.9911, NULL, NULL),
-	(5967, 930, 32.25, 0.9909, NULL, NULL),
-	(5968, 930, 32.5, 0.9907, NULL, NULL),
-	(5969, 930, 32.75, 0.9905, NULL, NULL),
-	(5970, 930, 33, 0.9904, NULL, NULL),
-	(5971, 930, 33.25, 0.9902, NULL, NULL),
-	(5972, 930, 33.5, 0.99, NULL, NULL),
-	(5973, 930, 33.75, 0.9898, NULL, NULL),
-	(5974, 930, 34, 0.9896, NULL, NULL),
-	(5975, 930, 34.25, 0.9894, NULL, NULL),
-	(5976, 930, 34.5, 0.9892, NULL, NULL),
-	(5977, 930, 34.75, 0.9891, NULL, NULL),
-	(5978, 930, 35, 0.9889, NULL, NULL),
-	(5979, 930, 35.25, 0.9887, NULL, NULL),
-	(5980, 930, 35.5, 0.9885, NULL, NULL),
-	(5981, 930, 35.75, 0.9883, NULL, NULL),
-	(5982, 930, 36, 0.9881, NULL, NULL),
-	(5983, 930, 36.25, 0.9879, NULL, NULL),
-	(5984, 930, 36.5, 0.9878, NULL, NULL),
-	(5985, 930, 36.75, 0.9876, NULL, NULL),
-	(5986, 930, 37, 0.9874, NULL, NULL),
-	(5987, 930, 37.25, 0.9872, NULL, NULL),
-	(5988, 930, 37.5, 0.987, NULL, NULL),
-	(5989, 930, 37.75, 0.9868, NULL, NULL),
-	(5990, 930, 38, 0.9866, NULL, NULL),
-	(5991, 930, 38.25, 0.9864, NULL, NULL),
-	(5992, 930, 38.5, 0.9863, NULL, NULL),
-	(5993, 930, 38.75, 0.9861, NULL, NULL),
-	(5994, 930, 39, 0.9859, NULL, NULL),
-	(5995, 930, 39.25, 0.9857, NULL, NULL),
-	(5996, 930, 39.5, 0.9855, NULL, NULL),
-	(5997, 930, 39.75, 0.9853, NULL, NULL),
-	(5998, 930, 40, 0.9851, NULL, NULL),
-	(5999, 930, 40.25, 0.985, NULL, NULL),
-	(6000, 930, 40.5, 0.9848, NULL, NULL),
-	(6001, 930, 40.75, 0.9846, NULL, NULL),
-	(6002, 930, 41, 0.9844, NULL, NULL),
-	(6003, 930, 41.25, 0.9842, NULL, NULL),
-	(6004, 930, 41.5, 0.984, NULL, NULL),
-	(6005, 930, 41.75, 0.9838, NULL, NULL),
-	(6006, 930, 42, 0.9836, NULL, NULL),
-	(6007, 930, 42.25, 0.9835, NULL, NULL),
-	(6008, 930, 42.5, 0.9833, NULL, NULL),
-	(6009, 930, 42.75, 0.9831, NULL, NULL),
-	(6010, 930, 43, 0.9829, NULL, NULL),
-	(6011, 930, 43.25, 0.9827, NULL, NULL),
-	(6012, 930, 43.5, 0.9825, NULL, NULL),
-	(6013, 930, 43.75, 0.9823, NULL, NULL),
-	(6014, 930, 44, 0.9822, NULL, NULL),
-	(6015, 930, 44.25, 0.982, NULL, NULL),
-	(6016, 930, 44.5, 0.9818, NULL, NULL),
-	(6017, 930, 44.75, 0.9816, NULL, NULL),
-	(6018, 930, 45, 0.9814, NULL, NULL),
-	(6019, 930, 45.25, 0.9812, NULL, NULL),
-	(6020, 930, 45.5, 0.981, NULL, NULL),
-	(6021, 930, 45.75, 0.9808, NULL, NULL),
-	(6022, 930, 46, 0.9807, NULL, NULL),
-	(6023, 930, 46.25, 0.9805, NULL, NULL),
-	(6024, 930, 46.5, 0.9803, NULL, NULL),
-	(6025, 930, 46.75, 0.9801, NULL, NULL),
-	(6026, 930, 47, 0.9799, NULL, NULL),
-	(6027, 930, 47.25, 0.9797, NULL, NULL),
-	(6028, 930, 47.5, 0.9795, NULL, NULL),
-	(6029, 930, 47.75, 0.9794, NULL, NULL),
-	(6030, 930, 48, 0.9792, NULL, NULL),
-	(6031, 930, 48.25, 0.979, NULL, NULL),
-	(6032, 930, 48.5, 0.9788, NULL, NULL),
-	(6033, 930, 48.75, 0.9786, NULL, NULL),
-	(6034, 930, 49, 0.9784, NULL, NULL),
-	(6035, 930, 49.25, 0.9782, NULL, NULL),
-	(6036, 930, 49.5, 0.978, NULL, NULL),
-	(6037, 930, 49.75, 0.9779, NULL, NULL),
-	(6038, 930, 50, 0.9777, NULL, NULL),
-	(6039, 930.5, 15, 1.0037, NULL, NULL),
-	(6040, 930.5, 15.25, 1.0035, NULL, NULL),
-	(6041, 930.5, 15.5, 1.0033, NULL, NULL),
-	(6042, 930.5, 15.75, 1.0031, NULL, NULL),
-	(6043, 930.5, 16, 1.003, NULL, NULL),
-	(6044, 930.5, 16.25, 1.0028, NULL, NULL),
-	(6045, 930.5, 16.5, 1.0026, NULL, NULL),
-	(6046, 930.5, 16.75, 1.0024, NULL, NULL),
-	(6047, 930.5, 17, 1.0022, NULL, NULL),
-	(6048, 930.5, 17.25, 1.002, NULL, NULL),
-	(6049, 930.5, 17.5, 1.0018, NULL, NULL),
-	(6050, 930.5, 17.75, 1.0017, NULL, NULL),
-	(6051, 930.5, 18, 1.0015, NULL, NULL),
-	(6052, 930.5, 18.25, 1.0013, NULL, NULL),
-	(6053, 930.5, 18.5, 1.0011, NULL, NULL),
-	(6054, 930.5, 18.75, 1.0009, NULL, NULL),
-	(6055, 930.5, 19, 1.0007, NULL, NULL),
-	(6056, 930.5, 19.25, 1.0006, NULL, NULL),
-	(6057, 930.5, 19.5, 1.0004, NULL, NULL),
-	(6058, 930.5, 19.75, 1.0002, NULL, NULL),
-	(6059, 930.5, 20, 1, NULL, NULL),
-	(6060, 930.5, 20.25, 0.9998, NULL, NULL),
-	(6061, 930.5, 20.5, 0.9996, NULL, NULL),
-	(6062, 930.5, 20.75, 0.9994, NULL, NULL),
-	(6063, 930.5, 21, 0.9993, NULL, NULL),
-	(6064, 930.5, 21.25, 0.9991, NULL, NULL),
-	(6065, 930.5, 21.5, 0.9989, NULL, NULL),
-	(6066, 930.5, 21.75, 0.9987, NULL, NULL),
-	(6067, 930.5, 22, 0.9985, NULL, NULL),
-	(6068, 930.5, 22.25, 0.9983, NULL, NULL),
-	(6069, 930.5, 22.5, 0.9982, NULL, NULL),
-	(6070, 930.5, 22.75, 0.998, NULL, NULL),
-	(6071, 930.5, 23, 0.9978, NULL, NULL),
-	(6072, 930.5, 23.25, 0.9976, NULL, NULL),
-	(6073, 930.5, 23.5, 0.9974, NULL, NULL),
-	(6074, 930.5, 23.75, 0.9972, NULL, NULL),
-	(6075, 930.5, 24, 0.997, NULL, NULL),
-	(6076, 930.5, 24.25, 0.9969, NULL, NULL),
-	(6077, 930.5, 24.5, 0.9967, NULL, NULL),
-	(6078, 930.5, 24.75, 0.9965, NULL, NULL),
-	(6079, 930.5, 25, 0.9963, NULL, NULL),
-	(6080, 930.5, 25.25, 0.9961, NULL, NULL),
-	(6081, 930.5, 25.5, 0.9959, NULL, NULL),
-	(6082, 930.5, 25.75, 0.9957, NULL, NULL),
-	(6083, 930.5, 26, 0.9956, NULL, NULL),
-	(6084, 930.5, 26.25, 0.9954, NULL, NULL),
-	(6085, 930.5, 26.5, 0.9952, NULL, NULL),
-	(6086, 930.5, 26.75, 0.995, NULL, NULL),
-	(6087, 930.5, 27, 0.9948, NULL, NULL),
-	(6088, 930.5, 27.25, 0.9946, NULL, NULL),
-	(6089, 930.5, 27.5, 0.9944, NULL, NULL),
-	(6090, 930.5, 27.75, 0.9943, NULL, NULL),
-	(6091, 930.5, 28, 0.9941, NULL, NULL),
-	(6092, 930.5, 28.25, 0.9939, NULL, NULL),
-	(6093, 930.5, 28.5, 0.9937, NULL, NULL),
-	(6094, 930.5, 28.75, 0.9935, NULL, NULL),
-	(6095, 930.5, 29, 0.9933, NULL, NULL),
-	(6096, 930.5, 29.25, 0.9931, NULL, NULL),
-	(6097, 930.5, 29.5, 0.993, NULL, NULL),
-	(6098, 930.5, 29.75, 0.9928, NULL, NULL),
-	(6099, 930.5, 30, 0.9926, NULL, NULL),
-	(6100, 930.5, 30.25, 0.9924, NULL, NULL),
-	(6101, 930.5, 30.5, 0.9922, NULL, NULL),
-	(6102, 930.5, 30.75, 0.992, NULL, NULL),
-	(6103, 930.5, 31, 0.9918, NULL, NULL),
-	(6104, 930.5, 31.25, 0.9917, NULL, NULL),
-	(6105, 930.5, 31.5, 0.9915, NULL, NULL),
-	(6106, 930.5, 31.75, 0.9913, NULL, NULL),
-	(6107, 930.5, 32, 0.9911, NULL, NULL),
-	(6108, 930.5, 32.25, 0.9909, NULL, NULL),
-	(6109, 930.5, 32.5, 0.9907, NULL, NULL),
-	(6110, 930.5, 32.75, 0.9905, NULL, NULL),
-	(6111, 930.5, 33, 0.9904, NULL, NULL),
-	(6112, 930.5, 33.25, 0.9902, NULL, NULL),
-	(6113, 930.5, 33.5, 0.99, NULL, NULL),
-	(6114, 930.5, 33.75, 0.9898, NULL, NULL),
-	(6115, 930.5, 34, 0.9896, NULL, NULL),
-	(6116, 930.5, 34.25, 0.9894, NULL, NULL),
-	(6117, 930.5, 34.5, 0.9892, NULL, NULL),
-	(6118, 930.5, 34.75, 0.9891, NULL, NULL),
-	(6119, 930.5, 35, 0.9889, NULL, NULL),
-	(6120, 930.5, 35.25, 0.9887, NULL, NULL),
-	(6121, 930.5, 35.5, 0.9885, NULL, NULL),
-	(6122, 930.5, 35.75, 0.9883, NULL, NULL),
-	(6123, 930.5, 36, 0.9881, NULL, NULL),
-	(6124, 930.5, 36.25, 0.9879, NULL, NULL),
-	(6125, 930.5, 36.5, 0.9878, NULL, NULL),
-	(6126, 930.5, 36.75, 0.9876, NULL, NULL),
-	(6127, 930.5, 37, 0.9874, NULL, NULL),
-	(6128, 930.5, 37.25, 0.9872, NULL, NULL),
-	(6129, 930.5, 37.5, 0.987, NULL, NULL),
-	(6130, 930.5, 37.75, 0.9868, NULL, NULL),
-	(6131, 930.5, 38, 0.9866, NULL, NULL),
-	(6132, 930.5, 38.25, 0.9865, NULL, NULL),
-	(6133, 930.5, 38.5, 0.9863, NULL, NULL),
-	(6134, 930.5, 38.75, 0.9861, NULL, NULL),
-	(6135, 930.5, 39, 0.9859, NULL, NULL),
-	(6136, 930.5, 39.25, 0.9857, NULL, NULL),
-	(6137, 930.5, 39.5, 0.9855, NULL, NULL),
-	(6138, 930.5, 39.75, 0.9853, NULL, NULL),
-	(6139, 930.5, 40, 0.9852, NULL, NULL),
-	(6140, 930.5, 40.25, 0.985, NULL, NULL),
-	(6141, 930.5, 40.5, 0.9848, NULL, NULL),
-	(6142, 930.5, 40.75, 0.9846, NULL, NULL),
-	(6143, 930.5, 41, 0.9844, NULL, NULL),
-	(6144, 930.5, 41.25, 0.9842, NULL, NULL),
-	(6145, 930.5, 41.5, 0.984, NULL, NULL),
-	(6146, 930.5, 41.75, 0.9838, NULL, NULL),
-	(6147, 930.5, 42, 0.9837, NULL, NULL),
-	(6148, 930.5, 42.25, 0.9835, NULL, NULL),
-	(6149, 930.5, 42.5, 0.9833, NULL, NULL),
-	(6150, 930.5, 42.75, 0.9831, NULL, NULL),
-	(6151, 930.5, 43, 0.9829, NULL, NULL),
-	(6152, 930.5, 43.25, 0.9827, NULL, NULL),
-	(6153, 930.5, 43.5, 0.9825, NULL, NULL),
-	(6154, 930.5, 43.75, 0.9824, NULL, NULL),
-	(6155, 930.5, 44, 0.9822, NULL, NULL),
-	(6156, 930.5, 44.25, 0.982, NULL, NULL),
-	(6157, 930.5, 44.5, 0.9818, NULL, NULL),
-	(6158, 930.5, 44.75, 0.9816, NULL, NULL),
-	(6159, 930.5, 45, 0.9814, NULL, NULL),
-	(6160, 930.5, 45.25, 0.9812, NULL, NULL),
-	(6161, 930.5, 45.5, 0.981, NULL, NULL),
-	(6162, 930.5, 45.75, 0.9809, NULL, NULL),
-	(6163, 930.5, 46, 0.9807, NULL, NULL),
-	(6164, 930.5, 46.25, 0.9805, NULL, NULL),
-	(6165, 930.5, 46.5, 0.9803, NULL, NULL),
-	(6166, 930.5, 46.75, 0.9801, NULL, NULL),
-	(6167, 930.5, 47, 0.9799, NULL, NULL),
-	(6168, 930.5, 47.25, 0.9797, NULL, NULL),
-	(6169, 930.5, 47.5, 0.9796, NULL, NULL),
-	(6170, 930.5, 47.75, 0.9794, NULL, NULL),
-	(6171, 930.5, 48, 0.9792, NULL, NULL),
-	(6172, 930.5, 48.25, 0.979, NULL, NULL),
-	(6173, 930.5, 48.5, 0.9788, NULL, NULL),
-	(6174, 930.5, 48.75, 0.9786, NULL, NULL),
-	(6175, 930.5, 49, 0.9784, NULL, NULL),
-	(6176, 930.5, 49.25, 0.9782, NULL, NULL),
-	(6177, 930.5, 49.5, 0.9781, NULL, NULL),
-	(6178, 930.5, 49.75, 0.9779, NULL, NULL),
-	(6179, 930.5, 50, 0.9777, NULL, NULL),
-	(6180, 931, 15, 1.0037, NULL, NULL),
-	(6181, 931, 15.25, 1.0035, NULL, NULL),
-	(6182, 931, 15.5, 1.0033, NULL, NULL),
-	(6183, 931, 15.75, 1.0031, NULL, NULL),
-	(6184, 931, 16, 1.003, NULL, NULL),
-	(6185, 931, 16.25, 1.0028, NULL, NULL),
-	(6186, 931, 16.5, 1.0026, NULL, NULL),
-	(6187, 931, 16.75, 1.0024, NULL, NULL),
-	(6188, 931, 17, 1.0022, NULL, NULL),
-	(6189, 931, 17.25, 1.002, NULL, NULL),
-	(6190, 931, 17.5, 1.0018, NULL, NULL),
-	(6191, 931, 17.75, 1.0017, NULL, NULL),
-	(6192, 931, 18, 1.0015, NULL, NULL),
-	(6193, 931, 18.25, 1.0013, NULL, NULL),
-	(6194, 931, 18.5, 1.0011, NULL, NULL),
-	(6195, 931, 18.75, 1.0009, NULL, NULL),
-	(6196, 931, 19, 1.0007, NULL, NULL),
-	(6197, 931, 19.25, 1.0006, NULL, NULL),
-	(6198, 931, 19.5, 1.0004, NULL, NULL),
-	(6199, 931, 19.75, 1.0002, NULL, NULL),
-	(6200, 931, 20, 1, NULL, NULL),
-	(6201, 931, 20.25, 0.9998, NULL, NULL),
-	(6202, 931, 20.5, 0.9996, NULL, NULL),
-	(6203, 931, 20.75, 0.9994, NULL, NULL),
-	(6204, 931, 21, 0.9993, NULL, NULL),
-	(6205, 931, 21.25, 0.9991, NULL, NULL),
-	(6206, 931, 21.5, 0.9989, NULL, NULL),
-	(6207, 931, 21.75, 0.9987, NULL, NULL),
-	(6208, 931, 22, 0.9985, NULL, NULL),
-	(6209, 931, 22.25, 0.9983, NULL, NULL),
-	(6210, 931, 22.5, 0.9982, NULL, NULL),
-	(6211, 931, 22.75, 0.998, NULL, NULL),
-	(6212, 931, 23, 0.9978, NULL, NULL),
-	(6213, 931, 23.25, 0.9976, NULL, NULL),
-	(6214, 931, 23.5, 0.9974, NULL, NULL),
-	(6215, 931, 23.75, 0.9972, NULL, NULL),
-	(6216, 931, 24, 0.997, NULL, NULL),
-	(6217, 931, 24.25, 0.9969, NULL, NULL),
-	(6218, 931, 24.5, 0.9967, NULL, NULL),
-	(6219, 931, 24.75, 0.9965, NULL, NULL),
-	(6220, 931, 25, 0.9963, NULL, NULL),
-	(6221, 931, 25.25, 0.9961, NULL, NULL),
-	(6222, 931, 25.5, 0.9959, NULL, NULL),
-	(6223, 931, 25.75, 0.9957, NULL, NULL),
-	(6224, 931, 26, 0.9956, NULL, NULL),
-	(6225, 931, 26.25, 0.9954, NULL, NULL),
-	(6226, 931, 26.5, 0.9952, NULL, NULL),
-	(6227, 931, 26.75, 0.995, NULL, NULL),
-	(6228, 931, 27, 0.9948, NULL, NULL),
-	(6229, 931, 27.25, 0.9946, NULL, NULL),
-	(6230, 931, 27.5, 0.9945, NULL, NULL),
-	(6231, 931, 27.75, 0.9943, NULL, NULL),
-	(6232, 931, 28, 0.9941, NULL, NULL),
-	(6233, 931, 28.25, 0.9939, NULL, NULL),
-	(6234, 931, 28.5, 0.9937, NULL, NULL),
-	(6235, 931, 28.75, 0.9935, NULL, NULL),
-	(6236, 931, 29, 0.9933, NULL, NULL),
-	(6237, 931, 29.25, 0.9932, NULL, NULL),
-	(6238, 931, 29.5, 0.993, NULL, NULL),
-	(6239, 931, 29.75, 0.9928, NULL, NULL),
-	(6240, 931, 30, 0.9926, NULL, NULL),
-	(6241, 931, 30.25, 0.9924, NULL, NULL),
-	(6242, 931, 30.5, 0.9922, NULL, NULL),
-	(6243, 931, 30.75, 0.992, NULL, NULL),
-	(6244, 931, 31, 0.9919, NULL, NULL),
-	(6245, 931, 31.25, 0.9917, NULL, NULL),
-	(6246, 931, 31.5, 0.9915, NULL, NULL),
-	(6247, 931, 31.75, 0.9913, NULL, NULL),
-	(6248, 931, 32, 0.9911, NULL, NULL),
-	(6249, 931, 32.25, 0.9909, NULL, NULL),
-	(6250, 931, 32.5, 0.9907, NULL, NULL),
-	(6251, 931, 32.75, 0.9906, NULL, NULL),
-	(6252, 931, 33, 0.9904, NULL, NULL),
-	(6253, 931, 33.25, 0.9902, NULL, NULL),
-	(6254, 931, 33.5, 0.99, NULL, NULL),
-	(6255, 931, 33.75, 0.9898, NULL, NULL),
-	(6256, 931, 34, 0.9896, NULL, NULL),
-	(6257, 931, 34.25, 0.9894, NULL, NULL),
-	(6258, 931, 34.5, 0.9893, NULL, NULL),
-	(6259, 931, 34.75, 0.9891, NULL, NULL),
-	(6260, 931, 35, 0.9889, NULL, NULL),
-	(6261, 931, 35.25, 0.9887, NULL, NULL),
-	(6262, 931, 35.5, 0.9885, NULL, NULL),
-	(6263, 931, 35.75, 0.9883, NULL, NULL),
-	(6264, 931, 36, 0.9881, NULL, NULL),
-	(6265, 931, 36.25, 0.988, NULL, NULL),
-	(6266, 931, 36.5, 0.9878, NULL, NULL),
-	(6267, 931, 36.75, 0.9876, NULL, NULL),
-	(6268, 931, 37, 0.9874, NULL, NULL),
-	(6269, 931, 37.25, 0.9872, NULL, NULL),
-	(6270, 931, 37.5, 0.987, NULL, NULL),
-	(6271, 931, 37.75, 0.9868, NULL, NULL),
-	(6272, 931, 38, 0.9867, NULL, NULL),
-	(6273, 931, 38.25, 0.9865, NULL, NULL),
-	(6274, 931, 38.5, 0.9863, NULL, NULL),
-	(6275, 931, 38.75, 0.9861, NULL, NULL),
-	(6276, 931, 39, 0.9859, NULL, NULL),
-	(6277, 931, 39.25, 0.9857, NULL, NULL),
-	(6278, 931, 39.5, 0.9855, NULL, NULL),
-	(6279, 931, 39.75, 0.9853, NULL, NULL),
-	(6280, 931, 40, 0.9852, NULL, NULL),
-	(6281, 931, 40.25, 0.985, NULL, NULL),
-	(6282, 931, 40.5, 0.9848, NULL, NULL),
-	(6283, 931, 40.75, 0.9846, NULL, NULL),
-	(6284, 931, 41, 0.9844, NULL, NULL),
-	(6285, 931, 41.25, 0.9842, NULL, NULL),
-	(6286, 931, 41.5, 0.984, NULL, NULL),
-	(6287, 931, 41.75, 0.9839, NULL, NULL),
-	(6288, 931, 42, 0.9837, NULL, NULL),
-	(6289, 931, 42.25, 0.9835, NULL, NULL),
-	(6290, 931, 42.5, 0.9833, NULL, NULL),
-	(6291, 931, 42.75, 0.9831, NULL, NULL),
-	(6292, 931, 43, 0.9829, NULL, NULL),
-	(6293, 931, 43.25, 0.9827, NULL, NULL),
-	(6294, 931, 43.5, 0.9826, NULL, NULL),
-	(6295, 931, 43.75, 0.9824, NULL, NULL),
-	(6296, 931, 44, 0.9822, NULL, NULL),
-	(6297, 931, 44.25, 0.982, NULL, NULL),
-	(6298, 931, 44.5, 0.9818, NULL, NULL),
-	(6299, 931, 44.75, 0.9816, NULL, NULL),
-	(6300, 931, 45, 0.9814, NULL, NULL),
-	(6301, 931, 45.25, 0.9812, NULL, NULL),
-	(6302, 931, 45.5, 0.9811, NULL, NULL),
-	(6303, 931, 45.75, 0.9809, NULL, NULL),
-	(6304, 931, 46, 0.9807, NULL, NULL),
-	(6305, 931, 46.25, 0.9805, NULL, NULL),
-	(6306, 931, 46.5, 0.9803, NULL, NULL),
-	(6307, 931, 46.75, 0.9801, NULL, NULL),
-	(6308, 931, 47, 0.9799, NULL, NULL),
-	(6309, 931, 47.25, 0.9798, NULL, NULL),
-	(6310, 931, 47.5, 0.9796, NULL, NULL),
-	(6311, 931, 47.75, 0.9794, NULL, NULL),
-	(6312, 931, 48, 0.9792, NULL, NULL),
-	(6313, 931, 48.25, 0.979, NULL, NULL),
-	(6314, 931, 48.5, 0.9788, NULL, NULL),
-	(6315, 931, 48.75, 0.9786, NULL, NULL),
-	(6316, 931, 49, 0.9784, NULL, NULL),
-	(6317, 931, 49.25, 0.9783, NULL, NULL),
-	(6318, 931, 49.5, 0.9781, NULL, NULL),
-	(6319, 931, 49.75, 0.9779, NULL, NULL),
-	(6320, 931, 50, 0.9777, NULL, NULL),
-	(6321, 931.5, 15, 1.0037, NULL, NULL),
-	(6322, 931.5, 15.25, 1.0035, NULL, NULL),
-	(6323, 931.5, 15.5, 1.0033, NULL, NULL),
-	(6324, 931.5, 15.75, 1.0031, NULL, NULL),
-	(6325, 931.5, 16, 1.003, NULL, NULL),
-	(6326, 931.5, 16.25, 1.0028, NULL, NULL),
-	(6327, 931.5, 16.5, 1.0026, NULL, NULL),
-	(6328, 931.5, 16.75, 1.0024, NULL, NULL),
-	(6329, 931.5, 17, 1.0022, NULL, NULL),
-	(6330, 931.5, 17.25, 1.002, NULL, NULL),
-	(6331, 931.5, 17.5, 1.0018, NULL, NULL),
-	(6332, 931.5, 17.75, 1.0017, NULL, NULL),
-	(6333, 931.5, 18, 1.0015, NULL, NULL),
-	(6334, 931.5, 18.25, 1.0013, NULL, NULL),
-	(6335, 931.5, 18.5, 1.0011, NULL, NULL),
-	(6336, 931.5, 18.75, 1.0009, NULL, NULL),
-	(6337, 931.5, 19, 1.0007, NULL, NULL),
-	(6338, 931.5, 19.25, 1.0006, NULL, NULL),
-	(6339, 931.5, 19.5, 1.0004, NULL, NULL),
-	(6340, 931.5, 19.75, 1.0002, NULL, NULL),
-	(6341, 931.5, 20, 1, NULL, NULL),
-	(6342, 931.5, 20.25, 0.9998, NULL, NULL),
-	(6343, 931.5, 20.5, 0.9996, NULL, NULL),
-	(6344, 931.5, 20.75, 0.9994, NULL, NULL),
-	(6345, 931.5, 21, 0.9993, NULL, NULL),
-	(6346, 931.5, 21.25, 0.9991, NULL, NULL),
-	(6347, 931.5, 21.5, 0.9989, NULL, NULL),
-	(6348, 931.5, 21.75, 0.9987, NULL, NULL),
-	(6349, 931.5, 22, 0.9985, NULL, NULL),
-	(6350, 931.5, 22.25, 0.9983, NULL, NULL),
-	(6351, 931.5, 22.5, 0.9982, NULL, NULL),
-	(6352, 931.5, 22.75, 0.998, NULL, NULL),
-	(6353, 931.5, 23, 0.9978, NULL, NULL),
-	(6354, 931.5, 23.25, 0.9976, NULL, NULL),
-	(6355, 931.5, 23.5, 0.9974, NULL, NULL),
-	(6356, 931.5, 23.75, 0.9972, NULL, NULL),
-	(6357, 931.5, 24, 0.997, NULL, NULL),
-	(6358, 931.5, 24.25, 0.9969, NULL, NULL),
-	(6359, 931.5, 24.5, 0.9967, NULL, NULL),
-	(6360, 931.5, 24.75, 0.9965, NULL, NULL),
-	(6361, 931.5, 25, 0.9963, NULL, NULL),
-	(6362, 931.5, 25.25, 0.9961, NULL, NULL),
-	(6363, 931.5, 25.5, 0.9959, NULL, NULL),
-	(6364, 931.5, 25.75, 0.9957, NULL, NULL),
-	(6365, 931.5, 26, 0.9956, NULL, NULL),
-	(6366, 931.5, 26.25, 0.9954, NULL, NULL),
-	(6367, 931.5, 26.5, 0.9952, NULL, NULL),
-	(6368, 931.5, 26.75, 0.995, NULL, NULL),
-	(6369, 931.5, 27, 0.9948, NULL, NULL),
-	(6370, 931.5, 27.25, 0.9946, NULL, NULL),
-	(6371, 931.5, 27.5, 0.9945, NULL, NULL),
-	(6372, 931.5, 27.75, 0.9943, NULL, NULL),
-	(6373, 931.5, 28, 0.9941, NULL, NULL),
-	(6374, 931.5, 28.25, 0.9939, NULL, NULL),
-	(6375, 931.5, 28.5, 0.9937, NULL, NULL),
-	(6376, 931.5, 28.75, 0.9935, NULL, NULL),
-	(6377, 931.5, 29, 0.9933, NULL, NULL),
-	(6378, 931.5, 29.25, 0.9932, NULL, NULL),
-	(6379, 931.5, 29.5, 0.993, NULL, NULL),
-	(6380, 931.5, 29.75, 0.9928, NULL, NULL),
-	(6381, 931.5, 30, 0.9926, NULL, NULL),
-	(6382, 931.5, 30.25, 0.9924, NULL, NULL),
-	(6383, 931.5, 30.5, 0.9922, NULL, NULL),
-	(6384, 931.5, 30.75, 0.992, NULL, NULL),
-	(6385, 931.5, 31, 0.9919, NULL, NULL),
-	(6386, 931.5, 31.25, 0.9917, NULL, NULL),
-	(6387, 931.5, 31.5, 0.9915, NULL, NULL),
-	(6388, 931.5, 31.75, 0.9913, NULL, NULL),
-	(6389, 931.5, 32, 0.9911, NULL, NULL),
-	(6390, 931.5, 32.25, 0.9909, NULL, NULL),
-	(6391, 931.5, 32.5, 0.9907, NULL, NULL),
-	(6392, 931.5, 32.75, 0.9906, NULL, NULL),
-	(6393, 931.5, 33, 0.9904, NULL, NULL),
-	(6394, 931.5, 33.25, 0.9902, NULL, NULL),
-	(6395, 931.5, 33.5, 0.99, NULL, NULL),
-	(6396, 931.5, 33.75, 0.9898, NULL, NULL),
-	(6397, 931.5, 34, 0.9896, NULL, NULL),
-	(6398, 931.5, 34.25, 0.9894, NULL, NULL),
-	(6399, 931.5, 34.5, 0.9893, NULL, NULL),
-	(6400, 931.5, 34.75, 0.9891, NULL, NULL),
-	(6401, 931.5, 35, 0.9889, NULL, NULL),
-	(6402, 931.5, 35.25, 0.9887, NULL, NULL),
-	(6403, 931.5, 35.5, 0.9885, NULL, NULL),
-	(6404, 931.5, 35.75, 0.9883, NULL, NULL),
-	(6405, 931.5, 36, 0.9881, NULL, NULL),
-	(6406, 931.5, 36.5, 0.9878, NULL, NULL),
-	(6407, 931.5, 36.75, 0.9876, NULL, NULL),
-	(6408, 931.5, 37, 0.9874, NULL, NULL),
-	(6409, 931.5, 37.25, 0.9872, NULL, NULL),
-	(6410, 931.5, 37.5, 0.987, NULL, NULL),
-	(6411, 931.5, 37.75, 0.9868, NULL, NULL),
-	(6412, 931.5, 38, 0.9867, NULL, NULL),
-	(6413, 931.5, 38.25, 0.9865, NULL, NULL),
-	(6414, 931.5, 38.5, 0.9863, NULL, NULL),
-	(6415, 931.5, 38.75, 0.9861, NULL, NULL),
-	(6416, 931.5, 39, 0.9859, NULL, NULL),
-	(6417, 931.5, 39.25, 0.9857, NULL, NULL),
-	(6418, 931.5, 39.5, 0.9855, NULL, NULL),
-	(6419, 931.5, 39.75, 0.9854, NULL, NULL),
-	(6420, 931.5, 40, 0.9852, NULL, NULL),
-	(6421, 931.5, 40.25, 0.985, NULL, NULL),
-	(6422, 931.5, 40.5, 0.9848, NULL, NULL),
-	(6423, 931.5, 40.75, 0.9846, NULL, NULL),
-	(6424, 931.5, 41, 0.9844, NULL, NULL),
-	(6425, 931.5, 41.25, 0.9842, NULL, NULL),
-	(6426, 931.5, 41.5, 0.9841, NULL, NULL),
-	(6427, 931.5, 41.75, 0.9839, NULL, NULL),
-	(6428, 931.5, 42, 0.9837, NULL, NULL),
-	(6429, 931.5, 42.25, 0.9835, NULL, NULL),
-	(6430, 931.5, 42.5, 0.9833, NULL, NULL),
-	(6431, 931.5, 42.75, 0.9831, NULL, NULL),
-	(6432, 931.5, 43, 0.9829, NULL, NULL),
-	(6433, 931.5, 43.25, 0.9828, NULL, NULL),
-	(6434, 931.5, 43.5, 0.9826, NULL, NULL),
-	(6435, 931.5, 43.75, 0.9824, NULL, NULL),
-	(6436, 931.5, 44, 0.9822, NULL, NULL),
-	(6437, 931.5, 44.25, 0.982, NULL, NULL),
-	(6438, 931.5, 44.5, 0.9818, NULL, NULL),
-	(6439, 931.5, 44.75, 0.9816, NULL, NULL),
-	(6440, 931.5, 45, 0.9814, NULL, NULL),
-	(6441, 931.5, 45.25, 0.9813, NULL, NULL),
-	(6442, 931.5, 45.5, 0.9811, NULL, NULL),
-	(6443, 931.5, 45.75, 0.9809, NULL, NULL),
-	(6444, 931.5, 46, 0.9807, NULL, NULL),
-	(6445, 931.5, 46.25, 0.9805, NULL, NULL),
-	(6446, 931.5, 46.5, 0.9803, NULL, NULL),
-	(6447, 931.5, 46.75, 0.9801, NULL, NULL),
-	(6448, 931.5, 47, 0.98, NULL, NULL),
-	(6449, 931.5, 47.25, 0.9798, NULL, NULL),
-	(6450, 931.5, 47.5, 0.9796, NULL, NULL),
-	(6451, 931.5, 47.75, 0.9794, NULL, NULL),
-	(6452, 931.5, 48, 0.9792, NULL, NULL),
-	(6453, 931.5, 48.25, 0.979, NULL, NULL),
-	(6454, 931.5, 48.5, 0.9788, NULL, NULL),
-	(6455, 931.5, 48.75, 0.9786, NULL, NULL),
-	(6456, 931.5, 49, 0.9785, NULL, NULL),
-	(6457, 931.5, 49.25, 0.9783, NULL, NULL),
-	(6458, 931.5, 49.5, 0.9781, NULL, NULL),
-	(6459, 931.5, 49.75, 0.9779, NULL, NULL),
-	(6460, 931.5, 50, 0.9777, NULL, NULL),
-	(6461, 932, 15, 1.0037, NULL, NULL),
-	(6462, 932, 15.25, 1.0035, NULL, NULL),
-	(6463, 932, 15.5, 1.0033, NULL, NULL),
-	(6464, 932, 15.75, 1.0031, NULL, NULL),
-	(6465, 932, 16, 1.0029, NULL, NULL),
-	(6466, 932, 16.25, 1.0028, NULL, NULL),
-	(6467, 932, 16.5, 1.0026, NULL, NULL),
-	(6468, 932, 16.75, 1.0024, NULL, NULL),
-	(6469, 932, 17, 1.0022, NULL, NULL),
-	(6470, 932, 17.25, 1.002, NULL, NULL),
-	(6471, 932, 17.5, 1.0018, NULL, NULL),
-	(6472, 932, 17.75, 1.0017, NULL, NULL),
-	(6473, 932, 18, 1.0015, NULL, NULL),
-	(6474, 932, 18.25, 1.0013, NULL, NULL),
-	(6475, 932, 18.5, 1.0011, NULL, NULL),
-	(6476, 932, 18.75, 1.0009, NULL, NULL),
-	(6477, 932, 19, 1.0007, NULL, NULL),
-	(6478, 932, 19.25, 1.0006, NULL, NULL),
-	(6479, 932, 19.5, 1.0004, NULL, NULL),
-	(6480, 932, 19.75, 1.0002, NULL, NULL),
-	(6481, 932, 20, 1, NULL, NULL),
-	(6482, 932, 20.25, 0.9998, NULL, NULL),
-	(6483, 932, 20.5, 0.9996, NULL, NULL),
-	(6484, 932, 20.75, 0.9994, NULL, NULL),
-	(6485, 932, 21, 0.9993, NULL, NULL),
-	(6486, 932, 21.25, 0.9991, NULL, NULL),
-	(6487, 932, 21.5, 0.9989, NULL, NULL),
-	(6488, 932, 21.75, 0.9987, NULL, NULL),
-	(6489, 932, 22, 0.9985, NULL, NULL),
-	(6490, 932, 22.25, 0.9983, NULL, NULL),
-	(6491, 932, 22.5, 0.9982, NULL, NULL),
-	(6492, 932, 22.75, 0.998, NULL, NULL),
-	(6493, 932, 23, 0.9978, NULL, NULL),
-	(6494, 932, 23.25, 0.9976, NULL, NULL),
-	(6495, 932, 23.5, 0.9974, NULL, NULL),
-	(6496, 932, 23.75, 0.9972, NULL, NULL),
-	(6497, 932, 24, 0.997, NULL, NULL),
-	(6498, 932, 24.25, 0.9969, NULL, NULL),
-	(6499, 932, 24.5, 0.9967, NULL, NULL),
-	(6500, 932, 24.75, 0.9965, NULL, NULL),
-	(6501, 932, 25, 0.9963, NULL, NULL),
-	(6502, 932, 25.25, 0.9961, NULL, NULL),
-	(6503, 932, 25.5, 0.9959, NULL, NULL),
-	(6504, 932, 25.75, 0.9958, NULL, NULL),
-	(6505, 932, 26, 0.9956, NULL, NULL),
-	(6506, 932, 26.25, 0.9954, NULL, NULL),
-	(6507, 932, 26.5, 0.9952, NULL, NULL),
-	(6508, 932, 26.75, 0.995, NULL, NULL),
-	(6509, 932, 27, 0.9948, NULL, NULL),
-	(6510, 932, 27.25, 0.9946, NULL, NULL),
-	(6511, 932, 27.5, 0.9945, NULL, NULL),
-	(6512, 932, 27.75, 0.9943, NULL, NULL),
-	(6513, 932, 28, 0.9941, NULL, NULL),
-	(6514, 932, 28.25, 0.9939, NULL, NULL),
-	(6515, 932, 28.5, 0.9937, NULL, NULL),
-	(6516, 932, 28.75, 0.9935, NULL, NULL),
-	(6517, 932, 29, 0.9933, NULL, NULL),
-	(6518, 932, 29.25, 0.9932, NULL, NULL),
-	(6519, 932, 29.5, 0.993, NULL, NULL),
-	(6520, 932, 29.75, 0.9928, NULL, NULL),
-	(6521, 932, 30, 0.9926, NULL, NULL),
-	(6522, 932, 30.25, 0.9924, NULL, NULL),
-	(6523, 932, 30.5, 0.9922, NULL, NULL),
-	(6524, 932, 30.75, 0.9921, NULL, NULL),
-	(6525, 932, 31, 0.9919, NULL, NULL),
-	(6526, 932, 31.25, 0.9917, NULL, NULL),
-	(6527, 932, 31.5, 0.9915, NULL, NULL),
-	(6528, 932, 31.75, 0.9913, NULL, NULL),
-	(6529, 932, 32, 0.9911, NULL, NULL),
-	(6530, 932, 32.25, 0.9909, NULL, NULL),
-	(6531, 932, 32.5, 0.9908, NULL, NULL),
-	(6532, 932, 32.75, 0.9906, NULL, NULL),
-	(6533, 932, 33, 0.9904, NULL, NULL),
-	(6534, 932, 33.25, 0.9902, NULL, NULL),
-	(6535, 932, 33.5, 0.99, NULL, NULL),
-	(6536, 932, 33.75, 0.9898, NULL, NULL),
-	(6537, 932, 34, 0.9896, NULL, NULL),
-	(6538, 932, 34.25, 0.9895, NULL, NULL),
-	(6539, 932, 34.5, 0.9893, NULL, NULL),
-	(6540, 932, 34.75, 0.9891, NULL, NULL),
-	(6541, 932, 35, 0.9889, NULL, NULL),
-	(6542, 932, 35.25, 0.9887, NULL, NULL),
-	(6543, 932, 35.5, 0.9885, NULL, NULL),
-	(6544, 932, 35.75, 0.9883, NULL, NULL),
-	(6545, 932, 36, 0.9882, NULL, NULL),
-	(6546, 932, 36.25, 0.988, NULL, NULL),
-	(6547, 932, 36.5, 0.9878, NULL, NULL),
-	(6548, 932, 36.75, 0.9876, NULL, NULL),
-	(6549, 932, 37, 0.9874, NULL, NULL),
-	(6550, 932, 37.25, 0.9872, NULL, NULL),
-	(6551, 932, 37.5, 0.987, NULL, NULL),
-	(6552, 932, 37.75, 0.9869, NULL, NULL),
-	(6553, 932, 38, 0.9867, NULL, NULL),
-	(6554, 932, 38.25, 0.9865, NULL, NULL),
-	(6555, 932, 38.5, 0.9863, NULL, NULL),
-	(6556, 932, 38.75, 0.9861, NULL, NULL),
-	(6557, 932, 39, 0.9859, NULL, NULL),
-	(6558, 932, 39.25, 0.9857, NULL, NULL),
-	(6559, 932, 39.5, 0.9856, NULL, NULL),
-	(6560, 932, 39.75, 0.9854, NULL, NULL),
-	(6561, 932, 40, 0.9852, NULL, NULL),
-	(6562, 932, 40.25, 0.985, NULL, NULL),
-	(6563, 932, 40.5, 0.9848, NULL, NULL),
-	(6564, 932, 40.75, 0.9846, NULL, NULL),
-	(6565, 932, 41, 0.9844, NULL, NULL),
-	(6566, 932, 41.25, 0.9843, NULL, NULL),
-	(6567, 932, 41.5, 0.9841, NULL, NULL),
-	(6568, 932, 41.75, 0.9839, NULL, NULL),
-	(6569, 932, 42, 0.9837, NULL, NULL),
-	(6570, 932, 42.25, 0.9835, NULL, NULL),
-	(6571, 932, 42.5, 0.9833, NULL, NULL),
-	(6572, 932, 42.75, 0.9831, NULL, NULL),
-	(6573, 932, 43, 0.9829, NULL, NULL),
-	(6574, 932, 43.25, 0.9828, NULL, NULL),
-	(6575, 932, 43.5, 0.9826, NULL, NULL),
-	(6576, 932, 43.75, 0.9824, NULL, NULL),
-	(6577, 932, 44, 0.9822, NULL, NULL),
-	(6578, 932, 44.25, 0.982, NULL, NULL),
-	(6579, 932, 44.5, 0.9818, NULL, NULL),
-	(6580, 932, 44.75, 0.9816, NULL, NULL),
-	(6581, 932, 45, 0.9815, NULL, NULL),
-	(6582, 932, 45.25, 0.9813, NULL, NULL),
-	(6583, 932, 45.5, 0.9811, NULL, NULL),
-	(6584, 932, 45.75, 0.9809, NULL, NULL),
-	(6585, 932, 46, 0.9807, NULL, NULL),
-	(6586, 932, 46.25, 0.9805, NULL, NULL),
-	(6587, 932, 46.5, 0.9803, NULL, NULL),
-	(6588, 932, 46.75, 0.9802, NULL, NULL),
-	(6589, 932, 47, 0.98, NULL, NULL),
-	(6590, 932, 47.25, 0.9798, NULL, NULL),
-	(6591, 932, 47.5, 0.9796, NULL, NULL),
-	(6592, 932, 47.75, 0.9794, NULL, NULL),
-	(6593, 932, 48, 0.9792, NULL, NULL),
-	(6594, 932, 48.25, 0.979, NULL, NULL),
-	(6595, 932, 48.5, 0.9788, NULL, NULL),
-	(6596, 932, 48.75, 0.9787, NULL, NULL),
-	(6597, 932, 49, 0.9785, NULL, NULL),
-	(6598, 932, 49.25, 0.9783, NULL, NULL),
-	(6599, 932, 49.5, 0.9781, NULL, NULL),
-	(6600, 932, 49.75, 0.9779, NULL, NULL),
-	(6601, 932, 50, 0.9777, NULL, NULL),
-	(6602, 932.5, 15, 1.0037, NULL, NULL),
-	(6603, 932.5, 15.25, 1.0035, NULL, NULL),
-	(6604, 932.5, 15.5, 1.0033, NULL, NULL),
-	(6605, 932.5, 15.75, 1.0031, NULL, NULL),
-	(6606, 932.5, 16, 1.0029, NULL, NULL),
-	(6607, 932.5, 16.25, 1.0028, NULL, NULL),
-	(6608, 932.5, 16.5, 1.0026, NULL, NULL),
-	(6609, 932.5, 16.75, 1.0024, NULL, NULL),
-	(6610, 932.5, 17, 1.0022, NULL, NULL),
-	(6611, 932.5, 17.25, 1.002, NULL, NULL),
-	(6612, 932.5, 17.5, 1.0018, NULL, NULL),
-	(6613, 932.5, 17.75, 1.0017, NULL, NULL),
-	(6614, 932.5, 18, 1.0015, NULL, NULL),
-	(6615, 932.5, 18.25, 1.0013, NULL, NULL),
-	(6616, 932.5, 18.5, 1.0011, NULL, NULL),
-	(6617, 932.5, 18.75, 1.0009, NULL, NULL),
-	(6618, 932.5, 19, 1.0007, NULL, NULL),
-	(6619, 932.5, 19.25, 1.0006, NULL, NULL),
-	(6620, 932.5, 19.5, 1.0004, NULL, NULL),
-	(6621, 932.5, 19.75, 1.0002, NULL, NULL),
-	(6622, 932.5, 20, 1, NULL, NULL),
-	(6623, 932.5, 20.25, 0.9998, NULL, NULL),
-	(6624, 932.5, 20.5, 0.9996, NULL, NULL),
-	(6625, 932.5, 20.75, 0.9994, NULL, NULL),
-	(6626, 932.5, 21, 0.9993, NULL, NULL),
-	(6627, 932.5, 21.25, 0.9991, NULL, NULL),
-	(6628, 932.5, 21.5, 0.9989, NULL, NULL),
-	(6629, 932.5, 21.75, 0.9987, NULL, NULL),
-	(6630, 932.5, 22, 0.9985, NULL, NULL),
-	(6631, 932.5, 22.25, 0.9983, NULL, NULL),
-	(6632, 932.5, 22.5, 0.9982, NULL, NULL),
-	(6633, 932.5, 22.75, 0.998, NULL, NULL),
-	(6634, 932.5, 23, 0.9978, NULL, NULL),
-	(6635, 932.5, 23.25, 0.9976, NULL, NULL),
-	(6636, 932.5, 23.5, 0.9974, NULL, NULL),
-	(6637, 932.5, 23.75, 0.9972, NULL, NULL),
-	(6638, 932.5, 24, 0.997, NULL, NULL),
-	(6639, 932.5, 24.25, 0.9969, NULL, NULL),
-	(6640, 932.5, 24.5, 0.9967, NULL, NULL),
-	(6641, 932.5, 24.75, 0.9965, NULL, NULL),
-	(6642, 932.5, 25, 0.9963, NULL, NULL),
-	(6643, 932.5, 25.25, 0.9961, NULL, NULL),
-	(6644, 932.5, 25.5, 0.9959, NULL, NULL),
-	(6645, 932.5, 25.75, 0.9958, NULL, NULL),
-	(6646, 932.5, 26, 0.9956, NULL, NULL),
-	(6647, 932.5, 26.25, 0.9954, NULL, NULL),
-	(6648, 932.5, 26.5, 0.9952, NULL, NULL),
-	(6649, 932.5, 26.75, 0.995, NULL, NULL),
-	(6650, 932.5, 27, 0.9948, NULL, NULL),
-	(6651, 932.5, 27.25, 0.9946, NULL, NULL),
-	(6652, 932.5, 27.5, 0.9945, NULL, NULL),
-	(6653, 932.5, 27.75, 0.9943, NULL, NULL),
-	(6654, 932.5, 28, 0.9941, NULL, NULL),
-	(6655, 932.5, 28.25, 0.9939, NULL, NULL),
-	(6656, 932.5, 28.5, 0.9937, NULL, NULL),
-	(6657, 932.5, 28.75, 0.9935, NULL, NULL),
-	(6658, 932.5, 29, 0.9934, NULL, NULL),
-	(6659, 932.5, 29.25, 0.9932, NULL, NULL),
-	(6660, 932.5, 29.5, 0.993, NULL, NULL),
-	(6661, 932.5, 29.75, 0.9928, NULL, NULL),
-	(6662, 932.5, 30, 0.9926, NULL, NULL),
-	(6663, 932.5, 30.25, 0.9924, NULL, NULL),
-	(6664, 932.5, 30.5, 0.9922, NULL, NULL),
-	(6665, 932.5, 30.75, 0.9921, NULL, NULL),
-	(6666, 932.5, 31, 0.9919, NULL, NULL),
-	(6667, 932.5, 31.25, 0.9917, NULL, NULL),
-	(6668, 932.5, 31.5, 0.9915, NULL, NULL),
-	(6669, 932.5, 31.75, 0.9913, NULL, NULL),
-	(6670, 932.5, 32, 0.9911, NULL, NULL),
-	(6671, 932.5, 32.25, 0.9909, NULL, NULL),
-	(6672, 932.5, 32.5, 0.9908, NULL, NULL),
-	(6673, 932.5, 32.75, 0.9906, NULL, NULL),
-	(6674, 932.5, 33, 0.9904, NULL, NULL),
-	(6675, 932.5, 33.25, 0.9902, NULL, NULL),
-	(6676, 932.5, 33.5, 0.99, NULL, NULL),
-	(6677, 932.5, 33.75, 0.9898, NULL, NULL),
-	(6678, 932.5, 34, 0.9896, NULL, NULL),
-	(6679, 932.5, 34.25, 0.9895, NULL, NULL),
-	(6680, 932.5, 34.5, 0.9893, NULL, NULL),
-	(6681, 932.5, 34.75, 0.9891, NULL, NULL),
-	(6682, 932.5, 35, 0.9889, NULL, NULL),
-	(6683, 932.5, 35.25, 0.9887, NULL, NULL),
-	(6684, 932.5, 35.5, 0.9885, NULL, NULL),
-	(6685, 932.5, 35.75, 0.9883, NULL, NULL),
-	(6686, 932.5, 36, 0.9882, NULL, NULL),
-	(6687, 932.5, 36.25, 0.988, NULL, NULL),
-	(6688, 932.5, 36.5, 0.9878, NULL, NULL),
-	(6689, 932.5, 36.75, 0.9876, NULL, NULL),
-	(6690, 932.5, 37, 0.9874, NULL, NULL),
-	(6691, 932.5, 37.25, 0.9872, NULL, NULL),
-	(6692, 932.5, 37.5, 0.9871, NULL, NULL),
-	(6693, 932.5, 37.75, 0.9869, NULL, NULL),
-	(6694, 932.5, 38, 0.9867, NULL, NULL),
-	(6695, 932.5, 38.25, 0.9865, NULL, NULL),
-	(6696, 932.5, 38.75, 0.9861, NULL, NULL),
-	(6697, 932.5, 39, 0.9859, NULL, NULL),
-	(6698, 932.5, 39.25, 0.9858, NULL, NULL),
-	(6699, 932.5, 39.5, 0.9856, NULL, NULL),
-	(6700, 932.5, 39.75, 0.9854, NULL, NULL),
-	(6701, 932.5, 40, 0.9852, NULL, NULL),
-	(6702, 932.5, 40.25, 0.985, NULL, NULL),
-	(6703, 932.5, 40.5, 0.9848, NULL, NULL),
-	(6704, 932.5, 40.75, 0.9846, NULL, NULL),
-	(6705, 932.5, 41, 0.9844, NULL, NULL),
-	(6706, 932.5, 41.25, 0.9843, NULL, NULL),
-	(6707, 932.5, 41.5, 0.9841, NULL, NULL),
-	(6708, 932.5, 41.75, 0.9839, NULL, NULL),
-	(6709, 932.5, 42, 0.9837, NULL, NULL),
-	(6710, 932.5, 42.25, 0.9835, NULL, NULL),
-	(6711, 932.5, 42.5, 0.9833, NULL, NULL),
-	(6712, 932.5, 42.75, 0.9831, NULL, NULL),
-	(6713, 932.5, 43, 0.983, NULL, NULL),
-	(6714, 932.5, 43.25, 0.9828, NULL, NULL),
-	(6715, 932.5, 43.5, 0.9826, NULL, NULL),
-	(6716, 932.5, 43.75, 0.9824, NULL, NULL),
-	(6717, 932.5, 44, 0.9822, NULL, NULL),
-	(6718, 932.5, 44.25, 0.982, NULL, NULL),
-	(6719, 932.5, 44.5, 0.9818, NULL, NULL),
-	(6720, 932.5, 44.75, 0.9817, NULL, NULL),
-	(6721, 932.5, 45, 0.9815, NULL, NULL),
-	(6722, 932.5, 45.25, 0.9813, NULL, NULL),
-	(6723, 932.5, 45.5, 0.9811, NULL, NULL),
-	(6724, 932.5, 45.75, 0.9809, NULL, NULL),
-	(6725, 932.5, 46, 0.9807, NULL, NULL),
-	(6726, 932.5, 46.25, 0.9805, NULL, NULL),
-	(6727, 932.5, 46.5, 0.9804, NULL, NULL),
-	(6728, 932.5, 46.75, 0.9802, NULL, NULL),
-	(6729, 932.5, 47, 0.98, NULL, NULL),
-	(6730, 932.5, 47.25, 0.9798, NULL, NULL),
-	(6731, 932.5, 47.5, 0.9796, NULL, NULL),
-	(6732, 932.5, 47.75, 0.9794, NULL, NULL),
-	(6733, 932.5, 48, 0.9792, NULL, NULL),
-	(6734, 932.5, 48.25, 0.9791, NULL, NULL),
-	(6735, 932.5, 48.5, 0.9789, NULL, NULL),
-	(6736, 932.5, 48.75, 0.9787, NULL, NULL),
-	(6737, 932.5, 49, 0.9785, NULL, NULL),
-	(6738, 932.5, 49.25, 0.9783, NULL, NULL),
-	(6739, 932.5, 49.5, 0.9781, NULL, NULL),
-	(6740, 932.5, 49.75, 0.9779, NULL, NULL),
-	(6741, 932.5, 50, 0.9777, NULL, NULL),
-	(6742, 936, 15, 1.0037, NULL, NULL),
-	(6743, 936, 15.25, 1.0035, NULL, NULL),
-	(6744, 936, 15.5, 1.0033, NULL, NULL),
-	(6745, 936, 15.75, 1.0031, NULL, NULL),
-	(6746, 936, 16, 1.0029, NULL, NULL),
-	(6747, 936, 16.25, 1.0027, NULL, NULL),
-	(6748, 936, 16.5, 1.0026, NULL, NULL),
-	(6749, 936, 16.75, 1.0024, NULL, NULL),
-	(6750, 936, 17, 1.0022, NULL, NULL),
-	(6751, 936, 17.25, 1.002, NULL, NULL),
-	(6752, 936, 17.5, 1.0018, NULL, NULL),
-	(6753, 936, 17.75, 1.0016, NULL, NULL),
-	(6754, 936, 18, 1.0015, NULL, NULL),
-	(6755, 936, 18.25, 1.0013, NULL, NULL),
-	(6756, 936, 18.5, 1.0011, NULL, NULL),
-	(6757, 936, 18.75, 1.0009, NULL, NULL),
-	(6758, 936, 19, 1.0007, NULL, NULL),
-	(6759, 936, 19.25, 1.0006, NULL, NULL),
-	(6760, 936, 19.5, 1.0004, NULL, NULL),
-	(6761, 936, 19.75, 1.0002, NULL, NULL),
-	(6762, 936, 20, 1, NULL, NULL),
-	(6763, 936, 20.25, 0.9998, NULL, NULL),
-	(6764, 936, 20.5, 0.9996, NULL, NULL),
-	(6765, 936, 20.75, 0.9994, NULL, NULL),
-	(6766, 936, 21, 0.9993, NULL, NULL),
-	(6767, 936, 21.25, 0.9991, NULL, NULL),
-	(6768, 936, 21.5, 0.9989, NULL, NULL),
-	(6769, 936, 21.75, 0.9987, NULL, NULL),
-	(6770, 936, 22, 0.9985, NULL, NULL),
-	(6771, 936, 22.25, 0.9983, NULL, NULL),
-	(6772, 936, 22.5, 0.9982, NULL, NULL),
-	(6773, 936, 22.75, 0.998, NULL, NULL),
-	(6774, 936, 23, 0.9978, NULL, NULL),
-	(6775, 936, 23.25, 0.9976, NULL, NULL),
-	(6776, 936, 23.5, 0.9974, NULL, NULL),
-	(6777, 936, 23.75, 0.9972, NULL, NULL),
-	(6778, 936, 24, 0.9971, NULL, NULL),
-	(6779, 936, 24.25, 0.9969, NULL, NULL),
-	(6780, 936, 24.5, 0.9967, NULL, NULL),
-	(6781, 936, 24.75, 0.9965, NULL, NULL),
-	(6782, 936, 25, 0.9963, NULL, NULL),
-	(6783, 936, 25.25, 0.9961, NULL, NULL),
-	(6784, 936, 25.5, 0.996, NULL, NULL),
-	(6785, 936, 25.75, 0.9958, NULL, NULL),
-	(6786, 936, 26, 0.9956, NULL, NULL),
-	(6787, 936, 26.25, 0.9954, NULL, NULL),
-	(6788, 936, 26.5, 0.9952, NULL, NULL),
-	(6789, 936, 26.75, 0.995, NULL, NULL),
-	(6790, 936, 27, 0.9949, NULL, NULL),
-	(6791, 936, 27.25, 0.9947, NULL, NULL),
-	(6792, 936, 27.5, 0.9945, NULL, NULL),
-	(6793, 936, 27.75, 0.9943, NULL, NULL),
-	(6794, 936, 28, 0.9941, NULL, NULL),
-	(6795, 936, 28.25, 0.9939, NULL, NULL),
-	(6796, 936, 28.5, 0.9938, NULL, NULL),
-	(6797, 936, 28.75, 0.9936, NULL, NULL),
-	(6798, 936, 29, 0.9934, NULL, NULL),
-	(6799, 936, 29.25, 0.9932, NULL, NULL),
-	(6800, 936, 29.5, 0.993, NULL, NULL),
-	(6801, 936, 29.75, 0.9928, NULL, NULL),
-	(6802, 936, 30, 0.9926, NULL, NULL),
-	(6803, 936, 30.25, 0.9925, NULL, NULL),
-	(6804, 936, 30.5, 0.9923, NULL, NULL),
-	(6805, 936, 30.75, 0.9921, NULL, NULL),
-	(6806, 936, 31, 0.9919, NULL, NULL),
-	(6807, 936, 31.25, 0.9917, NULL, NULL),
-	(6808, 936, 31.5, 0.9915, NULL, NULL),
-	(6809, 936, 31.75, 0.9914, NULL, NULL),
-	(6810, 936, 32, 0.9912, NULL, NULL),
-	(6811, 936, 32.25, 0.991, NULL, NULL),
-	(6812, 936, 32.5, 0.9908, NULL, NULL),
-	(6813, 936, 32.75, 0.9906, NULL, NULL),
-	(6814, 936, 33, 0.9904, NULL, NULL),
-	(6815, 936, 33.25, 0.9903, NULL, NULL),
-	(6816, 936, 33.5, 0.9901, NULL, NULL),
-	(6817, 936, 33.75, 0.9899, NULL, NULL),
-	(6818, 936, 34, 0.9897, NULL, NULL),
-	(6819, 936, 34.25, 0.9895, NULL, NULL),
-	(6820, 936, 34.5, 0.9893, NULL, NULL),
-	(6821, 936, 34.75, 0.9891, NULL, NULL),
-	(6822, 936, 35, 0.989, NULL, NULL),
-	(6823, 936, 35.25, 0.9888, NULL, NULL),
-	(6824, 936, 35.5, 0.9886, NULL, NULL),
-	(6825, 936, 35.75, 0.9884, NULL, NULL),
-	(6826, 936, 36, 0.9882, NULL, NULL),
-	(6827, 936, 36.25, 0.988, NULL, NULL),
-	(6828, 936, 36.5, 0.9879, NULL, NULL),
-	(6829, 936, 36.75, 0.9877, NULL, NULL),
-	(6830, 936, 37, 0.9875, NULL, NULL),
-	(6831, 936, 37.25, 0.9873, NULL, NULL),
-	(6832, 936, 37.5, 0.9871, NULL, NULL),
-	(6833, 936, 37.75, 0.9869, NULL, NULL),
-	(6834, 936, 38, 0.9867, NULL, NULL),
-	(6835, 936, 38.25, 0.9866, NULL, NULL),
-	(6836, 936, 38.5, 0.9864, NULL, NULL),
-	(6837, 936, 38.75, 0.9862, NULL, NULL),
-	(6838, 936, 39, 0.986, NULL, NULL),
-	(6839, 936, 39.25, 0.9858, NULL, NULL),
-	(6840, 936, 39.5, 0.9856, NULL, NULL),
-	(6841, 936, 39.75, 0.9855, NULL, NULL),
-	(6842, 936, 40, 0.9853, NULL, NULL),
-	(6843, 936, 40.25, 0.9851, NULL, NULL),
-	(6844, 936, 40.5, 0.9849, NULL, NULL),
-	(6845, 936, 40.75, 0.9847, NULL, NULL),
-	(6846, 936, 41, 0.9845, NULL, NULL),
-	(6847, 936, 41.25, 0.9843, NULL, NULL),
-	(6848, 936, 41.5, 0.9842, NULL, NULL),
-	(6849, 936, 41.75, 0.984, NULL, NULL),
-	(6850, 936, 42, 0.9838, NULL, NULL),
-	(6851, 936, 42.25, 0.9836, NULL, NULL),
-	(6852, 936, 42.5, 0.9834, NULL, NULL),
-	(6853, 936, 42.75, 0.9832, NULL, NULL),
-	(6854, 936, 43, 0.983, NULL, NULL),
-	(6855, 936, 43.25, 0.9829, NULL, NULL),
-	(6856, 936, 43.5, 0.9827, NULL, NULL),
-	(6857, 936, 43.75, 0.9825, NULL, NULL),
-	(6858, 936, 44, 0.9823, NULL, NULL),
-	(6859, 936, 44.25, 0.9821, NULL, NULL),
-	(6860, 936, 44.5, 0.9819, NULL, NULL),
-	(6861, 936, 44.75, 0.9817, NULL, NULL),
-	(6862, 936, 45, 0.9816, NULL, NULL),
-	(6863, 936, 45.25, 0.9814, NULL, NULL),
-	(6864, 936, 45.5, 0.9812, NULL, NULL),
-	(6865, 936, 45.75, 0.981, NULL, NULL),
-	(6866, 936, 46, 0.9808, NULL, NULL),
-	(6867, 936, 46.25, 0.9806, NULL, NULL),
-	(6868, 936, 46.5, 0.9805, NULL, NULL),
-	(6869, 936, 46.75, 0.9803, NULL, NULL),
-	(6870, 936, 47, 0.9801, NULL, NULL),
-	(6871, 936, 47.25, 0.9799, NULL, NULL),
-	(6872, 936, 47.5, 0.9797, NULL, NULL),
-	(6873, 936, 47.75, 0.9795, NULL, NULL),
-	(6874, 936, 48, 0.9793, NULL, NULL),
-	(6875, 936, 48.25, 0.9792, NULL, NULL),
-	(6876, 936, 48.5, 0.979, NULL, NULL),
-	(6877, 936, 48.75, 0.9788, NULL, NULL),
-	(6878, 936, 49, 0.9786, NULL, NULL),
-	(6879, 936, 49.25, 0.9784, NULL, NULL),
-	(6880, 936, 49.5, 0.9782, NULL, NULL),
-	(6881, 936, 49.75, 0.978, NULL, NULL),
-	(6882, 936, 50, 0.9779, NULL, NULL),
-	(6883, 936.5, 15, 1.0037, NULL, NULL),
-	(6884, 936.5, 15.25, 1.0035, NULL, NULL),
-	(6885, 936.5, 15.5, 1.0033, NULL, NULL),
-	(6886, 936.5, 15.75, 1.0031, NULL, NULL),
-	(6887, 936.5, 16, 1.0029, NULL, NULL),
-	(6888, 936.5, 16.25, 1.0027, NULL, NULL),
-	(6889, 936.5, 16.5, 1.0026, NULL, NULL),
-	(6890, 936.5, 16.75, 1.0024, NULL, NULL),
-	(6891, 936.5, 17, 1.0022, NULL, NULL),
-	(6892, 936.5, 17.25, 1.002, NULL, NULL),
-	(6893, 936.5, 17.5, 1.0018, NULL, NULL),
-	(6894, 936.5, 17.75, 1.0016, NULL, NULL),
-	(6895, 936.5, 18, 1.0015, NULL, NULL),
-	(6896, 936.5, 18.25, 1.0013, NULL, NULL),
-	(6897, 936.5, 18.5, 1.0011, NULL, NULL),
-	(6898, 936.5, 18.75, 1.0009, NULL, NULL),
-	(6899, 936.5, 19, 1.0007, NULL, NULL),
-	(6900, 936.5, 19.25, 1.0005, NULL, NULL),
-	(6901, 936.5, 19.5, 1.0004, NULL, NULL),
-	(6902, 936.5, 19.75, 1.0002, NULL, NULL),
-	(6903, 936.5, 20, 1, NULL, NULL),
-	(6904, 936.5, 20.25, 0.9998, NULL, NULL),
-	(6905, 936.5, 20.5, 0.9996, NULL, NULL),
-	(6906, 936.5, 20.75, 0.9995, NULL, NULL),
-	(6907, 936.5, 21, 0.9993, NULL, NULL),
-	(6908, 936.5, 21.25, 0.9991, NULL, NULL),
-	(6909, 936.5, 21.5, 0.9989, NULL, NULL),
-	(6910, 936.5, 21.75, 0.9987, NULL, NULL),
-	(6911, 936.5, 22, 0.9985, NULL, NULL),
-	(6912, 936.5, 22.25, 0.9983, NULL, NULL),
-	(6913, 936.5, 22.5, 0.9982, NULL, NULL),
-	(6914, 936.5, 22.75, 0.998, NULL, NULL),
-	(6915, 936.5, 23, 0.9978, NULL, NULL),
-	(6916, 936.5, 23.25, 0.9976, NULL, NULL),
-	(6917, 936.5, 23.5, 0.9974, NULL, NULL),
-	(6918, 936.5, 23.75, 0.9972, NULL, NULL),
-	(6919, 936.5, 24, 0.9971, NULL, NULL),
-	(6920, 936.5, 24.25, 0.9969, NULL, NULL),
-	(6921, 936.5, 24.5, 0.9967, NULL, NULL),
-	(6922, 936.5, 24.75, 0.9965, NULL, NULL),
-	(6923, 936.5, 25, 0.9963, NULL, NULL),
-	(6924, 936.5, 25.25, 0.9961, NULL, NULL),
-	(6925, 936.5, 25.5, 0.996, NULL, NULL),
-	(6926, 936.5, 25.75, 0.9958, NULL, NULL),
-	(6927, 936.5, 26, 0.9956, NULL, NULL),
-	(6928, 936.5, 26.25, 0.9954, NULL, NULL),
-	(6929, 936.5, 26.5, 0.9952, NULL, NULL),
-	(6930, 936.5, 26.75, 0.995, NULL, NULL),
-	(6931, 936.5, 27, 0.9949, NULL, NULL),
-	(6932, 936.5, 27.25, 0.9947, NULL, NULL),
-	(6933, 936.5, 27.5, 0.9945, NULL, NULL),
-	(6934, 936.5, 27.75, 0.9943, NULL, NULL),
-	(6935, 936.5, 28, 0.9941, NULL, NULL),
-	(6936, 936.5, 28.25, 0.9939, NULL, NULL),
-	(6937, 936.5, 28.5, 0.9938, NULL, NULL),
-	(6938, 936.5, 28.75, 0.9936, NULL, NULL),
-	(6939, 936.5, 29, 0.9934, NULL, NULL),
-	(6940, 936.5, 29.25, 0.9932, NULL, NULL),
-	(6941, 936.5, 29.5, 0.993, NULL, NULL),
-	(6942, 936.5, 29.75, 0.9928, NULL, NULL),
-	(6943, 936.5, 30, 0.9927, NULL, NULL),
-	(6944, 936.5, 30.25, 0.9925, NULL, NULL),
-	(6945, 936.5, 30.5, 0.9923, NULL, NULL),
-	(6946, 936.5, 30.75, 0.9921, NULL, NULL),
-	(6947, 936.5, 31, 0.9919, NULL, NULL),
-	(6948, 936.5, 31.25, 0.9917, NULL, NULL),
-	(6949, 936.5, 31.5, 0.9915, NULL, NULL),
-	(6950, 936.5, 31.75, 0.9914, NULL, NULL),
-	(6951, 936.5, 32, 0.9912, NULL, NULL),
-	(6952, 936.5, 32.25, 0.991, NULL, NULL),
-	(6953, 936.5, 32.5, 0.9908, NULL, NULL),
-	(6954, 936.5, 32.75, 0.9906, NULL, NULL),
-	(6955, 936.5, 33, 0.9904, NULL, NULL),
-	(6956, 936.5, 33.25, 0.9903, NULL, NULL),
-	(6957, 936.5, 33.5, 0.9901, NULL, NULL),
-	(6958, 936.5, 33.75, 0.9899, NULL, NULL),
-	(6959, 936.5, 34, 0.9897, NULL, NULL),
-	(6960, 936.5, 34.25, 0.9895, NULL, NULL),
-	(6961, 936.5, 34.5, 0.9893, NULL, NULL),
-	(6962, 936.5, 34.75, 0.9892, NULL, NULL),
-	(6963, 936.5, 35, 0.989, NULL, NULL),
-	(6964, 936.5, 35.25, 0.9888, NULL, NULL),
-	(6965, 936.5, 35.5, 0.9886, NULL, NULL),
-	(6966, 936.5, 35.75, 0.9884, NULL, NULL),
-	(6967, 936.5, 36, 0.9882, NULL, NULL),
-	(6968, 936.5, 36.25, 0.988, NULL, NULL),
-	(6969, 936.5, 36.5, 0.9879, NULL, NULL),
-	(6970, 936.5, 36.75, 0.9877, NULL, NULL),
-	(6971, 936.5, 37, 0.9875, NULL, NULL),
-	(6972, 936.5, 37.25, 0.9873, NULL, NULL),
-	(6973, 936.5, 37.5, 0.9871, NULL, NULL),
-	(6974, 936.5, 37.75, 0.9869, NULL, NULL),
-	(6975, 936.5, 38, 0.9868, NULL, NULL),
-	(6976, 936.5, 38.25, 0.9866, NULL, NULL),
-	(6977, 936.5, 38.5, 0.9864, NULL, NULL),
-	(6978, 936.5, 38.75, 0.9862, NULL, NULL),
-	(6979, 936.5, 39, 0.986, NULL, NULL),
-	(6980, 936.5, 39.25, 0.9858, NULL, NULL),
-	(6981, 936.5, 39.5, 0.9856, NULL, NULL),
-	(6982, 936.5, 39.75, 0.9855, NULL, NULL),
-	(6983, 936.5, 40, 0.9853, NULL, NULL),
-	(6984, 936.5, 40.25, 0.9851, NULL, NULL),
-	(6985, 936.5, 40.5, 0.9849, NULL, NULL),
-	(6986, 936.5, 40.75, 0.9847, NULL, NULL),
-	(6987, 936.5, 41, 0.9845, NULL, NULL),
-	(6988, 936.5, 41.25, 0.9844, NULL, NULL),
-	(6989, 936.5, 41.5, 0.9842, NULL, NULL),
-	(6990, 936.5, 41.75, 0.984, NULL, NULL),
-	(6991, 936.5, 42, 0.9838, NULL, NULL),
-	(6992, 936.5, 42.25, 0.9836, NULL, NULL),
-	(6993, 936.5, 42.5, 0.9834, NULL, NULL),
-	(6994, 936.5, 42.75, 0.9832, NULL, NULL),
-	(6995, 936.5, 43, 0.9831, NULL, NULL),
-	(6996, 936.5, 43.25, 0.9829, NULL, NULL),
-	(6997, 936.5, 43.5, 0.9827, NULL, NULL),
-	(6998, 936.5, 43.75, 0.9825, NULL, NULL),
-	(6999, 936.5, 44, 0.9823, NULL, NULL),
-	(7000, 936.5, 44.25, 0.9821, NULL, NULL),
-	(7001, 936.5, 44.5, 0.9819, NULL, NULL),
-	(7002, 936.5, 44.75, 0.9818, NULL, NULL),
-	(7003, 936.5, 45, 0.9816, NULL, NULL),
-	(7004, 936.5, 45.25, 0.9814, NULL, NULL),
-	(7005, 936.5, 45.5, 0.9812, NULL, NULL),
-	(7006, 936.5, 45.75, 0.981, NULL, NULL),
-	(7007, 936.5, 46, 0.9808, NULL, NULL),
-	(7008, 936.5, 46.25, 0.9807, NULL, NULL),
-	(7009, 936.5, 46.5, 0.9805, NULL, NULL),
-	(7010, 936.5, 46.75, 0.9803, NULL, NULL),
-	(7011, 936.5, 47, 0.9801, NULL, NULL),
-	(7012, 936.5, 47.25, 0.9799, NULL, NULL),
-	(7013, 936.5, 47.5, 0.9797, NULL, NULL),
-	(7014, 936.5, 47.75, 0.9795, NULL, NULL),
-	(7015, 936.5, 48, 0.9794, NULL, NULL),
-	(7016, 936.5, 48.25, 0.9792, NULL, NULL),
-	(7017, 936.5, 48.5, 0.979, NULL, NULL),
-	(7018, 936.5, 48.75, 0.9788, NULL, NULL),
-	(7019, 936.5, 49, 0.9786, NULL, NULL),
-	(7020, 936.5, 49.25, 0.9784, NULL, NULL),
-	(7021, 936.5, 49.5, 0.9782, NULL, NULL),
-	(7022, 936.5, 49.75, 0.9781, NULL, NULL),
-	(7023, 936.5, 50, 0.9779, NULL, NULL),
-	(7024, 937, 15, 1.0037, NULL, NULL),
-	(7025, 937, 15.25, 1.0035, NULL, NULL),
-	(7026, 937, 15.5, 1.0033, NULL, NULL),
-	(7027, 937, 15.75, 1.0031, NULL, NULL),
-	(7028, 937, 16, 1.0029, NULL, NULL),
-	(7029, 937, 16.25, 1.0027, NULL, NULL),
-	(7030, 937, 16.5, 1.0026, NULL, NULL),
-	(7031, 937, 16.75, 1.0024, NULL, NULL),
-	(7032, 937, 17, 1.0022, NULL, NULL),
-	(7033, 937, 17.25, 1.002, NULL, NULL),
-	(7034, 937, 17.5, 1.0018, NULL, NULL),
-	(7035, 937, 17.75, 1.0016, NULL, NULL),
-	(7036, 937, 18, 1.0015, NULL, NULL),
-	(7037, 937, 18.25, 1.0013, NULL, NULL),
-	(7038, 937, 18.5, 1.0011, NULL, NULL),
-	(7039, 937, 18.75, 1.0009, NULL, NULL),
-	(7040, 937, 19, 1.0007, NULL, NULL),
-	(7041, 937, 19.25, 1.0005, NULL, NULL),
-	(7042, 937, 19.5, 1.0004, NULL, NULL),
-	(7043, 937, 19.75, 1.0002, NULL, NULL),
-	(7044, 937, 20, 1, NULL, NULL),
-	(7045, 937, 20.25, 0.9998, NULL, NULL),
-	(7046, 937, 20.5, 0.9996, NULL, NULL),
-	(7047, 937, 20.75, 0.9995, NULL, NULL),
-	(7048, 937, 21, 0.9993, NULL, NULL),
-	(7049, 937, 21.25, 0.9991, NULL, NULL),
-	(7050, 937, 21.5, 0.9989, NULL, NULL),
-	(7051, 937, 21.75, 0.9987, NULL, NULL),
-	(7052, 937, 22, 0.9985, NULL, NULL),
-	(7053, 937, 22.25, 0.9984, NULL, NULL),
-	(7054, 937, 22.5, 0.9982, NULL, NULL),
-	(7055, 937, 22.75, 0.998, NULL, NULL),
-	(7056, 937, 23, 0.9978, NULL, NULL),
-	(7057, 937, 23.25, 0.9976, NULL, NULL),
-	(7058, 937, 23.5, 0.9974, NULL, NULL),
-	(7059, 937, 23.75, 0.9973, NULL, NULL),
-	(7060, 937, 24, 0.9971, NULL, NULL),
-	(7061, 937, 24.25, 0.9969, NULL, NULL),
-	(7062, 937, 24.5, 0.9967, NULL, NULL),
-	(7063, 937, 24.75, 0.9965, NULL, NULL),
-	(7064, 937, 25, 0.9963, NULL, NULL),
-	(7065, 937, 25.25, 0.9961, NULL, NULL),
-	(7066, 937, 25.5, 0.996, NULL, NULL),
-	(7067, 937, 25.75, 0.9958, NULL, NULL),
-	(7068, 937, 26, 0.9956, NULL, NULL),
-	(7069, 937, 26.25, 0.9954, NULL, NULL),
-	(7070, 937, 26.5, 0.9952, NULL, NULL),
-	(7071, 937, 26.75, 0.995, NULL, NULL),
-	(7072, 937, 27, 0.9949, NULL, NULL),
-	(7073, 937, 27.25, 0.9947, NULL, NULL),
-	(7074, 937, 27.5, 0.9945, NULL, NULL),
-	(7075, 937, 27.75, 0.9943, NULL, NULL),
-	(7076, 937, 28, 0.9941, NULL, NULL),
-	(7077, 937, 28.25, 0.9939, NULL, NULL),
-	(7078, 937, 28.5, 0.9938, NULL, NULL),
-	(7079, 937, 28.75, 0.9936, NULL, NULL),
-	(7080, 937, 29, 0.9934, NULL, NULL),
-	(7081, 937, 29.25, 0.9932, NULL, NULL),
-	(7082, 937, 29.5, 0.993, NULL, NULL),
-	(7083, 937, 29.75, 0.9928, NULL, NULL),
-	(7084, 937, 30, 0.9927, NULL, NULL),
-	(7085, 937, 30.25, 0.9925, NULL, NULL),
-	(7086, 937, 30.5, 0.9923, NULL, NULL),
-	(7087, 937, 30.75, 0.9921, NULL, NULL),
-	(7088, 937, 31, 0.9919, NULL, NULL),
-	(7089, 937, 31.25, 0.9917, NULL, NULL),
-	(7090, 937, 31.5, 0.9916, NULL, NULL),
-	(7091, 937, 31.75, 0.9914, NULL, NULL),
-	(7092, 937, 32, 0.9912, NULL, NULL),
-	(7093, 937, 32.25, 0.991, NULL, NULL),
-	(7094, 937, 32.5, 0.9908, NULL, NULL),
-	(7095, 937, 32.75, 0.9906, NULL, NULL),
-	(7096, 937, 33, 0.9904, NULL, NULL),
-	(7097, 937, 33.25, 0.9903, NULL, NULL),
-	(7098, 937, 33.5, 0.9901, NULL, NULL),
-	(7099, 937, 33.75, 0.9899, NULL, NULL),
-	(7100, 937, 34, 0.9897, NULL, NULL),
-	(7101, 937, 34.25, 0.9895, NULL, NULL),
-	(7102, 937, 34.5, 0.9893, NULL, NULL),
-	(7103, 937, 34.75, 0.9892, NULL, NULL),
-	(7104, 937, 35, 0.989, NULL, NULL),
-	(7105, 937, 35.25, 0.9888, NULL, NULL),
-	(7106, 937, 35.5, 0.9886, NULL, NULL),
-	(7107, 937, 35.75, 0.9884, NULL, NULL),
-	(7108, 937, 36, 0.9882, NULL, NULL),
-	(7109, 937, 36.25, 0.9881, NULL, NULL),
-	(7110, 937, 36.5, 0.9879, NULL, NULL),
-	(7111, 937, 36.75, 0.9877, NULL, NULL),
-	(7112, 937, 37, 0.9875, NULL, NULL),
-	(7113, 937, 37.25, 0.9873, NULL, NULL),
-	(7114, 937, 37.5, 0.9871, NULL, NULL),
-	(7115, 937, 37.75, 0.9869, NULL, NULL),
-	(7116, 937, 38, 0.9868, NULL, NULL),
-	(7117, 937, 38.25, 0.9866, NULL, NULL),
-	(7118, 937, 38.5, 0.9864, NULL, NULL),
-	(7119, 937, 38.75, 0.9862, NULL, NULL),
-	(7120, 937, 39, 0.986, NULL, NULL),
-	(7121, 937, 39.25, 0.9858, NULL, NULL),
-	(7122, 937, 39.5, 0.9857, NULL, NULL),
-	(7123, 937, 39.75, 0.9855, NULL, NULL),
-	(7124, 937, 40, 0.9853, NULL, NULL),
-	(7125, 937, 40.25, 0.9851, NULL, NULL),
-	(7126, 937, 40.5, 0.9849, NULL, NULL),
-	(7127, 937, 40.75, 0.9847, NULL, NULL),
-	(7128, 937, 41, 0.9845, NULL, NULL),
-	(7129, 937, 41.25, 0.9844, NULL, NULL),
-	(7130, 937, 41.5, 0.9842, NULL, NULL),
-	(7131, 937, 41.75, 0.984, NULL, NULL),
-	(7132, 937, 42, 0.9838, NULL, NULL),
-	(7133, 937, 42.25, 0.9836, NULL, NULL),
-	(7134, 937, 42.5, 0.9834, NULL, NULL),
-	(7135, 937, 42.75, 0.9833, NULL, NULL),
-	(7136, 937, 43, 0.9831, NULL, NULL),
-	(7137, 937, 43.25, 0.9829, NULL, NULL),
-	(7138, 937, 43.5, 0.9827, NULL, NULL),
-	(7139, 937, 43.75, 0.9825, NULL, NULL),
-	(7140, 937, 44, 0.9823, NULL, NULL),
-	(7141, 937, 44.25, 0.9821, NULL, NULL),
-	(7142, 937, 44.5, 0.982, NULL, NULL),
-	(7143, 937, 44.75, 0.9818, NULL, NULL),
-	(7144, 937, 45, 0.9816, NULL, NULL),
-	(7145, 937, 45.25, 0.9814, NULL, NULL),
-	(7146, 937, 45.5, 0.9812, NULL, NULL),
-	(7147, 937, 45.75, 0.981, NULL, NULL),
-	(7148, 937, 46, 0.9809, NULL, NULL),
-	(7149, 937, 46.25, 0.9807, NULL, NULL),
-	(7150, 937, 46.5, 0.9805, NULL, NULL),
-	(7151, 937, 46.75, 0.9803, NULL, NULL),
-	(7152, 937, 47, 0.9801, NULL, NULL),
-	(7153, 937, 47.25, 0.9799, NULL, NULL),
-	(7154, 937, 47.5, 0.9797, NULL, NULL),
-	(7155, 937, 47.75, 0.9796, NULL, NULL),
-	(7156, 937, 48, 0.9794, NULL, NULL),
-	(7157, 937, 48.25, 0.9792, NULL, NULL),
-	(7158, 937, 48.5, 0.979, NULL, NULL),
-	(7159, 937, 48.75, 0.9788, NULL, NULL),
-	(7160, 937, 49, 0.9786, NULL, NULL),
-	(7161, 937, 49.25, 0.9784, NULL, NULL),
-	(7162, 937, 49.5, 0.9783, NULL, NULL),
-	(7163, 937, 49.75, 0.9781, NULL, NULL),
-	(7164, 937, 50, 0.9779, NULL, NULL),
-	(7165, 937.5, 15, 1.0037, NULL, NULL),
-	(7166, 937.5, 15.25, 1.0035, NULL, NULL),
-	(7167, 937.5, 15.5, 1.0033, NULL, NULL),
-	(7168, 937.5, 15.75, 1.0031, NULL, NULL),
-	(7169, 937.5, 16, 1.0029, NULL, NULL),
-	(7170, 937.5, 16.25, 1.0027, NULL, NULL),
-	(7171, 937.5, 16.5, 1.0026, NULL, NULL),
-	(7172, 937.5, 16.75, 1.0024, NULL, NULL),
-	(7173, 937.5, 17, 1.0022, NULL, NULL),
-	(7174, 937.5, 17.25, 1.002, NULL, NULL),
-	(7175, 937.5, 17.5, 1.0018, NULL, NULL),
-	(7176, 937.5, 17.75, 1.0016, NULL, NULL),
-	(7177, 937.5, 18, 1.0015, NULL, NULL),
-	(7178, 937.5, 18.25, 1.0013, NULL, NULL),
-	(7179, 937.5, 18.5, 1.0011, NULL, NULL),
-	(7180, 937.5, 18.75, 1.0009, NULL, NULL),
-	(7181, 937.5, 19, 1.0007, NULL, NULL),
-	(7182, 937.5, 19.25, 1.0005, NULL, NULL),
-	(7183, 937.5, 19.5, 1.0004, NULL, NULL),
-	(7184, 937.5, 19.75, 1.0002, NULL, NULL),
-	(7185, 937.5, 20, 1, NULL, NULL),
-	(7186, 937.5, 20.25, 0.9998, NULL, NULL),
-	(7187, 937.5, 20.5, 0.9996, NULL, NULL),
-	(7188, 937.5, 20.75, 0.9995, NULL, NULL),
-	(7189, 937.5, 21, 0.9993, NULL, NULL),
-	(7190, 937.5, 21.25, 0.9991, NULL, NULL),
-	(7191, 937.5, 21.5, 0.9989, NULL, NULL),
-	(7192, 937.5, 21.75, 0.9987, NULL, NULL),
-	(7193, 937.5, 22, 0.9985, NULL, NULL),
-	(7194, 937.5, 22.25, 0.9984, NULL, NULL),
-	(7195, 937.5, 22.5, 0.9982, NULL, NULL),
-	(7196, 937.5, 22.75, 0.998, NULL, NULL),
-	(7197, 937.5, 23, 0.9978, NULL, NULL),
-	(7198, 937.5, 23.25, 0.9976, NULL, NULL),
-	(7199, 937.5, 23.5, 0.9974, NULL, NULL),
-	(7200, 937.5, 23.75, 0.9973, NULL, NULL),
-	(7201, 937.5, 24, 0.9971, NULL, NULL),
-	(7202, 937.5, 24.25, 0.9969, NULL, NULL),
-	(7203, 937.5, 24.5, 0.9967, NULL, NULL),
-	(7204, 937.5, 24.75, 0.9965, NULL, NULL),
-	(7205, 937.5, 25, 0.9963, NULL, NULL),
-	(7206, 937.5, 25.25, 0.9962, NULL, NULL),
-	(7207, 937.5, 25.5, 0.996, NULL, NULL),
-	(7208, 937.5, 25.75, 0.9958, NULL, NULL),
-	(7209, 937.5, 26, 0.9956, NULL, NULL),
-	(7210, 937.5, 26.25, 0.9954, NULL, NULL),
-	(7211, 937.5, 26.5, 0.9952, NULL, NULL),
-	(7212, 937.5, 26.75, 0.9951, NULL, NULL),
-	(7213, 937.5, 27, 0.9949, NULL, NULL),
-	(7214, 937.5, 27.25, 0.9947, NULL, NULL),
-	(7215, 937.5, 27.5, 0.9945, NULL, NULL),
-	(7216, 937.5, 27.75, 0.9943, NULL, NULL),
-	(7217, 937.5, 28, 0.9941, NULL, NULL),
-	(7218, 937.5, 28.25, 0.9939, NULL, NULL),
-	(7219, 937.5, 28.5, 0.9938, NULL, NULL),
-	(7220, 937.5, 28.75, 0.9936, NULL, NULL),
-	(7221, 937.5, 29, 0.9934, NULL, NULL),
-	(7222, 937.5, 29.25, 0.9932, NULL, NULL),
-	(7223, 937.5, 29.5, 0.993, NULL, NULL),
-	(7224, 937.5, 29.75, 0.9928, NULL, NULL),
-	(7225, 937.5, 30, 0.9927, NULL, NULL),
-	(7226, 937.5, 30.25, 0.9925, NULL, NULL),
-	(7227, 937.5, 30.5, 0.9923, NULL, NULL),
-	(7228, 937.5, 30.75, 0.9921, NULL, NULL),
-	(7229, 937.5, 31, 0.9919, NULL, NULL),
-	(7230, 937.5, 31.25, 0.9917, NULL, NULL),
-	(7231, 937.5, 31.5, 0.9916, NULL, NULL),
-	(7232, 937.5, 31.75, 0.9914, NULL, NULL),
-	(7233, 937.5, 32, 0.9912, NULL, NULL),
-	(7234, 937.5, 32.5, 0.9908, NULL, NULL),
-	(7235, 937.5, 32.75, 0.9906, NULL, NULL),
-	(7236, 937.5, 33, 0.9905, NULL, NULL),
-	(7237, 937.5, 33.25, 0.9903, NULL, NULL),
-	(7238, 937.5, 33.5, 0.9901, NULL, NULL),
-	(7239, 937.5, 33.75, 0.9899, NULL, NULL),
-	(7240, 937.5, 34, 0.9897, NULL, NULL),
-	(7241, 937.5, 34.25, 0.9895, NULL, NULL),
-	(7242, 937.5, 34.5, 0.9894, NULL, NULL),
-	(7243, 937.5, 34.75, 0.9892, NULL, NULL),
-	(7244, 937.5, 35, 0.989, NULL, NULL),
-	(7245, 937.5, 35.25, 0.9888, NULL, NULL),
-	(7246, 937.5, 35.5, 0.9886, NULL, NULL),
-	(7247, 937.5, 35.75, 0.9884, NULL, NULL),
-	(7248, 937.5, 36, 0.9882, NULL, NULL),
-	(7249, 937.5, 36.25, 0.9881, NULL, NULL),
-	(7250, 937.5, 36.5, 0.9879, NULL, NULL),
-	(7251, 937.5, 36.75, 0.9877, NULL, NULL),
-	(7252, 937.5, 37, 0.9875, NULL, NULL),
-	(7253, 937.5, 37.25, 0.9873, NULL, NULL),
-	(7254, 937.5, 37.5, 0.9871, NULL, NULL),
-	(7255, 937.5, 37.75, 0.987, NULL, NULL),
-	(7256, 937.5, 38, 0.9868, NULL, NULL),
-	(7257, 937.5, 38.25, 0.9866, NULL, NULL),
-	(7258, 937.5, 38.5, 0.9864, NULL, NULL),
-	(7259, 937.5, 38.75, 0.9862, NULL, NULL),
-	(7260, 937.5, 39, 0.986, NULL, NULL),
-	(7261, 937.5, 39.25, 0.9859, NULL, NULL),
-	(7262, 937.5, 39.5, 0.9857, NULL, NULL),
-	(7263, 937.5, 39.75, 0.9855, NULL, NULL),
-	(7264, 937.5, 40, 0.9853, NULL, NULL),
-	(7265, 937.5, 40.25, 0.9851, NULL, NULL),
-	(7266, 937.5, 40.5, 0.9849, NULL, NULL),
-	(7267, 937.5, 40.75, 0.9847, NULL, NULL),
-	(7268, 937.5, 41, 0.9846, NULL, NULL),
-	(7269, 937.5, 41.25, 0.9844, NULL, NULL),
-	(7270, 937.5, 41.5, 0.9842, NULL, NULL),
-	(7271, 937.5, 41.75, 0.984, NULL, NULL),
-	(7272, 937.5, 42, 0.9838, NULL, NULL),
-	(7273, 937.5, 42.25, 0.9836, NULL, NULL),
-	(7274, 937.5, 42.5, 0.9835, NULL, NULL),
-	(7275, 937.5, 42.75, 0.9833, NULL, NULL),
-	(7276, 937.5, 43, 0.9831, NULL, NULL),
-	(7277, 937.5, 43.25, 0.9829, NULL, NULL),
-	(7278, 937.5, 43.5, 0.9827, NULL, NULL),
-	(7279, 937.5, 43.75, 0.9825, NULL, NULL),
-	(7280, 937.5, 44, 0.9823, NULL, NULL),
-	(7281, 937.5, 44.25, 0.9822, NULL, NULL),
-	(7282, 937.5, 44.5, 0.982, NULL, NULL),
-	(7283, 937.5, 44.75, 0.9818, NULL, NULL),
-	(7284, 937.5, 45, 0.9816, NULL, NULL),
-	(7285, 937.5, 45.25, 0.9814, NULL, NULL),
-	(7286, 937.5, 45.5, 0.9812, NULL, NULL),
-	(7287, 937.5, 45.75, 0.981, NULL, NULL),
-	(7288, 937.5, 46, 0.9809, NULL, NULL),
-	(7289, 937.5, 46.25, 0.9807, NULL, NULL),
-	(7290, 937.5, 46.5, 0.9805, NULL, NULL),
-	(7291, 937.5, 46.75, 0.9803, NULL, NULL),
-	(7292, 937.5, 47, 0.9801, NULL, NULL),
-	(7293, 937.5, 47.25, 0.9799, NULL, NULL),
-	(7294, 937.5, 47.5, 0.9798, NULL, NULL),
-	(7295, 937.5, 47.75, 0.9796, NULL, NULL),
-	(7296, 937.5, 48, 0.9794, NULL, NULL),
-	(7297, 937.5, 48.25, 0.9792, NULL, NULL),
-	(7298, 937.5, 48.5, 0.979, NULL, NULL),
-	(7299, 937.5, 48.75, 0.9788, NULL, NULL),
-	(7300, 937.5, 49, 0.9786, NULL, NULL),
-	(7301, 937.5, 49.25, 0.9785, NULL, NULL),
-	(7302, 937.5, 49.5, 0.9783, NULL, NULL),
-	(7303, 937.5, 49.75, 0.9781, NULL, NULL),
-	(7304, 937.5, 50, 0.9779, NULL, NULL),
-	(7305, 938, 15, 1.0037, NULL, NULL),
-	(7306, 938, 15.25, 1.0035, NULL, NULL),
-	(7307, 938, 15.5, 1.0033, NULL, NULL),
-	(7308, 938, 15.75, 1.0031, NULL, NULL),
-	(7309, 938, 16, 1.0029, NULL, NULL),
-	(7310, 938, 16.25, 1.0027, NULL, NULL),
-	(7311, 938, 16.5, 1.0026, NULL, NULL),
-	(7312, 938, 16.75, 1.0024, NULL, NULL),
-	(7313, 938, 17, 1.0022, NULL, NULL),
-	(7314, 938, 17.25, 1.002, NULL, NULL),
-	(7315, 938, 17.5, 1.0018, NULL, NULL),
-	(7316, 938, 17.75, 1.0016, NULL, NULL),
-	(7317, 938, 18, 1.0015, NULL, NULL),
-	(7318, 938, 18.25, 1.0013, NULL, NULL),
-	(7319, 938, 18.5, 1.0011, NULL, NULL),
-	(7320, 938, 18.75, 1.0009, NULL, NULL),
-	(7321, 938, 19, 1.0007, NULL, NULL),
-	(7322, 938, 19.25, 1.0005, NULL, NULL),
-	(7323, 938, 19.5, 1.0004, NULL, NULL),
-	(7324, 938, 19.75, 1.0002, NULL, NULL),
-	(7325, 938, 20, 1, NULL, NULL),
-	(7326, 938, 20.25, 0.9998, NULL, NULL),
-	(7327, 938, 20.5, 0.9996, NULL, NULL),
-	(7328, 938, 20.75, 0.9995, NULL, NULL),
-	(7329, 938, 21, 0.9993, NULL, NULL),
-	(7330, 938, 21.25, 0.9991, NULL, NULL),
-	(7331, 938, 21.5, 0.9989, NULL, NULL),
-	(7332, 938, 21.75, 0.9987, NULL, NULL),
-	(7333, 938, 22, 0.9985, NULL, NULL),
-	(7334, 938, 22.25, 0.9984, NULL, NULL),
-	(7335, 938, 22.5, 0.9982, NULL, NULL),
-	(7336, 938, 22.75, 0.998, NULL, NULL),
-	(7337, 938, 23, 0.9978, NULL, NULL),
-	(7338, 938, 23.25, 0.9976, NULL, NULL),
-	(7339, 938, 23.5, 0.9974, NULL, NULL),
-	(7340, 938, 23.75, 0.9973, NULL, NULL),
-	(7341, 938, 24, 0.9971, NULL, NULL),
-	(7342, 938, 24.25, 0.9969, NULL, NULL),
-	(7343, 938, 24.5, 0.9967, NULL, NULL),
-	(7344, 938, 24.75, 0.9965, NULL, NULL),
-	(7345, 938, 25, 0.9963, NULL, NULL),
-	(7346, 938, 25.25, 0.9962, NULL, NULL),
-	(7347, 938, 25.5, 0.996, NULL, NULL),
-	(7348, 938, 25.75, 0.9958, NULL, NULL),
-	(7349, 938, 26, 0.9956, NULL, NULL),
-	(7350, 938, 26.25, 0.9954, NULL, NULL),
-	(7351, 938, 26.5, 0.9952, NULL, NULL),
-	(7352, 938, 26.75, 0.9951, NULL, NULL),
-	(7353, 938, 27, 0.9949, NULL, NULL),
-	(7354, 938, 27.25, 0.9947, NULL, NULL),
-	(7355, 938, 27.5, 0.9945, NULL, NULL),
-	(7356, 938, 27.75, 0.9943, NULL, NULL),
-	(7357, 938, 28, 0.9941, NULL, NULL),
-	(7358, 938, 28.25, 0.994, NULL, NULL),
-	(7359, 938, 28.5, 0.9938, NULL, NULL),
-	(7360, 938, 28.75, 0.9936, NULL, NULL),
-	(7361, 938, 29, 0.9934, NULL, NULL),
-	(7362, 938, 29.25, 0.9932, NULL, NULL),
-	(7363, 938, 29.5, 0.993, NULL, NULL),
-	(7364, 938, 29.75, 0.9929, NULL, NULL),
-	(7365, 938, 30, 0.9927, NULL, NULL),
-	(7366, 938, 30.25, 0.9925, NULL, NULL),
-	(7367, 938, 30.5, 0.9923, NULL, NULL),
-	(7368, 938, 30.75, 0.9921, NULL, NULL),
-	(7369, 938, 31, 0.9919, NULL, NULL),
-	(7370, 938, 31.25, 0.9917, NULL, NULL),
-	(7371, 938, 31.5, 0.9916, NULL, NULL),
-	(7372, 938, 31.75, 0.9914, NULL, NULL),
-	(7373, 938, 32, 0.9912, NULL, NULL),
-	(7374, 938, 32.25, 0.991, NULL, NULL),
-	(7375, 938, 32.5, 0.9908, NULL, NULL),
-	(7376, 938, 32.75, 0.9906, NULL, NULL),
-	(7377, 938, 33, 0.9905, NULL, NULL),
-	(7378, 938, 33.25, 0.9903, NULL, NULL),
-	(7379, 938, 33.5, 0.9901, NULL, NULL),
-	(7380, 938, 33.75, 0.9899, NULL, NULL),
-	(7381, 938, 34, 0.9897, NULL, NULL),
-	(7382, 938, 34.25, 0.9895, NULL, NULL),
-	(7383, 938, 34.5, 0.9894, NULL, NULL),
-	(7384, 938, 34.75, 0.9892, NULL, NULL),
-	(7385, 938, 35, 0.989, NULL, NULL),
-	(7386, 938, 35.25, 0.9888, NULL, NULL),
-	(7387, 938, 35.5, 0.9886, NULL, NULL),
-	(7388, 938, 35.75, 0.9884, NULL, NULL),
-	(7389, 938, 36, 0.9883, NULL, NULL),
-	(7390, 938, 36.25, 0.9881, NULL, NULL),
-	(7391, 938, 36.5, 0.9879, NULL, NULL),
-	(7392, 938, 36.75, 0.9877, NULL, NULL),
-	(7393, 938, 37, 0.9875, NULL, NULL),
-	(7394, 938, 37.25, 0.9873, NULL, NULL),
-	(7395, 938, 37.5, 0.9872, NULL, NULL),
-	(7396, 938, 37.75, 0.987, NULL, NULL),
-	(7397, 938, 38, 0.9868, NULL, NULL),
-	(7398, 938, 38.25, 0.9866, NULL, NULL),
-	(7399, 938, 38.5, 0.9864, NULL, NULL),
-	(7400, 938, 38.75, 0.9862, NULL, NULL),
-	(7401, 938, 39, 0.986, NULL, NULL),
-	(7402, 938, 39.25, 0.9859, NULL, NULL),
-	(7403, 938, 39.5, 0.9857, NULL, NULL),
-	(7404, 938, 39.75, 0.9855, NULL, NULL),
-	(7405, 938, 40, 0.9853, NULL, NULL),
-	(7406, 938, 40.25, 0.9851, NULL, NULL),
-	(7407, 938, 40.5, 0.9849, NULL, NULL),
-	(7408, 938, 40.75, 0.9848, NULL, NULL),
-	(7409, 938, 41, 0.9846, NULL, NULL),
-	(7410, 938, 41.25, 0.9844, NULL, NULL),
-	(7411, 938, 41.5, 0.9842, NULL, NULL),
-	(7412, 938, 41.75, 0.984, NULL, NULL),
-	(7413, 938, 42, 0.9838, NULL, NULL),
-	(7414, 938, 42.25, 0.9836, NULL, NULL),
-	(7415, 938, 42.5, 0.9835, NULL, NULL),
-	(7416, 938, 42.75, 0.9833, NULL, NULL),
-	(7417, 938, 43, 0.9831, NULL, NULL),
-	(7418, 938, 43.25, 0.9829, NULL, NULL),
-	(7419, 938, 43.5, 0.9827, NULL, NULL),
-	(7420, 938, 43.75, 0.9825, NULL, NULL),
-	(7421, 938, 44, 0.9824, NULL, NULL),
-	(7422, 938, 44.25, 0.9822, NULL, NULL),
-	(7423, 938, 44.5, 0.982, NULL, NULL),
-	(7424, 938, 44.75, 0.9818, NULL, NULL),
-	(7425, 938, 45, 0.9816, NULL, NULL),
-	(7426, 938, 45.25, 0.9814, NULL, NULL),
-	(7427, 938, 45.5, 0.9812, NULL, NULL),
-	(7428, 938, 45.75, 0.9811, NULL, NULL),
-	(7429, 938, 46, 0.9809, NULL, NULL),
-	(7430, 938, 46.25, 0.9807, NULL, NULL),
-	(7431, 938, 46.5, 0.9805, NULL, NULL),
-	(7432, 938, 46.75, 0.9803, NULL, NULL),
-	(7433, 938, 47, 0.9801, NULL, NULL),
-	(7434, 938, 47.25, 0.98, NULL, NULL),
-	(7435, 938, 47.5, 0.9798, NULL, NULL),
-	(7436, 938, 47.75, 0.9796, NULL, NULL),
-	(7437, 938, 48, 0.9794, NULL, NULL),
-	(7438, 938, 48.25, 0.9792, NULL, NULL),
-	(7439, 938, 48.5, 0.979, NULL, NULL),
-	(7440, 938, 48.75, 0.9788, NULL, NULL),
-	(7441, 938, 49, 0.9787, NULL, NULL),
-	(7442, 938, 49.25, 0.9785, NULL, NULL),
-	(7443, 938, 49.5, 0.9783, NULL, NULL),
-	(7444, 938, 49.75, 0.9781, NULL, NULL),
-	(7445, 938, 50, 0.9779, NULL, NULL),
-	(7446, 938.5, 15, 1.0037, NULL, NULL),
-	(7447, 938.5, 15.25, 1.0035, NULL, NULL),
-	(7448, 938.5, 15.5, 1.0033, NULL, NULL),
-	(7449, 938.5, 15.75, 1.0031, NULL, NULL),
-	(7450, 938.5, 16, 1.0029, NULL, NULL),
-	(7451, 938.5, 16.25, 1.0027, NULL, NULL),
-	(7452, 938.5, 16.5, 1.0026, NULL, NULL),
-	(7453, 938.5, 16.75, 1.0024, NULL, NULL),
-	(7454, 938.5, 17, 1.0022, NULL, NULL),
-	(7455, 938.5, 17.25, 1.002, NULL, NULL),
-	(7456, 938.5, 17.5, 1.0018, NULL, NULL),
-	(7457, 938.5, 17.75, 1.0016, NULL, NULL),
-	(7458, 938.5, 18, 1.0015, NULL, NULL),
-	(7459, 938.5, 18.25, 1.0013, NULL, NULL),
-	(7460, 938.5, 18.5, 1.0011, NULL, NULL),
-	(7461, 938.5, 18.75, 1.0009, NULL, NULL),
-	(7462, 938.5, 19, 1.0007, NULL, NULL),
-	(7463, 938.5, 19.25, 1.0005, NULL, NULL),
-	(7464, 938.5, 19.5, 1.0004, NULL, NULL),
-	(7465, 938.5, 19.75, 1.0002, NULL, NULL),
-	(7466, 938.5, 20, 1, NULL, NULL),
-	(7467, 938.5, 20.25, 0.9998, NULL, NULL),
-	(7468, 938.5, 20.5, 0.9996, NULL, NULL),
-	(7469, 938.5, 20.75, 0.9995, NULL, NULL),
-	(7470, 938.5, 21, 0.9993, NULL, NULL),
-	(7471, 938.5, 21.25, 0.9991, NULL, NULL),
-	(7472, 938.5, 21.5, 0.9989, NULL, NULL),
-	(7473, 938.5, 21.75, 0.9987, NULL, NULL),
-	(7474, 938.5, 22, 0.9985, NULL, NULL),
-	(7475, 938.5, 22.25, 0.9984, NULL, NULL),
-	(7476, 938.5, 22.5, 0.9982, NULL, NULL),
-	(7477, 938.5, 22.75, 0.998, NULL, NULL),
-	(7478, 938.5, 23, 0.9978, NULL, NULL),
-	(7479, 938.5, 23.25, 0.9976, NULL, NULL),
-	(7480, 938.5, 23.5, 0.9974, NULL, NULL),
-	(7481, 938.5, 23.75, 0.9973, NULL, NULL),
-	(7482, 938.5, 24, 0.9971, NULL, NULL),
-	(7483, 938.5, 24.25, 0.9969, NULL, NULL),
-	(7484, 938.5, 24.5, 0.9967, NULL, NULL),
-	(7485, 938.5, 24.75, 0.9965, NULL, NULL),
-	(7486, 938.5, 25, 0.9963, NULL, NULL),
-	(7487, 938.5, 25.25, 0.9962, NULL, NULL),
-	(7488, 938.5, 25.5, 0.996, NULL, NULL),
-	(7489, 938.5, 25.75, 0.9958, NULL, NULL),
-	(7490, 938.5, 26, 0.9956, NULL, NULL),
-	(7491, 938.5, 26.25, 0.9954, NULL, NULL),
-	(7492, 938.5, 26.5, 0.9952, NULL, NULL),
-	(7493, 938.5, 26.75, 0.9951, NULL, NULL),
-	(7494, 938.5, 27, 0.9949, NULL, NULL),
-	(7495, 938.5, 27.25, 0.9947, NULL, NULL),
-	(7496, 938.5, 27.5, 0.9945, NULL, NULL),
-	(7497, 938.5, 27.75, 0.9943, NULL, NULL),
-	(7498, 938.5, 28, 0.9941, NULL, NULL),
-	(7499, 938.5, 28.25, 0.994, NULL, NULL),
-	(7500, 938.5, 28.5, 0.9938, NULL, NULL),
-	(7501, 938.5, 28.75, 0.9936, NULL, NULL),
-	(7502, 938.5, 29, 0.9934, NULL, NULL),
-	(7503, 938.5, 29.25, 0.9932, NULL, NULL),
-	(7504, 938.5, 29.5, 0.993, NULL, NULL),
-	(7505, 938.5, 29.75, 0.9929, NULL, NULL),
-	(7506, 938.5, 30, 0.9927, NULL, NULL),
-	(7507, 938.5, 30.25, 0.9925, NULL, NULL),
-	(7508, 938.5, 30.5, 0.9923, NULL, NULL),
-	(7509, 938.5, 30.75, 0.9921, NULL, NULL),
-	(7510, 938.5, 31, 0.9919, NULL, NULL),
-	(7511, 938.5, 31.25, 0.9918, NULL, NULL),
-	(7512, 938.5, 31.5, 0.9916, NULL, NULL),
-	(7513, 938.5, 31.75, 0.9914, NULL, NULL),
-	(7514, 938.5, 32, 0.9912, NULL, NULL),
-	(7515, 938.5, 32.25, 0.991, NULL, NULL),
-	(7516, 938.5, 32.5, 0.9908, NULL, NULL),
-	(7517, 938.5, 32.75, 0.9907, NULL, NULL),
-	(7518, 938.5, 33, 0.9905, NULL, NULL),
-	(7519, 938.5, 33.25, 0.9903, NULL, NULL),
-	(7520, 938.5, 33.5, 0.9901, NULL, NULL),
-	(7521, 938.5, 33.75, 0.9899, NULL, NULL),
-	(7522, 938.5, 34, 0.9897, NULL, NULL),
-	(7523, 938.5, 34.25, 0.9896, NULL, NULL),
-	(7524, 938.5, 34.5, 0.9894, NULL, NULL),
-	(7525, 938.5, 34.75, 0.9892, NULL, NULL),
-	(7526, 938.5, 35, 0.989, NULL, NULL),
-	(7527, 938.5, 35.25, 0.9888, NULL, NULL),
-	(7528, 938.5, 35.5, 0.9886, NULL, NULL),
-	(7529, 938.5, 35.75, 0.9884, NULL, NULL),
-	(7530, 938.5, 36, 0.9883, NULL, NULL),
-	(7531, 938.5, 36.25, 0.9881, NULL, NULL),
-	(7532, 938.5, 36.5, 0.9879, NULL, NULL),
-	(7533, 938.5, 36.75, 0.9877, NULL, NULL),
-	(7534, 938.5, 37, 0.9875, NULL, NULL),
-	(7535, 938.5, 37.25, 0.9873, NULL, NULL),
-	(7536, 938.5, 37.5, 0.9872, NULL, NULL),
-	(7537, 938.5, 37.75, 0.987, NULL, NULL),
-	(7538, 938.5, 38, 0.9868, NULL, NULL),
-	(7539, 938.5, 38.25, 0.9866, NULL, NULL),
-	(7540, 938.5, 38.5, 0.9864, NULL, NULL),
-	(7541, 938.5, 38.75, 0.9862, NULL, NULL),
-	(7542, 938.5, 39, 0.9861, NULL, NULL),
-	(7543, 938.5, 39.25, 0.9859, NULL, NULL),
-	(7544, 938.5, 39.5, 0.9857, NULL, NULL),
-	(7545, 938.5, 39.75, 0.9855, NULL, NULL),
-	(7546, 938.5, 40, 0.9853, NULL, NULL),
-	(7547, 938.5, 40.25, 0.9851, NULL, NULL),
-	(7548, 938.5, 40.5, 0.9849, NULL, NULL),
-	(7549, 938.5, 40.75, 0.9848, NULL, NULL),
-	(7550, 938.5, 41, 0.9846, NULL, NULL),
-	(7551, 938.5, 41.25, 0.9844, NULL, NULL),
-	(7552, 938.5, 41.5, 0.9842, NULL, NULL),
-	(7553, 938.5, 41.75, 0.984, NULL, NULL),
-	(7554, 938.5, 42, 0.9838, NULL, NULL),
-	(7555, 938.5, 42.25, 0.9837, NULL, NULL),
-	(7556, 938.5, 42.5, 0.9835, NULL, NULL),
-	(7557, 938.5, 42.75, 0.9833, NULL, NULL),
-	(7558, 938.5, 43, 0.9831, NULL, NULL),
-	(7559, 938.5, 43.25, 0.9829, NULL, NULL),
-	(7560, 938.5, 43.5, 0.9827, NULL, NULL),
-	(7561, 938.5, 43.75, 0.9826, NULL, NULL),
-	(7562, 938.5, 44, 0.9824, NULL, NULL),
-	(7563, 938.5, 44.25, 0.9822, NULL, NULL),
-	(7564, 938.5, 44.5, 0.982, NULL, NULL),
-	(7565, 938.5, 44.75, 0.9818, NULL, NULL),
-	(7566, 938.5, 45, 0.9816, NULL, NULL),
-	(7567, 938.5, 45.25, 0.9814, NULL, NULL),
-	(7568, 938.5, 45.5, 0.9813, NULL, NULL),
-	(7569, 938.5, 45.75, 0.9811, NULL, NULL),
-	(7570, 938.5, 46, 0.9809, NULL, NULL),
-	(7571, 938.5, 46.25, 0.9807, NULL, NULL),
-	(7572, 938.5, 46.5, 0.9805, NULL, NULL),
-	(7573, 938.5, 46.75, 0.9803, NULL, NULL),
-	(7574, 938.5, 47, 0.9802, NULL, NULL),
-	(7575, 938.5, 47.25, 0.98, NULL, NULL),
-	(7576, 938.5, 47.5, 0.9798, NULL, NULL),
-	(7577, 938.5, 47.75, 0.9796, NULL, NULL),
-	(7578, 938.5, 48, 0.9794, NULL, NULL),
-	(7579, 938.5, 48.25, 0.9792, NULL, NULL),
-	(7580, 938.5, 48.5, 0.979, NULL, NULL),
-	(7581, 938.5, 48.75, 0.9789, NULL, NULL),
-	(7582, 938.5, 49, 0.9787, NULL, NULL),
-	(7583, 938.5, 49.25, 0.9785, NULL, NULL),
-	(7584, 938.5, 49.5, 0.9783, NULL, NULL),
-	(7585, 938.5, 49.75, 0.9781, NULL, NULL),
-	(7586, 938.5, 50, 0.9779, NULL, NULL),
-	(7587, 939, 15, 1.0036, NULL, NULL),
-	(7588, 939, 15.25, 1.0035, NULL, NULL),
-	(7589, 939, 15.5, 1.0033, NULL, NULL),
-	(7590, 939, 15.75, 1.0031, NULL, NULL),
-	(7591, 939, 16, 1.0029, NULL, NULL),
-	(7592, 939, 16.25, 1.0027, NULL, NULL),
-	(7593, 939, 16.5, 1.0026, NULL, NULL),
-	(7594, 939, 16.75, 1.0024, NULL, NULL),
-	(7595, 939, 17, 1.0022, NULL, NULL),
-	(7596, 939, 17.25, 1.002, NULL, NULL),
-	(7597, 939, 17.5, 1.0018, NULL, NULL),
-	(7598, 939, 17.75, 1.0016, NULL, NULL),
-	(7599, 939, 18, 1.0015, NULL, NULL),
-	(7600, 939, 18.25, 1.0013, NULL, NULL),
-	(7601, 939, 18.5, 1.0011, NULL, NULL),
-	(7602, 939, 18.75, 1.0009, NULL, NULL),
-	(7603, 939, 19, 1.0007, NULL, NULL),
-	(7604, 939, 19.25, 1.0005, NULL, NULL),
-	(7605, 939, 19.5, 1.0004, NULL, NULL),
-	(7606, 939, 19.75, 1.0002, NULL, NULL),
-	(7607, 939, 20, 1, NULL, NULL),
-	(7608, 939, 20.25, 0.9998, NULL, NULL),
-	(7609, 939, 20.5, 0.9996, NULL, NULL),
-	(7610, 939, 20.75, 0.9995, NULL, NULL),
-	(7611, 939, 21, 0.9993, NULL, NULL),
-	(7612, 939, 21.25, 0.9991, NULL, NULL),
-	(7613, 939, 21.5, 0.9989, NULL, NULL),
-	(7614, 939, 21.75, 0.9987, NULL, NULL),
-	(7615, 939, 22, 0.9985, NULL, NULL),
-	(7616, 939, 22.25, 0.9984, NULL, NULL),
-	(7617, 939, 22.5, 0.9982, NULL, NULL),
-	(7618, 939, 22.75, 0.998, NULL, NULL),
-	(7619, 939, 23, 0.9978, NULL, NULL),
-	(7620, 939, 23.25, 0.9976, NULL, NULL),
-	(7621, 939, 23.5, 0.9974, NULL, NULL),
-	(7622, 939, 23.75, 0.9973, NULL, NULL),
-	(7623, 939, 24, 0.9971, NULL, NULL),
-	(7624, 939, 24.25, 0.9969, NULL, NULL),
-	(7625, 939, 24.5, 0.9967, NULL, NULL),
-	(7626, 939, 24.75, 0.9965, NULL, NULL),
-	(7627, 939, 25, 0.9963, NULL, NULL),
-	(7628, 939, 25.25, 0.9962, NULL, NULL),
-	(7629, 939, 25.5, 0.996, NULL, NULL),
-	(7630, 939, 25.75, 0.9958, NULL, NULL),
-	(7631, 939, 26, 0.9956, NULL, NULL),
-	(7632, 939, 26.25, 0.9954, NULL, NULL),
-	(7633, 939, 26.5, 0.9952, NULL, NULL),
-	(7634, 939, 26.75, 0.9951, NULL, NULL),
-	(7635, 939, 27, 0.9949, NULL, NULL),
-	(7636, 939, 27.25, 0.9947, NULL, NULL),
-	(7637, 939, 27.5, 0.9945, NULL, NULL),
-	(7638, 939, 27.75, 0.9943, NULL, NULL),
-	(7639, 939, 28, 0.9941, NULL, NULL),
-	(7640, 939, 28.25, 0.994, NULL, NULL),
-	(7641, 939, 28.5, 0.9938, NULL, NULL),
-	(7642, 939, 28.75, 0.9936, NULL, NULL),
-	(7643, 939, 29, 0.9934, NULL, NULL),
-	(7644, 939, 29.25, 0.9932, NULL, NULL),
-	(7645, 939, 29.5, 0.993, NULL, NULL),
-	(7646, 939, 29.75, 0.9929, NULL, NULL),
-	(7647, 939, 30, 0.9927, NULL, NULL),
-	(7648, 939, 30.25, 0.9925, NULL, NULL),
-	(7649, 939, 30.5, 0.9923, NULL, NULL),
-	(7650, 939, 30.75, 0.9921, NULL, NULL),
-	(7651, 939, 31, 0.9919, NULL, NULL),
-	(7652, 939, 31.25, 0.9918, NULL, NULL),
-	(7653, 939, 31.5, 0.9916, NULL, NULL),
-	(7654, 939, 31.75, 0.9914, NULL, NULL),
-	(7655, 939, 32, 0.9912, NULL, NULL),
-	(7656, 939, 32.25, 0.991, NULL, NULL),
-	(7657, 939, 32.5, 0.9908, NULL, NULL),
-	(7658, 939, 32.75, 0.9907, NULL, NULL),
-	(7659, 939, 33, 0.9905, NULL, NULL),
-	(7660, 939, 33.25, 0.9903, NULL, NULL),
-	(7661, 939, 33.5, 0.9901, NULL, NULL),
-	(7662, 939, 33.75, 0.9899, NULL, NULL),
-	(7663, 939, 34, 0.9897, NULL, NULL),
-	(7664, 939, 34.25, 0.9896, NULL, NULL),
-	(7665, 939, 34.5, 0.9894, NULL, NULL),
-	(7666, 939, 34.75, 0.9892, NULL, NULL),
-	(7667, 939, 35, 0.989, NULL, NULL),
-	(7668, 939, 35.25, 0.9888, NULL, NULL),
-	(7669, 939, 35.5, 0.9886, NULL, NULL),
-	(7670, 939, 35.75, 0.9885, NULL, NULL),
-	(7671, 939, 36, 0.9883, NULL, NULL),
-	(7672, 939, 36.25, 0.9881, NULL, NULL),
-	(7673, 939, 36.5, 0.9879, NULL, NULL),
-	(7674, 939, 36.75, 0.9877, NULL, NULL),
-	(7675, 939, 37, 0.9875, NULL, NULL),
-	(7676, 939, 37.25, 0.9874, NULL, NULL),
-	(7677, 939, 37.5, 0.9872, NULL, NULL),
-	(7678, 939, 37.75, 0.987, NULL, NULL),
-	(7679, 939, 38, 0.9868, NULL, NULL),
-	(7680, 939, 38.25, 0.9866, NULL, NULL),
-	(7681, 939, 38.5, 0.9864, NULL, NULL),
-	(7682, 939, 38.75, 0.9862, NULL, NULL),
-	(7683, 939, 39, 0.9861, NULL, NULL),
-	(7684, 939, 39.25, 0.9859, NULL, NULL),
-	(7685, 939, 39.5, 0.9857, NULL, NULL),
-	(7686, 939, 39.75, 0.9855, NULL, NULL),
-	(7687, 939, 40, 19853, NULL, NULL),
-	(7688, 939, 40.25, 0.9851, NULL, NULL),
-	(7689, 939, 40.5, 0.985, NULL, NULL),
-	(7690, 939, 40.75, 0.9848, NULL, NULL),
-	(7691, 939, 41, 0.9846, NULL, NULL),
-	(7692, 939, 41.25, 0.9844, NULL, NULL),
-	(7693, 939, 41.5, 0.9842, NULL, NULL),
-	(7694, 939, 41.75, 0.984, NULL, NULL),
-	(7695, 939, 42, 0.9839, NULL, NULL),
-	(7696, 939, 42.25, 0.9837, NULL, NULL),
-	(7697, 939, 42.5, 0.9835, NULL, NULL),
-	(7698, 939, 42.75, 0.9833, NULL, NULL),
-	(7699, 939, 43, 0.9831, NULL, NULL),
-	(7700, 939, 43.25, 0.9829, NULL, NULL),
-	(7701, 939, 43.5, 0.9827, NULL, NULL),
-	(7702, 939, 43.75, 0.9826, NULL, NULL),
-	(7703, 939, 44, 0.9824, NULL, NULL),
-	(7704, 939, 44.25, 0.9822, NULL, NULL),
-	(7705, 939, 44.5, 0.982, NULL, NULL),
-	(7706, 939, 44.75, 0.9818, NULL, NULL),
-	(7707, 939, 45, 0.9816, NULL, NULL),
-	(7708, 939, 45.25, 0.9815, NULL, NULL),
-	(7709, 939, 45.5, 0.9813, NULL, NULL),
-	(7710, 939, 45.75, 0.9811, NULL, NULL),
-	(7711, 939, 46, 0.9809, NULL, NULL),
-	(7712, 939, 46.25, 0.9807, NULL, NULL),
-	(7713, 939, 46.5, 0.9805, NULL, NULL),
-	(7714, 939, 46.75, 0.9803, NULL, NULL),
-	(7715, 939, 47, 0.9802, NULL, NULL),
-	(7716, 939, 47.25, 0.98, NULL, NULL),
-	(7717, 939, 47.5, 0.9798, NULL, NULL),
-	(7718, 939, 47.75, 0.9796, NULL, NULL),
-	(7719, 939, 48, 0.9794, NULL, NULL),
-	(7720, 939, 48.25, 0.9792, NULL, NULL),
-	(7721, 939, 48.5, 0.9791, NULL, NULL),
-	(7722, 939, 48.75, 0.9789, NULL, NULL),
-	(7723, 939, 49, 0.9787, NULL, NULL),
-	(7724, 939, 49.25, 0.9785, NULL, NULL),
-	(7725, 939, 49.5, 0.9783, NULL, NULL),
-	(7726, 939, 49.75, 0.9781, NULL, NULL),
-	(7727, 939, 50, 0.9779, NULL, NULL),
-	(7728, 939.5, 15, 1.0036, NULL, NULL),
-	(7729, 939.5, 15.25, 1.0035, NULL, NULL),
-	(7730, 939.5, 15.5, 1.0033, NULL, NULL),
-	(7731, 939.5, 15.75, 1.0031, NULL, NULL),
-	(7732, 939.5, 16, 1.0029, NULL, NULL),
-	(7733, 939.5, 16.25, 1.0027, NULL, NULL),
-	(7734, 939.5, 16.5, 1.0026, NULL, NULL),
-	(7735, 939.5, 16.75, 1.0024, NULL, NULL),
-	(7736, 939.5, 17, 1.0022, NULL, NULL),
-	(7737, 939.5, 17.25, 1.002, NULL, NULL),
-	(7738, 939.5, 17.5, 1.0018, NULL, NULL),
-	(7739, 939.5, 17.75, 1.0016, NULL, NULL),
-	(7740, 939.5, 18, 1.0015, NULL, NULL),
-	(7741, 939.5, 18.25, 1.0013, NULL, NULL),
-	(7742, 939.5, 18.5, 1.0011, NULL, NULL),
-	(7743, 939.5, 18.75, 1.0009, NULL, NULL),
-	(7744, 939.5, 19, 1.0007, NULL, NULL),
-	(7745, 939.5, 19.25, 1.0005, NULL, NULL),
-	(7746, 939.5, 19.5, 1.0004, NULL, NULL),
-	(7747, 939.5, 19.75, 1.0002, NULL, NULL),
-	(7748, 939.5, 20, 1, NULL, NULL),
-	(7749, 939.5, 20.25, 0.9998, NULL, NULL),
-	(7750, 939.5, 20.5, 0.9996, NULL, NULL),
-	(7751, 939.5, 20.75, 0.9995, NULL, NULL),
-	(7752, 939.5, 21, 0.9993, NULL, NULL),
-	(7753, 939.5, 21.25, 0.9991, NULL, NULL),
-	(7754, 939.5, 21.5, 0.9989, NULL, NULL),
-	(7755, 939.5, 21.75, 0.9987, NULL, NULL),
-	(7756, 939.5, 22, 0.9985, NULL, NULL),
-	(7757, 939.5, 22.25, 0.9984, NULL, NULL),
-	(7758, 939.5, 22.5, 0.9982, NULL, NULL),
-	(7759, 939.5, 22.75, 0.998, NULL, NULL),
-	(7760, 939.5, 23, 0.9978, NULL, NULL),
-	(7761, 939.5, 23.25, 0.9976, NULL, NULL),
-	(7762, 939.5, 23.5, 0.9974, NULL, NULL),
-	(7763, 939.5, 23.75, 0.9973, NULL, NULL),
-	(7764, 939.5, 24, 0.9971, NULL, NULL),
-	(7765, 939.5, 24.25, 0.9969, NULL, NULL),
-	(7766, 939.5, 24.5, 0.9967, NULL, NULL),
-	(7767, 939.5, 24.75, 0.9965, NULL, NULL),
-	(7768, 939.5, 25, 0.9963, NULL, NULL),
-	(7769, 939.5, 25.25, 0.9962, NULL, NULL),
-	(7770, 939.5, 25.5, 0.996, NULL, NULL),
-	(7771, 939.5, 25.75, 0.9958, NULL, NULL),
-	(7772, 939.5, 26, 0.9956, NULL, NULL),
-	(7773, 939.5, 26.25, 0.9954, NULL, NULL),
-	(7774, 939.5, 26.5, 0.9952, NULL, NULL),
-	(7775, 939.5, 26.75, 0.9951, NULL, NULL),
-	(7776, 939.5, 27, 0.9949, NULL, NULL),
-	(7777, 939.5, 27.25, 0.9947, NULL, NULL),
-	(7778, 939.5, 27.5, 0.9945, NULL, NULL),
-	(7779, 939.5, 27.75, 0.9943, NULL, NULL),
-	(7780, 939.5, 28, 0.9941, NULL, NULL),
-	(7781, 939.5, 28.25, 0.994, NULL, NULL),
-	(7782, 939.5, 28.5, 0.9938, NULL, NULL),
-	(7783, 939.5, 28.75, 0.9936, NULL, NULL),
-	(7784, 939.5, 29, 0.9934, NULL, NULL),
-	(7785, 939.5, 29.25, 0.9932, NULL, NULL),
-	(7786, 939.5, 29.5, 0.9931, NULL, NULL),
-	(7787, 939.5, 29.75, 0.9929, NULL, NULL),
-	(7788, 939.5, 30, 0.9927, NULL, NULL),
-	(7789, 939.5, 30.25, 0.9925, NULL, NULL),
-	(7790, 939.5, 30.5, 0.9923, NULL, NULL),
-	(7791, 939.5, 30.75, 0.9921, NULL, NULL),
-	(7792, 939.5, 31, 0.992, NULL, NULL),
-	(7793, 939.5, 31.25, 0.9918, NULL, NULL),
-	(7794, 939.5, 31.5, 0.9916, NULL, NULL),
-	(7795, 939.5, 31.75, 0.9914, NULL, NULL),
-	(7796, 939.5, 32, 0.9912, NULL, NULL),
-	(7797, 939.5, 32.25, 0.991, NULL, NULL),
-	(7798, 939.5, 32.5, 0.9908, NULL, NULL),
-	(7799, 939.5, 32.75, 0.9907, NULL, NULL),
-	(7800, 939.5, 33, 0.9905, NULL, NULL),
-	(7801, 939.5, 33.25, 0.9903, NULL, NULL),
-	(7802, 939.5, 33.5, 0.9901, NULL, NULL),
-	(7803, 939.5, 33.75, 0.9899, NULL, NULL),
-	(7804, 939.5, 34, 0.9897, NULL, NULL),
-	(7805, 939.5, 34.25, 0.9896, NULL, NULL),
-	(7806, 939.5, 34.5, 0.9894, NULL, NULL),
-	(7807, 939.5, 34.75, 0.9892, NULL, NULL),
-	(7808, 939.5, 35, 0.989, NULL, NULL),
-	(7809, 939.5, 35.25, 0.9888, NULL, NULL),
-	(7810, 939.5, 35.5, 0.9886, NULL, NULL),
-	(7811, 939.5, 35.75, 0.9885, NULL, NULL),
-	(7812, 939.5, 36, 0.9883, NULL, NULL),
-	(7813, 939.5, 36.25, 0.9881, NULL, NULL),
-	(7814, 939.5, 36.5, 0.9879, NULL, NULL),
-	(7815, 939.5, 36.75, 0.9877, NULL, NULL),
-	(7816, 939.5, 37, 0.9875, NULL, NULL),
-	(7817, 939.5, 37.25, 0.9874, NULL, NULL),
-	(7818, 939.5, 37.5, 0.9872, NULL, NULL),
-	(7819, 939.5, 37.75, 0.987, NULL, NULL),
-	(7820, 939.5, 38, 0.9868, NULL, NULL),
-	(7821, 939.5, 38.25, 0.9866, NULL, NULL),
-	(7822, 939.5, 38.5, 0.9864, NULL, NULL),
-	(7823, 939.5, 38.75, 0.9863, NULL, NULL),
-	(7824, 939.5, 39, 0.9861, NULL, NULL),
-	(7825, 939.5, 39.25, 0.9859, NULL, NULL),
-	(7826, 939.5, 39.5, 0.9857, NULL, NULL),
-	(7827, 939.5, 39.75, 0.9855, NULL, NULL),
-	(7828, 939.5, 40, 0.9853, NULL, NULL),
-	(7829, 939.5, 40.25, 0.9852, NULL, NULL),
-	(7830, 939.5, 40.5, 0.985, NULL, NULL),
-	(7831, 939.5, 40.75, 0.9848, NULL, NULL),
-	(7832, 939.5, 41, 0.9846, NULL, NULL),
-	(7833, 939.5, 41.25, 0.9844, NULL, NULL),
-	(7834, 939.5, 41.5, 0.9842, NULL, NULL),
-	(7835, 939.5, 41.75, 0.984, NULL, NULL),
-	(7836, 939.5, 42, 0.9839, NULL, NULL),
-	(7837, 939.5, 42.25, 0.9837, NULL, NULL),
-	(7838, 939.5, 42.5, 0.9835, NULL, NULL),
-	(7839, 939.5, 42.75, 0.9833, NULL, NULL),
-	(7840, 939.5, 43, 0.9831, NULL, NULL),
-	(7841, 939.5, 43.25, 0.9829, NULL, NULL),
-	(7842, 939.5, 43.5, 0.9828, NULL, NULL),
-	(7843, 939.5, 43.75, 0.9826, NULL, NULL),
-	(7844, 939.5, 44, 0.9824, NULL, NULL),
-	(7845, 939.5, 44.25, 0.9822, NULL, NULL),
-	(7846, 939.5, 44.5, 0.982, NULL, NULL),
-	(7847, 939.5, 44.75, 0.9818, NULL, NULL),
-	(7848, 939.5, 45, 0.9817, NULL, NULL),
-	(7849, 939.5, 45.25, 0.9815, NULL, NULL),
-	(7850, 939.5, 45.5, 0.9813, NULL, NULL),
-	(7851, 939.5, 45.75, 0.9811, NULL, NULL),
-	(7852, 939.5, 46, 0.9809, NULL, NULL),
-	(7853, 939.5, 46.25, 0.9807, NULL, NULL),
-	(7854, 939.5, 46.5, 0.9805, NULL, NULL),
-	(7855, 939.5, 46.75, 0.9804, NULL, NULL),
-	(7856, 939.5, 47, 0.9802, NULL, NULL),
-	(7857, 939.5, 47.25, 0.98, NULL, NULL),
-	(7858, 939.5, 47.5, 0.9798, NULL, NULL),
-	(7859, 939.5, 47.75, 0.9796, NULL, NULL),
-	(7860, 939.5, 48, 0.9794, NULL, NULL),
-	(7861, 939.5, 48.25, 0.9793, NULL, NULL),
-	(7862, 939.5, 48.5, 0.9791, NULL, NULL),
-	(7863, 939.5, 48.75, 0.9789, NULL, NULL),
-	(7864, 939.5, 49, 0.9787, NULL, NULL),
-	(7865, 939.5, 49.25, 0.9785, NULL, NULL),
-	(7866, 939.5, 49.5, 0.9783, NULL, NULL),
-	(7867, 939.5, 49.75, 0.9781, NULL, NULL),
-	(7868, 939.5, 50, 0.978, NULL, NULL),
-	(7869, 940, 15, 1.0036, NULL, NULL),
-	(7870, 940, 15.25, 1.0035, NULL, NULL),
-	(7871, 940, 15.5, 1.0033, NULL, NULL),
-	(7872, 940, 15.75, 1.0031, NULL, NULL),
-	(7873, 940, 16, 1.0029, NULL, NULL),
-	(7874, 940, 16.25, 1.0027, NULL, NULL),
-	(7875, 940, 16.5, 1.0026, NULL, NULL),
-	(7876, 940, 16.75, 1.0024, NULL, NULL),
-	(7877, 940, 17, 1.0022, NULL, NULL),
-	(7878, 940, 17.25, 1.002, NULL, NULL),
-	(7879, 940, 17.5, 1.0018, NULL, NULL),
-	(7880, 940, 17.75, 1.0016, NULL, NULL),
-	(7881, 940, 18, 1.0015, NULL, NULL),
-	(7882, 940, 18.25, 1.0013, NULL, NULL),
-	(7883, 940, 18.5, 1.0011, NULL, NULL),
-	(7884, 940, 18.75, 1.0009, NULL, NULL),
-	(7885, 940, 19, 1.0007, NULL, NULL),
-	(7886, 940, 19.25, 1.0005, NULL, NULL),
-	(7887, 940, 19.5, 1.0004, NULL, NULL),
-	(7888, 940, 19.75, 1.0002, NULL, NULL),
-	(7889, 940, 20, 1, NULL, NULL),
-	(7890, 940, 20.25, 0.9998, NULL, NULL),
-	(7891, 940, 20.5, 0.9996, NULL, NULL),
-	(7892, 940, 20.75, 0.9995, NULL, NULL),
-	(7893, 940, 21, 0.9993, NULL, NULL),
-	(7894, 940, 21.25, 0.9991, NULL, NULL),
-	(7895, 940, 21.5, 0.9989, NULL, NULL),
-	(7896, 940, 21.75, 0.9987, NULL, NULL),
-	(7897, 940, 22, 0.9985, NULL, NULL),
-	(7898, 940, 22.25, 0.9984, NULL, NULL),
-	(7899, 940, 22.5, 0.9982, NULL, NULL),
-	(7900, 940, 22.75, 0.998, NULL, NULL),
-	(7901, 940, 23, 0.9978, NULL, NULL),
-	(7902, 940, 23.25, 0.9976, NULL, NULL),
-	(7903, 940, 23.5, 0.9974, NULL, NULL),
-	(7904, 940, 23.75, 0.9973, NULL, NULL),
-	(7905, 940, 24, 0.9971, NULL, NULL),
-	(7906, 940, 24.25, 0.9969, NULL, NULL),
-	(7907, 940, 24.5, 0.9967, NULL, NULL),
-	(7908, 940, 24.75, 0.9965, NULL, NULL),
-	(7909, 940, 25, 0.9963, NULL, NULL),
-	(7910, 940, 25.25, 0.9962, NULL, NULL),
-	(7911, 940, 25.5, 0.996, NULL, NULL),
-	(7912, 940, 25.75, 0.9958, NULL, NULL),
-	(7913, 940, 26, 0.9956, NULL, NULL),
-	(7914, 940, 26.25, 0.9954, NULL, NULL),
-	(7915, 940, 26.5, 0.9953, NULL, NULL),
-	(7916, 940, 26.75, 0.9951, NULL, NULL),
-	(7917, 940, 27, 0.9949, NULL, NULL),
-	(7918, 940, 27.25, 0.9947, NULL, NULL),
-	(7919, 940, 27.5, 0.9945, NULL, NULL),
-	(7920, 940, 27.75, 0.9943, NULL, NULL),
-	(7921, 940, 28, 0.9942, NULL, NULL),
-	(7922, 940, 28.25, 0.994, NULL, NULL),
-	(7923, 940, 28.5, 0.9938, NULL, NULL),
-	(7924, 940, 28.75, 0.9936, NULL, NULL),
-	(7925, 940, 29, 0.9934, NULL, NULL),
-	(7926, 940, 29.25, 0.9932, NULL, NULL),
-	(7927, 940, 29.5, 0.9931, NULL, NULL),
-	(7928, 940, 29.75, 0.9929, NULL, NULL),
-	(7929, 940, 30, 0.9927, NULL, NULL),
-	(7930, 940, 30.25, 0.9925, NULL, NULL),
-	(7931, 940, 30.5, 0.9923, NULL, NULL),
-	(7932, 940, 30.75, 0.9921, NULL, NULL),
-	(7933, 940, 31, 0.992, NULL, NULL),
-	(7934, 940, 31.25, 0.9918, NULL, NULL),
-	(7935, 940, 31.5, 0.9916, NULL, NULL),
-	(7936, 940, 31.75, 0.9914, NULL, NULL),
-	(7937, 940, 32, 0.9912, NULL, NULL),
-	(7938, 940, 32.25, 0.991, NULL, NULL),
-	(7939, 940, 32.5, 0.9909, NULL, NULL),
-	(7940, 940, 32.75, 0.9907, NULL, NULL),
-	(7941, 940, 33, 0.9905, NULL, NULL),
-	(7942, 940, 33.25, 0.9903, NULL, NULL),
-	(7943, 940, 33.5, 0.9901, NULL, NULL),
-	(7944, 940, 33.75, 0.9899, NULL, NULL),
-	(7945, 940, 34, 0.9898, NULL, NULL),
-	(7946, 940, 34.25, 0.9896, NULL, NULL),
-	(7947, 940, 34.5, 0.9894, NULL, NULL),
-	(7948, 940, 34.75, 0.9892, NULL, NULL),
-	(7949, 940, 35, 0.989, NULL, NULL),
-	(7950, 940, 35.25, 0.9888, NULL, NULL),
-	(7951, 940, 35.5, 0.9887, NULL, NULL),
-	(7952, 940, 35.75, 0.9885, NULL, NULL),
-	(7953, 940, 36, 0.9883, NULL, NULL),
-	(7954, 940, 36.25, 0.9881, NULL, NULL),
-	(7955, 940, 36.5, 0.9879, NULL, NULL),
-	(7956, 940, 36.75, 0.9877, NULL, NULL),
-	(7957, 940, 37, 0.9876, NULL, NULL),
-	(7958, 940, 37.25, 0.9874, NULL, NULL),
-	(7959, 940, 37.5, 0.9872, NULL, NULL),
-	(7960, 940, 37.75, 0.987, NULL, NULL),
-	(7961, 940, 38, 0.9868, NULL, NULL),
-	(7962, 940, 38.25, 0.9866, NULL, NULL),
-	(7963, 940, 38.5, 0.9865, NULL, NULL),
-	(7964, 940, 38.75, 0.9863, NULL, NULL),
-	(7965, 940, 39, 0.9861, NULL, NULL),
-	(7966, 940, 39.25, 0.9859, NULL, NULL),
-	(7967, 940, 39.5, 0.9857, NULL, NULL),
-	(7968, 940, 39.75, 0.9855, NULL, NULL),
-	(7969, 940, 40, 0.9853, NULL, NULL),
-	(7970, 940, 40.25, 0.9852, NULL, NULL),
-	(7971, 940, 40.5, 0.985, NULL, NULL),
-	(7972, 940, 40.75, 0.9848, NULL, NULL),
-	(7973, 940, 41.25, 0.9844, NULL, NULL),
-	(7974, 940, 41.5, 0.9842, NULL, NULL),
-	(7975, 940, 41.75, 0.9841, NULL, NULL),
-	(7976, 940, 42, 0.9839, NULL, NULL),
-	(7977, 940, 42.25, 0.9837, NULL, NULL),
-	(7978, 940, 42.5, 0.9835, NULL, NULL),
-	(7979, 940, 42.75, 0.9833, NULL, NULL),
-	(7980, 940, 43, 0.9831, NULL, NULL),
-	(7981, 940, 43.25, 0.983, NULL, NULL),
-	(7982, 940, 43.5, 0.9828, NULL, NULL),
-	(7983, 940, 43.75, 0.9826, NULL, NULL),
-	(7984, 940, 44, 0.9824, NULL, NULL),
-	(7985, 940, 44.25, 0.9822, NULL, NULL),
-	(7986, 940, 44.5, 0.982, NULL, NULL),
-	(7987, 940, 44.75, 0.9819, NULL, NULL),
-	(7988, 940, 45, 0.9817, NULL, NULL),
-	(7989, 940, 45.25, 0.9815, NULL, NULL),
-	(7990, 940, 45.5, 0.9813, NULL, NULL),
-	(7991, 940, 45.75, 0.9811, NULL, NULL),
-	(7992, 940, 46, 0.9809, NULL, NULL),
-	(7993, 940, 46.25, 0.9807, NULL, NULL),
-	(7994, 940, 46.5, 0.9806, NULL, NULL),
-	(7995, 940, 46.75, 0.9804, NULL, NULL),
-	(7996, 940, 47, 0.9802, NULL, NULL),
-	(7997, 940, 47.25, 0.98, NULL, NULL),
-	(7998, 940, 47.5, 0.9798, NULL, NULL),
-	(7999, 940, 47.75, 0.9796, NULL, NULL),
-	(8000, 940, 48, 0.9795, NULL, NULL),
-	(8001, 940, 48.25, 0.9793, NULL, NULL),
-	(8002, 940, 48.5, 0.9791, NULL, NULL),
-	(8003, 940, 48.75, 0.9789, NULL, NULL),
-	(8004, 940, 49, 0.9787, NULL, NULL),
-	(8005, 940, 49.25, 0.9785, NULL, NULL),
-	(8006, 940, 49.5, 0.9783, NULL, NULL),
-	(8007, 940, 49.75, 0.9782, NULL, NULL),
-	(8008, 940, 50, 0.978, NULL, NULL),
-	(8009, 940.5, 15, 1.0036, NULL, NULL),
-	(8010, 940.5, 15.25, 1.0035, NULL, NULL),
-	(8011, 940.5, 15.5, 1.0033, NULL, NULL),
-	(8012, 940.5, 15.75, 1.0031, NULL, NULL),
-	(8013, 940.5, 16, 1.0029, NULL, NULL),
-	(8014, 940.5, 16.25, 1.0027, NULL, NULL),
-	(8015, 940.5, 16.5, 1.0026, NULL, NULL),
-	(8016, 940.5, 16.75, 1.0024, NULL, NULL),
-	(8017, 940.5, 17, 1.0022, NULL, NULL),
-	(8018, 940.5, 17.25, 1.002, NULL, NULL),
-	(8019, 940.5, 17.5, 1.0018, NULL, NULL),
-	(8020, 940.5, 17.75, 1.0016, NULL, NULL),
-	(8021, 940.5, 18, 1.0015, NULL, NULL),
-	(8022, 940.5, 18.25, 1.0013, NULL, NULL),
-	(8023, 940.5, 18.5, 1.0011, NULL, NULL),
-	(8024, 940.5, 18.75, 1.0009, NULL, NULL),
-	(8025, 940.5, 19, 1.0007, NULL, NULL),
-	(8026, 940.5, 19.25, 1.0005, NULL, NULL),
-	(8027, 940.5, 19.5, 1.0004, NULL, NULL),
-	(8028, 940.5, 19.75, 1.0002, NULL, NULL),
-	(8029, 940.5, 20, 1, NULL, NULL),
-	(8030, 940.5, 20.25, 0.9998, NULL, NULL),
-	(8031, 940.5, 20.5, 0.9996, NULL, NULL),
-	(8032, 940.5, 20.75, 0.9995, NULL, NULL),
-	(8033, 940.5, 21, 0.9993, NULL, NULL),
-	(8034, 940.5, 21.25, 0.9991, NULL, NULL),
-	(8035, 940.5, 21.5, 0.9989, NULL, NULL),
-	(8036, 940.5, 21.75, 0.9987, NULL, NULL),
-	(8037, 940.5, 22, 0.9985, NULL, NULL),
-	(8038, 940.5, 22.25, 0.9984, NULL, NULL),
-	(8039, 940.5, 22.5, 0.9982, NULL, NULL),
-	(8040, 940.5, 22.75, 0.998, NULL, NULL),
-	(8041, 940.5, 23, 0.9978, NULL, NULL),
-	(8042, 940.5, 23.25, 0.9976, NULL, NULL),
-	(8043, 940.5, 23.5, 0.9974, NULL, NULL),
-	(8044, 940.5, 23.75, 0.9973, NULL, NULL),
-	(8045, 940.5, 24, 0.9971, NULL, NULL),
-	(8046, 940.5, 24.25, 0.9969, NULL, NULL),
-	(8047, 940.5, 24.5, 0.9967, NULL, NULL),
-	(8048, 940.5, 24.75, 0.9965, NULL, NULL),
-	(8049, 940.5, 25, 0.9964, NULL, NULL),
-	(8050, 940.5, 25.25, 0.9962, NULL, NULL),
-	(8051, 940.5, 25.5, 0.996, NULL, NULL),
-	(8052, 940.5, 25.75, 0.9958, NULL, NULL),
-	(8053, 940.5, 26, 0.9956, NULL, NULL),
-	(8054, 940.5, 26.25, 0.9954, NULL, NULL),
-	(8055, 940.5, 26.5, 0.9953, NULL, NULL),
-	(8056, 940.5, 26.75, 0.9951, NULL, NULL),
-	(8057, 940.5, 27, 0.9949, NULL, NULL),
-	(8058, 940.5, 27.25, 0.9947, NULL, NULL),
-	(8059, 940.5, 27.5, 0.9945, NULL, NULL),
-	(8060, 940.5, 27.75, 0.9943, NULL, NULL),
-	(8061, 940.5, 28, 0.9942, NULL, NULL),
-	(8062, 940.5, 28.25, 0.994, NULL, NULL),
-	(8063, 940.5, 28.5, 0.9938, NULL, NULL),
-	(8064, 940.5, 28.75, 0.9936, NULL, NULL),
-	(8065, 940.5, 29, 0.9934, NULL, NULL),
-	(8066, 940.5, 29.25, 0.9932, NULL, NULL),
-	(8067, 940.5, 29.5, 0.9931, NULL, NULL),
-	(8068, 940.5, 29.75, 0.9929, NULL, NULL),
-	(8069, 940.5, 30, 0.9927, NULL, NULL),
-	(8070, 940.5, 30.25, 0.9925, NULL, NULL),
-	(8071, 940.5, 30.5, 0.9923, NULL, NULL),
-	(8072, 940.5, 30.75, 0.9921, NULL, NULL),
-	(8073, 940.5, 31, 0.992, NULL, NULL),
-	(8074, 940.5, 31.25, 0.9918, NULL, NULL),
-	(8075, 940.5, 31.5, 0.9916, NULL, NULL),
-	(8076, 940.5, 31.75, 0.9914, NULL, NULL),
-	(8077, 940.5, 32, 0.9912, NULL, NULL),
-	(8078, 940.5, 32.25, 0.991, NULL, NULL),
-	(8079, 940.5, 32.5, 0.9909, NULL, NULL),
-	(8080, 940.5, 32.75, 0.9907, NULL, NULL),
-	(8081, 940.5, 33, 0.9905, NULL, NULL),
-	(8082, 940.5, 33.25, 0.9903, NULL, NULL),
-	(8083, 940.5, 33.5, 0.9901, NULL, NULL),
-	(8084, 940.5, 33.75, 0.9899, NULL, NULL),
-	(8085, 940.5, 34, 0.9898, NULL, NULL),
-	(8086, 940.5, 34.25, 0.9896, NULL, NULL),
-	(8087, 940.5, 34.5, 0.9894, NULL, NULL),
-	(8088, 940.5, 34.75, 0.9892, NULL, NULL),
-	(8089, 940.5, 35, 0.989, NULL, NULL),
-	(8090, 940.5, 35.25, 0.9888, NULL, NULL),
-	(8091, 940.5, 35.5, 0.9887, NULL, NULL),
-	(8092, 940.5, 35.75, 0.9885, NULL, NULL),
-	(8093, 940.5, 36, 0.9883, NULL, NULL),
-	(8094, 940.5, 36.25, 0.9881, NULL, NULL),
-	(8095, 940.5, 36.5, 0.9879, NULL, NULL),
-	(8096, 940.5, 36.75, 0.9877, NULL, NULL),
-	(8097, 940.5, 37, 0.9876, NULL, NULL),
-	(8098, 940.5, 37.25, 0.9874, NULL, NULL),
-	(8099, 940.5, 37.5, 0.9872, NULL, NULL),
-	(8100, 940.5, 37.75, 0.987, NULL, NULL),
-	(8101, 940.5, 38, 0.9868, NULL, NULL),
-	(8102, 940.5, 38.25, 0.9866, NULL, NULL),
-	(8103, 940.5, 38.5, 0.9865, NULL, NULL),
-	(8104, 940.5, 38.75, 0.9863, NULL, NULL),
-	(8105, 940.5, 39, 0.9861, NULL, NULL),
-	(8106, 940.5, 39.25, 0.9859, NULL, NULL),
-	(8107, 940.5, 39.5, 0.9857, NULL, NULL),
-	(8108, 940.5, 39.75, 0.9855, NULL, NULL),
-	(8109, 940.5, 40, 0.9854, NULL, NULL),
-	(8110, 940.5, 40.25, 0.9852, NULL, NULL),
-	(8111, 940.5, 40.5, 0.985, NULL, NULL),
-	(8112, 940.5, 40.75, 0.9848, NULL, NULL),
-	(8113, 940.5, 41, 0.9846, NULL, NULL),
-	(8114, 940.5, 41.25, 0.9844, NULL, NULL),
-	(8115, 940.5, 41.5, 0.9843, NULL, NULL),
-	(8116, 940.5, 41.75, 0.9841, NULL, NULL),
-	(8117, 940.5, 42, 0.9839, NULL, NULL),
-	(8118, 940.5, 42.25, 0.9837, NULL, NULL),
-	(8119, 940.5, 42.5, 0.9835, NULL, NULL),
-	(8120, 940.5, 42.75, 0.9833, NULL, NULL),
-	(8121, 940.5, 43, 0.9831, NULL, NULL),
-	(8122, 940.5, 43.25, 0.983, NULL, NULL),
-	(8123, 940.5, 43.5, 0.9828, NULL, NULL),
-	(8124, 940.5, 43.75, 0.9826, NULL, NULL),
-	(8125, 940.5, 44, 0.9824, NULL, NULL),
-	(8126, 940.5, 44.25, 0.9822, NULL, NULL),
-	(8127, 940.5, 44.5, 0.982, NULL, NULL),
-	(8128, 940.5, 44.75, 0.9819, NULL, NULL),
-	(8129, 940.5, 45, 0.9817, NULL, NULL),
-	(8130, 940.5, 45.25, 0.9815, NULL, NULL),
-	(8131, 940.5, 45.5, 0.9813, NULL, NULL),
-	(8132, 940.5, 45.75, 0.9811, NULL, NULL),
-	(8133, 940.5, 46, 0.9809, NULL, NULL),
-	(8134, 940.5, 46.25, 0.9808, NULL, NULL),
-	(8135, 940.5, 46.5, 0.9806, NULL, NULL),
-	(8136, 940.5, 46.75, 0.9804, NULL, NULL),
-	(8137, 940.5, 47, 0.9802, NULL, NULL),
-	(8138, 940.5, 47.25, 0.98, NULL, NULL),
-	(8139, 940.5, 47.5, 0.9798, NULL, NULL),
-	(8140, 940.5, 47.75, 0.9797, NULL, NULL),
-	(8141, 940.5, 48, 0.9795, NULL, NULL),
-	(8142, 940.5, 48.25, 0.9793, NULL, NULL),
-	(8143, 940.5, 48.5, 0.9791, NULL, NULL),
-	(8144, 940.5, 48.75, 0.9789, NULL, NULL),
-	(8145, 940.5, 49, 0.9787, NULL, NULL),
-	(8146, 940.5, 49.25, 0.9785, NULL, NULL),
-	(8147, 940.5, 49.5, 0.9784, NULL, NULL),
-	(8148, 940.5, 49.75, 0.9782, NULL, NULL),
-	(8149, 940.5, 50, 0.978, NULL, NULL),
-	(8150, 941, 15, 1.0036, NULL, NULL),
-	(8151, 941, 15.25, 1.0035, NULL, NULL),
-	(8152, 941, 15.5, 1.0033, NULL, NULL),
-	(8153, 941, 15.75, 1.0031, NULL, NULL),
-	(8154, 941, 16, 1.0029, NULL, NULL),
-	(8155, 941, 16.25, 1.0027, NULL, NULL),
-	(8156, 941, 16.5, 1.0025, NULL, NULL),
-	(8157, 941, 16.75, 1.0024, NULL, NULL),
-	(8158, 941, 17, 1.0022, NULL, NULL),
-	(8159, 941, 17.25, 1.002, NULL, NULL),
-	(8160, 941, 17.5, 1.0018, NULL, NULL),
-	(8161, 941, 17.75, 1.0016, NULL, NULL),
-	(8162, 941, 18, 1.0015, NULL, NULL),
-	(8163, 941, 18.25, 1.0013, NULL, NULL),
-	(8164, 941, 18.5, 1.0011, NULL, NULL),
-	(8165, 941, 18.75, 1.0009, NULL, NULL),
-	(8166, 941, 19, 1.0007, NULL, NULL),
-	(8167, 941, 19.25, 1.0005, NULL, NULL),
-	(8168, 941, 19.5, 1.0004, NULL, NULL),
-	(8169, 941, 19.75, 1.0002, NULL, NULL),
-	(8170, 941, 20, 1, NULL, NULL),
-	(8171, 941, 20.25, 0.9998, NULL, NULL),
-	(8172, 941, 20.5, 0.9996, NULL, NULL),
-	(8173, 941, 20.75, 0.9995, NULL, NULL),
-	(8174, 941, 21, 0.9993, NULL, NULL),
-	(8175, 941, 21.25, 0.9991, NULL, NULL),
-	(8176, 941, 21.5, 0.9989, NULL, NULL),
-	(8177, 941, 21.75, 0.9987, NULL, NULL),
-	(8178, 941, 22, 0.9985, NULL, NULL),
-	(8179, 941, 22.25, 0.9984, NULL, NULL),
-	(8180, 941, 22.5, 0.9982, NULL, NULL),
-	(8181, 941, 22.75, 0.998, NULL, NULL),
-	(8182, 941, 23, 0.9978, NULL, NULL),
-	(8183, 941, 23.25, 0.9976, NULL, NULL),
-	(8184, 941, 23.5, 0.9974, NULL, NULL),
-	(8185, 941, 23.75, 0.9973, NULL, NULL),
-	(8186, 941, 24, 0.9971, NULL, NULL),
-	(8187, 941, 24.25, 0.9969, NULL, NULL),
-	(8188, 941, 24.5, 0.9967, NULL, NULL),
-	(8189, 941, 24.75, 0.9965, NULL, NULL),
-	(8190, 941, 25, 0.9964, NULL, NULL),
-	(8191, 941, 25.25, 0.9962, NULL, NULL),
-	(8192, 941, 25.5, 0.996, NULL, NULL),
-	(8193, 941, 25.75, 0.9958, NULL, NULL),
-	(8194, 941, 26, 0.9956, NULL, NULL),
-	(8195, 941, 26.25, 0.9954, NULL, NULL),
-	(8196, 941, 26.5, 0.9953, NULL, NULL),
-	(8197, 941, 26.75, 0.9951, NULL, NULL),
-	(8198, 941, 27, 0.9949, NULL, NULL),
-	(8199, 941, 27.25, 0.9947, NULL, NULL),
-	(8200, 941, 27.5, 0.9945, NULL, NULL),
-	(8201, 941, 27.75, 0.9943, NULL, NULL),
-	(8202, 941, 28, 0.9942, NULL, NULL),
-	(8203, 941, 28.25, 0.994, NULL, NULL),
-	(8204, 941, 28.5, 0.9938, NULL, NULL),
-	(8205, 941, 28.75, 0.9936, NULL, NULL),
-	(8206, 941, 29, 0.9934, NULL, NULL),
-	(8207, 941, 29.25, 0.9932, NULL, NULL),
-	(8208, 941, 29.5, 0.9931, NULL, NULL),
-	(8209, 941, 29.75, 0.9929, NULL, NULL),
-	(8210, 941, 30, 0.9927, NULL, NULL),
-	(8211, 941, 30.25, 0.9925, NULL, NULL),
-	(8212, 941, 30.5, 0.9923, NULL, NULL),
-	(8213, 941, 30.75, 0.9921, NULL, NULL),
-	(8214, 941, 31, 0.992, NULL, NULL),
-	(8215, 941, 31.25, 0.9918, NULL, NULL),
-	(8216, 941, 31.5, 0.9916, NULL, NULL),
-	(8217, 941, 31.75, 0.9914, NULL, NULL),
-	(8218, 941, 32, 0.9912, NULL, NULL),
-	(8219, 941, 32.25, 0.9911, NULL, NULL),
-	(8220, 941, 32.5, 0.9909, NULL, NULL),
-	(8221, 941, 32.75, 0.9907, NULL, NULL),
-	(8222, 941, 33, 0.9905, NULL, NULL),
-	(8223, 941, 33.25, 0.9903, NULL, NULL),
-	(8224, 941, 33.5, 0.9901, NULL, NULL),
-	(8225, 941, 33.75, 0.99, NULL, NULL),
-	(8226, 941, 34, 0.9898, NULL, NULL),
-	(8227, 941, 34.25, 0.9896, NULL, NULL),
-	(8228, 941, 34.5, 0.9894, NULL, NULL),
-	(8229, 941, 34.75, 0.9892, NULL, NULL),
-	(8230, 941, 35, 0.989, NULL, NULL),
-	(8231, 941, 35.25, 0.9889, NULL, NULL),
-	(8232, 941, 35.5, 0.9887, NULL, NULL),
-	(8233, 941, 35.75, 0.9485, NULL, NULL),
-	(8234, 941, 36, 0.9883, NULL, NULL),
-	(8235, 941, 36.25, 0.9881, NULL, NULL),
-	(8236, 941, 36.5, 0.9879, NULL, NULL),
-	(8237, 941, 36.75, 0.9878, NULL, NULL),
-	(8238, 941, 37, 0.9876, NULL, NULL),
-	(8239, 941, 37.25, 0.9874, NULL, NULL),
-	(8240, 941, 37.5, 0.9872, NULL, NULL),
-	(8241, 941, 37.75, 0.987, NULL, NULL),
-	(8242, 941, 38, 0.9868, NULL, NULL),
-	(8243, 941, 38.25, 0.9867, NULL, NULL),
-	(8244, 941, 38.5, 0.9865, NULL, NULL),
-	(8245, 941, 38.75, 0.9863, NULL, NULL),
-	(8246, 941, 39, 0.9861, NULL, NULL),
-	(8247, 941, 39.25, 0.9859, NULL, NULL),
-	(8248, 941, 39.5, 0.9857, NULL, NULL),
-	(8249, 941, 39.75, 0.9855, NULL, NULL),
-	(8250, 941, 40, 0.9854, NULL, NULL),
-	(8251, 941, 40.25, 0.9852, NULL, NULL),
-	(8252, 941, 40.5, 0.985, NULL, NULL),
-	(8253, 941, 40.75, 0.9848, NULL, NULL),
-	(8254, 941, 41, 0.9846, NULL, NULL),
-	(8255, 941, 41.25, 0.9844, NULL, NULL),
-	(8256, 941, 41.5, 0.9843, NULL, NULL),
-	(8257, 941, 41.75, 0.9841, NULL, NULL),
-	(8258, 941, 42, 0.9839, NULL, NULL),
-	(8259, 941, 42.25, 0.9837, NULL, NULL),
-	(8260, 941, 42.5, 0.9835, NULL, NULL),
-	(8261, 941, 42.75, 0.9833, NULL, NULL),
-	(8262, 941, 43, 0.9832, NULL, NULL),
-	(8263, 941, 43.25, 0.983, NULL, NULL),
-	(8264, 941, 43.5, 0.9828, NULL, NULL),
-	(8265, 941, 43.75, 0.9826, NULL, NULL),
-	(8266, 941, 44, 0.9824, NULL, NULL),
-	(8267, 941, 44.25, 0.9822, NULL, NULL),
-	(8268, 941, 44.5, 0.9821, NULL, NULL),
-	(8269, 941, 44.75, 0.9819, NULL, NULL),
-	(8270, 941, 45, 0.9817, NULL, NULL),
-	(8271, 941, 45.25, 0.9815, NULL, NULL),
-	(8272, 941, 45.5, 0.9813, NULL, NULL),
-	(8273, 941, 45.75, 0.9811, NULL, NULL),
-	(8274, 941, 46, 0.981, NULL, NULL),
-	(8275, 941, 46.25, 0.9808, NULL, NULL),
-	(8276, 941, 46.5, 0.9806, NULL, NULL),
-	(8277, 941, 46.75, 0.9804, NULL, NULL),
-	(8278, 941, 47, 0.9802, NULL, NULL),
-	(8279, 941, 47.25, 0.98, NULL, NULL),
-	(8280, 941, 47.5, 0.9798, NULL, NULL),
-	(8281, 941, 47.75, 0.9797, NULL, NULL),
-	(8282, 941, 48, 0.9795, NULL, NULL),
-	(8283, 941, 48.25, 0.9793, NULL, NULL),
-	(8284, 941, 48.5, 0.9791, NULL, NULL),
-	(8285, 941, 48.75, 0.9789, NULL, NULL),
-	(8286, 941, 49, 0.9787, NULL, NULL),
-	(8287, 941, 49.25, 0.9786, NULL, NULL),
-	(8288, 941, 49.5, 0.9784, NULL, NULL),
-	(8289, 941, 49.75, 0.9782, NULL, NULL),
-	(8290, 941, 50, 0.978, NULL, NULL),
-	(8291, 941.5, 15, 1.0036, NULL, NULL),
-	(8292, 941.5, 15.25, 1.0035, NULL, NULL),
-	(8293, 941.5, 15.5, 1.0033, NULL, NULL),
-	(8294, 941.5, 15.75, 1.0031, NULL, NULL),
-	(8295, 941.5, 16, 1.0029, NULL, NULL),
-	(8296, 941.5, 16.25, 1.0027, NULL, NULL),
-	(8297, 941.5, 16.5, 1.0025, NULL, NULL),
-	(8298, 941.5, 16.75, 1.0024, NULL, NULL),
-	(8299, 941.5, 17, 1.0022, NULL, NULL),
-	(8300, 941.5, 17.25, 1.002, NULL, NULL),
-	(8301, 941.5, 17.5, 1.0018, NULL, NULL),
-	(8302, 941.5, 17.75, 1.0016, NULL, NULL),
-	(8303, 941.5, 18, 1.0015, NULL, NULL),
-	(8304, 941.5, 18.25, 1.0013, NULL, NULL),
-	(8305, 941.5, 18.5, 1.0011, NULL, NULL),
-	(8306, 941.5, 18.75, 1.0009, NULL, NULL),
-	(8307, 941.5, 19, 1.0007, NULL, NULL),
-	(8308, 941.5, 19.25, 1.0005, NULL, NULL),
-	(8309, 941.5, 19.5, 1.0004, NULL, NULL),
-	(8310, 941.5, 19.75, 1.0002, NULL, NULL),
-	(8311, 941.5, 20, 1, NULL, NULL),
-	(8312, 941.5, 20.25, 0.9998, NULL, NULL),
-	(8313, 941.5, 20.5, 0.9996, NULL, NULL),
-	(8314, 941.5, 20.75, 0.9995, NULL, NULL),
-	(8315, 941.5, 21, 0.9993, NULL, NULL),
-	(8316, 941.5, 21.25, 0.9991, NULL, NULL),
-	(8317, 941.5, 21.5, 0.9989, NULL, NULL),
-	(8318, 941.5, 21.75, 0.9987, NULL, NULL),
-	(8319, 941.5, 22, 0.9985, NULL, NULL),
-	(8320, 941.5, 22.25, 0.9984, NULL, NULL),
-	(8321, 941.5, 22.5, 0.9982, NULL, NULL),
-	(8322, 941.5, 22.75, 0.998, NULL, NULL),
-	(8323, 941.5, 23, 0.9978, NULL, NULL),
-	(8324, 941.5, 23.25, 0.9976, NULL, NULL),
-	(8325, 941.5, 23.5, 0.9974, NULL, NULL),
-	(8326, 941.5, 23.75, 0.9973, NULL, NULL),
-	(8327, 941.5, 24, 0.9971, NULL, NULL),
-	(8328, 941.5, 24.25, 0.9969, NULL, NULL),
-	(8329, 941.5, 24.5, 0.9967, NULL, NULL),
-	(8330, 941.5, 24.75, 0.9965, NULL, NULL),
-	(8331, 941.5, 25, 0.9964, NULL, NULL),
-	(8332, 941.5, 25.25, 0.9962, NULL, NULL),
-	(8333, 941.5, 25.5, 0.996, NULL, NULL),
-	(8334, 941.5, 25.75, 0.9958, NULL, NULL),
-	(8335, 941.5, 26, 0.9956, NULL, NULL),
-	(8336, 941.5, 26.25, 0.9954, NULL, NULL),
-	(8337, 941.5, 26.5, 0.9953, NULL, NULL),
-	(8338, 941.5, 26.75, 0.9951, NULL, NULL),
-	(8339, 941.5, 27, 0.9949, NULL, NULL),
-	(8340, 941.5, 27.25, 0.9947, NULL, NULL),
-	(8341, 941.5, 27.5, 0.9945, NULL, NULL),
-	(8342, 941.5, 27.75, 0.9943, NULL, NULL),
-	(8343, 941.5, 28, 0.9942, NULL, NULL),
-	(8344, 941.5, 28.25, 0.994, NULL, NULL),
-	(8345, 941.5, 28.5, 0.9938, NULL, NULL),
-	(8346, 941.5, 28.75, 0.9936, NULL, NULL),
-	(8347, 941.5, 29, 0.9934, NULL, NULL),
-	(8348, 941.5, 29.25, 0.9933, NULL, NULL),
-	(8349, 941.5, 29.5, 0.9931, NULL, NULL),
-	(8350, 941.5, 29.75, 0.9929, NULL, NULL),
-	(8351, 941.5, 30, 0.9927, NULL, NULL),
-	(8352, 941.5, 30.25, 0.9925, NULL, NULL),
-	(8353, 941.5, 30.5, 0.9923, NULL, NULL),
-	(8354, 941.5, 30.75, 0.9922, NULL, NULL),
-	(8355, 941.5, 31, 0.992, NULL, NULL),
-	(8356, 941.5, 31.25, 0.9918, NULL, NULL),
-	(8357, 941.5, 31.5, 0.9916, NULL, NULL),
-	(8358, 941.5, 31.75, 0.9914, NULL, NULL),
-	(8359, 941.5, 32, 0.9912, NULL, NULL),
-	(8360, 941.5, 32.25, 0.9911, NULL, NULL),
-	(8361, 941.5, 32.5, 0.9909, NULL, NULL),
-	(8362, 941.5, 32.75, 0.9907, NULL, NULL),
-	(8363, 941.5, 33, 0.9905, NULL, NULL),
-	(8364, 941.5, 33.25, 0.9903, NULL, NULL),
-	(8365, 941.5, 33.5, 0.9901, NULL, NULL),
-	(8366, 941.5, 33.75, 0.99, NULL, NULL),
-	(8367, 941.5, 34, 0.9898, NULL, NULL),
-	(8368, 941.5, 34.25, 0.9896, NULL, NULL),
-	(8369, 941.5, 34.5, 0.9894, NULL, NULL),
-	(8370, 941.5, 34.75, 0.9892, NULL, NULL),
-	(8371, 941.5, 35, 0.989, NULL, NULL),
-	(8372, 941.5, 35.25, 0.9889, NULL, NULL),
-	(8373, 941.5, 35.5, 0.9887, NULL, NULL),
-	(8374, 941.5, 35.75, 0.9885, NULL, NULL),
-	(8375, 941.5, 36, 0.9883, NULL, NULL),
-	(8376, 941.5, 36.25, 0.9881, NULL, NULL),
-	(8377, 941.5, 36.5, 0.9879, NULL, NULL),
-	(8378, 941.5, 36.75, 0.9878, NULL, NULL),
-	(8379, 941.5, 37, 0.9876, NULL, NULL),
-	(8380, 941.5, 37.25, 0.9874, NULL, NULL),
-	(8381, 941.5, 37.5, 0.9872, NULL, NULL),
-	(8382, 941.5, 38, 0.9868, NULL, NULL),
-	(8383, 941.5, 38.25, 0.9867, NULL, NULL),
-	(8384, 941.5, 38.5, 0.9865, NULL, NULL),
-	(8385, 941.5, 38.75, 0.9863, NULL, NULL),
-	(8386, 941.5, 39, 0.9861, NULL, NULL),
-	(8387, 941.5, 39.25, 0.9859, NULL, NULL),
-	(8388, 941.5, 39.5, 0.9857, NULL, NULL),
-	(8389, 941.5, 39.75, 0.9856, NULL, NULL),
-	(8390, 941.5, 40, 0.9854, NULL, NULL),
-	(8391, 941.5, 40.25, 0.9852, NULL, NULL),
-	(8392, 941.5, 40.5, 0.985, NULL, NULL),
-	(8393, 941.5, 40.75, 0.9848, NULL, NULL),
-	(8394, 941.5, 41, 0.9846, NULL, NULL),
-	(8395, 941.5, 41.25, 0.9845, NULL, NULL),
-	(8396, 941.5, 41.5, 0.9843, NULL, NULL),
-	(8397, 941.5, 41.75, 0.9841, NULL, NULL),
-	(8398, 941.5, 42, 0.9839, NULL, NULL),
-	(8399, 941.5, 42.25, 0.9837, NULL, NULL),
-	(8400, 941.5, 42.5, 0.9835, NULL, NULL),
-	(8401, 941.5, 42.75, 0.9834, NULL, NULL),
-	(8402, 941.5, 43, 0.9832, NULL, NULL),
-	(8403, 941.5, 43.25, 0.983, NULL, NULL),
-	(8404, 941.5, 43.5, 0.9828, NULL, NULL),
-	(8405, 941.5, 43.75, 0.9826, NULL, NULL),
-	(8406, 941.5, 44, 0.9824, NULL, NULL),
-	(8407, 941.5, 44.25, 0.9823, NULL, NULL),
-	(8408, 941.5, 44.5, 0.9821, NULL, NULL),
-	(8409, 941.5, 44.75, 0.9819, NULL, NULL),
-	(8410, 941.5, 45, 0.9817, NULL, NULL),
-	(8411, 941.5, 45.25, 0.9815, NULL, NULL),
-	(8412, 941.5, 45.5, 0.9813, NULL, NULL),
-	(8413, 941.5, 45.75, 0.9812, NULL, NULL),
-	(8414, 941.5, 46, 0.981, NULL, NULL),
-	(8415, 941.5, 46.25, 0.9808, NULL, NULL),
-	(8416, 941.5, 46.5, 0.9806, NULL, NULL),
-	(8417, 941.5, 46.75, 0.9804, NULL, NULL),
-	(8418, 941.5, 47, 0.9802, NULL, NULL),
-	(8419, 941.5, 47.25, 0.98, NULL, NULL),
-	(8420, 941.5, 47.5, 0.9799, NULL, NULL),
-	(8421, 941.5, 47.75, 0.9797, NULL, NULL),
-	(8422, 941.5, 48, 0.9795, NULL, NULL),
-	(8423, 941.5, 48.25, 0.9793, NULL, NULL),
-	(8424, 941.5, 48.5, 0.9791, NULL, NULL),
-	(8425, 941.5, 48.75, 0.9789, NULL, NULL),
-	(8426, 941.5, 49, 0.9788, NULL, NULL),
-	(8427, 941.5, 49.25, 0.9786, NULL, NULL),
-	(8428, 941.5, 49.5, 0.9784, NULL, NULL),
-	(8429, 941.5, 49.75, 0.9782, NULL, NULL),
-	(8430, 941.5, 50, 0.978, NULL, NULL),
-	(8431, 945, 15, 1.0036, NULL, NULL),
-	(8432, 945, 15.25, 1.0034, NULL, NULL),
-	(8433, 945, 15.5, 1.0033, NULL, NULL),
-	(8434, 945, 15.75, 1.0031, NULL, NULL),
-	(8435, 945, 16, 1.0029, NULL, NULL),
-	(8436, 945, 16.25, 1.0027, NULL, NULL),
-	(8437, 945, 16.5, 1.0025, NULL, NULL),
-	(8438, 945, 16.75, 1.0024, NULL, NULL),
-	(8439, 945, 17, 1.0022, NULL, NULL),
-	(8440, 945, 17.25, 1.002, NULL, NULL),
-	(8441, 945, 17.5, 1.0018, NULL, NULL),
-	(8442, 945, 17.75, 1.0016, NULL, NULL),
-	(8443, 945, 18, 1.0014, NULL, NULL),
-	(8444, 945, 18.25, 1.0013, NULL, NULL),
-	(8445, 945, 18.5, 1.0011, NULL, NULL),
-	(8446, 945, 18.75, 1.0009, NULL, NULL),
-	(8447, 945, 19, 1.0007, NULL, NULL),
-	(8448, 945, 19.25, 1.0005, NULL, NULL),
-	(8449, 945, 19.5, 1.0004, NULL, NULL),
-	(8450, 945, 19.75, 1.0002, NULL, NULL),
-	(8451, 945, 20, 1, NULL, NULL),
-	(8452, 945, 20.25, 0.9998, NULL, NULL),
-	(8453, 945, 20.5, 0.9996, NULL, NULL),
-	(8454, 945, 20.75, 0.9995, NULL, NULL),
-	(8455, 945, 21, 0.9993, NULL, NULL),
-	(8456, 945, 21.25, 0.9991, NULL, NULL),
-	(8457, 945, 21.5, 0.9989, NULL, NULL),
-	(8458, 945, 21.75, 0.9987, NULL, NULL),
-	(8459, 945, 22, 0.9986, NULL, NULL),
-	(8460, 945, 22.25, 0.9984, NULL, NULL),
-	(8461, 945, 22.5, 0.9982, NULL, NULL),
-	(8462, 945, 22.75, 0.998, NULL, NULL),
-	(8463, 945, 23, 0.9978, NULL, NULL),
-	(8464, 945, 23.25, 0.9976, NULL, NULL),
-	(8465, 945, 23.5, 0.9975, NULL, NULL),
-	(8466, 945, 23.75, 0.9973, NULL, NULL),
-	(8467, 945, 24, 0.9971, NULL, NULL),
-	(8468, 945, 24.25, 0.9969, NULL, NULL),
-	(8469, 945, 24.5, 0.9967, NULL, NULL),
-	(8470, 945, 24.75, 0.9966, NULL, NULL),
-	(8471, 945, 25, 0.9964, NULL, NULL),
-	(8472, 945, 25.25, 0.9962, NULL, NULL),
-	(8473, 945, 25.5, 0.996, NULL, NULL),
-	(8474, 945, 25.75, 0.9958, NULL, NULL),
-	(8475, 945, 26, 0.9956, NULL, NULL),
-	(8476, 945, 26.25, 0.9955, NULL, NULL),
-	(8477, 945, 26.5, 0.9953, NULL, NULL),
-	(8478, 945, 26.75, 0.9951, NULL, NULL),
-	(8479, 945, 27, 0.9949, NULL, NULL),
-	(8480, 945, 27.25, 0.9947, NULL, NULL),
-	(8481, 945, 27.5, 0.9946, NULL, NULL),
-	(8482, 945, 27.75, 0.9944, NULL, NULL),
-	(8483, 945, 28, 0.9942, NULL, NULL),
-	(8484, 945, 28.25, 0.994, NULL, NULL),
-	(8485, 945, 28.5, 0.9938, NULL, NULL),
-	(8486, 945, 28.75, 0.0936, NULL, NULL),
-	(8487, 945, 29, 0.9935, NULL, NULL),
-	(8488, 945, 29.25, 0.9933, NULL, NULL),
-	(8489, 945, 29.5, 0.9931, NULL, NULL),
-	(8490, 945, 29.75, 0.9929, NULL, NULL),
-	(8491, 945, 30, 0.9927, NULL, NULL),
-	(8492, 945, 30.25, 0.9926, NULL, NULL),
-	(8493, 945, 30.5, 0.9924, NULL, NULL),
-	(8494, 945, 30.75, 0.9922, NULL, NULL),
-	(8495, 945, 31, 0.992, NULL, NULL),
-	(8496, 945, 31.25, 0.9918, NULL, NULL),
-	(8497, 945, 31.5, 0.9916, NULL, NULL),
-	(8498, 945, 31.75, 0.9915, NULL, NULL),
-	(8499, 945, 32, 0.9913, NULL, NULL),
-	(8500, 945, 32.25, 0.9911, NULL, NULL),
-	(8501, 945, 32.5, 0.9909, NULL, NULL),
-	(8502, 945, 32.75, 0.9907, NULL, NULL),
-	(8503, 945, 33, 0.9906, NULL, NULL),
-	(8504, 945, 33.25, 0.9904, NULL, NULL),
-	(8505, 945, 33.5, 0.9902, NULL, NULL),
-	(8506, 945, 33.75, 0.99, NULL, NULL),
-	(8507, 945, 34, 0.9898, NULL, NULL),
-	(8508, 945, 34.25, 0.9896, NULL, NULL),
-	(8509, 945, 34.5, 0.9895, NULL, NULL),
-	(8510, 945, 34.75, 0.9893, NULL, NULL),
-	(8511, 945, 35, 0.9891, NULL, NULL),
-	(8512, 945, 35.25, 0.9889, NULL, NULL),
-	(8513, 945, 35.5, 0.9887, NULL, NULL),
-	(8514, 945, 35.75, 0.9885, NULL, NULL),
-	(8515, 945, 36, 0.9884, NULL, NULL),
-	(8516, 945, 36.25, 0.9882, NULL, NULL),
-	(8517, 945, 36.5, 0.988, NULL, NULL),
-	(8518, 945, 36.75, 0.9878, NULL, NULL),
-	(8519, 945, 37, 0.9876, NULL, NULL),
-	(8520, 945, 37.25, 0.9875, NULL, NULL),
-	(8521, 945, 37.5, 0.9873, NULL, NULL),
-	(8522, 945, 37.75, 0.9871, NULL, NULL),
-	(8523, 945, 38, 0.9869, NULL, NULL),
-	(8524, 945, 38.25, 0.9867, NULL, NULL),
-	(8525, 945, 38.5, 0.9865, NULL, NULL),
-	(8526, 945, 38.75, 0.9864, NULL, NULL),
-	(8527, 945, 39, 0.9862, NULL, NULL),
-	(8528, 945, 39.25, 0.986, NULL, NULL),
-	(8529, 945, 39.5, 0.9858, NULL, NULL),
-	(8530, 945, 39.75, 0.9856, NULL, NULL),
-	(8531, 945, 40, 0.9854, NULL, NULL),
-	(8532, 945, 40.25, 0.9853, NULL, NULL),
-	(8533, 945, 40.5, 0.9851, NULL, NULL),
-	(8534, 945, 40.75, 0.9849, NULL, NULL),
-	(8535, 945, 41, 0.9847, NULL, NULL),
-	(8536, 945, 41.25, 0.9845, NULL, NULL),
-	(8537, 945, 41.5, 0.9844, NULL, NULL),
-	(8538, 945, 41.75, 0.9842, NULL, NULL),
-	(8539, 945, 42, 0.984, NULL, NULL),
-	(8540, 945, 42.25, 0.9838, NULL, NULL),
-	(8541, 945, 42.5, 0.9836, NULL, NULL),
-	(8542, 945, 42.75, 0.9834, NULL, NULL),
-	(8543, 945, 43, 0.9833, NULL, NULL),
-	(8544, 945, 43.25, 0.9831, NULL, NULL),
-	(8545, 945, 43.5, 0.9829, NULL, NULL),
-	(8546, 945, 43.75, 0.9827, NULL, NULL),
-	(8547, 945, 44, 0.9825, NULL, NULL),
-	(8548, 945, 44.25, 0.9823, NULL, NULL),
-	(8549, 945, 44.5, 0.9822, NULL, NULL),
-	(8550, 945, 44.75, 0.982, NULL, NULL),
-	(8551, 945, 45, 0.9818, NULL, NULL),
-	(8552, 945, 45.25, 0.9816, NULL, NULL),
-	(8553, 945, 45.5, 0.9814, NULL, NULL),
-	(8554, 945, 45.75, 0.9812, NULL, NULL),
-	(8555, 945, 46, 0.9811, NULL, NULL),
-	(8556, 945, 46.25, 0.9809, NULL, NULL),
-	(8557, 945, 46.5, 0.9807, NULL, NULL),
-	(8558, 945, 46.75, 0.9805, NULL, NULL),
-	(8559, 945, 47, 0.9803, NULL, NULL),
-	(8560, 945, 47.25, 0.9801, NULL, NULL),
-	(8561, 945, 47.5, 0.98, NULL, NULL),
-	(8562, 945, 47.75, 0.9798, NULL, NULL),
-	(8563, 945, 48, 0.9796, NULL, NULL),
-	(8564, 945, 48.25, 0.9794, NULL, NULL),
-	(8565, 945, 48.5, 0.9792, NULL, NULL),
-	(8566, 945, 48.75, 0.979, NULL, NULL),
-	(8567, 945, 49, 0.9789, NULL, NULL),
-	(8568, 945, 49.25, 0.9787, NULL, NULL),
-	(8569, 945, 49.5, 0.9785, NULL, NULL),
-	(8570, 945, 49.75, 0.9783, NULL, NULL),
-	(8571, 945, 50, 0.9781, NULL, NULL),
-	(8572, 945.5, 15, 1.0036, NULL, NULL),
-	(8573, 945.5, 15.25, 1.0034, NULL, NULL),
-	(8574, 945.5, 15.5, 1.0033, NULL, NULL),
-	(8575, 945.5, 15.75, 1.0031, NULL, NULL),
-	(8576, 945.5, 16, 1.0029, NULL, NULL),
-	(8577, 945.5, 16.25, 1.0027, NULL, NULL),
-	(8578, 945.5, 16.5, 1.0025, NULL, NULL),
-	(8579, 945.5, 16.75, 1.0024, NULL, NULL),
-	(8580, 945.5, 17, 1.0022, NULL, NULL),
-	(8581, 945.5, 17.25, 1.002, NULL, NULL),
-	(8582, 945.5, 17.5, 1.0018, NULL, NULL),
-	(8583, 945.5, 17.75, 1.0016, NULL, NULL),
-	(8584, 945.5, 18, 1.0014, NULL, NULL),
-	(8585, 945.5, 18.25, 1.0013, NULL, NULL),
-	(8586, 945.5, 18.5, 1.0011, NULL, NULL),
-	(8587, 945.5, 18.75, 1.0009, NULL, NULL),
-	(8588, 945.5, 19, 1.0007, NULL, NULL),
-	(8589, 945.5, 19.25, 1.0005, NULL, NULL),
-	(8590, 945.5, 19.5, 1.0004, NULL, NULL),
-	(8591, 945.5, 19.75, 1.0002, NULL, NULL),
-	(8592, 945.5, 20, 1, NULL, NULL),
-	(8593, 945.5, 20.25, 0.9998, NULL, NULL),
-	(8594, 945.5, 20.5, 0.9996, NULL, NULL),
-	(8595, 945.5, 20.75, 0.9995, NULL, NULL),
-	(8596, 945.5, 21, 0.9993, NULL, NULL),
-	(8597, 945.5, 21.25, 0.9991, NULL, NULL),
-	(8598, 945.5, 21.5, 0.9989, NULL, NULL),
-	(8599, 945.5, 21.75, 0.9987, NULL, NULL),
-	(8600, 945.5, 22, 0.9986, NULL, NULL),
-	(8601, 945.5, 22.25, 0.9984, NULL, NULL),
-	(8602, 945.5, 22.5, 0.9982, NULL, NULL),
-	(8603, 945.5, 22.75, 0.998, NULL, NULL),
-	(8604, 945.5, 23, 0.9978, NULL, NULL),
-	(8605, 945.5, 23.25, 0.9976, NULL, NULL),
-	(8606, 945.5, 23.5, 0.9975, NULL, NULL),
-	(8607, 945.5, 23.75, 0.9973, NULL, NULL),
-	(8608, 945.5, 24, 0.9971, NULL, NULL),
-	(8609, 945.5, 24.25, 0.9969, NULL, NULL),
-	(8610, 945.5, 24.5, 0.9967, NULL, NULL),
-	(8611, 945.5, 24.75, 0.9966, NULL, NULL),
-	(8612, 945.5, 25, 0.9964, NULL, NULL),
-	(8613, 945.5, 25.25, 0.9962, NULL, NULL),
-	(8614, 945.5, 25.5, 0.996, NULL, NULL),
-	(8615, 945.5, 25.75, 0.9958, NULL, NULL),
-	(8616, 945.5, 26, 0.9956, NULL, NULL),
-	(8617, 945.5, 26.25, 0.9955, NULL, NULL),
-	(8618, 945.5, 26.5, 0.9953, NULL, NULL),
-	(8619, 945.5, 26.75, 0.9951, NULL, NULL),
-	(8620, 945.5, 27, 0.9949, NULL, NULL),
-	(8621, 945.5, 27.25, 0.9947, NULL, NULL),
-	(8622, 945.5, 27.5, 0.9946, NULL, NULL),
-	(8623, 945.5, 27.75, 0.9944, NULL, NULL),
-	(8624, 945.5, 28, 0.9942, NULL, NULL),
-	(8625, 945.5, 28.25, 0.994, NULL, NULL),
-	(8626, 945.5, 28.5, 0.9938, NULL, NULL),
-	(8627, 945.5, 28.75, 0.9937, NULL, NULL),
-	(8628, 945.5, 29, 0.9935, NULL, NULL),
-	(8629, 945.5, 29.25, 0.9933, NULL, NULL),
-	(8630, 945.5, 29.5, 0.9931, NULL, NULL),
-	(8631, 945.5, 29.75, 0.9929, NULL, NULL),
-	(8632, 945.5, 30, 0.9927, NULL, NULL),
-	(8633, 945.5, 30.25, 0.9926, NULL, NULL),
-	(8634, 945.5, 30.5, 0.9924, NULL, NULL),
-	(8635, 945.5, 31, 0.992, NULL, NULL),
-	(8636, 945.5, 31.25, 0.9918, NULL, NULL),
-	(8637, 945.5, 31.5, 0.9917, NULL, NULL),
-	(8638, 945.5, 31.75, 0.9915, NULL, NULL),
-	(8639, 945.5, 32, 0.9913, NULL, NULL),
-	(8640, 945.5, 32.25, 0.9911, NULL, NULL),
-	(8641, 945.5, 32.5, 0.9909, NULL, NULL),
-	(8642, 945.5, 32.75, 0.9907, NULL, NULL),
-	(8643, 945.5, 33, 0.9906, NULL, NULL),
-	(8644, 945.5, 33.25, 0.9904, NULL, NULL),
-	(8645, 945.5, 33.5, 0.9902, NULL, NULL),
-	(8646, 945.5, 33.75, 0.99, NULL, NULL),
-	(8647, 945.5, 34, 0.9898, NULL, NULL),
-	(8648, 945.5, 34.25, 0.9897, NULL, NULL),
-	(8649, 945.5, 34.5, 0.9895, NULL, NULL),
-	(8650, 945.5, 34.75, 0.9893, NULL, NULL),
-	(8651, 945.5, 35, 0.9891, NULL, NULL),
-	(8652, 945.5, 35.25, 0.9889, NULL, NULL),
-	(8653, 945.5, 35.5, 0.9887, NULL, NULL),
-	(8654, 945.5, 35.75, 0.9886, NULL, NULL),
-	(8655, 945.5, 36, 0.9884, NULL, NULL),
-	(8656, 945.5, 36.25, 0.9882, NULL, NULL),
-	(8657, 945.5, 36.5, 0.988, NULL, NULL),
-	(8658, 945.5, 36.75, 0.9878, NULL, NULL),
-	(8659, 945.5, 37, 0.9876, NULL, NULL),
-	(8660, 945.5, 37.25, 0.9875, NULL, NULL),
-	(8661, 945.5, 37.5, 0.9873, NULL, NULL),
-	(8662, 945.5, 37.75, 0.9871, NULL, NULL),
-	(8663, 945.5, 38, 0.9869, NULL, NULL),
-	(8664, 945.5, 38.25, 0.9867, NULL, NULL),
-	(8665, 945.5, 38.5, 0.9866, NULL, NULL),
-	(8666, 945.5, 38.75, 0.9864, NULL, NULL),
-	(8667, 945.5, 39, 0.9862, NULL, NULL),
-	(8668, 945.5, 39.25, 0.986, NULL, NULL),
-	(8669, 945.5, 39.5, 0.9858, NULL, NULL),
-	(8670, 945.5, 39.75, 0.9856, NULL, NULL),
-	(8671, 945.5, 40, 0.9855, NULL, NULL),
-	(8672, 945.5, 40.25, 0.9853, NULL, NULL),
-	(8673, 945.5, 40.5, 0.9851, NULL, NULL),
-	(8674, 945.5, 40.75, 0.9849, NULL, NULL),
-	(8675, 945.5, 41, 0.9847, NULL, NULL),
-	(8676, 945.5, 41.25, 0.9845, NULL, NULL),
-	(8677, 945.5, 41.5, 0.9844, NULL, NULL),
-	(8678, 945.5, 41.75, 0.9842, NULL, NULL),
-	(8679, 945.5, 42, 0.984, NULL, NULL),
-	(8680, 945.5, 42.25, 0.9838, NULL, NULL),
-	(8681, 945.5, 42.5, 0.9836, NULL, NULL),
-	(8682, 945.5, 42.75, 0.9834, NULL, NULL),
-	(8683, 945.5, 43, 0.9833, NULL, NULL),
-	(8684, 945.5, 43.25, 0.9831, NULL, NULL),
-	(8685, 945.5, 43.5, 0.9829, NULL, NULL),
-	(8686, 945.5, 43.75, 0.9827, NULL, NULL),
-	(8687, 945.5, 44, 0.9825, NULL, NULL),
-	(8688, 945.5, 44.25, 0.9824, NULL, NULL),
-	(8689, 945.5, 44.5, 0.9822, NULL, NULL),
-	(8690, 945.5, 44.75, 0.982, NULL, NULL),
-	(8691, 945.5, 45, 0.9818, NULL, NULL),
-	(8692, 945.5, 45.25, 0.9816, NULL, NULL),
-	(8693, 945.5, 45.5, 0.9814, NULL, NULL),
-	(8694, 945.5, 45.75, 0.9813, NULL, NULL),
-	(8695, 945.5, 46, 0.9811, NULL, NULL),
-	(8696, 945.5, 46.25, 0.9809, NULL, NULL),
-	(8697, 945.5, 46.5, 0.9807, NULL, NULL),
-	(8698, 945.5, 46.75, 0.9805, NULL, NULL),
-	(8699, 945.5, 47, 0.9803, NULL, NULL),
-	(8700, 945.5, 47.25, 0.9802, NULL, NULL),
-	(8701, 945.5, 47.5, 0.98, NULL, NULL),
-	(8702, 945.5, 47.75, 0.9798, NULL, NULL),
-	(8703, 945.5, 48, 0.9796, NULL, NULL),
-	(8704, 945.5, 48.25, 0.9794, NULL, NULL),
-	(8705, 945.5, 48.5, 0.9792, NULL, NULL),
-	(8706, 945.5, 48.75, 0.9791, NULL, NULL),
-	(8707, 945.5, 49, 0.9789, NULL, NULL),
-	(8708, 945.5, 49.25, 0.9787, NULL, NULL),
-	(8709, 945.5, 49.5, 0.9785, NULL, NULL),
-	(8710, 945.5, 49.75, 0.9783, NULL, NULL),
-	(8711, 945.5, 50, 0.9781, NULL, NULL),
-	(8712, 946, 15, 1.0036, NULL, NULL),
-	(8713, 946, 15.25, 1.0034, NULL, NULL),
-	(8714, 946, 15.5, 1.0033, NULL, NULL),
-	(8715, 946, 15.75, 1.0031, NULL, NULL),
-	(8716, 946, 16, 1.0029, NULL, NULL),
-	(8717, 946, 16.25, 1.0027, NULL, NULL),
-	(8718, 946, 16.5, 1.0025, NULL, NULL),
-	(8719, 946, 16.75, 1.0024, NULL, NULL),
-	(8720, 946, 17, 1.0022, NULL, NULL),
-	(8721, 946, 17.25, 1.002, NULL, NULL),
-	(8722, 946, 17.5, 1.0018, NULL, NULL),
-	(8723, 946, 17.75, 1.0016, NULL, NULL),
-	(8724, 946, 18, 1.0014, NULL, NULL),
-	(8725, 946, 18.25, 1.0013, NULL, NULL),
-	(8726, 946, 18.5, 1.0011, NULL, NULL),
-	(8727, 946, 18.75, 1.0009, NULL, NULL),
-	(8728, 946, 19, 1.0007, NULL, NULL),
-	(8729, 946, 19.25, 1.0005, NULL, NULL),
-	(8730, 946, 19.5, 1.0004, NULL, NULL),
-	(8731, 946, 19.75, 1.0002, NULL, NULL),
-	(8732, 946, 20, 1, NULL, NULL),
-	(8733, 946, 20.25, 0.9998, NULL, NULL),
-	(8734, 946, 20.5, 0.9996, NULL, NULL),
-	(8735, 946, 20.75, 0.9995, NULL, NULL),
-	(8736, 946, 21, 0.9993, NULL, NULL),
-	(8737, 946, 21.25, 0.9991, NULL, NULL),
-	(8738, 946, 21.5, 0.9989, NULL, NULL),
-	(8739, 946, 21.75, 0.9987, NULL, NULL),
-	(8740, 946, 22, 0.9986, NULL, NULL),
-	(8741, 946, 22.25, 0.9984, NULL, NULL),
-	(8742, 946, 22.5, 0.9982, NULL, NULL),
-	(8743, 946, 22.75, 0.998, NULL, NULL),
-	(8744, 946, 23, 0.9978, NULL, NULL),
-	(8745, 946, 23.25, 0.9976, NULL, NULL),
-	(8746, 946, 23.5, 0.9975, NULL, NULL),
-	(8747, 946, 23.75, 0.9973, NULL, NULL),
-	(8748, 946, 24, 0.9971, NULL, NULL),
-	(8749, 946, 24.25, 0.9969, NULL, NULL),
-	(8750, 946, 24.5, 0.9967, NULL, NULL),
-	(8751, 946, 24.75, 0.9966, NULL, NULL),
-	(8752, 946, 25, 0.9964, NULL, NULL),
-	(8753, 946, 25.25, 0.9962, NULL, NULL),
-	(8754, 946, 25.5, 0.996, NULL, NULL),
-	(8755, 946, 25.75, 0.9958, NULL, NULL),
-	(8756, 946, 26, 0.9957, NULL, NULL),
-	(8757, 946, 26.25, 0.9955, NULL, NULL),
-	(8758, 946, 26.5, 0.9953, NULL, NULL),
-	(8759, 946, 26.75, 0.9951, NULL, NULL),
-	(8760, 946, 27, 0.9949, NULL, NULL),
-	(8761, 946, 27.25, 0.9947, NULL, NULL),
-	(8762, 946, 27.5, 0.9946, NULL, NULL),
-	(8763, 946, 27.75, 0.9944, NULL, NULL),
-	(8764, 946, 28, 0.9942, NULL, NULL),
-	(8765, 946, 28.25, 0.994, NULL, NULL),
-	(8766, 946, 28.5, 0.9938, NULL, NULL),
-	(8767, 946, 28.75, 0.9937, NULL, NULL),
-	(8768, 946, 29, 0.9935, NULL, NULL),
-	(8769, 946, 29.25, 0.9933, NULL, NULL),
-	(8770, 946, 29.5, 0.9931, NULL, NULL),
-	(8771, 946, 29.75, 0.9929, NULL, NULL),
-	(8772, 946, 30, 0.9927, NULL, NULL),
-	(8773, 946, 30.25, 0.9926, NULL, NULL),
-	(8774, 946, 30.5, 0.9924, NULL, NULL),
-	(8775, 946, 30.75, 0.9922, NULL, NULL),
-	(8776, 946, 31, 0.992, NULL, NULL),
-	(8777, 946, 31.25, 0.9918, NULL, NULL),
-	(8778, 946, 31.5, 0.9917, NULL, NULL),
-	(8779, 946, 31.75, 0.9915, NULL, NULL),
-	(8780, 946, 32, 0.9913, NULL, NULL),
-	(8781, 946, 32.25, 0.9911, NULL, NULL),
-	(8782, 946, 32.5, 0.9909, NULL, NULL),
-	(8783, 946, 32.75, 0.9907, NULL, NULL),
-	(8784, 946, 33, 0.9906, NULL, NULL),
-	(8785, 946, 33.25, 0.9904, NULL, NULL),
-	(8786, 946, 33.5, 0.9902, NULL, NULL),
-	(8787, 946, 33.75, 0.99, NULL, NULL),
-	(8788, 946, 34, 0.9898, NULL, NULL),
-	(8789, 946, 34.25, 0.9897, NULL, NULL),
-	(8790, 946, 34.5, 0.9895, NULL, NULL),
-	(8791, 946, 34.75, 0.9893, NULL, NULL),
-	(8792, 946, 35, 0.9891, NULL, NULL),
-	(8793, 946, 35.25, 0.9889, NULL, NULL),
-	(8794, 946, 35.5, 0.9887, NULL, NULL),
-	(8795, 946, 35.75, 0.9886, NULL, NULL),
-	(8796, 946, 36, 0.9884, NULL, NULL),
-	(8797, 946, 36.25, 0.9882, NULL, NULL),
-	(8798, 946, 36.5, 0.988, NULL, NULL),
-	(8799, 946, 36.75, 0.9878, NULL, NULL),
-	(8800, 946, 37, 0.9877, NULL, NULL),
-	(8801, 946, 37.25, 0.9875, NULL, NULL),
-	(8802, 946, 37.5, 0.9873, NULL, NULL),
-	(8803, 946, 37.75, 0.9871, NULL, NULL),
-	(8804, 946, 38, 0.9869, NULL, NULL),
-	(8805, 946, 38.25, 0.9867, NULL, NULL),
-	(8806, 946, 38.5, 0.9866, NULL, NULL),
-	(8807, 946, 38.75, 0.9864, NULL, NULL),
-	(8808, 946, 39, 0.9862, NULL, NULL),
-	(8809, 946, 39.25, 0.986, NULL, NULL),
-	(8810, 946, 39.5, 0.9858, NULL, NULL),
-	(8811, 946, 39.75, 0.9857, NULL, NULL),
-	(8812, 946, 40, 0.9855, NULL, NULL),
-	(8813, 946, 40.25, 0.9853, NULL, NULL),
-	(8814, 946, 40.5, 0.9851, NULL, NULL),
-	(8815, 946, 40.75, 0.9849, NULL, NULL),
-	(8816, 946, 41, 0.9847, NULL, NULL),
-	(8817, 946, 41.25, 0.9846, NULL, NULL),
-	(8818, 946, 41.5, 0.9844, NULL, NULL),
-	(8819, 946, 41.75, 0.9842, NULL, NULL),
-	(8820, 946, 42, 0.984, NULL, NULL),
-	(8821, 946, 42.25, 0.9838, NULL, NULL),
-	(8822, 946, 42.5, 0.9836, NULL, NULL),
-	(8823, 946, 42.75, 0.9835, NULL, NULL),
-	(8824, 946, 43, 0.9833, NULL, NULL),
-	(8825, 946, 43.25, 0.9831, NULL, NULL),
-	(8826, 946, 43.5, 0.9829, NULL, NULL),
-	(8827, 946, 43.75, 0.9827, NULL, NULL),
-	(8828, 946, 44, 0.9825, NULL, NULL),
-	(8829, 946, 44.25, 0.9824, NULL, NULL),
-	(8830, 946, 44.5, 0.9822, NULL, NULL),
-	(8831, 946, 44.75, 0.982, NULL, NULL),
-	(8832, 946, 45, 0.9818, NULL, NULL),
-	(8833, 946, 45.25, 0.9816, NULL, NULL),
-	(8834, 946, 45.5, 0.9815, NULL, NULL),
-	(8835, 946, 45.75, 0.9813, NULL, NULL),
-	(8836, 946, 46, 0.9811, NULL, NULL),
-	(8837, 946, 46.25, 0.9809, NULL, NULL),
-	(8838, 946, 46.5, 0.9807, NULL, NULL),
-	(8839, 946, 46.75, 0.9805, NULL, NULL),
-	(8840, 946, 47, 0.9804, NULL, NULL),
-	(8841, 946, 47.25, 0.9802, NULL, NULL),
-	(8842, 946, 47.5, 0.98, NULL, NULL),
-	(8843, 946, 47.75, 0.9798, NULL, NULL),
-	(8844, 946, 48, 0.9796, NULL, NULL),
-	(8845, 946, 48.25, 0.9794, NULL, NULL),
-	(8846, 946, 48.5, 0.9793, NULL, NULL),
-	(8847, 946, 48.75, 0.9791, NULL, NULL),
-	(8848, 946, 49, 0.9789, NULL, NULL),
-	(8849, 946, 49.25, 0.9787, NULL, NULL),
-	(8850, 946, 49.5, 0.9785, NULL, NULL),
-	(8851, 946, 49.75, 0.9783, NULL, NULL),
-	(8852, 946, 50, 0.9782, NULL, NULL),
-	(8853, 946.5, 15, 1.0036, NULL, NULL),
-	(8854, 946.5, 15.25, 1.0034, NULL, NULL),
-	(8855, 946.5, 15.5, 1.0033, NULL, NULL),
-	(8856, 946.5, 15.75, 1.0031, NULL, NULL),
-	(8857, 946.5, 16, 1.0029, NULL, NULL),
-	(8858, 946.5, 16.25, 1.0027, NULL, NULL),
-	(8859, 946.5, 16.5, 1.0025, NULL, NULL),
-	(8860, 946.5, 16.75, 1.0023, NULL, NULL),
-	(8861, 946.5, 17, 1.0022, NULL, NULL),
-	(8862, 946.5, 17.25, 1.002, NULL, NULL),
-	(8863, 946.5, 17.5, 1.0018, NULL, NULL),
-	(8864, 946.5, 17.75, 1.0016, NULL, NULL),
-	(8865, 946.5, 18, 1.0014, NULL, NULL),
-	(8866, 946.5, 18.25, 1.0013, NULL, NULL),
-	(8867, 946.5, 18.5, 1.0011, NULL, NULL),
-	(8868, 946.5, 18.75, 1.0009, NULL, NULL),
-	(8869, 946.5, 19, 1.0007, NULL, NULL),
-	(8870, 946.5, 19.25, 1.0005, NULL, NULL),
-	(8871, 946.5, 19.5, 1.0004, NULL, NULL),
-	(8872, 946.5, 19.75, 1.0002, NULL, NULL),
-	(8873, 946.5, 20, 1, NULL, NULL),
-	(8874, 946.5, 20.25, 0.9998, NULL, NULL),
-	(8875, 946.5, 20.5, 0.9996, NULL, NULL),
-	(8876, 946.5, 20.75, 0.9995, NULL, NULL),
-	(8877, 946.5, 21, 0.9993, NULL, NULL),
-	(8878, 946.5, 21.25, 0.9991, NULL, NULL),
-	(8879, 946.5, 21.5, 0.9989, NULL, NULL),
-	(8880, 946.5, 21.75, 0.9987, NULL, NULL),
-	(8881, 946.5, 22, 0.9986, NULL, NULL),
-	(8882, 946.5, 22.25, 0.9984, NULL, NULL),
-	(8883, 946.5, 22.5, 0.9982, NULL, NULL),
-	(8884, 946.5, 22.75, 0.998, NULL, NULL),
-	(8885, 946.5, 23, 0.9978, NULL, NULL),
-	(8886, 946.5, 23.25, 0.9976, NULL, NULL),
-	(8887, 946.5, 23.5, 0.9975, NULL, NULL),
-	(8888, 946.5, 23.75, 0.9973, NULL, NULL),
-	(8889, 946.5, 24, 0.9971, NULL, NULL),
-	(8890, 946.5, 24.25, 0.9969, NULL, NULL),
-	(8891, 946.5, 24.5, 0.9967, NULL, NULL),
-	(8892, 946.5, 24.75, 0.9966, NULL, NULL),
-	(8893, 946.5, 25, 0.9964, NULL, NULL),
-	(8894, 946.5, 25.25, 0.9962, NULL, NULL),
-	(8895, 946.5, 25.5, 0.996, NULL, NULL),
-	(8896, 946.5, 25.75, 0.9958, NULL, NULL),
-	(8897, 946.5, 26, 0.9957, NULL, NULL),
-	(8898, 946.5, 26.25, 0.9955, NULL, NULL),
-	(8899, 946.5, 26.5, 0.9953, NULL, NULL),
-	(8900, 946.5, 26.75, 0.9951, NULL, NULL),
-	(8901, 946.5, 27, 0.9949, NULL, NULL),
-	(8902, 946.5, 27.25, 0.9947, NULL, NULL),
-	(8903, 946.5, 27.5, 0.9946, NULL, NULL),
-	(8904, 946.5, 27.75, 0.9944, NULL, NULL),
-	(8905, 946.5, 28, 0.9942, NULL, NULL),
-	(8906, 946.5, 28.25, 0.994, NULL, NULL),
-	(8907, 946.5, 28.5, 0.9938, NULL, NULL),
-	(8908, 946.5, 28.75, 0.9937, NULL, NULL),
-	(8909, 946.5, 29, 0.9935, NULL, NULL),
-	(8910, 946.5, 29.25, 0.9933, NULL, NULL),
-	(8911, 946.5, 29.5, 0.9931, NULL, NULL),
-	(8912, 946.5, 29.75, 0.9929, NULL, NULL),
-	(8913, 946.5, 30, 0.9928, NULL, NULL),
-	(8914, 946.5, 30.25, 0.9926, NULL, NULL),
-	(8915, 946.5, 30.5, 0.9924, NULL, NULL),
-	(8916, 946.5, 30.75, 0.9922, NULL, NULL),
-	(8917, 946.5, 31, 0.992, NULL, NULL),
-	(8918, 946.5, 31.25, 0.9918, NULL, NULL),
-	(8919, 946.5, 31.5, 0.9917, NULL, NULL),
-	(8920, 946.5, 31.75, 0.9915, NULL, NULL),
-	(8921, 946.5, 32, 0.9913, NULL, NULL),
-	(8922, 946.5, 32.25, 0.9911, NULL, NULL),
-	(8923, 946.5, 32.5, 0.9909, NULL, NULL),
-	(8924, 946.5, 32.75, 0.9908, NULL, NULL),
-	(8925, 946.5, 33, 0.9906, NULL, NULL),
-	(8926, 946.5, 33.25, 0.9904, NULL, NULL),
-	(8927, 946.5, 33.5, 0.9902, NULL, NULL),
-	(8928, 946.5, 33.75, 0.99, NULL, NULL),
-	(8929, 946.5, 34, 0.9898, NULL, NULL),
-	(8930, 946.5, 34.25, 0.9897, NULL, NULL),
-	(8931, 946.5, 34.5, 0.9895, NULL, NULL),
-	(8932, 946.5, 34.75, 0.9893, NULL, NULL),
-	(8933, 946.5, 35, 0.9891, NULL, NULL),
-	(8934, 946.5, 35.25, 0.9889, NULL, NULL),
-	(8935, 946.5, 35.5, 0.9888, NULL, NULL),
-	(8936, 946.5, 35.75, 0.9886, NULL, NULL),
-	(8937, 946.5, 36, 0.9884, NULL, NULL),
-	(8938, 946.5, 36.25, 0.9882, NULL, NULL),
-	(8939, 946.5, 36.5, 0.988, NULL, NULL),
-	(8940, 946.5, 36.75, 0.9878, NULL, NULL),
-	(8941, 946.5, 37, 0.9877, NULL, NULL),
-	(8942, 946.5, 37.25, 0.9875, NULL, NULL),
-	(8943, 946.5, 37.5, 0.9873, NULL, NULL),
-	(8944, 946.5, 37.75, 0.9871, NULL, NULL),
-	(8945, 946.5, 38, 0.9869, NULL, NULL),
-	(8946, 946.5, 38.25, 0.9868, NULL, NULL),
-	(8947, 946.5, 38.5, 0.9866, NULL, NULL),
-	(8948, 946.5, 38.75, 0.9864, NULL, NULL),
-	(8949, 946.5, 39, 0.9862, NULL, NULL),
-	(8950, 946.5, 39.25, 0.986, NULL, NULL),
-	(8951, 946.5, 39.5, 0.9858, NULL, NULL),
-	(8952, 946.5, 39.75, 0.9857, NULL, NULL),
-	(8953, 946.5, 40, 0.9855, NULL, NULL),
-	(8954, 946.5, 40.25, 0.9853, NULL, NULL),
-	(8955, 946.5, 40.5, 0.9851, NULL, NULL),
-	(8956, 946.5, 40.75, 0.9849, NULL, NULL),
-	(8957, 946.5, 41, 0.9847, NULL, NULL),
-	(8958, 946.5, 41.25, 0.9846, NULL, NULL),
-	(8959, 946.5, 41.5, 0.9844, NULL, NULL),
-	(8960, 946.5, 41.75, 0.9842, NULL, NULL),
-	(8961, 946.5, 42, 0.984, NULL, NULL),
-	(8962, 946.5, 42.25, 0.9838, NULL, NULL),
-	(8963, 946.5, 42.5, 0.9837, NULL, NULL),
-	(8964, 946.5, 42.75, 0.9835, NULL, NULL),
-	(8965, 946.5, 43, 0.9833, NULL, NULL),
-	(8966, 946.5, 43.25, 0.9831, NULL, NULL),
-	(8967, 946.5, 43.5, 0.9829, NULL, NULL),
-	(8968, 946.5, 43.75, 0.9827, NULL, NULL),
-	(8969, 946.5, 44, 0.9826, NULL, NULL),
-	(8970, 946.5, 44.25, 0.9824, NULL, NULL),
-	(8971, 946.5, 44.5, 0.9822, NULL, NULL),
-	(8972, 946.5, 44.75, 0.982, NULL, NULL),
-	(8973, 946.5, 45, 0.9818, NULL, NULL),
-	(8974, 946.5, 45.25, 0.9816, NULL, NULL),
-	(8975, 946.5, 45.5, 0.9815, NULL, NULL),
-	(8976, 946.5, 45.75, 0.9813, NULL, NULL),
-	(8977, 946.5, 46, 0.9811, NULL, NULL),
-	(8978, 946.5, 46.25, 0.9809, NULL, NULL),
-	(8979, 946.5, 46.5, 0.9807, NULL, NULL),
-	(8980, 946.5, 46.75, 0.9805, NULL, NULL),
-	(8981, 946.5, 47, 0.9804, NULL, NULL),
-	(8982, 946.5, 47.25, 0.9802, NULL, NULL),
-	(8983, 946.5, 47.5, 0.98, NULL, NULL),
-	(8984, 946.5, 47.75, 0.9798, NULL, NULL),
-	(8985, 946.5, 48, 0.9796, NULL, NULL),
-	(8986, 946.5, 48.25, 0.9795, NULL, NULL),
-	(8987, 946.5, 48.5, 0.9793, NULL, NULL),
-	(8988, 946.5, 48.75, 0.9791, NULL, NULL),
-	(8989, 946.5, 49, 0.9789, NULL, NULL),
-	(8990, 946.5, 49.25, 0.9787, NULL, NULL),
-	(8991, 946.5, 49.5, 0.9785, NULL, NULL),
-	(8992, 946.5, 49.75, 0.9784, NULL, NULL),
-	(8993, 946.5, 50, 0.9782, NULL, NULL),
-	(8994, 947, 15, 1.0036, NULL, NULL),
-	(8995, 947, 15.25, 1.0034, NULL, NULL),
-	(8996, 947, 15.5, 1.0032, NULL, NULL),
-	(8997, 947, 15.75, 1.0031, NULL, NULL),
-	(8998, 947, 16, 1.0029, NULL, NULL),
-	(8999, 947, 16.25, 1.0027, NULL, NULL),
-	(9000, 947, 16.5, 1.0025, NULL, NULL),
-	(9001, 947, 16.75, 1.0023, NULL, NULL),
-	(9002, 947, 17, 1.0022, NULL, NULL),
-	(9003, 947, 17.25, 1.002, NULL, NULL),
-	(9004, 947, 17.5, 1.0018, NULL, NULL),
-	(9005, 947, 17.75, 1.0016, NULL, NULL),
-	(9006, 947, 18, 1.0014, NULL, NULL),
-	(9007, 947, 18.25, 1.0013, NULL, NULL),
-	(9008, 947, 18.5, 1.0011, NULL, NULL),
-	(9009, 947, 18.75, 1.0009, NULL, NULL),
-	(9010, 947, 19, 1.0007, NULL, NULL),
-	(9011, 947, 19.25, 1.0005, NULL, NULL),
-	(9012, 947, 19.5, 1.0004, NULL, NULL),
-	(9013, 947, 19.75, 1.0002, NULL, NULL),
-	(9014, 947, 20, 1, NULL, NULL),
-	(9015, 947, 20.25, 0.9998, NULL, NULL),
-	(9016, 947, 20.5, 0.9996, NULL, NULL),
-	(9017, 947, 20.75, 0.9995, NULL, NULL),
-	(9018, 947, 21, 0.9993, NULL, NULL),
-	(9019, 947, 21.25, 0.9991, NULL, NULL),
-	(9020, 947, 21.5, 0.9989, NULL, NULL),
-	(9021, 947, 21.75, 0.9987, NULL, NULL),
-	(9022, 947, 22, 0.9986, NULL, NULL),
-	(9023, 947, 22.25, 0.9984, NULL, NULL),
-	(9024, 947, 22.5, 0.9982, NULL, NULL),
-	(9025, 947, 22.75, 0.998, NULL, NULL),
-	(9026, 947, 23, 0.9978, NULL, NULL),
-	(9027, 947, 23.25, 0.9976, NULL, NULL),
-	(9028, 947, 23.5, 0.9975, NULL, NULL),
-	(9029, 947, 23.75, 0.9973, NULL, NULL),
-	(9030, 947, 24, 0.9971, NULL, NULL),
-	(9031, 947, 24.25, 0.9969, NULL, NULL),
-	(9032, 947, 24.5, 0.9967, NULL, NULL),
-	(9033, 947, 24.75, 0.9966, NULL, NULL),
-	(9034, 947, 25, 0.9964, NULL, NULL),
-	(9035, 947, 25.25, 0.9962, NULL, NULL),
-	(9036, 947, 25.5, 0.996, NULL, NULL),
-	(9037, 947, 25.75, 0.9958, NULL, NULL),
-	(9038, 947, 26, 0.9957, NULL, NULL),
-	(9039, 947, 26.25, 0.9955, NULL, NULL),
-	(9040, 947, 26.5, 0.9953, NULL, NULL),
-	(9041, 947, 26.75, 0.9951, NULL, NULL),
-	(9042, 947, 27, 0.9949, NULL, NULL),
-	(9043, 947, 27.25, 0.9948, NULL, NULL),
-	(9044, 947, 27.5, 0.9946, NULL, NULL),
-	(9045, 947, 27.75, 0.9944, NULL, NULL),
-	(9046, 947, 28, 0.9942, NULL, NULL),
-	(9047, 947, 28.25, 0.994, NULL, NULL),
-	(9048, 947, 28.5, 0.9938, NULL, NULL),
-	(9049, 947, 28.75, 0.9937, NULL, NULL),
-	(9050, 947, 29, 0.9935, NULL, NULL),
-	(9051, 947, 29.25, 0.9933, NULL, NULL),
-	(9052, 947, 29.5, 0.9931, NULL, NULL),
-	(9053, 947, 29.75, 0.9929, NULL, NULL),
-	(9054, 947, 30, 0.9928, NULL, NULL),
-	(9055, 947, 30.25, 0.9926, NULL, NULL),
-	(9056, 947, 30.5, 0.9924, NULL, NULL),
-	(9057, 947, 30.75, 0.9922, NULL, NULL),
-	(9058, 947, 31, 0.992, NULL, NULL),
-	(9059, 947, 31.25, 0.9919, NULL, NULL),
-	(9060, 947, 31.5, 0.9917, NULL, NULL),
-	(9061, 947, 31.75, 0.9915, NULL, NULL),
-	(9062, 947, 32, 0.9913, NULL, NULL),
-	(9063, 947, 32.25, 0.9911, NULL, NULL),
-	(9064, 947, 32.5, 0.9909, NULL, NULL),
-	(9065, 947, 32.75, 0.9908, NULL, NULL),
-	(9066, 947, 33, 0.9906, NULL, NULL),
-	(9067, 947, 33.25, 0.9904, NULL, NULL),
-	(9068, 947, 33.5, 0.9902, NULL, NULL),
-	(9069, 947, 33.75, 0.99, NULL, NULL),
-	(9070, 947, 34, 0.9899, NULL, NULL),
-	(9071, 947, 34.25, 0.9897, NULL, NULL),
-	(9072, 947, 34.5, 0.9895, NULL, NULL),
-	(9073, 947, 34.75, 0.9893, NULL, NULL),
-	(9074, 947, 35, 0.9891, NULL, NULL),
-	(9075, 947, 35.25, 0.9889, NULL, NULL),
-	(9076, 947, 35.5, 0.9888, NULL, NULL),
-	(9077, 947, 35.75, 0.9886, NULL, NULL),
-	(9078, 947, 36, 0.9884, NULL, NULL),
-	(9079, 947, 36.25, 0.9882, NULL, NULL),
-	(9080, 947, 36.5, 0.988, NULL, NULL),
-	(9081, 947, 36.75, 0.9879, NULL, NULL),
-	(9082, 947, 37, 0.9877, NULL, NULL),
-	(9083, 947, 37.25, 0.9875, NULL, NULL),
-	(9084, 947, 37.5, 0.9873, NULL, NULL),
-	(9085, 947, 37.75, 0.9871, NULL, NULL),
-	(9086, 947, 38, 0.9869, NULL, NULL),
-	(9087, 947, 38.25, 0.9868, NULL, NULL),
-	(9088, 947, 38.5, 0.9866, NULL, NULL),
-	(9089, 947, 38.75, 0.9864, NULL, NULL),
-	(9090, 947, 39, 0.9862, NULL, NULL),
-	(9091, 947, 39.25, 0.986, NULL, NULL),
-	(9092, 947, 39.5, 0.9859, NULL, NULL),
-	(9093, 947, 39.75, 0.9857, NULL, NULL),
-	(9094, 947, 40, 0.9855, NULL, NULL),
-	(9095, 947, 40.25, 0.9853, NULL, NULL),
-	(9096, 947, 40.5, 0.9851, NULL, NULL),
-	(9097, 947, 40.75, 0.9849, NULL, NULL),
-	(9098, 947, 41, 0.9848, NULL, NULL),
-	(9099, 947, 41.25, 0.9846, NULL, NULL),
-	(9100, 947, 41.5, 0.9844, NULL, NULL),
-	(9101, 947, 41.75, 0.9842, NULL, NULL),
-	(9102, 947, 42, 0.984, NULL, NULL),
-	(9103, 947, 42.25, 0.9838, NULL, NULL),
-	(9104, 947, 42.5, 0.9837, NULL, NULL),
-	(9105, 947, 42.75, 0.9835, NULL, NULL),
-	(9106, 947, 43, 0.9833, NULL, NULL),
-	(9107, 947, 43.25, 0.9831, NULL, NULL),
-	(9108, 947, 43.5, 0.9829, NULL, NULL),
-	(9109, 947, 43.75, 0.9828, NULL, NULL),
-	(9110, 947, 44, 0.9826, NULL, NULL),
-	(9111, 947, 44.25, 0.9824, NULL, NULL),
-	(9112, 947, 44.5, 0.9822, NULL, NULL),
-	(9113, 947, 44.75, 0.982, NULL, NULL),
-	(9114, 947, 45, 0.9818, NULL, NULL),
-	(9115, 947, 45.25, 0.9817, NULL, NULL),
-	(9116, 947, 45.5, 0.9815, NULL, NULL),
-	(9117, 947, 45.75, 0.9813, NULL, NULL),
-	(9118, 947, 46, 0.9811, NULL, NULL),
-	(9119, 947, 46.25, 0.9809, NULL, NULL),
-	(9120, 947, 46.5, 0.9807, NULL, NULL),
-	(9121, 947, 46.75, 0.9806, NULL, NULL),
-	(9122, 947, 47, 0.9804, NULL, NULL),
-	(9123, 947, 47.25, 0.9802, NULL, NULL),
-	(9124, 947, 47.5, 0.98, NULL, NULL),
-	(9125, 947, 47.75, 0.9798, NULL, NULL),
-	(9126, 947, 48, 0.9796, NULL, NULL),
-	(9127, 947, 48.25, 0.9795, NULL, NULL),
-	(9128, 947, 48.5, 0.9793, NULL, NULL),
-	(9129, 947, 48.75, 0.9791, NULL, NULL),
-	(9130, 947, 49, 0.9789, NULL, NULL),
-	(9131, 947, 49.25, 0.9787, NULL, NULL),
-	(9132, 947, 49.5, 0.9786, NULL, NULL),
-	(9133, 947, 49.75, 0.9784, NULL, NULL),
-	(9134, 947, 50, 0.9782, NULL, NULL),
-	(9135, 947.5, 15, 1.0036, NULL, NULL),
-	(9136, 947.5, 15.25, 1.0034, NULL, NULL),
-	(9137, 947.5, 15.5, 1.0032, NULL, NULL),
-	(9138, 947.5, 15.75, 1.0031, NULL, NULL),
-	(9139, 947.5, 16, 1.0029, NULL, NULL),
-	(9140, 947.5, 16.25, 1.0027, NULL, NULL),
-	(9141, 947.5, 16.5, 1.0025, NULL, NULL),
-	(9142, 947.5, 16.75, 1.0023, NULL, NULL),
-	(9143, 947.5, 17, 1.0022, NULL, NULL),
-	(9144, 947.5, 17.25, 1.002, NULL, NULL),
-	(9145, 947.5, 17.5, 1.0018, NULL, NULL),
-	(9146, 947.5, 17.75, 1.0016, NULL, NULL),
-	(9147, 947.5, 18, 1.0014, NULL, NULL),
-	(9148, 947.5, 18.25, 1.0013, NULL, NULL),
-	(9149, 947.5, 18.5, 1.0011, NULL, NULL),
-	(9150, 947.5, 18.75, 1.0009, NULL, NULL),
-	(9151, 947.5, 19, 1.0007, NULL, NULL),
-	(9152, 947.5, 19.25, 1.0005, NULL, NULL),
-	(9153, 947.5, 19.5, 1.0004, NULL, NULL),
-	(9154, 947.5, 19.75, 1.0002, NULL, NULL),
-	(9155, 947.5, 20, 1, NULL, NULL),
-	(9156, 947.5, 20.25, 0.9998, NULL, NULL),
-	(9157, 947.5, 20.5, 0.9996, NULL, NULL),
-	(9158, 947.5, 20.75, 0.9995, NULL, NULL),
-	(9159, 947.5, 21, 0.9993, NULL, NULL),
-	(9160, 947.5, 21.25, 0.9991, NULL, NULL),
-	(9161, 947.5, 21.5, 0.9989, NULL, NULL),
-	(9162, 947.5, 21.75, 0.9987, NULL, NULL),
-	(9163, 947.5, 22, 0.9986, NULL, NULL),
-	(9164, 947.5, 22.25, 0.9984, NULL, NULL),
-	(9165, 947.5, 22.5, 0.9982, NULL, NULL),
-	(9166, 947.5, 22.75, 0.998, NULL, NULL),
-	(9167, 947.5, 23, 0.9978, NULL, NULL),
-	(9168, 947.5, 23.25, 0.9977, NULL, NULL),
-	(9169, 947.5, 23.5, 0.9975, NULL, NULL),
-	(9170, 947.5, 23.75, 0.9973, NULL, NULL),
-	(9171, 947.5, 24, 0.9971, NULL, NULL),
-	(9172, 947.5, 24.25, 0.9969, NULL, NULL),
-	(9173, 947.5, 24.5, 0.9967, NULL, NULL),
-	(9174, 947.5, 24.75, 0.9966, NULL, NULL),
-	(9175, 947.5, 25, 0.9964, NULL, NULL),
-	(9176, 947.5, 25.25, 0.9962, NULL, NULL),
-	(9177, 947.5, 25.5, 0.996, NULL, NULL),
-	(9178, 947.5, 25.75, 0.9958, NULL, NULL),
-	(9179, 947.5, 26, 0.9957, NULL, NULL),
-	(9180, 947.5, 26.25, 0.9955, NULL, NULL),
-	(9181, 947.5, 26.5, 0.9953, NULL, NULL),
-	(9182, 947.5, 26.75, 0.9951, NULL, NULL),
-	(9183, 947.5, 27, 0.9949, NULL, NULL),
-	(9184, 947.5, 27.25, 0.9948, NULL, NULL),
-	(9185, 947.5, 27.5, 0.9946, NULL, NULL),
-	(9186, 947.5, 27.75, 0.9944, NULL, NULL),
-	(9187, 947.5, 28, 0.9942, NULL, NULL),
-	(9188, 947.5, 28.25, 0.994, NULL, NULL),
-	(9189, 947.5, 28.5, 0.9939, NULL, NULL),
-	(9190, 947.5, 28.75, 0.9937, NULL, NULL),
-	(9191, 947.5, 29, 0.9935, NULL, NULL),
-	(9192, 947.5, 29.25, 0.9933, NULL, NULL),
-	(9193, 947.5, 29.5, 0.9931, NULL, NULL),
-	(9194, 947.5, 29.75, 0.9929, NULL, NULL),
-	(9195, 947.5, 30, 0.9928, NULL, NULL),
-	(9196, 947.5, 30.25, 0.9926, NULL, NULL),
-	(9197, 947.5, 30.5, 0.9924, NULL, NULL),
-	(9198, 947.5, 30.75, 0.9922, NULL, NULL),
-	(9199, 947.5, 31, 0.992, NULL, NULL),
-	(9200, 947.5, 31.25, 0.9919, NULL, NULL),
-	(9201, 947.5, 31.5, 0.9917, NULL, NULL),
-	(9202, 947.5, 31.75, 0.9915, NULL, NULL),
-	(9203, 947.5, 32, 0.9913, NULL, NULL),
-	(9204, 947.5, 32.25, 0.9911, NULL, NULL),
-	(9205, 947.5, 32.5, 0.9909, NULL, NULL),
-	(9206, 947.5, 32.75, 0.9908, NULL, NULL),
-	(9207, 947.5, 33, 0.9906, NULL, NULL),
-	(9208, 947.5, 33.25, 0.9904, NULL, NULL),
-	(9209, 947.5, 33.5, 0.9902, NULL, NULL),
-	(9210, 947.5, 33.75, 0.99, NULL, NULL),
-	(9211, 947.5, 34, 0.9899, NULL, NULL),
-	(9212, 947.5, 34.25, 0.9897, NULL, NULL),
-	(9213, 947.5, 34.5, 0.9895, NULL, NULL),
-	(9214, 947.5, 34.75, 0.9893, NULL, NULL),
-	(9215, 947.5, 35, 0.9891, NULL, NULL),
-	(9216, 947.5, 35.25, 0.989, NULL, NULL),
-	(9217, 947.5, 35.5, 0.9888, NULL, NULL),
-	(9218, 947.5, 35.75, 0.9886, NULL, NULL),
-	(9219, 947.5, 36, 0.9884, NULL, NULL),
-	(9220, 947.5, 36.25, 0.9882, NULL, NULL),
-	(9221, 947.5, 36.5, 0.988, NULL, NULL),
-	(9222, 947.5, 36.75, 0.9879, NULL, NULL),
-	(9223, 947.5, 37, 0.9877, NULL, NULL),
-	(9224, 947.5, 37.25, 0.9875, NULL, NULL),
-	(9225, 947.5, 37.5, 0.9873, NULL, NULL),
-	(9226, 947.5, 38, 0.987, NULL, NULL),
-	(9227, 947.5, 38.25, 0.9868, NULL, NULL),
-	(9228, 947.5, 38.5, 0.9866, NULL, NULL),
-	(9229, 947.5, 38.75, 0.9864, NULL, NULL),
-	(9230, 947.5, 39, 0.9862, NULL, NULL),
-	(9231, 947.5, 39.25, 0.986, NULL, NULL),
-	(9232, 947.5, 39.5, 0.9859, NULL, NULL),
-	(9233, 947.5, 39.75, 0.9857, NULL, NULL),
-	(9234, 947.5, 40, 0.9855, NULL, NULL),
-	(9235, 947.5, 40.25, 0.9853, NULL, NULL),
-	(9236, 947.5, 40.5, 0.9851, NULL, NULL),
-	(9237, 947.5, 40.75, 0.985, NULL, NULL),
-	(9238, 947.5, 41, 0.9848, NULL, NULL),
-	(9239, 947.5, 41.25, 0.9846, NULL, NULL),
-	(9240, 947.5, 41.5, 0.9844, NULL, NULL),
-	(9241, 947.5, 41.75, 0.9842, NULL, NULL),
-	(9242, 947.5, 42, 0.984, NULL, NULL),
-	(9243, 947.5, 42.25, 0.9839, NULL, NULL),
-	(9244, 947.5, 42.5, 0.9837, NULL, NULL),
-	(9245, 947.5, 42.75, 0.9835, NULL, NULL),
-	(9246, 947.5, 43, 0.9833, NULL, NULL),
-	(9247, 947.5, 43.25, 0.9831, NULL, NULL),
-	(9248, 947.5, 43.5, 0.9829, NULL, NULL),
-	(9249, 947.5, 43.75, 0.9828, NULL, NULL),
-	(9250, 947.5, 44, 0.9826, NULL, NULL),
-	(9251, 947.5, 44.25, 0.9824, NULL, NULL),
-	(9252, 947.5, 44.5, 0.9822, NULL, NULL),
-	(9253, 947.5, 44.75, 0.982, NULL, NULL),
-	(9254, 947.5, 45, 0.9819, NULL, NULL),
-	(9255, 947.5, 45.25, 0.9817, NULL, NULL),
-	(9256, 947.5, 45.5, 0.9815, NULL, NULL),
-	(9257, 947.5, 45.75, 0.9813, NULL, NULL),
-	(9258, 947.5, 46, 0.9811, NULL, NULL),
-	(9259, 947.5, 46.25, 0.9809, NULL, NULL),
-	(9260, 947.5, 46.5, 0.9808, NULL, NULL),
-	(9261, 947.5, 46.75, 0.9806, NULL, NULL),
-	(9262, 947.5, 47, 0.9804, NULL, NULL),
-	(9263, 947.5, 47.25, 0.9802, NULL, NULL),
-	(9264, 947.5, 47.5, 0.98, NULL, NULL),
-	(9265, 947.5, 47.75, 0.9798, NULL, NULL),
-	(9266, 947.5, 48, 0.9797, NULL, NULL),
-	(9267, 947.5, 48.25, 0.9795, NULL, NULL),
-	(9268, 947.5, 48.5, 0.9793, NULL, NULL),
-	(9269, 947.5, 48.75, 0.9791, NULL, NULL),
-	(9270, 947.5, 49, 0.9789, NULL, NULL),
-	(9271, 947.5, 49.25, 0.9788, NULL, NULL),
-	(9272, 947.5, 49.5, 0.9786, NULL, NULL),
-	(9273, 947.5, 49.75, 0.9784, NULL, NULL),
-	(9274, 947.5, 50, 0.9782, NULL, NULL),
-	(9275, 948, 15, 1.0036, NULL, NULL),
-	(9276, 948, 15.25, 1.0034, NULL, NULL),
-	(9277, 948, 15.5, 1.0032, NULL, NULL),
-	(9278, 948, 15.75, 1.0031, NULL, NULL),
-	(9279, 948, 16, 1.0029, NULL, NULL),
-	(9280, 948, 16.25, 1.0027, NULL, NULL),
-	(9281, 948, 16.5, 1.0025, NULL, NULL),
-	(9282, 948, 16.75, 1.0023, NULL, NULL),
-	(9283, 948, 17, 1.0022, NULL, NULL),
-	(9284, 948, 17.25, 1.002, NULL, NULL),
-	(9285, 948, 17.5, 1.0018, NULL, NULL),
-	(9286, 948, 17.75, 1.0016, NULL, NULL),
-	(9287, 948, 18, 1.0014, NULL, NULL),
-	(9288, 948, 18.25, 1.0013, NULL, NULL),
-	(9289, 948, 18.5, 1.0011, NULL, NULL),
-	(9290, 948, 18.75, 1.0009, NULL, NULL),
-	(9291, 948, 19, 1.0007, NULL, NULL),
-	(9292, 948, 19.25, 1.0005, NULL, NULL),
-	(9293, 948, 19.5, 1.0004, NULL, NULL),
-	(9294, 948, 19.75, 1.0002, NULL, NULL),
-	(9295, 948, 20, 1, NULL, NULL),
-	(9296, 948, 20.25, 0.9998, NULL, NULL),
-	(9297, 948, 20.5, 0.9996, NULL, NULL),
-	(9298, 948, 20.75, 0.9995, NULL, NULL),
-	(9299, 948, 21, 0.9993, NULL, NULL),
-	(9300, 948, 21.25, 0.9991, NULL, NULL),
-	(9301, 948, 21.5, 0.9989, NULL, NULL),
-	(9302, 948, 21.75, 0.9987, NULL, NULL),
-	(9303, 948, 22, 0.9986, NULL, NULL),
-	(9304, 948, 22.25, 0.9984, NULL, NULL),
-	(9305, 948, 22.5, 0.9982, NULL, NULL),
-	(9306, 948, 22.75, 0.998, NULL, NULL),
-	(9307, 948, 23, 0.9978, NULL, NULL),
-	(9308, 948, 23.25, 0.9977, NULL, NULL),
-	(9309, 948, 23.5, 0.9975, NULL, NULL),
-	(9310, 948, 23.75, 0.9973, NULL, NULL),
-	(9311, 948, 24, 0.9971, NULL, NULL),
-	(9312, 948, 24.25, 0.9969, NULL, NULL),
-	(9313, 948, 24.5, 0.9967, NULL, NULL),
-	(9314, 948, 24.75, 0.9966, NULL, NULL),
-	(9315, 948, 25, 0.9964, NULL, NULL),
-	(9316, 948, 25.25, 0.9962, NULL, NULL),
-	(9317, 948, 25.5, 0.996, NULL, NULL),
-	(9318, 948, 25.75, 0.9958, NULL, NULL),
-	(9319, 948, 26, 0.9957, NULL, NULL),
-	(9320, 948, 26.25, 0.9955, NULL, NULL),
-	(9321, 948, 26.5, 0.9953, NULL, NULL),
-	(9322, 948, 26.75, 0.9951, NULL, NULL),
-	(9323, 948, 27, 0.9949, NULL, NULL),
-	(9324, 948, 27.25, 0.9948, NULL, NULL),
-	(9325, 948, 27.5, 0.9946, NULL, NULL),
-	(9326, 948, 27.75, 0.9944, NULL, NULL),
-	(9327, 948, 28, 0.9942, NULL, NULL),
-	(9328, 948, 28.25, 0.994, NULL, NULL),
-	(9329, 948, 28.5, 0.9939, NULL, NULL),
-	(9330, 948, 28.75, 0.9937, NULL, NULL),
-	(9331, 948, 29, 0.9935, NULL, NULL),
-	(9332, 948, 29.25, 0.9933, NULL, NULL),
-	(9333, 948, 29.5, 0.9931, NULL, NULL),
-	(9334, 948, 29.75, 0.9929, NULL, NULL),
-	(9335, 948, 30, 0.9928, NULL, NULL),
-	(9336, 948, 30.25, 0.9926, NULL, NULL),
-	(9337, 948, 30.5, 0.9924, NULL, NULL),
-	(9338, 948, 30.75, 0.9922, NULL, NULL),
-	(9339, 948, 31, 0.992, NULL, NULL),
-	(9340, 948, 31.25, 0.9919, NULL, NULL),
-	(9341, 948, 31.5, 0.9917, NULL, NULL),
-	(9342, 948, 31.75, 0.9915, NULL, NULL),
-	(9343, 948, 32, 0.9913, NULL, NULL),
-	(9344, 948, 32.25, 0.9911, NULL, NULL),
-	(9345, 948, 32.5, 0.991, NULL, NULL),
-	(9346, 948, 32.75, 0.9908, NULL, NULL),
-	(9347, 948, 33, 0.906, NULL, NULL),
-	(9348, 948, 33.25, 0.9904, NULL, NULL),
-	(9349, 948, 33.5, 0.9902, NULL, NULL),
-	(9350, 948, 33.75, 0.99, NULL, NULL),
-	(9351, 948, 34, 0.9899, NULL, NULL),
-	(9352, 948, 34.25, 0.9897, NULL, NULL),
-	(9353, 948, 34.5, 0.9895, NULL, NULL),
-	(9354, 948, 34.75, 0.9893, NULL, NULL),
-	(9355, 948, 35, 0.9891, NULL, NULL),
-	(9356, 948, 35.25, 0.989, NULL, NULL),
-	(9357, 948, 35.5, 0.9888, NULL, NULL),
-	(9358, 948, 35.75, 0.9886, NULL, NULL),
-	(9359, 948, 36, 0.9884, NULL, NULL),
-	(9360, 948, 36.25, 0.9882, NULL, NULL),
-	(9361, 948, 36.5, 0.9881, NULL, NULL),
-	(9362, 948, 36.75, 0.9879, NULL, NULL),
-	(9363, 948, 37, 0.9877, NULL, NULL),
-	(9364, 948, 37.25, 0.9875, NULL, NULL),
-	(9365, 948, 37.5, 0.9873, NULL, NULL),
-	(9366, 948, 37.75, 0.9871, NULL, NULL),
-	(9367, 948, 38, 0.987, NULL, NULL),
-	(9368, 948, 38.25, 0.9868, NULL, NULL),
-	(9369, 948, 38.5, 0.9866, NULL, NULL),
-	(9370, 948, 38.75, 0.9864, NULL, NULL),
-	(9371, 948, 39, 0.9862, NULL, NULL),
-	(9372, 948, 39.25, 0.9861, NULL, NULL),
-	(9373, 948, 39.5, 0.9859, NULL, NULL),
-	(9374, 948, 39.75, 0.9857, NULL, NULL),
-	(9375, 948, 40, 0.9855, NULL, NULL),
-	(9376, 948, 40.25, 0.9853, NULL, NULL),
-	(9377, 948, 40.5, 0.9851, NULL, NULL),
-	(9378, 948, 40.75, 0.985, NULL, NULL),
-	(9379, 948, 41, 0.9848, NULL, NULL),
-	(9380, 948, 41.25, 0.9846, NULL, NULL),
-	(9381, 948, 41.5, 0.9844, NULL, NULL),
-	(9382, 948, 41.75, 0.9842, NULL, NULL),
-	(9383, 948, 42, 0.9841, NULL, NULL),
-	(9384, 948, 42.25, 0.9839, NULL, NULL),
-	(9385, 948, 42.5, 0.9837, NULL, NULL),
-	(9386, 948, 42.75, 0.9835, NULL, NULL),
-	(9387, 948, 43, 0.9833, NULL, NULL),
-	(9388, 948, 43.25, 0.9831, NULL, NULL),
-	(9389, 948, 43.5, 0.983, NULL, NULL),
-	(9390, 948, 43.75, 0.9828, NULL, NULL),
-	(9391, 948, 44, 0.9826, NULL, NULL),
-	(9392, 948, 44.25, 0.9824, NULL, NULL),
-	(9393, 948, 44.5, 0.9822, NULL, NULL),
-	(9394, 948, 44.75, 0.982, NULL, NULL),
-	(9395, 948, 45, 0.9819, NULL, NULL),
-	(9396, 948, 45.25, 0.9817, NULL, NULL),
-	(9397, 948, 45.5, 0.9815, NULL, NULL),
-	(9398, 948, 45.75, 0.9813, NULL, NULL),
-	(9399, 948, 46, 0.9811, NULL, NULL),
-	(9400, 948, 46.25, 0.981, NULL, NULL),
-	(9401, 948, 46.5, 0.9808, NULL, NULL),
-	(9402, 948, 46.75, 0.9806, NULL, NULL),
-	(9403, 948, 47, 0.9804, NULL, NULL),
-	(9404, 948, 47.25, 0.9802, NULL, NULL),
-	(9405, 948, 47.5, 0.98, NULL, NULL),
-	(9406, 948, 47.75, 0.9799, NULL, NULL),
-	(9407, 948, 48, 0.9797, NULL, NULL),
-	(9408, 948, 48.25, 0.9795, NULL, NULL),
-	(9409, 948, 48.5, 0.9793, NULL, NULL),
-	(9410, 948, 48.75, 0.9791, NULL, NULL),
-	(9411, 948, 49, 0.9789, NULL, NULL),
-	(9412, 948, 49.25, 0.9788, NULL, NULL),
-	(9413, 948, 49.5, 0.9786, NULL, NULL),
-	(9414, 948, 49.75, 0.9784, NULL, NULL),
-	(9415, 948, 50, 0.9782, NULL, NULL),
-	(9416, 948.5, 15, 1.0036, NULL, NULL),
-	(9417, 948.5, 15.25, 1.0034, NULL, NULL),
-	(9418, 948.5, 15.5, 1.0032, NULL, NULL),
-	(9419, 948.5, 15.75, 1.0031, NULL, NULL),
-	(9420, 948.5, 16, 1.0029, NULL, NULL),
-	(9421, 948.5, 16.25, 1.0027, NULL, NULL),
-	(9422, 948.5, 16.5, 1.0025, NULL, NULL),
-	(9423, 948.5, 16.75, 1.0023, NULL, NULL),
-	(9424, 948.5, 17, 1.0022, NULL, NULL),
-	(9425, 948.5, 17.25, 1.002, NULL, NULL),
-	(9426, 948.5, 17.5, 1.0018, NULL, NULL),
-	(9427, 948.5, 17.75, 1.0016, NULL, NULL),
-	(9428, 948.5, 18, 1.0014, NULL, NULL),
-	(9429, 948.5, 18.25, 1.0013, NULL, NULL),
-	(9430, 948.5, 18.5, 1.0011, NULL, NULL),
-	(9431, 948.5, 18.75, 1.0009, NULL, NULL),
-	(9432, 948.5, 19, 1.0007, NULL, NULL),
-	(9433, 948.5, 19.25, 1.0005, NULL, NULL),
-	(9434, 948.5, 19.5, 1.0004, NULL, NULL),
-	(9435, 948.5, 19.75, 1.0002, NULL, NULL),
-	(9436, 948.5, 20, 1, NULL, NULL),
-	(9437, 948.5, 20.25, 0.9998, NULL, NULL),
-	(9438, 948.5, 20.5, 0.9996, NULL, NULL),
-	(9439, 948.5, 20.75, 0.9995, NULL, NULL),
-	(9440, 948.5, 21, 0.9993, NULL, NULL),
-	(9441, 948.5, 21.25, 0.9991, NULL, NULL),
-	(9442, 948.5, 21.5, 0.9989, NULL, NULL),
-	(9443, 948.5, 21.75, 0.9987, NULL, NULL),
-	(9444, 948.5, 22, 0.9986, NULL, NULL),
-	(9445, 948.5, 22.25, 0.9984, NULL, NULL),
-	(9446, 948.5, 22.5, 0.9982, NULL, NULL),
-	(9447, 948.5, 22.75, 0.998, NULL, NULL),
-	(9448, 948.5, 23, 0.9978, NULL, NULL),
-	(9449, 948.5, 23.25, 0.9977, NULL, NULL),
-	(9450, 948.5, 23.5, 0.9975, NULL, NULL),
-	(9451, 948.5, 23.75, 0.9973, NULL, NULL),
-	(9452, 948.5, 24, 0.9971, NULL, NULL),
-	(9453, 948.5, 24.25, 0.9969, NULL, NULL),
-	(9454, 948.5, 24.5, 0.9968, NULL, NULL),
-	(9455, 948.5, 24.75, 0.9966, NULL, NULL),
-	(9456, 948.5, 25, 0.9964, NULL, NULL),
-	(9457, 948.5, 25.25, 0.9962, NULL, NULL),
-	(9458, 948.5, 25.5, 0.996, NULL, NULL),
-	(9459, 948.5, 25.75, 0.9958, NULL, NULL),
-	(9460, 948.5, 26, 0.9957, NULL, NULL),
-	(9461, 948.5, 26.25, 0.9955, NULL, NULL),
-	(9462, 948.5, 26.5, 0.9953, NULL, NULL),
-	(9463, 948.5, 26.75, 0.9951, NULL, NULL),
-	(9464, 948.5, 27, 0.9949, NULL, NULL),
-	(9465, 948.5, 27.25, 0.9948, NULL, NULL),
-	(9466, 948.5, 27.5, 0.9946, NULL, NULL),
-	(9467, 948.5, 27.75, 0.9944, NULL, NULL),
-	(9468, 948.5, 28, 0.9942, NULL, NULL),
-	(9469, 948.5, 28.25, 0.994, NULL, NULL),
-	(9470, 948.5, 28.5, 0.9939, NULL, NULL),
-	(9471, 948.5, 28.75, 0.9937, NULL, NULL),
-	(9472, 948.5, 29, 0.9935, NULL, NULL),
-	(9473, 948.5, 29.25, 0.9933, NULL, NULL),
-	(9474, 948.5, 29.5, 0.9931, NULL, NULL),
-	(9475, 948.5, 29.75, 0.993, NULL, NULL),
-	(9476, 948.5, 30, 0.9928, NULL, NULL),
-	(9477, 948.5, 30.25, 0.9926, NULL, NULL),
-	(9478, 948.5, 30.5, 0.9924, NULL, NULL),
-	(9479, 948.5, 30.75, 0.9922, NULL, NULL),
-	(9480, 948.5, 31, 0.992, NULL, NULL),
-	(9481, 948.5, 31.25, 0.9919, NULL, NULL),
-	(9482, 948.5, 31.75, 0.991, NULL, NULL),
-	(9483, 948.5, 32, 0.9913, NULL, NULL),
-	(9484, 948.5, 32.25, 0.9911, NULL, NULL),
-	(9485, 948.5, 32.5, 0.991, NULL, NULL),
-	(9486, 948.5, 32.75, 0.9908, NULL, NULL),
-	(9487, 948.5, 33, 0.9906, NULL, NULL),
-	(9488, 948.5, 33.25, 0.9904, NULL, NULL),
-	(9489, 948.5, 33.5, 0.9902, NULL, NULL),
-	(9490, 948.5, 33.75, 0.9901, NULL, NULL),
-	(9491, 948.5, 34, 0.9899, NULL, NULL),
-	(9492, 948.5, 34.25, 0.9897, NULL, NULL),
-	(9493, 948.5, 34.5, 0.9895, NULL, NULL),
-	(9494, 948.5, 34.75, 0.9893, NULL, NULL),
-	(9495, 948.5, 35, 0.9891, NULL, NULL),
-	(9496, 948.5, 35.25, 0.989, NULL, NULL),
-	(9497, 948.5, 35.5, 0.9888, NULL, NULL),
-	(9498, 948.5, 35.75, 0.9886, NULL, NULL),
-	(9499, 948.5, 36, 0.9884, NULL, NULL),
-	(9500, 948.5, 36.25, 0.9882, NULL, NULL),
-	(9501, 948.5, 36.5, 0.9881, NULL, NULL),
-	(9502, 948.5, 36.75, 0.9879, NULL, NULL),
-	(9503, 948.5, 37, 0.9877, NULL, NULL),
-	(9504, 948.5, 37.25, 0.9875, NULL, NULL),
-	(9505, 948.5, 37.5, 0.9873, NULL, NULL),
-	(9506, 948.5, 37.75, 0.9872, NULL, NULL),
-	(9507, 948.5, 38, 0.987, NULL, NULL),
-	(9508, 948.5, 38.25, 0.9868, NULL, NULL),
-	(9509, 948.5, 38.5, 0.9866, NULL, NULL),
-	(9510, 948.5, 38.75, 0.9864, NULL, NULL),
-	(9511, 948.5, 39, 0.9862, NULL, NULL),
-	(9512, 948.5, 39.25, 0.9861, NULL, NULL),
-	(9513, 948.5, 39.5, 0.9859, NULL, NULL),
-	(9514, 948.5, 39.75, 0.9857, NULL, NULL),
-	(9515, 948.5, 40, 0.9855, NULL, NULL),
-	(9516, 948.5, 40.25, 0.9853, NULL, NULL),
-	(9517, 948.5, 40.5, 0.9852, NULL, NULL),
-	(9518, 948.5, 40.75, 0.985, NULL, NULL),
-	(9519, 948.5, 41, 0.9848, NULL, NULL),
-	(9520, 948.5, 41.25, 0.9846, NULL, NULL),
-	(9521, 948.5, 41.5, 0.9844, NULL, NULL),
-	(9522, 948.5, 41.75, 0.9842, NULL, NULL),
-	(9523, 948.5, 42, 0.9841, NULL, NULL),
-	(9524, 948.5, 42.25, 0.9839, NULL, NULL),
-	(9525, 948.5, 42.5, 0.9837, NULL, NULL),
-	(9526, 948.5, 42.75, 0.9835, NULL, NULL),
-	(9527, 948.5, 43, 0.9833, NULL, NULL),
-	(9528, 948.5, 43.25, 0.9832, NULL, NULL),
-	(9529, 948.5, 43.5, 0.983, NULL, NULL),
-	(9530, 948.5, 43.75, 0.9828, NULL, NULL),
-	(9531, 948.5, 44, 0.9826, NULL, NULL),
-	(9532, 948.5, 44.25, 0.9824, NULL, NULL),
-	(9533, 948.5, 44.5, 0.9822, NULL, NULL),
-	(9534, 948.5, 44.75, 0.9821, NULL, NULL),
-	(9535, 948.5, 45, 0.9819, NULL, NULL),
-	(9536, 948.5, 45.25, 0.9817, NULL, NULL),
-	(9537, 948.5, 45.5, 0.9815, NULL, NULL),
-	(9538, 948.5, 45.75, 0.9813, NULL, NULL),
-	(9539, 948.5, 46, 0.9812, NULL, NULL),
-	(9540, 948.5, 46.25, 0.981, NULL, NULL),
-	(9541, 948.5, 46.5, 0.9808, NULL, NULL),
-	(9542, 948.5, 46.75, 0.9806, NULL, NULL),
-	(9543, 948.5, 47, 0.9804, NULL, NULL),
-	(9544, 948.5, 47.25, 0.9802, NULL, NULL),
-	(9545, 948.5, 47.5, 0.9801, NULL, NULL),
-	(9546, 948.5, 47.75, 0.9799, NULL, NULL),
-	(9547, 948.5, 48, 0.9797, NULL, NULL),
-	(9548, 948.5, 48.25, 0.9795, NULL, NULL),
-	(9549, 948.5, 48.5, 0.9793, NULL, NULL),
-	(9550, 948.5, 48.75, 0.9791, NULL, NULL),
-	(9551, 948.5, 49, 0.979, NULL, NULL),
-	(9552, 948.5, 49.25, 0.9788, NULL, NULL),
-	(9553, 948.5, 49.5, 0.9786, NULL, NULL),
-	(9554, 948.5, 49.75, 0.9784, NULL, NULL),
-	(9555, 948.5, 50, 0.9782, NULL, NULL),
-	(9556, 949, 15, 1.0036, NULL, NULL),
-	(9557, 949, 15.25, 1.0034, NULL, NULL),
-	(9558, 949, 15.5, 1.0032, NULL, NULL),
-	(9559, 949, 15.75, 1.0031, NULL, NULL),
-	(9560, 949, 16, 1.0029, NULL, NULL),
-	(9561, 949, 16.25, 1.0027, NULL, NULL),
-	(9562, 949, 16.5, 1.0025, NULL, NULL),
-	(9563, 949, 16.75, 1.0023, NULL, NULL),
-	(9564, 949, 17, 1.0022, NULL, NULL),
-	(9565, 949, 17.25, 1.002, NULL, NULL),
-	(9566, 949, 17.5, 1.0018, NULL, NULL),
-	(9567, 949, 17.75, 1.0016, NULL, NULL),
-	(9568, 949, 18, 1.0014, NULL, NULL),
-	(9569, 949, 18.25, 1.0013, NULL, NULL),
-	(9570, 949, 18.5, 1.0011, NULL, NULL),
-	(9571, 949, 18.75, 1.0009, NULL, NULL),
-	(9572, 949, 19, 1.0007, NULL, NULL),
-	(9573, 949, 19.25, 1.0005, NULL, NULL),
-	(9574, 949, 19.5, 1.0004, NULL, NULL),
-	(9575, 949, 19.75, 1.0002, NULL, NULL),
-	(9576, 949, 20, 1, NULL, NULL),
-	(9577, 949, 20.25, 0.9998, NULL, NULL),
-	(9578, 949, 20.5, 0.9996, NULL, NULL),
-	(9579, 949, 20.75, 0.9995, NULL, NULL),
-	(9580, 949, 21, 0.9993, NULL, NULL),
-	(9581, 949, 21.25, 0.9991, NULL, NULL),
-	(9582, 949, 21.5, 0.9989, NULL, NULL),
-	(9583, 949, 21.75, 0.9987, NULL, NULL),
-	(9584, 949, 22, 0.9986, NULL, NULL),
-	(9585, 949, 22.25, 0.9984, NULL, NULL),
-	(9586, 949, 22.5, 0.9982, NULL, NULL),
-	(9587, 949, 22.75, 0.998, NULL, NULL),
-	(9588, 949, 23, 0.9978, NULL, NULL),
-	(9589, 949, 23.25, 0.9977, NULL, NULL),
-	(9590, 949, 23.5, 0.9975, NULL, NULL),
-	(9591, 949, 23.75, 0.9973, NULL, NULL),
-	(9592, 949, 24, 0.9971, NULL, NULL),
-	(9593, 949, 24.25, 0.9969, NULL, NULL),
-	(9594, 949, 24.5, 0.9968, NULL, NULL),
-	(9595, 949, 24.75, 0.9966, NULL, NULL),
-	(9596, 949, 25, 0.9964, NULL, NULL),
-	(9597, 949, 25.25, 0.9962, NULL, NULL),
-	(9598, 949, 25.5, 0.996, NULL, NULL),
-	(9599, 949, 25.75, 0.9959, NULL, NULL),
-	(9600, 949, 26, 0.9957, NULL, NULL),
-	(9601, 949, 26.25, 0.9955, NULL, NULL),
-	(9602, 949, 26.5, 0.9953, NULL, NULL),
-	(9603, 949, 26.75, 0.9951, NULL, NULL),
-	(9604, 949, 27, 0.9949, NULL, NULL),
-	(9605, 949, 27.25, 0.9948, NULL, NULL),
-	(9606, 949, 27.5, 0.9946, NULL, NULL),
-	(9607, 949, 27.75, 0.9944, NULL, NULL),
-	(9608, 949, 28, 0.9942, NULL, NULL),
-	(9609, 949, 28.25, 0.994, NULL, NULL),
-	(9610, 949, 28.5, 0.9939, NULL, NULL),
-	(9611, 949, 28.75, 0.9937, NULL, NULL),
-	(9612, 949, 29, 0.9935, NULL, NULL),
-	(9613, 949, 29.25, 0.9933, NULL, NULL),
-	(9614, 949, 29.5, 0.9931, NULL, NULL),
-	(9615, 949, 29.75, 0.993, NULL, NULL),
-	(9616, 949, 30, 0.9928, NULL, NULL),
-	(9617, 949, 30.25, 0.9926, NULL, NULL),
-	(9618, 949, 30.5, 0.9924, NULL, NULL),
-	(9619, 949, 30.75, 0.9922, NULL, NULL),
-	(9620, 949, 31, 0.9921, NULL, NULL),
-	(9621, 949, 31.25, 0.9919, NULL, NULL),
-	(9622, 949, 31.5, 0.9917, NULL, NULL),
-	(9623, 949, 31.75, 0.9915, NULL, NULL),
-	(9624, 949, 32, 0.9913, NULL, NULL),
-	(9625, 949, 32.25, 0.9911, NULL, NULL),
-	(9626, 949, 32.5, 0.991, NULL, NULL),
-	(9627, 949, 32.75, 0.9908, NULL, NULL),
-	(9628, 949, 33, 0.9906, NULL, NULL),
-	(9629, 949, 33.25, 0.9904, NULL, NULL),
-	(9630, 949, 33.5, 0.9902, NULL, NULL),
-	(9631, 949, 33.75, 0.9901, NULL, NULL),
-	(9632, 949, 34, 0.9899, NULL, NULL),
-	(9633, 949, 34.25, 0.9897, NULL, NULL),
-	(9634, 949, 34.5, 0.9895, NULL, NULL),
-	(9635, 949, 34.75, 0.9893, NULL, NULL),
-	(9636, 949, 35, 0.9892, NULL, NULL),
-	(9637, 949, 35.25, 0.989, NULL, NULL),
-	(9638, 949, 35.5, 0.9888, NULL, NULL),
-	(9639, 949, 35.75, 0.9886, NULL, NULL),
-	(9640, 949, 36, 0.9884, NULL, NULL),
-	(9641, 949, 36.25, 0.9882, NULL, NULL),
-	(9642, 949, 36.5, 0.9881, NULL, NULL),
-	(9643, 949, 36.75, 0.9879, NULL, NULL),
-	(9644, 949, 37, 0.9877, NULL, NULL),
-	(9645, 949, 37.25, 0.9875, NULL, NULL),
-	(9646, 949, 37.5, 0.9873, NULL, NULL),
-	(9647, 949, 37.75, 0.9872, NULL, NULL),
-	(9648, 949, 38, 0.987, NULL, NULL),
-	(9649, 949, 38.25, 0.9868, NULL, NULL),
-	(9650, 949, 38.5, 0.9866, NULL, NULL),
-	(9651, 949, 38.75, 0.9864, NULL, NULL),
-	(9652, 949, 39, 0.9863, NULL, NULL),
-	(9653, 949, 39.25, 0.9861, NULL, NULL),
-	(9654, 949, 39.5, 0.9859, NULL, NULL),
-	(9655, 949, 39.75, 0.9857, NULL, NULL),
-	(9656, 949, 40, 0.9855, NULL, NULL),
-	(9657, 949, 40.25, 0.9853, NULL, NULL),
-	(9658, 949, 40.5, 0.9852, NULL, NULL),
-	(9659, 949, 40.75, 0.985, NULL, NULL),
-	(9660, 949, 41, 0.9848, NULL, NULL),
-	(9661, 949, 41.25, 0.9846, NULL, NULL),
-	(9662, 949, 41.5, 0.9844, NULL, NULL),
-	(9663, 949, 41.75, 0.9843, NULL, NULL),
-	(9664, 949, 42, 0.9841, NULL, NULL),
-	(9665, 949, 42.25, 0.9839, NULL, NULL),
-	(9666, 949, 42.5, 0.9837, NULL, NULL),
-	(9667, 949, 42.75, 0.9835, NULL, NULL),
-	(9668, 949, 43, 0.9833, NULL, NULL),
-	(9669, 949, 43.25, 0.9832, NULL, NULL),
-	(9670, 949, 43.5, 0.983, NULL, NULL),
-	(9671, 949, 43.75, 0.9828, NULL, NULL),
-	(9672, 949, 44, 0.9826, NULL, NULL),
-	(9673, 949, 44.25, 0.9824, NULL, NULL),
-	(9674, 949, 44.5, 0.9823, NULL, NULL),
-	(9675, 949, 44.75, 0.9821, NULL, NULL),
-	(9676, 949, 45, 0.9819, NULL, NULL),
-	(9677, 949, 45.25, 0.9817, NULL, NULL),
-	(9678, 949, 45.5, 0.9815, NULL, NULL),
-	(9679, 949, 45.75, 0.9813, NULL, NULL),
-	(9680, 949, 46, 0.9812, NULL, NULL),
-	(9681, 949, 46.25, 0.981, NULL, NULL),
-	(9682, 949, 46.5, 0.9808, NULL, NULL),
-	(9683, 949, 46.75, 0.9806, NULL, NULL),
-	(9684, 949, 47, 0.9804, NULL, NULL),
-	(9685, 949, 47.25, 0.9803, NULL, NULL),
-	(9686, 949, 47.5, 0.9801, NULL, NULL),
-	(9687, 949, 47.75, 0.9799, NULL, NULL),
-	(9688, 949, 48, 0.9797, NULL, NULL),
-	(9689, 949, 48.25, 0.9795, NULL, NULL),
-	(9690, 949, 48.5, 0.9793, NULL, NULL),
-	(9691, 949, 48.75, 0.9792, NULL, NULL),
-	(9692, 949, 49, 0.979, NULL, NULL),
-	(9693, 949, 49.25, 0.9788, NULL, NULL),
-	(9694, 949, 49.5, 0.9786, NULL, NULL),
-	(9695, 949, 49.75, 0.9784, NULL, NULL),
-	(9696, 949, 50, 0.9782, NULL, NULL),
-	(9697, 949.5, 15, 1.0036, NULL, NULL),
-	(9698, 949.5, 15.25, 1.0034, NULL, NULL),
-	(9699, 949.5, 15.5, 1.0032, NULL, NULL),
-	(9700, 949.5, 15.75, 1.0031, NULL, NULL),
-	(9701, 949.5, 16, 1.0029, NULL, NULL),
-	(9702, 949.5, 16.25, 1.0027, NULL, NULL),
-	(9703, 949.5, 16.5, 1.0025, NULL, NULL),
-	(9704, 949.5, 16.75, 1.0023, NULL, NULL),
-	(9705, 949.5, 17, 1.0022, NULL, NULL),
-	(9706, 949.5, 17.25, 1.002, NULL, NULL),
-	(9707, 949.5, 17.5, 1.0018, NULL, NULL),
-	(9708, 949.5, 17.75, 1.0016, NULL, NULL),
-	(9709, 949.5, 18, 1.0014, NULL, NULL),
-	(9710, 949.5, 18.25, 1.0013, NULL, NULL),
-	(9711, 949.5, 18.5, 1.0011, NULL, NULL),
-	(9712, 949.5, 18.75, 1.0009, NULL, NULL),
-	(9713, 949.5, 19, 1.0007, NULL, NULL),
-	(9714, 949.5, 19.25, 1.0005, NULL, NULL),
-	(9715, 949.5, 19.5, 1.0004, NULL, NULL),
-	(9716, 949.5, 19.75, 1.0002, NULL, NULL),
-	(9717, 949.5, 20, 1, NULL, NULL),
-	(9718, 949.5, 20.25, 0.9998, NULL, NULL),
-	(9719, 949.5, 20.5, 0.9996, NULL, NULL),
-	(9720, 949.5, 20.75, 0.9995, NULL, NULL),
-	(9721, 949.5, 21, 0.9993, NULL, NULL),
-	(9722, 949.5, 21.25, 0.9991, NULL, NULL),
-	(9723, 949.5, 21.5, 0.9989, NULL, NULL),
-	(9724, 949.5, 21.75, 0.9987, NULL, NULL),
-	(9725, 949.5, 22, 0.9986, NULL, NULL),
-	(9726, 949.5, 22.25, 0.9984, NULL, NULL),
-	(9727, 949.5, 22.5, 0.9982, NULL, NULL),
-	(9728, 949.5, 22.75, 0.998, NULL, NULL),
-	(9729, 949.5, 23, 0.9978, NULL, NULL),
-	(9730, 949.5, 23.25, 0.9977, NULL, NULL),
-	(9731, 949.5, 23.5, 0.9975, NULL, NULL),
-	(9732, 949.5, 23.75, 0.9973, NULL, NULL),
-	(9733, 949.5, 24, 0.9971, NULL, NULL),
-	(9734, 949.5, 24.25, 0.9969, NULL, NULL),
-	(9735, 949.5, 24.5, 0.9968, NULL, NULL),
-	(9736, 949.5, 24.75, 0.9966, NULL, NULL),
-	(9737, 949.5, 25, 0.9964, NULL, NULL),
-	(9738, 949.5, 25.25, 0.9962, NULL, NULL),
-	(9739, 949.5, 25.5, 0.996, NULL, NULL),
-	(9740, 949.5, 25.75, 0.9959, NULL, NULL),
-	(9741, 949.5, 26, 0.9957, NULL, NULL),
-	(9742, 949.5, 26.25, 0.9955, NULL, NULL),
-	(9743, 949.5, 26.5, 0.9953, NULL, NULL),
-	(9744, 949.5, 26.75, 0.9951, NULL, NULL),
-	(9745, 949.5, 27, 0.995, NULL, NULL),
-	(9746, 949.5, 27.25, 0.9948, NULL, NULL),
-	(9747, 949.5, 27.5, 0.9946, NULL, NULL),
-	(9748, 949.5, 27.75, 0.9944, NULL, NULL),
-	(9749, 949.5, 28, 0.9942, NULL, NULL),
-	(9750, 949.5, 28.25, 0.994, NULL, NULL),
-	(9751, 949.5, 28.5, 0.9939, NULL, NULL),
-	(9752, 949.5, 28.75, 0.9937, NULL, NULL),
-	(9753, 949.5, 29, 0.9935, NULL, NULL),
-	(9754, 949.5, 29.25, 0.9933, NULL, NULL),
-	(9755, 949.5, 29.5, 0.9931, NULL, NULL),
-	(9756, 949.5, 29.75, 0.993, NULL, NULL),
-	(9757, 949.5, 30, 0.9928, NULL, NULL),
-	(9758, 949.5, 30.25, 0.9926, NULL, NULL),
-	(9759, 949.5, 30.5, 0.9924, NULL, NULL),
-	(9760, 949.5, 30.75, 0.9922, NULL, NULL),
-	(9761, 949.5, 31, 0.9921, NULL, NULL),
-	(9762, 949.5, 31.25, 0.9919, NULL, NULL),
-	(9763, 949.5, 31.5, 0.9917, NULL, NULL),
-	(9764, 949.5, 31.75, 0.9915, NULL, NULL),
-	(9765, 949.5, 32, 0.9913, NULL, NULL),
-	(9766, 949.5, 32.25, 0.9912, NULL, NULL),
-	(9767, 949.5, 32.5, 0.991, NULL, NULL),
-	(9768, 949.5, 32.75, 0.9908, NULL, NULL),
-	(9769, 949.5, 33, 0.9906, NULL, NULL),
-	(9770, 949.5, 33.25, 0.9904, NULL, NULL),
-	(9771, 949.5, 33.5, 0.9903, NULL, NULL),
-	(9772, 949.5, 33.75, 0.9901, NULL, NULL),
-	(9773, 949.5, 34, 0.9899, NULL, NULL),
-	(9774, 949.5, 34.25, 0.9897, NULL, NULL),
-	(9775, 949.5, 34.5, 0.9895, NULL, NULL),
-	(9776, 949.5, 34.75, 0.9893, NULL, NULL),
-	(9777, 949.5, 35, 0.9892, NULL, NULL),
-	(9778, 949.5, 35.25, 0.989, NULL, NULL),
-	(9779, 949.5, 35.5, 0.9888, NULL, NULL),
-	(9780, 949.5, 35.75, 0.9886, NULL, NULL),
-	(9781, 949.5, 36, 0.9884, NULL, NULL),
-	(9782, 949.5, 36.25, 0.9883, NULL, NULL),
-	(9783, 949.5, 36.5, 0.9881, NULL, NULL),
-	(9784, 949.5, 36.75, 0.9879, NULL, NULL),
-	(9785, 949.5, 37, 0.9877, NULL, NULL),
-	(9786, 949.5, 37.25, 0.9875, NULL, NULL),
-	(9787, 949.5, 37.5, 0.9874, NULL, NULL),
-	(9788, 949.5, 37.75, 0.9872, NULL, NULL),
-	(9789, 949.5, 38, 0.987, NULL, NULL),
-	(9790, 949.5, 38.25, 0.9868, NULL, NULL),
-	(9791, 949.5, 38.5, 0.9866, NULL, NULL),
-	(9792, 949.5, 38.75, 0.9864, NULL, NULL),
-	(9793, 949.5, 39, 0.9863, NULL, NULL),
-	(9794, 949.5, 39.25, 0.9861, NULL, NULL),
-	(9795, 949.5, 39.5, 0.9859, NULL, NULL),
-	(9796, 949.5, 39.75, 0.9857, NULL, NULL),
-	(9797, 949.5, 40, 0.9855, NULL, NULL),
-	(9798, 949.5, 40.25, 0.9854, NULL, NULL),
-	(9799, 949.5, 40.5, 0.9852, NULL, NULL),
-	(9800, 949.5, 40.75, 0.985, NULL, NULL),
-	(9801, 949.5, 41, 0.9848, NULL, NULL),
-	(9802, 949.5, 41.25, 0.9846, NULL, NULL),
-	(9803, 949.5, 41.5, 0.9844, NULL, NULL),
-	(9804, 949.5, 41.75, 0.9843, NULL, NULL),
-	(9805, 949.5, 42, 0.9841, NULL, NULL),
-	(9806, 949.5, 42.25, 0.9839, NULL, NULL),
-	(9807, 949.5, 42.5, 0.9837, NULL, NULL),
-	(9808, 949.5, 42.75, 0.9835, NULL, NULL),
-	(9809, 949.5, 43, 0.9834, NULL, NULL),
-	(9810, 949.5, 43.25, 0.9832, NULL, NULL),
-	(9811, 949.5, 43.5, 0.983, NULL, NULL),
-	(9812, 949.5, 43.75, 0.9828, NULL, NULL),
-	(9813, 949.5, 44, 0.9826, NULL, NULL),
-	(9814, 949.5, 44.25, 0.9824, NULL, NULL),
-	(9815, 949.5, 44.5, 0.9823, NULL, NULL),
-	(9816, 949.5, 44.75, 0.9821, NULL, NULL),
-	(9817, 949.5, 45, 0.9819, NULL, NULL),
-	(9818, 949.5, 45.25, 0.9817, NULL, NULL),
-	(9819, 949.5, 45.5, 0.9815, NULL, NULL),
-	(9820, 949.5, 45.75, 0.9814, NULL, NULL),
-	(9821, 949.5, 46, 0.9812, NULL, NULL),
-	(9822, 949.5, 46.25, 0.981, NULL, NULL),
-	(9823, 949.5, 46.5, 0.9808, NULL, NULL),
-	(9824, 949.5, 46.75, 0.9806, NULL, NULL),
-	(9825, 949.5, 47, 0.9804, NULL, NULL),
-	(9826, 949.5, 47.25, 0.9803, NULL, NULL),
-	(9827, 949.5, 47.5, 0.9801, NULL, NULL),
-	(9828, 949.5, 47.75, 0.9799, NULL, NULL),
-	(9829, 949.5, 48, 0.9797, NULL, NULL),
-	(9830, 949.5, 48.25, 0.9795, NULL, NULL),
-	(9831, 949.5, 48.5, 0.9794, NULL, NULL),
-	(9832, 949.5, 48.75, 0.9792, NULL, NULL),
-	(9833, 949.5, 49, 0.979, NULL, NULL),
-	(9834, 949.5, 49.25, 0.9788, NULL, NULL),
-	(9835, 949.5, 49.5, 0.9786, NULL, NULL),
-	(9836, 949.5, 49.75, 0.9784, NULL, NULL),
-	(9837, 949.5, 50, 0.9783, NULL, NULL),
-	(9838, 950, 15, 1.0036, NULL, NULL),
-	(9839, 950, 15.25, 1.0034, NULL, NULL),
-	(9840, 950, 15.5, 1.0032, NULL, NULL),
-	(9841, 950, 15.75, 1.0031, NULL, NULL),
-	(9842, 950, 16, 1.0029, NULL, NULL),
-	(9843, 950, 16.25, 1.0027, NULL, NULL),
-	(9844, 950, 16.5, 1.0025, NULL, NULL),
-	(9845, 950, 16.75, 1.0023, NULL, NULL),
-	(9846, 950, 17, 1.0022, NULL, NULL),
-	(9847, 950, 17.25, 1.002, NULL, NULL),
-	(9848, 950, 17.5, 1.0018, NULL, NULL),
-	(9849, 950, 17.75, 1.0016, NULL, NULL),
-	(9850, 950, 18, 1.0014, NULL, NULL),
-	(9851, 950, 18.25, 1.0013, NULL, NULL),
-	(9852, 950, 18.5, 1.0011, NULL, NULL),
-	(9853, 950, 18.75, 1.0009, NULL, NULL),
-	(9854, 950, 19, 1.0007, NULL, NULL),
-	(9855, 950, 19.25, 1.0005, NULL, NULL),
-	(9856, 950, 19.5, 1.0004, NULL, NULL),
-	(9857, 950, 19.75, 1.0002, NULL, NULL),
-	(9858, 950, 20, 1, NULL, NULL),
-	(9859, 950, 20.25, 0.9998, NULL, NULL),
-	(9860, 950, 20.5, 0.9996, NULL, NULL),
-	(9861, 950, 20.75, 0.9995, NULL, NULL),
-	(9862, 950, 21, 0.9993, NULL, NULL),
-	(9863, 950, 21.25, 0.9991, NULL, NULL),
-	(9864, 950, 21.5, 0.9989, NULL, NULL),
-	(9865, 950, 21.75, 0.9987, NULL, NULL),
-	(9866, 950, 22, 0.9986, NULL, NULL),
-	(9867, 950, 22.25, 0.9984, NULL, NULL),
-	(9868, 950, 22.5, 0.9982, NULL, NULL),
-	(9869, 950, 22.75, 0.998, NULL, NULL),
-	(9870, 950, 23, 0.9978, NULL, NULL),
-	(9871, 950, 23.25, 0.9977, NULL, NULL),
-	(9872, 950, 23.5, 0.9975, NULL, NULL),
-	(9873, 950, 23.75, 0.9973, NULL, NULL),
-	(9874, 950, 24, 0.9971, NULL, NULL),
-	(9875, 950, 24.25, 0.9969, NULL, NULL),
-	(9876, 950, 24.5, 0.9968, NULL, NULL),
-	(9877, 950, 24.75, 0.9966, NULL, NULL),
-	(9878, 950, 25, 0.9964, NULL, NULL),
-	(9879, 950, 25.25, 0.9962, NULL, NULL),
-	(9880, 950, 25.5, 0.996, NULL, NULL),
-	(9881, 950, 25.75, 0.9959, NULL, NULL),
-	(9882, 950, 26, 0.9957, NULL, NULL),
-	(9883, 950, 26.25, 0.9955, NULL, NULL),
-	(9884, 950, 26.5, 0.9953, NULL, NULL),
-	(9885, 950, 26.75, 0.9951, NULL, NULL),
-	(9886, 950, 27, 0.995, NULL, NULL),
-	(9887, 950, 27.25, 0.9948, NULL, NULL),
-	(9888, 950, 27.5, 0.9946, NULL, NULL),
-	(9889, 950, 27.75, 0.9944, NULL, NULL),
-	(9890, 950, 28, 0.9942, NULL, NULL),
-	(9891, 950, 28.25, 0.9941, NULL, NULL),
-	(9892, 950, 28.5, 0.9939, NULL, NULL),
-	(9893, 950, 28.75, 0.9937, NULL, NULL),
-	(9894, 950, 29, 0.9935, NULL, NULL),
-	(9895, 950, 29.25, 0.9933, NULL, NULL),
-	(9896, 950, 29.5, 0.9931, NULL, NULL),
-	(9897, 950, 29.75, 0.993, NULL, NULL),
-	(9898, 950, 30, 0.9928, NULL, NULL),
-	(9899, 950, 30.25, 0.9926, NULL, NULL),
-	(9900, 950, 30.5, 0.9924, NULL, NULL),
-	(9901, 950, 30.75, 0.9922, NULL, NULL),
-	(9902, 950, 31, 0.9921, NULL, NULL),
-	(9903, 950, 31.25, 0.9919, NULL, NULL),
-	(9904, 950, 31.5, 0.9917, NULL, NULL),
-	(9905, 950, 31.75, 0.9915, NULL, NULL),
-	(9906, 950, 32, 0.9913, NULL, NULL),
-	(9907, 950, 32.25, 0.9912, NULL, NULL),
-	(9908, 950, 32.5, 0.991, NULL, NULL),
-	(9909, 950, 32.75, 0.9908, NULL, NULL),
-	(9910, 950, 33, 0.9906, NULL, NULL),
-	(9911, 950, 33.25, 0.9904, NULL, NULL),
-	(9912, 950, 33.5, 0.9903, NULL, NULL),
-	(9913, 950, 33.75, 0.9901, NULL, NULL),
-	(9914, 950, 34, 0.9899, NULL, NULL),
-	(9915, 950, 34.25, 0.9897, NULL, NULL),
-	(9916, 950, 34.5, 0.9895, NULL, NULL),
-	(9917, 950, 34.75, 0.9894, NULL, NULL),
-	(9918, 950, 35, 0.9892, NULL, NULL),
-	(9919, 950, 35.25, 0.989, NULL, NULL),
-	(9920, 950, 35.5, 0.9888, NULL, NULL),
-	(9921, 950, 35.75, 0.9886, NULL, NULL),
-	(9922, 950, 36, 0.9884, NULL, NULL),
-	(9923, 950, 36.25, 0.9883, NULL, NULL),
-	(9924, 950, 36.5, 0.9881, NULL, NULL),
-	(9925, 950, 36.75, 0.9879, NULL, NULL),
-	(9926, 950, 37, 0.9877, NULL, NULL),
-	(9927, 950, 37.25, 0.9875, NULL, NULL),
-	(9928, 950, 37.5, 0.9874, NULL, NULL),
-	(9929, 950, 37.75, 0.9872, NULL, NULL),
-	(9930, 950, 38, 0.987, NULL, NULL),
-	(9931, 950, 38.25, 0.9868, NULL, NULL),
-	(9932, 950, 38.5, 0.9866, NULL, NULL),
-	(9933, 950, 38.75, 0.9865, NULL, NULL),
-	(9934, 950, 39, 0.9863, NULL, NULL),
-	(9935, 950, 39.25, 0.9861, NULL, NULL),
-	(9936, 950, 39.5, 0.9859, NULL, NULL),
-	(9937, 950, 39.75, 0.9857, NULL, NULL),
-	(9938, 950, 40, 0.9855, NULL, NULL),
-	(9939, 950, 40.25, 0.9854, NULL, NULL),
-	(9940, 950, 40.5, 0.9852, NULL, NULL),
-	(9941, 950, 40.75, 0.985, NULL, NULL),
-	(9942, 950, 41, 0.9848, NULL, NULL),
-	(9943, 950, 41.25, 0.9846, NULL, NULL),
-	(9944, 950, 41.5, 0.9845, NULL, NULL),
-	(9945, 950, 41.75, 0.9843, NULL, NULL),
-	(9946, 950, 42, 0.9841, NULL, NULL),
-	(9947, 950, 42.25, 0.9839, NULL, NULL),
-	(9948, 950, 42.5, 0.9837, NULL, NULL),
-	(9949, 950, 42.75, 0.9835, NULL, NULL),
-	(9950, 950, 43, 0.9834, NULL, NULL),
-	(9951, 950, 43.25, 0.9832, NULL, NULL),
-	(9952, 950, 43.5, 0.983, NULL, NULL),
-	(9953, 950, 43.75, 0.9828, NULL, NULL),
-	(9954, 950, 44, 0.9826, NULL, NULL),
-	(9955, 950, 44.25, 0.9825, NULL, NULL),
-	(9956, 950, 44.5, 0.9823, NULL, NULL),
-	(9957, 950, 44.75, 0.9821, NULL, NULL),
-	(9958, 950, 45, 0.9819, NULL, NULL),
-	(9959, 950, 45.25, 0.9817, NULL, NULL),
-	(9960, 950, 45.5, 0.9816, NULL, NULL),
-	(9961, 950, 45.75, 0.9814, NULL, NULL),
-	(9962, 950, 46, 0.9812, NULL, NULL),
-	(9963, 950, 46.25, 0.981, NULL, NULL),
-	(9964, 950, 46.5, 0.9808, NULL, NULL),
-	(9965, 950, 46.75, 0.9806, NULL, NULL),
-	(9966, 950, 47, 0.9805, NULL, NULL),
-	(9967, 950, 47.25, 0.9803, NULL, NULL),
-	(9968, 950, 47.5, 0.9801, NULL, NULL),
-	(9969, 950, 47.75, 0.9799, NULL, NULL),
-	(9970, 950, 48, 0.9797, NULL, NULL),
-	(9971, 950, 48.25, 0.9796, NULL, NULL),
-	(9972, 950, 48.5, 0.9794, NULL, NULL),
-	(9973, 950, 48.75, 0.9792, NULL, NULL),
-	(9974, 950, 49, 0.979, NULL, NULL),
-	(9975, 950, 49.25, 0.9788, NULL, NULL),
-	(9976, 950, 49.5, 0.9786, NULL, NULL),
-	(9977, 950, 49.75, 0.9785, NULL, NULL),
-	(9978, 950, 50, 0.9783, NULL, NULL),
-	(9979, 950.5, 15, 1.0036, NULL, NULL),
-	(9980, 950.5, 15.25, 1.0034, NULL, NULL),
-	(9981, 950.5, 15.5, 1.0032, NULL, NULL),
-	(9982, 950.5, 15.75, 1.0031, NULL, NULL),
-	(9983, 950.5, 16, 1.0029, NULL, NULL),
-	(9984, 950.5, 16.25, 1.0027, NULL, NULL),
-	(9985, 950.5, 16.5, 1.0025, NULL, NULL),
-	(9986, 950.5, 16.75, 1.0023, NULL, NULL),
-	(9987, 950.5, 17, 1.0022, NULL, NULL),
-	(9988, 950.5, 17.25, 1.002, NULL, NULL),
-	(9989, 950.5, 17.5, 1.0018, NULL, NULL),
-	(9990, 950.5, 17.75, 1.0016, NULL, NULL),
-	(9991, 950.5, 18, 1.0014, NULL, NULL),
-	(9992, 950.5, 18.25, 1.0013, NULL, NULL),
-	(9993, 950.5, 18.5, 1.0011, NULL, NULL),
-	(9994, 950.5, 18.75, 1.0009, NULL, NULL),
-	(9995, 950.5, 19, 1.0007, NULL, NULL),
-	(9996, 950.5, 19.25, 1.0005, NULL, NULL),
-	(9997, 950.5, 19.5, 1.0004, NULL, NULL),
-	(9998, 950.5, 19.75, 1.0002, NULL, NULL),
-	(9999, 950.5, 20, 1, NULL, NULL),
-	(10000, 950.5, 20.25, 0.9998, NULL, NULL);
-INSERT INTO `table60b` (`id`, `density`, `temperature`, `vcf`, `class`, `vcf2`) VALUES
-	(10001, 950.5, 20.5, 0.9996, NULL, NULL),
-	(10002, 950.5, 20.75, 0.9995, NULL, NULL),
-	(10003, 950.5, 21, 0.9993, NULL, NULL),
-	(10004, 950.5, 21.25, 0.9991, NULL, NULL),
-	(10005, 950.5, 21.5, 0.9989, NULL, NULL),
-	(10006, 950.5, 21.75, 0.9987, NULL, NULL),
-	(10007, 950.5, 22, 0.9986, NULL, NULL),
-	(10008, 950.5, 22.25, 0.9984, NULL, NULL),
-	(10009, 950.5, 22.5, 0.9982, NULL, NULL),
-	(10010, 950.5, 22.75, 0.998, NULL, NULL),
-	(10011, 950.5, 23, 0.9978, NULL, NULL),
-	(10012, 950.5, 23.25, 0.9977, NULL, NULL),
-	(10013, 950.5, 23.5, 0.9975, NULL, NULL),
-	(10014, 950.5, 23.75, 0.9973, NULL, NULL),
-	(10015, 950.5, 24, 0.9971, NULL, NULL),
-	(10016, 950.5, 24.25, 0.9969, NULL, NULL),
-	(10017, 950.5, 24.5, 0.9968, NULL, NULL),
-	(10018, 950.5, 24.75, 0.9966, NULL, NULL),
-	(10019, 950.5, 25, 0.9964, NULL, NULL),
-	(10020, 950.5, 25.25, 0.9962, NULL, NULL),
-	(10021, 950.5, 25.5, 0.996, NULL, NULL),
-	(10022, 950.5, 25.75, 0.9959, NULL, NULL),
-	(10023, 950.5, 26, 0.9957, NULL, NULL),
-	(10024, 950.5, 26.25, 0.9955, NULL, NULL),
-	(10025, 950.5, 26.5, 0.9953, NULL, NULL),
-	(10026, 950.5, 26.75, 0.9951, NULL, NULL),
-	(10027, 950.5, 27, 0.995, NULL, NULL),
-	(10028, 950.5, 27.25, 0.9948, NULL, NULL),
-	(10029, 950.5, 27.5, 0.9946, NULL, NULL),
-	(10030, 950.5, 27.75, 0.9944, NULL, NULL),
-	(10031, 950.5, 28, 0.9942, NULL, NULL),
-	(10032, 950.5, 28.25, 0.9941, NULL, NULL),
-	(10033, 950.5, 28.5, 0.9939, NULL, NULL),
-	(10034, 950.5, 28.75, 0.9937, NULL, NULL),
-	(10035, 950.5, 29, 0.9935, NULL, NULL),
-	(10036, 950.5, 29.25, 0.9933, NULL, NULL),
-	(10037, 950.5, 29.5, 0.9932, NULL, NULL),
-	(10038, 950.5, 29.75, 0.993, NULL, NULL),
-	(10039, 950.5, 30, 0.9928, NULL, NULL),
-	(10040, 950.5, 30.25, 0.9926, NULL, NULL),
-	(10041, 950.5, 30.5, 0.9924, NULL, NULL),
-	(10042, 950.5, 30.75, 0.9923, NULL, NULL),
-	(10043, 950.5, 31, 0.9921, NULL, NULL),
-	(10044, 950.5, 31.25, 0.9919, NULL, NULL),
-	(10045, 950.5, 31.5, 0.9917, NULL, NULL),
-	(10046, 950.5, 31.75, 0.9915, NULL, NULL),
-	(10047, 950.5, 32, 0.9913, NULL, NULL),
-	(10048, 950.5, 32.25, 0.9912, NULL, NULL),
-	(10049, 950.5, 32.5, 0.991, NULL, NULL),
-	(10050, 950.5, 32.75, 0.9908, NULL, NULL),
-	(10051, 950.5, 33, 0.9906, NULL, NULL),
-	(10052, 950.5, 33.25, 0.9904, NULL, NULL),
-	(10053, 950.5, 33.5, 0.9903, NULL, NULL),
-	(10054, 950.5, 33.75, 0.9901, NULL, NULL),
-	(10055, 950.5, 34, 0.9899, NULL, NULL),
-	(10056, 950.5, 34.25, 0.9897, NULL, NULL),
-	(10057, 950.5, 34.5, 0.9895, NULL, NULL),
-	(10058, 950.5, 34.75, 0.9894, NULL, NULL),
-	(10059, 950.5, 35, 0.9892, NULL, NULL),
-	(10060, 950.5, 35.25, 0.989, NULL, NULL),
-	(10061, 950.5, 35.5, 0.9888, NULL, NULL),
-	(10062, 950.5, 35.75, 0.9886, NULL, NULL),
-	(10063, 950.5, 36, 0.9885, NULL, NULL),
-	(10064, 950.5, 36.25, 0.9883, NULL, NULL),
-	(10065, 950.5, 36.5, 0.9881, NULL, NULL),
-	(10066, 950.5, 36.75, 0.9879, NULL, NULL),
-	(10067, 950.5, 37, 0.9877, NULL, NULL),
-	(10068, 950.5, 37.25, 0.9875, NULL, NULL),
-	(10069, 950.5, 37.5, 0.9874, NULL, NULL),
-	(10070, 950.5, 37.75, 0.9872, NULL, NULL),
-	(10071, 950.5, 38, 0.987, NULL, NULL),
-	(10072, 950.5, 38.25, 0.9868, NULL, NULL),
-	(10073, 950.5, 38.5, 0.9866, NULL, NULL),
-	(10074, 950.5, 38.75, 0.9865, NULL, NULL),
-	(10075, 950.5, 39, 0.9863, NULL, NULL),
-	(10076, 950.5, 39.25, 0.9861, NULL, NULL),
-	(10077, 950.5, 39.5, 0.9859, NULL, NULL),
-	(10078, 950.5, 39.75, 0.9857, NULL, NULL),
-	(10079, 950.5, 40, 0.9856, NULL, NULL),
-	(10080, 950.5, 40.25, 0.9854, NULL, NULL),
-	(10081, 950.5, 40.5, 0.9852, NULL, NULL),
-	(10082, 950.5, 40.75, 0.985, NULL, NULL),
-	(10083, 950.5, 41, 0.9848, NULL, NULL),
-	(10084, 950.5, 41.25, 0.9846, NULL, NULL),
-	(10085, 950.5, 41.5, 0.9845, NULL, NULL),
-	(10086, 950.5, 41.75, 0.9843, NULL, NULL),
-	(10087, 950.5, 42, 0.9841, NULL, NULL),
-	(10088, 950.5, 42.25, 0.9839, NULL, NULL),
-	(10089, 950.5, 42.5, 0.9837, NULL, NULL),
-	(10090, 950.5, 42.75, 0.9836, NULL, NULL),
-	(10091, 950.5, 43, 0.9834, NULL, NULL),
-	(10092, 950.5, 43.25, 0.9832, NULL, NULL),
-	(10093, 950.5, 43.5, 0.983, NULL, NULL),
-	(10094, 950.5, 43.75, 0.9828, NULL, NULL),
-	(10095, 950.5, 44, 0.9827, NULL, NULL),
-	(10096, 950.5, 44.25, 0.9825, NULL, NULL),
-	(10097, 950.5, 44.5, 0.9823, NULL, NULL),
-	(10098, 950.5, 44.75, 0.9821, NULL, NULL),
-	(10099, 950.5, 45, 0.9819, NULL, NULL),
-	(10100, 950.5, 45.25, 0.9817, NULL, NULL),
-	(10101, 950.5, 45.5, 0.9816, NULL, NULL),
-	(10102, 950.5, 45.75, 0.9814, NULL, NULL),
-	(10103, 950.5, 46, 0.9812, NULL, NULL),
-	(10104, 950.5, 46.25, 0.981, NULL, NULL),
-	(10105, 950.5, 46.5, 0.9808, NULL, NULL),
-	(10106, 950.5, 46.75, 0.9807, NULL, NULL),
-	(10107, 950.5, 47, 0.9805, NULL, NULL),
-	(10108, 950.5, 47.25, 0.9803, NULL, NULL),
-	(10109, 950.5, 47.5, 0.9801, NULL, NULL),
-	(10110, 950.5, 47.75, 0.9799, NULL, NULL),
-	(10111, 950.5, 48, 0.9797, NULL, NULL),
-	(10112, 950.5, 48.25, 0.9796, NULL, NULL),
-	(10113, 950.5, 48.5, 0.9794, NULL, NULL),
-	(10114, 950.5, 48.75, 0.9792, NULL, NULL),
-	(10115, 950.5, 49, 0.979, NULL, NULL),
-	(10116, 950.5, 49.25, 0.9788, NULL, NULL),
-	(10117, 950.5, 49.5, 0.9787, NULL, NULL),
-	(10118, 950.5, 49.75, 0.9785, NULL, NULL),
-	(10119, 950.5, 50, 0.9783, NULL, NULL),
-	(10120, 954, 15, 1.0036, NULL, NULL),
-	(10121, 954, 15.25, 1.0034, NULL, NULL),
-	(10122, 954, 15.5, 1.0032, NULL, NULL),
-	(10123, 954, 15.75, 1.003, NULL, NULL),
-	(10124, 954, 16, 1.0029, NULL, NULL),
-	(10125, 954, 16.25, 1.0027, NULL, NULL),
-	(10126, 954, 16.5, 1.0025, NULL, NULL),
-	(10127, 954, 16.75, 1.0023, NULL, NULL),
-	(10128, 954, 17, 1.0021, NULL, NULL),
-	(10129, 954, 17.25, 1.002, NULL, NULL),
-	(10130, 954, 17.5, 1.0018, NULL, NULL),
-	(10131, 954, 17.75, 1.0016, NULL, NULL),
-	(10132, 954, 18, 1.0014, NULL, NULL),
-	(10133, 954, 18.25, 1.0013, NULL, NULL),
-	(10134, 954, 18.5, 1.0011, NULL, NULL),
-	(10135, 954, 18.75, 1.0009, NULL, NULL),
-	(10136, 954, 19, 1.0007, NULL, NULL),
-	(10137, 954, 19.25, 1.0005, NULL, NULL),
-	(10138, 954, 19.5, 1.0004, NULL, NULL),
-	(10139, 954, 19.75, 1.0002, NULL, NULL),
-	(10140, 954, 20, 1, NULL, NULL),
-	(10141, 954, 20.25, 0.9998, NULL, NULL),
-	(10142, 954, 20.5, 0.9996, NULL, NULL),
-	(10143, 954, 20.75, 0.9995, NULL, NULL),
-	(10144, 954, 21, 0.9993, NULL, NULL),
-	(10145, 954, 21.25, 0.9991, NULL, NULL),
-	(10146, 954, 21.5, 0.9989, NULL, NULL),
-	(10147, 954, 21.75, 0.9987, NULL, NULL),
-	(10148, 954, 22, 0.9986, NULL, NULL),
-	(10149, 954, 22.25, 0.9984, NULL, NULL),
-	(10150, 954, 22.5, 0.9982, NULL, NULL),
-	(10151, 954, 22.75, 0.998, NULL, NULL),
-	(10152, 954, 23, 0.9979, NULL, NULL),
-	(10153, 954, 23.25, 0.9977, NULL, NULL),
-	(10154, 954, 23.5, 0.9975, NULL, NULL),
-	(10155, 954, 23.75, 0.9973, NULL, NULL),
-	(10156, 954, 24, 0.9971, NULL, NULL),
-	(10157, 954, 24.25, 0.997, NULL, NULL),
-	(10158, 954, 24.5, 0.9968, NULL, NULL),
-	(10159, 954, 24.75, 0.9966, NULL, NULL),
-	(10160, 954, 25, 0.9964, NULL, NULL),
-	(10161, 954, 25.25, 0.9962, NULL, NULL),
-	(10162, 954, 25.5, 0.9961, NULL, NULL),
-	(10163, 954, 25.75, 0.9959, NULL, NULL),
-	(10164, 954, 26, 0.9957, NULL, NULL),
-	(10165, 954, 26.25, 0.9955, NULL, NULL),
-	(10166, 954, 26.5, 0.9953, NULL, NULL),
-	(10167, 954, 26.75, 0.9952, NULL, NULL),
-	(10168, 954, 27, 0.995, NULL, NULL),
-	(10169, 954, 27.25, 0.9948, NULL, NULL),
-	(10170, 954, 27.5, 0.9946, NULL, NULL),
-	(10171, 954, 27.75, 0.9944, NULL, NULL),
-	(10172, 954, 28, 0.9943, NULL, NULL),
-	(10173, 954, 28.25, 0.9941, NULL, NULL),
-	(10174, 954, 28.5, 0.9939, NULL, NULL),
-	(10175, 954, 28.75, 0.9937, NULL, NULL),
-	(10176, 954, 29, 0.9935, NULL, NULL),
-	(10177, 954, 29.25, 0.9934, NULL, NULL),
-	(10178, 954, 29.5, 0.9932, NULL, NULL),
-	(10179, 954, 29.75, 0.993, NULL, NULL),
-	(10180, 954, 30, 0.9928, NULL, NULL),
-	(10181, 954, 30.25, 0.9926, NULL, NULL),
-	(10182, 954, 30.5, 0.9925, NULL, NULL),
-	(10183, 954, 30.75, 0.9923, NULL, NULL),
-	(10184, 954, 31, 0.9921, NULL, NULL),
-	(10185, 954, 31.25, 0.9919, NULL, NULL),
-	(10186, 954, 31.5, 0.9917, NULL, NULL),
-	(10187, 954, 31.75, 0.9916, NULL, NULL),
-	(10188, 954, 32, 0.9914, NULL, NULL),
-	(10189, 954, 32.25, 0.9912, NULL, NULL),
-	(10190, 954, 32.5, 0.991, NULL, NULL),
-	(10191, 954, 32.75, 0.9908, NULL, NULL),
-	(10192, 954, 33, 0.9907, NULL, NULL),
-	(10193, 954, 33.25, 0.9905, NULL, NULL),
-	(10194, 954, 33.5, 0.9903, NULL, NULL),
-	(10195, 954, 33.75, 0.9901, NULL, NULL),
-	(10196, 954, 34, 0.9899, NULL, NULL),
-	(10197, 954, 34.25, 0.9898, NULL, NULL),
-	(10198, 954, 34.5, 0.9896, NULL, NULL),
-	(10199, 954, 34.75, 0.9894, NULL, NULL),
-	(10200, 954, 35, 0.9892, NULL, NULL),
-	(10201, 954, 35.25, 0.989, NULL, NULL),
-	(10202, 954, 35.5, 0.9889, NULL, NULL),
-	(10203, 954, 35.75, 0.9887, NULL, NULL),
-	(10204, 954, 36, 0.9885, NULL, NULL),
-	(10205, 954, 36.25, 0.9883, NULL, NULL),
-	(10206, 954, 36.5, 0.9881, NULL, NULL),
-	(10207, 954, 36.75, 0.988, NULL, NULL),
-	(10208, 954, 37, 0.9878, NULL, NULL),
-	(10209, 954, 37.25, 0.9876, NULL, NULL),
-	(10210, 954, 37.5, 0.9874, NULL, NULL),
-	(10211, 954, 37.75, 0.9872, NULL, NULL),
-	(10212, 954, 38, 0.9871, NULL, NULL),
-	(10213, 954, 38.25, 0.9869, NULL, NULL),
-	(10214, 954, 38.5, 0.9867, NULL, NULL),
-	(10215, 954, 38.75, 0.9865, NULL, NULL),
-	(10216, 954, 39, 0.9863, NULL, NULL),
-	(10217, 954, 39.25, 0.9862, NULL, NULL),
-	(10218, 954, 39.5, 0.986, NULL, NULL),
-	(10219, 954, 39.75, 0.9858, NULL, NULL),
-	(10220, 954, 40, 0.9856, NULL, NULL),
-	(10221, 954, 40.25, 0.9854, NULL, NULL),
-	(10222, 954, 40.5, 0.9853, NULL, NULL),
-	(10223, 954, 40.75, 0.9851, NULL, NULL),
-	(10224, 954, 41, 0.9849, NULL, NULL),
-	(10225, 954, 41.25, 0.9847, NULL, NULL),
-	(10226, 954, 41.5, 0.9845, NULL, NULL),
-	(10227, 954, 41.75, 0.9844, NULL, NULL),
-	(10228, 954, 42, 0.9842, NULL, NULL),
-	(10229, 954, 42.25, 0.984, NULL, NULL),
-	(10230, 954, 42.5, 0.9838, NULL, NULL),
-	(10231, 954, 42.75, 0.9836, NULL, NULL),
-	(10232, 954, 43, 0.9835, NULL, NULL),
-	(10233, 954, 43.25, 0.9833, NULL, NULL),
-	(10234, 954, 43.5, 0.9831, NULL, NULL),
-	(10235, 954, 43.75, 0.9829, NULL, NULL),
-	(10236, 954, 44, 0.9827, NULL, NULL),
-	(10237, 954, 44.25, 0.9826, NULL, NULL),
-	(10238, 954, 44.5, 0.9824, NULL, NULL),
-	(10239, 954, 44.75, 0.9822, NULL, NULL),
-	(10240, 954, 45, 0.982, NULL, NULL),
-	(10241, 954, 45.25, 0.9818, NULL, NULL),
-	(10242, 954, 45.5, 0.9817, NULL, NULL),
-	(10243, 954, 45.75, 0.9815, NULL, NULL),
-	(10244, 954, 46, 0.9813, NULL, NULL),
-	(10245, 954, 46.25, 0.9811, NULL, NULL),
-	(10246, 954, 46.5, 0.9809, NULL, NULL),
-	(10247, 954, 46.75, 0.9807, NULL, NULL),
-	(10248, 954, 47, 0.9806, NULL, NULL),
-	(10249, 954, 47.25, 0.9804, NULL, NULL),
-	(10250, 954, 47.5, 0.9802, NULL, NULL),
-	(10251, 954, 47.75, 0.98, NULL, NULL),
-	(10252, 954, 48, 0.9798, NULL, NULL),
-	(10253, 954, 48.25, 0.9797, NULL, NULL),
-	(10254, 954, 48.5, 0.9795, NULL, NULL),
-	(10255, 954, 48.75, 0.9793, NULL, NULL),
-	(10256, 954, 49, 0.9791, NULL, NULL),
-	(10257, 954, 49.25, 0.9789, NULL, NULL),
-	(10258, 954, 49.5, 0.9788, NULL, NULL),
-	(10259, 954, 49.75, 0.9786, NULL, NULL),
-	(10260, 954, 50, 0.9784, NULL, NULL),
-	(10261, 954.5, 15, 1.0036, NULL, NULL),
-	(10262, 954.5, 15.25, 1.0034, NULL, NULL),
-	(10263, 954.5, 15.5, 1.0032, NULL, NULL),
-	(10264, 954.5, 15.75, 1.003, NULL, NULL),
-	(10265, 954.5, 16, 1.0029, NULL, NULL),
-	(10266, 954.5, 16.25, 1.0027, NULL, NULL),
-	(10267, 954.5, 16.5, 1.0025, NULL, NULL),
-	(10268, 954.5, 16.75, 1.0023, NULL, NULL),
-	(10269, 954.5, 17, 1.0021, NULL, NULL),
-	(10270, 954.5, 17.25, 1.002, NULL, NULL),
-	(10271, 954.5, 17.5, 1.0018, NULL, NULL),
-	(10272, 954.5, 17.75, 1.0016, NULL, NULL),
-	(10273, 954.5, 18, 1.0014, NULL, NULL),
-	(10274, 954.5, 18.25, 1.0013, NULL, NULL),
-	(10275, 954.5, 18.5, 1.0011, NULL, NULL),
-	(10276, 954.5, 18.75, 1.0009, NULL, NULL),
-	(10277, 954.5, 19, 1.0007, NULL, NULL),
-	(10278, 954.5, 19.25, 1.0005, NULL, NULL),
-	(10279, 954.5, 19.5, 1.0004, NULL, NULL),
-	(10280, 954.5, 19.75, 1.0002, NULL, NULL),
-	(10281, 954.5, 20, 1, NULL, NULL),
-	(10282, 954.5, 20.25, 0.9998, NULL, NULL),
-	(10283, 954.5, 20.5, 0.9996, NULL, NULL),
-	(10284, 954.5, 20.75, 0.9995, NULL, NULL),
-	(10285, 954.5, 21, 0.9993, NULL, NULL),
-	(10286, 954.5, 21.25, 0.9991, NULL, NULL),
-	(10287, 954.5, 21.5, 0.9989, NULL, NULL),
-	(10288, 954.5, 21.75, 0.9987, NULL, NULL),
-	(10289, 954.5, 22, 0.9986, NULL, NULL),
-	(10290, 954.5, 22.25, 0.9984, NULL, NULL),
-	(10291, 954.5, 22.5, 0.9982, NULL, NULL),
-	(10292, 954.5, 22.75, 0.998, NULL, NULL),
-	(10293, 954.5, 23, 0.9979, NULL, NULL),
-	(10294, 954.5, 23.25, 0.9977, NULL, NULL),
-	(10295, 954.5, 23.5, 0.9975, NULL, NULL),
-	(10296, 954.5, 23.75, 0.9973, NULL, NULL),
-	(10297, 954.5, 24, 0.9971, NULL, NULL),
-	(10298, 954.5, 24.25, 0.997, NULL, NULL),
-	(10299, 954.5, 24.5, 0.9968, NULL, NULL),
-	(10300, 954.5, 24.75, 0.9966, NULL, NULL),
-	(10301, 954.5, 25, 0.9964, NULL, NULL),
-	(10302, 954.5, 25.25, 0.9962, NULL, NULL),
-	(10303, 954.5, 25.5, 0.9961, NULL, NULL),
-	(10304, 954.5, 25.75, 0.9959, NULL, NULL),
-	(10305, 954.5, 26, 0.9957, NULL, NULL),
-	(10306, 954.5, 26.25, 0.9955, NULL, NULL),
-	(10307, 954.5, 26.5, 0.9953, NULL, NULL),
-	(10308, 954.5, 26.75, 0.9952, NULL, NULL),
-	(10309, 954.5, 27, 0.995, NULL, NULL),
-	(10310, 954.5, 27.25, 0.9948, NULL, NULL),
-	(10311, 954.5, 27.5, 0.9946, NULL, NULL),
-	(10312, 954.5, 27.75, 0.9944, NULL, NULL),
-	(10313, 954.5, 28, 0.9943, NULL, NULL),
-	(10314, 954.5, 28.25, 0.9941, NULL, NULL),
-	(10315, 954.5, 28.5, 0.9939, NULL, NULL),
-	(10316, 954.5, 28.75, 0.9937, NULL, NULL),
-	(10317, 954.5, 29, 0.9935, NULL, NULL),
-	(10318, 954.5, 29.25, 0.9934, NULL, NULL),
-	(10319, 954.5, 29.5, 0.9932, NULL, NULL),
-	(10320, 954.5, 29.75, 0.993, NULL, NULL),
-	(10321, 954.5, 30, 0.9928, NULL, NULL),
-	(10322, 954.5, 30.25, 0.9927, NULL, NULL),
-	(10323, 954.5, 30.5, 0.9925, NULL, NULL),
-	(10324, 954.5, 30.75, 0.9923, NULL, NULL),
-	(10325, 954.5, 31, 0.9921, NULL, NULL),
-	(10326, 954.5, 31.25, 0.9919, NULL, NULL),
-	(10327, 954.5, 31.5, 0.9918, NULL, NULL),
-	(10328, 954.5, 31.75, 0.9916, NULL, NULL),
-	(10329, 954.5, 32, 0.9914, NULL, NULL),
-	(10330, 954.5, 32.25, 0.9912, NULL, NULL),
-	(10331, 954.5, 32.5, 0.991, NULL, NULL),
-	(10332, 954.5, 32.75, 0.9909, NULL, NULL),
-	(10333, 954.5, 33, 0.9907, NULL, NULL),
-	(10334, 954.5, 33.25, 0.9905, NULL, NULL),
-	(10335, 954.5, 33.5, 0.9903, NULL, NULL),
-	(10336, 954.5, 33.75, 0.9901, NULL, NULL),
-	(10337, 954.5, 34, 0.99, NULL, NULL),
-	(10338, 954.5, 34.25, 0.9898, NULL, NULL),
-	(10339, 954.5, 34.5, 0.9896, NULL, NULL),
-	(10340, 954.5, 34.75, 0.9894, NULL, NULL),
-	(10341, 954.5, 35, 0.9892, NULL, NULL),
-	(10342, 954.5, 35.25, 0.9891, NULL, NULL),
-	(10343, 954.5, 35.5, 0.9889, NULL, NULL),
-	(10344, 954.5, 35.75, 0.9887, NULL, NULL),
-	(10345, 954.5, 36, 0.9885, NULL, NULL),
-	(10346, 954.5, 36.25, 0.9883, NULL, NULL),
-	(10347, 954.5, 36.5, 0.9882, NULL, NULL),
-	(10348, 954.5, 36.75, 0.988, NULL, NULL),
-	(10349, 954.5, 37, 0.9878, NULL, NULL),
-	(10350, 954.5, 37.25, 0.9876, NULL, NULL),
-	(10351, 954.5, 37.5, 0.9874, NULL, NULL),
-	(10352, 954.5, 37.75, 0.9873, NULL, NULL),
-	(10353, 954.5, 38, 0.9871, NULL, NULL),
-	(10354, 954.5, 38.25, 0.9869, NULL, NULL),
-	(10355, 954.5, 38.5, 0.9867, NULL, NULL),
-	(10356, 954.5, 38.75, 0.9865, NULL, NULL),
-	(10357, 954.5, 39, 0.9864, NULL, NULL),
-	(10358, 954.5, 39.25, 0.9862, NULL, NULL),
-	(10359, 954.5, 39.5, 0.986, NULL, NULL),
-	(10360, 954.5, 39.75, 0.9858, NULL, NULL),
-	(10361, 954.5, 40, 0.9856, NULL, NULL),
-	(10362, 954.5, 40.25, 0.9855, NULL, NULL),
-	(10363, 954.5, 40.5, 0.9853, NULL, NULL),
-	(10364, 954.5, 40.75, 0.9851, NULL, NULL),
-	(10365, 954.5, 41, 0.9849, NULL, NULL),
-	(10366, 954.5, 41.25, 0.9847, NULL, NULL),
-	(10367, 954.5, 41.5, 0.9846, NULL, NULL),
-	(10368, 954.5, 41.75, 0.9844, NULL, NULL),
-	(10369, 954.5, 42, 0.9842, NULL, NULL),
-	(10370, 954.5, 42.25, 0.984, NULL, NULL),
-	(10371, 954.5, 42.5, 0.9838, NULL, NULL),
-	(10372, 954.5, 42.75, 0.9837, NULL, NULL),
-	(10373, 954.5, 43, 0.9835, NULL, NULL),
-	(10374, 954.5, 43.25, 0.9833, NULL, NULL),
-	(10375, 954.5, 43.5, 0.9831, NULL, NULL),
-	(10376, 954.5, 43.75, 0.9829, NULL, NULL),
-	(10377, 954.5, 44, 0.9827, NULL, NULL),
-	(10378, 954.5, 44.25, 0.9826, NULL, NULL),
-	(10379, 954.5, 44.5, 0.9824, NULL, NULL),
-	(10380, 954.5, 44.75, 0.9822, NULL, NULL),
-	(10381, 954.5, 45, 0.982, NULL, NULL),
-	(10382, 954.5, 45.25, 0.9818, NULL, NULL),
-	(10383, 954.5, 45.5, 0.9817, NULL, NULL),
-	(10384, 954.5, 45.75, 0.9815, NULL, NULL),
-	(10385, 954.5, 46, 0.9813, NULL, NULL),
-	(10386, 954.5, 46.25, 0.9811, NULL, NULL),
-	(10387, 954.5, 46.5, 0.9809, NULL, NULL),
-	(10388, 954.5, 46.75, 0.9808, NULL, NULL),
-	(10389, 954.5, 47, 0.9806, NULL, NULL),
-	(10390, 954.5, 47.25, 0.9804, NULL, NULL),
-	(10391, 954.5, 47.5, 0.9802, NULL, NULL),
-	(10392, 954.5, 47.75, 0.98, NULL, NULL),
-	(10393, 954.5, 48, 0.9799, NULL, NULL),
-	(10394, 954.5, 48.25, 0.9797, NULL, NULL),
-	(10395, 954.5, 48.5, 0.9795, NULL, NULL),
-	(10396, 954.5, 48.75, 0.9793, NULL, NULL),
-	(10397, 954.5, 49, 0.9791, NULL, NULL),
-	(10398, 954.5, 49.25, 0.979, NULL, NULL),
-	(10399, 954.5, 49.5, 0.9788, NULL, NULL),
-	(10400, 954.5, 49.75, 0.9786, NULL, NULL),
-	(10401, 954.5, 50, 0.9784, NULL, NULL),
-	(10402, 955, 15, 1.0036, NULL, NULL),
-	(10403, 955, 15.25, 1.0034, NULL, NULL),
-	(10404, 955, 15.5, 1.0032, NULL, NULL),
-	(10405, 955, 15.75, 1.003, NULL, NULL),
-	(10406, 955, 16, 1.0029, NULL, NULL),
-	(10407, 955, 16.25, 1.0027, NULL, NULL),
-	(10408, 955, 16.5, 1.0025, NULL, NULL),
-	(10409, 955, 16.75, 1.0023, NULL, NULL),
-	(10410, 955, 17, 1.0021, NULL, NULL),
-	(10411, 955, 17.25, 1.002, NULL, NULL),
-	(10412, 955, 17.5, 1.0018, NULL, NULL),
-	(10413, 955, 17.75, 1.0016, NULL, NULL),
-	(10414, 955, 18, 1.0014, NULL, NULL),
-	(10415, 955, 18.25, 1.0013, NULL, NULL),
-	(10416, 955, 18.5, 1.0011, NULL, NULL),
-	(10417, 955, 18.75, 1.0009, NULL, NULL),
-	(10418, 955, 19, 1.0007, NULL, NULL),
-	(10419, 955, 19.25, 1.0005, NULL, NULL),
-	(10420, 955, 19.5, 1.0004, NULL, NULL),
-	(10421, 955, 19.75, 1.0002, NULL, NULL),
-	(10422, 955, 20, 1, NULL, NULL),
-	(10423, 955, 20.25, 0.9998, NULL, NULL),
-	(10424, 955, 20.5, 0.9996, NULL, NULL),
-	(10425, 955, 20.75, 0.9995, NULL, NULL),
-	(10426, 955, 21, 0.9993, NULL, NULL),
-	(10427, 955, 21.25, 0.9991, NULL, NULL),
-	(10428, 955, 21.5, 0.9989, NULL, NULL),
-	(10429, 955, 21.75, 0.9987, NULL, NULL),
-	(10430, 955, 22, 0.9986, NULL, NULL),
-	(10431, 955, 22.25, 0.9984, NULL, NULL),
-	(10432, 955, 22.5, 0.9982, NULL, NULL),
-	(10433, 955, 22.75, 0.998, NULL, NULL),
-	(10434, 955, 23, 0.9979, NULL, NULL),
-	(10435, 955, 23.25, 0.9977, NULL, NULL),
-	(10436, 955, 23.5, 0.9975, NULL, NULL),
-	(10437, 955, 23.75, 0.9973, NULL, NULL),
-	(10438, 955, 24, 0.9971, NULL, NULL),
-	(10439, 955, 24.25, 0.997, NULL, NULL),
-	(10440, 955, 24.5, 0.9968, NULL, NULL),
-	(10441, 955, 24.75, 0.9966, NULL, NULL),
-	(10442, 955, 25, 0.9964, NULL, NULL),
-	(10443, 955, 25.25, 0.9962, NULL, NULL),
-	(10444, 955, 25.5, 0.9961, NULL, NULL),
-	(10445, 955, 25.75, 0.9959, NULL, NULL),
-	(10446, 955, 26, 0.9957, NULL, NULL),
-	(10447, 955, 26.25, 0.9955, NULL, NULL),
-	(10448, 955, 26.5, 0.9953, NULL, NULL),
-	(10449, 955, 26.75, 0.9952, NULL, NULL),
-	(10450, 955, 27, 0.995, NULL, NULL),
-	(10451, 955, 27.25, 0.9948, NULL, NULL),
-	(10452, 955, 27.5, 0.9946, NULL, NULL),
-	(10453, 955, 27.75, 0.9945, NULL, NULL),
-	(10454, 955, 28, 0.9943, NULL, NULL),
-	(10455, 955, 28.25, 0.9941, NULL, NULL),
-	(10456, 955, 28.5, 0.9939, NULL, NULL),
-	(10457, 955, 28.75, 0.9937, NULL, NULL),
-	(10458, 955, 29, 0.9936, NULL, NULL),
-	(10459, 955, 29.25, 0.9934, NULL, NULL),
-	(10460, 955, 29.5, 0.9932, NULL, NULL),
-	(10461, 955, 29.75, 0.993, NULL, NULL),
-	(10462, 955, 30, 0.9928, NULL, NULL),
-	(10463, 955, 30.25, 0.9927, NULL, NULL),
-	(10464, 955, 30.5, 0.9925, NULL, NULL),
-	(10465, 955, 30.75, 0.9923, NULL, NULL),
-	(10466, 955, 31, 0.9921, NULL, NULL),
-	(10467, 955, 31.25, 0.9919, NULL, NULL),
-	(10468, 955, 31.5, 0.9918, NULL, NULL),
-	(10469, 955, 31.75, 0.9916, NULL, NULL),
-	(10470, 955, 32, 0.9914, NULL, NULL),
-	(10471, 955, 32.25, 0.9912, NULL, NULL),
-	(10472, 955, 32.5, 0.991, NULL, NULL),
-	(10473, 955, 32.75, 0.9909, NULL, NULL),
-	(10474, 955, 33, 0.9907, NULL, NULL),
-	(10475, 955, 33.25, 0.9905, NULL, NULL),
-	(10476, 955, 33.5, 0.9903, NULL, NULL),
-	(10477, 955, 33.75, 0.9901, NULL, NULL),
-	(10478, 955, 34, 0.99, NULL, NULL),
-	(10479, 955, 34.25, 0.9898, NULL, NULL),
-	(10480, 955, 34.5, 0.9896, NULL, NULL),
-	(10481, 955, 34.75, 0.9894, NULL, NULL),
-	(10482, 955, 35, 0.9892, NULL, NULL),
-	(10483, 955, 35.25, 0.9891, NULL, NULL),
-	(10484, 955, 35.5, 0.9889, NULL, NULL),
-	(10485, 955, 35.75, 0.9887, NULL, NULL),
-	(10486, 955, 36, 0.9885, NULL, NULL),
-	(10487, 955, 36.25, 0.9883, NULL, NULL),
-	(10488, 955, 36.5, 0.9882, NULL, NULL),
-	(10489, 955, 36.75, 0.988, NULL, NULL),
-	(10490, 955, 37, 0.9878, NULL, NULL),
-	(10491, 955, 37.25, 0.9876, NULL, NULL),
-	(10492, 955, 37.5, 0.9874, NULL, NULL),
-	(10493, 955, 37.75, 0.9873, NULL, NULL),
-	(10494, 955, 38, 0.9871, NULL, NULL),
-	(10495, 955, 38.25, 0.9869, NULL, NULL),
-	(10496, 955, 38.5, 0.9867, NULL, NULL),
-	(10497, 955, 38.75, 0.9865, NULL, NULL),
-	(10498, 955, 39, 0.9864, NULL, NULL),
-	(10499, 955, 39.25, 0.9862, NULL, NULL),
-	(10500, 955, 39.5, 0.986, NULL, NULL),
-	(10501, 955, 39.75, 0.9858, NULL, NULL),
-	(10502, 955, 40, 0.9856, NULL, NULL),
-	(10503, 955, 40.25, 0.9855, NULL, NULL),
-	(10504, 955, 40.5, 0.9853, NULL, NULL),
-	(10505, 955, 40.75, 0.9851, NULL, NULL),
-	(10506, 955, 41, 0.9849, NULL, NULL),
-	(10507, 955, 41.25, 0.9847, NULL, NULL),
-	(10508, 955, 41.5, 0.9846, NULL, NULL),
-	(10509, 955, 41.75, 0.9844, NULL, NULL),
-	(10510, 955, 42, 0.9842, NULL, NULL),
-	(10511, 955, 42.25, 0.984, NULL, NULL),
-	(10512, 955, 42.5, 0.9838, NULL, NULL),
-	(10513, 955, 42.75, 0.9837, NULL, NULL),
-	(10514, 955, 43, 0.9835, NULL, NULL),
-	(10515, 955, 43.25, 0.9833, NULL, NULL),
-	(10516, 955, 43.5, 0.9831, NULL, NULL),
-	(10517, 955, 43.75, 0.9829, NULL, NULL),
-	(10518, 955, 44, 0.9828, NULL, NULL),
-	(10519, 955, 44.25, 0.9826, NULL, NULL),
-	(10520, 955, 44.5, 0.9824, NULL, NULL),
-	(10521, 955, 44.75, 0.9822, NULL, NULL),
-	(10522, 955, 45, 0.982, NULL, NULL),
-	(10523, 955, 45.25, 0.9819, NULL, NULL),
-	(10524, 955, 45.5, 0.9817, NULL, NULL),
-	(10525, 955, 45.75, 0.9815, NULL, NULL),
-	(10526, 955, 46, 0.9813, NULL, NULL),
-	(10527, 955, 46.25, 0.9811, NULL, NULL),
-	(10528, 955, 46.5, 0.981, NULL, NULL),
-	(10529, 955, 46.75, 0.9808, NULL, NULL),
-	(10530, 955, 47, 0.9806, NULL, NULL),
-	(10531, 955, 47.25, 0.9804, NULL, NULL),
-	(10532, 955, 47.5, 0.9802, NULL, NULL),
-	(10533, 955, 47.75, 0.9801, NULL, NULL),
-	(10534, 955, 48, 0.9799, NULL, NULL),
-	(10535, 955, 48.25, 0.9797, NULL, NULL),
-	(10536, 955, 48.5, 0.9795, NULL, NULL),
-	(10537, 955, 48.75, 0.9793, NULL, NULL),
-	(10538, 955, 49, 0.9791, NULL, NULL),
-	(10539, 955, 49.25, 0.979, NULL, NULL),
-	(10540, 955, 49.5, 0.9788, NULL, NULL),
-	(10541, 955, 49.75, 0.9786, NULL, NULL),
-	(10542, 955, 50, 0.9784, NULL, NULL),
-	(10543, 955.5, 15, 1.0036, NULL, NULL),
-	(10544, 955.5, 15.25, 1.0034, NULL, NULL),
-	(10545, 955.5, 15.5, 1.0032, NULL, NULL),
-	(10546, 955.5, 15.75, 1.003, NULL, NULL),
-	(10547, 955.5, 16, 1.0029, NULL, NULL),
-	(10548, 955.5, 16.25, 1.0027, NULL, NULL),
-	(10549, 955.5, 16.5, 1.0025, NULL, NULL),
-	(10550, 955.5, 16.75, 1.0023, NULL, NULL),
-	(10551, 955.5, 17, 1.0021, NULL, NULL),
-	(10552, 955.5, 17.25, 1.002, NULL, NULL),
-	(10553, 955.5, 17.5, 1.0018, NULL, NULL),
-	(10554, 955.5, 17.75, 1.0016, NULL, NULL),
-	(10555, 955.5, 18, 1.0014, NULL, NULL),
-	(10556, 955.5, 18.25, 1.0012, NULL, NULL),
-	(10557, 955.5, 18.5, 1.0011, NULL, NULL),
-	(10558, 955.5, 18.75, 1.0009, NULL, NULL),
-	(10559, 955.5, 19, 1.0007, NULL, NULL),
-	(10560, 955.5, 19.25, 1.0005, NULL, NULL),
-	(10561, 955.5, 19.5, 1.0004, NULL, NULL),
-	(10562, 955.5, 19.75, 1.0002, NULL, NULL),
-	(10563, 955.5, 20, 1, NULL, NULL),
-	(10564, 955.5, 20.25, 0.9998, NULL, NULL),
-	(10565, 955.5, 20.5, 0.9996, NULL, NULL),
-	(10566, 955.5, 20.75, 0.9995, NULL, NULL),
-	(10567, 955.5, 21, 0.9993, NULL, NULL),
-	(10568, 955.5, 21.25, 0.9991, NULL, NULL),
-	(10569, 955.5, 21.5, 0.9989, NULL, NULL),
-	(10570, 955.5, 21.75, 0.9987, NULL, NULL),
-	(10571, 955.5, 22, 0.9986, NULL, NULL),
-	(10572, 955.5, 22.25, 0.9984, NULL, NULL),
-	(10573, 955.5, 22.5, 0.9982, NULL, NULL),
-	(10574, 955.5, 22.75, 0.998, NULL, NULL),
-	(10575, 955.5, 23, 0.9979, NULL, NULL),
-	(10576, 955.5, 23.25, 0.9977, NULL, NULL),
-	(10577, 955.5, 23.5, 0.9975, NULL, NULL),
-	(10578, 955.5, 23.75, 0.9973, NULL, NULL),
-	(10579, 955.5, 24, 0.9971, NULL, NULL),
-	(10580, 955.5, 24.25, 0.997, NULL, NULL),
-	(10581, 955.5, 24.5, 0.9968, NULL, NULL),
-	(10582, 955.5, 24.75, 0.9966, NULL, NULL),
-	(10583, 955.5, 25, 0.9964, NULL, NULL),
-	(10584, 955.5, 25.25, 0.9962, NULL, NULL),
-	(10585, 955.5, 25.5, 0.9961, NULL, NULL),
-	(10586, 955.5, 25.75, 0.9959, NULL, NULL),
-	(10587, 955.5, 26, 0.9957, NULL, NULL),
-	(10588, 955.5, 26.25, 0.9955, NULL, NULL),
-	(10589, 955.5, 26.5, 0.9953, NULL, NULL),
-	(10590, 955.5, 26.75, 0.9952, NULL, NULL),
-	(10591, 955.5, 27, 0.995, NULL, NULL),
-	(10592, 955.5, 27.25, 0.9948, NULL, NULL),
-	(10593, 955.5, 27.5, 0.9946, NULL, NULL),
-	(10594, 955.5, 27.75, 0.9945, NULL, NULL),
-	(10595, 955.5, 28, 0.9943, NULL, NULL),
-	(10596, 955.5, 28.25, 0.9941, NULL, NULL),
-	(10597, 955.5, 28.5, 0.9939, NULL, NULL),
-	(10598, 955.5, 28.75, 0.9937, NULL, NULL),
-	(10599, 955.5, 29, 0.9936, NULL, NULL),
-	(10600, 955.5, 29.25, 0.9934, NULL, NULL),
-	(10601, 955.5, 29.5, 0.9932, NULL, NULL),
-	(10602, 955.5, 29.75, 0.993, NULL, NULL),
-	(10603, 955.5, 30, 0.9928, NULL, NULL),
-	(10604, 955.5, 30.25, 0.9927, NULL, NULL),
-	(10605, 955.5, 30.5, 0.9925, NULL, NULL),
-	(10606, 955.5, 30.75, 0.9923, NULL, NULL),
-	(10607, 955.5, 31, 0.9921, NULL, NULL),
-	(10608, 955.5, 31.25, 0.9919, NULL, NULL),
-	(10609, 955.5, 31.5, 0.9918, NULL, NULL),
-	(10610, 955.5, 31.75, 0.9916, NULL, NULL),
-	(10611, 955.5, 32, 0.9914, NULL, NULL),
-	(10612, 955.5, 32.25, 0.9912, NULL, NULL),
-	(10613, 955.5, 32.5, 0.991, NULL, NULL),
-	(10614, 955.5, 32.75, 0.9909, NULL, NULL),
-	(10615, 955.5, 33, 0.9907, NULL, NULL),
-	(10616, 955.5, 33.25, 0.9905, NULL, NULL),
-	(10617, 955.5, 33.5, 0.9903, NULL, NULL),
-	(10618, 955.5, 33.75, 0.9901, NULL, NULL),
-	(10619, 955.5, 34, 0.99, NULL, NULL),
-	(10620, 955.5, 34.25, 0.9898, NULL, NULL),
-	(10621, 955.5, 34.5, 0.9896, NULL, NULL),
-	(10622, 955.5, 34.75, 0.9894, NULL, NULL),
-	(10623, 955.5, 35, 0.9893, NULL, NULL),
-	(10624, 955.5, 35.25, 0.9891, NULL, NULL),
-	(10625, 955.5, 35.5, 0.9889, NULL, NULL),
-	(10626, 955.5, 35.75, 0.9887, NULL, NULL),
-	(10627, 955.5, 36, 0.9885, NULL, NULL),
-	(10628, 955.5, 36.25, 0.9884, NULL, NULL),
-	(10629, 955.5, 36.5, 0.9882, NULL, NULL),
-	(10630, 955.5, 36.75, 0.988, NULL, NULL),
-	(10631, 955.5, 37, 0.9878, NULL, NULL),
-	(10632, 955.5, 37.25, 0.9876, NULL, NULL),
-	(10633, 955.5, 37.5, 0.9875, NULL, NULL),
-	(10634, 955.5, 37.75, 0.9873, NULL, NULL),
-	(10635, 955.5, 38, 0.9871, NULL, NULL),
-	(10636, 955.5, 38.25, 0.9869, NULL, NULL),
-	(10637, 955.5, 38.5, 0.9867, NULL, NULL),
-	(10638, 955.5, 38.75, 0.9866, NULL, NULL),
-	(10639, 955.5, 39, 0.9864, NULL, NULL),
-	(10640, 955.5, 39.25, 0.9862, NULL, NULL),
-	(10641, 955.5, 39.5, 0.986, NULL, NULL),
-	(10642, 955.5, 39.75, 0.9858, NULL, NULL),
-	(10643, 955.5, 40, 0.9857, NULL, NULL),
-	(10644, 955.5, 40.25, 0.9855, NULL, NULL),
-	(10645, 955.5, 40.5, 0.9853, NULL, NULL),
-	(10646, 955.5, 40.75, 0.9851, NULL, NULL),
-	(10647, 955.5, 41, 0.9849, NULL, NULL),
-	(10648, 955.5, 41.25, 0.9848, NULL, NULL),
-	(10649, 955.5, 41.5, 0.9846, NULL, NULL),
-	(10650, 955.5, 41.75, 0.9844, NULL, NULL),
-	(10651, 955.5, 42, 0.9842, NULL, NULL),
-	(10652, 955.5, 42.25, 0.984, NULL, NULL),
-	(10653, 955.5, 42.5, 0.9839, NULL, NULL),
-	(10654, 955.5, 42.75, 0.9837, NULL, NULL),
-	(10655, 955.5, 43, 0.9835, NULL, NULL),
-	(10656, 955.5, 43.25, 0.9833, NULL, NULL),
-	(10657, 955.5, 43.5, 0.9831, NULL, NULL),
-	(10658, 955.5, 43.75, 0.983, NULL, NULL),
-	(10659, 955.5, 44, 0.9828, NULL, NULL),
-	(10660, 955.5, 44.25, 0.9826, NULL, NULL),
-	(10661, 955.5, 44.5, 0.9824, NULL, NULL),
-	(10662, 955.5, 44.75, 0.9822, NULL, NULL),
-	(10663, 955.5, 45, 0.982, NULL, NULL),
-	(10664, 955.5, 45.25, 0.9819, NULL, NULL),
-	(10665, 955.5, 45.5, 0.9817, NULL, NULL),
-	(10666, 955.5, 45.75, 0.9815, NULL, NULL),
-	(10667, 955.5, 46, 0.9813, NULL, NULL),
-	(10668, 955.5, 46.25, 0.9811, NULL, NULL),
-	(10669, 955.5, 46.5, 0.981, NULL, NULL),
-	(10670, 955.5, 46.75, 0.9808, NULL, NULL),
-	(10671, 955.5, 47, 0.9806, NULL, NULL),
-	(10672, 955.5, 47.25, 0.9804, NULL, NULL),
-	(10673, 955.5, 47.5, 0.9802, NULL, NULL),
-	(10674, 955.5, 47.75, 0.9801, NULL, NULL),
-	(10675, 955.5, 48, 0.9799, NULL, NULL),
-	(10676, 955.5, 48.25, 0.9797, NULL, NULL),
-	(10677, 955.5, 48.5, 0.9795, NULL, NULL),
-	(10678, 955.5, 48.75, 0.9793, NULL, NULL),
-	(10679, 955.5, 49, 0.9792, NULL, NULL),
-	(10680, 955.5, 49.25, 0.979, NULL, NULL),
-	(10681, 955.5, 49.5, 0.9788, NULL, NULL),
-	(10682, 955.5, 49.75, 0.9786, NULL, NULL),
-	(10683, 955.5, 50, 0.9784, NULL, NULL),
-	(10684, 956, 15, 1.0036, NULL, NULL),
-	(10685, 956, 15.25, 1.0034, NULL, NULL),
-	(10686, 956, 15.5, 1.0032, NULL, NULL),
-	(10687, 956, 15.75, 1.003, NULL, NULL),
-	(10688, 956, 16, 1.0029, NULL, NULL),
-	(10689, 956, 16.25, 1.0027, NULL, NULL),
-	(10690, 956, 16.5, 1.0025, NULL, NULL),
-	(10691, 956, 16.75, 1.0023, NULL, NULL),
-	(10692, 956, 17, 1.0021, NULL, NULL),
-	(10693, 956, 17.25, 1.002, NULL, NULL),
-	(10694, 956, 17.5, 1.0018, NULL, NULL),
-	(10695, 956, 17.75, 1.0016, NULL, NULL),
-	(10696, 956, 18, 1.0014, NULL, NULL),
-	(10697, 956, 18.25, 1.0012, NULL, NULL),
-	(10698, 956, 18.5, 1.0011, NULL, NULL),
-	(10699, 956, 18.75, 1.0009, NULL, NULL),
-	(10700, 956, 19, 1.0007, NULL, NULL),
-	(10701, 956, 19.25, 1.0005, NULL, NULL),
-	(10702, 956, 19.5, 1.0004, NULL, NULL),
-	(10703, 956, 19.75, 1.0002, NULL, NULL),
-	(10704, 956, 20, 1, NULL, NULL),
-	(10705, 956, 20.25, 0.9998, NULL, NULL),
-	(10706, 956, 20.5, 0.9996, NULL, NULL),
-	(10707, 956, 20.75, 0.9995, NULL, NULL),
-	(10708, 956, 21, 0.9993, NULL, NULL),
-	(10709, 956, 21.25, 0.9991, NULL, NULL),
-	(10710, 956, 21.5, 0.9989, NULL, NULL),
-	(10711, 956, 21.75, 0.9988, NULL, NULL),
-	(10712, 956, 22, 0.9986, NULL, NULL),
-	(10713, 956, 22.25, 0.9984, NULL, NULL),
-	(10714, 956, 22.5, 0.9982, NULL, NULL),
-	(10715, 956, 22.75, 0.998, NULL, NULL),
-	(10716, 956, 23, 0.9979, NULL, NULL),
-	(10717, 956, 23.25, 0.9977, NULL, NULL),
-	(10718, 956, 23.5, 0.9975, NULL, NULL),
-	(10719, 956, 23.75, 0.9973, NULL, NULL),
-	(10720, 956, 24, 0.9971, NULL, NULL),
-	(10721, 956, 24.25, 0.997, NULL, NULL),
-	(10722, 956, 24.5, 0.9968, NULL, NULL),
-	(10723, 956, 24.75, 0.9966, NULL, NULL),
-	(10724, 956, 25, 0.9964, NULL, NULL),
-	(10725, 956, 25.25, 0.9962, NULL, NULL),
-	(10726, 956, 25.5, 0.9961, NULL, NULL),
-	(10727, 956, 25.75, 0.9959, NULL, NULL),
-	(10728, 956, 26, 0.9957, NULL, NULL),
-	(10729, 956, 26.25, 0.9955, NULL, NULL),
-	(10730, 956, 26.5, 0.9954, NULL, NULL),
-	(10731, 956, 26.75, 0.9952, NULL, NULL),
-	(10732, 956, 27, 0.995, NULL, NULL),
-	(10733, 956, 27.25, 0.9948, NULL, NULL),
-	(10734, 956, 27.5, 0.9946, NULL, NULL),
-	(10735, 956, 27.75, 0.9945, NULL, NULL),
-	(10736, 956, 28, 0.9943, NULL, NULL),
-	(10737, 956, 28.25, 0.9941, NULL, NULL),
-	(10738, 956, 28.5, 0.9939, NULL, NULL),
-	(10739, 956, 28.75, 0.9937, NULL, NULL),
-	(10740, 956, 29, 0.9936, NULL, NULL),
-	(10741, 956, 29.25, 0.9934, NULL, NULL),
-	(10742, 956, 29.5, 0.9932, NULL, NULL),
-	(10743, 956, 29.75, 0.993, NULL, NULL),
-	(10744, 956, 30, 0.9928, NULL, NULL),
-	(10745, 956, 30.25, 0.9927, NULL, NULL),
-	(10746, 956, 30.5, 0.9925, NULL, NULL),
-	(10747, 956, 30.75, 0.9923, NULL, NULL),
-	(10748, 956, 31, 0.9921, NULL, NULL),
-	(10749, 956, 31.25, 0.9919, NULL, NULL),
-	(10750, 956, 31.5, 0.9918, NULL, NULL),
-	(10751, 956, 31.75, 0.9916, NULL, NULL),
-	(10752, 956, 32, 0.9914, NULL, NULL),
-	(10753, 956, 32.25, 0.9912, NULL, NULL),
-	(10754, 956, 32.5, 0.9911, NULL, NULL),
-	(10755, 956, 32.75, 0.9909, NULL, NULL),
-	(10756, 956, 33, 0.9907, NULL, NULL),
-	(10757, 956, 33.25, 0.9905, NULL, NULL),
-	(10758, 956, 33.5, 0.9903, NULL, NULL),
-	(10759, 956, 33.75, 0.9902, NULL, NULL),
-	(10760, 956, 34, 0.99, NULL, NULL),
-	(10761, 956, 34.25, 0.9898, NULL, NULL),
-	(10762, 956, 34.5, 0.9896, NULL, NULL),
-	(10763, 956, 34.75, 0.9894, NULL, NULL),
-	(10764, 956, 35, 0.9893, NULL, NULL),
-	(10765, 956, 35.25, 0.9891, NULL, NULL),
-	(10766, 956, 35.5, 0.9889, NULL, NULL),
-	(10767, 956, 35.75, 0.9887, NULL, NULL),
-	(10768, 956, 36, 0.9885, NULL, NULL),
-	(10769, 956, 36.25, 0.9884, NULL, NULL),
-	(10770, 956, 36.5, 0.9882, NULL, NULL),
-	(10771, 956, 36.75, 0.988, NULL, NULL),
-	(10772, 956, 37, 0.9878, NULL, NULL),
-	(10773, 956, 37.25, 0.9876, NULL, NULL),
-	(10774, 956, 37.5, 0.9875, NULL, NULL),
-	(10775, 956, 37.75, 0.9873, NULL, NULL),
-	(10776, 956, 38, 0.9871, NULL, NULL),
-	(10777, 956, 38.25, 0.9869, NULL, NULL),
-	(10778, 956, 38.5, 0.9867, NULL, NULL),
-	(10779, 956, 38.75, 0.9866, NULL, NULL),
-	(10780, 956, 39, 0.9864, NULL, NULL),
-	(10781, 956, 39.25, 0.9862, NULL, NULL),
-	(10782, 956, 39.5, 0.986, NULL, NULL),
-	(10783, 956, 39.75, 0.9858, NULL, NULL),
-	(10784, 956, 40, 0.9857, NULL, NULL),
-	(10785, 956, 40.25, 0.9855, NULL, NULL),
-	(10786, 956, 40.5, 0.9853, NULL, NULL),
-	(10787, 956, 40.75, 0.9851, NULL, NULL),
-	(10788, 956, 41, 0.9849, NULL, NULL),
-	(10789, 956, 41.25, 0.9848, NULL, NULL),
-	(10790, 956, 41.5, 0.9846, NULL, NULL),
-	(10791, 956, 41.75, 0.9844, NULL, NULL),
-	(10792, 956, 42, 0.9842, NULL, NULL),
-	(10793, 956, 42.25, 0.984, NULL, NULL),
-	(10794, 956, 42.5, 0.9839, NULL, NULL),
-	(10795, 956, 42.75, 0.9837, NULL, NULL),
-	(10796, 956, 43, 0.9835, NULL, NULL),
-	(10797, 956, 43.25, 0.9833, NULL, NULL),
-	(10798, 956, 43.5, 0.9831, NULL, NULL),
-	(10799, 956, 43.75, 0.983, NULL, NULL),
-	(10800, 956, 44, 0.9828, NULL, NULL),
-	(10801, 956, 44.25, 0.9826, NULL, NULL),
-	(10802, 956, 44.5, 0.9824, NULL, NULL),
-	(10803, 956, 44.75, 0.9822, NULL, NULL),
-	(10804, 956, 45, 0.9821, NULL, NULL),
-	(10805, 956, 45.25, 0.9819, NULL, NULL),
-	(10806, 956, 45.5, 0.9817, NULL, NULL),
-	(10807, 956, 45.75, 0.9815, NULL, NULL),
-	(10808, 956, 46, 0.9813, NULL, NULL),
-	(10809, 956, 46.25, 0.9812, NULL, NULL),
-	(10810, 956, 46.5, 0.981, NULL, NULL),
-	(10811, 956, 46.75, 0.9808, NULL, NULL),
-	(10812, 956, 47, 0.9806, NULL, NULL),
-	(10813, 956, 47.25, 0.9804, NULL, NULL),
-	(10814, 956, 47.5, 0.9803, NULL, NULL),
-	(10815, 956, 47.75, 0.9801, NULL, NULL),
-	(10816, 956, 48, 0.9799, NULL, NULL),
-	(10817, 956, 48.25, 0.9797, NULL, NULL),
-	(10818, 956, 48.5, 0.9795, NULL, NULL),
-	(10819, 956, 48.75, 0.9794, NULL, NULL),
-	(10820, 956, 49, 0.9792, NULL, NULL),
-	(10821, 956, 49.25, 0.979, NULL, NULL),
-	(10822, 956, 49.5, 0.9788, NULL, NULL),
-	(10823, 956, 49.75, 0.9786, NULL, NULL),
-	(10824, 956, 50, 0.9785, NULL, NULL),
-	(10825, 956.5, 15, 1.0036, NULL, NULL),
-	(10826, 956.5, 15.25, 1.0034, NULL, NULL),
-	(10827, 956.5, 15.5, 1.0032, NULL, NULL),
-	(10828, 956.5, 15.75, 1.003, NULL, NULL),
-	(10829, 956.5, 16, 1.0029, NULL, NULL),
-	(10830, 956.5, 16.25, 1.0027, NULL, NULL),
-	(10831, 956.5, 16.5, 1.0025, NULL, NULL),
-	(10832, 956.5, 16.75, 1.0023, NULL, NULL),
-	(10833, 956.5, 17, 1.0021, NULL, NULL),
-	(10834, 956.5, 17.25, 1.002, NULL, NULL),
-	(10835, 956.5, 17.5, 1.0018, NULL, NULL),
-	(10836, 956.5, 17.75, 1.0016, NULL, NULL),
-	(10837, 956.5, 18, 1.0014, NULL, NULL),
-	(10838, 956.5, 18.25, 1.0012, NULL, NULL),
-	(10839, 956.5, 18.5, 1.0011, NULL, NULL),
-	(10840, 956.5, 18.75, 1.0009, NULL, NULL),
-	(10841, 956.5, 19, 1.0007, NULL, NULL),
-	(10842, 956.5, 19.25, 1.0005, NULL, NULL),
-	(10843, 956.5, 19.5, 1.0004, NULL, NULL),
-	(10844, 956.5, 19.75, 1.0002, NULL, NULL),
-	(10845, 956.5, 20, 1, NULL, NULL),
-	(10846, 956.5, 20.25, 0.9998, NULL, NULL),
-	(10847, 956.5, 20.5, 0.9996, NULL, NULL),
-	(10848, 956.5, 20.75, 0.9995, NULL, NULL),
-	(10849, 956.5, 21, 0.9993, NULL, NULL),
-	(10850, 956.5, 21.25, 0.9991, NULL, NULL),
-	(10851, 956.5, 21.5, 0.9989, NULL, NULL),
-	(10852, 956.5, 21.75, 0.9988, NULL, NULL),
-	(10853, 956.5, 22, 0.9986, NULL, NULL),
-	(10854, 956.5, 22.25, 0.9984, NULL, NULL),
-	(10855, 956.5, 22.5, 0.9982, NULL, NULL),
-	(10856, 956.5, 22.75, 0.998, NULL, NULL),
-	(10857, 956.5, 23, 0.9979, NULL, NULL),
-	(10858, 956.5, 23.25, 0.9977, NULL, NULL),
-	(10859, 956.5, 23.5, 0.9975, NULL, NULL),
-	(10860, 956.5, 23.75, 0.9973, NULL, NULL),
-	(10861, 956.5, 24, 0.9971, NULL, NULL),
-	(10862, 956.5, 24.25, 0.997, NULL, NULL),
-	(10863, 956.5, 24.5, 0.9968, NULL, NULL),
-	(10864, 956.5, 24.75, 0.9966, NULL, NULL),
-	(10865, 956.5, 25, 0.9964, NULL, NULL),
-	(10866, 956.5, 25.25, 0.9963, NULL, NULL),
-	(10867, 956.5, 25.5, 0.9961, NULL, NULL),
-	(10868, 956.5, 25.75, 0.9959, NULL, NULL),
-	(10869, 956.5, 26, 0.9957, NULL, NULL),
-	(10870, 956.5, 26.25, 0.9955, NULL, NULL),
-	(10871, 956.5, 26.5, 0.9954, NULL, NULL),
-	(10872, 956.5, 26.75, 0.9952, NULL, NULL),
-	(10873, 956.5, 27, 0.995, NULL, NULL),
-	(10874, 956.5, 27.25, 0.9948, NULL, NULL),
-	(10875, 956.5, 27.5, 0.9946, NULL, NULL),
-	(10876, 956.5, 27.75, 0.9945, NULL, NULL),
-	(10877, 956.5, 28, 0.9943, NULL, NULL),
-	(10878, 956.5, 28.25, 0.9941, NULL, NULL),
-	(10879, 956.5, 28.5, 0.9939, NULL, NULL),
-	(10880, 956.5, 28.75, 0.9937, NULL, NULL),
-	(10881, 956.5, 29, 0.9936, NULL, NULL),
-	(10882, 956.5, 29.25, 0.9934, NULL, NULL),
-	(10883, 956.5, 29.5, 0.9932, NULL, NULL),
-	(10884, 956.5, 29.75, 0.993, NULL, NULL),
-	(10885, 956.5, 30, 0.9929, NULL, NULL),
-	(10886, 956.5, 30.25, 0.9927, NULL, NULL),
-	(10887, 956.5, 30.5, 0.9925, NULL, NULL),
-	(10888, 956.5, 30.75, 0.9923, NULL, NULL),
-	(10889, 956.5, 31, 0.9921, NULL, NULL),
-	(10890, 956.5, 31.25, 0.992, NULL, NULL),
-	(10891, 956.5, 31.5, 0.9918, NULL, NULL),
-	(10892, 956.5, 31.75, 0.9916, NULL, NULL),
-	(10893, 956.5, 32, 0.9914, NULL, NULL),
-	(10894, 956.5, 32.25, 0.9912, NULL, NULL),
-	(10895, 956.5, 32.5, 0.9911, NULL, NULL),
-	(10896, 956.5, 32.75, 0.9909, NULL, NULL),
-	(10897, 956.5, 33, 0.9907, NULL, NULL),
-	(10898, 956.5, 33.25, 0.9905, NULL, NULL),
-	(10899, 956.5, 33.5, 0.9903, NULL, NULL),
-	(10900, 956.5, 33.75, 0.9902, NULL, NULL),
-	(10901, 956.5, 34, 0.99, NULL, NULL),
-	(10902, 956.5, 34.25, 0.9898, NULL, NULL),
-	(10903, 956.5, 34.5, 0.9896, NULL, NULL),
-	(10904, 956.5, 34.75, 0.9894, NULL, NULL),
-	(10905, 956.5, 35, 0.9893, NULL, NULL),
-	(10906, 956.5, 35.25, 0.9891, NULL, NULL),
-	(10907, 956.5, 35.5, 0.9889, NULL, NULL),
-	(10908, 956.5, 35.75, 0.9887, NULL, NULL),
-	(10909, 956.5, 36, 0.9885, NULL, NULL),
-	(10910, 956.5, 36.25, 0.9884, NULL, NULL),
-	(10911, 956.5, 36.5, 0.9882, NULL, NULL),
-	(10912, 956.5, 36.75, 0.988, NULL, NULL),
-	(10913, 956.5, 37, 0.9878, NULL, NULL),
-	(10914, 956.5, 37.25, 0.9877, NULL, NULL),
-	(10915, 956.5, 37.5, 0.9875, NULL, NULL),
-	(10916, 956.5, 37.75, 0.9873, NULL, NULL),
-	(10917, 956.5, 38, 0.9871, NULL, NULL),
-	(10918, 956.5, 38.25, 0.9869, NULL, NULL),
-	(10919, 956.5, 38.5, 0.9868, NULL, NULL),
-	(10920, 956.5, 38.75, 0.9866, NULL, NULL),
-	(10921, 956.5, 39, 0.9864, NULL, NULL),
-	(10922, 956.5, 39.25, 0.9862, NULL, NULL),
-	(10923, 956.5, 39.5, 0.986, NULL, NULL),
-	(10924, 956.5, 39.75, 0.9859, NULL, NULL),
-	(10925, 956.5, 40, 0.9857, NULL, NULL),
-	(10926, 956.5, 40.25, 0.9855, NULL, NULL),
-	(10927, 956.5, 40.5, 0.9853, NULL, NULL),
-	(10928, 956.5, 40.75, 0.9851, NULL, NULL),
-	(10929, 956.5, 41, 0.985, NULL, NULL),
-	(10930, 956.5, 41.25, 0.9848, NULL, NULL),
-	(10931, 956.5, 41.5, 0.9846, NULL, NULL),
-	(10932, 956.5, 41.75, 0.9844, NULL, NULL),
-	(10933, 956.5, 42, 0.9842, NULL, NULL),
-	(10934, 956.5, 42.25, 0.9841, NULL, NULL),
-	(10935, 956.5, 42.5, 0.9839, NULL, NULL),
-	(10936, 956.5, 42.75, 0.9837, NULL, NULL),
-	(10937, 956.5, 43, 0.9835, NULL, NULL),
-	(10938, 956.5, 43.25, 0.9833, NULL, NULL),
-	(10939, 956.5, 43.5, 0.9832, NULL, NULL),
-	(10940, 956.5, 43.75, 0.983, NULL, NULL),
-	(10941, 956.5, 44, 0.9828, NULL, NULL),
-	(10942, 956.5, 44.25, 0.9826, NULL, NULL),
-	(10943, 956.5, 44.5, 0.9824, NULL, NULL),
-	(10944, 956.5, 44.75, 0.9823, NULL, NULL),
-	(10945, 956.5, 45, 0.9821, NULL, NULL),
-	(10946, 956.5, 45.25, 0.9819, NULL, NULL),
-	(10947, 956.5, 45.5, 0.9817, NULL, NULL),
-	(10948, 956.5, 45.75, 0.9815, NULL, NULL),
-	(10949, 956.5, 46, 0.9814, NULL, NULL),
-	(10950, 956.5, 46.25, 0.9812, NULL, NULL),
-	(10951, 956.5, 46.5, 0.981, NULL, NULL),
-	(10952, 956.5, 46.75, 0.9808, NULL, NULL),
-	(10953, 956.5, 47, 0.9806, NULL, NULL),
-	(10954, 956.5, 47.25, 0.9805, NULL, NULL),
-	(10955, 956.5, 47.5, 0.9803, NULL, NULL),
-	(10956, 956.5, 47.75, 0.9801, NULL, NULL),
-	(10957, 956.5, 48, 0.9799, NULL, NULL),
-	(10958, 956.5, 48.25, 0.9797, NULL, NULL),
-	(10959, 956.5, 48.5, 0.9796, NULL, NULL),
-	(10960, 956.5, 48.75, 0.9794, NULL, NULL),
-	(10961, 956.5, 49, 0.9792, NULL, NULL),
-	(10962, 956.5, 49.25, 0.979, NULL, NULL),
-	(10963, 956.5, 49.5, 0.9788, NULL, NULL),
-	(10964, 956.5, 49.75, 0.9787, NULL, NULL),
-	(10965, 956.5, 50, 0.9785, NULL, NULL),
-	(10966, 957, 15, 1.0036, NULL, NULL),
-	(10967, 957, 15.25, 1.0034, NULL, NULL),
-	(10968, 957, 15.5, 1.0032, NULL, NULL),
-	(10969, 957, 15.75, 1.003, NULL, NULL),
-	(10970, 957, 16, 1.0028, NULL, NULL),
-	(10971, 957, 16.25, 1.0027, NULL, NULL),
-	(10972, 957, 16.5, 1.0025, NULL, NULL),
-	(10973, 957, 16.75, 1.0023, NULL, NULL),
-	(10974, 957, 17, 1.0021, NULL, NULL),
-	(10975, 957, 17.25, 1.002, NULL, NULL),
-	(10976, 957, 17.5, 1.0018, NULL, NULL),
-	(10977, 957, 17.75, 1.0016, NULL, NULL),
-	(10978, 957, 18, 1.0014, NULL, NULL),
-	(10979, 957, 18.25, 1.0012, NULL, NULL),
-	(10980, 957, 18.5, 1.0011, NULL, NULL),
-	(10981, 957, 18.75, 1.0009, NULL, NULL),
-	(10982, 957, 19, 1.0007, NULL, NULL),
-	(10983, 957, 19.25, 1.0005, NULL, NULL),
-	(10984, 957, 19.5, 1.0004, NULL, NULL),
-	(10985, 957, 19.75, 1.0002, NULL, NULL),
-	(10986, 957, 20, 1, NULL, NULL),
-	(10987, 957, 20.25, 0.9998, NULL, NULL),
-	(10988, 957, 20.5, 0.9996, NULL, NULL),
-	(10989, 957, 20.75, 0.9995, NULL, NULL),
-	(10990, 957, 21, 0.9993, NULL, NULL),
-	(10991, 957, 21.25, 0.9991, NULL, NULL),
-	(10992, 957, 21.5, 0.9989, NULL, NULL),
-	(10993, 957, 21.75, 0.9988, NULL, NULL),
-	(10994, 957, 22, 0.9986, NULL, NULL),
-	(10995, 957, 22.25, 0.9984, NULL, NULL),
-	(10996, 957, 22.5, 0.9982, NULL, NULL),
-	(10997, 957, 22.75, 0.998, NULL, NULL),
-	(10998, 957, 23, 0.9979, NULL, NULL),
-	(10999, 957, 23.25, 0.9977, NULL, NULL),
-	(11000, 957, 23.5, 0.9975, NULL, NULL),
-	(11001, 957, 23.75, 0.9973, NULL, NULL),
-	(11002, 957, 24, 0.9971, NULL, NULL),
-	(11003, 957, 24.25, 0.997, NULL, NULL),
-	(11004, 957, 24.5, 0.9968, NULL, NULL),
-	(11005, 957, 24.75, 0.9966, NULL, NULL),
-	(11006, 957, 25, 0.9964, NULL, NULL),
-	(11007, 957, 25.25, 0.9963, NULL, NULL),
-	(11008, 957, 25.5, 0.9961, NULL, NULL),
-	(11009, 957, 25.75, 0.9959, NULL, NULL),
-	(11010, 957, 26, 0.9957, NULL, NULL),
-	(11011, 957, 26.25, 0.9955, NULL, NULL),
-	(11012, 957, 26.5, 0.9954, NULL, NULL),
-	(11013, 957, 26.75, 0.9952, NULL, NULL),
-	(11014, 957, 27, 0.995, NULL, NULL),
-	(11015, 957, 27.25, 0.9948, NULL, NULL),
-	(11016, 957, 27.5, 0.9946, NULL, NULL),
-	(11017, 957, 27.75, 0.9945, NULL, NULL),
-	(11018, 957, 28, 0.9943, NULL, NULL),
-	(11019, 957, 28.25, 0.9941, NULL, NULL),
-	(11020, 957, 28.5, 0.9939, NULL, NULL),
-	(11021, 957, 28.75, 0.9937, NULL, NULL),
-	(11022, 957, 29, 0.9936, NULL, NULL),
-	(11023, 957, 29.25, 0.9934, NULL, NULL),
-	(11024, 957, 29.5, 0.9932, NULL, NULL),
-	(11025, 957, 29.75, 0.993, NULL, NULL),
-	(11026, 957, 30, 0.9929, NULL, NULL),
-	(11027, 957, 30.25, 0.9927, NULL, NULL),
-	(11028, 957, 30.5, 0.9925, NULL, NULL),
-	(11029, 957, 30.75, 0.9923, NULL, NULL),
-	(11030, 957, 31, 0.9921, NULL, NULL),
-	(11031, 957, 31.25, 0.992, NULL, NULL),
-	(11032, 957, 31.5, 0.9918, NULL, NULL),
-	(11033, 957, 31.75, 0.9916, NULL, NULL),
-	(11034, 957, 32, 0.9914, NULL, NULL),
-	(11035, 957, 32.25, 0.9912, NULL, NULL),
-	(11036, 957, 32.5, 0.9911, NULL, NULL),
-	(11037, 957, 32.75, 0.9909, NULL, NULL),
-	(11038, 957, 33, 0.9907, NULL, NULL),
-	(11039, 957, 33.25, 0.9905, NULL, NULL),
-	(11040, 957, 33.5, 0.9903, NULL, NULL),
-	(11041, 957, 33.75, 0.9902, NULL, NULL),
-	(11042, 957, 34, 0.99, NULL, NULL),
-	(11043, 957, 34.25, 0.9898, NULL, NULL),
-	(11044, 957, 34.5, 0.9896, NULL, NULL),
-	(11045, 957, 34.75, 0.9895, NULL, NULL),
-	(11046, 957, 35, 0.9893, NULL, NULL),
-	(11047, 957, 35.25, 0.9891, NULL, NULL),
-	(11048, 957, 35.5, 0.9889, NULL, NULL),
-	(11049, 957, 35.75, 0.9887, NULL, NULL),
-	(11050, 957, 36, 0.9886, NULL, NULL),
-	(11051, 957, 36.25, 0.9884, NULL, NULL),
-	(11052, 957, 36.5, 0.9882, NULL, NULL),
-	(11053, 957, 36.75, 0.988, NULL, NULL),
-	(11054, 957, 37, 0.9878, NULL, NULL),
-	(11055, 957, 37.25, 0.9877, NULL, NULL),
-	(11056, 957, 37.5, 0.9875, NULL, NULL),
-	(11057, 957, 37.75, 0.9873, NULL, NULL),
-	(11058, 957, 38, 0.9871, NULL, NULL),
-	(11059, 957, 38.25, 0.9869, NULL, NULL),
-	(11060, 957, 38.5, 0.9868, NULL, NULL),
-	(11061, 957, 38.75, 0.9866, NULL, NULL),
-	(11062, 957, 39, 0.9864, NULL, NULL),
-	(11063, 957, 39.25, 0.9862, NULL, NULL),
-	(11064, 957, 39.5, 0.986, NULL, NULL),
-	(11065, 957, 39.75, 0.9859, NULL, NULL),
-	(11066, 957, 40, 0.9857, NULL, NULL),
-	(11067, 957, 40.25, 0.9855, NULL, NULL),
-	(11068, 957, 40.5, 0.9853, NULL, NULL),
-	(11069, 957, 40.75, 0.9851, NULL, NULL),
-	(11070, 957, 41, 0.985, NULL, NULL),
-	(11071, 957, 41.25, 0.9848, NULL, NULL),
-	(11072, 957, 41.5, 0.9846, NULL, NULL),
-	(11073, 957, 41.75, 0.9844, NULL, NULL),
-	(11074, 957, 42, 0.9842, NULL, NULL),
-	(11075, 957, 42.25, 0.9841, NULL, NULL),
-	(11076, 957, 42.5, 0.9839, NULL, NULL),
-	(11077, 957, 42.75, 0.9837, NULL, NULL),
-	(11078, 957, 43, 0.9835, NULL, NULL),
-	(11079, 957, 43.25, 0.9833, NULL, NULL),
-	(11080, 957, 43.5, 0.9832, NULL, NULL),
-	(11081, 957, 43.75, 0.983, NULL, NULL),
-	(11082, 957, 44, 0.9828, NULL, NULL),
-	(11083, 957, 44.25, 0.9826, NULL, NULL),
-	(11084, 957, 44.5, 0.9824, NULL, NULL),
-	(11085, 957, 44.75, 0.9823, NULL, NULL),
-	(11086, 957, 45, 0.9821, NULL, NULL),
-	(11087, 957, 45.25, 0.9819, NULL, NULL),
-	(11088, 957, 45.5, 0.9817, NULL, NULL),
-	(11089, 957, 45.75, 0.9815, NULL, NULL),
-	(11090, 957, 46, 0.9814, NULL, NULL),
-	(11091, 957, 46.25, 0.9812, NULL, NULL),
-	(11092, 957, 46.5, 0.981, NULL, NULL),
-	(11093, 957, 46.75, 0.9808, NULL, NULL),
-	(11094, 957, 47, 0.9806, NULL, NULL),
-	(11095, 957, 47.25, 0.9805, NULL, NULL),
-	(11096, 957, 47.5, 0.9803, NULL, NULL),
-	(11097, 957, 47.75, 0.9801, NULL, NULL),
-	(11098, 957, 48, 0.9799, NULL, NULL),
-	(11099, 957, 48.25, 0.9797, NULL, NULL),
-	(11100, 957, 48.5, 0.9796, NULL, NULL),
-	(11101, 957, 48.75, 0.9794, NULL, NULL),
-	(11102, 957, 49, 0.9792, NULL, NULL),
-	(11103, 957, 49.25, 0.979, NULL, NULL),
-	(11104, 957, 49.5, 0.9788, NULL, NULL),
-	(11105, 957, 49.75, 0.9787, NULL, NULL),
-	(11106, 957, 50, 0.9785, NULL, NULL),
-	(11107, 957.5, 15, 1.0036, NULL, NULL),
-	(11108, 957.5, 15.25, 1.0034, NULL, NULL),
-	(11109, 957.5, 15.5, 1.0032, NULL, NULL),
-	(11110, 957.5, 15.75, 1.003, NULL, NULL),
-	(11111, 957.5, 16, 1.0028, NULL, NULL),
-	(11112, 957.5, 16.25, 1.0027, NULL, NULL),
-	(11113, 957.5, 16.5, 1.0025, NULL, NULL),
-	(11114, 957.5, 16.75, 1.0023, NULL, NULL),
-	(11115, 957.5, 17, 1.0021, NULL, NULL),
-	(11116, 957.5, 17.25, 1.002, NULL, NULL),
-	(11117, 957.5, 17.5, 1.0018, NULL, NULL),
-	(11118, 957.5, 17.75, 1.0016, NULL, NULL),
-	(11119, 957.5, 18, 1.0014, NULL, NULL),
-	(11120, 957.5, 18.25, 1.0012, NULL, NULL),
-	(11121, 957.5, 18.5, 1.0011, NULL, NULL),
-	(11122, 957.5, 18.75, 1.0009, NULL, NULL),
-	(11123, 957.5, 19, 1.0007, NULL, NULL),
-	(11124, 957.5, 19.25, 1.0005, NULL, NULL),
-	(11125, 957.5, 19.5, 1.0004, NULL, NULL),
-	(11126, 957.5, 19.75, 1.0002, NULL, NULL),
-	(11127, 957.5, 20, 1, NULL, NULL),
-	(11128, 957.5, 20.25, 0.9998, NULL, NULL),
-	(11129, 957.5, 20.5, 0.9996, NULL, NULL),
-	(11130, 957.5, 20.75, 0.9995, NULL, NULL),
-	(11131, 957.5, 21, 0.9993, NULL, NULL),
-	(11132, 957.5, 21.25, 0.9991, NULL, NULL),
-	(11133, 957.5, 21.5, 0.9989, NULL, NULL),
-	(11134, 957.5, 21.75, 0.9988, NULL, NULL),
-	(11135, 957.5, 22, 0.9986, NULL, NULL),
-	(11136, 957.5, 22.25, 0.9984, NULL, NULL),
-	(11137, 957.5, 22.5, 0.9982, NULL, NULL),
-	(11138, 957.5, 22.75, 0.998, NULL, NULL),
-	(11139, 957.5, 23, 0.9979, NULL, NULL),
-	(11140, 957.5, 23.25, 0.9977, NULL, NULL),
-	(11141, 957.5, 23.5, 0.9975, NULL, NULL),
-	(11142, 957.5, 23.75, 0.9973, NULL, NULL),
-	(11143, 957.5, 24, 0.9971, NULL, NULL),
-	(11144, 957.5, 24.25, 0.997, NULL, NULL),
-	(11145, 957.5, 24.5, 0.9968, NULL, NULL),
-	(11146, 957.5, 24.75, 0.9966, NULL, NULL),
-	(11147, 957.5, 25, 0.9964, NULL, NULL),
-	(11148, 957.5, 25.25, 0.9963, NULL, NULL),
-	(11149, 957.5, 25.5, 0.9961, NULL, NULL),
-	(11150, 957.5, 25.75, 0.9959, NULL, NULL),
-	(11151, 957.5, 26, 0.9957, NULL, NULL),
-	(11152, 957.5, 26.25, 0.9955, NULL, NULL),
-	(11153, 957.5, 26.5, 0.9954, NULL, NULL),
-	(11154, 957.5, 26.75, 0.9952, NULL, NULL),
-	(11155, 957.5, 27, 0.995, NULL, NULL),
-	(11156, 957.5, 27.25, 0.9948, NULL, NULL),
-	(11157, 957.5, 27.5, 0.9946, NULL, NULL),
-	(11158, 957.5, 27.75, 0.9945, NULL, NULL),
-	(11159, 957.5, 28, 0.9943, NULL, NULL),
-	(11160, 957.5, 28.25, 0.9941, NULL, NULL),
-	(11161, 957.5, 28.5, 0.9939, NULL, NULL),
-	(11162, 957.5, 28.75, 0.9938, NULL, NULL),
-	(11163, 957.5, 29, 0.9936, NULL, NULL),
-	(11164, 957.5, 29.25, 0.9934, NULL, NULL),
-	(11165, 957.5, 29.5, 0.9932, NULL, NULL),
-	(11166, 957.5, 29.75, 0.993, NULL, NULL),
-	(11167, 957.5, 30, 0.9929, NULL, NULL),
-	(11168, 957.5, 30.25, 0.9927, NULL, NULL),
-	(11169, 957.5, 30.5, 0.9925, NULL, NULL),
-	(11170, 957.5, 30.75, 0.9923, NULL, NULL),
-	(11171, 957.5, 31, 0.9921, NULL, NULL),
-	(11172, 957.5, 31.25, 0.992, NULL, NULL),
-	(11173, 957.5, 31.5, 0.9918, NULL, NULL),
-	(11174, 957.5, 31.75, 0.9916, NULL, NULL),
-	(11175, 957.5, 32.25, 0.9912, NULL, NULL),
-	(11176, 957.5, 32.5, 0.9911, NULL, NULL),
-	(11177, 957.5, 32.75, 0.9909, NULL, NULL),
-	(11178, 957.5, 33, 0.9907, NULL, NULL),
-	(11179, 957.5, 33.25, 0.9905, NULL, NULL),
-	(11180, 957.5, 33.5, 0.9904, NULL, NULL),
-	(11181, 957.5, 33.75, 0.9902, NULL, NULL),
-	(11182, 957.5, 34, 0.99, NULL, NULL),
-	(11183, 957.5, 34.25, 0.9898, NULL, NULL),
-	(11184, 957.5, 34.5, 0.9896, NULL, NULL),
-	(11185, 957.5, 34.75, 0.9895, NULL, NULL),
-	(11186, 957.5, 35, 0.9893, NULL, NULL),
-	(11187, 957.5, 35.25, 0.9891, NULL, NULL),
-	(11188, 957.5, 35.5, 0.9889, NULL, NULL),
-	(11189, 957.5, 35.75, 0.9887, NULL, NULL),
-	(11190, 957.5, 36, 0.9886, NULL, NULL),
-	(11191, 957.5, 36.25, 0.9884, NULL, NULL),
-	(11192, 957.5, 36.5, 0.9882, NULL, NULL),
-	(11193, 957.5, 36.75, 0.988, NULL, NULL),
-	(11194, 957.5, 37, 0.9878, NULL, NULL),
-	(11195, 957.5, 37.25, 0.9877, NULL, NULL),
-	(11196, 957.5, 37.5, 0.9875, NULL, NULL),
-	(11197, 957.5, 37.75, 0.9873, NULL, NULL),
-	(11198, 957.5, 38, 0.9871, NULL, NULL),
-	(11199, 957.5, 38.25, 0.9869, NULL, NULL),
-	(11200, 957.5, 38.5, 0.9868, NULL, NULL),
-	(11201, 957.5, 38.75, 0.9866, NULL, NULL),
-	(11202, 957.5, 39, 0.9864, NULL, NULL),
-	(11203, 957.5, 39.25, 0.9862, NULL, NULL),
-	(11204, 957.5, 39.5, 0.9861, NULL, NULL),
-	(11205, 957.5, 39.75, 0.9859, NULL, NULL),
-	(11206, 957.5, 40, 0.9857, NULL, NULL),
-	(11207, 957.5, 40.25, 0.9855, NULL, NULL),
-	(11208, 957.5, 40.5, 0.9853, NULL, NULL),
-	(11209, 957.5, 40.75, 0.9852, NULL, NULL),
-	(11210, 957.5, 41, 0.985, NULL, NULL),
-	(11211, 957.5, 41.25, 0.9848, NULL, NULL),
-	(11212, 957.5, 41.5, 0.9846, NULL, NULL),
-	(11213, 957.5, 41.75, 0.9844, NULL, NULL),
-	(11214, 957.5, 42, 0.9843, NULL, NULL),
-	(11215, 957.5, 42.25, 0.9841, NULL, NULL),
-	(11216, 957.5, 42.5, 0.9839, NULL, NULL),
-	(11217, 957.5, 42.75, 0.9837, NULL, NULL),
-	(11218, 957.5, 43, 0.9835, NULL, NULL),
-	(11219, 957.5, 43.25, 0.9834, NULL, NULL),
-	(11220, 957.5, 43.5, 0.9832, NULL, NULL),
-	(11221, 957.5, 43.75, 0.983, NULL, NULL),
-	(11222, 957.5, 44, 0.9828, NULL, NULL),
-	(11223, 957.5, 44.25, 0.9826, NULL, NULL),
-	(11224, 957.5, 44.5, 0.9825, NULL, NULL),
-	(11225, 957.5, 44.75, 0.9823, NULL, NULL),
-	(11226, 957.5, 45, 0.9821, NULL, NULL),
-	(11227, 957.5, 45.25, 0.9819, NULL, NULL),
-	(11228, 957.5, 45.5, 0.9817, NULL, NULL),
-	(11229, 957.5, 45.75, 0.9816, NULL, NULL),
-	(11230, 957.5, 46, 0.9814, NULL, NULL),
-	(11231, 957.5, 46.25, 0.9812, NULL, NULL),
-	(11232, 957.5, 46.5, 0.981, NULL, NULL),
-	(11233, 957.5, 46.75, 0.9808, NULL, NULL),
-	(11234, 957.5, 47, 0.9807, NULL, NULL),
-	(11235, 957.5, 47.25, 0.9805, NULL, NULL),
-	(11236, 957.5, 47.5, 0.9803, NULL, NULL),
-	(11237, 957.5, 47.75, 0.9801, NULL, NULL),
-	(11238, 957.5, 48, 0.9799, NULL, NULL),
-	(11239, 957.5, 48.25, 0.9798, NULL, NULL),
-	(11240, 957.5, 48.5, 0.9796, NULL, NULL),
-	(11241, 957.5, 48.75, 0.9794, NULL, NULL),
-	(11242, 957.5, 49, 0.9792, NULL, NULL),
-	(11243, 957.5, 49.25, 0.979, NULL, NULL),
-	(11244, 957.5, 49.5, 0.9789, NULL, NULL),
-	(11245, 957.5, 49.75, 0.9787, NULL, NULL),
-	(11246, 957.5, 50, 0.9785, NULL, NULL),
-	(11247, 958, 15, 1.0036, NULL, NULL),
-	(11248, 958, 15.25, 1.0034, NULL, NULL),
-	(11249, 958, 15.5, 1.0032, NULL, NULL),
-	(11250, 958, 15.75, 1.003, NULL, NULL),
-	(11251, 958, 16, 1.0028, NULL, NULL),
-	(11252, 958, 16.25, 1.0027, NULL, NULL),
-	(11253, 958, 16.5, 1.0025, NULL, NULL),
-	(11254, 958, 16.75, 1.0023, NULL, NULL),
-	(11255, 958, 17, 1.0021, NULL, NULL),
-	(11256, 958, 17.25, 1.002, NULL, NULL),
-	(11257, 958, 17.5, 1.0018, NULL, NULL),
-	(11258, 958, 17.75, 1.0016, NULL, NULL),
-	(11259, 958, 18, 1.0014, NULL, NULL),
-	(11260, 958, 18.25, 1.0012, NULL, NULL),
-	(11261, 958, 18.5, 1.0011, NULL, NULL),
-	(11262, 958, 18.75, 1.0009, NULL, NULL),
-	(11263, 958, 19, 1.0007, NULL, NULL),
-	(11264, 958, 19.25, 1.0005, NULL, NULL),
-	(11265, 958, 19.5, 1.0004, NULL, NULL),
-	(11266, 958, 19.75, 1.0002, NULL, NULL),
-	(11267, 958, 20, 1, NULL, NULL),
-	(11268, 958, 20.25, 0.9998, NULL, NULL),
-	(11269, 958, 20.5, 0.9996, NULL, NULL),
-	(11270, 958, 20.75, 0.9995, NULL, NULL),
-	(11271, 958, 21, 0.9993, NULL, NULL),
-	(11272, 958, 21.25, 0.9991, NULL, NULL),
-	(11273, 958, 21.5, 0.9989, NULL, NULL),
-	(11274, 958, 21.75, 0.9988, NULL, NULL),
-	(11275, 958, 22, 0.9986, NULL, NULL),
-	(11276, 958, 22.25, 0.9984, NULL, NULL),
-	(11277, 958, 22.5, 0.9982, NULL, NULL),
-	(11278, 958, 22.75, 0.998, NULL, NULL),
-	(11279, 958, 23, 0.9979, NULL, NULL),
-	(11280, 958, 23.25, 0.9977, NULL, NULL),
-	(11281, 958, 23.5, 0.9975, NULL, NULL),
-	(11282, 958, 23.75, 0.9973, NULL, NULL),
-	(11283, 958, 24, 0.9971, NULL, NULL),
-	(11284, 958, 24.25, 0.997, NULL, NULL),
-	(11285, 958, 24.5, 0.9968, NULL, NULL),
-	(11286, 958, 24.75, 0.9966, NULL, NULL),
-	(11287, 958, 25, 0.9964, NULL, NULL),
-	(11288, 958, 25.25, 0.9963, NULL, NULL),
-	(11289, 958, 25.5, 0.9961, NULL, NULL),
-	(11290, 958, 25.75, 0.9959, NULL, NULL),
-	(11291, 958, 26, 0.9957, NULL, NULL),
-	(11292, 958, 26.25, 0.9955, NULL, NULL),
-	(11293, 958, 26.5, 0.9954, NULL, NULL),
-	(11294, 958, 26.75, 0.9952, NULL, NULL),
-	(11295, 958, 27, 0.995, NULL, NULL),
-	(11296, 958, 27.25, 0.9948, NULL, NULL),
-	(11297, 958, 27.5, 0.9947, NULL, NULL),
-	(11298, 958, 27.75, 0.9945, NULL, NULL),
-	(11299, 958, 28, 0.9943, NULL, NULL),
-	(11300, 958, 28.25, 0.9941, NULL, NULL),
-	(11301, 958, 28.5, 0.9939, NULL, NULL),
-	(11302, 958, 28.75, 0.9938, NULL, NULL),
-	(11303, 958, 29, 0.9936, NULL, NULL),
-	(11304, 958, 29.25, 0.9934, NULL, NULL),
-	(11305, 958, 29.5, 0.9932, NULL, NULL),
-	(11306, 958, 29.75, 0.993, NULL, NULL),
-	(11307, 958, 30, 0.9929, NULL, NULL),
-	(11308, 958, 30.25, 0.9927, NULL, NULL),
-	(11309, 958, 30.5, 0.9925, NULL, NULL),
-	(11310, 958, 30.75, 0.9923, NULL, NULL),
-	(11311, 958, 31, 0.9922, NULL, NULL),
-	(11312, 958, 31.25, 0.992, NULL, NULL),
-	(11313, 958, 31.5, 0.9918, NULL, NULL),
-	(11314, 958, 31.75, 0.9916, NULL, NULL),
-	(11315, 958, 32, 0.9914, NULL, NULL),
-	(11316, 958, 32.25, 0.9913, NULL, NULL),
-	(11317, 958, 32.5, 0.9911, NULL, NULL),
-	(11318, 958, 32.75, 0.9909, NULL, NULL),
-	(11319, 958, 33, 0.9907, NULL, NULL),
-	(11320, 958, 33.25, 0.9905, NULL, NULL),
-	(11321, 958, 33.5, 0.9904, NULL, NULL),
-	(11322, 958, 33.75, 0.9902, NULL, NULL),
-	(11323, 958, 34, 0.99, NULL, NULL),
-	(11324, 958, 34.25, 0.9898, NULL, NULL),
-	(11325, 958, 34.5, 0.9896, NULL, NULL),
-	(11326, 958, 34.75, 0.9895, NULL, NULL),
-	(11327, 958, 35, 0.9893, NULL, NULL),
-	(11328, 958, 35.25, 0.9891, NULL, NULL),
-	(11329, 958, 35.5, 0.9889, NULL, NULL),
-	(11330, 958, 35.75, 0.9888, NULL, NULL),
-	(11331, 958, 36, 0.9886, NULL, NULL),
-	(11332, 958, 36.25, 0.9884, NULL, NULL),
-	(11333, 958, 36.5, 0.9882, NULL, NULL),
-	(11334, 958, 36.75, 0.988, NULL, NULL),
-	(11335, 958, 37, 0.9879, NULL, NULL),
-	(11336, 958, 37.25, 0.9877, NULL, NULL),
-	(11337, 958, 37.5, 0.9875, NULL, NULL),
-	(11338, 958, 37.75, 0.9873, NULL, NULL),
-	(11339, 958, 38, 0.9871, NULL, NULL),
-	(11340, 958, 38.25, 0.987, NULL, NULL),
-	(11341, 958, 38.5, 0.9868, NULL, NULL),
-	(11342, 958, 38.75, 0.9866, NULL, NULL),
-	(11343, 958, 39, 0.9864, NULL, NULL),
-	(11344, 958, 39.25, 0.9862, NULL, NULL),
-	(11345, 958, 39.5, 0.9861, NULL, NULL),
-	(11346, 958, 39.75, 0.9859, NULL, NULL),
-	(11347, 958, 40, 0.9857, NULL, NULL),
-	(11348, 958, 40.25, 0.9855, NULL, NULL),
-	(11349, 958, 40.5, 0.9853, NULL, NULL),
-	(11350, 958, 40.75, 0.9852, NULL, NULL),
-	(11351, 958, 41.25, 0.9848, NULL, NULL),
-	(11352, 958, 41.5, 0.9846, NULL, NULL),
-	(11353, 958, 41.75, 0.9844, NULL, NULL),
-	(11354, 958, 42, 0.9843, NULL, NULL),
-	(11355, 958, 42.25, 0.9841, NULL, NULL),
-	(11356, 958, 42.5, 0.9839, NULL, NULL),
-	(11357, 958, 42.75, 0.9837, NULL, NULL),
-	(11358, 958, 43, 0.9835, NULL, NULL),
-	(11359, 958, 43.25, 0.9834, NULL, NULL),
-	(11360, 958, 43.5, 0.9832, NULL, NULL),
-	(11361, 958, 43.75, 0.983, NULL, NULL),
-	(11362, 958, 44, 0.9828, NULL, NULL),
-	(11363, 958, 44.25, 0.9827, NULL, NULL),
-	(11364, 958, 44.5, 0.9825, NULL, NULL),
-	(11365, 958, 44.75, 0.9823, NULL, NULL),
-	(11366, 958, 45, 0.9821, NULL, NULL),
-	(11367, 958, 45.25, 0.9819, NULL, NULL),
-	(11368, 958, 45.5, 0.9818, NULL, NULL),
-	(11369, 958, 45.75, 0.9816, NULL, NULL),
-	(11370, 958, 46, 0.9814, NULL, NULL),
-	(11371, 958, 46.25, 0.9812, NULL, NULL),
-	(11372, 958, 46.5, 0.981, NULL, NULL),
-	(11373, 958, 46.75, 0.9809, NULL, NULL),
-	(11374, 958, 47, 0.9807, NULL, NULL),
-	(11375, 958, 47.25, 0.9805, NULL, NULL),
-	(11376, 958, 47.5, 0.9803, NULL, NULL),
-	(11377, 958, 47.75, 0.9801, NULL, NULL),
-	(11378, 958, 48, 0.98, NULL, NULL),
-	(11379, 958, 48.25, 0.9798, NULL, NULL),
-	(11380, 958, 48.5, 0.9796, NULL, NULL),
-	(11381, 958, 48.75, 0.9794, NULL, NULL),
-	(11382, 958, 49, 0.9792, NULL, NULL),
-	(11383, 958, 49.25, 0.9791, NULL, NULL),
-	(11384, 958, 49.5, 0.9789, NULL, NULL),
-	(11385, 958, 49.75, 0.9787, NULL, NULL),
-	(11386, 958, 50, 0.9785, NULL, NULL),
-	(11387, 958.5, 15, 1.0036, NULL, NULL),
-	(11388, 958.5, 15.25, 1.0034, NULL, NULL),
-	(11389, 958.5, 15.5, 1.0032, NULL, NULL),
-	(11390, 958.5, 15.75, 1.003, NULL, NULL),
-	(11391, 958.5, 16, 1.0028, NULL, NULL),
-	(11392, 958.5, 16.25, 1.0027, NULL, NULL),
-	(11393, 958.5, 16.5, 1.0025, NULL, NULL),
-	(11394, 958.5, 16.75, 1.0023, NULL, NULL),
-	(11395, 958.5, 17, 1.0021, NULL, NULL),
-	(11396, 958.5, 17.25, 1.002, NULL, NULL),
-	(11397, 958.5, 17.5, 1.0018, NULL, NULL),
-	(11398, 958.5, 17.75, 1.0016, NULL, NULL),
-	(11399, 958.5, 18, 1.0014, NULL, NULL),
-	(11400, 958.5, 18.25, 1.0012, NULL, NULL),
-	(11401, 958.5, 18.5, 1.0011, NULL, NULL),
-	(11402, 958.5, 18.75, 1.0009, NULL, NULL),
-	(11403, 958.5, 19, 1.0007, NULL, NULL),
-	(11404, 958.5, 19.25, 1.0005, NULL, NULL),
-	(11405, 958.5, 19.5, 1.0004, NULL, NULL),
-	(11406, 958.5, 19.75, 1.0002, NULL, NULL),
-	(11407, 958.5, 20, 1, NULL, NULL),
-	(11408, 958.5, 20.25, 0.9998, NULL, NULL),
-	(11409, 958.5, 20.5, 0.9996, NULL, NULL),
-	(11410, 958.5, 20.75, 0.9995, NULL, NULL),
-	(11411, 958.5, 21, 0.9993, NULL, NULL),
-	(11412, 958.5, 21.25, 0.9991, NULL, NULL),
-	(11413, 958.5, 21.5, 0.9989, NULL, NULL),
-	(11414, 958.5, 21.75, 0.9988, NULL, NULL),
-	(11415, 958.5, 22, 0.9986, NULL, NULL),
-	(11416, 958.5, 22.25, 0.9984, NULL, NULL),
-	(11417, 958.5, 22.5, 0.9982, NULL, NULL),
-	(11418, 958.5, 22.75, 0.998, NULL, NULL),
-	(11419, 958.5, 23, 0.9979, NULL, NULL),
-	(11420, 958.5, 23.25, 0.9977, NULL, NULL),
-	(11421, 958.5, 23.5, 0.9975, NULL, NULL),
-	(11422, 958.5, 23.75, 0.9973, NULL, NULL),
-	(11423, 958.5, 24, 0.9972, NULL, NULL),
-	(11424, 958.5, 24.25, 0.997, NULL, NULL),
-	(11425, 958.5, 24.5, 0.9968, NULL, NULL),
-	(11426, 958.5, 24.75, 0.9966, NULL, NULL),
-	(11427, 958.5, 25, 0.9964, NULL, NULL),
-	(11428, 958.5, 25.25, 0.9963, NULL, NULL),
-	(11429, 958.5, 25.5, 0.9961, NULL, NULL),
-	(11430, 958.5, 25.75, 0.9959, NULL, NULL),
-	(11431, 958.5, 26, 0.9957, NULL, NULL),
-	(11432, 958.5, 26.25, 0.9955, NULL, NULL),
-	(11433, 958.5, 26.5, 0.9954, NULL, NULL),
-	(11434, 958.5, 26.75, 0.9952, NULL, NULL),
-	(11435, 958.5, 27, 0.995, NULL, NULL),
-	(11436, 958.5, 27.25, 0.9948, NULL, NULL),
-	(11437, 958.5, 27.5, 0.9947, NULL, NULL),
-	(11438, 958.5, 27.75, 0.9945, NULL, NULL),
-	(11439, 958.5, 28, 0.9943, NULL, NULL),
-	(11440, 958.5, 28.25, 0.9941, NULL, NULL),
-	(11441, 958.5, 28.5, 0.9939, NULL, NULL),
-	(11442, 958.5, 28.75, 0.9938, NULL, NULL),
-	(11443, 958.5, 29, 0.9936, NULL, NULL),
-	(11444, 958.5, 29.25, 0.9934, NULL, NULL),
-	(11445, 958.5, 29.5, 0.9932, NULL, NULL),
-	(11446, 958.5, 29.75, 0.993, NULL, NULL),
-	(11447, 958.5, 30, 0.9929, NULL, NULL),
-	(11448, 958.5, 30.25, 0.9927, NULL, NULL),
-	(11449, 958.5, 30.5, 0.9925, NULL, NULL),
-	(11450, 958.5, 30.75, 0.9923, NULL, NULL),
-	(11451, 958.5, 31, 0.9922, NULL, NULL),
-	(11452, 958.5, 31.25, 0.992, NULL, NULL),
-	(11453, 958.5, 31.5, 0.9918, NULL, NULL),
-	(11454, 958.5, 31.75, 0.9916, NULL, NULL),
-	(11455, 958.5, 32, 0.9914, NULL, NULL),
-	(11456, 958.5, 32.25, 0.9913, NULL, NULL),
-	(11457, 958.5, 32.5, 0.9911, NULL, NULL),
-	(11458, 958.5, 33, 0.9907, NULL, NULL),
-	(11459, 958.5, 33.25, 0.9905, NULL, NULL),
-	(11460, 958.5, 33.5, 0.9904, NULL, NULL),
-	(11461, 958.5, 34, 0.99, NULL, NULL),
-	(11462, 958.5, 34.25, 0.9898, NULL, NULL),
-	(11463, 958.5, 34.5, 0.9897, NULL, NULL),
-	(11464, 958.5, 34.75, 0.9895, NULL, NULL),
-	(11465, 958.5, 35, 0.9893, NULL, NULL),
-	(11466, 958.5, 35.25, 0.9891, NULL, NULL),
-	(11467, 958.5, 35.5, 0.9889, NULL, NULL),
-	(11468, 958.5, 35.75, 0.9888, NULL, NULL),
-	(11469, 958.5, 36, 0.9886, NULL, NULL),
-	(11470, 958.5, 36.25, 0.9884, NULL, NULL),
-	(11471, 958.5, 36.5, 0.9882, NULL, NULL),
-	(11472, 958.5, 36.75, 0.988, NULL, NULL),
-	(11473, 958.5, 37, 0.9879, NULL, NULL),
-	(11474, 958.5, 37.25, 0.9877, NULL, NULL),
-	(11475, 958.5, 37.5, 0.9875, NULL, NULL),
-	(11476, 958.5, 37.75, 0.9873, NULL, NULL),
-	(11477, 958.5, 38, 0.9871, NULL, NULL),
-	(11478, 958.5, 38.25, 0.987, NULL, NULL),
-	(11479, 958.5, 38.5, 0.9868, NULL, NULL),
-	(11480, 958.5, 38.75, 0.9866, NULL, NULL),
-	(11481, 958.5, 39, 0.9864, NULL, NULL),
-	(11482, 958.5, 39.25, 0.9863, NULL, NULL),
-	(11483, 958.5, 39.5, 0.9861, NULL, NULL),
-	(11484, 958.5, 39.75, 0.9859, NULL, NULL),
-	(11485, 958.5, 40, 0.9857, NULL, NULL),
-	(11486, 958.5, 40.25, 0.9855, NULL, NULL),
-	(11487, 958.5, 40.5, 0.9854, NULL, NULL),
-	(11488, 958.5, 40.75, 0.9852, NULL, NULL),
-	(11489, 958.5, 41, 0.985, NULL, NULL),
-	(11490, 958.5, 41.25, 0.9848, NULL, NULL),
-	(11491, 958.5, 41.5, 0.9846, NULL, NULL),
-	(11492, 958.5, 41.75, 0.9845, NULL, NULL),
-	(11493, 958.5, 42, 0.9843, NULL, NULL),
-	(11494, 958.5, 42.25, 0.9841, NULL, NULL),
-	(11495, 958.5, 42.5, 0.9839, NULL, NULL),
-	(11496, 958.5, 42.75, 0.9837, NULL, NULL),
-	(11497, 958.5, 43, 0.9836, NULL, NULL),
-	(11498, 958.5, 43.25, 0.9834, NULL, NULL),
-	(11499, 958.5, 43.5, 0.9832, NULL, NULL),
-	(11500, 958.5, 43.75, 0.983, NULL, NULL),
-	(11501, 958.5, 44, 0.9828, NULL, NULL),
-	(11502, 958.5, 44.25, 0.9827, NULL, NULL),
-	(11503, 958.5, 44.5, 0.9825, NULL, NULL),
-	(11504, 958.5, 44.75, 0.9823, NULL, NULL),
-	(11505, 958.5, 45, 0.9821, NULL, NULL),
-	(11506, 958.5, 45.25, 0.9819, NULL, NULL),
-	(11507, 958.5, 45.5, 0.9818, NULL, NULL),
-	(11508, 958.5, 45.75, 0.9816, NULL, NULL),
-	(11509, 958.5, 46, 0.9814, NULL, NULL),
-	(11510, 958.5, 46.25, 0.9812, NULL, NULL),
-	(11511, 958.5, 46.5, 0.981, NULL, NULL),
-	(11512, 958.5, 46.75, 0.9809, NULL, NULL),
-	(11513, 958.5, 47, 0.9807, NULL, NULL),
-	(11514, 958.5, 47.25, 0.9805, NULL, NULL),
-	(11515, 958.5, 47.5, 0.9803, NULL, NULL),
-	(11516, 958.5, 47.75, 0.9801, NULL, NULL),
-	(11517, 958.5, 48, 0.98, NULL, NULL),
-	(11518, 958.5, 48.25, 0.9798, NULL, NULL),
-	(11519, 958.5, 48.5, 0.9796, NULL, NULL),
-	(11520, 958.5, 48.75, 0.9794, NULL, NULL),
-	(11521, 958.5, 49, 0.9792, NULL, NULL),
-	(11522, 958.5, 49.25, 0.9791, NULL, NULL),
-	(11523, 958.5, 49.5, 0.9789, NULL, NULL),
-	(11524, 958.5, 49.75, 0.9787, NULL, NULL),
-	(11525, 958.5, 50, 0.9785, NULL, NULL),
-	(11526, 959, 15, 1.0036, NULL, NULL),
-	(11527, 959, 15.25, 1.0034, NULL, NULL),
-	(11528, 959, 15.5, 1.0032, NULL, NULL),
-	(11529, 959, 15.75, 1.003, NULL, NULL),
-	(11530, 959, 16, 1.0028, NULL, NULL),
-	(11531, 959, 16.25, 1.0027, NULL, NULL),
-	(11532, 959, 16.5, 1.0025, NULL, NULL),
-	(11533, 959, 16.75, 1.0023, NULL, NULL),
-	(11534, 959, 17, 1.0021, NULL, NULL),
-	(11535, 959, 17.25, 1.002, NULL, NULL),
-	(11536, 959, 17.5, 1.0018, NULL, NULL),
-	(11537, 959, 17.75, 1.0016, NULL, NULL),
-	(11538, 959, 18, 1.0014, NULL, NULL),
-	(11539, 959, 18.25, 1.0012, NULL, NULL),
-	(11540, 959, 18.5, 1.0011, NULL, NULL),
-	(11541, 959, 18.75, 1.0009, NULL, NULL),
-	(11542, 959, 19, 1.0007, NULL, NULL),
-	(11543, 959, 19.25, 1.0005, NULL, NULL),
-	(11544, 959, 19.5, 1.0004, NULL, NULL),
-	(11545, 959, 19.75, 1.0002, NULL, NULL),
-	(11546, 959, 20, 1, NULL, NULL),
-	(11547, 959, 20.25, 0.9998, NULL, NULL),
-	(11548, 959, 20.5, 0.9996, NULL, NULL),
-	(11549, 959, 20.75, 0.9995, NULL, NULL),
-	(11550, 959, 21, 0.9993, NULL, NULL),
-	(11551, 959, 21.25, 0.9991, NULL, NULL),
-	(11552, 959, 21.5, 0.9989, NULL, NULL),
-	(11553, 959, 21.75, 0.9988, NULL, NULL),
-	(11554, 959, 22, 0.9986, NULL, NULL),
-	(11555, 959, 22.25, 0.9984, NULL, NULL),
-	(11556, 959, 22.5, 0.9982, NULL, NULL),
-	(11557, 959, 22.75, 0.998, NULL, NULL),
-	(11558, 959, 23, 0.9979, NULL, NULL),
-	(11559, 959, 23.25, 0.9977, NULL, NULL),
-	(11560, 959, 23.5, 0.9975, NULL, NULL),
-	(11561, 959, 23.75, 0.9973, NULL, NULL),
-	(11562, 959, 24, 0.9972, NULL, NULL),
-	(11563, 959, 24.25, 0.997, NULL, NULL),
-	(11564, 959, 24.5, 0.9968, NULL, NULL),
-	(11565, 959, 24.75, 0.9966, NULL, NULL),
-	(11566, 959, 25, 0.9964, NULL, NULL),
-	(11567, 959, 25.25, 0.9963, NULL, NULL),
-	(11568, 959, 25.5, 0.9961, NULL, NULL),
-	(11569, 959, 25.75, 0.9959, NULL, NULL),
-	(11570, 959, 26, 0.9957, NULL, NULL),
-	(11571, 959, 26.25, 0.9955, NULL, NULL),
-	(11572, 959, 26.5, 0.9954, NULL, NULL),
-	(11573, 959, 26.75, 0.9952, NULL, NULL),
-	(11574, 959, 27, 0.995, NULL, NULL),
-	(11575, 959, 27.25, 0.9948, NULL, NULL),
-	(11576, 959, 27.5, 0.9947, NULL, NULL),
-	(11577, 959, 27.75, 0.9945, NULL, NULL),
-	(11578, 959, 28, 0.9943, NULL, NULL),
-	(11579, 959, 28.25, 0.9941, NULL, NULL),
-	(11580, 959, 28.5, 0.9939, NULL, NULL),
-	(11581, 959, 28.75, 0.9938, NULL, NULL),
-	(11582, 959, 29, 0.9936, NULL, NULL),
-	(11583, 959, 29.25, 0.9934, NULL, NULL),
-	(11584, 959, 29.5, 0.9932, NULL, NULL),
-	(11585, 959, 29.75, 0.9931, NULL, NULL),
-	(11586, 959, 30, 0.9929, NULL, NULL),
-	(11587, 959, 30.25, 0.9927, NULL, NULL),
-	(11588, 959, 30.5, 0.9925, NULL, NULL),
-	(11589, 959, 30.75, 0.9923, NULL, NULL),
-	(11590, 959, 31, 0.9922, NULL, NULL),
-	(11591, 959, 31.25, 0.992, NULL, NULL),
-	(11592, 959, 31.5, 0.9918, NULL, NULL),
-	(11593, 959, 31.75, 0.9916, NULL, NULL),
-	(11594, 959, 32, 0.9914, NULL, NULL),
-	(11595, 959, 32.25, 0.9913, NULL, NULL),
-	(11596, 959, 32.5, 0.9911, NULL, NULL),
-	(11597, 959, 32.75, 0.9909, NULL, NULL),
-	(11598, 959, 33, 0.9907, NULL, NULL),
-	(11599, 959, 33.25, 0.9906, NULL, NULL),
-	(11600, 959, 33.5, 0.9904, NULL, NULL),
-	(11601, 959, 33.75, 0.9902, NULL, NULL),
-	(11602, 959, 34, 0.99, NULL, NULL),
-	(11603, 959, 34.25, 0.9898, NULL, NULL),
-	(11604, 959, 34.5, 0.9897, NULL, NULL),
-	(11605, 959, 34.75, 0.9895, NULL, NULL),
-	(11606, 959, 35, 0.9893, NULL, NULL),
-	(11607, 959, 35.25, 0.9891, NULL, NULL),
-	(11608, 959, 35.5, 0.9889, NULL, NULL),
-	(11609, 959, 35.75, 0.9888, NULL, NULL),
-	(11610, 959, 36, 0.9886, NULL, NULL),
-	(11611, 959, 36.25, 0.9884, NULL, NULL),
-	(11612, 959, 36.5, 0.9882, NULL, NULL),
-	(11613, 959, 36.75, 0.988, NULL, NULL),
-	(11614, 959, 37, 0.9879, NULL, NULL),
-	(11615, 959, 37.25, 0.9877, NULL, NULL),
-	(11616, 959, 37.5, 0.9875, NULL, NULL),
-	(11617, 959, 37.75, 0.9873, NULL, NULL),
-	(11618, 959, 38, 0.9872, NULL, NULL),
-	(11619, 959, 38.25, 0.987, NULL, NULL),
-	(11620, 959, 38.5, 0.9868, NULL, NULL),
-	(11621, 959, 38.75, 0.9866, NULL, NULL),
-	(11622, 959, 39, 0.9864, NULL, NULL),
-	(11623, 959, 39.25, 0.9863, NULL, NULL),
-	(11624, 959, 39.5, 0.9861, NULL, NULL),
-	(11625, 959, 39.75, 0.9859, NULL, NULL),
-	(11626, 959, 40, 0.9857, NULL, NULL),
-	(11627, 959, 40.25, 0.9855, NULL, NULL),
-	(11628, 959, 40.5, 0.9854, NULL, NULL),
-	(11629, 959, 40.75, 0.9852, NULL, NULL),
-	(11630, 959, 41, 0.985, NULL, NULL),
-	(11631, 959, 41.25, 0.9848, NULL, NULL),
-	(11632, 959, 41.5, 0.9846, NULL, NULL),
-	(11633, 959, 41.75, 0.9845, NULL, NULL),
-	(11634, 959, 42, 0.9843, NULL, NULL),
-	(11635, 959, 42.25, 0.9841, NULL, NULL),
-	(11636, 959, 42.5, 0.9839, NULL, NULL),
-	(11637, 959, 42.75, 0.9837, NULL, NULL),
-	(11638, 959, 43, 0.9836, NULL, NULL),
-	(11639, 959, 43.25, 0.9834, NULL, NULL),
-	(11640, 959, 43.5, 0.9832, NULL, NULL),
-	(11641, 959, 43.75, 0.983, NULL, NULL),
-	(11642, 959, 44, 0.9829, NULL, NULL),
-	(11643, 959, 44.25, 0.9827, NULL, NULL),
-	(11644, 959, 44.5, 0.9825, NULL, NULL),
-	(11645, 959, 44.75, 0.9823, NULL, NULL),
-	(11646, 959, 45, 0.9821, NULL, NULL),
-	(11647, 959, 45.25, 0.982, NULL, NULL),
-	(11648, 959, 45.5, 0.9818, NULL, NULL),
-	(11649, 959, 45.75, 0.9816, NULL, NULL),
-	(11650, 959, 46, 0.9814, NULL, NULL),
-	(11651, 959, 46.25, 0.9812, NULL, NULL),
-	(11652, 959, 46.5, 0.9811, NULL, NULL),
-	(11653, 959, 46.75, 0.9809, NULL, NULL),
-	(11654, 959, 47, 0.9807, NULL, NULL),
-	(11655, 959, 47.25, 0.9805, NULL, NULL),
-	(11656, 959, 47.5, 0.9803, NULL, NULL),
-	(11657, 959, 47.75, 0.9802, NULL, NULL),
-	(11658, 959, 48, 0.98, NULL, NULL),
-	(11659, 959, 48.25, 0.9798, NULL, NULL),
-	(11660, 959, 48.5, 0.9796, NULL, NULL),
-	(11661, 959, 48.75, 0.9794, NULL, NULL),
-	(11662, 959, 49, 0.9793, NULL, NULL),
-	(11663, 959, 49.25, 0.9791, NULL, NULL),
-	(11664, 959, 49.5, 0.9789, NULL, NULL),
-	(11665, 959, 49.75, 0.9787, NULL, NULL),
-	(11666, 959, 50, 0.9785, NULL, NULL),
-	(11667, 959.5, 15, 1.0035, NULL, NULL),
-	(11668, 959.5, 15.25, 1.0034, NULL, NULL),
-	(11669, 959.5, 15.5, 1.0032, NULL, NULL),
-	(11670, 959.5, 15.75, 1.003, NULL, NULL),
-	(11671, 959.5, 16, 1.0028, NULL, NULL),
-	(11672, 959.5, 16.25, 1.0027, NULL, NULL),
-	(11673, 959.5, 16.5, 1.0025, NULL, NULL),
-	(11674, 959.5, 16.75, 1.0023, NULL, NULL),
-	(11675, 959.5, 17, 1.0021, NULL, NULL),
-	(11676, 959.5, 17.25, 1.002, NULL, NULL),
-	(11677, 959.5, 17.5, 1.0018, NULL, NULL),
-	(11678, 959.5, 17.75, 1.0016, NULL, NULL),
-	(11679, 959.5, 18, 1.0014, NULL, NULL),
-	(11680, 959.5, 18.25, 1.0012, NULL, NULL),
-	(11681, 959.5, 18.5, 1.0011, NULL, NULL),
-	(11682, 959.5, 18.75, 1.0009, NULL, NULL),
-	(11683, 959.5, 19, 1.0007, NULL, NULL),
-	(11684, 959.5, 19.25, 1.0005, NULL, NULL),
-	(11685, 959.5, 19.5, 1.0004, NULL, NULL),
-	(11686, 959.5, 19.75, 1.0002, NULL, NULL),
-	(11687, 959.5, 20, 1, NULL, NULL),
-	(11688, 959.5, 20.25, 0.9998, NULL, NULL),
-	(11689, 959.5, 20.5, 0.9996, NULL, NULL),
-	(11690, 959.5, 20.75, 0.9995, NULL, NULL),
-	(11691, 959.5, 21, 0.9993, NULL, NULL),
-	(11692, 959.5, 21.25, 0.9991, NULL, NULL),
-	(11693, 959.5, 21.5, 0.9989, NULL, NULL),
-	(11694, 959.5, 21.75, 0.9988, NULL, NULL),
-	(11695, 959.5, 22, 0.9986, NULL, NULL),
-	(11696, 959.5, 22.25, 0.9984, NULL, NULL),
-	(11697, 959.5, 22.5, 0.9982, NULL, NULL),
-	(11698, 959.5, 22.75, 0.998, NULL, NULL),
-	(11699, 959.5, 23, 0.9979, NULL, NULL),
-	(11700, 959.5, 23.25, 0.9977, NULL, NULL),
-	(11701, 959.5, 23.5, 0.9975, NULL, NULL),
-	(11702, 959.5, 23.75, 0.9973, NULL, NULL),
-	(11703, 959.5, 24, 0.9972, NULL, NULL),
-	(11704, 959.5, 24.25, 0.997, NULL, NULL),
-	(11705, 959.5, 24.5, 0.9968, NULL, NULL),
-	(11706, 959.5, 24.75, 0.9966, NULL, NULL),
-	(11707, 959.5, 25, 0.9964, NULL, NULL),
-	(11708, 959.5, 25.25, 0.9963, NULL, NULL),
-	(11709, 959.5, 25.5, 0.9961, NULL, NULL),
-	(11710, 959.5, 25.75, 0.9959, NULL, NULL),
-	(11711, 959.5, 26, 0.9957, NULL, NULL),
-	(11712, 959.5, 26.25, 0.9956, NULL, NULL),
-	(11713, 959.5, 26.5, 0.9954, NULL, NULL),
-	(11714, 959.5, 26.75, 0.9952, NULL, NULL),
-	(11715, 959.5, 27, 0.995, NULL, NULL),
-	(11716, 959.5, 27.25, 0.9948, NULL, NULL),
-	(11717, 959.5, 27.5, 0.9947, NULL, NULL),
-	(11718, 959.5, 27.75, 0.9945, NULL, NULL),
-	(11719, 959.5, 28, 0.9943, NULL, NULL),
-	(11720, 959.5, 28.25, 0.9941, NULL, NULL),
-	(11721, 959.5, 28.5, 0.9939, NULL, NULL),
-	(11722, 959.5, 28.75, 0.9938, NULL, NULL),
-	(11723, 959.5, 29, 0.9936, NULL, NULL),
-	(11724, 959.5, 29.25, 0.9934, NULL, NULL),
-	(11725, 959.5, 29.5, 0.9932, NULL, NULL),
-	(11726, 959.5, 29.75, 0.9931, NULL, NULL),
-	(11727, 959.5, 30, 0.9929, NULL, NULL),
-	(11728, 959.5, 30.25, 0.9927, NULL, NULL),
-	(11729, 959.5, 30.5, 0.9925, NULL, NULL),
-	(11730, 959.5, 30.75, 0.9923, NULL, NULL),
-	(11731, 959.5, 31, 0.9922, NULL, NULL),
-	(11732, 959.5, 31.25, 0.992, NULL, NULL),
-	(11733, 959.5, 31.5, 0.9918, NULL, NULL),
-	(11734, 959.5, 31.75, 0.9916, NULL, NULL),
-	(11735, 959.5, 32, 0.9915, NULL, NULL),
-	(11736, 959.5, 32.25, 0.9913, NULL, NULL),
-	(11737, 959.5, 32.5, 0.9911, NULL, NULL),
-	(11738, 959.5, 32.75, 0.9909, NULL, NULL),
-	(11739, 959.5, 33, 0.9907, NULL, NULL),
-	(11740, 959.5, 33.25, 0.9906, NULL, NULL),
-	(11741, 959.5, 33.5, 0.9904, NULL, NULL),
-	(11742, 959.5, 33.75, 0.9902, NULL, NULL),
-	(11743, 959.5, 34, 0.99, NULL, NULL),
-	(11744, 959.5, 34.25, 0.9898, NULL, NULL),
-	(11745, 959.5, 34.5, 0.9897, NULL, NULL),
-	(11746, 959.5, 34.75, 0.9895, NULL, NULL),
-	(11747, 959.5, 35, 0.9893, NULL, NULL),
-	(11748, 959.5, 35.25, 0.9891, NULL, NULL),
-	(11749, 959.5, 35.5, 0.989, NULL, NULL),
-	(11750, 959.5, 35.75, 0.9888, NULL, NULL),
-	(11751, 959.5, 36, 0.9886, NULL, NULL),
-	(11752, 959.5, 36.25, 0.9884, NULL, NULL),
-	(11753, 959.5, 36.5, 0.9882, NULL, NULL),
-	(11754, 959.5, 36.75, 0.9881, NULL, NULL),
-	(11755, 959.5, 37, 0.9879, NULL, NULL),
-	(11756, 959.5, 37.25, 0.9877, NULL, NULL),
-	(11757, 959.5, 37.5, 0.9875, NULL, NULL),
-	(11758, 959.5, 37.75, 0.9873, NULL, NULL),
-	(11759, 959.5, 38, 0.9872, NULL, NULL),
-	(11760, 959.5, 38.25, 0.987, NULL, NULL),
-	(11761, 959.5, 38.5, 0.9868, NULL, NULL),
-	(11762, 959.5, 38.75, 0.9866, NULL, NULL),
-	(11763, 959.5, 39, 0.9864, NULL, NULL),
-	(11764, 959.5, 39.25, 0.9863, NULL, NULL),
-	(11765, 959.5, 39.5, 0.9861, NULL, NULL),
-	(11766, 959.5, 39.75, 0.9859, NULL, NULL),
-	(11767, 959.5, 40, 0.9857, NULL, NULL),
-	(11768, 959.5, 40.25, 0.9856, NULL, NULL),
-	(11769, 959.5, 40.5, 0.9854, NULL, NULL),
-	(11770, 959.5, 40.75, 0.9852, NULL, NULL),
-	(11771, 959.5, 41, 0.985, NULL, NULL),
-	(11772, 959.5, 41.25, 0.9848, NULL, NULL),
-	(11773, 959.5, 41.5, 0.9847, NULL, NULL),
-	(11774, 959.5, 41.75, 0.9845, NULL, NULL),
-	(11775, 959.5, 42, 0.9843, NULL, NULL),
-	(11776, 959.5, 42.25, 0.9841, NULL, NULL),
-	(11777, 959.5, 42.5, 0.9839, NULL, NULL),
-	(11778, 959.5, 42.75, 0.9838, NULL, NULL),
-	(11779, 959.5, 43, 0.9836, NULL, NULL),
-	(11780, 959.5, 43.25, 0.9834, NULL, NULL),
-	(11781, 959.5, 43.5, 0.9832, NULL, NULL),
-	(11782, 959.5, 43.75, 0.983, NULL, NULL),
-	(11783, 959.5, 44, 0.9829, NULL, NULL),
-	(11784, 959.5, 44.25, 0.9827, NULL, NULL),
-	(11785, 959.5, 44.5, 0.9825, NULL, NULL),
-	(11786, 959.5, 44.75, 0.9823, NULL, NULL),
-	(11787, 959.5, 45, 0.9821, NULL, NULL),
-	(11788, 959.5, 45.25, 0.982, NULL, NULL),
-	(11789, 959.5, 45.5, 0.9818, NULL, NULL),
-	(11790, 959.5, 45.75, 0.9816, NULL, NULL),
-	(11791, 959.5, 46, 0.9814, NULL, NULL),
-	(11792, 959.5, 46.25, 0.9812, NULL, NULL),
-	(11793, 959.5, 46.5, 0.9811, NULL, NULL),
-	(11794, 959.5, 46.75, 0.9809, NULL, NULL),
-	(11795, 959.5, 47, 0.9807, NULL, NULL),
-	(11796, 959.5, 47.25, 0.9805, NULL, NULL),
-	(11797, 959.5, 47.5, 0.9804, NULL, NULL),
-	(11798, 959.5, 47.75, 0.9802, NULL, NULL),
-	(11799, 959.5, 48, 0.98, NULL, NULL),
-	(11800, 959.5, 48.25, 0.9798, NULL, NULL),
-	(11801, 959.5, 48.5, 0.9796, NULL, NULL),
-	(11802, 959.5, 48.75, 0.9795, NULL, NULL),
-	(11803, 959.5, 49, 0.9793, NULL, NULL),
-	(11804, 959.5, 49.25, 0.9791, NULL, NULL),
-	(11805, 959.5, 49.5, 0.9789, NULL, NULL),
-	(11806, 959.5, 49.75, 0.9787, NULL, NULL),
-	(11807, 959.5, 50, 0.9786, NULL, NULL),
-	(11808, 963, 15, 1.0035, NULL, NULL),
-	(11809, 963, 15.25, 1.0034, NULL, NULL),
-	(11810, 963, 15.5, 1.0032, NULL, NULL),
-	(11811, 963, 15.75, 1.003, NULL, NULL),
-	(11812, 963, 16, 1.0028, NULL, NULL),
-	(11813, 963, 16.25, 1.0027, NULL, NULL),
-	(11814, 963, 16.5, 1.0025, NULL, NULL),
-	(11815, 963, 16.75, 1.0023, NULL, NULL),
-	(11816, 963, 17, 1.0021, NULL, NULL),
-	(11817, 963, 17.25, 1.0019, NULL, NULL),
-	(11818, 963, 17.5, 1.0018, NULL, NULL),
-	(11819, 963, 17.75, 1.0016, NULL, NULL),
-	(11820, 963, 18, 1.0014, NULL, NULL),
-	(11821, 963, 18.25, 1.0012, NULL, NULL),
-	(11822, 963, 18.5, 1.0011, NULL, NULL),
-	(11823, 963, 18.75, 1.0009, NULL, NULL),
-	(11824, 963, 19, 1.0007, NULL, NULL),
-	(11825, 963, 19.25, 1.0005, NULL, NULL),
-	(11826, 963, 19.5, 1.0004, NULL, NULL),
-	(11827, 963, 19.75, 1.0002, NULL, NULL),
-	(11828, 963, 20, 1, NULL, NULL),
-	(11829, 963, 20.25, 0.9998, NULL, NULL),
-	(11830, 963, 20.5, 0.9996, NULL, NULL),
-	(11831, 963, 20.75, 0.9995, NULL, NULL),
-	(11832, 963, 21, 0.9993, NULL, NULL),
-	(11833, 963, 21.25, 0.9991, NULL, NULL),
-	(11834, 963, 21.5, 0.9989, NULL, NULL),
-	(11835, 963, 21.75, 0.9988, NULL, NULL),
-	(11836, 963, 22, 0.9986, NULL, NULL),
-	(11837, 963, 22.25, 0.9984, NULL, NULL),
-	(11838, 963, 22.5, 0.9982, NULL, NULL),
-	(11839, 963, 22.75, 0.9981, NULL, NULL),
-	(11840, 963, 23, 0.9979, NULL, NULL),
-	(11841, 963, 23.25, 0.9977, NULL, NULL),
-	(11842, 963, 23.5, 0.9975, NULL, NULL),
-	(11843, 963, 23.75, 0.9973, NULL, NULL),
-	(11844, 963, 24, 0.9972, NULL, NULL),
-	(11845, 963, 24.25, 0.997, NULL, NULL),
-	(11846, 963, 24.5, 0.9968, NULL, NULL),
-	(11847, 963, 24.75, 0.9966, NULL, NULL),
-	(11848, 963, 25, 0.9965, NULL, NULL),
-	(11849, 963, 25.25, 0.9963, NULL, NULL),
-	(11850, 963, 25.5, 0.9961, NULL, NULL),
-	(11851, 963, 25.75, 0.9959, NULL, NULL),
-	(11852, 963, 26, 0.9958, NULL, NULL),
-	(11853, 963, 26.25, 0.9956, NULL, NULL),
-	(11854, 963, 26.5, 0.9954, NULL, NULL),
-	(11855, 963, 26.75, 0.9952, NULL, NULL),
-	(11856, 963, 27, 0.995, NULL, NULL),
-	(11857, 963, 27.25, 0.9949, NULL, NULL),
-	(11858, 963, 27.5, 0.9947, NULL, NULL),
-	(11859, 963, 27.75, 0.9945, NULL, NULL),
-	(11860, 963, 28, 0.9943, NULL, NULL),
-	(11861, 963, 28.25, 0.9942, NULL, NULL),
-	(11862, 963, 28.5, 0.994, NULL, NULL),
-	(11863, 963, 28.75, 0.9938, NULL, NULL),
-	(11864, 963, 29, 0.9936, NULL, NULL),
-	(11865, 963, 29.25, 0.9934, NULL, NULL),
-	(11866, 963, 29.5, 0.9933, NULL, NULL),
-	(11867, 963, 29.75, 0.9931, NULL, NULL),
-	(11868, 963, 30, 0.9929, NULL, NULL),
-	(11869, 963, 30.25, 0.9927, NULL, NULL),
-	(11870, 963, 30.5, 0.9926, NULL, NULL),
-	(11871, 963, 30.75, 0.9924, NULL, NULL),
-	(11872, 963, 31, 0.9922, NULL, NULL),
-	(11873, 963, 31.25, 0.992, NULL, NULL),
-	(11874, 963, 31.5, 0.9918, NULL, NULL),
-	(11875, 963, 31.75, 0.9917, NULL, NULL),
-	(11876, 963, 32, 0.9915, NULL, NULL),
-	(11877, 963, 32.25, 0.9913, NULL, NULL),
-	(11878, 963, 32.5, 0.9911, NULL, NULL),
-	(11879, 963, 32.75, 0.991, NULL, NULL),
-	(11880, 963, 33, 0.9908, NULL, NULL),
-	(11881, 963, 33.25, 0.9906, NULL, NULL),
-	(11882, 963, 33.5, 0.9904, NULL, NULL),
-	(11883, 963, 33.75, 0.9902, NULL, NULL),
-	(11884, 963, 34, 0.9901, NULL, NULL),
-	(11885, 963, 34.25, 0.9899, NULL, NULL),
-	(11886, 963, 34.5, 0.9897, NULL, NULL),
-	(11887, 963, 34.75, 0.9895, NULL, NULL),
-	(11888, 963, 35, 0.9894, NULL, NULL),
-	(11889, 963, 35.25, 0.9892, NULL, NULL),
-	(11890, 963, 35.5, 0.989, NULL, NULL),
-	(11891, 963, 35.75, 0.9888, NULL, NULL),
-	(11892, 963, 36, 0.9886, NULL, NULL),
-	(11893, 963, 36.25, 0.9885, NULL, NULL),
-	(11894, 963, 36.5, 0.9883, NULL, NULL),
-	(11895, 963, 36.75, 0.9881, NULL, NULL),
-	(11896, 963, 37, 0.9879, NULL, NULL),
-	(11897, 963, 37.25, 0.9878, NULL, NULL),
-	(11898, 963, 37.5, 0.9876, NULL, NULL),
-	(11899, 963, 37.75, 0.9874, NULL, NULL),
-	(11900, 963, 38, 0.9872, NULL, NULL),
-	(11901, 963, 38.25, 0.987, NULL, NULL),
-	(11902, 963, 38.5, 0.9869, NULL, NULL),
-	(11903, 963, 38.75, 0.9867, NULL, NULL),
-	(11904, 963, 39, 0.9865, NULL, NULL),
-	(11905, 963, 39.25, 0.9863, NULL, NULL),
-	(11906, 963, 39.5, 0.9862, NULL, NULL),
-	(11907, 963, 39.75, 0.986, NULL, NULL),
-	(11908, 963, 40, 0.9858, NULL, NULL),
-	(11909, 963, 40.25, 0.9856, NULL, NULL),
-	(11910, 963, 40.5, 0.9854, NULL, NULL),
-	(11911, 963, 40.75, 0.9853, NULL, NULL),
-	(11912, 963, 41, 0.9851, NULL, NULL),
-	(11913, 963, 41.25, 0.9849, NULL, NULL),
-	(11914, 963, 41.5, 0.9847, NULL, NULL),
-	(11915, 963, 41.75, 0.9846, NULL, NULL),
-	(11916, 963, 42, 0.9844, NULL, NULL),
-	(11917, 963, 42.25, 0.9842, NULL, NULL),
-	(11918, 963, 42.5, 0.984, NULL, NULL),
-	(11919, 963, 42.75, 0.984, NULL, NULL),
-	(11920, 963, 43, 0.9837, NULL, NULL),
-	(11921, 963, 43.25, 0.9835, NULL, NULL),
-	(11922, 963, 43.5, 0.9833, NULL, NULL),
-	(11923, 963, 43.75, 0.9831, NULL, NULL),
-	(11924, 963, 44, 0.9829, NULL, NULL),
-	(11925, 963, 44.25, 0.9828, NULL, NULL),
-	(11926, 963, 44.5, 0.9826, NULL, NULL),
-	(11927, 963, 44.75, 0.9824, NULL, NULL),
-	(11928, 963, 45, 0.9822, NULL, NULL),
-	(11929, 963, 45.25, 0.9821, NULL, NULL),
-	(11930, 963, 45.5, 0.9819, NULL, NULL),
-	(11931, 963, 45.75, 0.9817, NULL, NULL),
-	(11932, 963, 46, 0.9815, NULL, NULL),
-	(11933, 963, 46.25, 0.9813, NULL, NULL),
-	(11934, 963, 46.5, 0.9812, NULL, NULL),
-	(11935, 963, 46.75, 0.981, NULL, NULL),
-	(11936, 963, 47, 0.9808, NULL, NULL),
-	(11937, 963, 47.25, 0.9806, NULL, NULL),
-	(11938, 963, 47.5, 0.9804, NULL, NULL),
-	(11939, 963, 47.75, 0.9803, NULL, NULL),
-	(11940, 963, 48, 0.9801, NULL, NULL),
-	(11941, 963, 48.25, 0.9799, NULL, NULL),
-	(11942, 963, 48.5, 0.9797, NULL, NULL),
-	(11943, 963, 48.75, 0.9796, NULL, NULL),
-	(11944, 963, 49, 0.9794, NULL, NULL),
-	(11945, 963, 49.25, 0.9792, NULL, NULL),
-	(11946, 963, 49.5, 0.979, NULL, NULL),
-	(11947, 963, 49.75, 0.9788, NULL, NULL),
-	(11948, 963, 50, 0.9787, NULL, NULL),
-	(11949, 963.5, 15, 1.0035, NULL, NULL),
-	(11950, 963.5, 15.25, 1.0034, NULL, NULL),
-	(11951, 963.5, 15.5, 1.0032, NULL, NULL),
-	(11952, 963.5, 15.75, 1.003, NULL, NULL),
-	(11953, 963.5, 16, 1.0028, NULL, NULL),
-	(11954, 963.5, 16.25, 1.0026, NULL, NULL),
-	(11955, 963.5, 16.5, 1.0025, NULL, NULL),
-	(11956, 963.5, 16.75, 1.0023, NULL, NULL),
-	(11957, 963.5, 17, 1.0021, NULL, NULL),
-	(11958, 963.5, 17.25, 1.0019, NULL, NULL),
-	(11959, 963.5, 17.5, 1.0018, NULL, NULL),
-	(11960, 963.5, 17.75, 1.0016, NULL, NULL),
-	(11961, 963.5, 18, 1.0014, NULL, NULL),
-	(11962, 963.5, 18.25, 1.0012, NULL, NULL),
-	(11963, 963.5, 18.5, 1.0011, NULL, NULL),
-	(11964, 963.5, 18.75, 1.0009, NULL, NULL),
-	(11965, 963.5, 19, 1.0007, NULL, NULL),
-	(11966, 963.5, 19.25, 1.0005, NULL, NULL),
-	(11967, 963.5, 19.5, 1.0004, NULL, NULL),
-	(11968, 963.5, 19.75, 1.0002, NULL, NULL),
-	(11969, 963.5, 20, 1, NULL, NULL),
-	(11970, 963.5, 20.25, 0.9998, NULL, NULL),
-	(11971, 963.5, 20.5, 0.9996, NULL, NULL),
-	(11972, 963.5, 20.75, 0.9995, NULL, NULL),
-	(11973, 963.5, 21, 0.9993, NULL, NULL),
-	(11974, 963.5, 21.25, 0.9991, NULL, NULL),
-	(11975, 963.5, 21.5, 0.9989, NULL, NULL),
-	(11976, 963.5, 21.75, 0.9988, NULL, NULL),
-	(11977, 963.5, 22, 0.9986, NULL, NULL),
-	(11978, 963.5, 22.25, 0.9984, NULL, NULL),
-	(11979, 963.5, 22.5, 0.9982, NULL, NULL),
-	(11980, 963.5, 22.75, 0.9981, NULL, NULL),
-	(11981, 963.5, 23, 0.9979, NULL, NULL),
-	(11982, 963.5, 23.25, 0.9977, NULL, NULL),
-	(11983, 963.5, 23.5, 0.9975, NULL, NULL),
-	(11984, 963.5, 23.75, 0.9973, NULL, NULL),
-	(11985, 963.5, 24, 0.9972, NULL, NULL),
-	(11986, 963.5, 24.25, 0.997, NULL, NULL),
-	(11987, 963.5, 24.5, 0.9968, NULL, NULL),
-	(11988, 963.5, 24.75, 0.9966, NULL, NULL),
-	(11989, 963.5, 25, 0.9965, NULL, NULL),
-	(11990, 963.5, 25.25, 0.9963, NULL, NULL),
-	(11991, 963.5, 25.5, 0.9961, NULL, NULL),
-	(11992, 963.5, 25.75, 0.9959, NULL, NULL),
-	(11993, 963.5, 26, 0.9958, NULL, NULL),
-	(11994, 963.5, 26.25, 0.9956, NULL, NULL),
-	(11995, 963.5, 26.5, 0.9954, NULL, NULL),
-	(11996, 963.5, 26.75, 0.9952, NULL, NULL),
-	(11997, 963.5, 27, 0.995, NULL, NULL),
-	(11998, 963.5, 27.25, 0.9949, NULL, NULL),
-	(11999, 963.5, 27.5, 0.9947, NULL, NULL),
-	(12000, 963.5, 27.75, 0.9945, NULL, NULL),
-	(12001, 963.5, 28, 0.9943, NULL, NULL),
-	(12002, 963.5, 28.25, 0.9942, NULL, NULL),
-	(12003, 963.5, 28.5, 0.994, NULL, NULL),
-	(12004, 963.5, 28.75, 0.9938, NULL, NULL),
-	(12005, 963.5, 29, 0.9936, NULL, NULL),
-	(12006, 963.5, 29.25, 0.9935, NULL, NULL),
-	(12007, 963.5, 29.5, 0.9933, NULL, NULL),
-	(12008, 963.5, 29.75, 0.9931, NULL, NULL),
-	(12009, 963.5, 30, 0.9929, NULL, NULL),
-	(12010, 963.5, 30.25, 0.9927, NULL, NULL),
-	(12011, 963.5, 30.5, 0.9926, NULL, NULL),
-	(12012, 963.5, 30.75, 0.9924, NULL, NULL),
-	(12013, 963.5, 31, 0.9922, NULL, NULL),
-	(12014, 963.5, 31.25, 0.992, NULL, NULL),
-	(12015, 963.5, 31.5, 0.9919, NULL, NULL),
-	(12016, 963.5, 31.75, 0.9917, NULL, NULL),
-	(12017, 963.5, 32, 0.9915, NULL, NULL),
-	(12018, 963.5, 32.25, 0.9913, NULL, NULL),
-	(12019, 963.5, 32.5, 0.9911, NULL, NULL),
-	(12020, 963.5, 32.75, 0.991, NULL, NULL),
-	(12021, 963.5, 33, 0.9908, NULL, NULL),
-	(12022, 963.5, 33.25, 0.9906, NULL, NULL),
-	(12023, 963.5, 33.5, 0.9904, NULL, NULL),
-	(12024, 963.5, 33.75, 0.9903, NULL, NULL),
-	(12025, 963.5, 34, 0.9901, NULL, NULL),
-	(12026, 963.5, 34.25, 0.9899, NULL, NULL),
-	(12027, 963.5, 34.5, 0.9897, NULL, NULL),
-	(12028, 963.5, 34.75, 0.9895, NULL, NULL),
-	(12029, 963.5, 35, 0.9894, NULL, NULL),
-	(12030, 963.5, 35.25, 0.9892, NULL, NULL),
-	(12031, 963.5, 35.5, 0.989, NULL, NULL),
-	(12032, 963.5, 35.75, 0.9888, NULL, NULL),
-	(12033, 963.5, 36, 0.9887, NULL, NULL),
-	(12034, 963.5, 36.25, 0.9885, NULL, NULL),
-	(12035, 963.5, 36.5, 0.9883, NULL, NULL),
-	(12036, 963.5, 36.75, 0.9881, NULL, NULL),
-	(12037, 963.5, 37, 0.9879, NULL, NULL),
-	(12038, 963.5, 37.25, 0.9878, NULL, NULL),
-	(12039, 963.5, 37.5, 0.9876, NULL, NULL),
-	(12040, 963.5, 37.75, 0.9874, NULL, NULL),
-	(12041, 963.5, 38, 0.9872, NULL, NULL),
-	(12042, 963.5, 38.25, 0.9871, NULL, NULL),
-	(12043, 963.5, 38.5, 0.9869, NULL, NULL),
-	(12044, 963.5, 38.75, 0.9867, NULL, NULL),
-	(12045, 963.5, 39, 0.9865, NULL, NULL),
-	(12046, 963.5, 39.25, 0.9863, NULL, NULL),
-	(12047, 963.5, 39.5, 0.9862, NULL, NULL),
-	(12048, 963.5, 39.75, 0.986, NULL, NULL),
-	(12049, 963.5, 40, 0.9858, NULL, NULL),
-	(12050, 963.5, 40.25, 0.9856, NULL, NULL),
-	(12051, 963.5, 40.5, 0.9855, NULL, NULL),
-	(12052, 963.5, 40.75, 0.9853, NULL, NULL),
-	(12053, 963.5, 41, 0.9851, NULL, NULL),
-	(12054, 963.5, 41.25, 0.9849, NULL, NULL),
-	(12055, 963.5, 41.5, 0.9847, NULL, NULL),
-	(12056, 963.5, 41.75, 0.9846, NULL, NULL),
-	(12057, 963.5, 42, 0.9844, NULL, NULL),
-	(12058, 963.5, 42.25, 0.9842, NULL, NULL),
-	(12059, 963.5, 42.5, 0.984, NULL, NULL),
-	(12060, 963.5, 42.75, 0.9838, NULL, NULL),
-	(12061, 963.5, 43, 0.9837, NULL, NULL),
-	(12062, 963.5, 43.25, 0.9835, NULL, NULL),
-	(12063, 963.5, 43.5, 0.9833, NULL, NULL),
-	(12064, 963.5, 43.75, 0.9831, NULL, NULL),
-	(12065, 963.5, 44, 0.983, NULL, NULL),
-	(12066, 963.5, 44.25, 0.9828, NULL, NULL),
-	(12067, 963.5, 44.5, 0.9826, NULL, NULL),
-	(12068, 963.5, 44.75, 0.9824, NULL, NULL),
-	(12069, 963.5, 45, 0.9822, NULL, NULL),
-	(12070, 963.5, 45.25, 0.9821, NULL, NULL),
-	(12071, 963.5, 45.5, 0.9819, NULL, NULL),
-	(12072, 963.5, 45.75, 0.9817, NULL, NULL),
-	(12073, 963.5, 46, 0.9815, NULL, NULL),
-	(12074, 963.5, 46.25, 0.9814, NULL, NULL),
-	(12075, 963.5, 46.5, 0.9812, NULL, NULL),
-	(12076, 963.5, 46.75, 0.981, NULL, NULL),
-	(12077, 963.5, 47, 0.9808, NULL, NULL),
-	(12078, 963.5, 47.25, 0.9806, NULL, NULL),
-	(12079, 963.5, 47.5, 0.9805, NULL, NULL),
-	(12080, 963.5, 47.75, 0.9803, NULL, NULL),
-	(12081, 963.5, 48, 0.9801, NULL, NULL),
-	(12082, 963.5, 48.25, 0.9799, NULL, NULL),
-	(12083, 963.5, 48.5, 0.9797, NULL, NULL),
-	(12084, 963.5, 48.75, 0.9796, NULL, NULL),
-	(12085, 963.5, 49, 0.9794, NULL, NULL),
-	(12086, 963.5, 49.25, 0.9792, NULL, NULL),
-	(12087, 963.5, 49.5, 0.979, NULL, NULL),
-	(12088, 963.5, 49.75, 0.9789, NULL, NULL),
-	(12089, 963.5, 50, 0.9787, NULL, NULL),
-	(12090, 964, 15, 1.0035, NULL, NULL),
-	(12091, 964, 15.25, 1.0034, NULL, NULL),
-	(12092, 964, 15.5, 1.0032, NULL, NULL),
-	(12093, 964, 15.75, 1.003, NULL, NULL),
-	(12094, 964, 16, 1.0028, NULL, NULL),
-	(12095, 964, 16.25, 1.0026, NULL, NULL),
-	(12096, 964, 16.5, 1.0025, NULL, NULL),
-	(12097, 964, 16.75, 1.0023, NULL, NULL),
-	(12098, 964, 17, 1.0021, NULL, NULL),
-	(12099, 964, 17.25, 1.0019, NULL, NULL),
-	(12100, 964, 17.5, 1.0018, NULL, NULL),
-	(12101, 964, 17.75, 1.0016, NULL, NULL),
-	(12102, 964, 18, 1.0014, NULL, NULL),
-	(12103, 964, 18.25, 1.0012, NULL, NULL),
-	(12104, 964, 18.5, 1.0011, NULL, NULL),
-	(12105, 964, 18.75, 1.0009, NULL, NULL),
-	(12106, 964, 19, 1.0007, NULL, NULL),
-	(12107, 964, 19.25, 1.0005, NULL, NULL),
-	(12108, 964, 19.5, 1.0004, NULL, NULL),
-	(12109, 964, 19.75, 1.0002, NULL, NULL),
-	(12110, 964, 20, 1, NULL, NULL),
-	(12111, 964, 20.25, 0.9998, NULL, NULL),
-	(12112, 964, 20.5, 0.9996, NULL, NULL),
-	(12113, 964, 20.75, 0.9995, NULL, NULL),
-	(12114, 964, 21, 0.9993, NULL, NULL),
-	(12115, 964, 21.25, 0.9991, NULL, NULL),
-	(12116, 964, 21.5, 0.9989, NULL, NULL),
-	(12117, 964, 21.75, 0.9988, NULL, NULL),
-	(12118, 964, 22, 0.9986, NULL, NULL),
-	(12119, 964, 22.25, 0.9984, NULL, NULL),
-	(12120, 964, 22.5, 0.9982, NULL, NULL),
-	(12121, 964, 22.75, 0.9981, NULL, NULL),
-	(12122, 964, 23, 0.9979, NULL, NULL),
-	(12123, 964, 23.25, 0.9977, NULL, NULL),
-	(12124, 964, 23.5, 0.9975, NULL, NULL),
-	(12125, 964, 23.75, 0.9973, NULL, NULL),
-	(12126, 964, 24, 0.9972, NULL, NULL),
-	(12127, 964, 24.25, 0.997, NULL, NULL),
-	(12128, 964, 24.5, 0.9968, NULL, NULL),
-	(12129, 964, 24.75, 0.9966, NULL, NULL),
-	(12130, 964, 25, 0.9965, NULL, NULL),
-	(12131, 964, 25.25, 0.9963, NULL, NULL),
-	(12132, 964, 25.5, 0.9961, NULL, NULL),
-	(12133, 964, 25.75, 0.9959, NULL, NULL),
-	(12134, 964, 26, 0.9958, NULL, NULL),
-	(12135, 964, 26.25, 0.9956, NULL, NULL),
-	(12136, 964, 26.5, 0.9954, NULL, NULL),
-	(12137, 964, 26.75, 0.9952, NULL, NULL),
-	(12138, 964, 27, 0.995, NULL, NULL),
-	(12139, 964, 27.25, 0.9949, NULL, NULL),
-	(12140, 964, 27.5, 0.9947, NULL, NULL),
-	(12141, 964, 27.75, 0.9945, NULL, NULL),
-	(12142, 964, 28, 0.9943, NULL, NULL),
-	(12143, 964, 28.25, 0.9942, NULL, NULL),
-	(12144, 964, 28.5, 0.994, NULL, NULL),
-	(12145, 964, 28.75, 0.9938, NULL, NULL),
-	(12146, 964, 29, 0.9936, NULL, NULL),
-	(12147, 964, 29.25, 0.9935, NULL, NULL),
-	(12148, 964, 29.5, 0.9933, NULL, NULL),
-	(12149, 964, 29.75, 0.9931, NULL, NULL),
-	(12150, 964, 30, 0.9929, NULL, NULL),
-	(12151, 964, 30.25, 0.9927, NULL, NULL),
-	(12152, 964, 30.5, 0.9926, NULL, NULL),
-	(12153, 964, 30.75, 0.9924, NULL, NULL),
-	(12154, 964, 31, 0.9922, NULL, NULL),
-	(12155, 964, 31.25, 0.992, NULL, NULL),
-	(12156, 964, 31.5, 0.9919, NULL, NULL),
-	(12157, 964, 31.75, 0.9917, NULL, NULL),
-	(12158, 964, 32, 0.9915, NULL, NULL),
-	(12159, 964, 32.25, 0.9913, NULL, NULL),
-	(12160, 964, 32.5, 0.9911, NULL, NULL),
-	(12161, 964, 32.75, 0.991, NULL, NULL),
-	(12162, 964, 33, 0.9908, NULL, NULL),
-	(12163, 964, 33.25, 0.9906, NULL, NULL),
-	(12164, 964, 33.5, 0.9904, NULL, NULL),
-	(12165, 964, 33.75, 0.9903, NULL, NULL),
-	(12166, 964, 34, 0.9901, NULL, NULL),
-	(12167, 964, 34.25, 0.9899, NULL, NULL),
-	(12168, 964, 34.5, 0.9897, NULL, NULL),
-	(12169, 964, 34.75, 0.9896, NULL, NULL),
-	(12170, 964, 35, 0.9894, NULL, NULL),
-	(12171, 964, 35.25, 0.9892, NULL, NULL),
-	(12172, 964, 35.5, 0.989, NULL, NULL),
-	(12173, 964, 35.75, 0.9888, NULL, NULL),
-	(12174, 964, 36, 0.9887, NULL, NULL),
-	(12175, 964, 36.25, 0.9885, NULL, NULL),
-	(12176, 964, 36.5, 0.9883, NULL, NULL),
-	(12177, 964, 36.75, 0.9881, NULL, NULL),
-	(12178, 964, 37, 0.988, NULL, NULL),
-	(12179, 964, 37.25, 0.9878, NULL, NULL),
-	(12180, 964, 37.5, 0.9876, NULL, NULL),
-	(12181, 964, 37.75, 0.9874, NULL, NULL),
-	(12182, 964, 38, 0.9872, NULL, NULL),
-	(12183, 964, 38.25, 0.9871, NULL, NULL),
-	(12184, 964, 38.5, 0.9869, NULL, NULL),
-	(12185, 964, 38.75, 0.9867, NULL, NULL),
-	(12186, 964, 39, 0.9865, NULL, NULL),
-	(12187, 964, 39.25, 0.9864, NULL, NULL),
-	(12188, 964, 39.5, 0.9862, NULL, NULL),
-	(12189, 964, 39.75, 0.986, NULL, NULL),
-	(12190, 964, 40, 0.9858, NULL, NULL),
-	(12191, 964, 40.25, 0.9856, NULL, NULL),
-	(12192, 964, 40.5, 0.9855, NULL, NULL),
-	(12193, 964, 40.75, 0.9853, NULL, NULL),
-	(12194, 964, 41, 0.9851, NULL, NULL),
-	(12195, 964, 41.25, 0.9849, NULL, NULL),
-	(12196, 964, 41.5, 0.9847, NULL, NULL),
-	(12197, 964, 41.75, 0.9846, NULL, NULL),
-	(12198, 964, 42, 0.9844, NULL, NULL),
-	(12199, 964, 42.25, 0.9842, NULL, NULL),
-	(12200, 964, 42.5, 0.984, NULL, NULL),
-	(12201, 964, 42.75, 0.9839, NULL, NULL),
-	(12202, 964, 43, 0.9837, NULL, NULL),
-	(12203, 964, 43.25, 0.9835, NULL, NULL),
-	(12204, 964, 43.5, 0.9833, NULL, NULL),
-	(12205, 964, 43.75, 0.9831, NULL, NULL),
-	(12206, 964, 44, 0.983, NULL, NULL),
-	(12207, 964, 44.25, 0.9828, NULL, NULL),
-	(12208, 964, 44.5, 0.9826, NULL, NULL),
-	(12209, 964, 44.75, 0.9824, NULL, NULL),
-	(12210, 964, 45, 0.9823, NULL, NULL),
-	(12211, 964, 45.25, 0.9821, NULL, NULL),
-	(12212, 964, 45.5, 0.9819, NULL, NULL),
-	(12213, 964, 45.75, 0.9817, NULL, NULL),
-	(12214, 964, 46, 0.9815, NULL, NULL),
-	(12215, 964, 46.25, 0.9814, NULL, NULL),
-	(12216, 964, 46.5, 0.9812, NULL, NULL),
-	(12217, 964, 46.75, 0.981, NULL, NULL),
-	(12218, 964, 47, 0.9808, NULL, NULL),
-	(12219, 964, 47.25, 0.9806, NULL, NULL),
-	(12220, 964, 47.5, 0.9805, NULL, NULL),
-	(12221, 964, 47.75, 0.9803, NULL, NULL),
-	(12222, 964, 48, 0.9801, NULL, NULL),
-	(12223, 964, 48.25, 0.9799, NULL, NULL),
-	(12224, 964, 48.5, 0.9798, NULL, NULL),
-	(12225, 964, 48.75, 0.9796, NULL, NULL),
-	(12226, 964, 49, 0.9794, NULL, NULL),
-	(12227, 964, 49.25, 0.9792, NULL, NULL),
-	(12228, 964, 49.5, 0.979, NULL, NULL),
-	(12229, 964, 49.75, 0.9789, NULL, NULL),
-	(12230, 964, 50, 0.9787, NULL, NULL),
-	(12231, 964.5, 15, 1.0035, NULL, NULL),
-	(12232, 964.5, 15.25, 1.0033, NULL, NULL),
-	(12233, 964.5, 15.5, 1.0032, NULL, NULL),
-	(12234, 964.5, 15.75, 1.003, NULL, NULL),
-	(12235, 964.5, 16, 1.0028, NULL, NULL),
-	(12236, 964.5, 16.25, 1.0026, NULL, NULL),
-	(12237, 964.5, 16.5, 1.0025, NULL, NULL),
-	(12238, 964.5, 16.75, 1.0023, NULL, NULL),
-	(12239, 964.5, 17, 1.0021, NULL, NULL),
-	(12240, 964.5, 17.25, 1.0019, NULL, NULL),
-	(12241, 964.5, 17.5, 1.0018, NULL, NULL),
-	(12242, 964.5, 17.75, 1.0016, NULL, NULL),
-	(12243, 964.5, 18, 1.0014, NULL, NULL),
-	(12244, 964.5, 18.25, 1.0012, NULL, NULL),
-	(12245, 964.5, 18.5, 1.0011, NULL, NULL),
-	(12246, 964.5, 18.75, 1.0009, NULL, NULL),
-	(12247, 964.5, 19, 1.0007, NULL, NULL),
-	(12248, 964.5, 19.25, 1.0005, NULL, NULL),
-	(12249, 964.5, 19.5, 1.0004, NULL, NULL),
-	(12250, 964.5, 19.75, 1.0002, NULL, NULL),
-	(12251, 964.5, 20, 1, NULL, NULL),
-	(12252, 964.5, 20.25, 0.9998, NULL, NULL),
-	(12253, 964.5, 20.5, 0.9996, NULL, NULL),
-	(12254, 964.5, 20.75, 0.9995, NULL, NULL),
-	(12255, 964.5, 21, 0.9993, NULL, NULL),
-	(12256, 964.5, 21.25, 0.9991, NULL, NULL),
-	(12257, 964.5, 21.5, 0.9989, NULL, NULL),
-	(12258, 964.5, 21.75, 0.9988, NULL, NULL),
-	(12259, 964.5, 22, 0.9986, NULL, NULL),
-	(12260, 964.5, 22.25, 0.9984, NULL, NULL),
-	(12261, 964.5, 22.5, 0.9982, NULL, NULL),
-	(12262, 964.5, 22.75, 0.9981, NULL, NULL),
-	(12263, 964.5, 23, 0.9979, NULL, NULL),
-	(12264, 964.5, 23.25, 0.9977, NULL, NULL),
-	(12265, 964.5, 23.5, 0.9975, NULL, NULL),
-	(12266, 964.5, 23.75, 0.9974, NULL, NULL),
-	(12267, 964.5, 24, 0.9972, NULL, NULL),
-	(12268, 964.5, 24.25, 0.997, NULL, NULL),
-	(12269, 964.5, 24.5, 0.9968, NULL, NULL),
-	(12270, 964.5, 24.75, 0.9966, NULL, NULL),
-	(12271, 964.5, 25, 0.9965, NULL, NULL),
-	(12272, 964.5, 25.25, 0.9963, NULL, NULL),
-	(12273, 964.5, 25.5, 0.9961, NULL, NULL),
-	(12274, 964.5, 25.75, 0.9959, NULL, NULL),
-	(12275, 964.5, 26, 0.9958, NULL, NULL),
-	(12276, 964.5, 26.25, 0.9956, NULL, NULL),
-	(12277, 964.5, 26.5, 0.9954, NULL, NULL),
-	(12278, 964.5, 26.75, 0.9952, NULL, NULL),
-	(12279, 964.5, 27, 0.9951, NULL, NULL),
-	(12280, 964.5, 27.25, 0.9949, NULL, NULL),
-	(12281, 964.5, 27.5, 0.9947, NULL, NULL),
-	(12282, 964.5, 27.75, 0.9945, NULL, NULL),
-	(12283, 964.5, 28, 0.9943, NULL, NULL),
-	(12284, 964.5, 28.25, 0.9942, NULL, NULL),
-	(12285, 964.5, 28.5, 0.994, NULL, NULL),
-	(12286, 964.5, 28.75, 0.9938, NULL, NULL),
-	(12287, 964.5, 29, 0.9936, NULL, NULL),
-	(12288, 964.5, 29.25, 0.9935, NULL, NULL),
-	(12289, 964.5, 29.5, 0.9933, NULL, NULL),
-	(12290, 964.5, 29.75, 0.9931, NULL, NULL),
-	(12291, 964.5, 30, 0.9929, NULL, NULL),
-	(12292, 964.5, 30.25, 0.9928, NULL, NULL),
-	(12293, 964.5, 30.5, 0.9926, NULL, NULL),
-	(12294, 964.5, 30.75, 0.9924, NULL, NULL),
-	(12295, 964.5, 31, 0.9922, NULL, NULL),
-	(12296, 964.5, 31.25, 0.992, NULL, NULL),
-	(12297, 964.5, 31.5, 0.9919, NULL, NULL),
-	(12298, 964.5, 31.75, 0.9917, NULL, NULL),
-	(12299, 964.5, 32, 0.9915, NULL, NULL),
-	(12300, 964.5, 32.25, 0.9913, NULL, NULL),
-	(12301, 964.5, 32.5, 0.9912, NULL, NULL),
-	(12302, 964.5, 32.75, 0.991, NULL, NULL),
-	(12303, 964.5, 33, 0.9908, NULL, NULL),
-	(12304, 964.5, 33.25, 0.9906, NULL, NULL),
-	(12305, 964.5, 33.5, 0.9904, NULL, NULL),
-	(12306, 964.5, 33.75, 0.9903, NULL, NULL),
-	(12307, 964.5, 34, 0.9901, NULL, NULL),
-	(12308, 964.5, 34.25, 0.9899, NULL, NULL),
-	(12309, 964.5, 34.5, 0.9897, NULL, NULL),
-	(12310, 964.5, 34.75, 0.9896, NULL, NULL),
-	(12311, 964.5, 35, 0.9894, NULL, NULL),
-	(12312, 964.5, 35.25, 0.9892, NULL, NULL),
-	(12313, 964.5, 35.5, 0.989, NULL, NULL),
-	(12314, 964.5, 35.75, 0.9888, NULL, NULL),
-	(12315, 964.5, 36, 0.9887, NULL, NULL),
-	(12316, 964.5, 36.25, 0.9885, NULL, NULL),
-	(12317, 964.5, 36.5, 0.9883, NULL, NULL),
-	(12318, 964.5, 36.75, 0.9881, NULL, NULL),
-	(12319, 964.5, 37, 0.988, NULL, NULL),
-	(12320, 964.5, 37.25, 0.9878, NULL, NULL),
-	(12321, 964.5, 37.5, 0.9876, NULL, NULL),
-	(12322, 964.5, 37.75, 0.9874, NULL, NULL),
-	(12323, 964.5, 38, 0.9872, NULL, NULL),
-	(12324, 964.5, 38.25, 0.9871, NULL, NULL),
-	(12325, 964.5, 38.5, 0.9869, NULL, NULL),
-	(12326, 964.5, 38.75, 0.9867, NULL, NULL),
-	(12327, 964.5, 39, 0.9865, NULL, NULL),
-	(12328, 964.5, 39.25, 0.9864, NULL, NULL),
-	(12329, 964.5, 39.5, 0.9862, NULL, NULL),
-	(12330, 964.5, 39.75, 0.986, NULL, NULL),
-	(12331, 964.5, 40, 0.9858, NULL, NULL),
-	(12332, 964.5, 40.25, 0.9856, NULL, NULL),
-	(12333, 964.5, 40.5, 0.9855, NULL, NULL),
-	(12334, 964.5, 40.75, 0.9853, NULL, NULL),
-	(12335, 964.5, 41, 0.9851, NULL, NULL),
-	(12336, 964.5, 41.25, 0.9849, NULL, NULL),
-	(12337, 964.5, 41.5, 0.9848, NULL, NULL),
-	(12338, 964.5, 41.75, 0.9846, NULL, NULL),
-	(12339, 964.5, 42, 0.9844, NULL, NULL),
-	(12340, 964.5, 42.25, 0.9842, NULL, NULL),
-	(12341, 964.5, 42.5, 0.984, NULL, NULL),
-	(12342, 964.5, 42.75, 0.9839, NULL, NULL),
-	(12343, 964.5, 43, 0.9837, NULL, NULL),
-	(12344, 964.5, 43.25, 0.9835, NULL, NULL),
-	(12345, 964.5, 43.5, 0.9833, NULL, NULL),
-	(12346, 964.5, 43.75, 0.9832, NULL, NULL),
-	(12347, 964.5, 44, 0.983, NULL, NULL),
-	(12348, 964.5, 44.25, 0.9828, NULL, NULL),
-	(12349, 964.5, 44.5, 0.9826, NULL, NULL),
-	(12350, 964.5, 44.75, 0.9824, NULL, NULL),
-	(12351, 964.5, 45, 0.9823, NULL, NULL),
-	(12352, 964.5, 45.25, 0.9821, NULL, NULL),
-	(12353, 964.5, 45.5, 0.9819, NULL, NULL),
-	(12354, 964.5, 45.75, 0.9817, NULL, NULL),
-	(12355, 964.5, 46, 0.9816, NULL, NULL),
-	(12356, 964.5, 46.25, 0.9814, NULL, NULL),
-	(12357, 964.5, 46.5, 0.9812, NULL, NULL),
-	(12358, 964.5, 46.75, 0.981, NULL, NULL),
-	(12359, 964.5, 47, 0.9808, NULL, NULL),
-	(12360, 964.5, 47.25, 0.9807, NULL, NULL),
-	(12361, 964.5, 47.5, 0.9805, NULL, NULL),
-	(12362, 964.5, 47.75, 0.9803, NULL, NULL),
-	(12363, 964.5, 48, 0.9801, NULL, NULL),
-	(12364, 964.5, 48.25, 0.9799, NULL, NULL),
-	(12365, 964.5, 48.5, 0.9798, NULL, NULL),
-	(12366, 964.5, 48.75, 0.9796, NULL, NULL),
-	(12367, 964.5, 49, 0.9794, NULL, NULL),
-	(12368, 964.5, 49.25, 0.9792, NULL, NULL),
-	(12369, 964.5, 49.5, 0.9791, NULL, NULL),
-	(12370, 964.5, 49.75, 0.9789, NULL, NULL),
-	(12371, 964.5, 50, 0.9787, NULL, NULL),
-	(12372, 965, 15, 1.0035, NULL, NULL),
-	(12373, 965, 15.25, 1.0033, NULL, NULL),
-	(12374, 965, 15.5, 1.0032, NULL, NULL),
-	(12375, 965, 15.75, 1.003, NULL, NULL),
-	(12376, 965, 16, 1.0028, NULL, NULL),
-	(12377, 965, 16.25, 1.0026, NULL, NULL),
-	(12378, 965, 16.5, 1.0025, NULL, NULL),
-	(12379, 965, 16.75, 1.0023, NULL, NULL),
-	(12380, 965, 17, 1.0021, NULL, NULL),
-	(12381, 965, 17.25, 1.0019, NULL, NULL),
-	(12382, 965, 17.5, 1.0018, NULL, NULL),
-	(12383, 965, 17.75, 1.0016, NULL, NULL),
-	(12384, 965, 18, 1.0014, NULL, NULL),
-	(12385, 965, 18.25, 1.0012, NULL, NULL),
-	(12386, 965, 18.5, 1.0011, NULL, NULL),
-	(12387, 965, 18.75, 1.0009, NULL, NULL),
-	(12388, 965, 19, 1.0007, NULL, NULL),
-	(12389, 965, 19.25, 1.0005, NULL, NULL),
-	(12390, 965, 19.5, 1.0004, NULL, NULL),
-	(12391, 965, 19.75, 1.0002, NULL, NULL),
-	(12392, 965, 20, 1, NULL, NULL),
-	(12393, 965, 20.25, 0.9998, NULL, NULL),
-	(12394, 965, 20.5, 0.9996, NULL, NULL),
-	(12395, 965, 20.75, 0.9995, NULL, NULL),
-	(12396, 965, 21, 0.9993, NULL, NULL),
-	(12397, 965, 21.25, 0.9991, NULL, NULL),
-	(12398, 965, 21.5, 0.9989, NULL, NULL),
-	(12399, 965, 21.75, 0.9988, NULL, NULL),
-	(12400, 965, 22, 0.9986, NULL, NULL),
-	(12401, 965, 22.25, 0.9984, NULL, NULL),
-	(12402, 965, 22.5, 0.9982, NULL, NULL),
-	(12403, 965, 22.75, 0.9981, NULL, NULL),
-	(12404, 965, 23, 0.9979, NULL, NULL),
-	(12405, 965, 23.25, 0.9977, NULL, NULL),
-	(12406, 965, 23.5, 0.9975, NULL, NULL),
-	(12407, 965, 23.75, 0.9974, NULL, NULL),
-	(12408, 965, 24, 0.9972, NULL, NULL),
-	(12409, 965, 24.25, 0.997, NULL, NULL),
-	(12410, 965, 24.5, 0.9968, NULL, NULL),
-	(12411, 965, 24.75, 0.9966, NULL, NULL),
-	(12412, 965, 25, 0.9965, NULL, NULL),
-	(12413, 965, 25.25, 0.9963, NULL, NULL),
-	(12414, 965, 25.5, 0.9961, NULL, NULL),
-	(12415, 965, 25.75, 0.9959, NULL, NULL),
-	(12416, 965, 26, 0.9958, NULL, NULL),
-	(12417, 965, 26.25, 0.9956, NULL, NULL),
-	(12418, 965, 26.5, 0.9954, NULL, NULL),
-	(12419, 965, 26.75, 0.9952, NULL, NULL),
-	(12420, 965, 27, 0.9951, NULL, NULL),
-	(12421, 965, 27.25, 0.9949, NULL, NULL),
-	(12422, 965, 27.5, 0.9947, NULL, NULL),
-	(12423, 965, 27.75, 0.9945, NULL, NULL),
-	(12424, 965, 28, 0.9943, NULL, NULL),
-	(12425, 965, 28.25, 0.9942, NULL, NULL),
-	(12426, 965, 28.5, 0.994, NULL, NULL),
-	(12427, 965, 28.75, 0.9938, NULL, NULL),
-	(12428, 965, 29, 0.9936, NULL, NULL),
-	(12429, 965, 29.25, 0.9935, NULL, NULL),
-	(12430, 965, 29.5, 0.9933, NULL, NULL),
-	(12431, 965, 29.75, 0.9931, NULL, NULL),
-	(12432, 965, 30, 0.9929, NULL, NULL),
-	(12433, 965, 30.25, 0.9928, NULL, NULL),
-	(12434, 965, 30.5, 0.9926, NULL, NULL),
-	(12435, 965, 30.75, 0.9924, NULL, NULL),
-	(12436, 965, 31, 0.9922, NULL, NULL),
-	(12437, 965, 31.25, 0.992, NULL, NULL),
-	(12438, 965, 31.5, 0.9919, NULL, NULL),
-	(12439, 965, 31.75, 0.9917, NULL, NULL),
-	(12440, 965, 32, 0.9915, NULL, NULL),
-	(12441, 965, 32.25, 0.9913, NULL, NULL),
-	(12442, 965, 32.5, 0.9912, NULL, NULL),
-	(12443, 965, 32.75, 0.991, NULL, NULL),
-	(12444, 965, 33, 0.9908, NULL, NULL),
-	(12445, 965, 33.25, 0.9906, NULL, NULL),
-	(12446, 965, 33.5, 0.9905, NULL, NULL),
-	(12447, 965, 33.75, 0.9903, NULL, NULL),
-	(12448, 965, 34, 0.9901, NULL, NULL),
-	(12449, 965, 34.25, 0.9899, NULL, NULL),
-	(12450, 965, 34.5, 0.9897, NULL, NULL),
-	(12451, 965, 34.75, 0.9896, NULL, NULL),
-	(12452, 965, 35, 0.9894, NULL, NULL),
-	(12453, 965, 35.25, 0.9892, NULL, NULL),
-	(12454, 965, 35.5, 0.989, NULL, NULL),
-	(12455, 965, 35.75, 0.9889, NULL, NULL),
-	(12456, 965, 36, 0.9887, NULL, NULL),
-	(12457, 965, 36.25, 0.9885, NULL, NULL),
-	(12458, 965, 36.5, 0.9883, NULL, NULL),
-	(12459, 965, 36.75, 0.9881, NULL, NULL),
-	(12460, 965, 37, 0.988, NULL, NULL),
-	(12461, 965, 37.25, 0.9878, NULL, NULL),
-	(12462, 965, 37.5, 0.9876, NULL, NULL),
-	(12463, 965, 37.75, 0.9874, NULL, NULL),
-	(12464, 965, 38, 0.9873, NULL, NULL),
-	(12465, 965, 38.25, 0.9871, NULL, NULL),
-	(12466, 965, 38.5, 0.9869, NULL, NULL),
-	(12467, 965, 38.75, 0.9867, NULL, NULL),
-	(12468, 965, 39, 0.9865, NULL, NULL),
-	(12469, 965, 39.25, 0.9864, NULL, NULL),
-	(12470, 965, 39.5, 0.9862, NULL, NULL),
-	(12471, 965, 39.75, 0.986, NULL, NULL),
-	(12472, 965, 40, 0.9858, NULL, NULL),
-	(12473, 965, 40.25, 0.9857, NULL, NULL),
-	(12474, 965, 40.5, 0.9855, NULL, NULL),
-	(12475, 965, 40.75, 0.9853, NULL, NULL),
-	(12476, 965, 41, 0.9851, NULL, NULL),
-	(12477, 965, 41.25, 0.9849, NULL, NULL),
-	(12478, 965, 41.5, 0.9848, NULL, NULL),
-	(12479, 965, 41.75, 0.9846, NULL, NULL),
-	(12480, 965, 42, 0.9844, NULL, NULL),
-	(12481, 965, 42.25, 0.9842, NULL, NULL),
-	(12482, 965, 42.5, 0.9841, NULL, NULL),
-	(12483, 965, 42.75, 0.9839, NULL, NULL),
-	(12484, 965, 43, 0.9837, NULL, NULL),
-	(12485, 965, 43.25, 0.9835, NULL, NULL),
-	(12486, 965, 43.5, 0.9833, NULL, NULL),
-	(12487, 965, 43.75, 0.9832, NULL, NULL),
-	(12488, 965, 44, 0.983, NULL, NULL),
-	(12489, 965, 44.25, 0.9828, NULL, NULL),
-	(12490, 965, 44.5, 0.9826, NULL, NULL),
-	(12491, 965, 44.75, 0.9825, NULL, NULL),
-	(12492, 965, 45, 0.9823, NULL, NULL),
-	(12493, 965, 45.25, 0.9821, NULL, NULL),
-	(12494, 965, 45.5, 0.9819, NULL, NULL),
-	(12495, 965, 45.75, 0.9817, NULL, NULL),
-	(12496, 965, 46, 0.9816, NULL, NULL),
-	(12497, 965, 46.25, 0.9814, NULL, NULL),
-	(12498, 965, 46.5, 0.9812, NULL, NULL),
-	(12499, 965, 46.75, 0.981, NULL, NULL),
-	(12500, 965, 47, 0.9809, NULL, NULL),
-	(12501, 965, 47.25, 0.9807, NULL, NULL),
-	(12502, 965, 47.5, 0.9805, NULL, NULL),
-	(12503, 965, 47.75, 0.9803, NULL, NULL),
-	(12504, 965, 48, 0.9801, NULL, NULL),
-	(12505, 965, 48.25, 0.98, NULL, NULL),
-	(12506, 965, 48.5, 0.9798, NULL, NULL),
-	(12507, 965, 48.75, 0.9796, NULL, NULL),
-	(12508, 965, 49, 0.9794, NULL, NULL),
-	(12509, 965, 49.25, 0.9793, NULL, NULL),
-	(12510, 965, 49.5, 0.9791, NULL, NULL),
-	(12511, 965, 49.75, 0.9789, NULL, NULL),
-	(12512, 965, 50, 0.9787, NULL, NULL),
-	(12513, 965.5, 15, 1.0035, NULL, NULL),
-	(12514, 965.5, 15.25, 1.0033, NULL, NULL),
-	(12515, 965.5, 15.5, 1.0032, NULL, NULL),
-	(12516, 965.5, 15.75, 1.003, NULL, NULL),
-	(12517, 965.5, 16, 1.0028, NULL, NULL),
-	(12518, 965.5, 16.25, 1.0026, NULL, NULL),
-	(12519, 965.5, 16.5, 1.0025, NULL, NULL),
-	(12520, 965.5, 16.75, 1.0023, NULL, NULL),
-	(12521, 965.5, 17, 1.0021, NULL, NULL),
-	(12522, 965.5, 17.25, 1.0019, NULL, NULL),
-	(12523, 965.5, 17.5, 1.0018, NULL, NULL),
-	(12524, 965.5, 17.75, 1.0016, NULL, NULL),
-	(12525, 965.5, 18, 1.0014, NULL, NULL),
-	(12526, 965.5, 18.25, 1.0012, NULL, NULL),
-	(12527, 965.5, 18.5, 1.0011, NULL, NULL),
-	(12528, 965.5, 18.75, 1.0009, NULL, NULL),
-	(12529, 965.5, 19, 1.0007, NULL, NULL),
-	(12530, 965.5, 19.25, 1.0005, NULL, NULL),
-	(12531, 965.5, 19.5, 1.0004, NULL, NULL),
-	(12532, 965.5, 19.75, 1.0002, NULL, NULL),
-	(12533, 965.5, 20, 1, NULL, NULL),
-	(12534, 965.5, 20.25, 0.9998, NULL, NULL),
-	(12535, 965.5, 20.5, 0.9996, NULL, NULL),
-	(12536, 965.5, 20.75, 0.9995, NULL, NULL),
-	(12537, 965.5, 21, 0.9993, NULL, NULL),
-	(12538, 965.5, 21.25, 0.9991, NULL, NULL),
-	(12539, 965.5, 21.5, 0.9989, NULL, NULL),
-	(12540, 965.5, 21.75, 0.9988, NULL, NULL),
-	(12541, 965.5, 22, 0.9986, NULL, NULL),
-	(12542, 965.5, 22.25, 0.9984, NULL, NULL),
-	(12543, 965.5, 22.5, 0.9982, NULL, NULL),
-	(12544, 965.5, 22.75, 0.9981, NULL, NULL),
-	(12545, 965.5, 23, 0.9979, NULL, NULL),
-	(12546, 965.5, 23.25, 0.9977, NULL, NULL),
-	(12547, 965.5, 23.5, 0.9975, NULL, NULL),
-	(12548, 965.5, 23.75, 0.9974, NULL, NULL),
-	(12549, 965.5, 24, 0.9972, NULL, NULL),
-	(12550, 965.5, 24.25, 0.997, NULL, NULL),
-	(12551, 965.5, 24.5, 0.9968, NULL, NULL),
-	(12552, 965.5, 24.75, 0.9966, NULL, NULL),
-	(12553, 965.5, 25, 0.9965, NULL, NULL),
-	(12554, 965.5, 25.25, 0.9963, NULL, NULL),
-	(12555, 965.5, 25.5, 0.9961, NULL, NULL),
-	(12556, 965.5, 25.75, 0.9959, NULL, NULL),
-	(12557, 965.5, 26, 0.9958, NULL, NULL),
-	(12558, 965.5, 26.25, 0.9956, NULL, NULL),
-	(12559, 965.5, 26.5, 0.9954, NULL, NULL),
-	(12560, 965.5, 26.75, 0.9952, NULL, NULL),
-	(12561, 965.5, 27, 0.9951, NULL, NULL),
-	(12562, 965.5, 27.25, 0.9949, NULL, NULL),
-	(12563, 965.5, 27.5, 0.9947, NULL, NULL),
-	(12564, 965.5, 27.75, 0.9945, NULL, NULL),
-	(12565, 965.5, 28, 0.9944, NULL, NULL),
-	(12566, 965.5, 28.25, 0.9942, NULL, NULL),
-	(12567, 965.5, 28.5, 0.994, NULL, NULL),
-	(12568, 965.5, 28.75, 0.9938, NULL, NULL),
-	(12569, 965.5, 29, 0.9936, NULL, NULL),
-	(12570, 965.5, 29.25, 0.9935, NULL, NULL),
-	(12571, 965.5, 29.5, 0.9933, NULL, NULL),
-	(12572, 965.5, 29.75, 0.9931, NULL, NULL),
-	(12573, 965.5, 30, 0.9929, NULL, NULL),
-	(12574, 965.5, 30.25, 0.9928, NULL, NULL),
-	(12575, 965.5, 30.5, 0.9926, NULL, NULL),
-	(12576, 965.5, 30.75, 0.9924, NULL, NULL),
-	(12577, 965.5, 31, 0.9922, NULL, NULL),
-	(12578, 965.5, 31.25, 0.9921, NULL, NULL),
-	(12579, 965.5, 31.5, 0.9919, NULL, NULL),
-	(12580, 965.5, 31.75, 0.9917, NULL, NULL),
-	(12581, 965.5, 32, 0.9915, NULL, NULL),
-	(12582, 965.5, 32.25, 0.9913, NULL, NULL),
-	(12583, 965.5, 32.5, 0.9912, NULL, NULL),
-	(12584, 965.5, 32.75, 0.991, NULL, NULL),
-	(12585, 965.5, 33, 0.9908, NULL, NULL),
-	(12586, 965.5, 33.25, 0.9906, NULL, NULL),
-	(12587, 965.5, 33.5, 0.9905, NULL, NULL),
-	(12588, 965.5, 33.75, 0.9903, NULL, NULL),
-	(12589, 965.5, 34, 0.9901, NULL, NULL),
-	(12590, 965.5, 34.25, 0.9899, NULL, NULL),
-	(12591, 965.5, 34.5, 0.9897, NULL, NULL),
-	(12592, 965.5, 34.75, 0.9896, NULL, NULL),
-	(12593, 965.5, 35, 0.9894, NULL, NULL),
-	(12594, 965.5, 35.25, 0.9892, NULL, NULL),
-	(12595, 965.5, 35.5, 0.989, NULL, NULL),
-	(12596, 965.5, 35.75, 0.9889, NULL, NULL),
-	(12597, 965.5, 36, 0.9887, NULL, NULL),
-	(12598, 965.5, 36.25, 0.9885, NULL, NULL),
-	(12599, 965.5, 36.5, 0.9883, NULL, NULL),
-	(12600, 965.5, 36.75, 0.9882, NULL, NULL),
-	(12601, 965.5, 37, 0.988, NULL, NULL),
-	(12602, 965.5, 37.25, 0.9878, NULL, NULL),
-	(12603, 965.5, 37.5, 0.9876, NULL, NULL),
-	(12604, 965.5, 37.75, 0.9874, NULL, NULL),
-	(12605, 965.5, 38, 0.9873, NULL, NULL),
-	(12606, 965.5, 38.25, 0.9871, NULL, NULL),
-	(12607, 965.5, 38.5, 0.9869, NULL, NULL),
-	(12608, 965.5, 38.75, 0.9867, NULL, NULL),
-	(12609, 965.5, 39, 0.9865, NULL, NULL),
-	(12610, 965.5, 39.25, 0.9864, NULL, NULL),
-	(12611, 965.5, 39.5, 0.9862, NULL, NULL),
-	(12612, 965.5, 39.75, 0.986, NULL, NULL),
-	(12613, 965.5, 40, 0.9858, NULL, NULL),
-	(12614, 965.5, 40.25, 0.9857, NULL, NULL),
-	(12615, 965.5, 40.5, 0.9855, NULL, NULL),
-	(12616, 965.5, 40.75, 0.9853, NULL, NULL),
-	(12617, 965.5, 41, 0.9851, NULL, NULL),
-	(12618, 965.5, 41.25, 0.985, NULL, NULL),
-	(12619, 965.5, 41.5, 0.9848, NULL, NULL),
-	(12620, 965.5, 41.75, 0.9846, NULL, NULL),
-	(12621, 965.5, 42, 0.9844, NULL, NULL),
-	(12622, 965.5, 42.25, 0.9842, NULL, NULL),
-	(12623, 965.5, 42.5, 0.9841, NULL, NULL),
-	(12624, 965.5, 42.75, 0.9839, NULL, NULL),
-	(12625, 965.5, 43, 0.9837, NULL, NULL),
-	(12626, 965.5, 43.25, 0.9835, NULL, NULL),
-	(12627, 965.5, 43.5, 0.9834, NULL, NULL),
-	(12628, 965.5, 43.75, 0.9832, NULL, NULL),
-	(12629, 965.5, 44, 0.983, NULL, NULL),
-	(12630, 965.5, 44.25, 0.9828, NULL, NULL),
-	(12631, 965.5, 44.5, 0.9826, NULL, NULL),
-	(12632, 965.5, 44.75, 0.9825, NULL, NULL),
-	(12633, 965.5, 45, 0.9823, NULL, NULL),
-	(12634, 965.5, 45.25, 0.9821, NULL, NULL),
-	(12635, 965.5, 45.5, 0.9819, NULL, NULL),
-	(12636, 965.5, 45.75, 0.9818, NULL, NULL),
-	(12637, 965.5, 46, 0.9816, NULL, NULL),
-	(12638, 965.5, 46.25, 0.9814, NULL, NULL),
-	(12639, 965.5, 46.5, 0.9812, NULL, NULL),
-	(12640, 965.5, 46.75, 0.981, NULL, NULL),
-	(12641, 965.5, 47, 0.9809, NULL, NULL),
-	(12642, 965.5, 47.25, 0.9807, NULL, NULL),
-	(12643, 965.5, 47.5, 0.9805, NULL, NULL),
-	(12644, 965.5, 47.75, 0.9803, NULL, NULL),
-	(12645, 965.5, 48, 0.9802, NULL, NULL),
-	(12646, 965.5, 48.25, 0.98, NULL, NULL),
-	(12647, 965.5, 48.5, 0.9798, NULL, NULL),
-	(12648, 965.5, 48.75, 0.9796, NULL, NULL),
-	(12649, 965.5, 49, 0.9794, NULL, NULL),
-	(12650, 965.5, 49.25, 0.9793, NULL, NULL),
-	(12651, 965.5, 49.5, 0.9791, NULL, NULL),
-	(12652, 965.5, 49.75, 0.9789, NULL, NULL),
-	(12653, 965.5, 50, 0.9787, NULL, NULL),
-	(12654, 966, 15, 1.0035, NULL, NULL),
-	(12655, 966, 15.25, 1.0033, NULL, NULL),
-	(12656, 966, 15.5, 1.0032, NULL, NULL),
-	(12657, 966, 15.75, 1.003, NULL, NULL),
-	(12658, 966, 16, 1.0028, NULL, NULL),
-	(12659, 966, 16.25, 1.0026, NULL, NULL),
-	(12660, 966, 16.5, 1.0025, NULL, NULL),
-	(12661, 966, 16.75, 1.0023, NULL, NULL),
-	(12662, 966, 17, 1.0021, NULL, NULL),
-	(12663, 966, 17.25, 1.0019, NULL, NULL),
-	(12664, 966, 17.5, 1.0018, NULL, NULL),
-	(12665, 966, 17.75, 1.0016, NULL, NULL),
-	(12666, 966, 18, 1.0014, NULL, NULL),
-	(12667, 966, 18.25, 1.0012, NULL, NULL),
-	(12668, 966, 18.5, 1.0011, NULL, NULL),
-	(12669, 966, 18.75, 1.0009, NULL, NULL),
-	(12670, 966, 19, 1.0007, NULL, NULL),
-	(12671, 966, 19.25, 1.0005, NULL, NULL),
-	(12672, 966, 19.5, 1.0004, NULL, NULL),
-	(12673, 966, 19.75, 1.0002, NULL, NULL),
-	(12674, 966, 20, 1, NULL, NULL),
-	(12675, 966, 20.25, 0.9998, NULL, NULL),
-	(12676, 966, 20.5, 0.9996, NULL, NULL),
-	(12677, 966, 20.75, 0.9995, NULL, NULL),
-	(12678, 966, 21, 0.9993, NULL, NULL),
-	(12679, 966, 21.25, 0.9991, NULL, NULL),
-	(12680, 966, 21.5, 0.9989, NULL, NULL),
-	(12681, 966, 21.75, 0.9988, NULL, NULL),
-	(12682, 966, 22, 0.9986, NULL, NULL),
-	(12683, 966, 22.25, 0.9984, NULL, NULL),
-	(12684, 966, 22.5, 0.9982, NULL, NULL),
-	(12685, 966, 22.75, 0.9981, NULL, NULL),
-	(12686, 966, 23, 0.9979, NULL, NULL),
-	(12687, 966, 23.25, 0.9977, NULL, NULL),
-	(12688, 966, 23.5, 0.9975, NULL, NULL),
-	(12689, 966, 23.75, 0.9974, NULL, NULL),
-	(12690, 966, 24, 0.9972, NULL, NULL),
-	(12691, 966, 24.25, 0.997, NULL, NULL),
-	(12692, 966, 24.5, 0.9968, NULL, NULL),
-	(12693, 966, 24.75, 0.9967, NULL, NULL),
-	(12694, 966, 25, 0.9965, NULL, NULL),
-	(12695, 966, 25.25, 0.9963, NULL, NULL),
-	(12696, 966, 25.5, 0.9961, NULL, NULL),
-	(12697, 966, 25.75, 0.9959, NULL, NULL),
-	(12698, 966, 26, 0.9958, NULL, NULL),
-	(12699, 966, 26.25, 0.9956, NULL, NULL),
-	(12700, 966, 26.5, 0.9954, NULL, NULL),
-	(12701, 966, 26.75, 0.9952, NULL, NULL),
-	(12702, 966, 27, 0.9951, NULL, NULL),
-	(12703, 966, 27.25, 0.9949, NULL, NULL),
-	(12704, 966, 27.5, 0.9947, NULL, NULL),
-	(12705, 966, 27.75, 0.9945, NULL, NULL),
-	(12706, 966, 28, 0.9944, NULL, NULL),
-	(12707, 966, 28.25, 0.9942, NULL, NULL),
-	(12708, 966, 28.5, 0.994, NULL, NULL),
-	(12709, 966, 28.75, 0.9938, NULL, NULL),
-	(12710, 966, 29, 0.9936, NULL, NULL),
-	(12711, 966, 29.25, 0.9935, NULL, NULL),
-	(12712, 966, 29.5, 0.9933, NULL, NULL),
-	(12713, 966, 29.75, 0.9931, NULL, NULL),
-	(12714, 966, 30, 0.9929, NULL, NULL),
-	(12715, 966, 30.25, 0.9928, NULL, NULL),
-	(12716, 966, 30.5, 0.9926, NULL, NULL),
-	(12717, 966, 30.75, 0.9924, NULL, NULL),
-	(12718, 966, 31, 0.9922, NULL, NULL),
-	(12719, 966, 31.25, 0.9921, NULL, NULL),
-	(12720, 966, 31.5, 0.9919, NULL, NULL),
-	(12721, 966, 31.75, 0.9917, NULL, NULL),
-	(12722, 966, 32, 0.9915, NULL, NULL),
-	(12723, 966, 32.25, 0.9913, NULL, NULL),
-	(12724, 966, 32.5, 0.9912, NULL, NULL),
-	(12725, 966, 32.75, 0.991, NULL, NULL),
-	(12726, 966, 33, 0.9908, NULL, NULL),
-	(12727, 966, 33.25, 0.9906, NULL, NULL),
-	(12728, 966, 33.5, 0.9905, NULL, NULL),
-	(12729, 966, 33.75, 0.9903, NULL, NULL),
-	(12730, 966, 34, 0.9901, NULL, NULL),
-	(12731, 966, 34.25, 0.9899, NULL, NULL),
-	(12732, 966, 34.5, 0.9898, NULL, NULL),
-	(12733, 966, 34.75, 0.9896, NULL, NULL),
-	(12734, 966, 35, 0.9894, NULL, NULL),
-	(12735, 966, 35.25, 0.9892, NULL, NULL),
-	(12736, 966, 35.5, 0.989, NULL, NULL),
-	(12737, 966, 35.75, 0.9889, NULL, NULL),
-	(12738, 966, 36, 0.9887, NULL, NULL),
-	(12739, 966, 36.25, 0.9885, NULL, NULL),
-	(12740, 966, 36.5, 0.9883, NULL, NULL),
-	(12741, 966, 36.75, 0.9882, NULL, NULL),
-	(12742, 966, 37, 0.988, NULL, NULL),
-	(12743, 966, 37.25, 0.9878, NULL, NULL),
-	(12744, 966, 37.5, 0.9876, NULL, NULL),
-	(12745, 966, 37.75, 0.9875, NULL, NULL),
-	(12746, 966, 38, 0.9873, NULL, NULL),
-	(12747, 966, 38.25, 0.9871, NULL, NULL),
-	(12748, 966, 38.5, 0.9869, NULL, NULL),
-	(12749, 966, 38.75, 0.9867, NULL, NULL),
-	(12750, 966, 39, 0.9866, NULL, NULL),
-	(12751, 966, 39.25, 0.9864, NULL, NULL),
-	(12752, 966, 39.5, 0.9862, NULL, NULL),
-	(12753, 966, 39.75, 0.986, NULL, NULL),
-	(12754, 966, 40, 0.9859, NULL, NULL),
-	(12755, 966, 40.25, 0.9857, NULL, NULL),
-	(12756, 966, 40.5, 0.9855, NULL, NULL),
-	(12757, 966, 40.75, 0.9853, NULL, NULL),
-	(12758, 966, 41, 0.9851, NULL, NULL),
-	(12759, 966, 41.25, 0.985, NULL, NULL),
-	(12760, 966, 41.5, 0.9848, NULL, NULL),
-	(12761, 966, 41.75, 0.9846, NULL, NULL),
-	(12762, 966, 42, 0.9844, NULL, NULL),
-	(12763, 966, 42.25, 0.9843, NULL, NULL),
-	(12764, 966, 42.5, 0.9841, NULL, NULL),
-	(12765, 966, 42.75, 0.9839, NULL, NULL),
-	(12766, 966, 43, 0.9837, NULL, NULL),
-	(12767, 966, 43.25, 0.9835, NULL, NULL),
-	(12768, 966, 43.5, 0.9834, NULL, NULL),
-	(12769, 966, 43.75, 0.9832, NULL, NULL),
-	(12770, 966, 44, 0.983, NULL, NULL),
-	(12771, 966, 44.25, 0.9828, NULL, NULL),
-	(12772, 966, 44.5, 0.9827, NULL, NULL),
-	(12773, 966, 44.75, 0.9825, NULL, NULL),
-	(12774, 966, 45, 0.9823, NULL, NULL),
-	(12775, 966, 45.25, 0.9821, NULL, NULL),
-	(12776, 966, 45.5, 0.9819, NULL, NULL),
-	(12777, 966, 45.75, 0.9818, NULL, NULL),
-	(12778, 966, 46, 0.9816, NULL, NULL),
-	(12779, 966, 46.25, 0.9814, NULL, NULL),
-	(12780, 966, 46.5, 0.9812, NULL, NULL),
-	(12781, 966, 46.75, 0.9811, NULL, NULL),
-	(12782, 966, 47, 0.9809, NULL, NULL),
-	(12783, 966, 47.25, 0.9807, NULL, NULL),
-	(12784, 966, 47.5, 0.9805, NULL, NULL),
-	(12785, 966, 47.75, 0.9803, NULL, NULL),
-	(12786, 966, 48, 0.9802, NULL, NULL),
-	(12787, 966, 48.25, 0.98, NULL, NULL),
-	(12788, 966, 48.5, 0.9798, NULL, NULL),
-	(12789, 966, 48.75, 0.9796, NULL, NULL),
-	(12790, 966, 49, 0.9795, NULL, NULL),
-	(12791, 966, 49.25, 0.9793, NULL, NULL),
-	(12792, 966, 49.5, 0.9791, NULL, NULL),
-	(12793, 966, 49.75, 0.9789, NULL, NULL),
-	(12794, 966, 50, 0.9787, NULL, NULL),
-	(12795, 966.5, 15, 1.0035, NULL, NULL),
-	(12796, 966.5, 15.25, 1.0033, NULL, NULL),
-	(12797, 966.5, 15.5, 1.0032, NULL, NULL),
-	(12798, 966.5, 15.75, 1.003, NULL, NULL),
-	(12799, 966.5, 16, 1.0028, NULL, NULL),
-	(12800, 966.5, 16.25, 1.0026, NULL, NULL),
-	(12801, 966.5, 16.5, 1.0025, NULL, NULL),
-	(12802, 966.5, 16.75, 1.0023, NULL, NULL),
-	(12803, 966.5, 17, 1.0021, NULL, NULL),
-	(12804, 966.5, 17.25, 1.0019, NULL, NULL),
-	(12805, 966.5, 17.5, 1.0018, NULL, NULL),
-	(12806, 966.5, 17.75, 1.0016, NULL, NULL),
-	(12807, 966.5, 18, 1.0014, NULL, NULL),
-	(12808, 966.5, 18.25, 1.0012, NULL, NULL),
-	(12809, 966.5, 18.5, 1.0011, NULL, NULL),
-	(12810, 966.5, 18.75, 1.0009, NULL, NULL),
-	(12811, 966.5, 19, 1.0007, NULL, NULL),
-	(12812, 966.5, 19.25, 1.0005, NULL, NULL),
-	(12813, 966.5, 19.5, 1.0004, NULL, NULL),
-	(12814, 966.5, 19.75, 1.0002, NULL, NULL),
-	(12815, 966.5, 20, 1, NULL, NULL),
-	(12816, 966.5, 20.25, 0.9998, NULL, NULL),
-	(12817, 966.5, 20.5, 0.9996, NULL, NULL),
-	(12818, 966.5, 20.75, 0.9995, NULL, NULL),
-	(12819, 966.5, 21, 0.9993, NULL, NULL),
-	(12820, 966.5, 21.25, 0.9991, NULL, NULL),
-	(12821, 966.5, 21.5, 0.9989, NULL, NULL),
-	(12822, 966.5, 21.75, 0.9988, NULL, NULL),
-	(12823, 966.5, 22, 0.9986, NULL, NULL),
-	(12824, 966.5, 22.25, 0.9984, NULL, NULL),
-	(12825, 966.5, 22.5, 0.9982, NULL, NULL),
-	(12826, 966.5, 22.75, 0.9981, NULL, NULL),
-	(12827, 966.5, 23, 0.9979, NULL, NULL),
-	(12828, 966.5, 23.25, 0.9977, NULL, NULL),
-	(12829, 966.5, 23.5, 0.9975, NULL, NULL),
-	(12830, 966.5, 23.75, 0.9974, NULL, NULL),
-	(12831, 966.5, 24, 0.9972, NULL, NULL),
-	(12832, 966.5, 24.25, 0.997, NULL, NULL),
-	(12833, 966.5, 24.5, 0.9968, NULL, NULL),
-	(12834, 966.5, 24.75, 0.9967, NULL, NULL),
-	(12835, 966.5, 25, 0.9965, NULL, NULL),
-	(12836, 966.5, 25.25, 0.9963, NULL, NULL),
-	(12837, 966.5, 25.5, 0.9961, NULL, NULL),
-	(12838, 966.5, 25.75, 0.9959, NULL, NULL),
-	(12839, 966.5, 26, 0.9958, NULL, NULL),
-	(12840, 966.5, 26.25, 0.9956, NULL, NULL),
-	(12841, 966.5, 26.5, 0.9954, NULL, NULL),
-	(12842, 966.5, 26.75, 0.9952, NULL, NULL),
-	(12843, 966.5, 27, 0.9951, NULL, NULL),
-	(12844, 966.5, 27.25, 0.9949, NULL, NULL),
-	(12845, 966.5, 27.5, 0.9947, NULL, NULL),
-	(12846, 966.5, 27.75, 0.9945, NULL, NULL),
-	(12847, 966.5, 28, 0.9944, NULL, NULL),
-	(12848, 966.5, 28.25, 0.9942, NULL, NULL),
-	(12849, 966.5, 28.5, 0.994, NULL, NULL),
-	(12850, 966.5, 28.75, 0.9938, NULL, NULL),
-	(12851, 966.5, 29, 0.9937, NULL, NULL),
-	(12852, 966.5, 29.25, 0.9935, NULL, NULL),
-	(12853, 966.5, 29.5, 0.9933, NULL, NULL),
-	(12854, 966.5, 29.75, 0.9931, NULL, NULL),
-	(12855, 966.5, 30, 0.9929, NULL, NULL),
-	(12856, 966.5, 30.25, 0.9928, NULL, NULL),
-	(12857, 966.5, 30.5, 0.9926, NULL, NULL),
-	(12858, 966.5, 30.75, 0.9924, NULL, NULL),
-	(12859, 966.5, 31, 0.9922, NULL, NULL),
-	(12860, 966.5, 31.25, 0.9921, NULL, NULL),
-	(12861, 966.5, 31.5, 0.9919, NULL, NULL),
-	(12862, 966.5, 31.75, 0.9917, NULL, NULL),
-	(12863, 966.5, 32, 0.9915, NULL, NULL),
-	(12864, 966.5, 32.25, 0.9914, NULL, NULL),
-	(12865, 966.5, 32.5, 0.9912, NULL, NULL),
-	(12866, 966.5, 32.75, 0.991, NULL, NULL),
-	(12867, 966.5, 33, 0.9908, NULL, NULL),
-	(12868, 966.5, 33.25, 0.9906, NULL, NULL),
-	(12869, 966.5, 33.5, 0.9905, NULL, NULL),
-	(12870, 966.5, 33.75, 0.9903, NULL, NULL),
-	(12871, 966.5, 34, 0.9901, NULL, NULL),
-	(12872, 966.5, 34.25, 0.9899, NULL, NULL),
-	(12873, 966.5, 34.5, 0.9898, NULL, NULL),
-	(12874, 966.5, 34.75, 0.9896, NULL, NULL),
-	(12875, 966.5, 35.25, 0.9892, NULL, NULL),
-	(12876, 966.5, 35.5, 0.9891, NULL, NULL),
-	(12877, 966.5, 35.75, 0.9889, NULL, NULL),
-	(12878, 966.5, 36, 0.9887, NULL, NULL),
-	(12879, 966.5, 36.25, 0.9885, NULL, NULL),
-	(12880, 966.5, 36.5, 0.9883, NULL, NULL),
-	(12881, 966.5, 36.75, 0.9882, NULL, NULL),
-	(12882, 966.5, 37, 0.988, NULL, NULL),
-	(12883, 966.5, 37.25, 0.9878, NULL, NULL),
-	(12884, 966.5, 37.5, 0.9876, NULL, NULL),
-	(12885, 966.5, 37.75, 0.9875, NULL, NULL),
-	(12886, 966.5, 38, 0.9873, NULL, NULL),
-	(12887, 966.5, 38.25, 0.9871, NULL, NULL),
-	(12888, 966.5, 38.5, 0.9869, NULL, NULL),
-	(12889, 966.5, 38.75, 0.9868, NULL, NULL),
-	(12890, 966.5, 39, 0.9866, NULL, NULL),
-	(12891, 966.5, 39.25, 0.9864, NULL, NULL),
-	(12892, 966.5, 39.5, 0.9862, NULL, NULL),
-	(12893, 966.5, 39.75, 0.986, NULL, NULL),
-	(12894, 966.5, 40, 0.9859, NULL, NULL),
-	(12895, 966.5, 40.25, 0.9857, NULL, NULL),
-	(12896, 966.5, 40.5, 0.9855, NULL, NULL),
-	(12897, 966.5, 40.75, 0.9853, NULL, NULL),
-	(12898, 966.5, 41, 0.9852, NULL, NULL),
-	(12899, 966.5, 41.25, 0.985, NULL, NULL),
-	(12900, 966.5, 41.5, 0.9848, NULL, NULL),
-	(12901, 966.5, 41.75, 0.9846, NULL, NULL),
-	(12902, 966.5, 42, 0.9844, NULL, NULL),
-	(12903, 966.5, 42.25, 0.9843, NULL, NULL),
-	(12904, 966.5, 42.5, 0.9841, NULL, NULL),
-	(12905, 966.5, 42.75, 0.9839, NULL, NULL),
-	(12906, 966.5, 43, 0.9837, NULL, NULL),
-	(12907, 966.5, 43.25, 0.9836, NULL, NULL),
-	(12908, 966.5, 43.5, 0.9834, NULL, NULL),
-	(12909, 966.5, 43.75, 0.9832, NULL, NULL),
-	(12910, 966.5, 44, 0.983, NULL, NULL),
-	(12911, 966.5, 44.25, 0.9828, NULL, NULL),
-	(12912, 966.5, 44.5, 0.9827, NULL, NULL),
-	(12913, 966.5, 44.75, 0.9825, NULL, NULL),
-	(12914, 966.5, 45, 0.9823, NULL, NULL),
-	(12915, 966.5, 45.25, 0.9821, NULL, NULL),
-	(12916, 966.5, 45.5, 0.982, NULL, NULL),
-	(12917, 966.5, 45.75, 0.9818, NULL, NULL),
-	(12918, 966.5, 46, 0.9816, NULL, NULL),
-	(12919, 966.5, 46.25, 0.9814, NULL, NULL),
-	(12920, 966.5, 46.5, 0.9812, NULL, NULL),
-	(12921, 966.5, 46.75, 0.9811, NULL, NULL),
-	(12922, 966.5, 47, 0.9809, NULL, NULL),
-	(12923, 966.5, 47.25, 0.9807, NULL, NULL),
-	(12924, 966.5, 47.5, 0.9805, NULL, NULL),
-	(12925, 966.5, 47.75, 0.9804, NULL, NULL),
-	(12926, 966.5, 48, 0.9802, NULL, NULL),
-	(12927, 966.5, 48.25, 0.98, NULL, NULL),
-	(12928, 966.5, 48.5, 0.9798, NULL, NULL),
-	(12929, 966.5, 48.75, 0.9796, NULL, NULL),
-	(12930, 966.5, 49, 0.9795, NULL, NULL),
-	(12931, 966.5, 49.25, 0.9793, NULL, NULL),
-	(12932, 966.5, 49.5, 0.9791, NULL, NULL),
-	(12933, 966.5, 49.75, 0.9789, NULL, NULL),
-	(12934, 966.5, 50, 0.9788, NULL, NULL),
-	(12935, 967, 15, 1.0035, NULL, NULL),
-	(12936, 967, 15.25, 1.0033, NULL, NULL),
-	(12937, 967, 15.5, 1.0032, NULL, NULL),
-	(12938, 967, 15.75, 1.003, NULL, NULL),
-	(12939, 967, 16, 1.0028, NULL, NULL),
-	(12940, 967, 16.25, 1.0026, NULL, NULL),
-	(12941, 967, 16.5, 1.0025, NULL, NULL),
-	(12942, 967, 16.75, 1.0023, NULL, NULL),
-	(12943, 967, 17, 1.0021, NULL, NULL),
-	(12944, 967, 17.25, 1.0019, NULL, NULL),
-	(12945, 967, 17.5, 1.0018, NULL, NULL),
-	(12946, 967, 17.75, 1.0016, NULL, NULL),
-	(12947, 967, 18, 1.0014, NULL, NULL),
-	(12948, 967, 18.25, 1.0012, NULL, NULL),
-	(12949, 967, 18.5, 1.0011, NULL, NULL),
-	(12950, 967, 18.75, 1.0009, NULL, NULL),
-	(12951, 967, 19, 1.0007, NULL, NULL),
-	(12952, 967, 19.25, 1.0005, NULL, NULL),
-	(12953, 967, 19.5, 1.0004, NULL, NULL),
-	(12954, 967, 19.75, 1.0002, NULL, NULL),
-	(12955, 967, 20, 1, NULL, NULL),
-	(12956, 967, 20.25, 0.9998, NULL, NULL),
-	(12957, 967, 20.5, 0.9996, NULL, NULL),
-	(12958, 967, 20.75, 0.9995, NULL, NULL),
-	(12959, 967, 21, 0.9993, NULL, NULL),
-	(12960, 967, 21.25, 0.9991, NULL, NULL),
-	(12961, 967, 21.5, 0.9989, NULL, NULL),
-	(12962, 967, 21.75, 0.9988, NULL, NULL),
-	(12963, 967, 22, 0.9986, NULL, NULL),
-	(12964, 967, 22.25, 0.9984, NULL, NULL),
-	(12965, 967, 22.5, 0.9982, NULL, NULL),
-	(12966, 967, 22.75, 0.9981, NULL, NULL),
-	(12967, 967, 23, 0.9979, NULL, NULL),
-	(12968, 967, 23.25, 0.9977, NULL, NULL),
-	(12969, 967, 23.5, 0.9975, NULL, NULL),
-	(12970, 967, 23.75, 0.9974, NULL, NULL),
-	(12971, 967, 24, 0.9972, NULL, NULL),
-	(12972, 967, 24.25, 0.997, NULL, NULL),
-	(12973, 967, 24.5, 0.9968, NULL, NULL),
-	(12974, 967, 24.75, 0.9967, NULL, NULL),
-	(12975, 967, 25, 0.9965, NULL, NULL),
-	(12976, 967, 25.25, 0.9963, NULL, NULL),
-	(12977, 967, 25.5, 0.9961, NULL, NULL),
-	(12978, 967, 25.75, 0.996, NULL, NULL),
-	(12979, 967, 26, 0.9958, NULL, NULL),
-	(12980, 967, 26.25, 0.9956, NULL, NULL),
-	(12981, 967, 26.5, 0.9954, NULL, NULL),
-	(12982, 967, 26.75, 0.9952, NULL, NULL),
-	(12983, 967, 27, 0.9951, NULL, NULL),
-	(12984, 967, 27.25, 0.9949, NULL, NULL),
-	(12985, 967, 27.5, 0.9947, NULL, NULL),
-	(12986, 967, 27.75, 0.9945, NULL, NULL),
-	(12987, 967, 28, 0.9944, NULL, NULL),
-	(12988, 967, 28.25, 0.9942, NULL, NULL),
-	(12989, 967, 28.5, 0.994, NULL, NULL),
-	(12990, 967, 28.75, 0.9938, NULL, NULL),
-	(12991, 967, 29, 0.9937, NULL, NULL),
-	(12992, 967, 29.25, 0.9935, NULL, NULL),
-	(12993, 967, 29.5, 0.9933, NULL, NULL),
-	(12994, 967, 29.75, 0.9931, NULL, NULL),
-	(12995, 967, 30, 0.993, NULL, NULL),
-	(12996, 967, 30.5, 0.9926, NULL, NULL),
-	(12997, 967, 30.75, 0.9924, NULL, NULL),
-	(12998, 967, 31, 0.9922, NULL, NULL),
-	(12999, 967, 31.25, 0.9921, NULL, NULL),
-	(13000, 967, 31.5, 0.9919, NULL, NULL),
-	(13001, 967, 31.75, 0.9917, NULL, NULL),
-	(13002, 967, 32, 0.9915, NULL, NULL),
-	(13003, 967, 32.25, 0.9914, NULL, NULL),
-	(13004, 967, 32.5, 0.9912, NULL, NULL),
-	(13005, 967, 32.75, 0.991, NULL, NULL),
-	(13006, 967, 33, 0.9908, NULL, NULL),
-	(13007, 967, 33.25, 0.9907, NULL, NULL),
-	(13008, 967, 33.5, 0.9905, NULL, NULL),
-	(13009, 967, 33.75, 0.9903, NULL, NULL),
-	(13010, 967, 34, 0.9901, NULL, NULL),
-	(13011, 967, 34.25, 0.9899, NULL, NULL),
-	(13012, 967, 34.5, 0.9898, NULL, NULL),
-	(13013, 967, 34.75, 0.9896, NULL, NULL),
-	(13014, 967, 35.25, 0.9892, NULL, NULL),
-	(13015, 967, 35.5, 0.9891, NULL, NULL),
-	(13016, 967, 35.75, 0.9889, NULL, NULL),
-	(13017, 967, 36, 0.9887, NULL, NULL),
-	(13018, 967, 36.25, 0.9885, NULL, NULL),
-	(13019, 967, 36.5, 0.9884, NULL, NULL),
-	(13020, 967, 36.75, 0.9882, NULL, NULL),
-	(13021, 967, 37, 0.986, NULL, NULL),
-	(13022, 967, 37.25, 0.9878, NULL, NULL),
-	(13023, 967, 37.5, 0.9876, NULL, NULL),
-	(13024, 967, 37.75, 0.9875, NULL, NULL),
-	(13025, 967, 38, 0.9873, NULL, NULL),
-	(13026, 967, 38.25, 0.9871, NULL, NULL),
-	(13027, 967, 38.5, 0.9869, NULL, NULL),
-	(13028, 967, 38.75, 0.9868, NULL, NULL),
-	(13029, 967, 39, 0.9866, NULL, NULL),
-	(13030, 967, 39.25, 0.9864, NULL, NULL),
-	(13031, 967, 39.5, 0.9862, NULL, NULL),
-	(13032, 967, 39.75, 0.9861, NULL, NULL),
-	(13033, 967, 40, 0.9859, NULL, NULL),
-	(13034, 967, 40.25, 0.9857, NULL, NULL),
-	(13035, 967, 40.5, 0.9855, NULL, NULL),
-	(13036, 967, 40.75, 0.9853, NULL, NULL),
-	(13037, 967, 41, 0.9852, NULL, NULL),
-	(13038, 967, 41.25, 0.985, NULL, NULL),
-	(13039, 967, 41.5, 0.9848, NULL, NULL),
-	(13040, 967, 41.75, 0.9846, NULL, NULL),
-	(13041, 967, 42, 0.9845, NULL, NULL),
-	(13042, 967, 42.25, 0.9843, NULL, NULL),
-	(13043, 967, 42.5, 0.9841, NULL, NULL),
-	(13044, 967, 42.75, 0.9839, NULL, NULL),
-	(13045, 967, 43, 0.9837, NULL, NULL),
-	(13046, 967, 43.25, 0.9836, NULL, NULL),
-	(13047, 967, 43.5, 0.9834, NULL, NULL),
-	(13048, 967, 43.75, 0.9832, NULL, NULL),
-	(13049, 967, 44, 0.983, NULL, NULL),
-	(13050, 967, 44.25, 0.9829, NULL, NULL),
-	(13051, 967, 44.5, 0.9827, NULL, NULL),
-	(13052, 967, 44.75, 0.9825, NULL, NULL),
-	(13053, 967, 45, 0.9823, NULL, NULL),
-	(13054, 967, 45.25, 0.9821, NULL, NULL),
-	(13055, 967, 45.5, 0.982, NULL, NULL),
-	(13056, 967, 45.75, 0.9818, NULL, NULL),
-	(13057, 967, 46, 0.9816, NULL, NULL),
-	(13058, 967, 46.25, 0.9814, NULL, NULL),
-	(13059, 967, 46.5, 0.9813, NULL, NULL),
-	(13060, 967, 46.75, 0.9811, NULL, NULL),
-	(13061, 967, 47, 0.9809, NULL, NULL),
-	(13062, 967, 47.25, 0.9807, NULL, NULL),
-	(13063, 967, 47.5, 0.9805, NULL, NULL),
-	(13064, 967, 47.75, 0.9804, NULL, NULL),
-	(13065, 967, 48, 0.9802, NULL, NULL),
-	(13066, 967, 48.25, 0.98, NULL, NULL),
-	(13067, 967, 48.5, 0.9798, NULL, NULL),
-	(13068, 967, 48.75, 0.9797, NULL, NULL),
-	(13069, 967, 49, 0.9795, NULL, NULL),
-	(13070, 967, 49.25, 0.9793, NULL, NULL),
-	(13071, 967, 49.5, 0.9791, NULL, NULL),
-	(13072, 967, 49.75, 0.9789, NULL, NULL),
-	(13073, 967, 50, 0.9788, NULL, NULL),
-	(13074, 967.5, 15, 1.0035, NULL, NULL),
-	(13075, 967.5, 15.25, 1.0033, NULL, NULL),
-	(13076, 967.5, 15.5, 1.0032, NULL, NULL),
-	(13077, 967.5, 15.75, 1.003, NULL, NULL),
-	(13078, 967.5, 16, 1.0028, NULL, NULL),
-	(13079, 967.5, 16.25, 1.0026, NULL, NULL),
-	(13080, 967.5, 16.5, 1.0025, NULL, NULL),
-	(13081, 967.5, 16.75, 1.0023, NULL, NULL),
-	(13082, 967.5, 17, 1.0021, NULL, NULL),
-	(13083, 967.5, 17.25, 1.0019, NULL, NULL),
-	(13084, 967.5, 17.5, 1.0018, NULL, NULL),
-	(13085, 967.5, 17.75, 1.0016, NULL, NULL),
-	(13086, 967.5, 18, 1.0014, NULL, NULL),
-	(13087, 967.5, 18.25, 1.0012, NULL, NULL),
-	(13088, 967.5, 18.5, 1.0011, NULL, NULL),
-	(13089, 967.5, 18.75, 1.0009, NULL, NULL),
-	(13090, 967.5, 19, 1.0007, NULL, NULL),
-	(13091, 967.5, 19.25, 1.0005, NULL, NULL),
-	(13092, 967.5, 19.5, 1.0004, NULL, NULL),
-	(13093, 967.5, 19.75, 1.0002, NULL, NULL),
-	(13094, 967.5, 20, 1, NULL, NULL),
-	(13095, 967.5, 20.25, 0.9998, NULL, NULL),
-	(13096, 967.5, 20.5, 0.9996, NULL, NULL),
-	(13097, 967.5, 20.75, 0.9995, NULL, NULL),
-	(13098, 967.5, 21.25, 0.9991, NULL, NULL),
-	(13099, 967.5, 21.5, 0.9989, NULL, NULL),
-	(13100, 967.5, 21.75, 0.9988, NULL, NULL),
-	(13101, 967.5, 22, 0.9986, NULL, NULL),
-	(13102, 967.5, 22.25, 0.9984, NULL, NULL),
-	(13103, 967.5, 22.5, 0.9982, NULL, NULL),
-	(13104, 967.5, 22.75, 0.9981, NULL, NULL),
-	(13105, 967.5, 23, 0.9979, NULL, NULL),
-	(13106, 967.5, 23.25, 0.9977, NULL, NULL),
-	(13107, 967.5, 23.5, 0.9975, NULL, NULL),
-	(13108, 967.5, 23.75, 0.9974, NULL, NULL),
-	(13109, 967.5, 24, 0.9972, NULL, NULL),
-	(13110, 967.5, 24.25, 0.997, NULL, NULL),
-	(13111, 967.5, 24.5, 0.9968, NULL, NULL),
-	(13112, 967.5, 24.75, 0.9967, NULL, NULL),
-	(13113, 967.5, 25, 0.9965, NULL, NULL),
-	(13114, 967.5, 25.25, 0.9963, NULL, NULL),
-	(13115, 967.5, 25.5, 0.9961, NULL, NULL),
-	(13116, 967.5, 25.75, 0.996, NULL, NULL),
-	(13117, 967.5, 26, 0.9958, NULL, NULL),
-	(13118, 967.5, 26.25, 0.9956, NULL, NULL),
-	(13119, 967.5, 26.5, 0.9954, NULL, NULL),
-	(13120, 967.5, 26.75, 0.9952, NULL, NULL),
-	(13121, 967.5, 27, 0.9951, NULL, NULL),
-	(13122, 967.5, 27.25, 0.9949, NULL, NULL),
-	(13123, 967.5, 27.5, 0.9947, NULL, NULL),
-	(13124, 967.5, 27.75, 0.9945, NULL, NULL),
-	(13125, 967.5, 28, 0.9944, NULL, NULL),
-	(13126, 967.5, 28.25, 0.9942, NULL, NULL),
-	(13127, 967.5, 28.5, 0.994, NULL, NULL),
-	(13128, 967.5, 28.75, 0.9938, NULL, NULL),
-	(13129, 967.5, 29, 0.9937, NULL, NULL),
-	(13130, 967.5, 29.25, 0.9935, NULL, NULL),
-	(13131, 967.5, 29.5, 0.9933, NULL, NULL),
-	(13132, 967.5, 29.75, 0.9931, NULL, NULL),
-	(13133, 967.5, 30, 0.993, NULL, NULL),
-	(13134, 967.5, 30.25, 0.9928, NULL, NULL),
-	(13135, 967.5, 30.5, 0.9926, NULL, NULL),
-	(13136, 967.5, 30.75, 0.9924, NULL, NULL),
-	(13137, 967.5, 31, 0.9922, NULL, NULL),
-	(13138, 967.5, 31.25, 0.9921, NULL, NULL),
-	(13139, 967.5, 31.5, 0.9919, NULL, NULL),
-	(13140, 967.5, 31.75, 0.9917, NULL, NULL),
-	(13141, 967.5, 32, 0.9915, NULL, NULL),
-	(13142, 967.5, 32.25, 0.9914, NULL, NULL),
-	(13143, 967.5, 32.75, 0.991, NULL, NULL),
-	(13144, 967.5, 33, 0.9908, NULL, NULL),
-	(13145, 967.5, 33.25, 0.9907, NULL, NULL),
-	(13146, 967.5, 33.5, 0.9905, NULL, NULL),
-	(13147, 967.5, 33.75, 0.9903, NULL, NULL),
-	(13148, 967.5, 34, 0.9901, NULL, NULL),
-	(13149, 967.5, 34.25, 0.99, NULL, NULL),
-	(13150, 967.5, 34.75, 0.9896, NULL, NULL),
-	(13151, 967.5, 35.5, 0.9891, NULL, NULL),
-	(13152, 967.5, 35.75, 0.9889, NULL, NULL),
-	(13153, 967.5, 36, 0.9887, NULL, NULL),
-	(13154, 967.5, 36.25, 0.9885, NULL, NULL),
-	(13155, 967.5, 36.5, 0.9884, NULL, NULL),
-	(13156, 967.5, 36.75, 0.9882, NULL, NULL),
-	(13157, 967.5, 37, 0.988, NULL, NULL),
-	(13158, 967.5, 37.25, 0.9878, NULL, NULL),
-	(13159, 967.5, 37.5, 0.9877, NULL, NULL),
-	(13160, 967.5, 37.75, 0.9875, NULL, NULL),
-	(13161, 967.5, 38, 0.9873, NULL, NULL),
-	(13162, 967.5, 38.25, 0.9871, NULL, NULL),
-	(13163, 967.5, 38.5, 0.9869, NULL, NULL),
-	(13164, 967.5, 38.75, 0.9868, NULL, NULL),
-	(13165, 967.5, 39, 0.9866, NULL, NULL),
-	(13166, 967.5, 39.25, 0.9864, NULL, NULL),
-	(13167, 967.5, 39.5, 0.9862, NULL, NULL),
-	(13168, 967.5, 39.75, 0.9861, NULL, NULL),
-	(13169, 967.5, 40, 0.9859, NULL, NULL),
-	(13170, 967.5, 40.25, 0.9857, NULL, NULL),
-	(13171, 967.5, 40.5, 0.9855, NULL, NULL),
-	(13172, 967.5, 40.75, 0.9854, NULL, NULL),
-	(13173, 967.5, 41, 0.9852, NULL, NULL),
-	(13174, 967.5, 41.25, 0.985, NULL, NULL),
-	(13175, 967.5, 41.5, 0.9848, NULL, NULL),
-	(13176, 967.5, 41.75, 0.9846, NULL, NULL),
-	(13177, 967.5, 42, 0.9845, NULL, NULL),
-	(13178, 967.5, 42.25, 0.9843, NULL, NULL),
-	(13179, 967.5, 42.5, 0.9841, NULL, NULL),
-	(13180, 967.5, 42.75, 0.9839, NULL, NULL),
-	(13181, 967.5, 43, 0.9838, NULL, NULL),
-	(13182, 967.5, 43.25, 0.9836, NULL, NULL),
-	(13183, 967.5, 43.5, 0.9834, NULL, NULL),
-	(13184, 967.5, 43.75, 0.9832, NULL, NULL),
-	(13185, 967.5, 44, 0.983, NULL, NULL),
-	(13186, 967.5, 44.25, 0.9829, NULL, NULL),
-	(13187, 967.5, 44.5, 0.9827, NULL, NULL),
-	(13188, 967.5, 44.75, 0.9825, NULL, NULL),
-	(13189, 967.5, 45, 0.9823, NULL, NULL),
-	(13190, 967.5, 45.25, 0.9822, NULL, NULL),
-	(13191, 967.5, 45.5, 0.982, NULL, NULL),
-	(13192, 967.5, 45.75, 0.9818, NULL, NULL),
-	(13193, 967.5, 46, 0.9816, NULL, NULL),
-	(13194, 967.5, 46.25, 0.9815, NULL, NULL),
-	(13195, 967.5, 46.5, 0.9813, NULL, NULL),
-	(13196, 967.5, 46.75, 0.9811, NULL, NULL),
-	(13197, 967.5, 47, 0.9809, NULL, NULL),
-	(13198, 967.5, 47.25, 0.9807, NULL, NULL),
-	(13199, 967.5, 47.5, 0.9806, NULL, NULL),
-	(13200, 967.5, 47.75, 0.9804, NULL, NULL),
-	(13201, 967.5, 48, 0.9802, NULL, NULL),
-	(13202, 967.5, 48.25, 0.98, NULL, NULL),
-	(13203, 967.5, 48.5, 0.9799, NULL, NULL),
-	(13204, 967.5, 48.75, 0.9797, NULL, NULL),
-	(13205, 967.5, 49, 0.9795, NULL, NULL),
-	(13206, 967.5, 49.25, 0.9793, NULL, NULL),
-	(13207, 967.5, 49.5, 0.9791, NULL, NULL),
-	(13208, 967.5, 49.75, 0.979, NULL, NULL),
-	(13209, 967.5, 50, 0.9788, NULL, NULL),
-	(13210, 968, 15, 1.0035, NULL, NULL),
-	(13211, 968, 15.25, 1.0033, NULL, NULL),
-	(13212, 968, 15.5, 1.0032, NULL, NULL),
-	(13213, 968, 15.75, 1.003, NULL, NULL),
-	(13214, 968, 16, 1.0028, NULL, NULL),
-	(13215, 968, 16.25, 1.0026, NULL, NULL),
-	(13216, 968, 16.5, 1.0025, NULL, NULL),
-	(13217, 968, 16.75, 1.0023, NULL, NULL),
-	(13218, 968, 17, 1.0021, NULL, NULL),
-	(13219, 968, 17.25, 1.0019, NULL, NULL),
-	(13220, 968, 17.5, 1.0018, NULL, NULL),
-	(13221, 968, 17.75, 1.0016, NULL, NULL),
-	(13222, 968, 18, 1.0014, NULL, NULL),
-	(13223, 968, 18.25, 1.0012, NULL, NULL),
-	(13224, 968, 18.5, 1.0011, NULL, NULL),
-	(13225, 968, 18.75, 1.0009, NULL, NULL),
-	(13226, 968, 19, 1.0007, NULL, NULL),
-	(13227, 968, 19.25, 1.0005, NULL, NULL),
-	(13228, 968, 19.5, 1.0004, NULL, NULL),
-	(13229, 968, 19.75, 1.0002, NULL, NULL),
-	(13230, 968, 20, 1, NULL, NULL),
-	(13231, 968, 20.25, 0.9998, NULL, NULL),
-	(13232, 968, 20.5, 0.9996, NULL, NULL),
-	(13233, 968, 20.75, 0.9995, NULL, NULL),
-	(13234, 968, 21, 0.9993, NULL, NULL),
-	(13235, 968, 21.25, 0.9991, NULL, NULL),
-	(13236, 968, 21.5, 0.9989, NULL, NULL),
-	(13237, 968, 21.75, 0.9988, NULL, NULL),
-	(13238, 968, 22, 0.9986, NULL, NULL),
-	(13239, 968, 22.25, 0.9984, NULL, NULL),
-	(13240, 968, 22.5, 0.9982, NULL, NULL),
-	(13241, 968, 22.75, 0.9981, NULL, NULL),
-	(13242, 968, 23, 0.9979, NULL, NULL),
-	(13243, 968, 23.25, 0.9977, NULL, NULL),
-	(13244, 968, 23.5, 0.9975, NULL, NULL),
-	(13245, 968, 23.75, 0.9974, NULL, NULL),
-	(13246, 968, 24, 0.9972, NULL, NULL),
-	(13247, 968, 24.25, 0.997, NULL, NULL),
-	(13248, 968, 24.5, 0.9968, NULL, NULL),
-	(13249, 968, 24.75, 0.9967, NULL, NULL),
-	(13250, 968, 25, 0.9965, NULL, NULL),
-	(13251, 968, 25.25, 0.9963, NULL, NULL),
-	(13252, 968, 25.5, 0.9961, NULL, NULL),
-	(13253, 968, 25.75, 0.996, NULL, NULL),
-	(13254, 968, 26, 0.9958, NULL, NULL),
-	(13255, 968, 26.25, 0.9956, NULL, NULL),
-	(13256, 968, 26.5, 0.9954, NULL, NULL),
-	(13257, 968, 26.75, 0.9953, NULL, NULL),
-	(13258, 968, 27, 0.9951, NULL, NULL),
-	(13259, 968, 27.25, 0.9949, NULL, NULL),
-	(13260, 968, 27.5, 0.9947, NULL, NULL),
-	(13261, 968, 27.75, 0.9945, NULL, NULL),
-	(13262, 968, 28, 0.9944, NULL, NULL),
-	(13263, 968, 28.25, 0.9942, NULL, NULL),
-	(13264, 968, 28.5, 0.994, NULL, NULL),
-	(13265, 968, 28.75, 0.9938, NULL, NULL),
-	(13266, 968, 29, 0.9937, NULL, NULL),
-	(13267, 968, 29.25, 0.9935, NULL, NULL),
-	(13268, 968, 29.5, 0.9933, NULL, NULL),
-	(13269, 968, 29.75, 0.9931, NULL, NULL),
-	(13270, 968, 30, 0.993, NULL, NULL),
-	(13271, 968, 30.25, 0.9928, NULL, NULL),
-	(13272, 968, 30.5, 0.9926, NULL, NULL),
-	(13273, 968, 30.75, 0.9924, NULL, NULL),
-	(13274, 968, 31, 0.9923, NULL, NULL),
-	(13275, 968, 31.25, 0.9921, NULL, NULL),
-	(13276, 968, 31.5, 0.9919, NULL, NULL),
-	(13277, 968, 31.75, 0.9917, NULL, NULL),
-	(13278, 968, 32, 0.9915, NULL, NULL),
-	(13279, 968, 32.25, 0.9914, NULL, NULL),
-	(13280, 968, 32.75, 0.991, NULL, NULL),
-	(13281, 968, 33, 0.9908, NULL, NULL),
-	(13282, 968, 33.25, 0.9907, NULL, NULL),
-	(13283, 968, 33.5, 0.9905, NULL, NULL),
-	(13284, 968, 33.75, 0.9903, NULL, NULL),
-	(13285, 968, 34, 0.9901, NULL, NULL),
-	(13286, 968, 34.25, 0.99, NULL, NULL),
-	(13287, 968, 34.5, 0.9898, NULL, NULL),
-	(13288, 968, 34.75, 0.9896, NULL, NULL),
-	(13289, 968, 35, 0.9894, NULL, NULL),
-	(13290, 968, 35.25, 0.9893, NULL, NULL),
-	(13291, 968, 35.5, 0.9891, NULL, NULL),
-	(13292, 968, 35.75, 0.9889, NULL, NULL),
-	(13293, 968, 36, 0.9887, NULL, NULL),
-	(13294, 968, 36.25, 0.9885, NULL, NULL),
-	(13295, 968, 36.5, 0.9884, NULL, NULL),
-	(13296, 968, 36.75, 0.9882, NULL, NULL),
-	(13297, 968, 37, 0.988, NULL, NULL),
-	(13298, 968, 37.25, 0.9878, NULL, NULL),
-	(13299, 968, 37.5, 0.9877, NULL, NULL),
-	(13300, 968, 37.75, 0.9875, NULL, NULL),
-	(13301, 968, 38, 0.9873, NULL, NULL),
-	(13302, 968, 38.25, 0.9871, NULL, NULL),
-	(13303, 968, 38.5, 0.987, NULL, NULL),
-	(13304, 968, 38.75, 0.9868, NULL, NULL),
-	(13305, 968, 39, 0.9866, NULL, NULL),
-	(13306, 968, 39.25, 0.9864, NULL, NULL),
-	(13307, 968, 39.5, 0.9862, NULL, NULL),
-	(13308, 968, 39.75, 0.9861, NULL, NULL),
-	(13309, 968, 40, 0.9859, NULL, NULL),
-	(13310, 968, 40.25, 0.9857, NULL, NULL),
-	(13311, 968, 40.5, 0.9855, NULL, NULL),
-	(13312, 968, 40.75, 0.9854, NULL, NULL),
-	(13313, 968, 41, 0.9852, NULL, NULL),
-	(13314, 968, 41.25, 0.985, NULL, NULL),
-	(13315, 968, 41.5, 0.9848, NULL, NULL),
-	(13316, 968, 41.75, 0.9847, NULL, NULL),
-	(13317, 968, 42, 0.9845, NULL, NULL),
-	(13318, 968, 42.25, 0.9843, NULL, NULL),
-	(13319, 968, 42.5, 0.9841, NULL, NULL),
-	(13320, 968, 42.75, 0.9839, NULL, NULL),
-	(13321, 968, 43, 0.9838, NULL, NULL),
-	(13322, 968, 43.25, 0.9836, NULL, NULL),
-	(13323, 968, 43.5, 0.9834, NULL, NULL),
-	(13324, 968, 43.75, 0.9832, NULL, NULL),
-	(13325, 968, 44, 0.9831, NULL, NULL),
-	(13326, 968, 44.25, 0.9829, NULL, NULL),
-	(13327, 968, 44.5, 0.9827, NULL, NULL),
-	(13328, 968, 44.75, 0.9825, NULL, NULL),
-	(13329, 968, 45, 0.9823, NULL, NULL),
-	(13330, 968, 45.25, 0.9822, NULL, NULL),
-	(13331, 968, 45.5, 0.982, NULL, NULL),
-	(13332, 968, 45.75, 0.9818, NULL, NULL),
-	(13333, 968, 46, 0.9816, NULL, NULL),
-	(13334, 968, 46.25, 0.9815, NULL, NULL),
-	(13335, 968, 46.5, 0.9813, NULL, NULL),
-	(13336, 968, 46.75, 0.9811, NULL, NULL),
-	(13337, 968, 47, 0.9809, NULL, NULL),
-	(13338, 968, 47.25, 0.9808, NULL, NULL),
-	(13339, 968, 47.5, 0.9806, NULL, NULL),
-	(13340, 968, 47.75, 0.9804, NULL, NULL),
-	(13341, 968, 48, 0.9802, NULL, NULL),
-	(13342, 968, 48.25, 0.98, NULL, NULL),
-	(13343, 968, 48.5, 0.9799, NULL, NULL),
-	(13344, 968, 48.75, 0.9797, NULL, NULL),
-	(13345, 968, 49, 0.9795, NULL, NULL),
-	(13346, 968, 49.25, 0.9793, NULL, NULL),
-	(13347, 968, 49.5, 0.9792, NULL, NULL),
-	(13348, 968, 49.75, 0.979, NULL, NULL),
-	(13349, 968, 50, 0.9788, NULL, NULL),
-	(13350, 968.5, 15, 1.0035, NULL, NULL),
-	(13351, 968.5, 15.25, 1.0033, NULL, NULL),
-	(13352, 968.5, 15.5, 1.0032, NULL, NULL),
-	(13353, 968.5, 15.75, 1.003, NULL, NULL),
-	(13354, 968.5, 16, 1.0028, NULL, NULL),
-	(13355, 968.5, 16.25, 1.0026, NULL, NULL),
-	(13356, 968.5, 16.5, 1.0025, NULL, NULL),
-	(13357, 968.5, 16.75, 1.0023, NULL, NULL),
-	(13358, 968.5, 17, 1.0021, NULL, NULL),
-	(13359, 968.5, 17.25, 1.0019, NULL, NULL),
-	(13360, 968.5, 17.5, 1.0018, NULL, NULL),
-	(13361, 968.5, 17.75, 1.0016, NULL, NULL),
-	(13362, 968.5, 18, 1.0014, NULL, NULL),
-	(13363, 968.5, 18.25, 1.0012, NULL, NULL),
-	(13364, 968.5, 18.5, 1.0011, NULL, NULL),
-	(13365, 968.5, 18.75, 1.0009, NULL, NULL),
-	(13366, 968.5, 19, 1.0007, NULL, NULL),
-	(13367, 968.5, 19.25, 1.0005, NULL, NULL),
-	(13368, 968.5, 19.5, 1.0004, NULL, NULL),
-	(13369, 968.5, 19.75, 1.0002, NULL, NULL),
-	(13370, 968.5, 20, 1, NULL, NULL),
-	(13371, 968.5, 20.25, 0.9998, NULL, NULL),
-	(13372, 968.5, 20.5, 0.9996, NULL, NULL),
-	(13373, 968.5, 20.75, 0.9995, NULL, NULL),
-	(13374, 968.5, 21, 0.9993, NULL, NULL),
-	(13375, 968.5, 21.25, 0.9991, NULL, NULL),
-	(13376, 968.5, 21.5, 0.9989, NULL, NULL),
-	(13377, 968.5, 21.75, 0.9988, NULL, NULL),
-	(13378, 968.5, 22, 0.9986, NULL, NULL),
-	(13379, 968.5, 22.25, 0.9984, NULL, NULL),
-	(13380, 968.5, 22.5, 0.9982, NULL, NULL),
-	(13381, 968.5, 22.75, 0.9981, NULL, NULL),
-	(13382, 968.5, 23, 0.9979, NULL, NULL),
-	(13383, 968.5, 23.25, 0.9977, NULL, NULL),
-	(13384, 968.5, 23.5, 0.9975, NULL, NULL),
-	(13385, 968.5, 23.75, 0.9974, NULL, NULL),
-	(13386, 968.5, 24, 0.9972, NULL, NULL),
-	(13387, 968.5, 24.25, 0.997, NULL, NULL),
-	(13388, 968.5, 24.5, 0.9968, NULL, NULL),
-	(13389, 968.5, 24.75, 0.2967, NULL, NULL),
-	(13390, 968.5, 25, 0.9965, NULL, NULL),
-	(13391, 968.5, 25.25, 0.9963, NULL, NULL),
-	(13392, 968.5, 25.5, 0.9961, NULL, NULL),
-	(13393, 968.5, 25.75, 0.996, NULL, NULL),
-	(13394, 968.5, 26, 0.9958, NULL, NULL),
-	(13395, 968.5, 26.25, 0.9956, NULL, NULL),
-	(13396, 968.5, 26.5, 0.9954, NULL, NULL),
-	(13397, 968.5, 26.75, 0.9953, NULL, NULL),
-	(13398, 968.5, 27, 0.9951, NULL, NULL),
-	(13399, 968.5, 27.25, 0.9949, NULL, NULL),
-	(13400, 968.5, 27.5, 0.9947, NULL, NULL),
-	(13401, 968.5, 27.75, 0.9946, NULL, NULL),
-	(13402, 968.5, 28, 0.9944, NULL, NULL),
-	(13403, 968.5, 28.25, 0.9942, NULL, NULL),
-	(13404, 968.5, 28.5, 0.994, NULL, NULL),
-	(13405, 968.5, 28.75, 0.9938, NULL, NULL),
-	(13406, 968.5, 29, 0.9937, NULL, NULL),
-	(13407, 968.5, 29.25, 0.9935, NULL, NULL),
-	(13408, 968.5, 29.5, 0.9933, NULL, NULL),
-	(13409, 968.5, 29.75, 0.9931, NULL, NULL),
-	(13410, 968.5, 30.25, 0.9928, NULL, NULL),
-	(13411, 968.5, 30.5, 0.9926, NULL, NULL),
-	(13412, 968.5, 30.75, 0.9924, NULL, NULL),
-	(13413, 968.5, 31, 0.9923, NULL, NULL),
-	(13414, 968.5, 31.25, 0.9921, NULL, NULL),
-	(13415, 968.5, 31.5, 0.9919, NULL, NULL),
-	(13416, 968.5, 31.75, 0.9917, NULL, NULL),
-	(13417, 968.5, 32, 0.9916, NULL, NULL),
-	(13418, 968.5, 32.25, 0.9914, NULL, NULL),
-	(13419, 968.5, 32.5, 0.9912, NULL, NULL),
-	(13420, 968.5, 32.75, 0.991, NULL, NULL),
-	(13421, 968.5, 33, 0.9908, NULL, NULL),
-	(13422, 968.5, 33.25, 0.9907, NULL, NULL),
-	(13423, 968.5, 33.5, 0.9905, NULL, NULL),
-	(13424, 968.5, 33.75, 0.9903, NULL, NULL),
-	(13425, 968.5, 34, 0.9901, NULL, NULL),
-	(13426, 968.5, 34.25, 0.99, NULL, NULL),
-	(13427, 968.5, 34.5, 0.9898, NULL, NULL),
-	(13428, 968.5, 34.75, 0.9896, NULL, NULL),
-	(13429, 968.5, 35, 0.9894, NULL, NULL),
-	(13430, 968.5, 35.25, 0.9893, NULL, NULL),
-	(13431, 968.5, 35.5, 0.9891, NULL, NULL),
-	(13432, 968.5, 35.75, 0.9889, NULL, NULL),
-	(13433, 968.5, 36, 0.9887, NULL, NULL),
-	(13434, 968.5, 36.25, 0.9886, NULL, NULL),
-	(13435, 968.5, 36.5, 0.9884, NULL, NULL),
-	(13436, 968.5, 36.75, 0.9882, NULL, NULL),
-	(13437, 968.5, 37, 0.988, NULL, NULL),
-	(13438, 968.5, 37.25, 0.9878, NULL, NULL),
-	(13439, 968.5, 37.5, 0.9877, NULL, NULL),
-	(13440, 968.5, 37.75, 0.9875, NULL, NULL),
-	(13441, 968.5, 38, 0.9873, NULL, NULL),
-	(13442, 968.5, 38.25, 0.9871, NULL, NULL),
-	(13443, 968.5, 38.5, 0.987, NULL, NULL),
-	(13444, 968.5, 38.75, 0.9868, NULL, NULL),
-	(13445, 968.5, 39, 0.9866, NULL, NULL),
-	(13446, 968.5, 39.25, 0.9864, NULL, NULL),
-	(13447, 968.5, 39.5, 0.9863, NULL, NULL),
-	(13448, 968.5, 39.75, 0.9861, NULL, NULL),
-	(13449, 968.5, 40, 0.9859, NULL, NULL),
-	(13450, 968.5, 40.25, 0.9857, NULL, NULL),
-	(13451, 968.5, 40.5, 0.9855, NULL, NULL),
-	(13452, 968.5, 40.75, 0.9854, NULL, NULL),
-	(13453, 968.5, 41, 0.9852, NULL, NULL),
-	(13454, 968.5, 41.25, 0.985, NULL, NULL),
-	(13455, 968.5, 41.5, 0.9848, NULL, NULL),
-	(13456, 968.5, 41.75, 0.9847, NULL, NULL),
-	(13457, 968.5, 42, 0.9845, NULL, NULL),
-	(13458, 968.5, 42.25, 0.9843, NULL, NULL),
-	(13459, 968.5, 42.5, 0.9841, NULL, NULL),
-	(13460, 968.5, 42.75, 0.984, NULL, NULL),
-	(13461, 968.5, 43, 0.9838, NULL, NULL),
-	(13462, 968.5, 43.25, 0.9836, NULL, NULL),
-	(13463, 968.5, 43.5, 0.9834, NULL, NULL),
-	(13464, 968.5, 43.75, 0.9832, NULL, NULL),
-	(13465, 968.5, 44, 0.9831, NULL, NULL),
-	(13466, 968.5, 44.25, 0.9829, NULL, NULL),
-	(13467, 968.5, 44.5, 0.9827, NULL, NULL),
-	(13468, 968.5, 44.75, 0.9825, NULL, NULL),
-	(13469, 968.5, 45, 0.9824, NULL, NULL),
-	(13470, 968.5, 45.25, 0.9822, NULL, NULL),
-	(13471, 968.5, 45.5, 0.982, NULL, NULL),
-	(13472, 968.5, 45.75, 0.9818, NULL, NULL),
-	(13473, 968.5, 46, 0.9817, NULL, NULL),
-	(13474, 968.5, 46.25, 0.9815, NULL, NULL),
-	(13475, 968.5, 46.5, 0.9813, NULL, NULL),
-	(13476, 968.5, 46.75, 0.9811, NULL, NULL),
-	(13477, 968.5, 47, 0.9809, NULL, NULL),
-	(13478, 968.5, 47.25, 0.9808, NULL, NULL),
-	(13479, 968.5, 47.5, 0.9806, NULL, NULL),
-	(13480, 968.5, 47.75, 0.9804, NULL, NULL),
-	(13481, 968.5, 48, 0.9802, NULL, NULL),
-	(13482, 968.5, 48.25, 0.9801, NULL, NULL),
-	(13483, 968.5, 48.5, 0.9799, NULL, NULL),
-	(13484, 968.5, 48.75, 0.9797, NULL, NULL),
-	(13485, 968.5, 49, 0.9795, NULL, NULL),
-	(13486, 968.5, 49.25, 0.9793, NULL, NULL),
-	(13487, 968.5, 49.5, 0.9792, NULL, NULL),
-	(13488, 968.5, 49.75, 0.979, NULL, NULL),
-	(13489, 968.5, 50, 0.9788, NULL, NULL),
-	(13490, 972, 15, 1.0035, NULL, NULL),
-	(13491, 972, 15.25, 1.0033, NULL, NULL),
-	(13492, 972, 15.5, 1.0031, NULL, NULL),
-	(13493, 972, 15.75, 1.003, NULL, NULL),
-	(13494, 972, 16, 1.0028, NULL, NULL),
-	(13495, 972, 16.25, 1.0026, NULL, NULL),
-	(13496, 972, 16.5, 1.0024, NULL, NULL),
-	(13497, 972, 16.75, 1.0023, NULL, NULL),
-	(13498, 972, 17, 1.0021, NULL, NULL),
-	(13499, 972, 17.25, 1.0019, NULL, NULL),
-	(13500, 972, 17.5, 1.0017, NULL, NULL),
-	(13501, 972, 17.75, 1.0016, NULL, NULL),
-	(13502, 972, 18, 1.0014, NULL, NULL),
-	(13503, 972, 18.25, 1.0012, NULL, NULL),
-	(13504, 972, 18.5, 1.001, NULL, NULL),
-	(13505, 972, 18.75, 1.0009, NULL, NULL),
-	(13506, 972, 19, 1.0007, NULL, NULL),
-	(13507, 972, 19.25, 1.0005, NULL, NULL),
-	(13508, 972, 19.5, 1.0003, NULL, NULL),
-	(13509, 972, 19.75, 1.0002, NULL, NULL),
-	(13510, 972, 20, 1, NULL, NULL),
-	(13511, 972, 20.25, 0.9998, NULL, NULL),
-	(13512, 972, 20.5, 0.9997, NULL, NULL),
-	(13513, 972, 20.75, 0.9995, NULL, NULL),
-	(13514, 972, 21, 0.9993, NULL, NULL),
-	(13515, 972, 21.25, 0.9991, NULL, NULL),
-	(13516, 972, 21.5, 0.999, NULL, NULL),
-	(13517, 972, 21.75, 0.9988, NULL, NULL),
-	(13518, 972, 22, 0.9986, NULL, NULL),
-	(13519, 972, 22.25, 0.9984, NULL, NULL),
-	(13520, 972, 22.5, 0.9983, NULL, NULL),
-	(13521, 972, 22.75, 0.9981, NULL, NULL),
-	(13522, 972, 23, 0.9979, NULL, NULL),
-	(13523, 972, 23.25, 0.9977, NULL, NULL),
-	(13524, 972, 23.5, 0.9976, NULL, NULL),
-	(13525, 972, 23.75, 0.9974, NULL, NULL),
-	(13526, 972, 24, 0.9972, NULL, NULL),
-	(13527, 972, 24.25, 0.997, NULL, NULL),
-	(13528, 972, 24.5, 0.9969, NULL, NULL),
-	(13529, 972, 24.75, 0.9967, NULL, NULL),
-	(13530, 972, 25, 0.9965, NULL, NULL),
-	(13531, 972, 25.25, 0.9963, NULL, NULL),
-	(13532, 972, 25.5, 0.9962, NULL, NULL),
-	(13533, 972, 25.75, 0.996, NULL, NULL),
-	(13534, 972, 26, 0.9958, NULL, NULL),
-	(13535, 972, 26.25, 0.9956, NULL, NULL),
-	(13536, 972, 26.5, 0.9955, NULL, NULL),
-	(13537, 972, 26.75, 0.9953, NULL, NULL),
-	(13538, 972, 27, 0.9951, NULL, NULL),
-	(13539, 972, 27.25, 0.9949, NULL, NULL),
-	(13540, 972, 27.5, 0.9948, NULL, NULL),
-	(13541, 972, 27.75, 0.9946, NULL, NULL),
-	(13542, 972, 28, 0.9944, NULL, NULL),
-	(13543, 972, 28.25, 0.9942, NULL, NULL),
-	(13544, 972, 28.5, 0.994, NULL, NULL),
-	(13545, 972, 28.75, 0.9939, NULL, NULL),
-	(13546, 972, 29, 0.9937, NULL, NULL),
-	(13547, 972, 29.25, 0.9935, NULL, NULL),
-	(13548, 972, 29.5, 0.9933, NULL, NULL),
-	(13549, 972, 29.75, 0.9932, NULL, NULL),
-	(13550, 972, 30, 0.993, NULL, NULL),
-	(13551, 972, 30.25, 0.9928, NULL, NULL),
-	(13552, 972, 30.5, 0.9926, NULL, NULL),
-	(13553, 972, 30.75, 0.9925, NULL, NULL),
-	(13554, 972, 31, 0.9923, NULL, NULL),
-	(13555, 972, 31.25, 0.9921, NULL, NULL),
-	(13556, 972, 31.5, 0.9919, NULL, NULL),
-	(13557, 972, 31.75, 0.9918, NULL, NULL),
-	(13558, 972, 32, 0.9916, NULL, NULL),
-	(13559, 972, 32.25, 0.9914, NULL, NULL),
-	(13560, 972, 32.5, 0.9912, NULL, NULL),
-	(13561, 972, 32.75, 0.9911, NULL, NULL),
-	(13562, 972, 33, 0.9909, NULL, NULL),
-	(13563, 972, 33.25, 0.9907, NULL, NULL),
-	(13564, 972, 33.5, 0.9905, NULL, NULL),
-	(13565, 972, 33.75, 0.9904, NULL, NULL),
-	(13566, 972, 34, 0.9902, NULL, NULL),
-	(13567, 972, 34.25, 0.99, NULL, NULL),
-	(13568, 972, 34.5, 0.9898, NULL, NULL),
-	(13569, 972, 34.75, 0.9897, NULL, NULL),
-	(13570, 972, 35, 0.9895, NULL, NULL),
-	(13571, 972, 35.25, 0.9893, NULL, NULL),
-	(13572, 972, 35.5, 0.9891, NULL, NULL),
-	(13573, 972, 35.75, 0.989, NULL, NULL),
-	(13574, 972, 36, 0.9888, NULL, NULL),
-	(13575, 972, 36.25, 0.9886, NULL, NULL),
-	(13576, 972, 36.5, 0.9884, NULL, NULL),
-	(13577, 972, 36.75, 0.9883, NULL, NULL),
-	(13578, 972, 37, 0.9881, NULL, NULL),
-	(13579, 972, 37.25, 0.9879, NULL, NULL),
-	(13580, 972, 37.5, 0.9877, NULL, NULL),
-	(13581, 972, 37.75, 0.9876, NULL, NULL),
-	(13582, 972, 38, 0.9874, NULL, NULL),
-	(13583, 972, 38.25, 0.9872, NULL, NULL),
-	(13584, 972, 38.5, 0.987, NULL, NULL),
-	(13585, 972, 38.75, 0.9868, NULL, NULL),
-	(13586, 972, 39, 0.9867, NULL, NULL),
-	(13587, 972, 39.25, 0.9865, NULL, NULL),
-	(13588, 972, 39.5, 0.9863, NULL, NULL),
-	(13589, 972, 39.75, 0.9861, NULL, NULL),
-	(13590, 972, 40, 0.986, NULL, NULL),
-	(13591, 972, 40.25, 0.9858, NULL, NULL),
-	(13592, 972, 40.5, 0.9856, NULL, NULL),
-	(13593, 972, 40.75, 0.9854, NULL, NULL),
-	(13594, 972, 41, 0.9853, NULL, NULL),
-	(13595, 972, 41.25, 0.9851, NULL, NULL),
-	(13596, 972, 41.5, 0.9849, NULL, NULL),
-	(13597, 972, 41.75, 0.9847, NULL, NULL),
-	(13598, 972, 42, 0.9846, NULL, NULL),
-	(13599, 972, 42.25, 0.9844, NULL, NULL),
-	(13600, 972, 42.5, 0.9842, NULL, NULL),
-	(13601, 972, 42.75, 0.984, NULL, NULL),
-	(13602, 972, 43, 0.9839, NULL, NULL),
-	(13603, 972, 43.25, 0.9837, NULL, NULL),
-	(13604, 972, 43.5, 0.9835, NULL, NULL),
-	(13605, 972, 43.75, 0.9833, NULL, NULL),
-	(13606, 972, 44, 0.9831, NULL, NULL),
-	(13607, 972, 44.25, 0.983, NULL, NULL),
-	(13608, 972, 44.5, 0.9828, NULL, NULL),
-	(13609, 972, 44.75, 0.9826, NULL, NULL),
-	(13610, 972, 45, 0.9824, NULL, NULL),
-	(13611, 972, 45.25, 0.9823, NULL, NULL),
-	(13612, 972, 45.5, 0.9821, NULL, NULL),
-	(13613, 972, 45.75, 0.9819, NULL, NULL),
-	(13614, 972, 46, 0.9817, NULL, NULL),
-	(13615, 972, 46.25, 0.9816, NULL, NULL),
-	(13616, 972, 46.5, 0.9814, NULL, NULL),
-	(13617, 972, 46.75, 0.9812, NULL, NULL),
-	(13618, 972, 47, 0.981, NULL, NULL),
-	(13619, 972, 47.25, 0.9809, NULL, NULL),
-	(13620, 972, 47.5, 0.9807, NULL, NULL),
-	(13621, 972, 47.75, 0.9805, NULL, NULL),
-	(13622, 972, 48, 0.9803, NULL, NULL),
-	(13623, 972, 48.25, 0.9801, NULL, NULL),
-	(13624, 972, 48.5, 0.98, NULL, NULL),
-	(13625, 972, 48.75, 0.9798, NULL, NULL),
-	(13626, 972, 49, 0.9796, NULL, NULL),
-	(13627, 972, 49.25, 0.9794, NULL, NULL),
-	(13628, 972, 49.5, 0.9793, NULL, NULL),
-	(13629, 972, 49.75, 0.9791, NULL, NULL),
-	(13630, 972, 50, 0.9789, NULL, NULL),
-	(13631, 972.5, 15, 1.0035, NULL, NULL),
-	(13632, 972.5, 15.25, 1.0033, NULL, NULL),
-	(13633, 972.5, 15.5, 1.0031, NULL, NULL),
-	(13634, 972.5, 15.75, 1.003, NULL, NULL),
-	(13635, 972.5, 16, 1.0028, NULL, NULL),
-	(13636, 972.5, 16.25, 1.0026, NULL, NULL),
-	(13637, 972.5, 16.5, 1.0024, NULL, NULL),
-	(13638, 972.5, 16.75, 1.0023, NULL, NULL),
-	(13639, 972.5, 17, 1.0021, NULL, NULL),
-	(13640, 972.5, 17.25, 1.0019, NULL, NULL),
-	(13641, 972.5, 17.5, 1.0017, NULL, NULL),
-	(13642, 972.5, 17.75, 1.0016, NULL, NULL),
-	(13643, 972.5, 18, 1.0014, NULL, NULL),
-	(13644, 972.5, 18.25, 1.0012, NULL, NULL),
-	(13645, 972.5, 18.5, 1.001, NULL, NULL),
-	(13646, 972.5, 18.75, 1.0009, NULL, NULL),
-	(13647, 972.5, 19, 1.0007, NULL, NULL),
-	(13648, 972.5, 19.25, 1.0005, NULL, NULL),
-	(13649, 972.5, 19.5, 1.0003, NULL, NULL),
-	(13650, 972.5, 19.75, 1.0002, NULL, NULL),
-	(13651, 972.5, 20, 1, NULL, NULL),
-	(13652, 972.5, 20.25, 0.9998, NULL, NULL),
-	(13653, 972.5, 20.5, 0.9997, NULL, NULL),
-	(13654, 972.5, 20.75, 0.9995, NULL, NULL),
-	(13655, 972.5, 21, 0.9993, NULL, NULL),
-	(13656, 972.5, 21.25, 0.9991, NULL, NULL),
-	(13657, 972.5, 21.5, 0.999, NULL, NULL),
-	(13658, 972.5, 21.75, 0.9988, NULL, NULL),
-	(13659, 972.5, 22, 0.9986, NULL, NULL),
-	(13660, 972.5, 22.25, 0.9984, NULL, NULL),
-	(13661, 972.5, 22.5, 0.9983, NULL, NULL),
-	(13662, 972.5, 22.75, 0.9981, NULL, NULL),
-	(13663, 972.5, 23, 0.9979, NULL, NULL),
-	(13664, 972.5, 23.25, 0.9977, NULL, NULL),
-	(13665, 972.5, 23.5, 0.9976, NULL, NULL),
-	(13666, 972.5, 23.75, 0.9974, NULL, NULL),
-	(13667, 972.5, 24, 0.9972, NULL, NULL),
-	(13668, 972.5, 24.25, 0.997, NULL, NULL),
-	(13669, 972.5, 24.5, 0.9969, NULL, NULL),
-	(13670, 972.5, 24.75, 0.9967, NULL, NULL),
-	(13671, 972.5, 25, 0.9965, NULL, NULL),
-	(13672, 972.5, 25.25, 0.9963, NULL, NULL),
-	(13673, 972.5, 25.5, 0.9962, NULL, NULL),
-	(13674, 972.5, 25.75, 0.996, NULL, NULL),
-	(13675, 972.5, 26, 0.9958, NULL, NULL),
-	(13676, 972.5, 26.25, 0.9956, NULL, NULL),
-	(13677, 972.5, 26.5, 0.9955, NULL, NULL),
-	(13678, 972.5, 26.75, 0.9953, NULL, NULL),
-	(13679, 972.5, 27, 0.9951, NULL, NULL),
-	(13680, 972.5, 27.25, 0.9949, NULL, NULL),
-	(13681, 972.5, 27.5, 0.9948, NULL, NULL),
-	(13682, 972.5, 27.75, 0.9946, NULL, NULL),
-	(13683, 972.5, 28, 0.9944, NULL, NULL),
-	(13684, 972.5, 28.25, 0.9942, NULL, NULL),
-	(13685, 972.5, 28.5, 0.9941, NULL, NULL),
-	(13686, 972.5, 28.75, 0.9939, NULL, NULL),
-	(13687, 972.5, 29, 0.9937, NULL, NULL),
-	(13688, 972.5, 29.5, 0.9934, NULL, NULL),
-	(13689, 972.5, 29.75, 0.9932, NULL, NULL),
-	(13690, 972.5, 30, 0.993, NULL, NULL),
-	(13691, 972.5, 30.25, 0.9928, NULL, NULL),
-	(13692, 972.5, 30.5, 0.9927, NULL, NULL),
-	(13693, 972.5, 30.75, 0.9925, NULL, NULL),
-	(13694, 972.5, 31, 0.9923, NULL, NULL),
-	(13695, 972.5, 31.25, 0.9921, NULL, NULL),
-	(13696, 972.5, 31.5, 0.992, NULL, NULL),
-	(13697, 972.5, 31.75, 0.9918, NULL, NULL),
-	(13698, 972.5, 32, 0.9916, NULL, NULL),
-	(13699, 972.5, 32.25, 0.9914, NULL, NULL),
-	(13700, 972.5, 32.5, 0.9912, NULL, NULL),
-	(13701, 972.5, 32.75, 0.9911, NULL, NULL),
-	(13702, 972.5, 33, 0.9909, NULL, NULL),
-	(13703, 972.5, 33.25, 0.9907, NULL, NULL),
-	(13704, 972.5, 33.5, 0.9905, NULL, NULL),
-	(13705, 972.5, 33.75, 0.9904, NULL, NULL),
-	(13706, 972.5, 34, 0.9902, NULL, NULL),
-	(13707, 972.5, 34.25, 0.99, NULL, NULL),
-	(13708, 972.5, 34.5, 0.9898, NULL, NULL),
-	(13709, 972.5, 34.75, 0.9897, NULL, NULL),
-	(13710, 972.5, 35, 0.9895, NULL, NULL),
-	(13711, 972.5, 35.25, 0.9893, NULL, NULL),
-	(13712, 972.5, 35.5, 0.9891, NULL, NULL),
-	(13713, 972.5, 35.75, 0.989, NULL, NULL),
-	(13714, 972.5, 36, 0.9888, NULL, NULL),
-	(13715, 972.5, 36.25, 0.9886, NULL, NULL),
-	(13716, 972.5, 36.5, 0.9884, NULL, NULL),
-	(13717, 972.5, 36.75, 0.9883, NULL, NULL),
-	(13718, 972.5, 37, 0.9881, NULL, NULL),
-	(13719, 972.5, 37.25, 0.9879, NULL, NULL),
-	(13720, 972.5, 37.5, 0.9877, NULL, NULL),
-	(13721, 972.5, 37.75, 0.9876, NULL, NULL),
-	(13722, 972.5, 38, 0.9874, NULL, NULL),
-	(13723, 972.5, 38.25, 0.9872, NULL, NULL),
-	(13724, 972.5, 38.5, 0.987, NULL, NULL),
-	(13725, 972.5, 38.75, 0.9869, NULL, NULL),
-	(13726, 972.5, 39, 0.9867, NULL, NULL),
-	(13727, 972.5, 39.25, 0.9865, NULL, NULL),
-	(13728, 972.5, 39.5, 0.9863, NULL, NULL),
-	(13729, 972.5, 39.75, 0.9862, NULL, NULL),
-	(13730, 972.5, 40, 0.986, NULL, NULL),
-	(13731, 972.5, 40.25, 0.9858, NULL, NULL),
-	(13732, 972.5, 40.5, 0.9856, NULL, NULL),
-	(13733, 972.5, 40.75, 0.9854, NULL, NULL),
-	(13734, 972.5, 41, 0.9853, NULL, NULL),
-	(13735, 972.5, 41.25, 0.9851, NULL, NULL),
-	(13736, 972.5, 41.5, 0.9849, NULL, NULL),
-	(13737, 972.5, 41.75, 0.9847, NULL, NULL),
-	(13738, 972.5, 42, 0.9846, NULL, NULL),
-	(13739, 972.5, 42.25, 0.9844, NULL, NULL),
-	(13740, 972.5, 42.5, 0.9842, NULL, NULL),
-	(13741, 972.5, 42.75, 0.984, NULL, NULL),
-	(13742, 972.5, 43, 0.9839, NULL, NULL),
-	(13743, 972.5, 43.25, 0.9837, NULL, NULL),
-	(13744, 972.5, 43.5, 0.9835, NULL, NULL),
-	(13745, 972.5, 43.75, 0.9833, NULL, NULL),
-	(13746, 972.5, 44, 0.9832, NULL, NULL),
-	(13747, 972.5, 44.25, 0.983, NULL, NULL),
-	(13748, 972.5, 44.5, 0.9828, NULL, NULL),
-	(13749, 972.5, 44.75, 0.9826, NULL, NULL),
-	(13750, 972.5, 45, 0.9825, NULL, NULL),
-	(13751, 972.5, 45.25, 0.9823, NULL, NULL),
-	(13752, 972.5, 45.5, 0.9821, NULL, NULL),
-	(13753, 972.5, 45.75, 0.9819, NULL, NULL),
-	(13754, 972.5, 46, 0.9818, NULL, NULL),
-	(13755, 972.5, 46.25, 0.9816, NULL, NULL),
-	(13756, 972.5, 46.5, 0.9814, NULL, NULL),
-	(13757, 972.5, 46.75, 0.9812, NULL, NULL),
-	(13758, 972.5, 47, 0.981, NULL, NULL),
-	(13759, 972.5, 47.25, 0.9809, NULL, NULL),
-	(13760, 972.5, 47.5, 0.9807, NULL, NULL),
-	(13761, 972.5, 47.75, 0.9805, NULL, NULL),
-	(13762, 972.5, 48, 0.9803, NULL, NULL),
-	(13763, 972.5, 48.25, 0.9802, NULL, NULL),
-	(13764, 972.5, 48.5, 0.98, NULL, NULL),
-	(13765, 972.5, 48.75, 0.9798, NULL, NULL),
-	(13766, 972.5, 49, 0.9796, NULL, NULL),
-	(13767, 972.5, 49.25, 0.9795, NULL, NULL),
-	(13768, 972.5, 49.5, 0.9793, NULL, NULL),
-	(13769, 972.5, 49.75, 0.9791, NULL, NULL),
-	(13770, 972.5, 50, 0.9789, NULL, NULL),
-	(13771, 973, 15, 1.0035, NULL, NULL),
-	(13772, 973, 15.25, 1.0033, NULL, NULL),
-	(13773, 973, 15.5, 1.0031, NULL, NULL),
-	(13774, 973, 15.75, 1.003, NULL, NULL),
-	(13775, 973, 16, 1.0028, NULL, NULL),
-	(13776, 973, 16.25, 1.0026, NULL, NULL),
-	(13777, 973, 16.5, 1.0024, NULL, NULL),
-	(13778, 973, 16.75, 1.0023, NULL, NULL),
-	(13779, 973, 17, 1.0021, NULL, NULL),
-	(13780, 973, 17.25, 1.0019, NULL, NULL),
-	(13781, 973, 17.5, 1.0017, NULL, NULL),
-	(13782, 973, 17.75, 1.0016, NULL, NULL),
-	(13783, 973, 18, 1.0014, NULL, NULL),
-	(13784, 973, 18.25, 1.0012, NULL, NULL),
-	(13785, 973, 18.5, 1.001, NULL, NULL),
-	(13786, 973, 18.75, 1.0009, NULL, NULL),
-	(13787, 973, 19, 1.0007, NULL, NULL),
-	(13788, 973, 19.25, 1.0005, NULL, NULL),
-	(13789, 973, 19.5, 1.0003, NULL, NULL),
-	(13790, 973, 19.75, 1.0002, NULL, NULL),
-	(13791, 973, 20, 1, NULL, NULL),
-	(13792, 973, 20.25, 0.9998, NULL, NULL),
-	(13793, 973, 20.5, 0.9997, NULL, NULL),
-	(13794, 973, 20.75, 0.9995, NULL, NULL),
-	(13795, 973, 21, 0.9993, NULL, NULL),
-	(13796, 973, 21.25, 0.9991, NULL, NULL),
-	(13797, 973, 21.5, 0.999, NULL, NULL),
-	(13798, 973, 21.75, 0.9988, NULL, NULL),
-	(13799, 973, 22, 0.9986, NULL, NULL),
-	(13800, 973, 22.25, 0.9984, NULL, NULL),
-	(13801, 973, 22.5, 0.9983, NULL, NULL),
-	(13802, 973, 22.75, 0.9981, NULL, NULL),
-	(13803, 973, 23, 0.9979, NULL, NULL),
-	(13804, 973, 23.25, 0.9977, NULL, NULL),
-	(13805, 973, 23.5, 0.9976, NULL, NULL),
-	(13806, 973, 23.75, 0.9974, NULL, NULL),
-	(13807, 973, 24, 0.9972, NULL, NULL),
-	(13808, 973, 24.25, 0.997, NULL, NULL),
-	(13809, 973, 24.5, 0.9969, NULL, NULL),
-	(13810, 973, 24.75, 0.9967, NULL, NULL),
-	(13811, 973, 25, 0.9965, NULL, NULL),
-	(13812, 973, 25.25, 0.9963, NULL, NULL),
-	(13813, 973, 25.5, 0.9962, NULL, NULL),
-	(13814, 973, 25.75, 0.996, NULL, NULL),
-	(13815, 973, 26, 0.9958, NULL, NULL),
-	(13816, 973, 26.25, 0.9956, NULL, NULL),
-	(13817, 973, 26.5, 0.9955, NULL, NULL),
-	(13818, 973, 26.75, 0.9953, NULL, NULL),
-	(13819, 973, 27, 0.9951, NULL, NULL),
-	(13820, 973, 27.25, 0.9949, NULL, NULL),
-	(13821, 973, 27.5, 0.9948, NULL, NULL),
-	(13822, 973, 27.75, 0.9946, NULL, NULL),
-	(13823, 973, 28, 0.9944, NULL, NULL),
-	(13824, 973, 28.25, 0.9942, NULL, NULL),
-	(13825, 973, 28.5, 0.9941, NULL, NULL),
-	(13826, 973, 28.75, 0.9939, NULL, NULL),
-	(13827, 973, 29, 0.9937, NULL, NULL),
-	(13828, 973, 29.25, 0.9935, NULL, NULL),
-	(13829, 973, 29.5, 0.9934, NULL, NULL),
-	(13830, 973, 29.75, 0.9932, NULL, NULL),
-	(13831, 973, 30, 0.993, NULL, NULL),
-	(13832, 973, 30.25, 0.9928, NULL, NULL),
-	(13833, 973, 30.5, 0.9927, NULL, NULL),
-	(13834, 973, 30.75, 0.9925, NULL, NULL),
-	(13835, 973, 31, 0.9923, NULL, NULL),
-	(13836, 973, 31.25, 0.9921, NULL, NULL),
-	(13837, 973, 31.5, 0.992, NULL, NULL),
-	(13838, 973, 31.75, 0.9918, NULL, NULL),
-	(13839, 973, 32, 0.9916, NULL, NULL),
-	(13840, 973, 32.25, 0.9914, NULL, NULL),
-	(13841, 973, 32.5, 0.9913, NULL, NULL),
-	(13842, 973, 32.75, 0.9911, NULL, NULL),
-	(13843, 973, 33, 0.9909, NULL, NULL),
-	(13844, 973, 33.25, 0.9907, NULL, NULL),
-	(13845, 973, 33.5, 0.9906, NULL, NULL),
-	(13846, 973, 33.75, 0.9904, NULL, NULL),
-	(13847, 973, 34, 0.9902, NULL, NULL),
-	(13848, 973, 34.25, 0.99, NULL, NULL),
-	(13849, 973, 34.5, 0.9899, NULL, NULL),
-	(13850, 973, 34.75, 0.9897, NULL, NULL),
-	(13851, 973, 35, 0.9895, NULL, NULL),
-	(13852, 973, 35.25, 0.9893, NULL, NULL),
-	(13853, 973, 35.5, 0.9891, NULL, NULL),
-	(13854, 973, 35.75, 0.989, NULL, NULL),
-	(13855, 973, 36, 0.9888, NULL, NULL),
-	(13856, 973, 36.25, 0.9886, NULL, NULL),
-	(13857, 973, 36.5, 0.9884, NULL, NULL),
-	(13858, 973, 36.75, 0.9883, NULL, NULL),
-	(13859, 973, 37, 0.9881, NULL, NULL),
-	(13860, 973, 37.25, 0.9879, NULL, NULL),
-	(13861, 973, 37.5, 0.9877, NULL, NULL),
-	(13862, 973, 37.75, 0.9876, NULL, NULL),
-	(13863, 973, 38, 0.9874, NULL, NULL),
-	(13864, 973, 38.25, 0.9872, NULL, NULL),
-	(13865, 973, 38.5, 0.987, NULL, NULL),
-	(13866, 973, 38.75, 0.9869, NULL, NULL),
-	(13867, 973, 39, 0.9867, NULL, NULL),
-	(13868, 973, 39.25, 0.9865, NULL, NULL),
-	(13869, 973, 39.5, 0.9863, NULL, NULL),
-	(13870, 973, 39.75, 0.9862, NULL, NULL),
-	(13871, 973, 40, 0.986, NULL, NULL),
-	(13872, 973, 40.25, 0.9858, NULL, NULL),
-	(13873, 973, 40.5, 0.9856, NULL, NULL),
-	(13874, 973, 40.75, 0.9855, NULL, NULL),
-	(13875, 973, 41, 0.9853, NULL, NULL),
-	(13876, 973, 41.25, 0.9851, NULL, NULL),
-	(13877, 973, 41.5, 0.9849, NULL, NULL),
-	(13878, 973, 41.75, 0.9848, NULL, NULL),
-	(13879, 973, 42, 0.9846, NULL, NULL),
-	(13880, 973, 42.25, 0.9844, NULL, NULL),
-	(13881, 973, 42.5, 0.9842, NULL, NULL),
-	(13882, 973, 42.75, 0.9841, NULL, NULL),
-	(13883, 973, 43, 0.9839, NULL, NULL),
-	(13884, 973, 43.25, 0.9837, NULL, NULL),
-	(13885, 973, 43.5, 0.9835, NULL, NULL),
-	(13886, 973, 43.75, 0.9833, NULL, NULL),
-	(13887, 973, 44, 0.9832, NULL, NULL),
-	(13888, 973, 44.25, 0.983, NULL, NULL),
-	(13889, 973, 44.5, 0.9828, NULL, NULL),
-	(13890, 973, 44.75, 0.9826, NULL, NULL),
-	(13891, 973, 45, 0.9825, NULL, NULL),
-	(13892, 973, 45.25, 0.9823, NULL, NULL),
-	(13893, 973, 45.5, 0.9821, NULL, NULL),
-	(13894, 973, 45.75, 0.9819, NULL, NULL),
-	(13895, 973, 46, 0.9818, NULL, NULL),
-	(13896, 973, 46.25, 0.9816, NULL, NULL),
-	(13897, 973, 46.5, 0.9814, NULL, NULL),
-	(13898, 973, 46.75, 0.9812, NULL, NULL),
-	(13899, 973, 47, 0.9811, NULL, NULL),
-	(13900, 973, 47.25, 0.9809, NULL, NULL),
-	(13901, 973, 47.5, 0.9807, NULL, NULL),
-	(13902, 973, 48, 0.9804, NULL, NULL),
-	(13903, 973, 48.25, 0.9802, NULL, NULL),
-	(13904, 973, 48.5, 0.98, NULL, NULL),
-	(13905, 973, 48.75, 0.9798, NULL, NULL),
-	(13906, 973, 49, 0.9796, NULL, NULL),
-	(13907, 973, 49.25, 0.9795, NULL, NULL),
-	(13908, 973, 49.5, 0.9793, NULL, NULL),
-	(13909, 973, 49.75, 0.9791, NULL, NULL),
-	(13910, 973, 50, 0.9789, NULL, NULL),
-	(13911, 973.5, 15, 1.0035, NULL, NULL),
-	(13912, 973.5, 15.25, 1.0033, NULL, NULL),
-	(13913, 973.5, 15.5, 1.0031, NULL, NULL),
-	(13914, 973.5, 15.75, 1.003, NULL, NULL),
-	(13915, 973.5, 16, 1.0028, NULL, NULL),
-	(13916, 973.5, 16.25, 1.0026, NULL, NULL),
-	(13917, 973.5, 16.5, 1.0024, NULL, NULL),
-	(13918, 973.5, 16.75, 1.0023, NULL, NULL),
-	(13919, 973.5, 17, 1.0021, NULL, NULL),
-	(13920, 973.5, 17.25, 1.0019, NULL, NULL),
-	(13921, 973.5, 17.5, 1.0017, NULL, NULL),
-	(13922, 973.5, 17.75, 1.0016, NULL, NULL),
-	(13923, 973.5, 18, 1.0014, NULL, NULL),
-	(13924, 973.5, 18.25, 1.0012, NULL, NULL),
-	(13925, 973.5, 18.5, 1.001, NULL, NULL),
-	(13926, 973.5, 18.75, 1.0009, NULL, NULL),
-	(13927, 973.5, 19, 1.0007, NULL, NULL),
-	(13928, 973.5, 19.25, 1.0005, NULL, NULL),
-	(13929, 973.5, 19.5, 1.0003, NULL, NULL),
-	(13930, 973.5, 19.75, 1.0002, NULL, NULL),
-	(13931, 973.5, 20, 1, NULL, NULL),
-	(13932, 973.5, 20.25, 0.9998, NULL, NULL),
-	(13933, 973.5, 20.5, 0.9997, NULL, NULL),
-	(13934, 973.5, 20.75, 0.9995, NULL, NULL),
-	(13935, 973.5, 21, 0.9993, NULL, NULL),
-	(13936, 973.5, 21.25, 0.9991, NULL, NULL),
-	(13937, 973.5, 21.5, 0.999, NULL, NULL),
-	(13938, 973.5, 21.75, 0.9988, NULL, NULL),
-	(13939, 973.5, 22, 0.9986, NULL, NULL),
-	(13940, 973.5, 22.25, 0.9984, NULL, NULL),
-	(13941, 973.5, 22.5, 0.9983, NULL, NULL),
-	(13942, 973.5, 22.75, 0.9981, NULL, NULL),
-	(13943, 973.5, 23, 0.9979, NULL, NULL),
-	(13944, 973.5, 23.25, 0.9977, NULL, NULL),
-	(13945, 973.5, 23.5, 0.9976, NULL, NULL),
-	(13946, 973.5, 23.75, 0.9974, NULL, NULL),
-	(13947, 973.5, 24, 0.9972, NULL, NULL),
-	(13948, 973.5, 24.25, 0.997, NULL, NULL),
-	(13949, 973.5, 24.5, 0.9969, NULL, NULL),
-	(13950, 973.5, 24.75, 0.9967, NULL, NULL),
-	(13951, 973.5, 25, 0.9965, NULL, NULL),
-	(13952, 973.5, 25.25, 0.9963, NULL, NULL),
-	(13953, 973.5, 25.5, 0.9962, NULL, NULL),
-	(13954, 973.5, 25.75, 0.996, NULL, NULL),
-	(13955, 973.5, 26, 0.9958, NULL, NULL),
-	(13956, 973.5, 26.25, 0.9956, NULL, NULL),
-	(13957, 973.5, 26.5, 0.9955, NULL, NULL),
-	(13958, 973.5, 26.75, 0.9953, NULL, NULL),
-	(13959, 973.5, 27, 0.9951, NULL, NULL),
-	(13960, 973.5, 27.25, 0.9949, NULL, NULL),
-	(13961, 973.5, 27.5, 0.9948, NULL, NULL),
-	(13962, 973.5, 27.75, 0.9946, NULL, NULL),
-	(13963, 973.5, 28, 0.9944, NULL, NULL),
-	(13964, 973.5, 28.25, 0.9942, NULL, NULL),
-	(13965, 973.5, 28.5, 0.9941, NULL, NULL),
-	(13966, 973.5, 28.75, 0.9939, NULL, NULL),
-	(13967, 973.5, 29, 0.9937, NULL, NULL),
-	(13968, 973.5, 29.25, 0.9935, NULL, NULL),
-	(13969, 973.5, 29.5, 0.9934, NULL, NULL),
-	(13970, 973.5, 29.75, 0.9932, NULL, NULL),
-	(13971, 973.5, 30, 0.993, NULL, NULL),
-	(13972, 973.5, 30.25, 0.9928, NULL, NULL),
-	(13973, 973.5, 30.5, 0.9927, NULL, NULL),
-	(13974, 973.5, 30.75, 0.9925, NULL, NULL),
-	(13975, 973.5, 31, 0.9923, NULL, NULL),
-	(13976, 973.5, 31.25, 0.9921, NULL, NULL),
-	(13977, 973.5, 31.5, 0.992, NULL, NULL),
-	(13978, 973.5, 31.75, 0.9918, NULL, NULL),
-	(13979, 973.5, 32, 0.9916, NULL, NULL),
-	(13980, 973.5, 32.25, 0.9914, NULL, NULL),
-	(13981, 973.5, 32.5, 0.9913, NULL, NULL),
-	(13982, 973.5, 32.75, 0.9911, NULL, NULL),
-	(13983, 973.5, 33, 0.9909, NULL, NULL),
-	(13984, 973.5, 33.25, 0.9907, NULL, NULL),
-	(13985, 973.5, 33.5, 0.9906, NULL, NULL),
-	(13986, 973.5, 33.75, 0.9904, NULL, NULL),
-	(13987, 973.5, 34, 0.9902, NULL, NULL),
-	(13988, 973.5, 34.25, 0.99, NULL, NULL),
-	(13989, 973.5, 34.5, 0.9899, NULL, NULL),
-	(13990, 973.5, 34.75, 0.9897, NULL, NULL),
-	(13991, 973.5, 35, 0.9895, NULL, NULL),
-	(13992, 973.5, 35.25, 0.9893, NULL, NULL),
-	(13993, 973.5, 35.5, 0.9892, NULL, NULL),
-	(13994, 973.5, 35.75, 0.989, NULL, NULL),
-	(13995, 973.5, 36, 0.9888, NULL, NULL),
-	(13996, 973.5, 36.25, 0.9886, NULL, NULL),
-	(13997, 973.5, 36.5, 0.9885, NULL, NULL),
-	(13998, 973.5, 36.75, 0.9883, NULL, NULL),
-	(13999, 973.5, 37, 0.9881, NULL, NULL),
-	(14000, 973.5, 37.25, 0.9879, NULL, NULL),
-	(14001, 973.5, 37.5, 0.9878, NULL, NULL),
-	(14002, 973.5, 37.75, 0.9876, NULL, NULL),
-	(14003, 973.5, 38, 0.9874, NULL, NULL),
-	(14004, 973.5, 38.25, 0.9872, NULL, NULL),
-	(14005, 973.5, 38.5, 0.9871, NULL, NULL),
-	(14006, 973.5, 38.75, 0.9869, NULL, NULL),
-	(14007, 973.5, 39, 0.9867, NULL, NULL),
-	(14008, 973.5, 39.25, 0.9865, NULL, NULL),
-	(14009, 973.5, 39.5, 0.9863, NULL, NULL),
-	(14010, 973.5, 39.75, 0.9862, NULL, NULL),
-	(14011, 973.5, 40, 0.986, NULL, NULL),
-	(14012, 973.5, 40.25, 0.9858, NULL, NULL),
-	(14013, 973.5, 40.5, 0.9856, NULL, NULL),
-	(14014, 973.5, 40.75, 0.9855, NULL, NULL),
-	(14015, 973.5, 41, 0.9853, NULL, NULL),
-	(14016, 973.5, 41.25, 0.9851, NULL, NULL),
-	(14017, 973.5, 41.5, 0.9849, NULL, NULL),
-	(14018, 973.5, 41.75, 0.9848, NULL, NULL),
-	(14019, 973.5, 42, 0.9846, NULL, NULL),
-	(14020, 973.5, 42.25, 0.9844, NULL, NULL),
-	(14021, 973.5, 42.5, 0.9842, NULL, NULL),
-	(14022, 973.5, 42.75, 0.9841, NULL, NULL),
-	(14023, 973.5, 43, 0.9839, NULL, NULL),
-	(14024, 973.5, 43.25, 0.9837, NULL, NULL),
-	(14025, 973.5, 43.5, 0.9835, NULL, NULL),
-	(14026, 973.5, 43.75, 0.9834, NULL, NULL),
-	(14027, 973.5, 44, 0.9832, NULL, NULL),
-	(14028, 973.5, 44.25, 0.983, NULL, NULL),
-	(14029, 973.5, 44.5, 0.9828, NULL, NULL),
-	(14030, 973.5, 44.75, 0.9827, NULL, NULL),
-	(14031, 973.5, 45, 0.9825, NULL, NULL),
-	(14032, 973.5, 45.25, 0.9823, NULL, NULL),
-	(14033, 973.5, 45.5, 0.9821, NULL, NULL),
-	(14034, 973.5, 45.75, 0.982, NULL, NULL),
-	(14035, 973.5, 46, 0.9818, NULL, NULL),
-	(14036, 973.5, 46.25, 0.9816, NULL, NULL),
-	(14037, 973.5, 46.5, 0.9814, NULL, NULL),
-	(14038, 973.5, 46.75, 0.9812, NULL, NULL),
-	(14039, 973.5, 47, 0.9811, NULL, NULL),
-	(14040, 973.5, 47.25, 0.9809, NULL, NULL),
-	(14041, 973.5, 47.5, 0.9807, NULL, NULL),
-	(14042, 973.5, 47.75, 0.9805, NULL, NULL),
-	(14043, 973.5, 48, 0.9804, NULL, NULL),
-	(14044, 973.5, 48.25, 0.9802, NULL, NULL),
-	(14045, 973.5, 48.5, 0.98, NULL, NULL),
-	(14046, 973.5, 48.75, 0.9798, NULL, NULL),
-	(14047, 973.5, 49, 0.9797, NULL, NULL),
-	(14048, 973.5, 49.25, 0.9795, NULL, NULL),
-	(14049, 973.5, 49.5, 0.9793, NULL, NULL),
-	(14050, 973.5, 49.75, 0.9791, NULL, NULL),
-	(14051, 973.5, 50, 0.979, NULL, NULL),
-	(14052, 974, 15, 1.0035, NULL, NULL),
-	(14053, 974, 15.25, 1.0033, NULL, NULL),
-	(14054, 974, 15.5, 1.0031, NULL, NULL),
-	(14055, 974, 15.75, 1.003, NULL, NULL),
-	(14056, 974, 16, 1.0028, NULL, NULL),
-	(14057, 974, 16.25, 1.0026, NULL, NULL),
-	(14058, 974, 16.5, 1.0024, NULL, NULL),
-	(14059, 974, 16.75, 1.0023, NULL, NULL),
-	(14060, 974, 17, 1.0021, NULL, NULL),
-	(14061, 974, 17.25, 1.0019, NULL, NULL),
-	(14062, 974, 17.5, 1.0017, NULL, NULL),
-	(14063, 974, 17.75, 1.0016, NULL, NULL),
-	(14064, 974, 18, 1.0014, NULL, NULL),
-	(14065, 974, 18.25, 1.0012, NULL, NULL),
-	(14066, 974, 18.5, 1.001, NULL, NULL),
-	(14067, 974, 18.75, 1.0009, NULL, NULL),
-	(14068, 974, 19, 1.0007, NULL, NULL),
-	(14069, 974, 19.25, 1.0005, NULL, NULL),
-	(14070, 974, 19.5, 1.0003, NULL, NULL),
-	(14071, 974, 19.75, 1.0002, NULL, NULL),
-	(14072, 974, 20, 1, NULL, NULL),
-	(14073, 974, 20.25, 0.9998, NULL, NULL),
-	(14074, 974, 20.5, 0.9997, NULL, NULL),
-	(14075, 974, 20.75, 0.9995, NULL, NULL),
-	(14076, 974, 21, 0.9993, NULL, NULL),
-	(14077, 974, 21.25, 0.9991, NULL, NULL),
-	(14078, 974, 21.5, 0.999, NULL, NULL),
-	(14079, 974, 21.75, 0.9988, NULL, NULL),
-	(14080, 974, 22, 0.9986, NULL, NULL),
-	(14081, 974, 22.25, 0.9984, NULL, NULL),
-	(14082, 974, 22.5, 0.9983, NULL, NULL),
-	(14083, 974, 22.75, 0.9981, NULL, NULL),
-	(14084, 974, 23, 0.9979, NULL, NULL),
-	(14085, 974, 23.25, 0.9977, NULL, NULL),
-	(14086, 974, 23.5, 0.9976, NULL, NULL),
-	(14087, 974, 23.75, 0.9974, NULL, NULL),
-	(14088, 974, 24, 0.9972, NULL, NULL),
-	(14089, 974, 24.25, 0.997, NULL, NULL),
-	(14090, 974, 24.5, 0.9969, NULL, NULL),
-	(14091, 974, 24.75, 0.9967, NULL, NULL),
-	(14092, 974, 25, 0.9965, NULL, NULL),
-	(14093, 974, 25.25, 0.9963, NULL, NULL),
-	(14094, 974, 25.5, 0.9962, NULL, NULL),
-	(14095, 974, 25.75, 0.996, NULL, NULL),
-	(14096, 974, 26, 0.9958, NULL, NULL),
-	(14097, 974, 26.25, 0.9956, NULL, NULL),
-	(14098, 974, 26.5, 0.9955, NULL, NULL),
-	(14099, 974, 26.75, 0.9953, NULL, NULL),
-	(14100, 974, 27, 0.9951, NULL, NULL),
-	(14101, 974, 27.25, 0.9949, NULL, NULL),
-	(14102, 974, 27.5, 0.9948, NULL, NULL),
-	(14103, 974, 27.75, 0.9946, NULL, NULL),
-	(14104, 974, 28, 0.9944, NULL, NULL),
-	(14105, 974, 28.25, 0.9942, NULL, NULL),
-	(14106, 974, 28.5, 0.9941, NULL, NULL),
-	(14107, 974, 28.75, 0.9939, NULL, NULL),
-	(14108, 974, 29, 0.9937, NULL, NULL),
-	(14109, 974, 29.25, 0.9935, NULL, NULL),
-	(14110, 974, 29.5, 0.9934, NULL, NULL),
-	(14111, 974, 29.75, 0.9932, NULL, NULL),
-	(14112, 974, 30, 0.993, NULL, NULL),
-	(14113, 974, 30.25, 0.9928, NULL, NULL),
-	(14114, 974, 30.5, 0.9927, NULL, NULL),
-	(14115, 974, 30.75, 0.9925, NULL, NULL),
-	(14116, 974, 31, 0.9923, NULL, NULL),
-	(14117, 974, 31.25, 0.9921, NULL, NULL),
-	(14118, 974, 31.5, 0.992, NULL, NULL),
-	(14119, 974, 31.75, 0.9918, NULL, NULL),
-	(14120, 974, 32, 0.9916, NULL, NULL),
-	(14121, 974, 32.25, 0.9914, NULL, NULL),
-	(14122, 974, 32.5, 0.9913, NULL, NULL),
-	(14123, 974, 32.75, 0.9911, NULL, NULL),
-	(14124, 974, 33, 0.9909, NULL, NULL),
-	(14125, 974, 33.25, 0.9907, NULL, NULL),
-	(14126, 974, 33.5, 0.9906, NULL, NULL),
-	(14127, 974, 33.75, 0.9904, NULL, NULL),
-	(14128, 974, 34, 0.9902, NULL, NULL),
-	(14129, 974, 34.25, 0.99, NULL, NULL),
-	(14130, 974, 34.5, 0.9899, NULL, NULL),
-	(14131, 974, 34.75, 0.9897, NULL, NULL),
-	(14132, 974, 35, 0.9895, NULL, NULL),
-	(14133, 974, 35.25, 0.9893, NULL, NULL),
-	(14134, 974, 35.5, 0.9892, NULL, NULL),
-	(14135, 974, 35.75, 0.989, NULL, NULL),
-	(14136, 974, 36, 0.9888, NULL, NULL),
-	(14137, 974, 36.25, 0.9886, NULL, NULL),
-	(14138, 974, 36.5, 0.9885, NULL, NULL),
-	(14139, 974, 36.75, 0.9883, NULL, NULL),
-	(14140, 974, 37, 0.9881, NULL, NULL),
-	(14141, 974, 37.25, 0.9879, NULL, NULL),
-	(14142, 974, 37.5, 0.9878, NULL, NULL),
-	(14143, 974, 37.75, 0.9876, NULL, NULL),
-	(14144, 974, 38, 0.9874, NULL, NULL),
-	(14145, 974, 38.25, 0.9872, NULL, NULL),
-	(14146, 974, 38.5, 0.9871, NULL, NULL),
-	(14147, 974, 38.75, 0.9869, NULL, NULL),
-	(14148, 974, 39, 0.9867, NULL, NULL),
-	(14149, 974, 39.25, 0.9865, NULL, NULL),
-	(14150, 974, 39.5, 0.9864, NULL, NULL),
-	(14151, 974, 39.75, 0.9862, NULL, NULL),
-	(14152, 974, 40, 0.986, NULL, NULL),
-	(14153, 974, 40.25, 0.9858, NULL, NULL),
-	(14154, 974, 40.5, 0.9857, NULL, NULL),
-	(14155, 974, 40.75, 0.9855, NULL, NULL),
-	(14156, 974, 41, 0.9853, NULL, NULL),
-	(14157, 974, 41.25, 0.9851, NULL, NULL),
-	(14158, 974, 41.5, 0.985, NULL, NULL),
-	(14159, 974, 41.75, 0.9848, NULL, NULL),
-	(14160, 974, 42, 0.9846, NULL, NULL),
-	(14161, 974, 42.25, 0.9844, NULL, NULL),
-	(14162, 974, 42.5, 0.9842, NULL, NULL),
-	(14163, 974, 42.75, 0.9841, NULL, NULL),
-	(14164, 974, 43, 0.9839, NULL, NULL),
-	(14165, 974, 43.25, 0.9837, NULL, NULL),
-	(14166, 974, 43.5, 0.9835, NULL, NULL),
-	(14167, 974, 43.75, 0.9834, NULL, NULL),
-	(14168, 974, 44, 0.9832, NULL, NULL),
-	(14169, 974, 44.25, 0.983, NULL, NULL),
-	(14170, 974, 44.5, 0.9828, NULL, NULL),
-	(14171, 974, 44.75, 0.9827, NULL, NULL),
-	(14172, 974, 45, 0.9825, NULL, NULL),
-	(14173, 974, 45.25, 0.9823, NULL, NULL),
-	(14174, 974, 45.5, 0.9821, NULL, NULL),
-	(14175, 974, 45.75, 0.982, NULL, NULL),
-	(14176, 974, 46, 0.9818, NULL, NULL),
-	(14177, 974, 46.25, 0.9816, NULL, NULL),
-	(14178, 974, 46.5, 0.9814, NULL, NULL),
-	(14179, 974, 46.75, 0.9813, NULL, NULL),
-	(14180, 974, 47, 0.9811, NULL, NULL),
-	(14181, 974, 47.25, 0.9809, NULL, NULL),
-	(14182, 974, 47.5, 0.9807, NULL, NULL),
-	(14183, 974, 47.75, 0.9806, NULL, NULL),
-	(14184, 974, 48, 0.9804, NULL, NULL),
-	(14185, 974, 48.25, 0.9802, NULL, NULL),
-	(14186, 974, 48.5, 0.98, NULL, NULL),
-	(14187, 974, 48.75, 0.9798, NULL, NULL),
-	(14188, 974, 49, 0.9797, NULL, NULL),
-	(14189, 974, 49.25, 0.9795, NULL, NULL),
-	(14190, 974, 49.5, 0.9793, NULL, NULL),
-	(14191, 974, 49.75, 0.9791, NULL, NULL),
-	(14192, 974, 50, 0.979, NULL, NULL),
-	(14193, 974.5, 15, 1.0035, NULL, NULL),
-	(14194, 974.5, 15.25, 1.0033, NULL, NULL),
-	(14195, 974.5, 15.5, 1.0031, NULL, NULL),
-	(14196, 974.5, 15.75, 1.003, NULL, NULL),
-	(14197, 974.5, 16, 1.0028, NULL, NULL),
-	(14198, 974.5, 16.25, 1.0026, NULL, NULL),
-	(14199, 974.5, 16.5, 1.0024, NULL, NULL),
-	(14200, 974.5, 16.75, 1.0023, NULL, NULL),
-	(14201, 974.5, 17, 1.0021, NULL, NULL),
-	(14202, 974.5, 17.25, 1.0019, NULL, NULL),
-	(14203, 974.5, 17.5, 1.0017, NULL, NULL),
-	(14204, 974.5, 17.75, 1.0016, NULL, NULL),
-	(14205, 974.5, 18, 1.0014, NULL, NULL),
-	(14206, 974.5, 18.25, 1.0012, NULL, NULL),
-	(14207, 974.5, 18.5, 1.001, NULL, NULL),
-	(14208, 974.5, 18.75, 1.0009, NULL, NULL),
-	(14209, 974.5, 19, 1.0007, NULL, NULL),
-	(14210, 974.5, 19.25, 1.0005, NULL, NULL),
-	(14211, 974.5, 19.5, 1.0003, NULL, NULL),
-	(14212, 974.5, 19.75, 1.0002, NULL, NULL),
-	(14213, 974.5, 20, 1, NULL, NULL),
-	(14214, 974.5, 20.25, 0.9998, NULL, NULL),
-	(14215, 974.5, 20.5, 0.9997, NULL, NULL),
-	(14216, 974.5, 20.75, 0.9995, NULL, NULL),
-	(14217, 974.5, 21, 0.9993, NULL, NULL),
-	(14218, 974.5, 21.25, 0.9991, NULL, NULL),
-	(14219, 974.5, 21.5, 0.999, NULL, NULL),
-	(14220, 974.5, 21.75, 0.9988, NULL, NULL),
-	(14221, 974.5, 22, 0.9986, NULL, NULL),
-	(14222, 974.5, 22.25, 0.9984, NULL, NULL),
-	(14223, 974.5, 22.5, 0.9983, NULL, NULL),
-	(14224, 974.5, 22.75, 0.9981, NULL, NULL),
-	(14225, 974.5, 23, 0.9979, NULL, NULL),
-	(14226, 974.5, 23.25, 0.9977, NULL, NULL),
-	(14227, 974.5, 23.5, 0.9976, NULL, NULL),
-	(14228, 974.5, 23.75, 0.9974, NULL, NULL),
-	(14229, 974.5, 24, 0.9972, NULL, NULL),
-	(14230, 974.5, 24.25, 0.997, NULL, NULL),
-	(14231, 974.5, 24.5, 0.9969, NULL, NULL),
-	(14232, 974.5, 24.75, 0.9967, NULL, NULL),
-	(14233, 974.5, 25, 0.9965, NULL, NULL),
-	(14234, 974.5, 25.25, 0.9963, NULL, NULL),
-	(14235, 974.5, 25.5, 0.9962, NULL, NULL),
-	(14236, 974.5, 25.75, 0.996, NULL, NULL),
-	(14237, 974.5, 26, 0.9958, NULL, NULL),
-	(14238, 974.5, 26.25, 0.9956, NULL, NULL),
-	(14239, 974.5, 26.5, 0.9955, NULL, NULL),
-	(14240, 974.5, 26.75, 0.9953, NULL, NULL),
-	(14241, 974.5, 27, 0.9951, NULL, NULL),
-	(14242, 974.5, 27.25, 0.9949, NULL, NULL),
-	(14243, 974.5, 27.5, 0.9948, NULL, NULL),
-	(14244, 974.5, 27.75, 0.9946, NULL, NULL),
-	(14245, 974.5, 28, 0.9944, NULL, NULL),
-	(14246, 974.5, 28.25, 0.9942, NULL, NULL),
-	(14247, 974.5, 28.5, 0.9941, NULL, NULL),
-	(14248, 974.5, 28.75, 0.9939, NULL, NULL),
-	(14249, 974.5, 29, 0.9937, NULL, NULL),
-	(14250, 974.5, 29.25, 0.9935, NULL, NULL),
-	(14251, 974.5, 29.5, 0.9934, NULL, NULL),
-	(14252, 974.5, 29.75, 0.9932, NULL, NULL),
-	(14253, 974.5, 30, 0.993, NULL, NULL),
-	(14254, 974.5, 30.25, 0.9928, NULL, NULL),
-	(14255, 974.5, 30.5, 0.9927, NULL, NULL),
-	(14256, 974.5, 30.75, 0.9925, NULL, NULL),
-	(14257, 974.5, 31, 0.9923, NULL, NULL),
-	(14258, 974.5, 31.25, 0.9921, NULL, NULL),
-	(14259, 974.5, 31.5, 0.992, NULL, NULL),
-	(14260, 974.5, 31.75, 0.9918, NULL, NULL),
-	(14261, 974.5, 32, 0.9916, NULL, NULL),
-	(14262, 974.5, 32.25, 0.9914, NULL, NULL),
-	(14263, 974.5, 32.5, 0.9913, NULL, NULL),
-	(14264, 974.5, 32.75, 0.9911, NULL, NULL),
-	(14265, 974.5, 33, 0.9909, NULL, NULL),
-	(14266, 974.5, 33.25, 0.9907, NULL, NULL),
-	(14267, 974.5, 33.5, 0.9906, NULL, NULL),
-	(14268, 974.5, 33.75, 0.9904, NULL, NULL),
-	(14269, 974.5, 34, 0.9902, NULL, NULL),
-	(14270, 974.5, 34.25, 0.99, NULL, NULL),
-	(14271, 974.5, 34.5, 0.9899, NULL, NULL),
-	(14272, 974.5, 34.75, 0.9897, NULL, NULL),
-	(14273, 974.5, 35, 0.9895, NULL, NULL),
-	(14274, 974.5, 35.25, 0.9893, NULL, NULL),
-	(14275, 974.5, 35.5, 0.9892, NULL, NULL),
-	(14276, 974.5, 35.75, 0.989, NULL, NULL),
-	(14277, 974.5, 36, 0.9888, NULL, NULL),
-	(14278, 974.5, 36.25, 0.9886, NULL, NULL),
-	(14279, 974.5, 36.5, 0.9885, NULL, NULL),
-	(14280, 974.5, 36.75, 0.9883, NULL, NULL),
-	(14281, 974.5, 37, 0.9881, NULL, NULL),
-	(14282, 974.5, 37.25, 0.9879, NULL, NULL),
-	(14283, 974.5, 37.5, 0.9878, NULL, NULL),
-	(14284, 974.5, 37.75, 0.9876, NULL, NULL),
-	(14285, 974.5, 38, 0.9874, NULL, NULL),
-	(14286, 974.5, 38.25, 0.9872, NULL, NULL),
-	(14287, 974.5, 38.5, 0.9871, NULL, NULL),
-	(14288, 974.5, 38.75, 0.9869, NULL, NULL),
-	(14289, 974.5, 39, 0.9867, NULL, NULL),
-	(14290, 974.5, 39.25, 0.9865, NULL, NULL),
-	(14291, 974.5, 39.5, 0.9864, NULL, NULL),
-	(14292, 974.5, 39.75, 0.9862, NULL, NULL),
-	(14293, 974.5, 40, 0.986, NULL, NULL),
-	(14294, 974.5, 40.25, 0.9858, NULL, NULL),
-	(14295, 974.5, 40.5, 0.9857, NULL, NULL),
-	(14296, 974.5, 40.75, 0.9855, NULL, NULL),
-	(14297, 974.5, 41, 0.9853, NULL, NULL),
-	(14298, 974.5, 41.25, 0.9851, NULL, NULL),
-	(14299, 974.5, 41.5, 0.985, NULL, NULL),
-	(14300, 974.5, 41.75, 0.9848, NULL, NULL),
-	(14301, 974.5, 42, 0.9846, NULL, NULL),
-	(14302, 974.5, 42.25, 0.9844, NULL, NULL),
-	(14303, 974.5, 42.5, 0.9843, NULL, NULL),
-	(14304, 974.5, 42.75, 0.9841, NULL, NULL),
-	(14305, 974.5, 43, 0.9839, NULL, NULL),
-	(14306, 974.5, 43.25, 0.9837, NULL, NULL),
-	(14307, 974.5, 43.5, 0.9836, NULL, NULL),
-	(14308, 974.5, 43.75, 0.9834, NULL, NULL),
-	(14309, 974.5, 44, 0.9832, NULL, NULL),
-	(14310, 974.5, 44.25, 0.983, NULL, NULL),
-	(14311, 974.5, 44.5, 0.9829, NULL, NULL),
-	(14312, 974.5, 44.75, 0.9827, NULL, NULL),
-	(14313, 974.5, 45, 0.9825, NULL, NULL),
-	(14314, 974.5, 45.25, 0.9823, NULL, NULL),
-	(14315, 974.5, 45.5, 0.9821, NULL, NULL),
-	(14316, 974.5, 45.75, 0.982, NULL, NULL),
-	(14317, 974.5, 46, 0.9818, NULL, NULL),
-	(14318, 974.5, 46.25, 0.9816, NULL, NULL),
-	(14319, 974.5, 46.5, 0.9814, NULL, NULL),
-	(14320, 974.5, 46.75, 0.9813, NULL, NULL),
-	(14321, 974.5, 47, 0.9811, NULL, NULL),
-	(14322, 974.5, 47.25, 0.9809, NULL, NULL),
-	(14323, 974.5, 47.5, 0.9807, NULL, NULL),
-	(14324, 974.5, 47.75, 0.9806, NULL, NULL),
-	(14325, 974.5, 48, 0.9804, NULL, NULL),
-	(14326, 974.5, 48.25, 0.9802, NULL, NULL),
-	(14327, 974.5, 48.5, 0.98, NULL, NULL),
-	(14328, 974.5, 48.75, 0.9799, NULL, NULL),
-	(14329, 974.5, 49, 0.9797, NULL, NULL),
-	(14330, 974.5, 49.25, 0.9795, NULL, NULL),
-	(14331, 974.5, 49.5, 0.9793, NULL, NULL),
-	(14332, 974.5, 49.75, 0.9792, NULL, NULL),
-	(14333, 974.5, 50, 0.979, NULL, NULL),
-	(14334, 975, 15, 1.0035, NULL, NULL),
-	(14335, 975, 15.25, 1.0033, NULL, NULL),
-	(14336, 975, 15.5, 1.0031, NULL, NULL),
-	(14337, 975, 15.75, 1.003, NULL, NULL),
-	(14338, 975, 16, 1.0028, NULL, NULL),
-	(14339, 975, 16.25, 1.0026, NULL, NULL),
-	(14340, 975, 16.5, 1.0024, NULL, NULL),
-	(14341, 975, 16.75, 1.0023, NULL, NULL),
-	(14342, 975, 17, 1.0021, NULL, NULL),
-	(14343, 975, 17.25, 1.0019, NULL, NULL),
-	(14344, 975, 17.5, 1.0017, NULL, NULL),
-	(14345, 975, 17.75, 1.0016, NULL, NULL),
-	(14346, 975, 18, 1.0014, NULL, NULL),
-	(14347, 975, 18.25, 1.0012, NULL, NULL),
-	(14348, 975, 18.5, 1.001, NULL, NULL),
-	(14349, 975, 18.75, 1.0009, NULL, NULL),
-	(14350, 975, 19, 1.0007, NULL, NULL),
-	(14351, 975, 19.25, 1.0005, NULL, NULL),
-	(14352, 975, 19.5, 1.0003, NULL, NULL),
-	(14353, 975, 19.75, 1.0002, NULL, NULL),
-	(14354, 975, 20, 1, NULL, NULL),
-	(14355, 975, 20.25, 0.9998, NULL, NULL),
-	(14356, 975, 20.5, 0.9997, NULL, NULL),
-	(14357, 975, 20.75, 0.9995, NULL, NULL),
-	(14358, 975, 21, 0.9993, NULL, NULL),
-	(14359, 975, 21.25, 0.9991, NULL, NULL),
-	(14360, 975, 21.5, 0.999, NULL, NULL),
-	(14361, 975, 21.75, 0.9988, NULL, NULL),
-	(14362, 975, 22, 0.9986, NULL, NULL),
-	(14363, 975, 22.25, 0.9984, NULL, NULL),
-	(14364, 975, 22.5, 0.9983, NULL, NULL),
-	(14365, 975, 22.75, 0.9981, NULL, NULL),
-	(14366, 975, 23, 0.9979, NULL, NULL),
-	(14367, 975, 23.25, 0.9977, NULL, NULL),
-	(14368, 975, 23.5, 0.9976, NULL, NULL),
-	(14369, 975, 23.75, 0.9974, NULL, NULL),
-	(14370, 975, 24, 0.9972, NULL, NULL),
-	(14371, 975, 24.25, 0.997, NULL, NULL),
-	(14372, 975, 24.5, 0.9969, NULL, NULL),
-	(14373, 975, 24.75, 0.9967, NULL, NULL),
-	(14374, 975, 25, 0.9965, NULL, NULL),
-	(14375, 975, 25.25, 0.9963, NULL, NULL),
-	(14376, 975, 25.5, 0.9962, NULL, NULL),
-	(14377, 975, 25.75, 0.996, NULL, NULL),
-	(14378, 975, 26, 0.9958, NULL, NULL),
-	(14379, 975, 26.25, 0.9956, NULL, NULL),
-	(14380, 975, 26.5, 0.9955, NULL, NULL),
-	(14381, 975, 26.75, 0.9953, NULL, NULL),
-	(14382, 975, 27, 0.9951, NULL, NULL),
-	(14383, 975, 27.25, 0.9949, NULL, NULL),
-	(14384, 975, 27.5, 0.9948, NULL, NULL),
-	(14385, 975, 27.75, 0.9946, NULL, NULL),
-	(14386, 975, 28, 0.9944, NULL, NULL),
-	(14387, 975, 28.25, 0.9942, NULL, NULL),
-	(14388, 975, 28.5, 0.9941, NULL, NULL),
-	(14389, 975, 28.75, 0.9939, NULL, NULL),
-	(14390, 975, 29, 0.9937, NULL, NULL),
-	(14391, 975, 29.25, 0.9935, NULL, NULL),
-	(14392, 975, 29.5, 0.9934, NULL, NULL),
-	(14393, 975, 29.75, 0.9932, NULL, NULL),
-	(14394, 975, 30, 0.993, NULL, NULL),
-	(14395, 975, 30.25, 0.9929, NULL, NULL),
-	(14396, 975, 30.5, 0.9927, NULL, NULL),
-	(14397, 975, 30.75, 0.9925, NULL, NULL),
-	(14398, 975, 31, 0.9923, NULL, NULL),
-	(14399, 975, 31.25, 0.9922, NULL, NULL),
-	(14400, 975, 31.5, 0.992, NULL, NULL),
-	(14401, 975, 31.75, 0.9918, NULL, NULL),
-	(14402, 975, 32, 0.9916, NULL, NULL),
-	(14403, 975, 32.25, 0.9915, NULL, NULL),
-	(14404, 975, 32.5, 0.9913, NULL, NULL),
-	(14405, 975, 32.75, 0.9911, NULL, NULL),
-	(14406, 975, 33, 0.9909, NULL, NULL),
-	(14407, 975, 33.25, 0.9908, NULL, NULL),
-	(14408, 975, 33.5, 0.9906, NULL, NULL),
-	(14409, 975, 33.75, 0.9904, NULL, NULL),
-	(14410, 975, 34, 0.9902, NULL, NULL),
-	(14411, 975, 34.25, 0.9901, NULL, NULL),
-	(14412, 975, 34.5, 0.9899, NULL, NULL),
-	(14413, 975, 34.75, 0.9897, NULL, NULL),
-	(14414, 975, 35, 0.9895, NULL, NULL),
-	(14415, 975, 35.25, 0.9894, NULL, NULL),
-	(14416, 975, 35.5, 0.9892, NULL, NULL),
-	(14417, 975, 35.75, 0.989, NULL, NULL),
-	(14418, 975, 36, 0.9888, NULL, NULL),
-	(14419, 975, 36.25, 0.9887, NULL, NULL),
-	(14420, 975, 36.5, 0.9885, NULL, NULL),
-	(14421, 975, 36.75, 0.9883, NULL, NULL),
-	(14422, 975, 37, 0.9881, NULL, NULL),
-	(14423, 975, 37.25, 0.988, NULL, NULL),
-	(14424, 975, 37.5, 0.9878, NULL, NULL),
-	(14425, 975, 37.75, 0.9876, NULL, NULL),
-	(14426, 975, 38, 0.9874, NULL, NULL),
-	(14427, 975, 38.25, 0.9873, NULL, NULL),
-	(14428, 975, 38.5, 0.9871, NULL, NULL),
-	(14429, 975, 38.75, 0.9869, NULL, NULL),
-	(14430, 975, 39, 0.9867, NULL, NULL),
-	(14431, 975, 39.25, 0.9866, NULL, NULL),
-	(14432, 975, 39.5, 0.9864, NULL, NULL),
-	(14433, 975, 39.75, 0.9862, NULL, NULL),
-	(14434, 975, 40, 0.986, NULL, NULL),
-	(14435, 975, 40.25, 0.9858, NULL, NULL),
-	(14436, 975, 40.5, 0.9857, NULL, NULL),
-	(14437, 975, 40.75, 0.9855, NULL, NULL),
-	(14438, 975, 41, 0.9853, NULL, NULL),
-	(14439, 975, 41.25, 0.9851, NULL, NULL),
-	(14440, 975, 41.5, 0.985, NULL, NULL),
-	(14441, 975, 41.75, 0.9848, NULL, NULL),
-	(14442, 975, 42, 0.9846, NULL, NULL),
-	(14443, 975, 42.25, 0.9844, NULL, NULL),
-	(14444, 975, 42.5, 0.9843, NULL, NULL),
-	(14445, 975, 42.75, 0.9841, NULL, NULL),
-	(14446, 975, 43, 0.9839, NULL, NULL),
-	(14447, 975, 43.25, 0.9837, NULL, NULL),
-	(14448, 975, 43.5, 0.9836, NULL, NULL),
-	(14449, 975, 43.75, 0.9834, NULL, NULL),
-	(14450, 975, 44, 0.9832, NULL, NULL),
-	(14451, 975, 44.25, 0.983, NULL, NULL),
-	(14452, 975, 44.5, 0.9829, NULL, NULL),
-	(14453, 975, 44.75, 0.9827, NULL, NULL),
-	(14454, 975, 45, 0.9825, NULL, NULL),
-	(14455, 975, 45.25, 0.9823, NULL, NULL),
-	(14456, 975, 45.5, 0.9822, NULL, NULL),
-	(14457, 975, 45.75, 0.982, NULL, NULL),
-	(14458, 975, 46, 0.9818, NULL, NULL),
-	(14459, 975, 46.25, 0.9816, NULL, NULL),
-	(14460, 975, 46.5, 0.9815, NULL, NULL),
-	(14461, 975, 46.75, 0.9813, NULL, NULL),
-	(14462, 975, 47, 0.9811, NULL, NULL),
-	(14463, 975, 47.25, 0.9809, NULL, NULL),
-	(14464, 975, 47.5, 0.9808, NULL, NULL),
-	(14465, 975, 47.75, 0.9806, NULL, NULL),
-	(14466, 975, 48, 0.9804, NULL, NULL),
-	(14467, 975, 48.25, 0.9802, NULL, NULL),
-	(14468, 975, 48.5, 0.9801, NULL, NULL),
-	(14469, 975, 48.75, 0.9799, NULL, NULL),
-	(14470, 975, 49, 0.9797, NULL, NULL),
-	(14471, 975, 49.25, 0.9795, NULL, NULL),
-	(14472, 975, 49.5, 0.9793, NULL, NULL),
-	(14473, 975, 49.75, 0.9792, NULL, NULL),
-	(14474, 975, 50, 0.979, NULL, NULL),
-	(14475, 975.5, 15, 1.0035, NULL, NULL),
-	(14476, 975.5, 15.25, 1.0033, NULL, NULL),
-	(14477, 975.5, 15.5, 1.0031, NULL, NULL),
-	(14478, 975.5, 15.75, 1.003, NULL, NULL),
-	(14479, 975.5, 16, 1.0028, NULL, NULL),
-	(14480, 975.5, 16.25, 1.0026, NULL, NULL),
-	(14481, 975.5, 16.5, 1.0024, NULL, NULL),
-	(14482, 975.5, 16.75, 1.0023, NULL, NULL),
-	(14483, 975.5, 17, 1.0021, NULL, NULL),
-	(14484, 975.5, 17.25, 1.0019, NULL, NULL),
-	(14485, 975.5, 17.5, 1.0017, NULL, NULL),
-	(14486, 975.5, 17.75, 1.0016, NULL, NULL),
-	(14487, 975.5, 18, 1.0014, NULL, NULL),
-	(14488, 975.5, 18.25, 1.0012, NULL, NULL),
-	(14489, 975.5, 18.5, 1.001, NULL, NULL),
-	(14490, 975.5, 18.75, 1.0009, NULL, NULL),
-	(14491, 975.5, 19, 1.0007, NULL, NULL),
-	(14492, 975.5, 19.25, 1.0005, NULL, NULL),
-	(14493, 975.5, 19.5, 1.0003, NULL, NULL),
-	(14494, 975.5, 19.75, 1.0002, NULL, NULL),
-	(14495, 975.5, 20, 1, NULL, NULL),
-	(14496, 975.5, 20.25, 0.9998, NULL, NULL),
-	(14497, 975.5, 20.5, 0.9997, NULL, NULL),
-	(14498, 975.5, 20.75, 0.9995, NULL, NULL),
-	(14499, 975.5, 21, 0.9993, NULL, NULL),
-	(14500, 975.5, 21.25, 0.9991, NULL, NULL),
-	(14501, 975.5, 21.5, 0.999, NULL, NULL),
-	(14502, 975.5, 21.75, 0.9988, NULL, NULL),
-	(14503, 975.5, 22, 0.9986, NULL, NULL),
-	(14504, 975.5, 22.25, 0.9984, NULL, NULL),
-	(14505, 975.5, 22.5, 0.9983, NULL, NULL),
-	(14506, 975.5, 22.75, 0.9981, NULL, NULL),
-	(14507, 975.5, 23, 0.9979, NULL, NULL),
-	(14508, 975.5, 23.25, 0.9977, NULL, NULL),
-	(14509, 975.5, 23.5, 0.9976, NULL, NULL),
-	(14510, 975.5, 23.75, 0.9974, NULL, NULL),
-	(14511, 975.5, 24, 0.9972, NULL, NULL),
-	(14512, 975.5, 24.25, 0.997, NULL, NULL),
-	(14513, 975.5, 24.5, 0.9969, NULL, NULL),
-	(14514, 975.5, 24.75, 0.9967, NULL, NULL),
-	(14515, 975.5, 25, 0.9965, NULL, NULL),
-	(14516, 975.5, 25.25, 0.9963, NULL, NULL),
-	(14517, 975.5, 25.5, 0.9962, NULL, NULL),
-	(14518, 975.5, 25.75, 0.996, NULL, NULL),
-	(14519, 975.5, 26, 0.9958, NULL, NULL),
-	(14520, 975.5, 26.25, 0.9956, NULL, NULL),
-	(14521, 975.5, 26.5, 0.9955, NULL, NULL),
-	(14522, 975.5, 26.75, 0.9953, NULL, NULL),
-	(14523, 975.5, 27, 0.9951, NULL, NULL),
-	(14524, 975.5, 27.25, 0.9949, NULL, NULL),
-	(14525, 975.5, 27.5, 0.9948, NULL, NULL),
-	(14526, 975.5, 27.75, 0.9946, NULL, NULL),
-	(14527, 975.5, 28, 0.9944, NULL, NULL),
-	(14528, 975.5, 28.25, 0.9943, NULL, NULL),
-	(14529, 975.5, 28.5, 0.9941, NULL, NULL),
-	(14530, 975.5, 28.75, 0.9939, NULL, NULL),
-	(14531, 975.5, 29, 0.9937, NULL, NULL),
-	(14532, 975.5, 29.25, 0.9936, NULL, NULL),
-	(14533, 975.5, 29.5, 0.9934, NULL, NULL),
-	(14534, 975.5, 29.75, 0.9932, NULL, NULL),
-	(14535, 975.5, 30, 0.993, NULL, NULL),
-	(14536, 975.5, 30.25, 0.9929, NULL, NULL),
-	(14537, 975.5, 30.5, 0.9927, NULL, NULL),
-	(14538, 975.5, 30.75, 0.9925, NULL, NULL),
-	(14539, 975.5, 31, 0.9923, NULL, NULL),
-	(14540, 975.5, 31.25, 0.9922, NULL, NULL),
-	(14541, 975.5, 31.5, 0.992, NULL, NULL),
-	(14542, 975.5, 31.75, 0.9918, NULL, NULL),
-	(14543, 975.5, 32, 0.9916, NULL, NULL),
-	(14544, 975.5, 32.25, 0.9915, NULL, NULL),
-	(14545, 975.5, 32.5, 0.9913, NULL, NULL),
-	(14546, 975.5, 32.75, 0.9911, NULL, NULL),
-	(14547, 975.5, 33, 0.9909, NULL, NULL),
-	(14548, 975.5, 33.25, 0.9908, NULL, NULL),
-	(14549, 975.5, 33.5, 0.9906, NULL, NULL),
-	(14550, 975.5, 33.75, 0.9904, NULL, NULL),
-	(14551, 975.5, 34, 0.9902, NULL, NULL),
-	(14552, 975.5, 34.25, 0.9901, NULL, NULL),
-	(14553, 975.5, 34.5, 0.9899, NULL, NULL),
-	(14554, 975.5, 34.75, 0.9897, NULL, NULL),
-	(14555, 975.5, 35, 0.9895, NULL, NULL),
-	(14556, 975.5, 35.25, 0.9894, NULL, NULL),
-	(14557, 975.5, 35.5, 0.9892, NULL, NULL),
-	(14558, 975.5, 35.75, 0.989, NULL, NULL),
-	(14559, 975.5, 36, 0.9888, NULL, NULL),
-	(14560, 975.5, 36.25, 0.9887, NULL, NULL),
-	(14561, 975.5, 36.5, 0.9885, NULL, NULL),
-	(14562, 975.5, 36.75, 0.9883, NULL, NULL),
-	(14563, 975.5, 37, 0.9881, NULL, NULL),
-	(14564, 975.5, 37.25, 0.988, NULL, NULL),
-	(14565, 975.5, 37.5, 0.9878, NULL, NULL),
-	(14566, 975.5, 37.75, 0.9876, NULL, NULL),
-	(14567, 975.5, 38, 0.9874, NULL, NULL),
-	(14568, 975.5, 38.25, 0.9873, NULL, NULL),
-	(14569, 975.5, 38.5, 0.9871, NULL, NULL),
-	(14570, 975.5, 38.75, 0.9869, NULL, NULL),
-	(14571, 975.5, 39, 0.9867, NULL, NULL),
-	(14572, 975.5, 39.25, 0.9866, NULL, NULL),
-	(14573, 975.5, 39.5, 0.9864, NULL, NULL),
-	(14574, 975.5, 39.75, 0.9862, NULL, NULL),
-	(14575, 975.5, 40, 0.986, NULL, NULL),
-	(14576, 975.5, 40.25, 0.9859, NULL, NULL),
-	(14577, 975.5, 40.5, 0.9857, NULL, NULL),
-	(14578, 975.5, 40.75, 0.9855, NULL, NULL),
-	(14579, 975.5, 41, 0.9853, NULL, NULL),
-	(14580, 975.5, 41.25, 0.9852, NULL, NULL),
-	(14581, 975.5, 41.5, 0.985, NULL, NULL),
-	(14582, 975.5, 41.75, 0.9848, NULL, NULL),
-	(14583, 975.5, 42, 0.9846, NULL, NULL),
-	(14584, 975.5, 42.25, 0.9845, NULL, NULL),
-	(14585, 975.5, 42.5, 0.9843, NULL, NULL),
-	(14586, 975.5, 42.75, 0.9841, NULL, NULL),
-	(14587, 975.5, 43, 0.9839, NULL, NULL),
-	(14588, 975.5, 43.25, 0.9838, NULL, NULL),
-	(14589, 975.5, 43.5, 0.9836, NULL, NULL),
-	(14590, 975.5, 43.75, 0.9834, NULL, NULL),
-	(14591, 975.5, 44, 0.9832, NULL, NULL),
-	(14592, 975.5, 44.25, 0.9831, NULL, NULL),
-	(14593, 975.5, 44.5, 0.9829, NULL, NULL),
-	(14594, 975.5, 44.75, 0.9827, NULL, NULL),
-	(14595, 975.5, 45, 0.9825, NULL, NULL),
-	(14596, 975.5, 45.25, 0.9823, NULL, NULL),
-	(14597, 975.5, 45.5, 0.9822, NULL, NULL),
-	(14598, 975.5, 45.75, 0.982, NULL, NULL),
-	(14599, 975.5, 46, 0.9818, NULL, NULL),
-	(14600, 975.5, 46.25, 0.9816, NULL, NULL),
-	(14601, 975.5, 46.5, 0.9815, NULL, NULL),
-	(14602, 975.5, 46.75, 0.9813, NULL, NULL),
-	(14603, 975.5, 47, 0.9811, NULL, NULL),
-	(14604, 975.5, 47.25, 0.9809, NULL, NULL),
-	(14605, 975.5, 47.5, 0.9808, NULL, NULL),
-	(14606, 975.5, 47.75, 0.9806, NULL, NULL),
-	(14607, 975.5, 48, 0.9804, NULL, NULL),
-	(14608, 975.5, 48.25, 0.9802, NULL, NULL),
-	(14609, 975.5, 48.5, 0.9801, NULL, NULL),
-	(14610, 975.5, 48.75, 0.9799, NULL, NULL),
-	(14611, 975.5, 49, 0.9797, NULL, NULL),
-	(14612, 975.5, 49.25, 0.9795, NULL, NULL),
-	(14613, 975.5, 49.5, 0.9794, NULL, NULL),
-	(14614, 975.5, 49.75, 0.9792, NULL, NULL),
-	(14615, 975.5, 50, 0.979, NULL, NULL),
-	(14616, 976, 15, 1.0035, NULL, NULL),
-	(14617, 976, 15.25, 1.0033, NULL, NULL),
-	(14618, 976, 15.5, 1.0031, NULL, NULL),
-	(14619, 976, 15.75, 1.003, NULL, NULL),
-	(14620, 976, 16, 1.0028, NULL, NULL),
-	(14621, 976, 16.25, 1.0026, NULL, NULL),
-	(14622, 976, 16.5, 1.0024, NULL, NULL),
-	(14623, 976, 16.75, 1.0023, NULL, NULL),
-	(14624, 976, 17, 1.0021, NULL, NULL),
-	(14625, 976, 17.25, 1.0019, NULL, NULL),
-	(14626, 976, 17.5, 1.0017, NULL, NULL),
-	(14627, 976, 17.75, 1.0016, NULL, NULL),
-	(14628, 976, 18, 1.0014, NULL, NULL),
-	(14629, 976, 18.25, 1.0012, NULL, NULL),
-	(14630, 976, 18.5, 1.001, NULL, NULL),
-	(14631, 976, 18.75, 1.0009, NULL, NULL),
-	(14632, 976, 19, 1.0007, NULL, NULL),
-	(14633, 976, 19.25, 1.0005, NULL, NULL),
-	(14634, 976, 19.5, 1.0003, NULL, NULL),
-	(14635, 976, 19.75, 1.0002, NULL, NULL),
-	(14636, 976, 20, 1, NULL, NULL),
-	(14637, 976, 20.25, 0.9998, NULL, NULL),
-	(14638, 976, 20.5, 0.9997, NULL, NULL),
-	(14639, 976, 20.75, 0.9995, NULL, NULL),
-	(14640, 976, 21, 0.9993, NULL, NULL),
-	(14641, 976, 21.25, 0.9991, NULL, NULL),
-	(14642, 976, 21.5, 0.999, NULL, NULL),
-	(14643, 976, 21.75, 0.9988, NULL, NULL),
-	(14644, 976, 22, 0.9986, NULL, NULL),
-	(14645, 976, 22.25, 0.9984, NULL, NULL),
-	(14646, 976, 22.5, 0.9983, NULL, NULL),
-	(14647, 976, 22.75, 0.9981, NULL, NULL),
-	(14648, 976, 23, 0.9979, NULL, NULL),
-	(14649, 976, 23.25, 0.9977, NULL, NULL),
-	(14650, 976, 23.5, 0.9976, NULL, NULL),
-	(14651, 976, 23.75, 0.9974, NULL, NULL),
-	(14652, 976, 24, 0.9972, NULL, NULL),
-	(14653, 976, 24.25, 0.997, NULL, NULL),
-	(14654, 976, 24.5, 0.9969, NULL, NULL),
-	(14655, 976, 24.75, 0.9967, NULL, NULL),
-	(14656, 976, 25, 0.9965, NULL, NULL),
-	(14657, 976, 25.25, 0.9963, NULL, NULL),
-	(14658, 976, 25.5, 0.9962, NULL, NULL),
-	(14659, 976, 25.75, 0.996, NULL, NULL),
-	(14660, 976, 26, 0.9958, NULL, NULL),
-	(14661, 976, 26.25, 0.9957, NULL, NULL),
-	(14662, 976, 26.5, 0.9955, NULL, NULL),
-	(14663, 976, 26.75, 0.9953, NULL, NULL),
-	(14664, 976, 27, 0.9951, NULL, NULL),
-	(14665, 976, 27.25, 0.995, NULL, NULL),
-	(14666, 976, 27.5, 0.9948, NULL, NULL),
-	(14667, 976, 27.75, 0.9946, NULL, NULL),
-	(14668, 976, 28.25, 0.9943, NULL, NULL),
-	(14669, 976, 28.5, 0.9941, NULL, NULL),
-	(14670, 976, 28.75, 0.9939, NULL, NULL),
-	(14671, 976, 29, 0.9937, NULL, NULL),
-	(14672, 976, 29.25, 0.9936, NULL, NULL),
-	(14673, 976, 29.5, 0.9934, NULL, NULL),
-	(14674, 976, 29.75, 0.9932, NULL, NULL),
-	(14675, 976, 30, 0.993, NULL, NULL),
-	(14676, 976, 30.5, 0.9927, NULL, NULL),
-	(14677, 976, 30.75, 0.9925, NULL, NULL),
-	(14678, 976, 31, 0.9923, NULL, NULL),
-	(14679, 976, 31.25, 0.9922, NULL, NULL),
-	(14680, 976, 31.5, 0.992, NULL, NULL),
-	(14681, 976, 31.75, 0.9918, NULL, NULL),
-	(14682, 976, 32, 0.9916, NULL, NULL),
-	(14683, 976, 32.25, 0.9915, NULL, NULL),
-	(14684, 976, 32.5, 0.9913, NULL, NULL),
-	(14685, 976, 32.75, 0.9911, NULL, NULL),
-	(14686, 976, 33, 0.9909, NULL, NULL),
-	(14687, 976, 33.25, 0.9908, NULL, NULL),
-	(14688, 976, 33.5, 0.9906, NULL, NULL),
-	(14689, 976, 33.75, 0.9904, NULL, NULL),
-	(14690, 976, 34, 0.9902, NULL, NULL),
-	(14691, 976, 34.25, 0.9901, NULL, NULL),
-	(14692, 976, 34.5, 0.9899, NULL, NULL),
-	(14693, 976, 34.75, 0.9897, NULL, NULL),
-	(14694, 976, 35, 0.9895, NULL, NULL),
-	(14695, 976, 35.25, 0.9894, NULL, NULL),
-	(14696, 976, 35.5, 0.9892, NULL, NULL),
-	(14697, 976, 35.75, 0.989, NULL, NULL),
-	(14698, 976, 36, 0.9888, NULL, NULL),
-	(14699, 976, 36.25, 0.9887, NULL, NULL),
-	(14700, 976, 36.5, 0.9885, NULL, NULL),
-	(14701, 976, 36.75, 0.9883, NULL, NULL),
-	(14702, 976, 37, 0.9881, NULL, NULL),
-	(14703, 976, 37.25, 0.988, NULL, NULL),
-	(14704, 976, 37.5, 0.9878, NULL, NULL),
-	(14705, 976, 37.75, 0.9876, NULL, NULL),
-	(14706, 976, 38, 0.9874, NULL, NULL),
-	(14707, 976, 38.25, 0.9873, NULL, NULL),
-	(14708, 976, 38.5, 0.9871, NULL, NULL),
-	(14709, 976, 38.75, 0.9869, NULL, NULL),
-	(14710, 976, 39, 0.9867, NULL, NULL),
-	(14711, 976, 39.25, 0.9866, NULL, NULL),
-	(14712, 976, 39.5, 0.9864, NULL, NULL),
-	(14713, 976, 39.75, 0.9862, NULL, NULL),
-	(14714, 976, 40, 0.986, NULL, NULL),
-	(14715, 976, 40.25, 0.9859, NULL, NULL),
-	(14716, 976, 40.5, 0.9857, NULL, NULL),
-	(14717, 976, 40.75, 0.9855, NULL, NULL),
-	(14718, 976, 41, 0.9853, NULL, NULL),
-	(14719, 976, 41.25, 0.9852, NULL, NULL),
-	(14720, 976, 41.5, 0.985, NULL, NULL),
-	(14721, 976, 41.75, 0.9848, NULL, NULL),
-	(14722, 976, 42, 0.9846, NULL, NULL),
-	(14723, 976, 42.25, 0.9845, NULL, NULL),
-	(14724, 976, 42.5, 0.9843, NULL, NULL),
-	(14725, 976, 42.75, 0.9841, NULL, NULL),
-	(14726, 976, 43, 0.9839, NULL, NULL),
-	(14727, 976, 43.25, 0.9838, NULL, NULL),
-	(14728, 976, 43.5, 0.9836, NULL, NULL),
-	(14729, 976, 43.75, 0.9834, NULL, NULL),
-	(14730, 976, 44, 0.9832, NULL, NULL),
-	(14731, 976, 44.25, 0.9831, NULL, NULL),
-	(14732, 976, 44.5, 0.9829, NULL, NULL),
-	(14733, 976, 44.75, 0.9827, NULL, NULL),
-	(14734, 976, 45, 0.9825, NULL, NULL),
-	(14735, 976, 45.25, 0.9824, NULL, NULL),
-	(14736, 976, 45.5, 0.9822, NULL, NULL),
-	(14737, 976, 45.75, 0.982, NULL, NULL),
-	(14738, 976, 46, 0.9818, NULL, NULL),
-	(14739, 976, 46.25, 0.9817, NULL, NULL),
-	(14740, 976, 46.5, 0.9815, NULL, NULL),
-	(14741, 976, 46.75, 0.9813, NULL, NULL),
-	(14742, 976, 47, 0.9811, NULL, NULL),
-	(14743, 976, 47.25, 0.981, NULL, NULL),
-	(14744, 976, 47.5, 0.9808, NULL, NULL),
-	(14745, 976, 47.75, 0.9806, NULL, NULL),
-	(14746, 976, 48, 0.9804, NULL, NULL),
-	(14747, 976, 48.25, 0.9803, NULL, NULL),
-	(14748, 976, 48.5, 0.9801, NULL, NULL),
-	(14749, 976, 48.75, 0.9799, NULL, NULL),
-	(14750, 976, 49, 0.9797, NULL, NULL),
-	(14751, 976, 49.25, 0.9796, NULL, NULL),
-	(14752, 976, 49.5, 0.9794, NULL, NULL),
-	(14753, 976, 49.75, 0.9792, NULL, NULL),
-	(14754, 976, 50, 0.979, NULL, NULL),
-	(14755, 976.5, 15, 1.0035, NULL, NULL),
-	(14756, 976.5, 15.25, 1.0033, NULL, NULL),
-	(14757, 976.5, 15.5, 1.0031, NULL, NULL),
-	(14758, 976.5, 15.75, 1.0029, NULL, NULL),
-	(14759, 976.5, 16, 1.0028, NULL, NULL),
-	(14760, 976.5, 16.25, 1.0026, NULL, NULL),
-	(14761, 976.5, 16.5, 1.0024, NULL, NULL),
-	(14762, 976.5, 16.75, 1.0023, NULL, NULL),
-	(14763, 976.5, 17, 1.0021, NULL, NULL),
-	(14764, 976.5, 17.25, 1.0019, NULL, NULL),
-	(14765, 976.5, 17.5, 1.0017, NULL, NULL),
-	(14766, 976.5, 17.75, 1.0016, NULL, NULL),
-	(14767, 976.5, 18, 1.0014, NULL, NULL),
-	(14768, 976.5, 18.25, 1.0012, NULL, NULL),
-	(14769, 976.5, 18.5, 1.001, NULL, NULL),
-	(14770, 976.5, 18.75, 1.0009, NULL, NULL),
-	(14771, 976.5, 19, 1.0007, NULL, NULL),
-	(14772, 976.5, 19.25, 1.0005, NULL, NULL),
-	(14773, 976.5, 19.5, 1.0003, NULL, NULL),
-	(14774, 976.5, 19.75, 1.0002, NULL, NULL),
-	(14775, 976.5, 20, 1, NULL, NULL),
-	(14776, 976.5, 20.25, 0.9998, NULL, NULL),
-	(14777, 976.5, 20.5, 0.9997, NULL, NULL),
-	(14778, 976.5, 20.75, 0.9995, NULL, NULL),
-	(14779, 976.5, 21, 0.9993, NULL, NULL),
-	(14780, 976.5, 21.25, 0.9991, NULL, NULL),
-	(14781, 976.5, 21.5, 0.999, NULL, NULL),
-	(14782, 976.5, 21.75, 0.9988, NULL, NULL),
-	(14783, 976.5, 22, 0.9986, NULL, NULL),
-	(14784, 976.5, 22.25, 0.9984, NULL, NULL),
-	(14785, 976.5, 22.5, 0.9983, NULL, NULL),
-	(14786, 976.5, 22.75, 0.9981, NULL, NULL),
-	(14787, 976.5, 23, 0.9979, NULL, NULL),
-	(14788, 976.5, 23.25, 0.9977, NULL, NULL),
-	(14789, 976.5, 23.5, 0.9976, NULL, NULL),
-	(14790, 976.5, 23.75, 0.9974, NULL, NULL),
-	(14791, 976.5, 24, 0.9972, NULL, NULL),
-	(14792, 976.5, 24.25, 0.997, NULL, NULL),
-	(14793, 976.5, 24.5, 0.9969, NULL, NULL),
-	(14794, 976.5, 24.75, 0.9967, NULL, NULL),
-	(14795, 976.5, 25, 0.9965, NULL, NULL),
-	(14796, 976.5, 25.25, 0.9963, NULL, NULL),
-	(14797, 976.5, 25.5, 0.9962, NULL, NULL),
-	(14798, 976.5, 25.75, 0.996, NULL, NULL),
-	(14799, 976.5, 26, 0.9958, NULL, NULL),
-	(14800, 976.5, 26.25, 0.9957, NULL, NULL),
-	(14801, 976.5, 26.5, 0.9955, NULL, NULL),
-	(14802, 976.5, 26.75, 0.9953, NULL, NULL),
-	(14803, 976.5, 27, 0.9951, NULL, NULL),
-	(14804, 976.5, 27.25, 0.995, NULL, NULL),
-	(14805, 976.5, 27.5, 0.9948, NULL, NULL),
-	(14806, 976.5, 27.75, 0.9946, NULL, NULL),
-	(14807, 976.5, 28, 0.9944, NULL, NULL),
-	(14808, 976.5, 28.25, 0.9943, NULL, NULL),
-	(14809, 976.5, 28.5, 0.9941, NULL, NULL),
-	(14810, 976.5, 28.75, 0.9939, NULL, NULL),
-	(14811, 976.5, 29, 0.9937, NULL, NULL),
-	(14812, 976.5, 29.25, 0.9936, NULL, NULL),
-	(14813, 976.5, 29.5, 0.9934, NULL, NULL),
-	(14814, 976.5, 29.75, 0.9932, NULL, NULL),
-	(14815, 976.5, 30, 0.993, NULL, NULL),
-	(14816, 976.5, 30.25, 0.9929, NULL, NULL),
-	(14817, 976.5, 30.5, 0.9927, NULL, NULL),
-	(14818, 976.5, 30.75, 0.9925, NULL, NULL),
-	(14819, 976.5, 31, 0.9923, NULL, NULL),
-	(14820, 976.5, 31.25, 0.9922, NULL, NULL),
-	(14821, 976.5, 31.5, 0.992, NULL, NULL),
-	(14822, 976.5, 31.75, 0.9918, NULL, NULL),
-	(14823, 976.5, 32, 0.9916, NULL, NULL),
-	(14824, 976.5, 32.25, 0.9915, NULL, NULL),
-	(14825, 976.5, 32.5, 0.9913, NULL, NULL),
-	(14826, 976.5, 32.75, 0.9911, NULL, NULL),
-	(14827, 976.5, 33, 0.9909, NULL, NULL),
-	(14828, 976.5, 33.25, 0.9908, NULL, NULL),
-	(14829, 976.5, 33.5, 0.9906, NULL, NULL),
-	(14830, 976.5, 33.75, 0.9904, NULL, NULL),
-	(14831, 976.5, 34, 0.9902, NULL, NULL),
-	(14832, 976.5, 34.25, 0.9901, NULL, NULL),
-	(14833, 976.5, 34.5, 0.9899, NULL, NULL),
-	(14834, 976.5, 34.75, 0.9897, NULL, NULL),
-	(14835, 976.5, 35, 0.9895, NULL, NULL),
-	(14836, 976.5, 35.25, 0.9894, NULL, NULL),
-	(14837, 976.5, 35.5, 0.9892, NULL, NULL),
-	(14838, 976.5, 35.75, 0.989, NULL, NULL),
-	(14839, 976.5, 36, 0.9888, NULL, NULL),
-	(14840, 976.5, 36.25, 0.9887, NULL, NULL),
-	(14841, 976.5, 36.5, 0.9885, NULL, NULL),
-	(14842, 976.5, 36.75, 0.9883, NULL, NULL),
-	(14843, 976.5, 37, 0.9882, NULL, NULL),
-	(14844, 976.5, 37.25, 0.988, NULL, NULL),
-	(14845, 976.5, 37.5, 0.9878, NULL, NULL),
-	(14846, 976.5, 37.75, 0.9876, NULL, NULL),
-	(14847, 976.5, 38, 0.9875, NULL, NULL),
-	(14848, 976.5, 38.25, 0.9873, NULL, NULL),
-	(14849, 976.5, 38.5, 0.9871, NULL, NULL),
-	(14850, 976.5, 38.75, 0.9869, NULL, NULL),
-	(14851, 976.5, 39, 0.9868, NULL, NULL),
-	(14852, 976.5, 39.25, 0.9866, NULL, NULL),
-	(14853, 976.5, 39.5, 0.9864, NULL, NULL),
-	(14854, 976.5, 39.75, 0.9862, NULL, NULL),
-	(14855, 976.5, 40, 0.9861, NULL, NULL),
-	(14856, 976.5, 40.25, 0.9859, NULL, NULL),
-	(14857, 976.5, 40.5, 0.9857, NULL, NULL),
-	(14858, 976.5, 40.75, 0.9855, NULL, NULL),
-	(14859, 976.5, 41, 0.9854, NULL, NULL),
-	(14860, 976.5, 41.25, 0.9852, NULL, NULL),
-	(14861, 976.5, 41.5, 0.985, NULL, NULL),
-	(14862, 976.5, 41.75, 0.9848, NULL, NULL),
-	(14863, 976.5, 42, 0.9847, NULL, NULL),
-	(14864, 976.5, 42.25, 0.9845, NULL, NULL),
-	(14865, 976.5, 42.5, 0.9843, NULL, NULL),
-	(14866, 976.5, 42.75, 0.9841, NULL, NULL),
-	(14867, 976.5, 43, 0.9839, NULL, NULL),
-	(14868, 976.5, 43.25, 0.9838, NULL, NULL),
-	(14869, 976.5, 43.5, 0.9836, NULL, NULL),
-	(14870, 976.5, 43.75, 0.9834, NULL, NULL),
-	(14871, 976.5, 44, 0.9832, NULL, NULL),
-	(14872, 976.5, 44.25, 0.9831, NULL, NULL),
-	(14873, 976.5, 44.5, 0.9829, NULL, NULL),
-	(14874, 976.5, 44.75, 0.9827, NULL, NULL),
-	(14875, 976.5, 45, 0.9825, NULL, NULL),
-	(14876, 976.5, 45.25, 0.9824, NULL, NULL),
-	(14877, 976.5, 45.5, 0.9822, NULL, NULL),
-	(14878, 976.5, 45.75, 0.982, NULL, NULL),
-	(14879, 976.5, 46, 0.9818, NULL, NULL),
-	(14880, 976.5, 46.25, 0.9817, NULL, NULL),
-	(14881, 976.5, 46.5, 0.9815, NULL, NULL),
-	(14882, 976.5, 46.75, 0.9813, NULL, NULL),
-	(14883, 976.5, 47, 0.9811, NULL, NULL),
-	(14884, 976.5, 47.25, 0.981, NULL, NULL),
-	(14885, 976.5, 47.5, 0.9808, NULL, NULL),
-	(14886, 976.5, 47.75, 0.9806, NULL, NULL),
-	(14887, 976.5, 48, 0.9804, NULL, NULL),
-	(14888, 976.5, 48.25, 0.9803, NULL, NULL),
-	(14889, 976.5, 48.5, 0.9801, NULL, NULL),
-	(14890, 976.5, 48.75, 0.9799, NULL, NULL),
-	(14891, 976.5, 49, 0.9797, NULL, NULL),
-	(14892, 976.5, 49.25, 0.9796, NULL, NULL),
-	(14893, 976.5, 49.5, 0.9794, NULL, NULL),
-	(14894, 976.5, 49.75, 0.9792, NULL, NULL),
-	(14895, 976.5, 50, 0.979, NULL, NULL),
-	(14896, 977, 15, 1.0035, NULL, NULL),
-	(14897, 977, 15.25, 1.0033, NULL, NULL),
-	(14898, 977, 15.5, 1.0031, NULL, NULL),
-	(14899, 977, 15.75, 1.0029, NULL, NULL),
-	(14900, 977, 16, 1.0028, NULL, NULL),
-	(14901, 977, 16.25, 1.0026, NULL, NULL),
-	(14902, 977, 16.5, 1.0024, NULL, NULL),
-	(14903, 977, 16.75, 1.0023, NULL, NULL),
-	(14904, 977, 17, 1.0021, NULL, NULL),
-	(14905, 977, 17.25, 1.0019, NULL, NULL),
-	(14906, 977, 17.5, 1.0017, NULL, NULL),
-	(14907, 977, 17.75, 1.0016, NULL, NULL),
-	(14908, 977, 18, 1.0014, NULL, NULL),
-	(14909, 977, 18.25, 1.0012, NULL, NULL),
-	(14910, 977, 18.5, 1.001, NULL, NULL),
-	(14911, 977, 18.75, 1.0009, NULL, NULL),
-	(14912, 977, 19, 1.0007, NULL, NULL),
-	(14913, 977, 19.25, 1.0005, NULL, NULL),
-	(14914, 977, 19.5, 1.0003, NULL, NULL),
-	(14915, 977, 19.75, 1.0002, NULL, NULL),
-	(14916, 977, 20, 1, NULL, NULL),
-	(14917, 977, 20.25, 0.9998, NULL, NULL),
-	(14918, 977, 20.5, 0.9997, NULL, NULL),
-	(14919, 977, 20.75, 0.9995, NULL, NULL),
-	(14920, 977, 21, 0.9993, NULL, NULL),
-	(14921, 977, 21.25, 0.9991, NULL, NULL),
-	(14922, 977, 21.5, 0.999, NULL, NULL),
-	(14923, 977, 21.75, 0.9988, NULL, NULL),
-	(14924, 977, 22, 0.9986, NULL, NULL),
-	(14925, 977, 22.25, 0.9984, NULL, NULL),
-	(14926, 977, 22.5, 0.9983, NULL, NULL),
-	(14927, 977, 22.75, 0.9981, NULL, NULL),
-	(14928, 977, 23, 0.9979, NULL, NULL),
-	(14929, 977, 23.25, 0.9977, NULL, NULL),
-	(14930, 977, 23.5, 0.9976, NULL, NULL),
-	(14931, 977, 23.75, 0.9974, NULL, NULL),
-	(14932, 977, 24, 0.9972, NULL, NULL),
-	(14933, 977, 24.25, 0.997, NULL, NULL),
-	(14934, 977, 24.5, 0.9969, NULL, NULL),
-	(14935, 977, 24.75, 0.9967, NULL, NULL),
-	(14936, 977, 25, 0.9965, NULL, NULL),
-	(14937, 977, 25.25, 0.9964, NULL, NULL),
-	(14938, 977, 25.5, 0.9962, NULL, NULL),
-	(14939, 977, 25.75, 0.996, NULL, NULL),
-	(14940, 977, 26, 0.9958, NULL, NULL),
-	(14941, 977, 26.25, 0.9957, NULL, NULL),
-	(14942, 977, 26.5, 0.9955, NULL, NULL),
-	(14943, 977, 26.75, 0.9953, NULL, NULL),
-	(14944, 977, 27, 0.9951, NULL, NULL),
-	(14945, 977, 27.25, 0.995, NULL, NULL),
-	(14946, 977, 27.5, 0.9948, NULL, NULL),
-	(14947, 977, 27.75, 0.9946, NULL, NULL),
-	(14948, 977, 28, 0.9944, NULL, NULL),
-	(14949, 977, 28.25, 0.9943, NULL, NULL),
-	(14950, 977, 28.5, 0.9941, NULL, NULL),
-	(14951, 977, 28.75, 0.9939, NULL, NULL),
-	(14952, 977, 29, 0.9937, NULL, NULL),
-	(14953, 977, 29.25, 0.9936, NULL, NULL),
-	(14954, 977, 29.5, 0.9934, NULL, NULL),
-	(14955, 977, 29.75, 0.9932, NULL, NULL),
-	(14956, 977, 30, 0.993, NULL, NULL),
-	(14957, 977, 30.25, 0.9929, NULL, NULL),
-	(14958, 977, 30.5, 0.9927, NULL, NULL),
-	(14959, 977, 30.75, 0.9925, NULL, NULL),
-	(14960, 977, 31, 0.9923, NULL, NULL),
-	(14961, 977, 31.25, 0.9922, NULL, NULL),
-	(14962, 977, 31.5, 0.992, NULL, NULL),
-	(14963, 977, 31.75, 0.9918, NULL, NULL),
-	(14964, 977, 32, 0.9916, NULL, NULL),
-	(14965, 977, 32.25, 0.9915, NULL, NULL),
-	(14966, 977, 32.5, 0.9913, NULL, NULL),
-	(14967, 977, 32.75, 0.9911, NULL, NULL),
-	(14968, 977, 33, 0.991, NULL, NULL),
-	(14969, 977, 33.25, 0.9908, NULL, NULL),
-	(14970, 977, 33.5, 0.9906, NULL, NULL),
-	(14971, 977, 33.75, 0.9904, NULL, NULL),
-	(14972, 977, 34, 0.9903, NULL, NULL),
-	(14973, 977, 34.25, 0.9901, NULL, NULL),
-	(14974, 977, 34.5, 0.9899, NULL, NULL),
-	(14975, 977, 34.75, 0.9897, NULL, NULL),
-	(14976, 977, 35, 0.9896, NULL, NULL),
-	(14977, 977, 35.25, 0.9894, NULL, NULL),
-	(14978, 977, 35.5, 0.9892, NULL, NULL),
-	(14979, 977, 35.75, 0.989, NULL, NULL),
-	(14980, 977, 36, 0.9889, NULL, NULL),
-	(14981, 977, 36.25, 0.9887, NULL, NULL),
-	(14982, 977, 36.5, 0.9885, NULL, NULL),
-	(14983, 977, 36.75, 0.9883, NULL, NULL),
-	(14984, 977, 37, 0.9882, NULL, NULL),
-	(14985, 977, 37.25, 0.988, NULL, NULL),
-	(14986, 977, 37.5, 0.9878, NULL, NULL),
-	(14987, 977, 37.75, 0.9876, NULL, NULL),
-	(14988, 977, 38, 0.9875, NULL, NULL),
-	(14989, 977, 38.25, 0.9873, NULL, NULL),
-	(14990, 977, 38.5, 0.9871, NULL, NULL),
-	(14991, 977, 38.75, 0.9869, NULL, NULL),
-	(14992, 977, 39, 0.9868, NULL, NULL),
-	(14993, 977, 39.25, 0.9866, NULL, NULL),
-	(14994, 977, 39.5, 0.9864, NULL, NULL),
-	(14995, 977, 39.75, 0.9862, NULL, NULL),
-	(14996, 977, 40, 0.9861, NULL, NULL),
-	(14997, 977, 40.25, 0.9859, NULL, NULL),
-	(14998, 977, 40.5, 0.9857, NULL, NULL),
-	(14999, 977, 40.75, 0.9855, NULL, NULL),
-	(15000, 977, 41, 0.9854, NULL, NULL),
-	(15001, 977, 41.25, 0.9852, NULL, NULL),
-	(15002, 977, 41.5, 0.985, NULL, NULL),
-	(15003, 977, 41.75, 0.9848, NULL, NULL),
-	(15004, 977, 42, 0.9847, NULL, NULL),
-	(15005, 977, 42.25, 0.9845, NULL, NULL),
-	(15006, 977, 42.5, 0.9843, NULL, NULL),
-	(15007, 977, 42.75, 0.9841, NULL, NULL),
-	(15008, 977, 43, 0.984, NULL, NULL),
-	(15009, 977, 43.25, 0.9838, NULL, NULL),
-	(15010, 977, 43.5, 0.9836, NULL, NULL),
-	(15011, 977, 43.75, 0.9834, NULL, NULL),
-	(15012, 977, 44, 0.9833, NULL, NULL),
-	(15013, 977, 44.25, 0.9831, NULL, NULL),
-	(15014, 977, 44.5, 0.9829, NULL, NULL),
-	(15015, 977, 44.75, 0.9827, NULL, NULL),
-	(15016, 977, 45, 0.9826, NULL, NULL),
-	(15017, 977, 45.25, 0.9824, NULL, NULL),
-	(15018, 977, 45.5, 0.9822, NULL, NULL),
-	(15019, 977, 45.75, 0.982, NULL, NULL),
-	(15020, 977, 46, 0.9819, NULL, NULL),
-	(15021, 977, 46.25, 0.9817, NULL, NULL),
-	(15022, 977, 46.5, 0.9815, NULL, NULL),
-	(15023, 977, 46.75, 0.9813, NULL, NULL),
-	(15024, 977, 47, 0.9812, NULL, NULL),
-	(15025, 977, 47.25, 0.981, NULL, NULL),
-	(15026, 977, 47.5, 0.9808, NULL, NULL),
-	(15027, 977, 47.75, 0.9806, NULL, NULL),
-	(15028, 977, 48, 0.9805, NULL, NULL),
-	(15029, 977, 48.25, 0.9803, NULL, NULL),
-	(15030, 977, 48.5, 0.9801, NULL, NULL),
-	(15031, 977, 48.75, 0.9799, NULL, NULL),
-	(15032, 977, 49, 0.9798, NULL, NULL),
-	(15033, 977, 49.25, 0.9796, NULL, NULL),
-	(15034, 977, 49.5, 0.9794, NULL, NULL),
-	(15035, 977, 49.75, 0.9792, NULL, NULL),
-	(15036, 977, 50, 0.9791, NULL, NULL),
-	(15037, 977.5, 15, 1.0035, NULL, NULL),
-	(15038, 977.5, 15.25, 1.0033, NULL, NULL),
-	(15039, 977.5, 15.5, 1.0031, NULL, NULL),
-	(15040, 977.5, 15.75, 1.0029, NULL, NULL),
-	(15041, 977.5, 16, 1.0028, NULL, NULL),
-	(15042, 977.5, 16.25, 1.0026, NULL, NULL),
-	(15043, 977.5, 16.5, 1.0024, NULL, NULL),
-	(15044, 977.5, 16.75, 1.0023, NULL, NULL),
-	(15045, 977.5, 17, 1.0021, NULL, NULL),
-	(15046, 977.5, 17.25, 1.0019, NULL, NULL),
-	(15047, 977.5, 17.5, 1.0017, NULL, NULL),
-	(15048, 977.5, 17.75, 1.0016, NULL, NULL),
-	(15049, 977.5, 18, 1.0014, NULL, NULL),
-	(15050, 977.5, 18.25, 1.0012, NULL, NULL),
-	(15051, 977.5, 18.5, 1.001, NULL, NULL),
-	(15052, 977.5, 18.75, 1.0009, NULL, NULL),
-	(15053, 977.5, 19, 1.0007, NULL, NULL),
-	(15054, 977.5, 19.25, 1.0005, NULL, NULL),
-	(15055, 977.5, 19.5, 1.0003, NULL, NULL),
-	(15056, 977.5, 19.75, 1.0002, NULL, NULL),
-	(15057, 977.5, 20, 1, NULL, NULL),
-	(15058, 977.5, 20.25, 0.9998, NULL, NULL),
-	(15059, 977.5, 20.5, 0.9997, NULL, NULL),
-	(15060, 977.5, 20.75, 0.9995, NULL, NULL),
-	(15061, 977.5, 21, 0.9993, NULL, NULL),
-	(15062, 977.5, 21.25, 0.9991, NULL, NULL),
-	(15063, 977.5, 21.5, 0.999, NULL, NULL),
-	(15064, 977.5, 21.75, 0.9988, NULL, NULL),
-	(15065, 977.5, 22, 0.9986, NULL, NULL),
-	(15066, 977.5, 22.25, 0.9984, NULL, NULL),
-	(15067, 977.5, 22.5, 0.9983, NULL, NULL),
-	(15068, 977.5, 22.75, 0.9981, NULL, NULL),
-	(15069, 977.5, 23, 0.9979, NULL, NULL),
-	(15070, 977.5, 23.25, 0.9977, NULL, NULL),
-	(15071, 977.5, 23.5, 0.9976, NULL, NULL),
-	(15072, 977.5, 23.75, 0.9974, NULL, NULL),
-	(15073, 977.5, 24, 0.9972, NULL, NULL),
-	(15074, 977.5, 24.25, 0.997, NULL, NULL),
-	(15075, 977.5, 24.5, 0.9969, NULL, NULL),
-	(15076, 977.5, 24.75, 0.9967, NULL, NULL),
-	(15077, 977.5, 25, 0.9965, NULL, NULL),
-	(15078, 977.5, 25.25, 0.9964, NULL, NULL),
-	(15079, 977.5, 25.5, 0.9962, NULL, NULL),
-	(15080, 977.5, 25.75, 0.996, NULL, NULL),
-	(15081, 977.5, 26, 0.9958, NULL, NULL),
-	(15082, 977.5, 26.25, 0.9957, NULL, NULL),
-	(15083, 977.5, 26.5, 0.9955, NULL, NULL),
-	(15084, 977.5, 26.75, 0.9953, NULL, NULL),
-	(15085, 977.5, 27, 0.9951, NULL, NULL),
-	(15086, 977.5, 27.25, 0.995, NULL, NULL),
-	(15087, 977.5, 27.5, 0.9948, NULL, NULL),
-	(15088, 977.5, 27.75, 0.9946, NULL, NULL),
-	(15089, 977.5, 28, 0.9944, NULL, NULL),
-	(15090, 977.5, 28.5, 0.9941, NULL, NULL),
-	(15091, 977.5, 28.75, 0.9939, NULL, NULL),
-	(15092, 977.5, 29, 0.9937, NULL, NULL),
-	(15093, 977.5, 29.25, 0.9936, NULL, NULL),
-	(15094, 977.5, 29.5, 0.9934, NULL, NULL),
-	(15095, 977.5, 29.75, 0.9932, NULL, NULL),
-	(15096, 977.5, 30, 0.993, NULL, NULL),
-	(15097, 977.5, 30.25, 0.9929, NULL, NULL),
-	(15098, 977.5, 30.5, 0.9927, NULL, NULL),
-	(15099, 977.5, 30.75, 0.9925, NULL, NULL),
-	(15100, 977.5, 31, 0.9924, NULL, NULL),
-	(15101, 977.5, 31.25, 0.9922, NULL, NULL),
-	(15102, 977.5, 31.5, 0.992, NULL, NULL),
-	(15103, 977.5, 31.75, 0.9918, NULL, NULL),
-	(15104, 977.5, 32, 0.9917, NULL, NULL),
-	(15105, 977.5, 32.25, 0.9915, NULL, NULL),
-	(15106, 977.5, 32.5, 0.9913, NULL, NULL),
-	(15107, 977.5, 32.75, 0.9911, NULL, NULL),
-	(15108, 977.5, 33, 0.991, NULL, NULL),
-	(15109, 977.5, 33.25, 0.9908, NULL, NULL),
-	(15110, 977.5, 33.5, 0.9906, NULL, NULL),
-	(15111, 977.5, 33.75, 0.9904, NULL, NULL),
-	(15112, 977.5, 34, 0.9903, NULL, NULL),
-	(15113, 977.5, 34.25, 0.9901, NULL, NULL),
-	(15114, 977.5, 34.5, 0.9899, NULL, NULL),
-	(15115, 977.5, 34.75, 0.9897, NULL, NULL),
-	(15116, 977.5, 35, 0.9896, NULL, NULL),
-	(15117, 977.5, 35.25, 0.9894, NULL, NULL),
-	(15118, 977.5, 35.5, 0.9892, NULL, NULL),
-	(15119, 977.5, 35.75, 0.989, NULL, NULL),
-	(15120, 977.5, 36, 0.9889, NULL, NULL),
-	(15121, 977.5, 36.25, 0.9887, NULL, NULL),
-	(15122, 977.5, 36.5, 0.9885, NULL, NULL),
-	(15123, 977.5, 36.75, 0.9883, NULL, NULL),
-	(15124, 977.5, 37, 0.9882, NULL, NULL),
-	(15125, 977.5, 37.25, 0.988, NULL, NULL),
-	(15126, 977.5, 37.5, 0.9878, NULL, NULL),
-	(15127, 977.5, 37.75, 0.9876, NULL, NULL),
-	(15128, 977.5, 38, 0.9875, NULL, NULL),
-	(15129, 977.5, 38.25, 0.9873, NULL, NULL),
-	(15130, 977.5, 38.5, 0.9871, NULL, NULL),
-	(15131, 977.5, 38.75, 0.9869, NULL, NULL),
-	(15132, 977.5, 39, 0.9868, NULL, NULL),
-	(15133, 977.5, 39.25, 0.9866, NULL, NULL),
-	(15134, 977.5, 39.5, 0.9864, NULL, NULL),
-	(15135, 977.5, 39.75, 0.9862, NULL, NULL),
-	(15136, 977.5, 40, 0.9861, NULL, NULL),
-	(15137, 977.5, 40.25, 0.9859, NULL, NULL),
-	(15138, 977.5, 40.5, 0.9857, NULL, NULL),
-	(15139, 977.5, 40.75, 0.9855, NULL, NULL),
-	(15140, 977.5, 41, 0.9854, NULL, NULL),
-	(15141, 977.5, 41.25, 0.9852, NULL, NULL),
-	(15142, 977.5, 41.5, 0.985, NULL, NULL),
-	(15143, 977.5, 41.75, 0.9848, NULL, NULL),
-	(15144, 977.5, 42, 0.9847, NULL, NULL),
-	(15145, 977.5, 42.25, 0.9845, NULL, NULL),
-	(15146, 977.5, 42.5, 0.9843, NULL, NULL),
-	(15147, 977.5, 42.75, 0.9841, NULL, NULL),
-	(15148, 977.5, 43, 0.984, NULL, NULL),
-	(15149, 977.5, 43.25, 0.9838, NULL, NULL),
-	(15150, 977.5, 43.5, 0.9836, NULL, NULL),
-	(15151, 977.5, 43.75, 0.9834, NULL, NULL),
-	(15152, 977.5, 44, 0.9833, NULL, NULL),
-	(15153, 977.5, 44.25, 0.9831, NULL, NULL),
-	(15154, 977.5, 44.5, 0.9829, NULL, NULL),
-	(15155, 977.5, 44.75, 0.9827, NULL, NULL),
-	(15156, 977.5, 45, 0.9826, NULL, NULL),
-	(15157, 977.5, 45.25, 0.9824, NULL, NULL),
-	(15158, 977.5, 45.5, 0.9822, NULL, NULL),
-	(15159, 977.5, 45.75, 0.982, NULL, NULL),
-	(15160, 977.5, 46, 0.9819, NULL, NULL),
-	(15161, 977.5, 46.25, 0.9817, NULL, NULL),
-	(15162, 977.5, 46.5, 0.9815, NULL, NULL),
-	(15163, 977.5, 46.75, 0.9813, NULL, NULL),
-	(15164, 977.5, 47, 0.9812, NULL, NULL),
-	(15165, 977.5, 47.25, 0.981, NULL, NULL),
-	(15166, 977.5, 47.5, 0.9808, NULL, NULL),
-	(15167, 977.5, 47.75, 0.9806, NULL, NULL),
-	(15168, 977.5, 48, 0.9805, NULL, NULL),
-	(15169, 977.5, 48.25, 0.9803, NULL, NULL),
-	(15170, 977.5, 48.5, 0.9801, NULL, NULL),
-	(15171, 977.5, 48.75, 0.9799, NULL, NULL),
-	(15172, 977.5, 49, 0.9798, NULL, NULL),
-	(15173, 977.5, 49.25, 0.9796, NULL, NULL),
-	(15174, 977.5, 49.5, 0.9794, NULL, NULL),
-	(15175, 977.5, 49.75, 0.9792, NULL, NULL),
-	(15176, 977.5, 50, 0.9791, NULL, NULL);
-/*!40000 ALTER TABLE `table60b` ENABLE KEYS */;
-
-/*!40101 SET SQL_MODE=IFNULL(@OLD_SQL_MODE, '') */;
-/*!40014 SET FOREIGN_KEY_CHECKS=IFNULL(@OLD_FOREIGN_KEY_CHECKS, 1) */;
-/*!40101 SET CHARACTER_SET_CLIENT=@OLD_CHARACTER_SET_CLIENT */;
-/*!40111 SET SQL_NOTES=IFNULL(@OLD_SQL_NOTES, 1) */;
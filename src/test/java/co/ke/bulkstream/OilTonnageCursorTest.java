@@ -0,0 +1,59 @@
+package co.ke.bulkstream;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OilTonnageCursorTest {
+
+    @Test
+    void decodesWhatItEncodes() {
+        for (OilTonnageCursor cursor : new OilTonnageCursor[] {
+                new OilTonnageCursor(LocalDateTime.of(2025, 6, 12, 14, 30), 1),
+                new OilTonnageCursor(LocalDateTime.of(2025, 6, 12, 14, 30, 5, 123_456_789), Long.MAX_VALUE),
+                new OilTonnageCursor(LocalDateTime.of(1999, 12, 31, 23, 59, 59), 0) }) {
+            assertEquals(cursor, OilTonnageCursor.decode(cursor.encode()));
+        }
+    }
+
+    @Test
+    void tokenIsUrlSafe() {
+        String token = new OilTonnageCursor(LocalDateTime.of(2025, 6, 12, 14, 30, 5, 999_000_000), 12345).encode();
+        assertFalse(token.contains("+") || token.contains("/") || token.contains("="), token);
+    }
+
+    @Test
+    void cursorOfRowUsesItsDateAndId() {
+        OilTonnage row = new OilTonnage();
+        row.setId(42L);
+        row.setCalculationDate(LocalDateTime.of(2025, 1, 2, 3, 4, 5));
+        assertEquals(new OilTonnageCursor(row.getCalculationDate(), 42), OilTonnageCursor.of(row));
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        for (String token : new String[] {
+                "",
+                "not base64!",
+                encode("no separator"),
+                encode("2025-06-12T14:30|"),
+                encode("2025-06-12T14:30|abc"),
+                encode("yesterday|5"),
+                encode("|5"),
+                encode("2025-06-12T14:30|99999999999999999999") }) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> OilTonnageCursor.decode(token), token);
+            assertEquals("Invalid cursor: " + token, e.getMessage());
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,134 @@
+package co.ke.bulkstream;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OilTonnageSearchTest {
+
+    @Test
+    void decimalMatchesHalfAUnitOfItsLastDigit() {
+        List<Range> ranges = numberRanges("density:912.5");
+        assertEquals(1, ranges.size());
+        assertRange(ranges.get(0), "density", 912.45, 912.55);
+
+        assertRange(numberRanges("volume:1000").get(0), "volume", 999.5, 1000.5);
+        assertRange(numberRanges("vcf:0.9871").get(0), "vcf", 0.98705, 0.98715);
+        assertRange(numberRanges("temperature:-3.0").get(0), "temperature", -3.05, -2.95);
+    }
+
+    @Test
+    void fieldPrefixIsCaseInsensitiveAndTrimmed() {
+        List<Range> ranges = numberRanges("  Density : 900.5 ");
+        assertEquals(1, ranges.size());
+        assertRange(ranges.get(0), "density", 900.45, 900.55);
+    }
+
+    @Test
+    void bareNumberOnlySearchesPlausibleColumns() {
+        assertEquals(List.of("volume", "tonnage", "density"), fields("905"));
+        assertEquals(List.of("volume", "tonnage", "temperature", "vcf"), fields("0.98"));
+        assertEquals(List.of("temperature"), fields("-3"));
+        // Bounds of the plausible ranges are inclusive
+        assertEquals(List.of("volume", "tonnage", "density"), fields("500"));
+        assertEquals(List.of("volume", "tonnage", "temperature"), fields("150"));
+        assertEquals(List.of("volume", "tonnage", "temperature", "vcf"), fields("1.5"));
+        assertEquals(List.of("volume", "tonnage"), fields("5000"));
+        // Zero fits temperature only; negative volumes are never stored
+        assertEquals(List.of("temperature"), fields("0"));
+    }
+
+    @Test
+    void dateMatchesTheWholePeriod() {
+        assertPeriod("2025-06", LocalDateTime.of(2025, 6, 1, 0, 0), LocalDateTime.of(2025, 7, 1, 0, 0));
+        assertPeriod("2025-12-31", LocalDateTime.of(2025, 12, 31, 0, 0), LocalDateTime.of(2026, 1, 1, 0, 0));
+        assertPeriod("2025-06-12 14", LocalDateTime.of(2025, 6, 12, 14, 0), LocalDateTime.of(2025, 6, 12, 15, 0));
+        assertPeriod("2025-06-12T14:30", LocalDateTime.of(2025, 6, 12, 14, 30), LocalDateTime.of(2025, 6, 12, 14, 31));
+        assertPeriod("2025-06-12 14:30:59", LocalDateTime.of(2025, 6, 12, 14, 30, 59),
+                LocalDateTime.of(2025, 6, 12, 14, 31));
+    }
+
+    @Test
+    void anythingElseIsFreeText() {
+        assertNull(OilTonnageSearch.toSpecifications("diesel"));
+        assertNull(OilTonnageSearch.toSpecifications("2025-13"));
+        assertNull(OilTonnageSearch.toSpecifications("2025-02-30"));
+        assertNull(OilTonnageSearch.toSpecifications("density:abc"));
+        assertNull(OilTonnageSearch.toSpecifications("colour:5"));
+        assertNull(OilTonnageSearch.toSpecifications("1e3"));
+        assertNull(OilTonnageSearch.toSpecifications("912."));
+    }
+
+    @Test
+    void fieldPrefixDoesNotApplyToDates() {
+        assertNull(OilTonnageSearch.toSpecifications("density:2025-06"));
+    }
+
+    private record Range(String field, double low, double high) {
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Range> numberRanges(String term) {
+        List<Specification<OilTonnage>> specifications = OilTonnageSearch.toSpecifications(term);
+        List<Range> ranges = new ArrayList<>();
+        for (Specification<OilTonnage> specification : specifications) {
+            Root<OilTonnage> root = mock(Root.class);
+            when(root.get(anyString())).thenReturn(mock(Path.class));
+            CriteriaBuilder cb = mock(CriteriaBuilder.class);
+            specification.toPredicate(root, mock(CriteriaQuery.class), cb);
+
+            ArgumentCaptor<String> field = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<Double> low = ArgumentCaptor.forClass(Double.class);
+            ArgumentCaptor<Double> high = ArgumentCaptor.forClass(Double.class);
+            verify(root).get(field.capture());
+            verify(cb).between(any(Expression.class), low.capture(), high.capture());
+            ranges.add(new Range(field.getValue(), low.getValue(), high.getValue()));
+        }
+        return ranges;
+    }
+
+    private static List<String> fields(String term) {
+        return numberRanges(term).stream().map(Range::field).toList();
+    }
+
+    private static void assertRange(Range range, String field, double low, double high) {
+        assertEquals(field, range.field());
+        assertEquals(low, range.low(), 1e-9);
+        assertEquals(high, range.high(), 1e-9);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void assertPeriod(String term, LocalDateTime from, LocalDateTime to) {
+        List<Specification<OilTonnage>> specifications = OilTonnageSearch.toSpecifications(term);
+        assertEquals(1, specifications.size());
+
+        Root<OilTonnage> root = mock(Root.class);
+        when(root.get(anyString())).thenReturn(mock(Path.class));
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        specifications.get(0).toPredicate(root, mock(CriteriaQuery.class), cb);
+
+        ArgumentCaptor<LocalDateTime> lower = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> upper = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(cb).greaterThanOrEqualTo(any(Expression.class), lower.capture());
+        verify(cb).lessThan(any(Expression.class), upper.capture());
+        assertEquals(from, lower.getValue());
+        assertEquals(to, upper.getValue());
+    }
+}
@@ -0,0 +1,151 @@
+package co.ke.bulkstream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// One delta per fold, so a summary overlaps as many folds as possible
+@SpringBootTest(properties = "bulkstream.rollup.fold-batch-rows=1")
+@ActiveProfiles("test")
+class TonnageRollupServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 12, 31);
+
+    @Autowired
+    private TonnageRollupService rollupService;
+
+    @Autowired
+    private OilTonnageRepository oilTonnageRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void clear() {
+        jdbcTemplate.update("DELETE FROM oil_tonnage_rollup_deltas");
+        jdbcTemplate.update("DELETE FROM oil_tonnage_daily_rollups");
+        jdbcTemplate.update("DELETE FROM oil_tonnages");
+    }
+
+    @Test
+    void foldedDeltasMatchRebuild() {
+        for (int tx = 0; tx < 5; tx++) {
+            List<OilTonnage> rows = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                int n = tx * 20 + i;
+                rows.add(row(LocalDateTime.of(2024, 1 + n % 3, 1 + n % 5, 10, 0), 900 + n % 40, 15 + n % 30,
+                        1000 + n));
+            }
+            insert(rows);
+        }
+        List<TonnageSummary> pending = rollupService.summary(FROM, TO, SummaryGranularity.DAY);
+
+        while (rollupService.fold() > 0) {
+        }
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM oil_tonnage_rollup_deltas", Long.class)
+                .longValue());
+        List<TonnageSummary> folded = rollupService.summary(FROM, TO, SummaryGranularity.DAY);
+        List<Object[]> foldedRows = rollupRows();
+
+        RollupRebuildResult rebuilt = rollupService.rebuild();
+        assertEquals(100, rebuilt.getSourceRows());
+        List<TonnageSummary> fromRebuild = rollupService.summary(FROM, TO, SummaryGranularity.DAY);
+
+        assertSameSummaries(fromRebuild, pending);
+        assertSameSummaries(fromRebuild, folded);
+        List<Object[]> rebuiltRows = rollupRows();
+        assertEquals(rebuiltRows.size(), foldedRows.size());
+        for (int i = 0; i < rebuiltRows.size(); i++) {
+            assertEquals(rebuiltRows.get(i)[0], foldedRows.get(i)[0]);
+            assertEquals(rebuiltRows.get(i)[1], foldedRows.get(i)[1]);
+            assertEquals(rebuiltRows.get(i)[2], foldedRows.get(i)[2]);
+            assertEquals((Double) rebuiltRows.get(i)[3], (Double) foldedRows.get(i)[3], 1e-6);
+        }
+    }
+
+    @Test
+    void summaryStaysExactWhileFoldsCommit() throws Exception {
+        int transactions = 200;
+        for (int i = 0; i < transactions; i++) {
+            insert(List.of(row(LocalDateTime.of(2024, 6, 1, 12, 0), 950, 20, 1000)));
+        }
+
+        CompletableFuture<Void> folding = CompletableFuture.runAsync(() -> {
+            while (rollupService.fold() > 0) {
+            }
+        });
+        int summaries = 0;
+        while (!folding.isDone() || summaries == 0) {
+            List<TonnageSummary> summary = rollupService.summary(FROM, TO, SummaryGranularity.DAY);
+            assertEquals(1, summary.size());
+            assertEquals(transactions, summary.get(0).getCount());
+            assertEquals(transactions * 1000.0, summary.get(0).getSumVolume(), 1e-6);
+            summaries++;
+        }
+        folding.get(30, TimeUnit.SECONDS);
+
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM oil_tonnage_rollup_deltas", Long.class)
+                .longValue());
+        assertEquals(transactions, rollupService.summary(FROM, TO, SummaryGranularity.DAY).get(0).getCount());
+    }
+
+    private void insert(List<OilTonnage> rows) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            rollupService.record(oilTonnageRepository.saveAll(rows));
+        });
+    }
+
+    private List<Object[]> rollupRows() {
+        return jdbcTemplate.query("SELECT rollup_date, density_band, row_count, sum_tonnage "
+                        + "FROM oil_tonnage_daily_rollups ORDER BY rollup_date, density_band",
+                (rs, rowNum) -> new Object[] {
+                        rs.getDate(1).toLocalDate(), rs.getDouble(2), rs.getLong(3), rs.getDouble(4) });
+    }
+
+    private static OilTonnage row(LocalDateTime calculationDate, double density, double temperature, double volume) {
+        OilTonnage row = new OilTonnage();
+        row.setCalculationDate(calculationDate);
+        row.setDensity(density);
+        row.setTemperature(temperature);
+        row.setVolume(volume);
+        row.setVcf(0.99);
+        row.setTonnage(volume * density * 0.99 / 1000);
+        row.setVcfMethod(VcfMethod.NEAREST);
+        return row;
+    }
+
+    private static void assertSameSummaries(List<TonnageSummary> expected, List<TonnageSummary> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            TonnageSummary e = expected.get(i);
+            TonnageSummary a = actual.get(i);
+            assertEquals(e.getPeriod(), a.getPeriod());
+            assertEquals(e.getDensityBand(), a.getDensityBand());
+            assertEquals(e.getCount(), a.getCount());
+            assertEquals(e.getSumVolume(), a.getSumVolume(), 1e-6);
+            assertEquals(e.getSumTonnage(), a.getSumTonnage(), 1e-6);
+            assertEquals(e.getMinTemperature(), a.getMinTemperature());
+            assertEquals(e.getMaxTemperature(), a.getMaxTemperature());
+            assertEquals(e.getMinDensity(), a.getMinDensity());
+            assertEquals(e.getMaxDensity(), a.getMaxDensity());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package co.ke.bulkstream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class VcfGridFileTest {
+
+    private static final String FINGERPRINT = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void mapsWhatWasWritten() throws IOException {
+        VcfGrid.Snapshot written = snapshot();
+        Path file = directory.resolve("t.bin");
+        VcfGridFile.write(file, written, FINGERPRINT);
+
+        VcfGrid.Snapshot mapped = VcfGridFile.map(file, FINGERPRINT, "t", 3, 7);
+        assertNotNull(mapped);
+        assertEquals(3, mapped.tableVersion());
+        assertEquals(7, mapped.version());
+        assertEquals(written.metadata().getRowCount(), mapped.metadata().getRowCount());
+        for (double density = 899; density <= 912; density += 0.25) {
+            for (double temperature = 14; temperature <= 26; temperature += 0.5) {
+                assertEquals(written.nearestVcf(density, temperature), mapped.nearestVcf(density, temperature));
+                assertEquals(written.interpolateVcf(density, temperature), mapped.interpolateVcf(density, temperature));
+            }
+        }
+    }
+
+    @Test
+    void rejectsOtherFingerprint() throws IOException {
+        Path file = directory.resolve("t.bin");
+        VcfGridFile.write(file, snapshot(), FINGERPRINT);
+
+        assertNull(VcfGridFile.map(file, FINGERPRINT.replace('9', '8'), "t", 1, 1));
+    }
+
+    @Test
+    void rejectsCorruptedPayload() throws IOException {
+        Path file = directory.resolve("t.bin");
+        VcfGridFile.write(file, snapshot(), FINGERPRINT);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 20] ^= 0x01; // A VCF, after the header the CRC covers
+        Files.write(file, bytes);
+
+        assertNull(VcfGridFile.map(file, FINGERPRINT, "t", 1, 1));
+    }
+
+    @Test
+    void rejectsTruncatedFile() throws IOException {
+        Path file = directory.resolve("t.bin");
+        VcfGridFile.write(file, snapshot(), FINGERPRINT);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 4));
+
+        assertNull(VcfGridFile.map(file, FINGERPRINT, "t", 1, 1));
+    }
+
+    @Test
+    void missingFileIsNotAnError() throws IOException {
+        assertNull(VcfGridFile.map(directory.resolve("absent.bin"), FINGERPRINT, "t", 1, 1));
+    }
+
+    /**
+     * Three densities with different temperature ranges.
+     */
+    private static VcfGrid.Snapshot snapshot() {
+        List<Vcftable> rows = new ArrayList<>();
+        long id = 1;
+        for (double density : new double[] { 900, 905, 910 }) {
+            for (double temperature = 15 + density % 10; temperature <= 25; temperature += 0.5) {
+                rows.add(new Vcftable(id++, density, temperature, 1.01 - (density - 900) / 10000 - temperature / 5000,
+                        "t"));
+            }
+        }
+        return VcfGrid.Snapshot.of("t", 1, rows, 1);
+    }
+}
@@ -0,0 +1,132 @@
+package co.ke.bulkstream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The grid against the repository queries it replaced, over the bundled table
+ * (the only one loaded, so the queries spanning every table see just it).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class VcfGridTest {
+
+    // density -> temperature -> vcf, as in the bundled CSV
+    private static NavigableMap<Double, NavigableMap<Double, Double>> table;
+
+    @Autowired
+    private VcfGrid vcfGrid;
+
+    @Autowired
+    private VcftableRepository repository;
+
+    @BeforeAll
+    static void readBundledTable() throws IOException {
+        table = new TreeMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource("vcf/table60b.csv").getInputStream(), StandardCharsets.UTF_8))) {
+            reader.readLine(); // id,density,temperature,vcf
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] cells = line.split(",");
+                table.computeIfAbsent(Double.parseDouble(cells[1]), d -> new TreeMap<>())
+                        .put(Double.parseDouble(cells[2]), Double.parseDouble(cells[3]));
+            }
+        }
+    }
+
+    @Test
+    void nearestMatchesRepositoryQueries() {
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            // Reaches past both ends of the table on each axis
+            double density = 890 + random.nextDouble() * 100;
+            double temperature = 5 + random.nextDouble() * 55;
+            String reading = "density " + density + ", temperature " + temperature;
+            double vcf = vcfGrid.nearestVcf(density, temperature);
+
+            assertEquals(repository.findVcfByClosestDensityAndTemperature(density, temperature).orElseThrow().getVcf(),
+                    vcf, reading);
+            assertEquals(repository.findNearestVcf(density, temperature).orElseThrow().getVcf(), vcf, reading);
+        }
+    }
+
+    @Test
+    void nearestReturnsTablePointsExactly() {
+        table.forEach((density, row) -> row.forEach((temperature, vcf) ->
+                assertEquals(vcf, vcfGrid.nearestVcf(density, temperature))));
+    }
+
+    @Test
+    void bilinearReturnsTablePoints() {
+        table.forEach((density, row) -> row.forEach((temperature, vcf) ->
+                assertEquals(vcf, vcfGrid.interpolateVcf(density, temperature).vcf(), 1e-9)));
+    }
+
+    @Test
+    void bilinearIsLinearBetweenTemperaturesOfOneDensity() {
+        table.forEach((density, row) -> {
+            Map.Entry<Double, Double> previous = null;
+            for (Map.Entry<Double, Double> point : row.entrySet()) {
+                if (previous != null) {
+                    double temperature = (previous.getKey() + point.getKey()) / 2;
+                    assertEquals((previous.getValue() + point.getValue()) / 2,
+                            vcfGrid.interpolateVcf(density, temperature).vcf(), 1e-9,
+                            "density " + density + ", temperature " + temperature);
+                }
+                previous = point;
+            }
+        });
+    }
+
+    @Test
+    void bilinearIsLinearBetweenDensities() {
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            double density = 900 + random.nextDouble() * 77.5;
+            double lower = table.floorKey(density);
+            double upper = table.higherKey(lower) != null ? table.higherKey(lower) : lower;
+            // A temperature both bracketing rows hold, so neither row is interpolated
+            Double temperature = table.get(lower).navigableKeySet().stream()
+                    .filter(table.get(upper)::containsKey)
+                    .skip(random.nextInt(100))
+                    .findFirst()
+                    .orElse(null);
+            if (temperature == null || upper == lower) {
+                continue;
+            }
+            double v0 = table.get(lower).get(temperature);
+            double v1 = table.get(upper).get(temperature);
+            double expected = v0 + (v1 - v0) * (density - lower) / (upper - lower);
+
+            VcfGrid.VcfEstimate estimate = vcfGrid.interpolateVcf(density, temperature);
+            assertEquals(expected, estimate.vcf(), 1e-9, "density " + density + ", temperature " + temperature);
+            assertFalse(estimate.extrapolated());
+        }
+    }
+
+    @Test
+    void bilinearFlagsReadingsOutsideTheTable() {
+        assertTrue(vcfGrid.interpolateVcf(850, 30).extrapolated());
+        assertTrue(vcfGrid.interpolateVcf(1000, 30).extrapolated());
+        assertTrue(vcfGrid.interpolateVcf(950, 5).extrapolated());
+        assertTrue(vcfGrid.interpolateVcf(950, 60).extrapolated());
+    }
+}
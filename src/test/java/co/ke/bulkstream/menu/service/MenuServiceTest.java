@@ -0,0 +1,151 @@
+package co.ke.bulkstream.menu.service;
+
+import co.ke.bulkstream.menu.payload.MenuItemCreateUpdateDto;
+import co.ke.bulkstream.menu.payload.MenuTreeReplaceResultDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MenuServiceTest {
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void startFromKnownMenu() {
+        // Replaces whatever MenuDataInitializer or an earlier test left
+        menuService.replaceMenuTree(List.of(
+                node(null, "Home"),
+                node(null, "Reports", node(null, "Daily"), node(null, "Monthly"))));
+    }
+
+    @Test
+    void sameTreeAgainChangesNothing() {
+        Long reportsId = idOf("Reports");
+        Long dailyId = idOf("Daily");
+
+        MenuTreeReplaceResultDto result = menuService.replaceMenuTree(List.of(
+                node(null, "Home"),
+                node(null, "Reports", node(null, "Daily"), node(null, "Monthly"))));
+
+        assertResult(result, 0, 0, 0, 4);
+        assertEquals(reportsId, idOf("Reports"));
+        assertEquals(dailyId, idOf("Daily"));
+    }
+
+    @Test
+    void insertsNewNodesUnderTheirParent() {
+        MenuTreeReplaceResultDto result = menuService.replaceMenuTree(List.of(
+                node(null, "Home"),
+                node(null, "Reports", node(null, "Daily"), node(null, "Monthly"), node(null, "Yearly")),
+                node(null, "Settings", node(null, "Users"))));
+
+        assertResult(result, 3, 0, 0, 4);
+        assertEquals(idOf("Reports"), parentOf("Yearly"));
+        assertEquals(idOf("Settings"), parentOf("Users"));
+        assertEquals(3, orderOf("Yearly"));
+        assertEquals(3, orderOf("Settings"));
+    }
+
+    @Test
+    void movesNodesKeepingTheirIds() {
+        Long dailyId = idOf("Daily");
+
+        // Daily moves under Home; Monthly moves up to first place under Reports
+        MenuTreeReplaceResultDto result = menuService.replaceMenuTree(List.of(
+                node(null, "Home", node(dailyId, "Daily")),
+                node(null, "Reports", node(null, "Monthly"))));
+
+        assertResult(result, 0, 2, 0, 2);
+        assertEquals(dailyId, idOf("Daily"));
+        assertEquals(idOf("Home"), parentOf("Daily"));
+        assertEquals(1, orderOf("Monthly"));
+    }
+
+    @Test
+    void updatesChangedFieldsOnly() {
+        MenuItemCreateUpdateDto home = node(null, "Home");
+        home.setLink("/home");
+        MenuItemCreateUpdateDto monthly = node(null, "Monthly");
+        monthly.setRequiredRoles(Set.of("admin"));
+
+        MenuTreeReplaceResultDto result = menuService.replaceMenuTree(List.of(
+                home,
+                node(null, "Reports", node(null, "Daily"), monthly)));
+
+        assertResult(result, 0, 2, 0, 2);
+        assertEquals("/home", jdbcTemplate.queryForObject(
+                "SELECT link FROM menu_item WHERE label = 'Home'", String.class));
+        assertEquals(List.of("ADMIN"), jdbcTemplate.queryForList(
+                "SELECT role_name FROM menu_item_required_roles WHERE menu_item_id = ?", String.class,
+                idOf("Monthly")));
+    }
+
+    @Test
+    void deletesNodesMissingFromTheTree() {
+        MenuTreeReplaceResultDto result = menuService.replaceMenuTree(List.of(node(null, "Home")));
+
+        assertResult(result, 0, 0, 3, 1);
+        assertEquals(1L, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM menu_item", Long.class));
+        assertNull(parentOf("Home"));
+    }
+
+    @Test
+    void rejectsUnknownAndRepeatedIds() {
+        Long dailyId = idOf("Daily");
+
+        assertThrows(IllegalArgumentException.class, () -> menuService.replaceMenuTree(List.of(
+                node(-1L, "Home"))));
+        assertThrows(IllegalArgumentException.class, () -> menuService.replaceMenuTree(List.of(
+                node(dailyId, "Daily"), node(dailyId, "Daily again"))));
+        assertThrows(IllegalArgumentException.class, () -> menuService.replaceMenuTree(List.of(
+                node(null, " "))));
+
+        // Nothing was applied
+        assertEquals(4L, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM menu_item", Long.class));
+        assertEquals(idOf("Reports"), parentOf("Daily"));
+    }
+
+    private static MenuItemCreateUpdateDto node(Long id, String label, MenuItemCreateUpdateDto... subItems) {
+        MenuItemCreateUpdateDto node = new MenuItemCreateUpdateDto();
+        node.setId(id);
+        node.setLabel(label);
+        node.setSubItems(List.of(subItems));
+        return node;
+    }
+
+    private static void assertResult(MenuTreeReplaceResultDto result, int inserted, int updated, int deleted,
+            int unchanged) {
+        assertEquals(inserted, result.getInserted(), "inserted");
+        assertEquals(updated, result.getUpdated(), "updated");
+        assertEquals(deleted, result.getDeleted(), "deleted");
+        assertEquals(unchanged, result.getUnchanged(), "unchanged");
+    }
+
+    private Long idOf(String label) {
+        return jdbcTemplate.queryForObject("SELECT id FROM menu_item WHERE label = ?", Long.class, label);
+    }
+
+    private Long parentOf(String label) {
+        return jdbcTemplate.queryForObject("SELECT parent_id FROM menu_item WHERE label = ?", Long.class, label);
+    }
+
+    private int orderOf(String label) {
+        return jdbcTemplate.queryForObject("SELECT item_order FROM menu_item WHERE label = ?", Integer.class, label);
+    }
+}
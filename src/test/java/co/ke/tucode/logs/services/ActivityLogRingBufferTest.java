@@ -0,0 +1,126 @@
+package co.ke.tucode.logs.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ActivityLogRingBufferTest {
+
+    @Test
+    void capacityRoundsUpToPowerOfTwo() {
+        assertEquals(2, new ActivityLogRingBuffer<String>(2).capacity());
+        assertEquals(8, new ActivityLogRingBuffer<String>(5).capacity());
+        assertEquals(8, new ActivityLogRingBuffer<String>(8).capacity());
+        assertEquals(16, new ActivityLogRingBuffer<String>(9).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new ActivityLogRingBuffer<String>(1));
+    }
+
+    @Test
+    void fullBufferRejectsOffersUntilDrained() {
+        ActivityLogRingBuffer<Integer> buffer = new ActivityLogRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+        assertEquals(4, buffer.size());
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(1, buffer.drainTo(drained, 1));
+        assertEquals(List.of(0), drained);
+        assertTrue(buffer.offer(4));
+        assertFalse(buffer.offer(5));
+
+        drained.clear();
+        assertEquals(4, buffer.drainTo(drained, 10));
+        assertEquals(List.of(1, 2, 3, 4), drained);
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    void keepsOrderAcrossWrapAround() {
+        ActivityLogRingBuffer<Integer> buffer = new ActivityLogRingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+        int next = 0;
+        // 3 in, 3 out: every lap starts at a different slot
+        for (int lap = 0; lap < 25; lap++) {
+            for (int i = 0; i < 3; i++) {
+                assertTrue(buffer.offer(next++));
+            }
+            assertEquals(3, buffer.size());
+            assertEquals(3, buffer.drainTo(drained, 3));
+        }
+        assertTrue(buffer.isEmpty());
+        assertEquals(0, buffer.drainTo(drained, 10));
+        for (int i = 0; i < next; i++) {
+            assertEquals(i, drained.get(i));
+        }
+    }
+
+    @Test
+    void drainStopsAtMax() {
+        ActivityLogRingBuffer<Integer> buffer = new ActivityLogRingBuffer<>(8);
+        for (int i = 0; i < 6; i++) {
+            buffer.offer(i);
+        }
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(4, buffer.drainTo(drained, 4));
+        assertEquals(List.of(0, 1, 2, 3), drained);
+        assertEquals(2, buffer.size());
+    }
+
+    @Test
+    void everyElementFromConcurrentProducersIsDrainedOnce() throws Exception {
+        int producers = 4;
+        int perProducer = 20_000;
+        ActivityLogRingBuffer<Integer> buffer = new ActivityLogRingBuffer<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int first = p * perProducer;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = first; i < first + perProducer; i++) {
+                        while (!buffer.offer(i)) {
+                            Thread.onSpinWait(); // Full: wait for the consumer
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            Set<Integer> seen = new HashSet<>();
+            List<Integer> batch = new ArrayList<>();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (seen.size() < producers * perProducer && System.nanoTime() < deadline) {
+                batch.clear();
+                buffer.drainTo(batch, 256);
+                for (Integer element : batch) {
+                    assertTrue(seen.add(element), "drained twice: " + element);
+                }
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            assertEquals(producers * perProducer, seen.size());
+            assertTrue(buffer.isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}